@@ -0,0 +1,30 @@
+package com.sonycsl.echo.benchmark;
+
+import com.sonycsl.echo.EchoFrame;
+import com.sonycsl.echo.EchoProperty;
+
+/**
+ * Frames shared by the benchmarks.
+ */
+final class BenchmarkFrames {
+
+    private BenchmarkFrames() {
+    }
+
+    /**
+     * GET_RES from a distribution board (0x0287) with the given number of properties.
+     */
+    static EchoFrame getResponse(int propertyCount, int edtSize) {
+        EchoFrame frame = new EchoFrame((short) 0x0287, (byte) 0x01,
+                (short) 0x05FF, (byte) 0x01, "192.168.0.10", EchoFrame.ESV_GET_RES);
+        frame.setTID((short) 0x1234);
+        for (int i = 0; i < propertyCount; i++) {
+            byte[] edt = new byte[edtSize];
+            for (int j = 0; j < edtSize; j++) {
+                edt[j] = (byte) (i + j);
+            }
+            frame.addProperty(new EchoProperty((byte) (0x80 + i), edt));
+        }
+        return frame;
+    }
+}
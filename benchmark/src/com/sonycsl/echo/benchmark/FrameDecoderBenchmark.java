@@ -0,0 +1,106 @@
+package com.sonycsl.echo.benchmark;
+
+import com.sonycsl.echo.EchoFrame;
+import com.sonycsl.echo.EchoFrameDecoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding a large GET_RES frame from a stream: the former byte by byte
+ * ArrayList&lt;Byte&gt; decoder against EchoFrameDecoder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameDecoderBenchmark {
+
+    private static final String ADDRESS = "192.168.0.10";
+
+    @Param({"8", "64", "200"})
+    public int edtSize;
+
+    private byte[] mData;
+    private ByteBuffer mBuffer;
+    private EchoFrameDecoder mDecoder;
+
+    @Setup
+    public void setup() {
+        mData = BenchmarkFrames.getResponse(40, edtSize).getFrameByteArray();
+        mBuffer = ByteBuffer.wrap(mData);
+        mDecoder = new EchoFrameDecoder();
+    }
+
+    @Benchmark
+    public EchoFrame legacyStream() throws IOException {
+        return legacyGetEchoFrameFromStream(ADDRESS, new DataInputStream(new ByteArrayInputStream(mData)));
+    }
+
+    @Benchmark
+    public EchoFrame decoderStream() throws IOException {
+        EchoFrame frame = mDecoder.readFrame(ADDRESS, new ByteArrayInputStream(mData));
+        frame.getPropertyList();
+        return frame;
+    }
+
+    @Benchmark
+    public EchoFrame decoderBuffer() throws IOException {
+        mBuffer.clear();
+        EchoFrame frame = mDecoder.decode(ADDRESS, mBuffer);
+        frame.getPropertyList();
+        return frame;
+    }
+
+    /**
+     * The implementation of EchoFrame.getEchoFrameFromStream before EchoFrameDecoder.
+     */
+    static EchoFrame legacyGetEchoFrameFromStream(String srcEchoAddress, DataInputStream in) throws IOException {
+        byte ehd1 = in.readByte();
+        byte ehd2 = in.readByte();
+        if (ehd1 != (byte) 0x10 || ehd2 != (byte) 0x81) {
+            return null;
+        }
+        ArrayList<Byte> data = new ArrayList<Byte>();
+        data.add(ehd1);
+        data.add(ehd2);
+        for (int i = 0; i < 10; i++) {
+            data.add(in.readByte());
+        }
+        int propertyListSize = data.get(11) & 0xFF;
+        for (int i = 0; i < propertyListSize; i++) {
+            data.add(in.readByte()); // epc
+            int pdc = in.readUnsignedByte();
+            data.add((byte) pdc);
+            for (int j = 0; j < pdc; j++) {
+                data.add(in.readByte());
+            }
+        }
+        byte[] b = new byte[data.size()];
+        for (int i = 0; i < data.size(); i++) {
+            b[i] = data.get(i);
+        }
+        EchoFrame frame = new EchoFrame(srcEchoAddress, b);
+        // the legacy constructor decoded every property.
+        frame.getPropertyList();
+        return frame;
+    }
+}
@@ -0,0 +1,55 @@
+package com.sonycsl.echo.benchmark;
+
+import com.sonycsl.echo.EchoFrame;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding a frame: a new array per frame against encoding into a reused
+ * send buffer, as EchoUDPProtocol does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameEncoderBenchmark {
+
+    @Param({"1", "8", "40"})
+    public int propertyCount;
+
+    private EchoFrame mFrame;
+    private ByteBuffer mBuffer;
+
+    @Setup
+    public void setup() {
+        mFrame = BenchmarkFrames.getResponse(propertyCount, 8);
+        mBuffer = ByteBuffer.allocate(mFrame.getFrameSize());
+    }
+
+    @Benchmark
+    public byte[] byteArray() {
+        return mFrame.getFrameByteArray();
+    }
+
+    @Benchmark
+    public ByteBuffer encodeTo() {
+        mBuffer.clear();
+        mFrame.encodeTo(mBuffer);
+        return mBuffer;
+    }
+}
@@ -0,0 +1,94 @@
+package com.sonycsl.echo.benchmark;
+
+import com.sonycsl.echo.EchoFrame;
+import com.sonycsl.echo.EchoFrameLogger;
+import com.sonycsl.echo.EchoUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of logging a received frame on the thread of the event: the
+ * former Echo.Logger, which formatted and printed the line, against
+ * EchoFrameLogger recording it, and filtering it out by level.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameLoggerBenchmark {
+
+    private PrintStream mOut;
+    private EchoFrame mFrame;
+    private EchoFrameLogger mLogger;
+    private EchoFrameLogger mFiltered;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mOut = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        });
+        mFrame = BenchmarkFrames.getResponse(8, 8);
+        mLogger = new EchoFrameLogger(mOut);
+        mFiltered = new EchoFrameLogger(mOut);
+        mFiltered.setLevel(EchoFrameLogger.Level.INFO);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mLogger.close();
+        mFiltered.close();
+    }
+
+    @Benchmark
+    public void legacy() {
+        legacyReceiveEvent(mOut, mFrame);
+    }
+
+    @Benchmark
+    public void frameLogger() {
+        mLogger.receiveEvent(mFrame);
+    }
+
+    @Benchmark
+    public void frameLoggerFiltered() {
+        mFiltered.receiveEvent(mFrame);
+    }
+
+    /**
+     * The implementation of Echo.Logger.receiveEvent before EchoFrameLogger.
+     */
+    static void legacyReceiveEvent(PrintStream out, EchoFrame frame) {
+        long millis = System.currentTimeMillis();
+        out.println("millis:" + millis
+                + ",method:receive,tid:" + EchoUtils.toHexString(frame.getTID())
+                + ",esv:" + EchoUtils.toHexString(frame.getESV())
+                + ",seoj:[class:" + String.format("%04x", frame.getSrcEchoClassCode())
+                + ",instance:" + String.format("%02x", frame.getSrcEchoInstanceCode())
+                + "],deoj:[class:" + String.format("%04x", frame.getDstEchoClassCode())
+                + ",instance:" + String.format("%02x", frame.getDstEchoInstanceCode())
+                + "],data:" + EchoUtils.toHexString(frame.getFrameByteArray()));
+    }
+}
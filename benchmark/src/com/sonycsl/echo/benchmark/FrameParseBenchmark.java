@@ -0,0 +1,57 @@
+package com.sonycsl.echo.benchmark;
+
+import com.sonycsl.echo.EchoFrame;
+import com.sonycsl.echo.EchoProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a received datagram as EchoUDPProtocol does: the header only,
+ * as for a frame which is dropped or dispatched by its objects, and the
+ * header with every property.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameParseBenchmark {
+
+    private static final String ADDRESS = "192.168.0.10";
+
+    @Param({"1", "8", "40"})
+    public int propertyCount;
+
+    private byte[] mData;
+
+    @Setup
+    public void setup() {
+        mData = BenchmarkFrames.getResponse(propertyCount, 8).getFrameByteArray();
+    }
+
+    @Benchmark
+    public EchoFrame header() {
+        EchoFrame frame = new EchoFrame(ADDRESS, mData);
+        frame.isValid();
+        return frame;
+    }
+
+    @Benchmark
+    public List<EchoProperty> properties() {
+        return new EchoFrame(ADDRESS, mData).getPropertyList();
+    }
+}
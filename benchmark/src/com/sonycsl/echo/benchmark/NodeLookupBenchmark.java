@@ -0,0 +1,84 @@
+package com.sonycsl.echo.benchmark;
+
+import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.device.DeviceObject;
+import com.sonycsl.echo.node.EchoNode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking up the objects of a node with many devices, as done for the
+ * DEOJ and SEOJ of every received frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeLookupBenchmark {
+
+    // up to 0x7F instances of each, so 1000 devices need 8 classes.
+    private static final short[] CLASS_CODES = {
+            (short) 0x0011, (short) 0x0130, (short) 0x026B, (short) 0x0279,
+            (short) 0x027D, (short) 0x0287, (short) 0x0288, (short) 0x0290
+    };
+    private static final int INSTANCES_PER_CLASS = 0x7F;
+
+    @Param({"10", "100", "1000"})
+    public int deviceCount;
+
+    private EchoNode mNode;
+    private short[] mClassCodes;
+    private byte[] mInstanceCodes;
+    private int mNext;
+
+    @Setup
+    public void setup() {
+        mNode = new EchoNode("192.168.0.10");
+        mClassCodes = new short[deviceCount];
+        mInstanceCodes = new byte[deviceCount];
+        for (int i = 0; i < deviceCount; i++) {
+            // spread over the classes, as in a building with many of each.
+            mClassCodes[i] = CLASS_CODES[i % CLASS_CODES.length];
+            mInstanceCodes[i] = (byte) (1 + (i / CLASS_CODES.length) % INSTANCES_PER_CLASS);
+            mNode.addOtherDeviceIfAbsent(mClassCodes[i], mInstanceCodes[i]);
+        }
+    }
+
+    @Benchmark
+    public EchoObject getInstance() {
+        int i = mNext;
+        mNext = (i + 1 == deviceCount) ? 0 : i + 1;
+        return mNode.getInstance(mClassCodes[i], mInstanceCodes[i]);
+    }
+
+    @Benchmark
+    public EchoObject getInstanceMissing() {
+        return mNode.getInstance((short) 0x05FF, (byte) 0x01);
+    }
+
+    @Benchmark
+    public boolean containsInstance() {
+        int i = mNext;
+        mNext = (i + 1 == deviceCount) ? 0 : i + 1;
+        return mNode.containsInstance(mClassCodes[i], mInstanceCodes[i]);
+    }
+
+    @Benchmark
+    public DeviceObject[] getDevicesOfClass() {
+        return mNode.getDevices((short) 0x0287);
+    }
+}
@@ -0,0 +1,87 @@
+package com.sonycsl.echo.benchmark;
+
+import com.sonycsl.echo.EchoUtils;
+import com.sonycsl.echo.eoj.EPCSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding property maps (0x9D, 0x9E, 0x9F): the array
+ * conversions of EchoUtils against EPCSet, and a lookup of an EPC in the
+ * decoded map. Below 16 properties a map is a list of EPCs, from 16 on a
+ * bitmap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyMapBenchmark {
+
+    @Param({"8", "40"})
+    public int propertyCount;
+
+    private byte[] mProperties;
+    private byte[] mMap;
+    private EPCSet mSet;
+    private byte mLastEpc;
+
+    @Setup
+    public void setup() {
+        mProperties = new byte[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            mProperties[i] = (byte) (0x80 + i * 2);
+        }
+        mMap = EchoUtils.propertiesToPropertyMap(mProperties);
+        mSet = EPCSet.of(mProperties);
+        mLastEpc = mProperties[propertyCount - 1];
+    }
+
+    @Benchmark
+    public byte[] propertiesToPropertyMap() {
+        return EchoUtils.propertiesToPropertyMap(mProperties);
+    }
+
+    @Benchmark
+    public byte[] propertyMapToProperties() {
+        return EchoUtils.propertyMapToProperties(mMap);
+    }
+
+    @Benchmark
+    public byte[] epcSetToPropertyMap() {
+        return mSet.toPropertyMap();
+    }
+
+    @Benchmark
+    public EPCSet epcSetFromPropertyMap() {
+        return EPCSet.fromPropertyMap(mMap);
+    }
+
+    @Benchmark
+    public boolean arrayContains() {
+        for (byte epc : mProperties) {
+            if (epc == mLastEpc) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean epcSetContains() {
+        return mSet.contains(mLastEpc);
+    }
+}
@@ -0,0 +1,113 @@
+package com.sonycsl.echo.benchmark;
+
+import com.sonycsl.echo.Echo;
+import com.sonycsl.echo.EchoFrame;
+import com.sonycsl.echo.EchoProperty;
+import com.sonycsl.echo.EchoSocket;
+import com.sonycsl.echo.eoj.device.DeviceObject;
+import com.sonycsl.echo.processing.defaults.DefaultController;
+import com.sonycsl.echo.processing.defaults.DefaultNodeProfile;
+import com.sonycsl.echo.protocol.EchoProtocol;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The dispatch pipeline of a received frame, EchoProtocol.Task.perform():
+ * a Get and a SetC of the local controller sent over the loopback, and an
+ * INF of a remote distribution board. The responses are counted instead of
+ * sent, so the socket is not measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskPerformBenchmark {
+
+    private static final short CONTROLLER = (short) 0x05FF;
+    private static final short NODE_PROFILE = (short) 0x0EF0;
+    private static final short METERING = (short) 0x0287;
+
+    private EchoFrame mGet;
+    private EchoFrame mSetC;
+    private EchoFrame mInf;
+    private int mResponses;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Echo.start(new DefaultNodeProfile(), new DeviceObject[] { new DefaultController() });
+
+        EchoFrame get = new EchoFrame(CONTROLLER, (byte) 0x01, CONTROLLER, (byte) 0x01,
+                EchoSocket.SELF_ADDRESS, EchoFrame.ESV_GET);
+        get.addProperty(new EchoProperty((byte) 0x80));
+        get.addProperty(new EchoProperty((byte) 0x9F));
+        mGet = received(EchoSocket.SELF_ADDRESS, get);
+
+        EchoFrame setC = new EchoFrame(CONTROLLER, (byte) 0x01, CONTROLLER, (byte) 0x01,
+                EchoSocket.SELF_ADDRESS, EchoFrame.ESV_SETC);
+        setC.addProperty(new EchoProperty((byte) 0x81, new byte[] { 0x00 }));
+        mSetC = received(EchoSocket.SELF_ADDRESS, setC);
+
+        EchoFrame inf = new EchoFrame(METERING, (byte) 0x01, NODE_PROFILE, (byte) 0x01,
+                EchoSocket.MULTICAST_ADDRESS, EchoFrame.ESV_INF);
+        inf.addProperty(new EchoProperty((byte) 0x80, new byte[] { 0x30 }));
+        mInf = received("192.168.0.10", inf);
+        // the first INF creates the node and the object.
+        perform(mInf);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Echo.clear();
+    }
+
+    private static EchoFrame received(String srcAddress, EchoFrame frame) {
+        frame.setTID((short) 0x0001);
+        return new EchoFrame(srcAddress, frame.getFrameByteArray());
+    }
+
+    private int perform(EchoFrame frame) {
+        new EchoProtocol.Task(frame) {
+            @Override
+            protected void respond(EchoFrame response) {
+                mResponses++;
+            }
+
+            @Override
+            protected void informAll(EchoFrame response) {
+                mResponses++;
+            }
+        }.perform();
+        return mResponses;
+    }
+
+    @Benchmark
+    public int get() {
+        return perform(mGet);
+    }
+
+    @Benchmark
+    public int setC() {
+        return perform(mSetC);
+    }
+
+    @Benchmark
+    public int inf() {
+        return perform(mInf);
+    }
+}
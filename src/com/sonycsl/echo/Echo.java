@@ -102,24 +102,30 @@ import java.io.PrintStream;
 import java.net.NetworkInterface;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class Echo {
 
     private static volatile EchoNode sSelfNode;
-    private static Map<String, EchoNode> sOtherNodes;
+    private static final ConcurrentHashMap<String, EchoNode> sOtherNodes;
+    // getNodes() returns a copy of the snapshot while the version is the same.
+    private static final AtomicInteger sNodesVersion = new AtomicInteger();
+    private static volatile NodesSnapshot sNodesSnapshot;
 
     private static Events sEvents = null;
-    private static ArrayList<EventListener> sListeners;
+    // events are delivered from the worker threads while listeners are added.
+    private static final List<EventListener> sListeners;
 
     private volatile static boolean sStarted = false;
     private volatile static boolean sCleared = true;
 
     static {
         sOtherNodes = new ConcurrentHashMap<String, EchoNode>();
-        sListeners = new ArrayList<EventListener>();
+        sListeners = new CopyOnWriteArrayList<EventListener>();
         sEvents = new Events();
     }
 
@@ -137,6 +143,7 @@ public final class Echo {
         sCleared = false;
 
         sSelfNode = new EchoNode(profile, devices);
+        sNodesVersion.incrementAndGet();
         profile.setNode(sSelfNode);
         for (DeviceObject dev : devices) {
             dev.setNode(sSelfNode);
@@ -157,6 +164,7 @@ public final class Echo {
         sCleared = false;
 
         sSelfNode = new EchoNode(profile, devices);
+        sNodesVersion.incrementAndGet();
         profile.setNode(sSelfNode);
         for (DeviceObject dev : devices) {
             dev.setNode(sSelfNode);
@@ -201,12 +209,22 @@ public final class Echo {
 
     public synchronized static void clear() throws IOException {
         stop();
+        EchoDiscovery.stop();
         sCleared = true;
 
         sSelfNode = null;
 
         sOtherNodes.clear();
+        sNodesVersion.incrementAndGet();
+        for (EventListener listener : sListeners) {
+            if (listener instanceof EchoEventQueue) {
+                ((EchoEventQueue) listener).close();
+            } else if (listener instanceof EchoFrameLogger) {
+                ((EchoFrameLogger) listener).close();
+            }
+        }
         sListeners.clear();
+        EchoSubscriptions.clear();
     }
 
     public static boolean isStarted() {
@@ -223,16 +241,37 @@ public final class Echo {
         return sSelfNode;
     }
 
+    /**
+     * @return the self node followed by the other nodes. The array is
+     *         rebuilt only after a node is added or removed.
+     */
     public static EchoNode[] getNodes() {
-        Collection<EchoNode> nodes = sOtherNodes.values();
-        List<EchoNode> ret = new ArrayList<EchoNode>();
-        if (sSelfNode != null) {
-            ret.add(sSelfNode);
-        }
-        for (EchoNode n : nodes) {
-            ret.add(n);
+        int version = sNodesVersion.get();
+        NodesSnapshot snapshot = sNodesSnapshot;
+        if (snapshot == null || snapshot.mVersion != version) {
+            Collection<EchoNode> nodes = sOtherNodes.values();
+            List<EchoNode> ret = new ArrayList<EchoNode>(nodes.size() + 1);
+            if (sSelfNode != null) {
+                ret.add(sSelfNode);
+            }
+            for (EchoNode n : nodes) {
+                ret.add(n);
+            }
+            snapshot = new NodesSnapshot(version, ret.toArray(new EchoNode[ret.size()]));
+            sNodesSnapshot = snapshot;
         }
-        return ret.toArray(new EchoNode[] {});
+        return snapshot.mNodes.clone();
+    }
+
+    /**
+     * @return the other nodes, a live view which is not copied.
+     */
+    public static Collection<EchoNode> getOtherNodes() {
+        return Collections.unmodifiableCollection(sOtherNodes.values());
+    }
+
+    public static int getOtherNodeCount() {
+        return sOtherNodes.size();
     }
 
     public static EchoNode getNode(String address) {
@@ -242,16 +281,49 @@ public final class Echo {
         return sOtherNodes.get(address);
     }
 
-    public synchronized static EchoNode addOtherNode(String address) {
+    public static EchoNode addOtherNode(String address) {
         EchoNode node = new EchoNode(address);
         node.getNodeProfile().setNode(node);
         sOtherNodes.put(address, node);
+        sNodesVersion.incrementAndGet();
 
         return node;
     }
 
+    /**
+     * Adds a node for the address unless one exists. Two threads which find
+     * the same unknown node get the same EchoNode.
+     *
+     * @return the node created by this call, or null if the node exists.
+     *         Use getNode(address) to get the existing node.
+     */
+    public static EchoNode addOtherNodeIfAbsent(String address) {
+        EchoNode node = new EchoNode(address);
+        node.getNodeProfile().setNode(node);
+        if (sOtherNodes.putIfAbsent(address, node) != null) {
+            return null;
+        }
+        sNodesVersion.incrementAndGet();
+        return node;
+    }
+
     public static void removeOtherNode(String address) {
-        sOtherNodes.remove(address);
+        if (sOtherNodes.remove(address) != null) {
+            sNodesVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes the node if it is still the node of the address.
+     *
+     * @return true if the node was removed.
+     */
+    public static boolean removeOtherNode(EchoNode node) {
+        if (!sOtherNodes.remove(node.getAddressStr(), node)) {
+            return false;
+        }
+        sNodesVersion.incrementAndGet();
+        return true;
     }
 
     // public static void removeAllNode() {
@@ -349,10 +421,47 @@ public final class Echo {
      * dev.setActive(active); } }
      */
 
+    /**
+     * Adds a listener which is called on the thread of the event, so it
+     * must return quickly. See the other addEventListener for a slow one.
+     */
     public static void addEventListener(EventListener listener) {
         sListeners.add(listener);
     }
 
+    /**
+     * Adds a listener which is called on a thread of its own, through a
+     * queue of the capacity.
+     *
+     * @return the queue, which tells the numbers of dropped events.
+     */
+    public static EchoEventQueue addEventListener(EventListener listener, int capacity,
+            EchoEventQueue.OverflowPolicy policy) {
+        EchoEventQueue queue = new EchoEventQueue(listener, capacity, policy);
+        sListeners.add(queue);
+        return queue;
+    }
+
+    /**
+     * Removes a listener added by either addEventListener, and closes its
+     * queue.
+     */
+    public static void removeEventListener(EventListener listener) {
+        for (EventListener l : sListeners) {
+            if (l == listener || (l instanceof EchoEventQueue
+                    && ((EchoEventQueue) l).getListener() == listener)) {
+                if (!sListeners.remove(l)) {
+                    continue;
+                }
+                if (l instanceof EchoEventQueue) {
+                    ((EchoEventQueue) l).close();
+                } else if (l instanceof EchoFrameLogger) {
+                    ((EchoFrameLogger) l).close();
+                }
+            }
+        }
+    }
+
     public static EventListener getEventListener() {
         return sEvents;
     }
@@ -396,6 +505,13 @@ public final class Echo {
         public void receiveEvent(EchoFrame frame) {
         }
 
+        /**
+         * Called on the timer thread when a request sent with sendAsync()
+         * is not answered after its last transmission.
+         */
+        public void onRequestTimeout(EchoFrame request) {
+        }
+
         public void onCatchException(Exception e) {
         }
 
@@ -411,6 +527,18 @@ public final class Echo {
         public void onNewEchoObject(EchoObject eoj) {
         }
 
+        /**
+         * Called when a node is regarded as absent (see EchoDiscovery).
+         */
+        public void onLostNode(EchoNode node) {
+        }
+
+        /**
+         * Called when an object of a node is regarded as absent (see EchoDiscovery).
+         */
+        public void onLostEchoObject(EchoObject eoj) {
+        }
+
         public void onNewProfileObject(ProfileObject profile) {
         }
 
@@ -693,170 +821,30 @@ public final class Echo {
         }
     }
 
-    public static class Logger extends EventListener {
-        PrintStream mOut;
+    /**
+     * Logs the events to a stream in lines of "key:value" pairs.
+     * The events are formatted on a thread of the logger, see
+     * {@link EchoFrameLogger}.
+     * <br>
+     * The output is asynchronous: the lines of the last events may not be
+     * written yet when the application exits. Call flush(), or close(),
+     * done by removeEventListener() and clear(), before exiting.
+     */
+    public static class Logger extends EchoFrameLogger {
 
         public Logger(PrintStream out) {
-            mOut = out;
-        }
-
-        @Override
-        public void setProperty(EchoObject eoj, EchoProperty property,
-                boolean success) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:set," + eoj.toString()
-                    + ",epc:" + EchoUtils.toHexString(property.epc)
-                    + ",pdc:" + EchoUtils.toHexString(property.pdc)
-                    + ",edt:" + EchoUtils.toHexString(property.edt)
-                    + ",success:" + success);
-        }
-
-        @Override
-        public void getProperty(EchoObject eoj, EchoProperty property) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:get," + eoj.toString()
-                    + ",epc:" + EchoUtils.toHexString(property.epc)
-                    + ",pdc:" + EchoUtils.toHexString(property.pdc)
-                    + ",edt:" + EchoUtils.toHexString(property.edt));
-        }
-
-        @Override
-        public void isValidProperty(EchoObject eoj, EchoProperty property,
-                boolean valid) {
-            // TODO Auto-generated method stub
-            super.isValidProperty(eoj, property, valid);
-        }
-
-        @Override
-        public void onSetProperty(EchoObject eoj, short tid, byte esv,
-                EchoProperty property, boolean success) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:onSet," + eoj.toString()
-                    + ",tid:" + EchoUtils.toHexString(tid)
-                    + ",esv:" + EchoUtils.toHexString(esv)
-                    + ",epc:" + EchoUtils.toHexString(property.epc)
-                    + ",pdc:" + EchoUtils.toHexString(property.pdc)
-                    + ",edt:" + EchoUtils.toHexString(property.edt)
-                    + ",success:" + success);
-        }
-
-        @Override
-        public void onGetProperty(EchoObject eoj, short tid, byte esv,
-                EchoProperty property, boolean success) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:onGet," + eoj.toString()
-                    + ",tid:" + EchoUtils.toHexString(tid)
-                    + ",esv:" + EchoUtils.toHexString(esv)
-                    + ",epc:" + EchoUtils.toHexString(property.epc)
-                    + ",pdc:" + EchoUtils.toHexString(property.pdc)
-                    + ",edt:" + EchoUtils.toHexString(property.edt));
-
-        }
-
-        @Override
-        public void onInformProperty(EchoObject eoj, short tid, byte esv,
-                EchoProperty property) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:onInform," + eoj.toString()
-                    + ",tid:" + EchoUtils.toHexString(tid)
-                    + ",esv:" + EchoUtils.toHexString(esv)
-                    + ",epc:" + EchoUtils.toHexString(property.epc));
-        }
-
-        @Override
-        public void reqSetPropertyEvent(EchoObject eoj, EchoProperty property) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:reqSet," + eoj.toString()
-                    + ",epc:" + EchoUtils.toHexString(property.epc)
-                    + ",pdc:" + EchoUtils.toHexString(property.pdc)
-                    + ",edt:" + EchoUtils.toHexString(property.edt));
-        }
-
-        @Override
-        public void reqGetPropertyEvent(EchoObject eoj, EchoProperty property) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:reqGet," + eoj.toString()
-                    + ",epc:" + EchoUtils.toHexString(property.epc)
-                    + ",pdc:" + EchoUtils.toHexString(property.pdc)
-                    + ",edt:" + EchoUtils.toHexString(property.edt));
-        }
-
-        @Override
-        public void reqInformPropertyEvent(EchoObject eoj, EchoProperty property) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:reqInform," + eoj.toString()
-                    + ",epc:" + EchoUtils.toHexString(property.epc)
-                    + ",pdc:" + EchoUtils.toHexString(property.pdc)
-                    + ",edt:" + EchoUtils.toHexString(property.edt));
-        }
-
-        @Override
-        public void reqInformCPropertyEvent(EchoObject eoj,
-                EchoProperty property) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:reqInformC," + eoj.toString()
-                    + ",epc:" + EchoUtils.toHexString(property.epc)
-                    + ",pdc:" + EchoUtils.toHexString(property.pdc)
-                    + ",edt:" + EchoUtils.toHexString(property.edt));
-        }
-
-        @Override
-        public void sendEvent(EchoFrame frame) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:send,tid:" + EchoUtils.toHexString(frame.getTID())
-                    + ",esv:" + EchoUtils.toHexString(frame.getESV())
-                    + ",seoj:[class:" + String.format("%04x", frame.getSrcEchoClassCode())
-                    + ",instance:" + String.format("%02x", frame.getSrcEchoInstanceCode())
-                    + "],deoj:[class:" + String.format("%04x", frame.getDstEchoClassCode())
-                    + ",instance:" + String.format("%02x", frame.getDstEchoInstanceCode())
-                    + "],data:" + EchoUtils.toHexString(frame.getFrameByteArray()));
-        }
-
-        @Override
-        public void receiveEvent(EchoFrame frame) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:receive,tid:" + EchoUtils.toHexString(frame.getTID())
-                    + ",esv:" + EchoUtils.toHexString(frame.getESV())
-                    + ",seoj:[class:" + String.format("%04x", frame.getSrcEchoClassCode())
-                    + ",instance:" + String.format("%02x", frame.getSrcEchoInstanceCode())
-                    + "],deoj:[class:" + String.format("%04x", frame.getDstEchoClassCode())
-                    + ",instance:" + String.format("%02x", frame.getDstEchoInstanceCode())
-                    + "],data:" + EchoUtils.toHexString(frame.getFrameByteArray()));
-        }
-
-        @Override
-        public void onCatchException(Exception e) {
-            // TODO Auto-generated method stub
-            super.onCatchException(e);
+            super(out);
         }
+    }
 
-        @Override
-        public void onNewNode(EchoNode node) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:new,type:node,address:"
-                    + node.getAddressStr());
-        }
+    private static final class NodesSnapshot {
+        final int mVersion;
+        final EchoNode[] mNodes;
 
-        @Override
-        public void onNewEchoObject(EchoObject eoj) {
-            long millis = System.currentTimeMillis();
-            mOut.println("millis:" + millis
-                    + ",method:new,type:eoj,"
-                    + eoj.toString());
+        NodesSnapshot(int version, EchoNode[] nodes) {
+            mVersion = version;
+            mNodes = nodes;
         }
-
     }
 
     private static class Events extends EventListener {
@@ -891,6 +879,8 @@ public final class Echo {
             for (EventListener listener : sListeners) {
                 listener.onSetProperty(eoj, tid, esv, property, success);
             }
+            EchoSubscriptions.dispatch(EchoSubscriptions.Type.ON_SET_PROPERTY, eoj, tid, esv,
+                    property, success);
         }
 
         @Override
@@ -899,6 +889,8 @@ public final class Echo {
             for (EventListener listener : sListeners) {
                 listener.onGetProperty(eoj, tid, esv, property, success);
             }
+            EchoSubscriptions.dispatch(EchoSubscriptions.Type.ON_GET_PROPERTY, eoj, tid, esv,
+                    property, success);
         }
 
         @Override
@@ -907,6 +899,8 @@ public final class Echo {
             for (EventListener listener : sListeners) {
                 listener.onInformProperty(eoj, tid, esv, property);
             }
+            EchoSubscriptions.dispatch(EchoSubscriptions.Type.ON_INFORM_PROPERTY, eoj, tid, esv,
+                    property, false);
         }
 
         @Override
@@ -952,6 +946,13 @@ public final class Echo {
             }
         }
 
+        @Override
+        public void onRequestTimeout(EchoFrame request) {
+            for (EventListener listener : sListeners) {
+                listener.onRequestTimeout(request);
+            }
+        }
+
         @Override
         public void onCatchException(Exception e) {
             for (EventListener listener : sListeners) {
@@ -964,6 +965,7 @@ public final class Echo {
             for (EventListener listener : sListeners) {
                 listener.onFoundNode(node);
             }
+            EchoSubscriptions.dispatch(EchoSubscriptions.Type.ON_FOUND_NODE, node);
         }
 
         @Override
@@ -971,6 +973,7 @@ public final class Echo {
             for (EventListener listener : sListeners) {
                 listener.onFoundEchoObject(eoj);
             }
+            EchoSubscriptions.dispatch(EchoSubscriptions.Type.ON_FOUND_ECHO_OBJECT, eoj);
         }
 
         @Override
@@ -978,6 +981,7 @@ public final class Echo {
             for (EventListener listener : sListeners) {
                 listener.onNewNode(node);
             }
+            EchoSubscriptions.dispatch(EchoSubscriptions.Type.ON_NEW_NODE, node);
         }
 
         @Override
@@ -985,6 +989,23 @@ public final class Echo {
             for (EventListener listener : sListeners) {
                 listener.onNewEchoObject(eoj);
             }
+            EchoSubscriptions.dispatch(EchoSubscriptions.Type.ON_NEW_ECHO_OBJECT, eoj);
+        }
+
+        @Override
+        public void onLostNode(EchoNode node) {
+            for (EventListener listener : sListeners) {
+                listener.onLostNode(node);
+            }
+            EchoSubscriptions.dispatch(EchoSubscriptions.Type.ON_LOST_NODE, node);
+        }
+
+        @Override
+        public void onLostEchoObject(EchoObject eoj) {
+            for (EventListener listener : sListeners) {
+                listener.onLostEchoObject(eoj);
+            }
+            EchoSubscriptions.dispatch(EchoSubscriptions.Type.ON_LOST_ECHO_OBJECT, eoj);
         }
 
         @Override
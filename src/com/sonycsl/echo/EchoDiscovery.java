@@ -0,0 +1,290 @@
+package com.sonycsl.echo;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.sonycsl.echo.eoj.device.DeviceObject;
+import com.sonycsl.echo.eoj.profile.NodeProfile;
+import com.sonycsl.echo.node.EchoNode;
+import com.sonycsl.echo.protocol.InstanceListDecoder;
+
+/**
+ * Keeps the list of remote nodes and objects up to date.
+ * <br>
+ * While started, the self-node instance list S (0xD6) of all nodes is
+ * requested by multicast every refresh interval, varied at random by up to
+ * a quarter of the interval so that controllers started together do not
+ * query in step. Then the nodes and objects which have not been seen for
+ * the expiry time, or whose last requests timed out
+ * ({@link #setMaxConsecutiveTimeouts(int)}), are lost: onLost is called
+ * and they are found again, with onFound, when they are seen next (see
+ * {@link EchoPresence}). The ones which are still silent after the grace
+ * period ({@link #setGracePeriod(long, TimeUnit)}) are removed from
+ * Echo and their nodes. The devices of a node with more instances than
+ * the instance list holds are lost by their timeouts only.
+ * <br>
+ * {@link #discover()} requests the instance lists at once, but not more
+ * often than once per {@link #MIN_DISCOVERY_GAP_MILLIS}.
+ * <br>
+ * The refreshes are scheduled on {@link EchoTimer#getDefault()} and run,
+ * with the onLost listeners of the sweep, on {@link EchoTimer#getExecutor()}.
+ */
+public final class EchoDiscovery {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoDiscovery.class.getSimpleName();
+
+    public static final long MIN_DISCOVERY_GAP_MILLIS = 1000;
+    public static final long DEFAULT_GRACE_PERIOD_MILLIS = 5 * 60 * 1000;
+    public static final int DEFAULT_MAX_CONSECUTIVE_TIMEOUTS = 3;
+    private static final double JITTER_RATIO = 0.25;
+
+    private static final Object sLock = new Object();
+    private static final Random sRandom = new Random();
+    // guarded by sLock.
+    private static long sRefreshIntervalMillis;
+    private static long sExpiryMillis;
+    private static long sGracePeriodMillis = DEFAULT_GRACE_PERIOD_MILLIS;
+    private static int sMaxConsecutiveTimeouts = DEFAULT_MAX_CONSECUTIVE_TIMEOUTS;
+    private static EchoTimer.Timeout sRefresh;
+    private static EchoTimer.Timeout sPendingDiscovery;
+    private static long sLastDiscoveryNanos;
+    private static boolean sDiscovered;
+
+    private EchoDiscovery() {
+    }
+
+    /**
+     * Starts refreshing with the expiry of 3 refresh intervals.
+     */
+    public static void start(long refreshInterval, TimeUnit unit) {
+        start(refreshInterval, refreshInterval * 3, unit);
+    }
+
+    /**
+     * Starts refreshing, or changes the intervals if it is running. The
+     * first refresh is done at once.
+     */
+    public static void start(long refreshInterval, long expiry, TimeUnit unit) {
+        long refreshMillis = unit.toMillis(refreshInterval);
+        long expiryMillis = unit.toMillis(expiry);
+        if (refreshMillis < MIN_DISCOVERY_GAP_MILLIS) {
+            throw new IllegalArgumentException("refreshInterval must be "
+                    + MIN_DISCOVERY_GAP_MILLIS + " ms or more: " + refreshMillis);
+        }
+        if (expiryMillis < refreshMillis) {
+            throw new IllegalArgumentException("expiry must not be shorter than refreshInterval: "
+                    + expiryMillis);
+        }
+        synchronized (sLock) {
+            sRefreshIntervalMillis = refreshMillis;
+            sExpiryMillis = expiryMillis;
+            if (sRefresh != null) {
+                sRefresh.cancel();
+            }
+            sRefresh = EchoTimer.getDefault().scheduleOnExecutor(REFRESH, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops refreshing. Called by Echo.clear().
+     */
+    public static void stop() {
+        synchronized (sLock) {
+            sRefreshIntervalMillis = 0;
+            if (sRefresh != null) {
+                sRefresh.cancel();
+                sRefresh = null;
+            }
+            if (sPendingDiscovery != null) {
+                sPendingDiscovery.cancel();
+                sPendingDiscovery = null;
+            }
+        }
+    }
+
+    /**
+     * Sets how long a lost node or object is kept before it is removed.
+     * A removed node which comes back is new again.
+     */
+    public static void setGracePeriod(long gracePeriod, TimeUnit unit) {
+        if (gracePeriod < 0) {
+            throw new IllegalArgumentException("gracePeriod must not be negative: " + gracePeriod);
+        }
+        synchronized (sLock) {
+            sGracePeriodMillis = unit.toMillis(gracePeriod);
+        }
+    }
+
+    public static long getGracePeriodMillis() {
+        synchronized (sLock) {
+            return sGracePeriodMillis;
+        }
+    }
+
+    /**
+     * Sets the number of requests in a row which may time out before the
+     * destination is lost, without waiting for the expiry.
+     *
+     * @param count 0 to lose nodes by the expiry only.
+     */
+    public static void setMaxConsecutiveTimeouts(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        synchronized (sLock) {
+            sMaxConsecutiveTimeouts = count;
+        }
+    }
+
+    public static boolean isStarted() {
+        synchronized (sLock) {
+            return sRefreshIntervalMillis > 0;
+        }
+    }
+
+    public static long getRefreshIntervalMillis() {
+        synchronized (sLock) {
+            return sRefreshIntervalMillis;
+        }
+    }
+
+    public static long getExpiryMillis() {
+        synchronized (sLock) {
+            return sExpiryMillis;
+        }
+    }
+
+    /**
+     * Requests the instance lists of all nodes. A request within
+     * MIN_DISCOVERY_GAP_MILLIS of the previous one is sent at the end of the
+     * gap, together with the other requests in the gap.
+     */
+    public static void discover() {
+        synchronized (sLock) {
+            if (sPendingDiscovery != null) {
+                return;
+            }
+            long elapsed = (System.nanoTime() - sLastDiscoveryNanos) / 1000000;
+            if (sDiscovered && elapsed < MIN_DISCOVERY_GAP_MILLIS) {
+                sPendingDiscovery = EchoTimer.getDefault().scheduleOnExecutor(new Runnable() {
+                    @Override
+                    public void run() {
+                        synchronized (sLock) {
+                            sPendingDiscovery = null;
+                            markDiscovery();
+                        }
+                        sendDiscovery();
+                    }
+                }, MIN_DISCOVERY_GAP_MILLIS - elapsed, TimeUnit.MILLISECONDS);
+                return;
+            }
+            markDiscovery();
+        }
+        sendDiscovery();
+    }
+
+    // called with sLock held.
+    private static void markDiscovery() {
+        sLastDiscoveryNanos = System.nanoTime();
+        sDiscovered = true;
+    }
+
+    // called without sLock, so that the other calls do not wait for the socket.
+    private static void sendDiscovery() {
+        if (!Echo.isStarted() || Echo.getSelfNode() == null) {
+            return;
+        }
+        try {
+            NodeProfile.getG().reqGetSelfNodeInstanceListS().send();
+        } catch (IOException e) {
+            try {
+                Echo.getEventListener().onCatchException(e);
+            } catch (Exception ex) {
+            }
+        }
+    }
+
+    /**
+     * Expires the nodes and objects which have not been seen for the expiry
+     * time, or whose last requests timed out, and removes the ones which
+     * have been silent for the grace period after that. Done on every
+     * refresh.
+     */
+    public static void sweep() {
+        long expiry;
+        long grace;
+        int maxTimeouts;
+        synchronized (sLock) {
+            if (sExpiryMillis == 0) {
+                return;
+            }
+            expiry = sExpiryMillis;
+            grace = sGracePeriodMillis;
+            maxTimeouts = sMaxConsecutiveTimeouts;
+        }
+        for (EchoNode node : Echo.getOtherNodes()) {
+            EchoPresence presence = node.getPresence();
+            if (isSilent(presence, expiry, maxTimeouts)) {
+                if (presence.expire()) {
+                    for (DeviceObject device : node.getDevices()) {
+                        if (device.getPresence().expire()) {
+                            device.onLost();
+                        }
+                    }
+                    if (node.getNodeProfile().getPresence().expire()) {
+                        node.getNodeProfile().onLost();
+                    }
+                    node.onLost();
+                }
+                if (presence.getSilentMillis() >= expiry + grace) {
+                    Echo.removeOtherNode(node);
+                }
+                continue;
+            }
+            // the node profile is present while the node is.
+            // the instance list S lists 84 instances at most, so the devices of a
+            // node with more are not seen by the refresh and are kept while the
+            // node is present, unless their requests time out.
+            boolean truncated = node.getReportedInstanceCount()
+                    > InstanceListDecoder.MAX_INSTANCES_PER_PROPERTY;
+            for (DeviceObject device : node.getDevices()) {
+                EchoPresence p = device.getPresence();
+                if (truncated ? !isTimedOut(p, maxTimeouts) : !isSilent(p, expiry, maxTimeouts)) {
+                    continue;
+                }
+                if (p.expire()) {
+                    device.onLost();
+                }
+                if (!truncated && p.getSilentMillis() >= expiry + grace) {
+                    node.removeDevice(device);
+                }
+            }
+        }
+    }
+
+    private static boolean isSilent(EchoPresence presence, long expiry, int maxTimeouts) {
+        return presence.getSilentMillis() >= expiry || isTimedOut(presence, maxTimeouts);
+    }
+
+    private static boolean isTimedOut(EchoPresence presence, int maxTimeouts) {
+        return maxTimeouts > 0 && presence.getConsecutiveTimeouts() >= maxTimeouts;
+    }
+
+    private static final Runnable REFRESH = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (sLock) {
+                if (sRefreshIntervalMillis == 0) {
+                    return;
+                }
+                long jitter = (long) (sRefreshIntervalMillis * JITTER_RATIO
+                        * (sRandom.nextDouble() * 2 - 1));
+                sRefresh = EchoTimer.getDefault().scheduleOnExecutor(this,
+                        sRefreshIntervalMillis + jitter, TimeUnit.MILLISECONDS);
+            }
+            discover();
+            sweep();
+        }
+    };
+}
@@ -0,0 +1,1535 @@
+package com.sonycsl.echo;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.device.DeviceObject;
+import com.sonycsl.echo.eoj.device.airconditioner.AirCleaner;
+import com.sonycsl.echo.eoj.device.airconditioner.AirConditionerVentilationFan;
+import com.sonycsl.echo.eoj.device.airconditioner.ElectricHeater;
+import com.sonycsl.echo.eoj.device.airconditioner.FanHeater;
+import com.sonycsl.echo.eoj.device.airconditioner.HomeAirConditioner;
+import com.sonycsl.echo.eoj.device.airconditioner.Humidifier;
+import com.sonycsl.echo.eoj.device.airconditioner.PackageTypeCommercialAirConditionerIndoorUnit;
+import com.sonycsl.echo.eoj.device.airconditioner.PackageTypeCommercialAirConditionerOutdoorUnit;
+import com.sonycsl.echo.eoj.device.airconditioner.VentilationFan;
+import com.sonycsl.echo.eoj.device.audiovisual.Display;
+import com.sonycsl.echo.eoj.device.audiovisual.Television;
+import com.sonycsl.echo.eoj.device.cookinghousehold.ClothesDryer;
+import com.sonycsl.echo.eoj.device.cookinghousehold.CombinationMicrowaveOven;
+import com.sonycsl.echo.eoj.device.cookinghousehold.CookingHeater;
+import com.sonycsl.echo.eoj.device.cookinghousehold.ElectricHotWaterPot;
+import com.sonycsl.echo.eoj.device.cookinghousehold.Refrigerator;
+import com.sonycsl.echo.eoj.device.cookinghousehold.RiceCooker;
+import com.sonycsl.echo.eoj.device.cookinghousehold.WasherAndDryer;
+import com.sonycsl.echo.eoj.device.cookinghousehold.WashingMachine;
+import com.sonycsl.echo.eoj.device.health.Weighing;
+import com.sonycsl.echo.eoj.device.housingfacilities.BathroomHeaterAndDryer;
+import com.sonycsl.echo.eoj.device.housingfacilities.Battery;
+import com.sonycsl.echo.eoj.device.housingfacilities.Buzzer;
+import com.sonycsl.echo.eoj.device.housingfacilities.ColdOrHotWaterHeatSourceEquipment;
+import com.sonycsl.echo.eoj.device.housingfacilities.ElectricLock;
+import com.sonycsl.echo.eoj.device.housingfacilities.ElectricShutter;
+import com.sonycsl.echo.eoj.device.housingfacilities.ElectricStormWindow;
+import com.sonycsl.echo.eoj.device.housingfacilities.ElectricToiletSeat;
+import com.sonycsl.echo.eoj.device.housingfacilities.ElectricVehicle;
+import com.sonycsl.echo.eoj.device.housingfacilities.ElectricWaterHeater;
+import com.sonycsl.echo.eoj.device.housingfacilities.ElectricallyOperatedShade;
+import com.sonycsl.echo.eoj.device.housingfacilities.EngineCogeneration;
+import com.sonycsl.echo.eoj.device.housingfacilities.FloorHeater;
+import com.sonycsl.echo.eoj.device.housingfacilities.FuelCell;
+import com.sonycsl.echo.eoj.device.housingfacilities.GasMeter;
+import com.sonycsl.echo.eoj.device.housingfacilities.GeneralLighting;
+import com.sonycsl.echo.eoj.device.housingfacilities.HouseholdSolarPowerGeneration;
+import com.sonycsl.echo.eoj.device.housingfacilities.InstantaneousWaterHeater;
+import com.sonycsl.echo.eoj.device.housingfacilities.LPGasMeter;
+import com.sonycsl.echo.eoj.device.housingfacilities.PowerDistributionBoardMetering;
+import com.sonycsl.echo.eoj.device.housingfacilities.SmartElectricEnergyMeter;
+import com.sonycsl.echo.eoj.device.housingfacilities.SmartGasMeter;
+import com.sonycsl.echo.eoj.device.housingfacilities.Sprinkler;
+import com.sonycsl.echo.eoj.device.housingfacilities.WaterFlowmeter;
+import com.sonycsl.echo.eoj.device.housingfacilities.WattHourMeter;
+import com.sonycsl.echo.eoj.device.managementoperation.Controller;
+import com.sonycsl.echo.eoj.device.managementoperation.Switch;
+import com.sonycsl.echo.eoj.device.sensor.ActivityAmountSensor;
+import com.sonycsl.echo.eoj.device.sensor.AirPollutionSensor;
+import com.sonycsl.echo.eoj.device.sensor.AirSpeedSensor;
+import com.sonycsl.echo.eoj.device.sensor.BathHeatingStatusSensor;
+import com.sonycsl.echo.eoj.device.sensor.BathWaterLevelSensor;
+import com.sonycsl.echo.eoj.device.sensor.BedPresenceSensor;
+import com.sonycsl.echo.eoj.device.sensor.CO2Sensor;
+import com.sonycsl.echo.eoj.device.sensor.CallSensor;
+import com.sonycsl.echo.eoj.device.sensor.CigaretteSmokeSensor;
+import com.sonycsl.echo.eoj.device.sensor.CondensationSensor;
+import com.sonycsl.echo.eoj.device.sensor.CrimePreventionSensor;
+import com.sonycsl.echo.eoj.device.sensor.CurrentValueSensor;
+import com.sonycsl.echo.eoj.device.sensor.DifferentialPressureSensor;
+import com.sonycsl.echo.eoj.device.sensor.EarthquakeSensor;
+import com.sonycsl.echo.eoj.device.sensor.ElectricEnergySensor;
+import com.sonycsl.echo.eoj.device.sensor.ElectricLeakSensor;
+import com.sonycsl.echo.eoj.device.sensor.EmergencyButton;
+import com.sonycsl.echo.eoj.device.sensor.FireSensor;
+import com.sonycsl.echo.eoj.device.sensor.FirstAidSensor;
+import com.sonycsl.echo.eoj.device.sensor.FlameSensor;
+import com.sonycsl.echo.eoj.device.sensor.GasLeakSensor;
+import com.sonycsl.echo.eoj.device.sensor.GasSensor;
+import com.sonycsl.echo.eoj.device.sensor.HumanBodyLocationSensor;
+import com.sonycsl.echo.eoj.device.sensor.HumanDetectionSensor;
+import com.sonycsl.echo.eoj.device.sensor.HumiditySensor;
+import com.sonycsl.echo.eoj.device.sensor.IlluminanceSensor;
+import com.sonycsl.echo.eoj.device.sensor.MailingSensor;
+import com.sonycsl.echo.eoj.device.sensor.MicromotionSensor;
+import com.sonycsl.echo.eoj.device.sensor.OdorSensor;
+import com.sonycsl.echo.eoj.device.sensor.OpenCloseSensor;
+import com.sonycsl.echo.eoj.device.sensor.OxygenSensor;
+import com.sonycsl.echo.eoj.device.sensor.PassageSensor;
+import com.sonycsl.echo.eoj.device.sensor.RainSensor;
+import com.sonycsl.echo.eoj.device.sensor.SnowSensor;
+import com.sonycsl.echo.eoj.device.sensor.SoundSensor;
+import com.sonycsl.echo.eoj.device.sensor.TemperatureSensor;
+import com.sonycsl.echo.eoj.device.sensor.VOCSensor;
+import com.sonycsl.echo.eoj.device.sensor.VisitorSensor;
+import com.sonycsl.echo.eoj.device.sensor.WaterFlowRateSensor;
+import com.sonycsl.echo.eoj.device.sensor.WaterLeakSensor;
+import com.sonycsl.echo.eoj.device.sensor.WaterLevelSensor;
+import com.sonycsl.echo.eoj.device.sensor.WaterOverflowSensor;
+import com.sonycsl.echo.eoj.device.sensor.WeightSensor;
+import com.sonycsl.echo.eoj.profile.NodeProfile;
+import com.sonycsl.echo.eoj.profile.ProfileObject;
+import com.sonycsl.echo.node.EchoNode;
+
+/**
+ * Delivers the events to a listener on a thread of its own.
+ * <br>
+ * The events are put in a bounded queue and the caller returns at once, so
+ * the threads which handle the protocol do not wait for the listener. When
+ * the queue is full, the {@link OverflowPolicy} decides:
+ * <ul>
+ * <li>DROP_OLDEST discards the oldest event.</li>
+ * <li>BLOCK makes the caller wait for room, so no event is lost but a
+ * slow listener slows the protocol down again (an event posted by the
+ * listener itself is not blocked, the oldest is dropped instead).</li>
+ * <li>COALESCE replaces a queued onGetProperty or onInformProperty of the
+ * same object and EPC with the newer one, whether the queue is full or
+ * not, and drops the oldest event when it is full.</li>
+ * </ul>
+ * Use {@link Echo#addEventListener(Echo.EventListener, int, OverflowPolicy)}.
+ */
+public final class EchoEventQueue extends Echo.EventListener {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoEventQueue.class.getSimpleName();
+
+    public enum OverflowPolicy {
+        DROP_OLDEST, BLOCK, COALESCE
+    }
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final long DEFAULT_CLOSE_TIMEOUT_MILLIS = 2000;
+
+    private static final int ON_GET_PROPERTY = 0;
+    private static final int ON_INFORM_PROPERTY = 1;
+
+    private static final AtomicInteger sThreadCount = new AtomicInteger();
+
+    private final Echo.EventListener mListener;
+    private final int mCapacity;
+    private final OverflowPolicy mPolicy;
+    private final ReentrantLock mLock = new ReentrantLock();
+    private final Condition mNotEmpty = mLock.newCondition();
+    private final Condition mNotFull = mLock.newCondition();
+    // guarded by mLock.
+    private final ArrayDeque<Event> mQueue = new ArrayDeque<Event>();
+    // the queued events by key, for COALESCE.
+    private final HashMap<PropertyKey, Event> mPending = new HashMap<PropertyKey, Event>();
+    private boolean mClosed;
+    private final Thread mThread;
+
+    private final AtomicLong mDelivered = new AtomicLong();
+    private final AtomicLong mDropped = new AtomicLong();
+    private final AtomicLong mCoalesced = new AtomicLong();
+    private final AtomicLong mFailed = new AtomicLong();
+
+    public EchoEventQueue(Echo.EventListener listener, int capacity, OverflowPolicy policy) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener must not be null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("policy must not be null");
+        }
+        mListener = listener;
+        mCapacity = capacity;
+        mPolicy = policy;
+        mThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }
+        }, "EchoEventQueue-" + sThreadCount.incrementAndGet());
+        mThread.setDaemon(true);
+        mThread.start();
+    }
+
+    public Echo.EventListener getListener() {
+        return mListener;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return mPolicy;
+    }
+
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    /**
+     * Delivers the queued events, for DEFAULT_CLOSE_TIMEOUT_MILLIS at most,
+     * and stops the thread. Called when the listener is removed.
+     */
+    public void close() {
+        close(DEFAULT_CLOSE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Stops taking events, delivers the queued ones and stops the thread.
+     * The events which are not delivered in the time are discarded. Events
+     * posted afterwards are ignored. Called on the thread of the queue (by
+     * the listener), it does not wait.
+     *
+     * @param timeoutMillis 0 to discard the queued events at once.
+     */
+    public void close(long timeoutMillis) {
+        mLock.lock();
+        try {
+            if (!mClosed) {
+                mClosed = true;
+                // BLOCKed posters give up, the thread delivers the rest.
+                mNotEmpty.signalAll();
+                mNotFull.signalAll();
+            }
+        } finally {
+            mLock.unlock();
+        }
+        if (Thread.currentThread() == mThread) {
+            return;
+        }
+        if (timeoutMillis > 0) {
+            try {
+                mThread.join(timeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        mLock.lock();
+        try {
+            mDropped.addAndGet(mQueue.size());
+            mQueue.clear();
+            mPending.clear();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public boolean isClosed() {
+        mLock.lock();
+        try {
+            return mClosed;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of events waiting for the listener.
+     */
+    public int size() {
+        mLock.lock();
+        try {
+            return mQueue.size();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public long getDeliveredCount() {
+        return mDelivered.get();
+    }
+
+    public long getDroppedCount() {
+        return mDropped.get();
+    }
+
+    public long getCoalescedCount() {
+        return mCoalesced.get();
+    }
+
+    /**
+     * @return the number of events whose listener method threw.
+     */
+    public long getFailedCount() {
+        return mFailed.get();
+    }
+
+    private PropertyKey coalesceKey(int method, EchoObject eoj, byte epc) {
+        return (mPolicy == OverflowPolicy.COALESCE) ? new PropertyKey(method, eoj, epc) : null;
+    }
+
+    private void post(PropertyKey key, Runnable task) {
+        mLock.lock();
+        try {
+            if (mClosed) {
+                return;
+            }
+            boolean coalesce = (key != null && mPolicy == OverflowPolicy.COALESCE);
+            if (coalesce) {
+                Event queued = mPending.get(key);
+                if (queued != null) {
+                    // the queued event keeps its place and delivers the newer one.
+                    queued.mTask = task;
+                    mCoalesced.incrementAndGet();
+                    return;
+                }
+            }
+            while (mQueue.size() >= mCapacity) {
+                if (mPolicy == OverflowPolicy.BLOCK && Thread.currentThread() != mThread) {
+                    try {
+                        mNotFull.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        mDropped.incrementAndGet();
+                        return;
+                    }
+                    if (mClosed) {
+                        return;
+                    }
+                    continue;
+                }
+                Event oldest = mQueue.poll();
+                if (oldest.mKey != null) {
+                    mPending.remove(oldest.mKey);
+                }
+                mDropped.incrementAndGet();
+            }
+            Event event = new Event(coalesce ? key : null, task);
+            mQueue.add(event);
+            if (coalesce) {
+                mPending.put(key, event);
+            }
+            mNotEmpty.signal();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    private void work() {
+        while (true) {
+            Runnable task;
+            mLock.lock();
+            try {
+                while (mQueue.isEmpty() && !mClosed) {
+                    mNotEmpty.awaitUninterruptibly();
+                }
+                // a closed queue is drained first.
+                if (mQueue.isEmpty()) {
+                    return;
+                }
+                Event event = mQueue.poll();
+                if (event.mKey != null) {
+                    mPending.remove(event.mKey);
+                }
+                task = event.mTask;
+                mNotFull.signal();
+            } finally {
+                mLock.unlock();
+            }
+            try {
+                task.run();
+                mDelivered.incrementAndGet();
+            } catch (RuntimeException e) {
+                // not reported to onCatchException, which may be this listener.
+                mFailed.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class Event {
+        final PropertyKey mKey;
+        Runnable mTask;
+
+        Event(PropertyKey key, Runnable task) {
+            mKey = key;
+            mTask = task;
+        }
+    }
+
+    private static final class PropertyKey {
+        final int mMethod;
+        final EchoObject mEoj;
+        final byte mEpc;
+
+        PropertyKey(int method, EchoObject eoj, byte epc) {
+            mMethod = method;
+            mEoj = eoj;
+            mEpc = epc;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof PropertyKey)) {
+                return false;
+            }
+            PropertyKey k = (PropertyKey) o;
+            return mMethod == k.mMethod && mEoj == k.mEoj && mEpc == k.mEpc;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(mEoj) * 31 + mMethod) * 31 + mEpc;
+        }
+    }
+
+    @Override
+    public void setProperty(final EchoObject eoj, final EchoProperty property,
+            final boolean success) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.setProperty(eoj, property, success);
+            }
+        });
+    }
+
+    @Override
+    public void getProperty(final EchoObject eoj, final EchoProperty property) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.getProperty(eoj, property);
+            }
+        });
+    }
+
+    @Override
+    public void isValidProperty(final EchoObject eoj, final EchoProperty property,
+            final boolean valid) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.isValidProperty(eoj, property, valid);
+            }
+        });
+    }
+
+    @Override
+    public void onSetProperty(final EchoObject eoj, final short tid, final byte esv,
+            final EchoProperty property, final boolean success) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onSetProperty(eoj, tid, esv, property, success);
+            }
+        });
+    }
+
+    @Override
+    public void onGetProperty(final EchoObject eoj, final short tid, final byte esv,
+            final EchoProperty property, final boolean success) {
+        post(coalesceKey(ON_GET_PROPERTY, eoj, property.epc), new Runnable() {
+            @Override
+            public void run() {
+                mListener.onGetProperty(eoj, tid, esv, property, success);
+            }
+        });
+    }
+
+    @Override
+    public void onInformProperty(final EchoObject eoj, final short tid, final byte esv,
+            final EchoProperty property) {
+        post(coalesceKey(ON_INFORM_PROPERTY, eoj, property.epc), new Runnable() {
+            @Override
+            public void run() {
+                mListener.onInformProperty(eoj, tid, esv, property);
+            }
+        });
+    }
+
+    @Override
+    public void reqSetPropertyEvent(final EchoObject eoj, final EchoProperty property) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.reqSetPropertyEvent(eoj, property);
+            }
+        });
+    }
+
+    @Override
+    public void reqGetPropertyEvent(final EchoObject eoj, final EchoProperty property) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.reqGetPropertyEvent(eoj, property);
+            }
+        });
+    }
+
+    @Override
+    public void reqInformPropertyEvent(final EchoObject eoj, final EchoProperty property) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.reqInformPropertyEvent(eoj, property);
+            }
+        });
+    }
+
+    @Override
+    public void reqInformCPropertyEvent(final EchoObject eoj, final EchoProperty property) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.reqInformCPropertyEvent(eoj, property);
+            }
+        });
+    }
+
+    @Override
+    public void sendEvent(final EchoFrame frame) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.sendEvent(frame);
+            }
+        });
+    }
+
+    @Override
+    public void receiveEvent(final EchoFrame frame) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.receiveEvent(frame);
+            }
+        });
+    }
+
+    @Override
+    public void onRequestTimeout(final EchoFrame request) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onRequestTimeout(request);
+            }
+        });
+    }
+
+    @Override
+    public void onCatchException(final Exception e) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onCatchException(e);
+            }
+        });
+    }
+
+    @Override
+    public void onFoundNode(final EchoNode node) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onFoundNode(node);
+            }
+        });
+    }
+
+    @Override
+    public void onFoundEchoObject(final EchoObject eoj) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onFoundEchoObject(eoj);
+            }
+        });
+    }
+
+    @Override
+    public void onNewNode(final EchoNode node) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewNode(node);
+            }
+        });
+    }
+
+    @Override
+    public void onNewEchoObject(final EchoObject eoj) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewEchoObject(eoj);
+            }
+        });
+    }
+
+    @Override
+    public void onLostNode(final EchoNode node) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onLostNode(node);
+            }
+        });
+    }
+
+    @Override
+    public void onLostEchoObject(final EchoObject eoj) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onLostEchoObject(eoj);
+            }
+        });
+    }
+
+    @Override
+    public void onNewProfileObject(final ProfileObject profile) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewProfileObject(profile);
+            }
+        });
+    }
+
+    @Override
+    public void onNewNodeProfile(final NodeProfile profile) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewNodeProfile(profile);
+            }
+        });
+    }
+
+    @Override
+    public void onNewDeviceObject(final DeviceObject device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewDeviceObject(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewActivityAmountSensor(final ActivityAmountSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewActivityAmountSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewAirPollutionSensor(final AirPollutionSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewAirPollutionSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewAirSpeedSensor(final AirSpeedSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewAirSpeedSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewBathHeatingStatusSensor(final BathHeatingStatusSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewBathHeatingStatusSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewBathWaterLevelSensor(final BathWaterLevelSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewBathWaterLevelSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewBedPresenceSensor(final BedPresenceSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewBedPresenceSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewCallSensor(final CallSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewCallSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewCigaretteSmokeSensor(final CigaretteSmokeSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewCigaretteSmokeSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewCO2Sensor(final CO2Sensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewCO2Sensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewCondensationSensor(final CondensationSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewCondensationSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewCrimePreventionSensor(final CrimePreventionSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewCrimePreventionSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewCurrentValueSensor(final CurrentValueSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewCurrentValueSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewDifferentialPressureSensor(final DifferentialPressureSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewDifferentialPressureSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewEarthquakeSensor(final EarthquakeSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewEarthquakeSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricEnergySensor(final ElectricEnergySensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricEnergySensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricLeakSensor(final ElectricLeakSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricLeakSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewEmergencyButton(final EmergencyButton device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewEmergencyButton(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewFireSensor(final FireSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewFireSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewFirstAidSensor(final FirstAidSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewFirstAidSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewFlameSensor(final FlameSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewFlameSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewGasLeakSensor(final GasLeakSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewGasLeakSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewGasSensor(final GasSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewGasSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewHumanBodyLocationSensor(final HumanBodyLocationSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewHumanBodyLocationSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewHumanDetectionSensor(final HumanDetectionSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewHumanDetectionSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewHumiditySensor(final HumiditySensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewHumiditySensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewIlluminanceSensor(final IlluminanceSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewIlluminanceSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewMailingSensor(final MailingSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewMailingSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewMicromotionSensor(final MicromotionSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewMicromotionSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewOdorSensor(final OdorSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewOdorSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewOpenCloseSensor(final OpenCloseSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewOpenCloseSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewOxygenSensor(final OxygenSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewOxygenSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewPassageSensor(final PassageSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewPassageSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewRainSensor(final RainSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewRainSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewSnowSensor(final SnowSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewSnowSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewSoundSensor(final SoundSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewSoundSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewTemperatureSensor(final TemperatureSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewTemperatureSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewVisitorSensor(final VisitorSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewVisitorSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewVOCSensor(final VOCSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewVOCSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewWaterFlowRateSensor(final WaterFlowRateSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewWaterFlowRateSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewWaterLeakSensor(final WaterLeakSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewWaterLeakSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewWaterLevelSensor(final WaterLevelSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewWaterLevelSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewWaterOverflowSensor(final WaterOverflowSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewWaterOverflowSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewWeightSensor(final WeightSensor device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewWeightSensor(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewAirCleaner(final AirCleaner device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewAirCleaner(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewAirConditionerVentilationFan(final AirConditionerVentilationFan device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewAirConditionerVentilationFan(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricHeater(final ElectricHeater device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricHeater(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewFanHeater(final FanHeater device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewFanHeater(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewHomeAirConditioner(final HomeAirConditioner device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewHomeAirConditioner(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewHumidifier(final Humidifier device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewHumidifier(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewPackageTypeCommercialAirConditionerIndoorUnit(
+            final PackageTypeCommercialAirConditionerIndoorUnit device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewPackageTypeCommercialAirConditionerIndoorUnit(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewPackageTypeCommercialAirConditionerOutdoorUnit(
+            final PackageTypeCommercialAirConditionerOutdoorUnit device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewPackageTypeCommercialAirConditionerOutdoorUnit(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewVentilationFan(final VentilationFan device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewVentilationFan(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewBathroomHeaterAndDryer(final BathroomHeaterAndDryer device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewBathroomHeaterAndDryer(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewBattery(final Battery device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewBattery(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewBuzzer(final Buzzer device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewBuzzer(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewColdOrHotWaterHeatSourceEquipment(
+            final ColdOrHotWaterHeatSourceEquipment device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewColdOrHotWaterHeatSourceEquipment(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricallyOperatedShade(final ElectricallyOperatedShade device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricallyOperatedShade(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricLock(final ElectricLock device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricLock(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricShutter(final ElectricShutter device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricShutter(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricStormWindow(final ElectricStormWindow device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricStormWindow(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricToiletSeat(final ElectricToiletSeat device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricToiletSeat(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricVehicle(final ElectricVehicle device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricVehicle(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricWaterHeater(final ElectricWaterHeater device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricWaterHeater(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewEngineCogeneration(final EngineCogeneration device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewEngineCogeneration(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewFloorHeater(final FloorHeater device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewFloorHeater(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewFuelCell(final FuelCell device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewFuelCell(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewGasMeter(final GasMeter device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewGasMeter(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewGeneralLighting(final GeneralLighting device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewGeneralLighting(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewHouseholdSolarPowerGeneration(final HouseholdSolarPowerGeneration device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewHouseholdSolarPowerGeneration(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewInstantaneousWaterHeater(final InstantaneousWaterHeater device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewInstantaneousWaterHeater(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewLPGasMeter(final LPGasMeter device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewLPGasMeter(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewPowerDistributionBoardMetering(final PowerDistributionBoardMetering device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewPowerDistributionBoardMetering(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewSmartElectricEnergyMeter(final SmartElectricEnergyMeter device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewSmartElectricEnergyMeter(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewSmartGasMeter(final SmartGasMeter device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewSmartGasMeter(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewSprinkler(final Sprinkler device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewSprinkler(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewWaterFlowmeter(final WaterFlowmeter device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewWaterFlowmeter(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewWattHourMeter(final WattHourMeter device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewWattHourMeter(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewClothesDryer(final ClothesDryer device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewClothesDryer(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewCombinationMicrowaveOven(final CombinationMicrowaveOven device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewCombinationMicrowaveOven(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewCookingHeater(final CookingHeater device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewCookingHeater(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewElectricHotWaterPot(final ElectricHotWaterPot device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewElectricHotWaterPot(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewRefrigerator(final Refrigerator device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewRefrigerator(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewRiceCooker(final RiceCooker device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewRiceCooker(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewWasherAndDryer(final WasherAndDryer device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewWasherAndDryer(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewWashingMachine(final WashingMachine device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewWashingMachine(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewWeighing(final Weighing device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewWeighing(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewController(final Controller device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewController(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewSwitch(final Switch device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewSwitch(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewDisplay(final Display device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewDisplay(device);
+            }
+        });
+    }
+
+    @Override
+    public void onNewTelevision(final Television device) {
+        post(null, new Runnable() {
+            @Override
+            public void run() {
+                mListener.onNewTelevision(device);
+            }
+        });
+    }
+}
@@ -4,8 +4,9 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.InetAddress;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,9 +23,11 @@ import com.sonycsl.echo.exception.OutOfFrameException;
 public final class EchoFrame {
 	
 	public static final int MIN_FRAME_SIZE = 12;
+	// OPC is one byte.
+	static final int MAX_PROPERTY_COUNT = 255;
 	
-	private static final byte EHD1 = 0x10;
-	private static final byte EHD2 = (byte)0x81; 
+	static final byte EHD1 = 0x10;
+	static final byte EHD2 = (byte)0x81; 
 
 
 	public static final byte ESV_SETI = 0x60;
@@ -57,7 +60,12 @@ public final class EchoFrame {
 	private byte mDstEchoInstanceCode;
 	private String mDstEchoAddress;
 	
-	protected List<EchoProperty> mPropertyList;
+	protected volatile List<EchoProperty> mPropertyList;
+	// received data. properties are decoded from it when they are accessed first.
+	private byte[] mData;
+	private boolean mValid;
+	// the property list is shared with a copy, and is copied before it is modified.
+	private boolean mShared;
 	
 
 
@@ -78,6 +86,7 @@ public final class EchoFrame {
 		mTID = 0;
 		
 		mPropertyList = new ArrayList<EchoProperty>();
+		mValid = true;
 	}
 	
 	// This constructor may create invalid EchoFrame.
@@ -88,85 +97,69 @@ public final class EchoFrame {
 		if(data.length < MIN_FRAME_SIZE) {return;}
 		if(data[0] != EHD1) return;
 		if(data[1] != EHD2) return;
-		ByteBuffer buffer = ByteBuffer.allocate(2);
-		buffer.order(ByteOrder.BIG_ENDIAN);
-		buffer.put(data[2]);
-		buffer.put(data[3]);
-		mTID = buffer.getShort(0);
-		//Echo.putProxy(address, data[4], data[5], data[6]);
-		//Echo.updateNodeInstance(address, data[4], data[5], data[6]);
-		//mSeoj = Echo.getInstance(address, data[4], data[5], data[6]);
-		//mDeoj = Echo.getInstance(Echo.getNode().getAddress(), 
-		//		data[7], data[8], data[9]);
-		buffer = ByteBuffer.allocate(2);
-		buffer.order(ByteOrder.BIG_ENDIAN);
-		buffer.put(data[4]);
-		buffer.put(data[5]);
-		mSrcEchoClassCode = buffer.getShort(0);
+		mTID = (short)(((data[2] & 0xFF) << 8) | (data[3] & 0xFF));
+		mSrcEchoClassCode = (short)(((data[4] & 0xFF) << 8) | (data[5] & 0xFF));
 		mSrcEchoInstanceCode = data[6];
-		buffer = ByteBuffer.allocate(2);
-		buffer.order(ByteOrder.BIG_ENDIAN);
-		buffer.put(data[7]);
-		buffer.put(data[8]);
-		mDstEchoClassCode = buffer.getShort(0);
+		mDstEchoClassCode = (short)(((data[7] & 0xFF) << 8) | (data[8] & 0xFF));
 		mDstEchoInstanceCode = data[9];
 		mESV = data[10];
+		mData = data;
+		mValid = true;
+	}
+	
+	private List<EchoProperty> properties() {
+		List<EchoProperty> list = mPropertyList;
+		if(list != null) return list;
+		synchronized(this) {
+			if(mPropertyList == null) {
+				mPropertyList = decodeProperties(mData);
+				mData = null;
+			}
+			return mPropertyList;
+		}
+	}
+	
+	private synchronized List<EchoProperty> mutableProperties() {
+		List<EchoProperty> list = properties();
+		if(mShared) {
+			list = new ArrayList<EchoProperty>(list);
+			mPropertyList = list;
+			mShared = false;
+		}
+		return list;
+	}
+	
+	private static List<EchoProperty> decodeProperties(byte[] data) {
+		ArrayList<EchoProperty> list = new ArrayList<EchoProperty>();
+		if(data == null) return list;
 		int size = data[11] & 0xFF;
-		mPropertyList = new ArrayList<EchoProperty>();
 		for(int i = 0, j = 12; i < size; i++) {
-			if(data.length == j) return;
+			if(data.length == j) break;
 			byte epc, pdc;
 			byte[] edt;
 			epc = data[j];
 			j++;
-			if(data.length == j) return;
+			if(data.length == j) break;
 			pdc = data[j];
 			j++;
 			if(pdc == 0) {
 				edt = null;
 			} else {
-				if(data.length < j+(pdc & 0xFF)) return;
+				if(data.length < j+(pdc & 0xFF)) break;
 				edt = new byte[(int)(pdc & 0xFF)];
 				System.arraycopy(data, j, edt, 0, (int)(pdc & 0xFF));
 				j += (pdc & 0xFF);
 			}
-			mPropertyList.add(new EchoProperty(epc, pdc, edt));
+			list.add(new EchoProperty(epc, pdc, edt));
 		}
+		return list;
 	}
 	
 	public static EchoFrame getEchoFrameFromStream(String srcEchoAddress, DataInputStream in) throws IOException {
-		
-
-		byte ehd1 =  in.readByte();
-		byte ehd2 = in.readByte();
-		if(ehd1 == EHD1 && ehd2 == EHD2) {
-		} else {
-			return null;
-		}
-		ArrayList<Byte> data = new ArrayList<Byte>();
-		data.add(EHD1); data.add(EHD2);
-		for(int i = 0; i < 10; i++) {
-			data.add(in.readByte());
-		}
-		int propertyListSize = data.get(11) & 0xFF;
-		for(int i = 0; i < propertyListSize; i++) {
-			data.add(in.readByte()); // epc
-			int pdc = in.readUnsignedByte();
-			data.add((byte)pdc);
-			for(int j = 0; j < pdc; j++) {
-				data.add(in.readByte());
-			}
-		}
-		byte[] b = new byte[data.size()];
-		for(int i = 0; i < data.size(); i++) {
-			b[i] = data.get(i);
-		}
-		EchoFrame frame = new EchoFrame(srcEchoAddress, b);
-		return frame;
-		
+		return new EchoFrameDecoder().readFrame(srcEchoAddress, in);
 	}
 	
-	protected EchoFrame(short srcEchoClassCode, byte srcEchoInstanceCode,
+	public EchoFrame(short srcEchoClassCode, byte srcEchoInstanceCode,
 			String srcEchoAddress
 			, short dstEchoClassCode, byte dstEchoInstanceCode
 			, String dstEchoAddress, byte esv, short tid, List<EchoProperty> propertyList) {
@@ -184,9 +177,34 @@ public final class EchoFrame {
 		
 		mTID = tid;
 		
-		mPropertyList = new ArrayList<EchoProperty>();
-		for(EchoProperty property : propertyList) {
-			mPropertyList.add(property.copy());
+		// EchoProperty is not modified once it is in a frame, so it is shared.
+		mPropertyList = new ArrayList<EchoProperty>(propertyList);
+		mValid = true;
+	}
+	
+	private EchoFrame(EchoFrame frame) {
+		// copy
+		
+		mSrcEchoClassCode = frame.mSrcEchoClassCode;
+		mSrcEchoInstanceCode = frame.mSrcEchoInstanceCode;
+		mSrcEchoAddress = frame.mSrcEchoAddress;
+		mDstEchoClassCode = frame.mDstEchoClassCode;
+		mDstEchoInstanceCode = frame.mDstEchoInstanceCode;
+		mDstEchoAddress = frame.mDstEchoAddress;
+		
+		mESV = frame.mESV;
+		
+		mTID = frame.mTID;
+		
+		mValid = frame.mValid;
+		synchronized(frame) {
+			if(frame.mPropertyList == null) {
+				mData = frame.mData;
+			} else {
+				mPropertyList = frame.mPropertyList;
+				mShared = true;
+				frame.mShared = true;
+			}
 		}
 	}
 	
@@ -234,44 +252,129 @@ public final class EchoFrame {
 		return mDstEchoAddress;
 	}
 	
+	/**
+	 * @return the properties. The list may be modified, a copy of this frame
+	 * which shares it is not changed: the list is copied before the first
+	 * change.
+	 */
 	public List<EchoProperty> getPropertyList() {
-		return mPropertyList;
+		return new PropertyListView();
+	}
+	
+	// a view which reads the shared list, and writes to a copy of it.
+	private class PropertyListView extends AbstractList<EchoProperty> {
+		@Override
+		public EchoProperty get(int index) {
+			return properties().get(index);
+		}
+		
+		@Override
+		public int size() {
+			return properties().size();
+		}
+		
+		@Override
+		public EchoProperty set(int index, EchoProperty element) {
+			return mutableProperties().set(index, element);
+		}
+		
+		@Override
+		public void add(int index, EchoProperty element) {
+			mutableProperties().add(index, element);
+			modCount++;
+		}
+		
+		@Override
+		public EchoProperty remove(int index) {
+			EchoProperty removed = mutableProperties().remove(index);
+			modCount++;
+			return removed;
+		}
 	}
 	
 	public EchoProperty[] getProperties() {
-		return mPropertyList.toArray(new EchoProperty[]{});
+		return properties().toArray(new EchoProperty[]{});
 	}
-
-	public byte[] getFrameByteArray() {
-		int propertyListSize = mPropertyList.size();
-		if(propertyListSize > 255) {
-			propertyListSize = 255;
+	
+	/**
+	 * Number of properties without decoding them.
+	 */
+	public int getPropertyCount() {
+		List<EchoProperty> list = mPropertyList;
+		if(list != null) return list.size();
+		byte[] data = mData;
+		if(data != null && data.length >= MIN_FRAME_SIZE) {
+			return countProperties(data);
 		}
-		int size = 12;
+		return properties().size();
+	}
+	
+	// the number of properties decodeProperties() decodes: the OPC, or less
+	// if the frame ends within a property. walks the PDCs, allocates nothing.
+	private static int countProperties(byte[] data) {
+		int opc = data[11] & 0xFF;
+		int count = 0;
+		for(int j = MIN_FRAME_SIZE; count < opc; count++) {
+			if(data.length < j + 2) break;
+			int pdc = data[j + 1] & 0xFF;
+			if(data.length < j + 2 + pdc) break;
+			j += 2 + pdc;
+		}
+		return count;
+	}
+
+	/**
+	 * Number of bytes of the encoded frame. At most 255 properties are encoded.
+	 */
+	public int getFrameSize() {
+		List<EchoProperty> propertyList = properties();
+		int propertyListSize = Math.min(propertyList.size(), MAX_PROPERTY_COUNT);
+		int size = MIN_FRAME_SIZE;
 		for(int i = 0; i < propertyListSize; i++) {
-			size += mPropertyList.get(i).size();
+			size += propertyList.get(i).size();
 		}
-		//if(size > Echo.UDP_MAX_PACKET_SIZE) return null;
-		ByteBuffer buffer = ByteBuffer.allocate(size);
-		buffer.order(ByteOrder.BIG_ENDIAN);
+		return size;
+	}
+	
+	/**
+	 * Encodes the frame at the position of the buffer and advances the position.
+	 * 
+	 * @return the number of bytes written.
+	 * @throws java.nio.BufferOverflowException if the buffer does not have
+	 *             {@link #getFrameSize()} bytes remaining. Nothing is written then.
+	 */
+	public int encodeTo(ByteBuffer buffer) {
+		if(buffer.remaining() < getFrameSize()) {
+			throw new BufferOverflowException();
+		}
+		List<EchoProperty> propertyList = properties();
+		int propertyListSize = Math.min(propertyList.size(), MAX_PROPERTY_COUNT);
+		int start = buffer.position();
 		
 		buffer.put(EHD1);
 		buffer.put(EHD2);
-		buffer.putShort(mTID);
-		buffer.putShort(mSrcEchoClassCode);
+		buffer.put((byte)(mTID >> 8)).put((byte)mTID);
+		buffer.put((byte)(mSrcEchoClassCode >> 8)).put((byte)mSrcEchoClassCode);
 		buffer.put(mSrcEchoInstanceCode);
-		buffer.putShort(mDstEchoClassCode);
+		buffer.put((byte)(mDstEchoClassCode >> 8)).put((byte)mDstEchoClassCode);
 		buffer.put(mDstEchoInstanceCode);
 		buffer.put(mESV);
 		buffer.put((byte)propertyListSize);
-		for(EchoProperty p : mPropertyList) {
+		for(int i = 0; i < propertyListSize; i++) {
+			EchoProperty p = propertyList.get(i);
 			buffer.put(p.epc);
 			buffer.put(p.pdc);
 			if(p.edt != null)
 				buffer.put(p.edt);
 		}
-		return buffer.array();
-		
+		return buffer.position() - start;
+	}
+	
+	public byte[] getFrameByteArray() {
+		//if(size > Echo.UDP_MAX_PACKET_SIZE) return null;
+		byte[] data = new byte[getFrameSize()];
+		encodeTo(ByteBuffer.wrap(data));
+		return data;
 	}
 	
 	
@@ -285,7 +388,7 @@ public final class EchoFrame {
 	}
 	
 	public void addPropertyForResponse(EchoProperty property) {
-		mPropertyList.add(property);
+		mutableProperties().add(property);
 		switch(mESV) {
 		case ESV_SET_NO_RES: case ESV_SETI_SNA:
 			if(property.pdc != 0) {
@@ -312,19 +415,19 @@ public final class EchoFrame {
 	
 	// TODO:checking valid or not improvement.
 	public boolean isValid(){
-		return mPropertyList != null;
+		return mValid;
 	}
 	
 	public void addProperty(EchoProperty property) {
-		mPropertyList.add(property);
+		mutableProperties().add(property);
 	}
 	
+	/**
+	 * Copies the header. The properties are shared until either frame adds one,
+	 * so a copy costs no more than the header.
+	 */
 	public EchoFrame copy() { 
-		EchoFrame ret = new EchoFrame(mSrcEchoClassCode, mSrcEchoInstanceCode
-				,mSrcEchoAddress
-				, mDstEchoClassCode, mDstEchoInstanceCode
-				, mDstEchoAddress, mESV, mTID, mPropertyList);
-		return ret;
+		return new EchoFrame(this);
 	}
 	
 	@Override
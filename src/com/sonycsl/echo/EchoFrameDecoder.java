@@ -0,0 +1,150 @@
+package com.sonycsl.echo;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Incremental decoder of ECHONET Lite frames in a byte stream.
+ * <br>
+ * The header is read first, then each property header and its EDT, so
+ * exactly the bytes of one frame are consumed. Bytes are collected in a
+ * reusable buffer, and a partial frame is kept between calls of
+ * {@link #decode(String, ByteBuffer)}, so one decoder can be attached to a
+ * non-blocking channel as well as to a blocking stream.
+ * <br>
+ * A decoder is not thread safe.
+ */
+public final class EchoFrameDecoder {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private static final int STATE_HEADER = 0;
+    private static final int STATE_PROPERTY_HEADER = 1;
+    private static final int STATE_EDT = 2;
+
+    private byte[] mBuffer = new byte[INITIAL_BUFFER_SIZE];
+    private int mLength;
+    private int mTarget;
+    private int mState;
+    private int mRemainingProperties;
+
+    public EchoFrameDecoder() {
+        reset();
+    }
+
+    public void reset() {
+        mLength = 0;
+        mTarget = EchoFrame.MIN_FRAME_SIZE;
+        mState = STATE_HEADER;
+        mRemainingProperties = 0;
+    }
+
+    /**
+     * Consumes bytes of the buffer until a frame is completed or the buffer
+     * is exhausted.
+     *
+     * @return the completed frame, or null if more bytes are needed.
+     * @throws StreamCorruptedException if the bytes are not an ECHONET Lite frame.
+     *             The decoder is reset.
+     */
+    public EchoFrame decode(String srcEchoAddress, ByteBuffer in) throws IOException {
+        while (in.hasRemaining()) {
+            int n = Math.min(in.remaining(), mTarget - mLength);
+            in.get(mBuffer, mLength, n);
+            mLength += n;
+            if (mLength < mTarget) {
+                return null;
+            }
+            if (advance()) {
+                return takeFrame(srcEchoAddress);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads one frame from a blocking stream.
+     *
+     * @return the frame, or null if the stream does not start with the ECHONET Lite header.
+     * @throws EOFException if the stream ends before the frame is completed.
+     */
+    public EchoFrame readFrame(String srcEchoAddress, InputStream in) throws IOException {
+        reset();
+        // read EHD first, to consume no more than that from a foreign stream.
+        readFully(in, 2);
+        if (mBuffer[0] != EchoFrame.EHD1 || mBuffer[1] != EchoFrame.EHD2) {
+            reset();
+            return null;
+        }
+        while (true) {
+            readFully(in, mTarget - mLength);
+            if (advance()) {
+                return takeFrame(srcEchoAddress);
+            }
+        }
+    }
+
+    private void readFully(InputStream in, int length) throws IOException {
+        int end = mLength + length;
+        while (mLength < end) {
+            int n = in.read(mBuffer, mLength, end - mLength);
+            if (n < 0) {
+                reset();
+                throw new EOFException();
+            }
+            mLength += n;
+        }
+    }
+
+    /**
+     * Called when mTarget bytes have been collected.
+     *
+     * @return true if the frame is completed.
+     */
+    private boolean advance() throws IOException {
+        switch (mState) {
+            case STATE_HEADER:
+                if (mBuffer[0] != EchoFrame.EHD1 || mBuffer[1] != EchoFrame.EHD2) {
+                    reset();
+                    throw new StreamCorruptedException("invalid ECHONET Lite header");
+                }
+                mRemainingProperties = mBuffer[11] & 0xFF;
+                break;
+            case STATE_PROPERTY_HEADER:
+                int pdc = mBuffer[mLength - 1] & 0xFF;
+                if (pdc > 0) {
+                    mState = STATE_EDT;
+                    setTarget(mTarget + pdc);
+                    return false;
+                }
+                mRemainingProperties--;
+                break;
+            case STATE_EDT:
+                mRemainingProperties--;
+                break;
+        }
+        if (mRemainingProperties == 0) {
+            return true;
+        }
+        mState = STATE_PROPERTY_HEADER;
+        setTarget(mTarget + 2);
+        return false;
+    }
+
+    private void setTarget(int target) {
+        mTarget = target;
+        if (mBuffer.length < target) {
+            mBuffer = Arrays.copyOf(mBuffer, Math.max(target, mBuffer.length * 2));
+        }
+    }
+
+    private EchoFrame takeFrame(String srcEchoAddress) {
+        byte[] data = Arrays.copyOf(mBuffer, mLength);
+        reset();
+        return new EchoFrame(srcEchoAddress, data);
+    }
+}
@@ -0,0 +1,614 @@
+package com.sonycsl.echo;
+
+import java.io.PrintStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.node.EchoNode;
+
+/**
+ * Logs the events of the protocol stack on a thread of its own.
+ * <br>
+ * An event is recorded as it is, the fields and the references to the
+ * objects, into a slot of a ring buffer which is claimed with a CAS; no
+ * string is built and no lock is taken on the thread of the event. The
+ * logger thread formats the events and writes them in batches. When the
+ * ring is full the event is dropped and the number of dropped events is
+ * logged later.
+ * <br>
+ * Each event has a {@link Level}: the property events are TRACE, the
+ * frames DEBUG, new and lost nodes and objects INFO, request timeouts WARN
+ * and exceptions ERROR. Events under the level of the logger are ignored,
+ * and the TRACE and DEBUG events can be sampled, one in n, to keep a busy
+ * node logging:
+ * <pre>
+ * EchoFrameLogger logger = new EchoFrameLogger(System.out);
+ * logger.setLevel(EchoFrameLogger.Level.DEBUG);
+ * logger.setSampling(100);
+ * Echo.addEventListener(logger);
+ * </pre>
+ * The objects of an event (the frame, the EDT) are formatted after the
+ * event, so they must not be modified afterwards, as the protocol stack
+ * does not.
+ */
+public class EchoFrameLogger extends Echo.EventListener {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoFrameLogger.class.getSimpleName();
+
+    public enum Level {
+        TRACE, DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final int SET = 0;
+    private static final int GET = 1;
+    private static final int ON_SET = 2;
+    private static final int ON_GET = 3;
+    private static final int ON_INFORM = 4;
+    private static final int REQ_SET = 5;
+    private static final int REQ_GET = 6;
+    private static final int REQ_INFORM = 7;
+    private static final int REQ_INFORM_C = 8;
+    private static final int SEND = 9;
+    private static final int RECEIVE = 10;
+    private static final int REQUEST_TIMEOUT = 11;
+    private static final int NEW_NODE = 12;
+    private static final int NEW_ECHO_OBJECT = 13;
+    private static final int LOST_NODE = 14;
+    private static final int LOST_ECHO_OBJECT = 15;
+    private static final int EXCEPTION = 16;
+
+    private static final String[] METHODS = {
+            "set", "get", "onSet", "onGet", "onInform",
+            "reqSet", "reqGet", "reqInform", "reqInformC",
+            "send", "receive", "requestTimeout",
+            "new", "new", "lost", "lost", "exception"
+    };
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // a batch is written when it grows over this many chars.
+    private static final int BATCH_CHARS = 16 * 1024;
+    private static final long IDLE_NANOS = 100L * 1000 * 1000;
+
+    private static final AtomicInteger sThreadCount = new AtomicInteger();
+
+    private final PrintStream mOut;
+    private final Entry[] mEntries;
+    // the sequence published in each slot, -1 for none.
+    private final AtomicLongArray mSequences;
+    private final int mMask;
+    // the next sequence to claim.
+    private final AtomicLong mHead = new AtomicLong();
+    // the next sequence to format, written by the logger thread only.
+    private volatile long mTail;
+    // the sequences below have been written to the stream.
+    private volatile long mWritten;
+    private volatile boolean mWaiting;
+    private volatile boolean mClosed;
+    private volatile Level mLevel = Level.TRACE;
+    private volatile int mSampling = 1;
+    private final Thread mThread;
+
+    private final LongAdder mDropped = new LongAdder();
+    private long mReportedDropped;
+    private final StringBuilder mLine = new StringBuilder(BATCH_CHARS);
+
+    public EchoFrameLogger(PrintStream out) {
+        this(out, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of events in the ring, rounded up to a
+     * power of 2.
+     */
+    public EchoFrameLogger(PrintStream out, int capacity) {
+        if (out == null) {
+            throw new IllegalArgumentException("out must not be null");
+        }
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity out of range: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        mOut = out;
+        mEntries = new Entry[size];
+        mSequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            mEntries[i] = new Entry();
+            mSequences.set(i, -1);
+        }
+        mMask = size - 1;
+        mThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }
+        }, "EchoFrameLogger-" + sThreadCount.incrementAndGet());
+        mThread.setDaemon(true);
+        mThread.start();
+    }
+
+    public Level getLevel() {
+        return mLevel;
+    }
+
+    /**
+     * Events under the level are not recorded.
+     */
+    public void setLevel(Level level) {
+        if (level == null) {
+            throw new IllegalArgumentException("level must not be null");
+        }
+        mLevel = level;
+    }
+
+    public int getSampling() {
+        return mSampling;
+    }
+
+    /**
+     * Records one in n of the TRACE and DEBUG events, chosen at random.
+     * The events of higher levels are always recorded.
+     */
+    public void setSampling(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("sampling must be positive: " + n);
+        }
+        mSampling = n;
+    }
+
+    public int getCapacity() {
+        return mEntries.length;
+    }
+
+    public long getDroppedCount() {
+        return mDropped.sum();
+    }
+
+    /**
+     * Waits until the events recorded before the call are written.
+     *
+     * @return false if they were not written in the time.
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = mHead.get();
+        long deadline = System.nanoTime() + timeoutMillis * 1000 * 1000;
+        while (mWritten < target) {
+            if (!mThread.isAlive() || System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.unpark(mThread);
+            LockSupport.parkNanos(this, 1000 * 1000);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the recorded events and stops the thread. Events recorded
+     * afterwards are ignored. Called by Echo.clear().
+     */
+    public void close() {
+        if (mClosed) {
+            return;
+        }
+        mClosed = true;
+        LockSupport.unpark(mThread);
+        if (Thread.currentThread() != mThread) {
+            try {
+                mThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isClosed() {
+        return mClosed;
+    }
+
+    private boolean isLogged(Level level) {
+        if (mClosed || level.ordinal() < mLevel.ordinal()) {
+            return false;
+        }
+        int sampling = mSampling;
+        if (sampling > 1 && level.ordinal() < Level.INFO.ordinal()) {
+            return ThreadLocalRandom.current().nextInt(sampling) == 0;
+        }
+        return true;
+    }
+
+    /**
+     * @return the claimed slot, or null if the ring is full.
+     */
+    private Entry claim() {
+        long head;
+        do {
+            head = mHead.get();
+            if (head - mTail >= mEntries.length) {
+                mDropped.increment();
+                return null;
+            }
+        } while (!mHead.compareAndSet(head, head + 1));
+        Entry entry = mEntries[(int) head & mMask];
+        entry.mSequence = head;
+        entry.mMillis = System.currentTimeMillis();
+        return entry;
+    }
+
+    private void publish(Entry entry) {
+        mSequences.set((int) entry.mSequence & mMask, entry.mSequence);
+        if (mWaiting) {
+            LockSupport.unpark(mThread);
+        }
+    }
+
+    private void recordProperty(int type, EchoObject eoj, short tid, byte esv,
+            EchoProperty property, boolean success) {
+        if (!isLogged(Level.TRACE)) {
+            return;
+        }
+        Entry entry = claim();
+        if (entry == null) {
+            return;
+        }
+        entry.mType = type;
+        entry.mEoj = eoj;
+        entry.mTid = tid;
+        entry.mEsv = esv;
+        entry.mEpc = property.epc;
+        entry.mPdc = property.pdc;
+        entry.mEdt = property.edt;
+        entry.mSuccess = success;
+        publish(entry);
+    }
+
+    private void recordFrame(int type, Level level, EchoFrame frame) {
+        if (!isLogged(level)) {
+            return;
+        }
+        Entry entry = claim();
+        if (entry == null) {
+            return;
+        }
+        entry.mType = type;
+        entry.mFrame = frame;
+        publish(entry);
+    }
+
+    private void recordNode(int type, EchoNode node) {
+        if (!isLogged(Level.INFO)) {
+            return;
+        }
+        Entry entry = claim();
+        if (entry == null) {
+            return;
+        }
+        entry.mType = type;
+        entry.mNode = node;
+        publish(entry);
+    }
+
+    private void recordObject(int type, EchoObject eoj) {
+        if (!isLogged(Level.INFO)) {
+            return;
+        }
+        Entry entry = claim();
+        if (entry == null) {
+            return;
+        }
+        entry.mType = type;
+        entry.mEoj = eoj;
+        publish(entry);
+    }
+
+    @Override
+    public void setProperty(EchoObject eoj, EchoProperty property, boolean success) {
+        recordProperty(SET, eoj, (short) 0, (byte) 0, property, success);
+    }
+
+    @Override
+    public void getProperty(EchoObject eoj, EchoProperty property) {
+        recordProperty(GET, eoj, (short) 0, (byte) 0, property, false);
+    }
+
+    @Override
+    public void onSetProperty(EchoObject eoj, short tid, byte esv, EchoProperty property,
+            boolean success) {
+        recordProperty(ON_SET, eoj, tid, esv, property, success);
+    }
+
+    @Override
+    public void onGetProperty(EchoObject eoj, short tid, byte esv, EchoProperty property,
+            boolean success) {
+        recordProperty(ON_GET, eoj, tid, esv, property, success);
+    }
+
+    @Override
+    public void onInformProperty(EchoObject eoj, short tid, byte esv, EchoProperty property) {
+        recordProperty(ON_INFORM, eoj, tid, esv, property, false);
+    }
+
+    @Override
+    public void reqSetPropertyEvent(EchoObject eoj, EchoProperty property) {
+        recordProperty(REQ_SET, eoj, (short) 0, (byte) 0, property, false);
+    }
+
+    @Override
+    public void reqGetPropertyEvent(EchoObject eoj, EchoProperty property) {
+        recordProperty(REQ_GET, eoj, (short) 0, (byte) 0, property, false);
+    }
+
+    @Override
+    public void reqInformPropertyEvent(EchoObject eoj, EchoProperty property) {
+        recordProperty(REQ_INFORM, eoj, (short) 0, (byte) 0, property, false);
+    }
+
+    @Override
+    public void reqInformCPropertyEvent(EchoObject eoj, EchoProperty property) {
+        recordProperty(REQ_INFORM_C, eoj, (short) 0, (byte) 0, property, false);
+    }
+
+    @Override
+    public void sendEvent(EchoFrame frame) {
+        recordFrame(SEND, Level.DEBUG, frame);
+    }
+
+    @Override
+    public void receiveEvent(EchoFrame frame) {
+        recordFrame(RECEIVE, Level.DEBUG, frame);
+    }
+
+    @Override
+    public void onRequestTimeout(EchoFrame request) {
+        recordFrame(REQUEST_TIMEOUT, Level.WARN, request);
+    }
+
+    @Override
+    public void onCatchException(Exception e) {
+        if (!isLogged(Level.ERROR)) {
+            return;
+        }
+        Entry entry = claim();
+        if (entry == null) {
+            return;
+        }
+        entry.mType = EXCEPTION;
+        entry.mException = e;
+        publish(entry);
+    }
+
+    @Override
+    public void onNewNode(EchoNode node) {
+        recordNode(NEW_NODE, node);
+    }
+
+    @Override
+    public void onNewEchoObject(EchoObject eoj) {
+        recordObject(NEW_ECHO_OBJECT, eoj);
+    }
+
+    @Override
+    public void onLostNode(EchoNode node) {
+        recordNode(LOST_NODE, node);
+    }
+
+    @Override
+    public void onLostEchoObject(EchoObject eoj) {
+        recordObject(LOST_ECHO_OBJECT, eoj);
+    }
+
+    private void work() {
+        long tail = mTail;
+        while (true) {
+            int index = (int) tail & mMask;
+            if (mSequences.get(index) != tail) {
+                write(tail);
+                if (mClosed && mHead.get() == tail) {
+                    return;
+                }
+                mWaiting = true;
+                if (mSequences.get(index) != tail && !mClosed) {
+                    LockSupport.parkNanos(this, IDLE_NANOS);
+                }
+                mWaiting = false;
+                continue;
+            }
+            Entry entry = mEntries[index];
+            try {
+                format(entry);
+            } catch (RuntimeException e) {
+                // an object of the event in an unexpected state; the event is skipped.
+            }
+            entry.clear();
+            mTail = ++tail;
+            if (mLine.length() >= BATCH_CHARS) {
+                write(tail);
+            }
+        }
+    }
+
+    private void write(long tail) {
+        long dropped = mDropped.sum();
+        if (dropped != mReportedDropped) {
+            mLine.append("millis:").append(System.currentTimeMillis())
+                    .append(",method:dropped,count:").append(dropped - mReportedDropped)
+                    .append('\n');
+            mReportedDropped = dropped;
+        }
+        if (mLine.length() > 0) {
+            mOut.print(mLine);
+            mOut.flush();
+            mLine.setLength(0);
+        }
+        mWritten = tail;
+    }
+
+    private void format(Entry entry) {
+        StringBuilder sb = mLine;
+        sb.append("millis:").append(entry.mMillis)
+                .append(",method:").append(METHODS[entry.mType]);
+        switch (entry.mType) {
+            case SET:
+            case GET:
+            case REQ_SET:
+            case REQ_GET:
+            case REQ_INFORM:
+            case REQ_INFORM_C:
+                sb.append(',');
+                appendObject(sb, entry.mEoj);
+                appendProperty(sb, entry);
+                if (entry.mType == SET) {
+                    sb.append(",success:").append(entry.mSuccess);
+                }
+                break;
+            case ON_SET:
+            case ON_GET:
+            case ON_INFORM:
+                sb.append(',');
+                appendObject(sb, entry.mEoj);
+                sb.append(",tid:");
+                appendHex(sb, entry.mTid);
+                sb.append(",esv:");
+                appendHex(sb, entry.mEsv);
+                if (entry.mType == ON_INFORM) {
+                    sb.append(",epc:");
+                    appendHex(sb, entry.mEpc);
+                } else {
+                    appendProperty(sb, entry);
+                }
+                if (entry.mType == ON_SET) {
+                    sb.append(",success:").append(entry.mSuccess);
+                }
+                break;
+            case SEND:
+            case RECEIVE: {
+                EchoFrame frame = entry.mFrame;
+                sb.append(",tid:");
+                appendHex(sb, frame.getTID());
+                sb.append(",esv:");
+                appendHex(sb, frame.getESV());
+                sb.append(",seoj:[class:");
+                appendHex(sb, frame.getSrcEchoClassCode());
+                sb.append(",instance:");
+                appendHex(sb, frame.getSrcEchoInstanceCode());
+                sb.append("],deoj:[class:");
+                appendHex(sb, frame.getDstEchoClassCode());
+                sb.append(",instance:");
+                appendHex(sb, frame.getDstEchoInstanceCode());
+                sb.append("],data:");
+                appendHex(sb, frame.getFrameByteArray());
+                break;
+            }
+            case REQUEST_TIMEOUT: {
+                EchoFrame frame = entry.mFrame;
+                sb.append(",tid:");
+                appendHex(sb, frame.getTID());
+                sb.append(",esv:");
+                appendHex(sb, frame.getESV());
+                sb.append(",deoj:[class:");
+                appendHex(sb, frame.getDstEchoClassCode());
+                sb.append(",instance:");
+                appendHex(sb, frame.getDstEchoInstanceCode());
+                sb.append("],address:").append(frame.getDstEchoAddress());
+                break;
+            }
+            case NEW_NODE:
+            case LOST_NODE:
+                sb.append(",type:node,address:").append(entry.mNode.getAddressStr());
+                break;
+            case NEW_ECHO_OBJECT:
+            case LOST_ECHO_OBJECT:
+                sb.append(",type:eoj,");
+                appendObject(sb, entry.mEoj);
+                break;
+            case EXCEPTION:
+                sb.append(",error:").append(entry.mException);
+                break;
+            default:
+                break;
+        }
+        sb.append('\n');
+    }
+
+    // the same as EchoObject.toString().
+    private static void appendObject(StringBuilder sb, EchoObject eoj) {
+        sb.append("groupCode:");
+        appendHex(sb, eoj.getClassGroupCode());
+        sb.append(",classCode:");
+        appendHex(sb, eoj.getClassCode());
+        sb.append(",instanceCode:");
+        appendHex(sb, eoj.getInstanceCode());
+        sb.append(",address:");
+        EchoNode node = eoj.getNode();
+        if (node != null) {
+            sb.append(node.getAddressStr());
+        }
+    }
+
+    private static void appendProperty(StringBuilder sb, Entry entry) {
+        sb.append(",epc:");
+        appendHex(sb, entry.mEpc);
+        sb.append(",pdc:");
+        appendHex(sb, entry.mPdc);
+        sb.append(",edt:");
+        appendHex(sb, entry.mEdt);
+    }
+
+    private static void appendHex(StringBuilder sb, byte b) {
+        sb.append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+    }
+
+    private static void appendHex(StringBuilder sb, short s) {
+        appendHex(sb, (byte) (s >> 8));
+        appendHex(sb, (byte) s);
+    }
+
+    // the same as EchoUtils.toHexString(byte[]).
+    private static void appendHex(StringBuilder sb, byte[] data) {
+        if (data == null) {
+            return;
+        }
+        for (byte b : data) {
+            appendHex(sb, b);
+            sb.append(' ');
+        }
+    }
+
+    /**
+     * A slot of the ring. Written by the thread which claimed it, then read
+     * by the logger thread after its sequence is published.
+     */
+    private static final class Entry {
+        long mSequence;
+        long mMillis;
+        int mType;
+        EchoObject mEoj;
+        EchoNode mNode;
+        EchoFrame mFrame;
+        Exception mException;
+        short mTid;
+        byte mEsv;
+        byte mEpc;
+        byte mPdc;
+        byte[] mEdt;
+        boolean mSuccess;
+
+        // drops the references, so the objects are not kept by the ring.
+        void clear() {
+            mEoj = null;
+            mNode = null;
+            mFrame = null;
+            mException = null;
+            mEdt = null;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.sonycsl.echo;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reusable, allocation free view of an ECHONET Lite frame in a ByteBuffer.
+ * <br>
+ * The header and the property slices are decoded in place from the buffer
+ * (heap or direct). EDT is copied into a new array only when
+ * {@link #getEDT(int)} is called, so a frame which is discarded after
+ * checking a few fields costs no garbage.
+ * <br>
+ * A reader is not thread safe, and it is valid only while the wrapped
+ * buffer is not modified.
+ */
+public final class EchoFrameReader {
+
+    private static final int MAX_PROPERTY_COUNT = 255;
+
+    private ByteBuffer mBuffer;
+    private int mStart;
+    private int mLength;
+    private boolean mValid;
+    private int mPropertyCount;
+    private final int[] mPropertyOffsets = new int[MAX_PROPERTY_COUNT];
+
+    /**
+     * Wraps the data between the position and the limit of the buffer.
+     * The position and the limit of the buffer are not changed.
+     *
+     * @return true if the data starts with a valid ECHONET Lite header.
+     */
+    public boolean wrap(ByteBuffer buffer) {
+        return wrap(buffer, buffer.position(), buffer.remaining());
+    }
+
+    public boolean wrap(ByteBuffer buffer, int offset, int length) {
+        mBuffer = buffer;
+        mStart = offset;
+        mLength = length;
+        mPropertyCount = 0;
+        mValid = false;
+
+        if (length < EchoFrame.MIN_FRAME_SIZE) {
+            return false;
+        }
+        if (buffer.get(offset) != EchoFrame.EHD1 || buffer.get(offset + 1) != EchoFrame.EHD2) {
+            return false;
+        }
+        mValid = true;
+
+        // index the complete properties. a truncated property ends the list.
+        int opc = buffer.get(offset + 11) & 0xFF;
+        int end = offset + length;
+        int i = offset + EchoFrame.MIN_FRAME_SIZE;
+        for (int p = 0; p < opc; p++) {
+            if (end < i + 2) {
+                break;
+            }
+            int pdc = buffer.get(i + 1) & 0xFF;
+            if (end < i + 2 + pdc) {
+                break;
+            }
+            mPropertyOffsets[mPropertyCount++] = i;
+            i += 2 + pdc;
+        }
+        mLength = i - offset;
+        return true;
+    }
+
+    public boolean wrap(byte[] data, int offset, int length) {
+        return wrap(ByteBuffer.wrap(data), offset, length);
+    }
+
+    public boolean isValid() {
+        return mValid;
+    }
+
+    /**
+     * @return the number of bytes of the header and the complete properties.
+     */
+    public int getFrameLength() {
+        return mLength;
+    }
+
+    public short getTID() {
+        return getShort(2);
+    }
+
+    public short getSrcEchoClassCode() {
+        return getShort(4);
+    }
+
+    public byte getSrcEchoInstanceCode() {
+        return mBuffer.get(mStart + 6);
+    }
+
+    public int getSrcEchoObjectCode() {
+        return ((getSrcEchoClassCode() & 0xFFFF) << 8) | (getSrcEchoInstanceCode() & 0xFF);
+    }
+
+    public short getDstEchoClassCode() {
+        return getShort(7);
+    }
+
+    public byte getDstEchoInstanceCode() {
+        return mBuffer.get(mStart + 9);
+    }
+
+    public int getDstEchoObjectCode() {
+        return ((getDstEchoClassCode() & 0xFFFF) << 8) | (getDstEchoInstanceCode() & 0xFF);
+    }
+
+    public byte getESV() {
+        return mBuffer.get(mStart + 10);
+    }
+
+    /**
+     * @return the number of complete properties (may be less than OPC).
+     */
+    public int getPropertyCount() {
+        return mPropertyCount;
+    }
+
+    public byte getEPC(int index) {
+        return mBuffer.get(mPropertyOffsets[index]);
+    }
+
+    public byte getPDC(int index) {
+        return mBuffer.get(mPropertyOffsets[index] + 1);
+    }
+
+    /**
+     * @return the absolute offset of the EDT of the property in the buffer.
+     */
+    public int getEDTOffset(int index) {
+        return mPropertyOffsets[index] + 2;
+    }
+
+    /**
+     * @return the index of the first property with the EPC, or -1.
+     */
+    public int indexOf(byte epc) {
+        for (int i = 0; i < mPropertyCount; i++) {
+            if (mBuffer.get(mPropertyOffsets[i]) == epc) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return a copy of the EDT of the property, or null if PDC is 0.
+     */
+    public byte[] getEDT(int index) {
+        int pdc = getPDC(index) & 0xFF;
+        if (pdc == 0) {
+            return null;
+        }
+        byte[] edt = new byte[pdc];
+        copyTo(getEDTOffset(index), edt, 0, pdc);
+        return edt;
+    }
+
+    public EchoProperty getProperty(int index) {
+        return new EchoProperty(getEPC(index), getPDC(index), getEDT(index));
+    }
+
+    /**
+     * Copies the frame out of the buffer.
+     *
+     * @return a new EchoFrame, or null if the reader is not valid.
+     */
+    public EchoFrame toEchoFrame(String srcEchoAddress) {
+        if (!mValid) {
+            return null;
+        }
+        byte[] data = new byte[mLength];
+        copyTo(mStart, data, 0, mLength);
+        return new EchoFrame(srcEchoAddress, data);
+    }
+
+    private void copyTo(int offset, byte[] dst, int dstOffset, int length) {
+        if (mBuffer.hasArray()) {
+            System.arraycopy(mBuffer.array(), mBuffer.arrayOffset() + offset, dst, dstOffset, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                dst[dstOffset + i] = mBuffer.get(offset + i);
+            }
+        }
+    }
+
+    private short getShort(int index) {
+        return (short) (((mBuffer.get(mStart + index) & 0xFF) << 8) | (mBuffer.get(mStart + index + 1) & 0xFF));
+    }
+}
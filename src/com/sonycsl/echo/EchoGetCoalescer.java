@@ -0,0 +1,248 @@
+package com.sonycsl.echo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Merges the GET requests sent to one object within a short window into
+ * one frame.
+ * <br>
+ * The first request to an object opens a batch, and the requests to the
+ * same object (address + DEOJ) from the same SEOJ in the next window
+ * milliseconds join it.
+ * Then one GET with the union of the EPCs is sent with
+ * {@link EchoRequestTracker}, and every waiter gets a GET_RES (or GET_SNA)
+ * with the properties it requested. A batch is sent at once when it
+ * reaches 255 EPCs, the limit of OPC.
+ * <br>
+ * Coalescing is off until {@link #setWindow(long)} is called with a
+ * positive window. It applies to {@code EchoObject.Getter.sendAsync()} for
+ * a single object; multicast and instance code 0 requests are not merged.
+ * The window is rounded up to the tick of {@link EchoTimer}, and the
+ * batch is sent from {@link EchoTimer#getExecutor()}.
+ */
+public final class EchoGetCoalescer {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoGetCoalescer.class.getSimpleName();
+
+    private static final int MAX_EPC_COUNT = 255;
+
+    private static volatile long sWindowMillis = 0;
+
+    private static final ConcurrentHashMap<String, Batch> sBatches = new ConcurrentHashMap<String, Batch>();
+
+    private EchoGetCoalescer() {
+    }
+
+    /**
+     * @param millis 0 to disable coalescing.
+     */
+    public static void setWindow(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("window must not be negative: " + millis);
+        }
+        sWindowMillis = millis;
+    }
+
+    public static long getWindow() {
+        return sWindowMillis;
+    }
+
+    public static boolean isEnabled() {
+        return sWindowMillis > 0;
+    }
+
+    /**
+     * @return true if a request to the destination can be merged.
+     */
+    public static boolean canCoalesce(byte dstEchoInstanceCode, String dstEchoAddress, int epcCount) {
+        return isEnabled() && dstEchoInstanceCode != 0
+                && !EchoSocket.MULTICAST_ADDRESS.equals(dstEchoAddress)
+                && epcCount > 0 && epcCount <= MAX_EPC_COUNT;
+    }
+
+    /**
+     * Requests the EPCs from the object, sharing the request with the
+     * other requests of the window.
+     */
+    public static CompletableFuture<EchoFrame> get(short srcEchoClassCode, byte srcEchoInstanceCode,
+            short dstEchoClassCode, byte dstEchoInstanceCode, String dstEchoAddress,
+            List<Byte> epcs) {
+        // the SEOJ is in the key, the batch is sent from the SEOJ of its first waiter.
+        String key = dstEchoAddress + "/" + EchoUtils.getEchoObjectCode(dstEchoClassCode, dstEchoInstanceCode)
+                + "/" + EchoUtils.getEchoObjectCode(srcEchoClassCode, srcEchoInstanceCode);
+        Waiter waiter = new Waiter(epcs);
+        while (true) {
+            Batch batch = sBatches.get(key);
+            if (batch == null) {
+                Batch created = new Batch(key, srcEchoClassCode, srcEchoInstanceCode,
+                        dstEchoClassCode, dstEchoInstanceCode, dstEchoAddress);
+                batch = sBatches.putIfAbsent(key, created);
+                if (batch == null) {
+                    batch = created;
+                    scheduleFlush(batch);
+                }
+            }
+            int result = batch.add(waiter);
+            if (result == Batch.CLOSED) {
+                continue;
+            }
+            if (result == Batch.FULL) {
+                // send the batch and open a new one.
+                flush(batch);
+                continue;
+            }
+            if (batch.isFull()) {
+                flush(batch);
+            }
+            return waiter.mFuture;
+        }
+    }
+
+    private static void scheduleFlush(final Batch batch) {
+        EchoTimer.getDefault().scheduleOnExecutor(new Runnable() {
+            @Override
+            public void run() {
+                flush(batch);
+            }
+        }, sWindowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static void flush(final Batch batch) {
+        if (!batch.close()) {
+            return;
+        }
+        sBatches.remove(batch.mKey, batch);
+
+        EchoFrame request = new EchoFrame(batch.mSrcEchoClassCode, batch.mSrcEchoInstanceCode,
+                batch.mDstEchoClassCode, batch.mDstEchoInstanceCode, batch.mDstEchoAddress,
+                EchoFrame.ESV_GET);
+        for (Byte epc : batch.mEPCs) {
+            request.addProperty(new EchoProperty(epc));
+        }
+        final List<Waiter> waiters = batch.mWaiters;
+        EchoRequestTracker.send(request, false, EchoRequestTracker.getDefaultRetryPolicy())
+                .whenComplete(new BiConsumer<EchoFrame, Throwable>() {
+                    @Override
+                    public void accept(EchoFrame response, Throwable t) {
+                        for (Waiter waiter : waiters) {
+                            if (t != null) {
+                                waiter.mFuture.completeExceptionally(t);
+                            } else {
+                                waiter.mFuture.complete(waiter.select(response));
+                            }
+                        }
+                    }
+                });
+    }
+
+    private static class Waiter {
+        final List<Byte> mEPCs;
+        final CompletableFuture<EchoFrame> mFuture = new CompletableFuture<EchoFrame>();
+
+        Waiter(List<Byte> epcs) {
+            // an EPC requested twice is counted, sent and answered once.
+            mEPCs = new ArrayList<Byte>(new LinkedHashSet<Byte>(epcs));
+        }
+
+        /**
+         * @return the response with the properties requested by this waiter.
+         */
+        EchoFrame select(EchoFrame response) {
+            List<EchoProperty> properties = response.getPropertyList();
+            if (properties.size() == mEPCs.size()) {
+                boolean same = true;
+                for (int i = 0; i < properties.size(); i++) {
+                    if (properties.get(i).epc != mEPCs.get(i)) {
+                        same = false;
+                        break;
+                    }
+                }
+                if (same) {
+                    return response;
+                }
+            }
+            EchoFrame frame = new EchoFrame(response.getSrcEchoClassCode(),
+                    response.getSrcEchoInstanceCode(), response.getSrcEchoAddress(),
+                    response.getDstEchoClassCode(), response.getDstEchoInstanceCode(),
+                    response.getDstEchoAddress(), EchoFrame.ESV_GET_RES, response.getTID(),
+                    new ArrayList<EchoProperty>());
+            for (Byte epc : mEPCs) {
+                byte[] edt = null;
+                for (EchoProperty p : properties) {
+                    if (p.epc == epc) {
+                        edt = p.edt;
+                        break;
+                    }
+                }
+                frame.addPropertyForResponse(epc, edt);
+            }
+            return frame;
+        }
+    }
+
+    private static class Batch {
+        static final int ADDED = 0;
+        static final int CLOSED = 1;
+        static final int FULL = 2;
+
+        final String mKey;
+        final short mSrcEchoClassCode;
+        final byte mSrcEchoInstanceCode;
+        final short mDstEchoClassCode;
+        final byte mDstEchoInstanceCode;
+        final String mDstEchoAddress;
+        // guarded by this until closed, read only after.
+        final LinkedHashSet<Byte> mEPCs = new LinkedHashSet<Byte>();
+        final List<Waiter> mWaiters = new ArrayList<Waiter>();
+        boolean mClosed;
+
+        Batch(String key, short srcEchoClassCode, byte srcEchoInstanceCode,
+                short dstEchoClassCode, byte dstEchoInstanceCode, String dstEchoAddress) {
+            mKey = key;
+            mSrcEchoClassCode = srcEchoClassCode;
+            mSrcEchoInstanceCode = srcEchoInstanceCode;
+            mDstEchoClassCode = dstEchoClassCode;
+            mDstEchoInstanceCode = dstEchoInstanceCode;
+            mDstEchoAddress = dstEchoAddress;
+        }
+
+        synchronized int add(Waiter waiter) {
+            if (mClosed) {
+                return CLOSED;
+            }
+            int count = mEPCs.size();
+            for (Byte epc : waiter.mEPCs) {
+                if (!mEPCs.contains(epc)) {
+                    count++;
+                }
+            }
+            if (count > MAX_EPC_COUNT) {
+                return FULL;
+            }
+            mEPCs.addAll(waiter.mEPCs);
+            mWaiters.add(waiter);
+            return ADDED;
+        }
+
+        synchronized boolean isFull() {
+            return mEPCs.size() >= MAX_EPC_COUNT;
+        }
+
+        /**
+         * @return true if this call closed the batch.
+         */
+        synchronized boolean close() {
+            if (mClosed) {
+                return false;
+            }
+            mClosed = true;
+            return true;
+        }
+    }
+}
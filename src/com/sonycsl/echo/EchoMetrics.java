@@ -0,0 +1,361 @@
+package com.sonycsl.echo;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sonycsl.echo.protocol.TaskDispatcher;
+
+/**
+ * Counters and latency histograms of the protocol stack.
+ * <br>
+ * The metrics are updated on the hot paths without locks: a counter is a
+ * LongAdder, and a histogram counts values in buckets of logarithmic size
+ * (8 per power of 2, so a percentile is within 12.5% of the value).
+ * {@link #snapshot()} copies them for a monitoring system, and
+ * {@link #toText()} formats them as lines of "name value".
+ * <br>
+ * Times are in nanoseconds.
+ */
+public final class EchoMetrics {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoMetrics.class.getSimpleName();
+
+    // response latency is kept per peer for this many peers, the rest only in total.
+    public static final int MAX_PEERS = 256;
+
+    public static final Counter UDP_RX_FRAMES = new Counter();
+    public static final Counter UDP_TX_FRAMES = new Counter();
+    public static final Counter UDP_DECODE_FAILURES = new Counter();
+    public static final Counter TCP_RX_FRAMES = new Counter();
+    public static final Counter TCP_TX_FRAMES = new Counter();
+    public static final Counter TCP_DECODE_FAILURES = new Counter();
+    public static final Counter TASK_FAILURES = new Counter();
+    public static final Counter SENDER_REQUESTS = new Counter();
+    public static final Counter SENDER_UNSENDABLE = new Counter();
+    public static final Counter REQUEST_TIMEOUTS = new Counter();
+
+    /** Time in EchoProtocol.Task.perform(), from the decoded frame to the responses sent. */
+    public static final Histogram TASK_PERFORM = new Histogram();
+    /** Time in EchoObject.onReceiveRequest(), per addressed object. */
+    public static final Histogram OBJECT_REQUEST = new Histogram();
+    /** Time from the first transmission of a request to its response. */
+    public static final Histogram RESPONSE_LATENCY = new Histogram();
+
+    private static final Counter[] sRxESV = newCounters(256);
+    private static final Counter[] sTxESV = newCounters(256);
+    private static final ConcurrentHashMap<String, Histogram> sPeerLatencies = new ConcurrentHashMap<String, Histogram>();
+
+    private EchoMetrics() {
+    }
+
+    private static Counter[] newCounters(int n) {
+        Counter[] counters = new Counter[n];
+        for (int i = 0; i < n; i++) {
+            counters[i] = new Counter();
+        }
+        return counters;
+    }
+
+    public static void onReceiveFrame(EchoFrame frame, boolean tcp) {
+        (tcp ? TCP_RX_FRAMES : UDP_RX_FRAMES).increment();
+        sRxESV[frame.getESV() & 0xFF].increment();
+    }
+
+    public static void onSendFrame(EchoFrame frame, boolean tcp) {
+        (tcp ? TCP_TX_FRAMES : UDP_TX_FRAMES).increment();
+        sTxESV[frame.getESV() & 0xFF].increment();
+    }
+
+    public static void onResponse(String peer, long latencyNanos) {
+        RESPONSE_LATENCY.record(latencyNanos);
+        if (peer == null) {
+            return;
+        }
+        Histogram h = sPeerLatencies.get(peer);
+        if (h == null) {
+            if (sPeerLatencies.size() >= MAX_PEERS) {
+                return;
+            }
+            Histogram old = sPeerLatencies.putIfAbsent(peer, h = new Histogram());
+            if (old != null) {
+                h = old;
+            }
+        }
+        h.record(latencyNanos);
+    }
+
+    public static long getReceivedCount(byte esv) {
+        return sRxESV[esv & 0xFF].get();
+    }
+
+    public static long getSentCount(byte esv) {
+        return sTxESV[esv & 0xFF].get();
+    }
+
+    /**
+     * @return the response latency of the peer, or null if none has been
+     * recorded.
+     */
+    public static Histogram getResponseLatency(String peer) {
+        return sPeerLatencies.get(peer);
+    }
+
+    /**
+     * @return the number of tasks waiting for the TaskDispatcher.
+     */
+    public static int getTaskQueueSize() {
+        TaskDispatcher dispatcher = EchoSocket.getTaskDispatcher();
+        return (dispatcher == null) ? 0 : dispatcher.getQueueSize();
+    }
+
+    public static void reset() {
+        Counter[] counters = {
+                UDP_RX_FRAMES, UDP_TX_FRAMES, UDP_DECODE_FAILURES,
+                TCP_RX_FRAMES, TCP_TX_FRAMES, TCP_DECODE_FAILURES,
+                TASK_FAILURES, SENDER_REQUESTS, SENDER_UNSENDABLE, REQUEST_TIMEOUTS
+        };
+        for (Counter c : counters) {
+            c.reset();
+        }
+        for (int i = 0; i < 256; i++) {
+            sRxESV[i].reset();
+            sTxESV[i].reset();
+        }
+        TASK_PERFORM.reset();
+        OBJECT_REQUEST.reset();
+        RESPONSE_LATENCY.reset();
+        sPeerLatencies.clear();
+    }
+
+    public static Snapshot snapshot() {
+        Snapshot s = new Snapshot();
+        s.mCounters.put("udp.rx.frames", UDP_RX_FRAMES.get());
+        s.mCounters.put("udp.tx.frames", UDP_TX_FRAMES.get());
+        s.mCounters.put("udp.rx.decode_failures", UDP_DECODE_FAILURES.get());
+        s.mCounters.put("tcp.rx.frames", TCP_RX_FRAMES.get());
+        s.mCounters.put("tcp.tx.frames", TCP_TX_FRAMES.get());
+        s.mCounters.put("tcp.rx.decode_failures", TCP_DECODE_FAILURES.get());
+        s.mCounters.put("task.failures", TASK_FAILURES.get());
+        s.mCounters.put("task.queue", (long) getTaskQueueSize());
+        s.mCounters.put("sender.requests", SENDER_REQUESTS.get());
+        s.mCounters.put("sender.unsendable", SENDER_UNSENDABLE.get());
+        s.mCounters.put("request.timeouts", REQUEST_TIMEOUTS.get());
+        s.mCounters.put("request.pending", (long) EchoRequestTracker.getPendingCount());
+        for (int i = 0; i < 256; i++) {
+            long rx = sRxESV[i].get();
+            if (rx != 0) {
+                s.mCounters.put(String.format("rx.esv.%02x", i), rx);
+            }
+            long tx = sTxESV[i].get();
+            if (tx != 0) {
+                s.mCounters.put(String.format("tx.esv.%02x", i), tx);
+            }
+        }
+        s.mHistograms.put("task.perform", TASK_PERFORM.snapshot());
+        s.mHistograms.put("object.request", OBJECT_REQUEST.snapshot());
+        s.mHistograms.put("response.latency", RESPONSE_LATENCY.snapshot());
+        for (Map.Entry<String, Histogram> e : sPeerLatencies.entrySet()) {
+            s.mHistograms.put("response.latency." + e.getKey(), e.getValue().snapshot());
+        }
+        return s;
+    }
+
+    /**
+     * @return the current metrics, a line per counter and per histogram.
+     */
+    public static String toText() {
+        return snapshot().toString();
+    }
+
+    public static final class Counter {
+        private final LongAdder mValue = new LongAdder();
+
+        public void increment() {
+            mValue.increment();
+        }
+
+        public void add(long n) {
+            mValue.add(n);
+        }
+
+        public long get() {
+            return mValue.sum();
+        }
+
+        void reset() {
+            mValue.reset();
+        }
+    }
+
+    public static final class Histogram {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        // values under 2 * SUB_BUCKETS have a bucket each.
+        private static final int LINEAR = 2 * SUB_BUCKETS;
+        static final int BUCKETS = LINEAR + (64 - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+
+        private final AtomicLongArray mBuckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder mCount = new LongAdder();
+        private final LongAdder mSum = new LongAdder();
+        private final AtomicLong mMax = new AtomicLong();
+
+        public void record(long value) {
+            if (value < 0) {
+                value = 0;
+            }
+            mBuckets.incrementAndGet(index(value));
+            mCount.increment();
+            mSum.add(value);
+            long max;
+            while (value > (max = mMax.get())) {
+                if (mMax.compareAndSet(max, value)) {
+                    break;
+                }
+            }
+        }
+
+        static int index(long value) {
+            if (value < LINEAR) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return LINEAR + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + sub;
+        }
+
+        // the largest value of the bucket.
+        static long upperBound(int index) {
+            if (index < LINEAR) {
+                return index;
+            }
+            int exponent = (index - LINEAR) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+            long sub = (index - LINEAR) % SUB_BUCKETS;
+            long lower = (1L << exponent) + (sub << (exponent - SUB_BUCKET_BITS));
+            return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+        }
+
+        public long getCount() {
+            return mCount.sum();
+        }
+
+        public HistogramSnapshot snapshot() {
+            long[] buckets = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = mBuckets.get(i);
+                count += buckets[i];
+            }
+            long max = mMax.get();
+            return new HistogramSnapshot(count, mSum.sum(),
+                    percentile(buckets, count, 0.50, max),
+                    percentile(buckets, count, 0.90, max),
+                    percentile(buckets, count, 0.99, max), max);
+        }
+
+        private static long percentile(long[] buckets, long count, double q, long max) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(count * q);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                mBuckets.set(i, 0);
+            }
+            mCount.reset();
+            mSum.reset();
+            mMax.set(0);
+        }
+    }
+
+    public static final class HistogramSnapshot {
+        private final long mCount;
+        private final long mSum;
+        private final long mP50;
+        private final long mP90;
+        private final long mP99;
+        private final long mMax;
+
+        HistogramSnapshot(long count, long sum, long p50, long p90, long p99, long max) {
+            mCount = count;
+            mSum = sum;
+            mP50 = p50;
+            mP90 = p90;
+            mP99 = p99;
+            mMax = max;
+        }
+
+        public long getCount() {
+            return mCount;
+        }
+
+        public long getMean() {
+            return (mCount == 0) ? 0 : mSum / mCount;
+        }
+
+        public long getP50() {
+            return mP50;
+        }
+
+        public long getP90() {
+            return mP90;
+        }
+
+        public long getP99() {
+            return mP99;
+        }
+
+        public long getMax() {
+            return mMax;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + mCount + " mean=" + getMean() + " p50=" + mP50 + " p90=" + mP90
+                    + " p99=" + mP99 + " max=" + mMax;
+        }
+    }
+
+    public static final class Snapshot {
+        private final long mTime = System.currentTimeMillis();
+        private final TreeMap<String, Long> mCounters = new TreeMap<String, Long>();
+        private final TreeMap<String, HistogramSnapshot> mHistograms = new TreeMap<String, HistogramSnapshot>();
+
+        public long getTime() {
+            return mTime;
+        }
+
+        public Map<String, Long> getCounters() {
+            return mCounters;
+        }
+
+        public Map<String, HistogramSnapshot> getHistograms() {
+            return mHistograms;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, Long> e : mCounters.entrySet()) {
+                sb.append(e.getKey()).append(' ').append(e.getValue()).append('\n');
+            }
+            for (Map.Entry<String, HistogramSnapshot> e : mHistograms.entrySet()) {
+                sb.append(e.getKey()).append(' ').append(e.getValue()).append('\n');
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package com.sonycsl.echo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.device.DeviceObject;
+import com.sonycsl.echo.node.EchoNode;
+
+/**
+ * Polls properties of remote devices periodically.
+ * <br>
+ * A subscription is a class code, a set of EPCs and an interval. Every
+ * remote device of the class (including the ones found later) gets a GET
+ * for the EPCs once per interval. The EPCs of all subscriptions which are
+ * due for a device are packed into one frame (split at 255 EPCs), made
+ * with the Getter of the device, so the responses are dispatched to the
+ * Receiver of the device proxy like any other response.
+ * <br>
+ * The first poll of each device is delayed by a different fraction of the
+ * interval, so the requests to a fleet of devices are spread over the
+ * interval instead of being sent at once. A device which does not answer
+ * is polled less often: its interval is doubled on each timeout, up to
+ * {@link #MAX_BACKOFF} times, and halved again on each response. A device
+ * is never polled while its previous poll is waiting for the response.
+ * <br>
+ * Polls are scheduled on {@link EchoTimer#getDefault()} and sent from
+ * {@link EchoTimer#getExecutor()}, without a lock of the poller held.
+ */
+public final class EchoPoller {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoPoller.class.getSimpleName();
+
+    public static final int MAX_BACKOFF = 16;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 2000;
+
+    // the fractional parts of n * (golden ratio) are spread evenly over [0, 1).
+    private static final double PHASE_STEP = 0.6180339887498949;
+    // a subscription due within this part of its interval is sent with the others.
+    private static final int PACKING_DIVISOR = 8;
+
+    private final Object mLock = new Object();
+    // guarded by mLock.
+    private final List<Subscription> mSubscriptions = new ArrayList<Subscription>();
+    private final HashMap<String, Target> mTargets = new HashMap<String, Target>();
+    private int mTargetSequence;
+    private volatile long mTimeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private volatile long mRequestCount;
+    private volatile long mTimeoutCount;
+
+    public EchoPoller() {
+    }
+
+    /**
+     * Sets the time to wait for each poll. The wait is never longer than the
+     * interval of the subscriptions polled.
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("timeout must be positive: " + timeout);
+        }
+        mTimeoutMillis = unit.toMillis(timeout);
+    }
+
+    public long getTimeoutMillis() {
+        return mTimeoutMillis;
+    }
+
+    /**
+     * Polls the EPCs of every remote device of the class.
+     *
+     * @return the subscription, to cancel it.
+     */
+    public Subscription subscribe(short echoClassCode, byte[] epcs, long interval, TimeUnit unit) {
+        if (epcs == null || epcs.length == 0) {
+            throw new IllegalArgumentException("epcs must not be empty");
+        }
+        long intervalMillis = unit.toMillis(interval);
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("interval must be positive: " + interval);
+        }
+        Subscription subscription = new Subscription(echoClassCode, epcs.clone(), intervalMillis);
+        synchronized (mLock) {
+            mSubscriptions.add(subscription);
+        }
+        subscription.scan();
+        return subscription;
+    }
+
+    /**
+     * Cancels all subscriptions.
+     */
+    public void shutdown() {
+        List<Subscription> subscriptions;
+        synchronized (mLock) {
+            subscriptions = new ArrayList<Subscription>(mSubscriptions);
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.cancel();
+        }
+    }
+
+    public Subscription[] getSubscriptions() {
+        synchronized (mLock) {
+            return mSubscriptions.toArray(new Subscription[mSubscriptions.size()]);
+        }
+    }
+
+    /**
+     * @return the number of devices being polled.
+     */
+    public int getTargetCount() {
+        synchronized (mLock) {
+            return mTargets.size();
+        }
+    }
+
+    /**
+     * @return the number of GET frames sent.
+     */
+    public long getRequestCount() {
+        return mRequestCount;
+    }
+
+    /**
+     * @return the number of GET frames which were not answered in time.
+     */
+    public long getTimeoutCount() {
+        return mTimeoutCount;
+    }
+
+    /**
+     * @return how many times the interval of the device is stretched
+     *         because of timeouts, 1 if it is polled as subscribed and 0 if
+     *         it is not polled.
+     */
+    public int getBackoff(EchoObject device) {
+        synchronized (mLock) {
+            Target target = mTargets.get(getKey(device));
+            return (target == null) ? 0 : target.mBackoff;
+        }
+    }
+
+    private static String getKey(EchoObject device) {
+        return device.getNode().getAddressStr() + "/" + device.getEchoObjectCode();
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1000000;
+    }
+
+    // called with mLock held.
+    private void track(Subscription subscription, DeviceObject device) {
+        String key = getKey(device);
+        Target target = mTargets.get(key);
+        if (target == null) {
+            target = new Target(key, device, (mTargetSequence++ * PHASE_STEP) % 1.0);
+            mTargets.put(key, target);
+        }
+        target.add(subscription);
+    }
+
+    /**
+     * Periodic GET of a set of EPCs from every remote device of a class.
+     * Its scan for new devices runs once per interval.
+     */
+    public final class Subscription {
+        private final short mEchoClassCode;
+        private final byte[] mEPCs;
+        private final long mIntervalMillis;
+        private volatile boolean mCancelled;
+        private volatile EchoTimer.Timeout mScan;
+        private final Runnable mScanTask = new Runnable() {
+            @Override
+            public void run() {
+                scan();
+            }
+        };
+
+        Subscription(short echoClassCode, byte[] epcs, long intervalMillis) {
+            mEchoClassCode = echoClassCode;
+            mEPCs = epcs;
+            mIntervalMillis = intervalMillis;
+        }
+
+        public short getEchoClassCode() {
+            return mEchoClassCode;
+        }
+
+        public byte[] getEPCs() {
+            return mEPCs.clone();
+        }
+
+        public long getIntervalMillis() {
+            return mIntervalMillis;
+        }
+
+        public boolean isCancelled() {
+            return mCancelled;
+        }
+
+        /**
+         * Stops polling. A poll in flight still completes.
+         */
+        public void cancel() {
+            mCancelled = true;
+            EchoTimer.Timeout scan = mScan;
+            if (scan != null) {
+                scan.cancel();
+            }
+            synchronized (mLock) {
+                mSubscriptions.remove(this);
+            }
+        }
+
+        // finds the devices of the class.
+        void scan() {
+            if (mCancelled) {
+                return;
+            }
+            EchoNode[] nodes = Echo.getNodes();
+            synchronized (mLock) {
+                if (mCancelled) {
+                    return;
+                }
+                for (EchoNode node : nodes) {
+                    if (node.isSelfNode()) {
+                        continue;
+                    }
+                    for (DeviceObject device : node.getDevices(mEchoClassCode)) {
+                        track(this, device);
+                    }
+                }
+            }
+            mScan = EchoTimer.getDefault().schedule(mScanTask, mIntervalMillis, TimeUnit.MILLISECONDS);
+            if (mCancelled) {
+                mScan.cancel();
+            }
+        }
+    }
+
+    private static class Slot {
+        final Subscription mSubscription;
+        long mDue;
+
+        Slot(Subscription subscription, long due) {
+            mSubscription = subscription;
+            mDue = due;
+        }
+
+        long getSlack() {
+            return mSubscription.mIntervalMillis / PACKING_DIVISOR;
+        }
+    }
+
+    /**
+     * A device being polled. Its fields are guarded by mLock.
+     */
+    private class Target {
+        final String mKey;
+        final DeviceObject mDevice;
+        final double mPhase;
+        final List<Slot> mSlots = new ArrayList<Slot>();
+        List<Slot> mSent;
+        int mInFlight;
+        boolean mTimedOut;
+        int mBackoff = 1;
+        EchoTimer.Timeout mTimeout;
+        // the poll scheduled last, the others are stale.
+        long mSequence;
+
+        Target(String key, DeviceObject device, double phase) {
+            mKey = key;
+            mDevice = device;
+            mPhase = phase;
+        }
+
+        void add(Subscription subscription) {
+            for (Slot slot : mSlots) {
+                if (slot.mSubscription == subscription) {
+                    return;
+                }
+            }
+            long delay = (long) (subscription.mIntervalMillis * mPhase);
+            mSlots.add(new Slot(subscription, now() + delay));
+            if (mInFlight == 0) {
+                schedule();
+            }
+        }
+
+        boolean isAlive() {
+            EchoNode node = mDevice.getNode();
+            return node != null && Echo.getNode(node.getAddressStr()) == node
+                    && node.containsDevice(mDevice);
+        }
+
+        void poll(long sequence) {
+            ArrayList<EchoObject.Getter> getters = new ArrayList<EchoObject.Getter>();
+            EchoRetryPolicy policy;
+            synchronized (mLock) {
+                if (sequence != mSequence) {
+                    // rescheduled after the timer had handed this poll over.
+                    return;
+                }
+                mTimeout = null;
+                if (mInFlight > 0) {
+                    return;
+                }
+                Iterator<Slot> it = mSlots.iterator();
+                while (it.hasNext()) {
+                    if (it.next().mSubscription.mCancelled) {
+                        it.remove();
+                    }
+                }
+                if (mSlots.isEmpty() || !isAlive()) {
+                    mTargets.remove(mKey);
+                    return;
+                }
+
+                long now = now();
+                LinkedHashSet<Byte> epcs = new LinkedHashSet<Byte>();
+                List<Slot> sent = new ArrayList<Slot>();
+                long minInterval = Long.MAX_VALUE;
+                for (Slot slot : mSlots) {
+                    if (slot.mDue - slot.getSlack() > now) {
+                        continue;
+                    }
+                    for (byte epc : slot.mSubscription.mEPCs) {
+                        epcs.add(epc);
+                    }
+                    minInterval = Math.min(minInterval, slot.mSubscription.mIntervalMillis);
+                    sent.add(slot);
+                }
+                if (sent.isEmpty()) {
+                    schedule();
+                    return;
+                }
+                mSent = sent;
+                mTimedOut = false;
+
+                policy = EchoRetryPolicy.noRetry(
+                        Math.min(mTimeoutMillis, minInterval), TimeUnit.MILLISECONDS);
+                DeviceObject.Getter getter = null;
+                int count = 0;
+                for (Byte epc : epcs) {
+                    if (getter == null) {
+                        getter = mDevice.get();
+                        getters.add(getter);
+                    }
+                    getter.reqGetProperty(epc);
+                    if (++count == EchoFrame.MAX_PROPERTY_COUNT) {
+                        getter = null;
+                        count = 0;
+                    }
+                }
+                // one per request, and one held while sending, a future may complete at once.
+                mInFlight = getters.size() + 1;
+                mRequestCount += getters.size();
+            }
+            // sent without mLock, so the sends to the devices do not wait for each other.
+            for (EchoObject.Getter g : getters) {
+                send(g, policy);
+            }
+            onComplete(null);
+        }
+
+        private void send(EchoObject.Getter getter, EchoRetryPolicy policy) {
+            CompletableFuture<EchoFrame> future;
+            try {
+                future = getter.sendAsync(policy);
+            } catch (RuntimeException e) {
+                future = new CompletableFuture<EchoFrame>();
+                future.completeExceptionally(e);
+            }
+            future.whenComplete(new BiConsumer<EchoFrame, Throwable>() {
+                @Override
+                public void accept(EchoFrame response, Throwable t) {
+                    onComplete(t);
+                }
+            });
+        }
+
+        void onComplete(Throwable t) {
+            synchronized (mLock) {
+                if (t instanceof CompletionException && t.getCause() != null) {
+                    t = t.getCause();
+                }
+                // other failures (nothing left to request, socket closed)
+                // are not the device's fault.
+                if (t instanceof TimeoutException) {
+                    mTimeoutCount++;
+                    mTimedOut = true;
+                }
+                if (--mInFlight > 0) {
+                    return;
+                }
+                if (mTimedOut) {
+                    mBackoff = Math.min(mBackoff * 2, MAX_BACKOFF);
+                } else if (mBackoff > 1) {
+                    mBackoff /= 2;
+                }
+                long now = now();
+                for (Slot slot : mSent) {
+                    // no catch-up burst after a long wait.
+                    slot.mDue = Math.max(slot.mDue + slot.mSubscription.mIntervalMillis * mBackoff,
+                            now);
+                }
+                mSent = null;
+                schedule();
+            }
+        }
+
+        // called with mLock held.
+        void schedule() {
+            if (mSlots.isEmpty()) {
+                return;
+            }
+            long due = Long.MAX_VALUE;
+            for (Slot slot : mSlots) {
+                due = Math.min(due, slot.mDue);
+            }
+            if (mTimeout != null) {
+                mTimeout.cancel();
+            }
+            final long sequence = ++mSequence;
+            mTimeout = EchoTimer.getDefault().scheduleOnExecutor(new Runnable() {
+                @Override
+                public void run() {
+                    poll(sequence);
+                }
+            }, due - now(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sonycsl.echo;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * When a remote node or object was seen, and whether it is currently
+ * regarded as present.
+ * <br>
+ * Every frame from a node (or an instance list which lists an object)
+ * marks it seen. It is found on the first sighting and stays found until
+ * {@link EchoDiscovery} expires it after a silence; the next sighting
+ * finds it again. onFound is called on these transitions only.
+ * <br>
+ * The requests to it which timed out in a row are counted as well; a
+ * sighting resets the count.
+ */
+public final class EchoPresence {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoPresence.class.getSimpleName();
+
+    private final AtomicBoolean mFound = new AtomicBoolean(false);
+    private final AtomicInteger mConsecutiveTimeouts = new AtomicInteger();
+    private volatile long mFirstSeenTime;
+    private volatile long mLastSeenTime;
+    private volatile long mLastSeenNanos = System.nanoTime();
+
+    /**
+     * Records a sighting.
+     *
+     * @return true if this call found it (it was not found before).
+     */
+    public boolean seen() {
+        long now = System.currentTimeMillis();
+        mLastSeenNanos = System.nanoTime();
+        mLastSeenTime = now;
+        if (mConsecutiveTimeouts.get() != 0) {
+            mConsecutiveTimeouts.set(0);
+        }
+        if (!mFound.compareAndSet(false, true)) {
+            return false;
+        }
+        if (mFirstSeenTime == 0) {
+            mFirstSeenTime = now;
+        }
+        return true;
+    }
+
+    /**
+     * @return true if this call expired it (it was found before).
+     */
+    public boolean expire() {
+        return mFound.compareAndSet(true, false);
+    }
+
+    /**
+     * Records a request which was not answered.
+     *
+     * @return the number of timeouts since the last sighting.
+     */
+    public int onTimeout() {
+        return mConsecutiveTimeouts.incrementAndGet();
+    }
+
+    public int getConsecutiveTimeouts() {
+        return mConsecutiveTimeouts.get();
+    }
+
+    public boolean isFound() {
+        return mFound.get();
+    }
+
+    /**
+     * @return wall clock time of the first sighting, 0 if never seen.
+     */
+    public long getFirstSeenTime() {
+        return mFirstSeenTime;
+    }
+
+    /**
+     * @return wall clock time of the last sighting, 0 if never seen.
+     */
+    public long getLastSeenTime() {
+        return mLastSeenTime;
+    }
+
+    /**
+     * @return time since the last sighting (or the creation).
+     */
+    public long getSilentMillis() {
+        return (System.nanoTime() - mLastSeenNanos) / 1000000;
+    }
+
+    @Override
+    public String toString() {
+        return "EchoPresence[found:" + isFound() + ",first:" + mFirstSeenTime
+                + ",last:" + mLastSeenTime + ",timeouts:" + getConsecutiveTimeouts() + "]";
+    }
+}
@@ -1,5 +1,9 @@
 package com.sonycsl.echo;
 
+/**
+ * A property of a frame. Frames and their copies share properties,
+ * so edt must not be modified after the property is created.
+ */
 public class EchoProperty {
 
 	public final byte epc;
@@ -0,0 +1,263 @@
+package com.sonycsl.echo;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.node.EchoNode;
+
+/**
+ * Sends requests and matches received responses to them.
+ * <br>
+ * A request is registered by its TID before it is sent. A received frame
+ * completes the request if it has the same TID, comes from the destination
+ * of the request (any node for a multicast request) and its ESV is a
+ * response to the ESV of the request.
+ * <br>
+ * If no response arrives in time, the request is sent again with the same
+ * TID as the {@link EchoRetryPolicy} says. When the last wait expires the
+ * future fails with TimeoutException and
+ * {@link Echo.EventListener#onRequestTimeout(EchoFrame)} is called.
+ * The waits run on {@link EchoTimer#getDefault()}, and the retransmissions
+ * and timeouts on {@link EchoTimer#getExecutor()}, so a slow send or
+ * listener does not hold the timer.
+ * <br>
+ * Futures are completed on the thread which performs the received frame
+ * (or on the executor), so long running dependent actions should use
+ * the async variants of CompletableFuture.
+ */
+public final class EchoRequestTracker {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoRequestTracker.class.getSimpleName();
+
+    private static final ConcurrentHashMap<Short, Request> sRequests = new ConcurrentHashMap<Short, Request>();
+
+    private static volatile EchoRetryPolicy sDefaultRetryPolicy = EchoRetryPolicy.DEFAULT;
+
+    private EchoRequestTracker() {
+    }
+
+    public static void setDefaultRetryPolicy(EchoRetryPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("policy must not be null");
+        }
+        sDefaultRetryPolicy = policy;
+    }
+
+    public static EchoRetryPolicy getDefaultRetryPolicy() {
+        return sDefaultRetryPolicy;
+    }
+
+    /**
+     * @return true if a response is expected for the ESV.
+     */
+    public static boolean isResponseRequired(byte esv) {
+        switch (esv) {
+            case EchoFrame.ESV_SETC:
+            case EchoFrame.ESV_GET:
+            case EchoFrame.ESV_INF_REQ:
+            case EchoFrame.ESV_INFC:
+            case EchoFrame.ESV_SET_GET:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Gives the request a new TID and sends it.
+     *
+     * @return a future completed with the response. A request which is not
+     *         answered on success (SetI, INF) is completed with null when it
+     *         is sent. It fails with TimeoutException if no response arrives,
+     *         and with IOException if the request cannot be sent. Cancelling
+     *         it forgets the request.
+     */
+    public static CompletableFuture<EchoFrame> send(EchoFrame request, boolean tcp,
+            EchoRetryPolicy policy) {
+        request.setTID(EchoSocket.nextTID());
+        if (!isResponseRequired(request.getESV())) {
+            CompletableFuture<EchoFrame> future = new CompletableFuture<EchoFrame>();
+            try {
+                transmit(request, tcp);
+                future.complete(null);
+            } catch (IOException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        final Request r = new Request(request, tcp, policy);
+        final Short tid = request.getTID();
+        Request old = sRequests.put(tid, r);
+        if (old != null) {
+            // the TID wrapped around while the old request was still waiting.
+            old.mFuture.completeExceptionally(new TimeoutException("TID " + tid + " was reused"));
+        }
+        r.mFuture.whenComplete(new BiConsumer<EchoFrame, Throwable>() {
+            @Override
+            public void accept(EchoFrame frame, Throwable t) {
+                // completed, timed out or cancelled.
+                EchoTimer.Timeout timeout = r.mTimeout;
+                if (timeout != null) {
+                    timeout.cancel();
+                }
+                sRequests.remove(tid, r);
+            }
+        });
+        // registered before sending, the response may arrive at once.
+        r.transmit();
+        return r.mFuture;
+    }
+
+    /**
+     * Called for each received frame.
+     *
+     * @return true if the frame completed a request.
+     */
+    public static boolean onReceiveResponse(EchoFrame response) {
+        if (sRequests.isEmpty()) {
+            return false;
+        }
+        Request r = sRequests.get(response.getTID());
+        if (r == null || !r.matches(response)) {
+            return false;
+        }
+        if (!r.mFuture.complete(response)) {
+            return false;
+        }
+        EchoMetrics.onResponse(response.getSrcEchoAddress(), System.nanoTime() - r.mSentNanos);
+        return true;
+    }
+
+    /**
+     * @return the number of requests waiting for a response.
+     */
+    public static int getPendingCount() {
+        return sRequests.size();
+    }
+
+    /**
+     * Cancels all waiting requests. Called when the socket is closed.
+     */
+    public static void cancelAll() {
+        for (Request r : sRequests.values()) {
+            r.mFuture.cancel(false);
+        }
+    }
+
+    private static void transmit(EchoFrame frame, boolean tcp) throws IOException {
+        if (tcp) {
+            EchoSocket.sendTCPFrame(frame);
+        } else {
+            EchoSocket.sendUDPFrame(frame);
+        }
+    }
+
+    private static class Request implements Runnable {
+        final EchoFrame mFrame;
+        final boolean mTCP;
+        final EchoRetryPolicy mPolicy;
+        final CompletableFuture<EchoFrame> mFuture = new CompletableFuture<EchoFrame>();
+        // touched by the sender, then by one expired wait after another.
+        int mAttempt;
+        final long mSentNanos = System.nanoTime();
+        volatile EchoTimer.Timeout mTimeout;
+
+        Request(EchoFrame frame, boolean tcp, EchoRetryPolicy policy) {
+            mFrame = frame;
+            mTCP = tcp;
+            mPolicy = policy;
+        }
+
+        void transmit() {
+            if (mFuture.isDone()) {
+                return;
+            }
+            mTimeout = EchoTimer.getDefault().scheduleOnExecutor(this,
+                    mPolicy.getTimeoutMillis(mAttempt), TimeUnit.MILLISECONDS);
+            try {
+                EchoRequestTracker.transmit(mFrame, mTCP);
+            } catch (IOException e) {
+                mFuture.completeExceptionally(e);
+            }
+            if (mFuture.isDone()) {
+                // completed while scheduling.
+                mTimeout.cancel();
+            }
+        }
+
+        @Override
+        public void run() {
+            // no response in time
+            if (mFuture.isDone()) {
+                return;
+            }
+            mAttempt++;
+            if (mAttempt < mPolicy.getMaxAttempts()) {
+                transmit();
+                return;
+            }
+            if (mFuture.completeExceptionally(new TimeoutException("no response for TID "
+                    + mFrame.getTID() + " after " + mAttempt + " transmissions"))) {
+                countTimeout();
+                EchoMetrics.REQUEST_TIMEOUTS.increment();
+                Echo.getEventListener().onRequestTimeout(mFrame);
+            }
+        }
+
+        // for the liveness of the destination, see EchoDiscovery.
+        private void countTimeout() {
+            String dst = mFrame.getDstEchoAddress();
+            if (EchoSocket.MULTICAST_ADDRESS.equals(dst)) {
+                return;
+            }
+            EchoNode node = Echo.getNode(dst);
+            if (node == null || node.isSelfNode()) {
+                return;
+            }
+            node.getPresence().onTimeout();
+            if (mFrame.getDstEchoInstanceCode() != 0) {
+                EchoObject eoj = node.getInstance(mFrame.getDstEchoClassCode(),
+                        mFrame.getDstEchoInstanceCode());
+                if (eoj != null) {
+                    eoj.getPresence().onTimeout();
+                }
+            }
+        }
+
+        boolean matches(EchoFrame response) {
+            String dst = mFrame.getDstEchoAddress();
+            if (!EchoSocket.MULTICAST_ADDRESS.equals(dst)
+                    && !dst.equals(response.getSrcEchoAddress())) {
+                return false;
+            }
+            if (response.getSrcEchoClassCode() != mFrame.getDstEchoClassCode()) {
+                return false;
+            }
+            if (mFrame.getDstEchoInstanceCode() != 0
+                    && response.getSrcEchoInstanceCode() != mFrame.getDstEchoInstanceCode()) {
+                return false;
+            }
+            byte esv = response.getESV();
+            switch (mFrame.getESV()) {
+                case EchoFrame.ESV_SETC:
+                    return esv == EchoFrame.ESV_SET_RES || esv == EchoFrame.ESV_SETC_SNA;
+                case EchoFrame.ESV_GET:
+                    return esv == EchoFrame.ESV_GET_RES || esv == EchoFrame.ESV_GET_SNA;
+                case EchoFrame.ESV_INF_REQ:
+                    return esv == EchoFrame.ESV_INF || esv == EchoFrame.ESV_INF_SNA;
+                case EchoFrame.ESV_INFC:
+                    return esv == EchoFrame.ESV_INFC_RES;
+                case EchoFrame.ESV_SET_GET:
+                    return esv == EchoFrame.ESV_SET_GET_RES || esv == EchoFrame.ESV_SET_GET_SNA;
+                default:
+                    return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.sonycsl.echo;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long to wait for the response of a request, and how many times to
+ * send it again with the same TID when no response arrives.
+ * <br>
+ * The wait after the n-th transmission (n from 0) is
+ * {@code min(initialTimeout * backoffMultiplier^n, maxTimeout)}.
+ */
+public final class EchoRetryPolicy {
+
+    /**
+     * 3 transmissions, waiting 1, 2 and 4 seconds.
+     */
+    public static final EchoRetryPolicy DEFAULT = new EchoRetryPolicy(3, 1000, 2.0, 4000);
+
+    private final int mMaxAttempts;
+    private final long mInitialTimeoutMillis;
+    private final double mBackoffMultiplier;
+    private final long mMaxTimeoutMillis;
+
+    /**
+     * @param maxAttempts number of transmissions including the first one.
+     */
+    public EchoRetryPolicy(int maxAttempts, long initialTimeoutMillis, double backoffMultiplier,
+            long maxTimeoutMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        if (initialTimeoutMillis < 0 || maxTimeoutMillis < initialTimeoutMillis) {
+            throw new IllegalArgumentException("invalid timeout: " + initialTimeoutMillis
+                    + ", " + maxTimeoutMillis);
+        }
+        if (backoffMultiplier < 1.0) {
+            throw new IllegalArgumentException("backoffMultiplier must be 1.0 or more: "
+                    + backoffMultiplier);
+        }
+        mMaxAttempts = maxAttempts;
+        mInitialTimeoutMillis = initialTimeoutMillis;
+        mBackoffMultiplier = backoffMultiplier;
+        mMaxTimeoutMillis = maxTimeoutMillis;
+    }
+
+    /**
+     * One transmission, waiting for the timeout.
+     */
+    public static EchoRetryPolicy noRetry(long timeout, TimeUnit unit) {
+        long millis = unit.toMillis(timeout);
+        return new EchoRetryPolicy(1, millis, 1.0, millis);
+    }
+
+    public int getMaxAttempts() {
+        return mMaxAttempts;
+    }
+
+    /**
+     * @param attempt 0 for the first transmission.
+     * @return the time to wait for the response of the transmission.
+     */
+    public long getTimeoutMillis(int attempt) {
+        double timeout = mInitialTimeoutMillis * Math.pow(mBackoffMultiplier, attempt);
+        if (timeout >= mMaxTimeoutMillis) {
+            return mMaxTimeoutMillis;
+        }
+        return (long) timeout;
+    }
+
+    /**
+     * @return the time from the first transmission until the request times out.
+     */
+    public long getTotalTimeoutMillis() {
+        long total = 0;
+        for (int i = 0; i < mMaxAttempts; i++) {
+            total += getTimeoutMillis(i);
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "EchoRetryPolicy[attempts:" + mMaxAttempts + ",timeout:" + mInitialTimeoutMillis
+                + "ms,backoff:" + mBackoffMultiplier + ",max:" + mMaxTimeoutMillis + "ms]";
+    }
+}
@@ -1,14 +1,14 @@
 
 package com.sonycsl.echo;
 
-import com.sonycsl.echo.protocol.EchoProtocol;
 import com.sonycsl.echo.protocol.EchoProtocol.Task;
 import com.sonycsl.echo.protocol.EchoTCPProtocol;
+import com.sonycsl.echo.protocol.EchoTaskDispatcher;
 import com.sonycsl.echo.protocol.EchoUDPProtocol;
+import com.sonycsl.echo.protocol.TaskDispatcher;
 
 import java.io.IOException;
 import java.net.NetworkInterface;
-import java.util.concurrent.LinkedBlockingQueue;
 
 public final class EchoSocket {
     @SuppressWarnings("unused")
@@ -17,19 +17,38 @@ public final class EchoSocket {
     public static final String SELF_ADDRESS = "127.0.0.1";
     public static final String MULTICAST_ADDRESS = "224.0.23.0";
 
-    protected static LinkedBlockingQueue<EchoProtocol.Task> sTaskQueue = new LinkedBlockingQueue<EchoProtocol.Task>();
+    private static volatile TaskDispatcher sTaskDispatcher = new EchoTaskDispatcher();
+    private static boolean sTaskDispatcherStarted;
 
-    public static synchronized void enqueueTask(Task task) {
-        sTaskQueue.offer(task);
+    public static void enqueueTask(Task task) {
+        sTaskDispatcher.dispatch(task);
+    }
+
+    /**
+     * Replaces the dispatcher which performs received tasks.
+     * If the socket is open, the old dispatcher is stopped and the new one is started.
+     * Tasks still queued in the old dispatcher are discarded.
+     */
+    public static synchronized void setTaskDispatcher(TaskDispatcher dispatcher) {
+        if (dispatcher == null) {
+            throw new IllegalArgumentException("dispatcher must not be null");
+        }
+        if (sTaskDispatcherStarted) {
+            sTaskDispatcher.stop();
+            dispatcher.start();
+        }
+        sTaskDispatcher = dispatcher;
+    }
+
+    public static TaskDispatcher getTaskDispatcher() {
+        return sTaskDispatcher;
     }
 
     private static EchoUDPProtocol sUDPProtocol = new EchoUDPProtocol();
     private static EchoTCPProtocol sTCPProtocol = new EchoTCPProtocol();
 
     private static Thread udpThread;
-    private static Thread sTaskPerformerThread;
     private static short sNextTID = 0;
-    private static boolean fPerformActive;
 
     private EchoSocket() {
     }
@@ -46,7 +65,7 @@ public final class EchoSocket {
         startReceiverThread();
     }
 
-    private static void startReceiverThread() {
+    private static synchronized void startReceiverThread() {
         if (udpThread == null) {
             udpThread = new Thread(new Runnable() {
                 @Override
@@ -60,22 +79,9 @@ public final class EchoSocket {
             udpThread.start();
         }
 
-        if (sTaskPerformerThread == null) {
-            fPerformActive = true;
-            sTaskPerformerThread = new Thread(new Runnable() {
-                @Override
-                public void run() {
-                    while (fPerformActive) {
-                        try {
-                            // System.out.println( "perform" );
-                            sTaskQueue.take().perform();
-                        } catch (InterruptedException e) {
-                            // e.printStackTrace();
-                        }
-                    }
-                }
-            });
-            sTaskPerformerThread.start();
+        if (!sTaskDispatcherStarted) {
+            sTaskDispatcher.start();
+            sTaskDispatcherStarted = true;
         }
     }
 
@@ -83,9 +89,10 @@ public final class EchoSocket {
         sTCPProtocol.closeTCP();
         sUDPProtocol.closeUDP();
         stopReceiverThread();
+        EchoRequestTracker.cancelAll();
     }
 
-    private static void stopReceiverThread() {
+    private static synchronized void stopReceiverThread() {
         if (udpThread != null) {
             udpThread.interrupt();
             try {
@@ -95,14 +102,9 @@ public final class EchoSocket {
             udpThread = null;
         }
 
-        if (sTaskPerformerThread != null) {
-            fPerformActive = false;
-            sTaskPerformerThread.interrupt();
-            try {
-                sTaskPerformerThread.join();
-            } catch (Exception e) {
-            }
-            sTaskPerformerThread = null;
+        if (sTaskDispatcherStarted) {
+            sTaskDispatcher.stop();
+            sTaskDispatcherStarted = false;
         }
     }
 
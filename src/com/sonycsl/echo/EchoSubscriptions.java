@@ -0,0 +1,406 @@
+package com.sonycsl.echo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.node.EchoNode;
+
+/**
+ * Subscriptions to the events of some objects only.
+ * <br>
+ * An EventListener is called for every event and filters in its own code.
+ * A subscription names the event type and, optionally, the class of the
+ * object, the EPC and the address of the node; the subscriptions are
+ * indexed by type, class code and EPC, so an event costs a couple of
+ * array lookups and the handlers of the other subscriptions are never
+ * called. For example, the INFs of the power distribution board meterings:
+ * <pre>
+ * EchoSubscriptions.subscribe(
+ *         new EchoSubscriptions.Filter(EchoSubscriptions.Type.ON_INFORM_PROPERTY)
+ *                 .classCode((short) 0x0287), handler);
+ * </pre>
+ * The handler is called on the thread of the event, or by the executor
+ * given to subscribe().
+ */
+public final class EchoSubscriptions {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoSubscriptions.class.getSimpleName();
+
+    public enum Type {
+        ON_NEW_NODE(false, false),
+        ON_FOUND_NODE(false, false),
+        ON_LOST_NODE(false, false),
+        ON_NEW_ECHO_OBJECT(true, false),
+        ON_FOUND_ECHO_OBJECT(true, false),
+        ON_LOST_ECHO_OBJECT(true, false),
+        ON_SET_PROPERTY(true, true),
+        ON_GET_PROPERTY(true, true),
+        ON_INFORM_PROPERTY(true, true);
+
+        final boolean mHasObject;
+        final boolean mHasProperty;
+
+        Type(boolean hasObject, boolean hasProperty) {
+            mHasObject = hasObject;
+            mHasProperty = hasProperty;
+        }
+    }
+
+    private static final int ANY_CLASS = -1;
+    // the slot of the subscriptions to any EPC.
+    private static final int ANY_EPC = 256;
+    private static final int TYPES = Type.values().length;
+
+    private static final Object sLock = new Object();
+    // guarded by sLock.
+    private static final List<Subscription> sSubscriptions = new ArrayList<Subscription>();
+    // rebuilt on every change, read without a lock.
+    private static volatile Index sIndex = new Index(sSubscriptions);
+
+    private EchoSubscriptions() {
+    }
+
+    public interface Handler {
+        void onEvent(Event event);
+    }
+
+    /**
+     * What to subscribe to. The class code, EPC and address which are not
+     * set match any.
+     */
+    public static final class Filter {
+        final Type mType;
+        int mClassCode = ANY_CLASS;
+        int mEpc = ANY_EPC;
+        String mAddress;
+
+        public Filter(Type type) {
+            if (type == null) {
+                throw new IllegalArgumentException("type must not be null");
+            }
+            mType = type;
+        }
+
+        public Filter classCode(short echoClassCode) {
+            if (!mType.mHasObject) {
+                throw new IllegalArgumentException(mType + " has no object");
+            }
+            mClassCode = echoClassCode & 0xFFFF;
+            return this;
+        }
+
+        public Filter epc(byte epc) {
+            if (!mType.mHasProperty) {
+                throw new IllegalArgumentException(mType + " has no property");
+            }
+            mEpc = epc & 0xFF;
+            return this;
+        }
+
+        public Filter address(String address) {
+            mAddress = address;
+            return this;
+        }
+    }
+
+    public static final class Event {
+        private final Type mType;
+        private final EchoNode mNode;
+        private final EchoObject mEoj;
+        private final short mTid;
+        private final byte mEsv;
+        private final EchoProperty mProperty;
+        private final boolean mSuccess;
+
+        Event(Type type, EchoNode node, EchoObject eoj, short tid, byte esv,
+                EchoProperty property, boolean success) {
+            mType = type;
+            mNode = node;
+            mEoj = eoj;
+            mTid = tid;
+            mEsv = esv;
+            mProperty = property;
+            mSuccess = success;
+        }
+
+        public Type getType() {
+            return mType;
+        }
+
+        public EchoNode getNode() {
+            return mNode;
+        }
+
+        /**
+         * @return null for the events of nodes.
+         */
+        public EchoObject getEchoObject() {
+            return mEoj;
+        }
+
+        public short getTid() {
+            return mTid;
+        }
+
+        public byte getEsv() {
+            return mEsv;
+        }
+
+        /**
+         * @return null except for the events of properties.
+         */
+        public EchoProperty getProperty() {
+            return mProperty;
+        }
+
+        public boolean isSuccess() {
+            return mSuccess;
+        }
+    }
+
+    public static final class Subscription {
+        private final Filter mFilter;
+        private final Handler mHandler;
+        private final Executor mExecutor;
+        private volatile boolean mCancelled;
+
+        Subscription(Filter filter, Handler handler, Executor executor) {
+            mFilter = filter;
+            mHandler = handler;
+            mExecutor = executor;
+        }
+
+        public void cancel() {
+            unsubscribe(this);
+        }
+
+        public boolean isCancelled() {
+            return mCancelled;
+        }
+
+        public Type getType() {
+            return mFilter.mType;
+        }
+
+        private void deliver(final Event event) {
+            if (mCancelled) {
+                return;
+            }
+            if (mExecutor == null) {
+                call(event);
+                return;
+            }
+            mExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (!mCancelled) {
+                        call(event);
+                    }
+                }
+            });
+        }
+
+        private void call(Event event) {
+            try {
+                mHandler.onEvent(event);
+            } catch (RuntimeException e) {
+                try {
+                    Echo.getEventListener().onCatchException(e);
+                } catch (Exception ex) {
+                }
+            }
+        }
+    }
+
+    public static Subscription subscribe(Filter filter, Handler handler) {
+        return subscribe(filter, handler, null);
+    }
+
+    /**
+     * @param executor runs the handler, or null to call it on the thread
+     * of the event.
+     */
+    public static Subscription subscribe(Filter filter, Handler handler, Executor executor) {
+        if (filter == null || handler == null) {
+            throw new IllegalArgumentException("filter and handler must not be null");
+        }
+        // the filter may be changed by the caller afterwards.
+        Filter copy = new Filter(filter.mType);
+        copy.mClassCode = filter.mClassCode;
+        copy.mEpc = filter.mEpc;
+        copy.mAddress = filter.mAddress;
+        Subscription subscription = new Subscription(copy, handler, executor);
+        synchronized (sLock) {
+            sSubscriptions.add(subscription);
+            sIndex = new Index(sSubscriptions);
+        }
+        return subscription;
+    }
+
+    public static void unsubscribe(Subscription subscription) {
+        synchronized (sLock) {
+            subscription.mCancelled = true;
+            if (sSubscriptions.remove(subscription)) {
+                sIndex = new Index(sSubscriptions);
+            }
+        }
+    }
+
+    /**
+     * Cancels all the subscriptions. Called by Echo.clear().
+     */
+    public static void clear() {
+        synchronized (sLock) {
+            for (Subscription s : sSubscriptions) {
+                s.mCancelled = true;
+            }
+            sSubscriptions.clear();
+            sIndex = new Index(sSubscriptions);
+        }
+    }
+
+    public static int getSubscriptionCount() {
+        synchronized (sLock) {
+            return sSubscriptions.size();
+        }
+    }
+
+    /**
+     * @return true if an event of the type may have a subscriber.
+     */
+    public static boolean hasSubscribers(Type type) {
+        return sIndex.mCounts[type.ordinal()] != 0;
+    }
+
+    static void dispatch(Type type, EchoNode node) {
+        if (sIndex.mCounts[type.ordinal()] == 0) {
+            return;
+        }
+        dispatch(type, node, null, (short) 0, (byte) 0, null, false);
+    }
+
+    static void dispatch(Type type, EchoObject eoj) {
+        if (sIndex.mCounts[type.ordinal()] == 0) {
+            return;
+        }
+        dispatch(type, eoj.getNode(), eoj, (short) 0, (byte) 0, null, false);
+    }
+
+    static void dispatch(Type type, EchoObject eoj, short tid, byte esv, EchoProperty property,
+            boolean success) {
+        if (sIndex.mCounts[type.ordinal()] == 0) {
+            return;
+        }
+        dispatch(type, eoj.getNode(), eoj, tid, esv, property, success);
+    }
+
+    private static void dispatch(Type type, EchoNode node, EchoObject eoj, short tid, byte esv,
+            EchoProperty property, boolean success) {
+        Index index = sIndex;
+        int t = type.ordinal();
+        int[] classCodes = index.mClassCodes[t];
+        Event event = null;
+        String address = null;
+        // the subscriptions to any class, then to the class of the object.
+        for (int c = 0; c < 2; c++) {
+            int classCode = ANY_CLASS;
+            if (c == 1) {
+                if (eoj == null) {
+                    break;
+                }
+                classCode = eoj.getEchoClassCode() & 0xFFFF;
+            }
+            int ci = Arrays.binarySearch(classCodes, classCode);
+            if (ci < 0) {
+                continue;
+            }
+            Subscription[][] epcs = index.mTables[t][ci];
+            for (int e = 0; e < 2; e++) {
+                int slot = ANY_EPC;
+                if (e == 1) {
+                    if (property == null) {
+                        break;
+                    }
+                    slot = property.epc & 0xFF;
+                }
+                Subscription[] subscriptions = epcs[slot];
+                if (subscriptions == null) {
+                    continue;
+                }
+                for (Subscription s : subscriptions) {
+                    if (s.mFilter.mAddress != null) {
+                        if (address == null) {
+                            address = (node == null) ? "" : node.getAddressStr();
+                        }
+                        if (!s.mFilter.mAddress.equals(address)) {
+                            continue;
+                        }
+                    }
+                    if (event == null) {
+                        event = new Event(type, node, eoj, tid, esv, property, success);
+                    }
+                    s.deliver(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * [type] -> sorted class codes (ANY_CLASS first), and
+     * [type][class index][EPC or ANY_EPC] -> subscriptions.
+     */
+    private static final class Index {
+        final int[] mCounts = new int[TYPES];
+        final int[][] mClassCodes = new int[TYPES][];
+        final Subscription[][][][] mTables = new Subscription[TYPES][][][];
+
+        Index(List<Subscription> subscriptions) {
+            for (int t = 0; t < TYPES; t++) {
+                int[] codes = new int[subscriptions.size()];
+                int n = 0;
+                for (Subscription s : subscriptions) {
+                    if (s.mFilter.mType.ordinal() == t) {
+                        codes[n++] = s.mFilter.mClassCode;
+                    }
+                }
+                mCounts[t] = n;
+                codes = distinct(codes, n);
+                mClassCodes[t] = codes;
+                mTables[t] = new Subscription[codes.length][][];
+                for (Subscription s : subscriptions) {
+                    if (s.mFilter.mType.ordinal() != t) {
+                        continue;
+                    }
+                    int ci = Arrays.binarySearch(codes, s.mFilter.mClassCode);
+                    if (mTables[t][ci] == null) {
+                        mTables[t][ci] = new Subscription[257][];
+                    }
+                    Subscription[][] epcs = mTables[t][ci];
+                    Subscription[] old = epcs[s.mFilter.mEpc];
+                    if (old == null) {
+                        epcs[s.mFilter.mEpc] = new Subscription[] { s };
+                    } else {
+                        Subscription[] grown = Arrays.copyOf(old, old.length + 1);
+                        grown[old.length] = s;
+                        epcs[s.mFilter.mEpc] = grown;
+                    }
+                }
+            }
+        }
+
+        private static int[] distinct(int[] values, int count) {
+            int[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            int n = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (n == 0 || sorted[n - 1] != sorted[i]) {
+                    sorted[n++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, n);
+        }
+    }
+}
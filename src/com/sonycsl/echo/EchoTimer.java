@@ -0,0 +1,270 @@
+package com.sonycsl.echo;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timer wheel.
+ * <br>
+ * One thread advances the wheel every tick and runs the tasks whose
+ * deadline has passed, so thousands of request timeouts cost one thread
+ * and O(1) to schedule and to cancel. Deadlines are rounded up to the
+ * tick. Tasks run on the timer thread and must be short; a task which
+ * sends or calls listeners is scheduled with
+ * {@link #scheduleOnExecutor(Runnable, long, TimeUnit)} and runs on
+ * {@link #getExecutor()} instead.
+ */
+public final class EchoTimer {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoTimer.class.getSimpleName();
+
+    public static final long DEFAULT_TICK_MILLIS = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final EchoTimer sDefault = new EchoTimer("EchoTimer",
+            DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+
+    private static final long EXECUTOR_KEEP_ALIVE_SECONDS = 60;
+    private static ThreadPoolExecutor sExecutor;
+
+    private final String mName;
+    private final long mTickNanos;
+    private final int mMask;
+    // buckets are touched by the timer thread only.
+    private final ArrayList<Timeout>[] mWheel;
+    private final ConcurrentLinkedQueue<Timeout> mNewTimeouts = new ConcurrentLinkedQueue<Timeout>();
+    private final long mStartTime = System.nanoTime();
+    private long mTick;
+    private Thread mThread;
+
+    /**
+     * The timer shared by the library.
+     */
+    public static EchoTimer getDefault() {
+        return sDefault;
+    }
+
+    /**
+     * The threads which run the tasks of {@link #scheduleOnExecutor}, one
+     * per processor (2 at least), created on demand. A slow task holds one
+     * of them, not the timer.
+     */
+    public static synchronized Executor getExecutor() {
+        if (sExecutor == null) {
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            final AtomicInteger count = new AtomicInteger();
+            sExecutor = new ThreadPoolExecutor(threads, threads,
+                    EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "EchoTimerExecutor-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            sExecutor.allowCoreThreadTimeOut(true);
+        }
+        return sExecutor;
+    }
+
+    /**
+     * @param wheelSize number of buckets, rounded up to a power of 2.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public EchoTimer(String name, long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize out of range: " + wheelSize);
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        mName = name;
+        mTickNanos = unit.toNanos(tickDuration);
+        mMask = size - 1;
+        mWheel = new ArrayList[size];
+        for (int i = 0; i < size; i++) {
+            mWheel[i] = new ArrayList<Timeout>();
+        }
+    }
+
+    /**
+     * Runs the task once after the delay.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new IllegalArgumentException("task must not be null");
+        }
+        start();
+        long deadline = System.nanoTime() - mStartTime + unit.toNanos(Math.max(delay, 0));
+        Timeout timeout = new Timeout(task, deadline);
+        mNewTimeouts.offer(timeout);
+        return timeout;
+    }
+
+    /**
+     * Runs the task once after the delay on {@link #getExecutor()}. The
+     * timer thread only hands it over, so the task may block. Cancelling
+     * the Timeout after the delay does not stop the task.
+     */
+    public Timeout scheduleOnExecutor(final Runnable task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new IllegalArgumentException("task must not be null");
+        }
+        return schedule(new Runnable() {
+            @Override
+            public void run() {
+                getExecutor().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            task.run();
+                        } catch (RuntimeException e) {
+                            try {
+                                Echo.getEventListener().onCatchException(e);
+                            } catch (Exception ex) {
+                            }
+                        }
+                    }
+                });
+            }
+        }, delay, unit);
+    }
+
+    /**
+     * @return the number of scheduled tasks which have not been taken into the wheel yet.
+     */
+    public int getPendingCount() {
+        return mNewTimeouts.size();
+    }
+
+    private synchronized void start() {
+        if (mThread != null) {
+            return;
+        }
+        mThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }
+        }, mName);
+        mThread.setDaemon(true);
+        mThread.start();
+    }
+
+    private void work() {
+        while (true) {
+            long deadline = waitForNextTick();
+            transferNewTimeouts();
+            expire(mWheel[(int) (mTick & mMask)], deadline);
+            mTick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = mTickNanos * (mTick + 1);
+        while (true) {
+            long current = System.nanoTime() - mStartTime;
+            long sleepMillis = (deadline - current + 999999) / 1000000;
+            if (sleepMillis <= 0) {
+                return current;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                // keep ticking, the timer lives as long as the process.
+            }
+        }
+    }
+
+    private void transferNewTimeouts() {
+        Timeout timeout;
+        while ((timeout = mNewTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long calculated = timeout.mDeadline / mTickNanos;
+            timeout.mRemainingRounds = (calculated - mTick) / mWheel.length;
+            // a deadline in the past goes to the current bucket.
+            long ticks = Math.max(calculated, mTick);
+            mWheel[(int) (ticks & mMask)].add(timeout);
+        }
+    }
+
+    private void expire(ArrayList<Timeout> bucket, long now) {
+        int size = bucket.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.mRemainingRounds <= 0 && timeout.mDeadline <= now) {
+                timeout.expire();
+                continue;
+            }
+            if (timeout.mRemainingRounds > 0) {
+                timeout.mRemainingRounds--;
+            }
+            bucket.set(kept++, timeout);
+        }
+        for (int i = size - 1; i >= kept; i--) {
+            bucket.remove(i);
+        }
+    }
+
+    public static final class Timeout {
+        private static final int STATE_WAITING = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final Runnable mTask;
+        private final long mDeadline;
+        private long mRemainingRounds;
+        private final AtomicInteger mState = new AtomicInteger(STATE_WAITING);
+
+        Timeout(Runnable task, long deadline) {
+            mTask = task;
+            mDeadline = deadline;
+        }
+
+        /**
+         * @return true if the task will not run because of this call.
+         */
+        public boolean cancel() {
+            return mState.compareAndSet(STATE_WAITING, STATE_CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return mState.get() == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return mState.get() == STATE_EXPIRED;
+        }
+
+        void expire() {
+            if (!mState.compareAndSet(STATE_WAITING, STATE_EXPIRED)) {
+                return;
+            }
+            try {
+                mTask.run();
+            } catch (RuntimeException e) {
+                try {
+                    Echo.getEventListener().onCatchException(e);
+                } catch (Exception ex) {
+                }
+            }
+        }
+    }
+}
@@ -4,8 +4,6 @@ import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.net.SocketException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -84,31 +82,15 @@ public final class EchoUtils {
 	}
 	
 	public static short getEchoClassCode(byte classGroupCode, byte classCode) {
-		ByteBuffer buffer = ByteBuffer.allocate(2);
-		buffer.order(ByteOrder.BIG_ENDIAN);
-		buffer.put(classGroupCode);
-		buffer.put(classCode);
-		return buffer.getShort(0);
-		
+		return (short)(((classGroupCode & 0xFF) << 8) | (classCode & 0xFF));
 	}
 
 	public static int getEchoObjectCode(byte classGroupCode, byte classCode, byte instanceCode) {
-		ByteBuffer buffer = ByteBuffer.allocate(4);
-		buffer.order(ByteOrder.BIG_ENDIAN);
-		buffer.put((byte)0);
-		buffer.put(classGroupCode);
-		buffer.put(classCode);
-		buffer.put(instanceCode);
-		return buffer.getInt(0);
+		return ((classGroupCode & 0xFF) << 16) | ((classCode & 0xFF) << 8) | (instanceCode & 0xFF);
 	}
 
 	public static int getEchoObjectCode(short echoClassCode, byte instanceCode) {
-		ByteBuffer buffer = ByteBuffer.allocate(4);
-		buffer.order(ByteOrder.BIG_ENDIAN);
-		buffer.put((byte)0);
-		buffer.putShort(echoClassCode);
-		buffer.put(instanceCode);
-		return buffer.getInt(0);
+		return ((echoClassCode & 0xFFFF) << 8) | (instanceCode & 0xFF);
 	}
 
 	public static short getEchoClassCodeFromObjectCode(int objectCode) {
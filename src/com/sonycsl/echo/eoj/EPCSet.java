@@ -0,0 +1,187 @@
+package com.sonycsl.echo.eoj;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable set of EPCs, a bitmap of 256 bits.
+ * <br>
+ * Used for the status change announcement, Set and Get property maps of
+ * an EchoObject. contains() is a bit test, and the property map (0x9D,
+ * 0x9E, 0x9F) is encoded once per set. with() and without() return a new
+ * set, so a set is shared without copying: the objects of one class share
+ * the sets built by setupPropertyMaps(), and equal sets received from
+ * remote objects are shared through {@link #intern(EPCSet)}.
+ */
+public final class EPCSet {
+
+	public static final EPCSet EMPTY = new EPCSet(new long[4]);
+
+	// the number of distinct sets kept by intern(), against remote objects
+	// which send a different map every time.
+	private static final int MAX_INTERNED = 1024;
+	private static final ConcurrentHashMap<EPCSet, EPCSet> sInterned = new ConcurrentHashMap<EPCSet, EPCSet>();
+
+	// bit (epc & 0x3F) of mBits[(epc & 0xFF) >> 6]
+	private final long[] mBits;
+	private final int mSize;
+	private volatile byte[] mPropertyMap;
+
+	private EPCSet(long[] bits) {
+		mBits = bits;
+		mSize = Long.bitCount(bits[0]) + Long.bitCount(bits[1])
+				+ Long.bitCount(bits[2]) + Long.bitCount(bits[3]);
+	}
+
+	public static EPCSet of(byte... epcs) {
+		long[] bits = new long[4];
+		for(byte epc : epcs) {
+			bits[(epc & 0xFF) >> 6] |= 1L << (epc & 0x3F);
+		}
+		return new EPCSet(bits);
+	}
+
+	/**
+	 * Decodes a property map: a list of EPCs for less than 16 properties,
+	 * a bitmap of 16 bytes for more.
+	 *
+	 * @return null if the map is malformed.
+	 */
+	public static EPCSet fromPropertyMap(byte[] edt) {
+		if(edt == null || edt.length == 0) return null;
+		int count = edt[0] & 0xFF;
+		long[] bits = new long[4];
+		if(count < 16) {
+			if(edt.length < count + 1) return null;
+			for(int i = 1; i <= count; i++) {
+				bits[(edt[i] & 0xFF) >> 6] |= 1L << (edt[i] & 0x3F);
+			}
+		} else {
+			if(edt.length < 17) return null;
+			// bit (high - 8) of byte (low + 1) is the EPC 0x<high><low>.
+			for(int low = 0; low < 16; low++) {
+				int b = edt[low + 1] & 0xFF;
+				for(int high = 0; high < 8; high++) {
+					if((b & (1 << high)) != 0) {
+						int epc = ((high + 0x08) << 4) | low;
+						bits[epc >> 6] |= 1L << (epc & 0x3F);
+					}
+				}
+			}
+		}
+		return new EPCSet(bits);
+	}
+
+	/**
+	 * @return the set equal to this which was interned first, or this.
+	 */
+	public static EPCSet intern(EPCSet set) {
+		EPCSet interned = sInterned.get(set);
+		if(interned != null) return interned;
+		if(sInterned.size() >= MAX_INTERNED) return set;
+		interned = sInterned.putIfAbsent(set, set);
+		return (interned == null) ? set : interned;
+	}
+
+	public boolean contains(byte epc) {
+		return (mBits[(epc & 0xFF) >> 6] & (1L << (epc & 0x3F))) != 0;
+	}
+
+	public int size() {
+		return mSize;
+	}
+
+	public boolean isEmpty() {
+		return mSize == 0;
+	}
+
+	public EPCSet with(byte epc) {
+		if(contains(epc)) return this;
+		long[] bits = mBits.clone();
+		bits[(epc & 0xFF) >> 6] |= 1L << (epc & 0x3F);
+		return new EPCSet(bits);
+	}
+
+	public EPCSet without(byte epc) {
+		if(!contains(epc)) return this;
+		long[] bits = mBits.clone();
+		bits[(epc & 0xFF) >> 6] &= ~(1L << (epc & 0x3F));
+		return new EPCSet(bits);
+	}
+
+	/**
+	 * @return the EPCs in ascending order (0x00 to 0xFF).
+	 */
+	public byte[] toArray() {
+		byte[] ret = new byte[mSize];
+		int n = 0;
+		for(int w = 0; w < 4; w++) {
+			long bits = mBits[w];
+			while(bits != 0) {
+				int bit = Long.numberOfTrailingZeros(bits);
+				ret[n++] = (byte)((w << 6) | bit);
+				bits &= bits - 1;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Encodes the set as a property map (0x9D, 0x9E, 0x9F).
+	 * In the bitmap form EPCs under 0x80 cannot be represented and are
+	 * left out, as EchoUtils.propertiesToPropertyMap() does.
+	 */
+	public byte[] toPropertyMap() {
+		byte[] map = mPropertyMap;
+		if(map == null) {
+			map = encode();
+			mPropertyMap = map;
+		}
+		return map.clone();
+	}
+
+	private byte[] encode() {
+		byte[] epcs = toArray();
+		if(epcs.length < 16) {
+			byte[] map = new byte[epcs.length + 1];
+			map[0] = (byte)epcs.length;
+			System.arraycopy(epcs, 0, map, 1, epcs.length);
+			return map;
+		}
+		byte[] map = new byte[17];
+		map[0] = (byte)epcs.length;
+		for(byte epc : epcs) {
+			int high = (epc >> 4) & 0x0F;
+			if(high < 0x08) continue;
+			int low = epc & 0x0F;
+			map[low + 1] |= (byte)(1 << (high - 0x08));
+		}
+		return map;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if(this == o) return true;
+		if(!(o instanceof EPCSet)) return false;
+		long[] bits = ((EPCSet)o).mBits;
+		return mBits[0] == bits[0] && mBits[1] == bits[1]
+				&& mBits[2] == bits[2] && mBits[3] == bits[3];
+	}
+
+	@Override
+	public int hashCode() {
+		long h = mBits[0] * 31 + mBits[1];
+		h = h * 31 + mBits[2];
+		h = h * 31 + mBits[3];
+		return (int)(h ^ (h >>> 32));
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for(byte epc : toArray()) {
+			if(sb.length() > 1) sb.append(',');
+			sb.append(String.format("%02x", epc));
+		}
+		return sb.append(']').toString();
+	}
+}
@@ -5,14 +5,25 @@ import java.net.InetAddress;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 
 import com.sonycsl.echo.Echo;
 import com.sonycsl.echo.EchoFrame;
+import com.sonycsl.echo.EchoGetCoalescer;
+import com.sonycsl.echo.EchoMetrics;
+import com.sonycsl.echo.EchoPresence;
 import com.sonycsl.echo.EchoProperty;
+import com.sonycsl.echo.EchoRequestTracker;
+import com.sonycsl.echo.EchoRetryPolicy;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.EchoUtils;
 import com.sonycsl.echo.eoj.profile.NodeProfile;
@@ -27,20 +38,46 @@ public abstract class EchoObject {
 	
 	private Receiver mReceiver = null;
 	
+	private volatile PropertyCache mPropertyCache = null;
+	
 	
 
-	private HashSet<Byte> mStatusChangeAnnouncementProperties;
-	private HashSet<Byte> mSetProperties;
-	private HashSet<Byte> mGetProperties;
+	// immutable, replaced on every change. interned after setupPropertyMaps(),
+	// so the objects of a class share them until one of them is changed.
+	private volatile EPCSet mStatusChangeAnnouncementProperties = EPCSet.EMPTY;
+	private volatile EPCSet mSetProperties = EPCSet.EMPTY;
+	private volatile EPCSet mGetProperties = EPCSet.EMPTY;
+	private final Object mPropertyMapLock = new Object();
+	
+	private static final byte EPC_ANNOUNCEMENT_PROPERTY_MAP = (byte)0x9D;
+	private static final byte EPC_SET_PROPERTY_MAP_ = (byte)0x9E;
+	private static final byte EPC_GET_PROPERTY_MAP_ = (byte)0x9F;
+	
+	private static final int MAP_ANNOUNCEMENT = 0x01;
+	private static final int MAP_SET = 0x02;
+	private static final int MAP_GET = 0x04;
+	// maps received from the remote object.
+	private volatile int mKnownPropertyMaps = 0;
+	
+	private static volatile boolean sPropertyMapDiscoveryEnabled = true;
+	
+	private final EchoPresence mPresence = new EchoPresence();
+	
+	// the class of this object is initialized, so its handlers are registered.
+	private final PropertyTable mPropertyTable = PropertyTable.of(getClass());
+	
+	// Get holds the read lock, Set the write lock.
+	private final ReentrantReadWriteLock mPropertyLock = new ReentrantReadWriteLock();
+	private volatile PropertyStore mPropertyStore = null;
 	
 	public EchoObject() {
 		super();
 
-		mStatusChangeAnnouncementProperties = new HashSet<Byte>();
-		mSetProperties = new HashSet<Byte>();
-		mGetProperties = new HashSet<Byte>();
-		
 		setupPropertyMaps();
+		
+		mStatusChangeAnnouncementProperties = EPCSet.intern(mStatusChangeAnnouncementProperties);
+		mSetProperties = EPCSet.intern(mSetProperties);
+		mGetProperties = EPCSet.intern(mGetProperties);
 	}
 	
 	public void onNew() {
@@ -51,76 +88,193 @@ public abstract class EchoObject {
 		Echo.getEventListener().onFoundEchoObject(this);
 	}
 	
+	public void onLost() {
+		Echo.getEventListener().onLostEchoObject(this);
+	}
+	
+	/**
+	 * When the object was seen. Maintained for remote objects only.
+	 */
+	public EchoPresence getPresence() {
+		return mPresence;
+	}
+	
 	protected void setupPropertyMaps() {}
 
 	protected final void addStatusChangeAnnouncementProperty(byte epc) {
-		mStatusChangeAnnouncementProperties.add(epc);
+		synchronized(mPropertyMapLock) {
+			mStatusChangeAnnouncementProperties = mStatusChangeAnnouncementProperties.with(epc);
+		}
 	}
 
 	protected final void removeStatusChangeAnnouncementProperty(byte epc) {
-		if(mStatusChangeAnnouncementProperties.contains(epc))
-			mStatusChangeAnnouncementProperties.remove(epc);
+		synchronized(mPropertyMapLock) {
+			mStatusChangeAnnouncementProperties = mStatusChangeAnnouncementProperties.without(epc);
+		}
 	}
 	
 	protected final void clearStatusChangeAnnouncementProperties() {
-		mStatusChangeAnnouncementProperties.clear();
+		mStatusChangeAnnouncementProperties = EPCSet.EMPTY;
 	}
 	
 	public final byte[] getStatusChangeAnnouncementProperties() {
-		byte[] ret = new byte[mStatusChangeAnnouncementProperties.size()];
-		Iterator<Byte> it = mStatusChangeAnnouncementProperties.iterator();
-		for(int i = 0; i < ret.length; i++) {
-			ret[i] = it.next();
-		}
-		return ret;
+		return mStatusChangeAnnouncementProperties.toArray();
+	}
+	
+	public final EPCSet getStatusChangeAnnouncementEPCSet() {
+		return mStatusChangeAnnouncementProperties;
 	}
 	
 	protected final void addSetProperty(byte epc) {
-		mSetProperties.add(epc);
+		synchronized(mPropertyMapLock) {
+			mSetProperties = mSetProperties.with(epc);
+		}
 	}
 
 	
 	protected final void removeSetProperty(byte epc) {
-		if(mSetProperties.contains(epc))
-			mSetProperties.remove(epc);
+		synchronized(mPropertyMapLock) {
+			mSetProperties = mSetProperties.without(epc);
+		}
 	}
 	
 	protected final void clearSetProperties() {
-		mSetProperties.clear();
+		mSetProperties = EPCSet.EMPTY;
 	}
 	
 	public final byte[] getSetProperties() {
-		byte[] ret = new byte[mSetProperties.size()];
-		Iterator<Byte> it = mSetProperties.iterator();
-		for(int i = 0; i < ret.length; i++) {
-			ret[i] = it.next();
-		}
-		return ret;
+		return mSetProperties.toArray();
+	}
+	
+	public final EPCSet getSetEPCSet() {
+		return mSetProperties;
 	}
 	
 	protected final void addGetProperty(byte epc) {
-		mGetProperties.add(epc);
+		synchronized(mPropertyMapLock) {
+			mGetProperties = mGetProperties.with(epc);
+		}
 	}
 	
 	protected final void removeGetProperty(byte epc) {
-		if(mGetProperties.contains(epc))
-			mGetProperties.remove(epc);
+		synchronized(mPropertyMapLock) {
+			mGetProperties = mGetProperties.without(epc);
+		}
 	}
 	
 	protected final void clearGetProperties() {
-		mGetProperties.clear();
+		mGetProperties = EPCSet.EMPTY;
 	}
 	
 	public final byte[] getGetProperties() {
-		byte[] ret = new byte[mGetProperties.size()];
-		Iterator<Byte> it = mGetProperties.iterator();
-		for(int i = 0; i < ret.length; i++) {
-			ret[i] = it.next();
-		}
-		return ret;
+		return mGetProperties.toArray();
+	}
+	
+	public final EPCSet getGetEPCSet() {
+		return mGetProperties;
 	}
 
 	
+	/**
+	 * Requests the property maps (0x9D, 0x9E, 0x9F) from the remote object
+	 * of each new proxy. Enabled by default.
+	 */
+	public static void setPropertyMapDiscoveryEnabled(boolean enabled) {
+		sPropertyMapDiscoveryEnabled = enabled;
+	}
+	
+	public static boolean isPropertyMapDiscoveryEnabled() {
+		return sPropertyMapDiscoveryEnabled;
+	}
+	
+	/**
+	 * Requests the property maps from the remote object.
+	 * The maps are taken from the response by updatePropertyMaps().
+	 */
+	public final CompletableFuture<EchoFrame> requestPropertyMaps() {
+		EchoNode node = getNode();
+		if(node == null || !node.isProxy()) {
+			CompletableFuture<EchoFrame> future = new CompletableFuture<EchoFrame>();
+			future.completeExceptionally(new IOException("Not a remote object."));
+			return future;
+		}
+		return new Getter(getEchoClassCode(), getInstanceCode(), node.getAddressStr())
+				.reqGetProperty(EPC_ANNOUNCEMENT_PROPERTY_MAP)
+				.reqGetProperty(EPC_SET_PROPERTY_MAP_)
+				.reqGetProperty(EPC_GET_PROPERTY_MAP_)
+				.sendAsync();
+	}
+	
+	/**
+	 * Takes the property maps in a frame received from this remote object.
+	 * They replace the maps of the class.
+	 */
+	public final void updatePropertyMaps(EchoFrame frame) {
+		if(!isProxy()) return;
+		switch(frame.getESV()) {
+		case EchoFrame.ESV_GET_RES: case EchoFrame.ESV_GET_SNA:
+		case EchoFrame.ESV_INF: case EchoFrame.ESV_INF_SNA:
+		case EchoFrame.ESV_INFC:
+			break;
+		default:
+			return;
+		}
+		for(EchoProperty p : frame.getPropertyList()) {
+			if(p.pdc == 0) continue;
+			switch(p.epc) {
+			case EPC_ANNOUNCEMENT_PROPERTY_MAP:
+			case EPC_SET_PROPERTY_MAP_:
+			case EPC_GET_PROPERTY_MAP_:
+				break;
+			default:
+				continue;
+			}
+			EPCSet map = EPCSet.fromPropertyMap(p.edt);
+			if(map == null) continue;
+			map = EPCSet.intern(map);
+			switch(p.epc) {
+			case EPC_ANNOUNCEMENT_PROPERTY_MAP:
+				mStatusChangeAnnouncementProperties = map;
+				mKnownPropertyMaps |= MAP_ANNOUNCEMENT;
+				break;
+			case EPC_SET_PROPERTY_MAP_:
+				mSetProperties = map;
+				mKnownPropertyMaps |= MAP_SET;
+				break;
+			case EPC_GET_PROPERTY_MAP_:
+				mGetProperties = map;
+				mKnownPropertyMaps |= MAP_GET;
+				break;
+			}
+		}
+	}
+	
+	/**
+	 * @return true if the property maps (all of 0x9D, 0x9E, 0x9F) have
+	 * been received from the remote object.
+	 */
+	public final boolean isPropertyMapsKnown() {
+		return mKnownPropertyMaps == (MAP_ANNOUNCEMENT | MAP_SET | MAP_GET);
+	}
+	
+	/**
+	 * @return false if the Get property map received from the remote object
+	 * does not contain the EPC. true if the map is not known.
+	 */
+	public final boolean isGetPropertySupported(byte epc) {
+		if((mKnownPropertyMaps & MAP_GET) == 0) return true;
+		return mGetProperties.contains(epc);
+	}
+	
+	/**
+	 * @return false if the Set property map received from the remote object
+	 * does not contain the EPC. true if the map is not known.
+	 */
+	public final boolean isSetPropertySupported(byte epc) {
+		if((mKnownPropertyMaps & MAP_SET) == 0) return true;
+		return mSetProperties.contains(epc);
+	}
+	
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
@@ -181,16 +335,107 @@ public abstract class EchoObject {
 	}
 	
 	
-	protected synchronized boolean setProperty(EchoProperty property) {
-		return false;
+	/**
+	 * Registers the accessors of the properties defined by a class.
+	 * Called from the static initializer of the class.
+	 */
+	protected static void registerPropertyHandler(Class<? extends EchoObject> cls, PropertyHandler handler
+			, byte[] getEPCs, byte[] setEPCs, byte[] isValidEPCs) {
+		PropertyTable.register(cls, handler, new byte[][] {getEPCs, setEPCs, isValidEPCs});
+	}
+	
+	/**
+	 * Calls the setter of the property with the write lock of
+	 * {@link #getPropertyLock()} held. A value published for the EPC is
+	 * withdrawn when the Set succeeds, unless the setter published the new
+	 * one.
+	 */
+	protected boolean setProperty(EchoProperty property) {
+		PropertyHandler handler = mPropertyTable.get(PropertyTable.SET, property.epc);
+		if(handler == null) return false;
+		Lock lock = mPropertyLock.writeLock();
+		lock.lock();
+		try {
+			PropertyStore store = mPropertyStore;
+			byte[] published = (store == null) ? null : store.peek(property.epc);
+			boolean success = handler.set(this, property);
+			if(success && published != null) {
+				store.withdraw(property.epc, published);
+			}
+			return success;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Answers the published value of the EPC if there is one
+	 * ({@link #publishProperty(byte, byte[])}), or calls the getter of the
+	 * property with the read lock of {@link #getPropertyLock()} held, so
+	 * Gets run concurrently with each other but not with a Set.
+	 */
+	protected byte[] getProperty(byte epc) {
+		PropertyStore store = mPropertyStore;
+		if(store != null) {
+			byte[] edt = store.get(epc);
+			if(edt != null) return edt;
+		}
+		PropertyHandler handler = mPropertyTable.get(PropertyTable.GET, epc);
+		if(handler == null) return null;
+		Lock lock = mPropertyLock.readLock();
+		lock.lock();
+		try {
+			return handler.get(this, epc);
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Checks the EDT only, without a lock.
+	 */
+	protected boolean isValidProperty(EchoProperty property) {
+		PropertyHandler handler = mPropertyTable.get(PropertyTable.IS_VALID, property.epc);
+		return handler != null && handler.isValid(this, property);
 	}
 	
-	protected synchronized byte[] getProperty(byte epc) {
-		return null;
+	/**
+	 * The lock of the property values of this object. An implementation
+	 * which changes several values together takes the write lock, so that
+	 * no Get sees a half of the change.
+	 */
+	public final ReadWriteLock getPropertyLock() {
+		return mPropertyLock;
 	}
 	
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		return false;
+	/**
+	 * Publishes the current value of a property of this local object. Get
+	 * requests for the EPC are answered with the value from then on,
+	 * without calling its getter or taking the property lock. A successful
+	 * Set withdraws the value, unless the setter publishes the new one.
+	 *
+	 * @param edt null to withdraw the value, then the getter is called again.
+	 */
+	protected final void publishProperty(byte epc, byte[] edt) {
+		PropertyStore store = mPropertyStore;
+		if(store == null) {
+			if(edt == null) return;
+			synchronized(this) {
+				store = mPropertyStore;
+				if(store == null) {
+					store = new PropertyStore();
+					mPropertyStore = store;
+				}
+			}
+		}
+		store.publish(epc, edt);
+	}
+	
+	/**
+	 * @return the published values, or null if nothing has been published.
+	 */
+	public final PropertyStore getPropertyStore() {
+		return mPropertyStore;
 	}
 	
 	public final void setReceiver(Receiver receiver) {
@@ -200,6 +445,30 @@ public abstract class EchoObject {
 	public final Receiver getReceiver() {
 		return mReceiver;
 	}
+	
+	/**
+	 * Keeps the property values received from this object, so that
+	 * get().cached() answers fresh values without a request.
+	 * 
+	 * @return the cache, which is kept if it is already enabled.
+	 */
+	public final synchronized PropertyCache enablePropertyCache() {
+		if(mPropertyCache == null) {
+			mPropertyCache = new PropertyCache();
+		}
+		return mPropertyCache;
+	}
+	
+	public final void disablePropertyCache() {
+		mPropertyCache = null;
+	}
+	
+	/**
+	 * @return the cache, or null if it is not enabled.
+	 */
+	public final PropertyCache getPropertyCache() {
+		return mPropertyCache;
+	}
 		
 	public final EchoFrame onReceiveRequest(EchoFrame frame) {
 		/*
@@ -254,7 +523,8 @@ public abstract class EchoObject {
 			esv = EchoFrame.ESV_SET_GET_SNA;
 			break;
 		}
-		EchoFrame response = new EchoFrame(frame.getDstEchoClassCode(), frame.getDstEchoInstanceCode()
+		// DEOJ of the request may be instance code 0 (all instances).
+		EchoFrame response = new EchoFrame(getEchoClassCode(), getInstanceCode()
 				, frame.getSrcEchoClassCode(), frame.getSrcEchoInstanceCode()
 				, frame.getSrcEchoAddress(), esv);
 		response.setTID(frame.getTID());
@@ -378,6 +648,8 @@ public abstract class EchoObject {
 	
 	public static class Receiver {
 		
+		private final PropertyTable mPropertyTable = PropertyTable.of(getClass());
+		
 		public void onReceive(EchoObject eoj, EchoFrame frame){
 			onReceiveFrame(eoj, frame);
 
@@ -406,16 +678,28 @@ public abstract class EchoObject {
 			
 		}
 		
+		/**
+		 * Registers the callbacks of the properties defined by a class of Receiver.
+		 * Called from the static initializer of the class.
+		 */
+		protected static void registerReceiverHandler(Class<? extends Receiver> cls, PropertyHandler handler
+				, byte[] onSetEPCs, byte[] onGetEPCs, byte[] onInformEPCs) {
+			PropertyTable.register(cls, handler, new byte[][] {onSetEPCs, onGetEPCs, onInformEPCs});
+		}
+		
 		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv, EchoProperty property, boolean success) {
-			return false;
+			PropertyHandler handler = mPropertyTable.get(PropertyTable.ON_SET, property.epc);
+			return handler != null && handler.onSet(this, eoj, tid, esv, property, success);
 		}
 		
 		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv, EchoProperty property, boolean success) {
-			return false;
+			PropertyHandler handler = mPropertyTable.get(PropertyTable.ON_GET, property.epc);
+			return handler != null && handler.onGet(this, eoj, tid, esv, property, success);
 		}
 		
 		protected boolean onInformProperty(EchoObject eoj, short tid, byte esv, EchoProperty property) {
-			return false;
+			PropertyHandler handler = mPropertyTable.get(PropertyTable.ON_INFORM, property.epc);
+			return handler != null && handler.onInform(this, eoj, tid, esv, property);
 		}
 		
 	}
@@ -490,19 +774,129 @@ public abstract class EchoObject {
 			return tid;
 		}*/
 
-		abstract EchoFrame send() throws IOException ;
+		/**
+		 * @return the request frame without TID, or null if it cannot be made.
+		 */
+		protected abstract EchoFrame createFrame();
+		
+		/**
+		 * Sends the request.
+		 * 
+		 * @return the sent frame.
+		 * @throws IOException if the request cannot be made, as when no
+		 * requested property is supported by the remote object, or cannot be
+		 * sent.
+		 */
+		public EchoFrame send() throws IOException {
+			EchoFrame frame = createFrame();
+			if(frame == null) {
+				// no self node, or no property the remote object supports.
+				EchoMetrics.SENDER_UNSENDABLE.increment();
+				throw new IOException("The request cannot be made.");
+			}
+			send(frame);
+			return frame;
+		}
 		public void send(EchoFrame frame) throws IOException {
 			short tid = EchoSocket.nextTID();
 			frame.setTID(tid);
+			EchoMetrics.SENDER_REQUESTS.increment();
 			EchoSocket.sendUDPFrame(frame);
 		}
-		abstract EchoFrame sendTCP() throws IOException ;
+		/**
+		 * Sends the request over TCP.
+		 * 
+		 * @return the sent frame.
+		 * @throws IOException if the request cannot be made, as when no
+		 * requested property is supported by the remote object, or cannot be
+		 * sent.
+		 */
+		public EchoFrame sendTCP() throws IOException {
+			EchoFrame frame = createFrame();
+			if(frame == null) {
+				// no self node, or no property the remote object supports.
+				EchoMetrics.SENDER_UNSENDABLE.increment();
+				throw new IOException("The request cannot be made.");
+			}
+			sendTCP(frame);
+			return frame;
+		}
 		public void sendTCP(EchoFrame frame) throws IOException {
 			short tid = EchoSocket.nextTID();
 			frame.setTID(tid);
+			EchoMetrics.SENDER_REQUESTS.increment();
 			EchoSocket.sendTCPFrame(frame);
 		}
 		
+		/**
+		 * Sends the request and returns the response asynchronously,
+		 * retrying with the default retry policy of EchoRequestTracker.
+		 * 
+		 * @see #sendAsync(EchoRetryPolicy)
+		 */
+		public CompletableFuture<EchoFrame> sendAsync() {
+			return sendAsync(EchoRequestTracker.getDefaultRetryPolicy());
+		}
+		
+		/**
+		 * Sends the request once and returns the response asynchronously.
+		 * 
+		 * @see #sendAsync(EchoRetryPolicy)
+		 */
+		public CompletableFuture<EchoFrame> sendAsync(long timeout, TimeUnit unit) {
+			return sendAsync(EchoRetryPolicy.noRetry(timeout, unit));
+		}
+		
+		/**
+		 * Sends the request and returns the response asynchronously.
+		 * The response is matched by the TID of the request, and the request
+		 * is sent again with the same TID while no response arrives.
+		 * <br>
+		 * The future is completed with the response frame (*_RES or *_SNA).
+		 * For a multicast request it is completed with the first response.
+		 * A request which is not answered on success (SetI, INF) is completed
+		 * with null when it is sent. The future fails with TimeoutException if
+		 * no response arrives in time, and with IOException if the request
+		 * cannot be sent. Cancelling the future forgets the request.
+		 */
+		public CompletableFuture<EchoFrame> sendAsync(EchoRetryPolicy policy) {
+			return sendAsync(false, policy);
+		}
+		
+		public CompletableFuture<EchoFrame> sendTCPAsync() {
+			return sendTCPAsync(EchoRequestTracker.getDefaultRetryPolicy());
+		}
+		
+		public CompletableFuture<EchoFrame> sendTCPAsync(EchoRetryPolicy policy) {
+			return sendAsync(true, policy);
+		}
+		
+		private CompletableFuture<EchoFrame> sendAsync(boolean tcp, EchoRetryPolicy policy) {
+			EchoFrame frame = createFrame();
+			if(frame == null) {
+				CompletableFuture<EchoFrame> future = new CompletableFuture<EchoFrame>();
+				// no self node, or no property the remote object supports.
+				EchoMetrics.SENDER_UNSENDABLE.increment();
+				future.completeExceptionally(new IOException("The request cannot be made."));
+				return future;
+			}
+			EchoMetrics.SENDER_REQUESTS.increment();
+			return EchoRequestTracker.send(frame, tcp, policy);
+		}
+		
+		/**
+		 * @return the remote object the request is sent to, or null for
+		 * a multicast, instance code 0 or unknown destination.
+		 */
+		protected EchoObject getRemoteTarget() {
+			if(mDstEchoInstanceCode == 0 || EchoSocket.MULTICAST_ADDRESS.equals(mDstEchoAddress)) {
+				return null;
+			}
+			EchoNode node = Echo.getNode(mDstEchoAddress);
+			if(node == null || !node.isProxy()) return null;
+			return node.getInstance(mDstEchoClassCode, mDstEchoInstanceCode);
+		}
+		
 		public void setSeoj(short srcEchoClassCode, byte srcEchoInstanceCode) {
 			mSrcEchoClassCode = srcEchoClassCode;
 			mSrcEchoInstanceCode = srcEchoInstanceCode;
@@ -532,30 +926,19 @@ public abstract class EchoObject {
 		}
 
 		@Override
-		public EchoFrame send() throws IOException {
+		protected EchoFrame createFrame() {
 
 			EchoFrame frame = new EchoFrame(mSrcEchoClassCode, mSrcEchoInstanceCode
 					, mDstEchoClassCode, mDstEchoInstanceCode
 					, mDstEchoAddress, mESV);
 
+			// properties the remote object does not support are not sent.
+			EchoObject target = getRemoteTarget();
 			for(EchoProperty p : mPropertyList) {
+				if(target != null && !target.isSetPropertySupported(p.epc)) continue;
 				frame.addProperty(p);
 			}
-			send(frame);
-			return frame;
-		}
-
-		@Override
-		public EchoFrame sendTCP() throws IOException {
-
-			EchoFrame frame = new EchoFrame(mSrcEchoClassCode, mSrcEchoInstanceCode
-					, mDstEchoClassCode, mDstEchoInstanceCode
-					, mDstEchoAddress, mESV);
-
-			for(EchoProperty p : mPropertyList) {
-				frame.addProperty(p);
-			}
-			sendTCP(frame);
+			if(frame.getPropertyCount() == 0 && !mPropertyList.isEmpty()) return null;
 			return frame;
 		}
 		
@@ -582,39 +965,115 @@ public abstract class EchoObject {
 		}
 		
 		@Override
-		public EchoFrame send() throws IOException {
+		protected EchoFrame createFrame() {
 
 			EchoFrame frame = new EchoFrame(mSrcEchoClassCode, mSrcEchoInstanceCode
 					, mDstEchoClassCode, mDstEchoInstanceCode
 					, mDstEchoAddress, mESV);
 
 
-			for(Byte epc : mEPCList) {
+			List<Byte> epcs = getSupportedEPCs();
+			if(epcs.isEmpty() && !mEPCList.isEmpty()) return null;
+			for(Byte epc : epcs) {
 				frame.addProperty(new EchoProperty(epc));
 			}
-			send(frame);
 			return frame;
 		}
-
-		@Override
-		public EchoFrame sendTCP() throws IOException {
-
-			EchoFrame frame = new EchoFrame(mSrcEchoClassCode, mSrcEchoInstanceCode
-					, mDstEchoClassCode, mDstEchoInstanceCode
-					, mDstEchoAddress, mESV);
-
-
+		
+		/**
+		 * @return the requested EPCs without the ones the remote object does not support.
+		 */
+		protected List<Byte> getSupportedEPCs() {
+			EchoObject target = getRemoteTarget();
+			if(target == null || !target.isPropertyMapsKnown()) return mEPCList;
+			List<Byte> epcs = new ArrayList<Byte>(mEPCList.size());
 			for(Byte epc : mEPCList) {
-				frame.addProperty(new EchoProperty(epc));
+				if(target.isGetPropertySupported(epc)) {
+					epcs.add(epc);
+				}
 			}
-			sendTCP(frame);
-			return frame;
+			return epcs;
 		}
 
 		public Getter reqGetProperty(byte epc) {
 			mEPCList.add(epc);
 			return this;
 		}
+		
+		/**
+		 * Sends the request and returns the response asynchronously.
+		 * While EchoGetCoalescer is enabled, the request is merged with the
+		 * other requests to the same object in the window.
+		 */
+		@Override
+		public CompletableFuture<EchoFrame> sendAsync() {
+			if(EchoGetCoalescer.canCoalesce(mDstEchoInstanceCode, mDstEchoAddress, mEPCList.size())) {
+				List<Byte> epcs = getSupportedEPCs();
+				if(!epcs.isEmpty()) {
+					return EchoGetCoalescer.get(mSrcEchoClassCode, mSrcEchoInstanceCode
+							, mDstEchoClassCode, mDstEchoInstanceCode, mDstEchoAddress, epcs);
+				}
+			}
+			return super.sendAsync();
+		}
+		
+		/**
+		 * Like sendAsync(), but the properties which are fresh in the
+		 * PropertyCache of the destination object are answered from the
+		 * cache, and only the others are requested. If all of them are fresh
+		 * the returned future is already completed.
+		 * <br>
+		 * The response is a GET_RES (or GET_SNA) frame from the destination
+		 * object with the properties in the requested order. Without a cache
+		 * (or for instance code 0 or multicast) this is sendAsync().
+		 */
+		public CompletableFuture<EchoFrame> cached() {
+			EchoObject eoj = getRemoteTarget();
+			PropertyCache cache = (eoj == null) ? null : eoj.getPropertyCache();
+			if(cache == null) {
+				return sendAsync();
+			}
+			
+			final HashMap<Byte, byte[]> fresh = new HashMap<Byte, byte[]>();
+			Getter missing = new Getter(mDstEchoClassCode, mDstEchoInstanceCode, mDstEchoAddress);
+			for(Byte epc : mEPCList) {
+				byte[] edt = cache.getFresh(epc);
+				if(edt != null) {
+					fresh.put(epc, edt);
+				} else {
+					missing.reqGetProperty(epc);
+				}
+			}
+			if(missing.mEPCList.isEmpty()) {
+				return CompletableFuture.completedFuture(createCachedResponse(fresh, null, (short)0));
+			}
+			return missing.sendAsync().thenApply(new Function<EchoFrame, EchoFrame>() {
+				@Override
+				public EchoFrame apply(EchoFrame response) {
+					if(fresh.isEmpty()) return response;
+					return createCachedResponse(fresh, response, response.getTID());
+				}
+			});
+		}
+		
+		private EchoFrame createCachedResponse(Map<Byte, byte[]> fresh, EchoFrame response, short tid) {
+			EchoFrame frame = new EchoFrame(mDstEchoClassCode, mDstEchoInstanceCode, mDstEchoAddress
+					, mSrcEchoClassCode, mSrcEchoInstanceCode, EchoSocket.SELF_ADDRESS
+					, EchoFrame.ESV_GET_RES, tid, Collections.<EchoProperty>emptyList());
+			for(Byte epc : mEPCList) {
+				byte[] edt = fresh.get(epc);
+				if(edt == null && response != null) {
+					for(EchoProperty p : response.getPropertyList()) {
+						if(p.epc == epc) {
+							edt = p.edt;
+							break;
+						}
+					}
+				}
+				frame.addPropertyForResponse(epc, edt);
+			}
+			return frame;
+		}
 
 	}
 	
@@ -635,7 +1094,7 @@ public abstract class EchoObject {
 		}
 
 		@Override
-		public EchoFrame send() throws IOException {
+		protected EchoFrame createFrame() {
 
 			EchoFrame frame = new EchoFrame(mSrcEchoClassCode, mSrcEchoInstanceCode
 					, mDstEchoClassCode, mDstEchoInstanceCode
@@ -647,9 +1106,12 @@ public abstract class EchoObject {
 				}
 			} else {
 				EchoNode node = Echo.getSelfNode();
+				if(node == null) {
+					return null;
+				}
 				EchoObject seoj = node.getInstance(mSrcEchoClassCode, mSrcEchoInstanceCode);
-				if(seoj.get() == null) {
-					return frame;
+				if(seoj == null) {
+					return null;
 				}
 				for(Byte epc : mEPCList) {
 					byte[] edt = seoj.getProperty(epc);
@@ -663,8 +1125,6 @@ public abstract class EchoObject {
 					}
 				}
 			}
-
-			send(frame);
 			return frame;
 		}
 		
@@ -672,43 +1132,6 @@ public abstract class EchoObject {
 			mEPCList.add(epc);
 			return this;
 		}
-
-		@Override
-		public EchoFrame sendTCP() throws IOException {
-
-			EchoFrame frame = new EchoFrame(mSrcEchoClassCode, mSrcEchoInstanceCode
-					, mDstEchoClassCode, mDstEchoInstanceCode
-					, mDstEchoAddress, mESV);
-
-			if(mESV == EchoFrame.ESV_INF_REQ) {
-				for(Byte epc : mEPCList) {
-					frame.addProperty(new EchoProperty(epc));
-				}
-			} else {
-				EchoNode node = Echo.getSelfNode();
-				if(node == null) {
-					return frame;
-				}
-				EchoObject seoj = node.getInstance(mSrcEchoClassCode, mSrcEchoInstanceCode);
-				if(seoj.get() == null) {
-					return frame;
-				}
-				for(Byte epc : mEPCList) {
-					byte[] edt = seoj.getProperty(epc);
-
-					if(edt != null) {
-						EchoProperty property = new EchoProperty(epc, edt);
-
-						if(seoj.isValidProperty(property)) {
-							frame.addProperty(property);
-						}
-					}
-				}
-			}
-
-			sendTCP(frame);
-			return frame;
-		}
 	}
 
 	public static class InformerC extends Sender {
@@ -724,7 +1147,7 @@ public abstract class EchoObject {
 		}
 
 		@Override
-		public EchoFrame send() throws IOException {
+		protected EchoFrame createFrame() {
 
 			EchoFrame frame = new EchoFrame(mSrcEchoClassCode, mSrcEchoInstanceCode
 					, mDstEchoClassCode, mDstEchoInstanceCode
@@ -732,11 +1155,11 @@ public abstract class EchoObject {
 
 			EchoNode node = Echo.getSelfNode();
 			if(node == null) {
-				return frame;
+				return null;
 			}
 			EchoObject seoj = node.getInstance(mSrcEchoClassCode, mSrcEchoInstanceCode);
-			if(seoj.get() == null) {
-				return frame;
+			if(seoj == null) {
+				return null;
 			}
 			for(Byte epc : mEPCList) {
 				byte[] edt = seoj.getProperty(epc);
@@ -749,8 +1172,6 @@ public abstract class EchoObject {
 					}
 				}
 			}
-
-			send(frame);
 			return frame;
 		}
 		
@@ -758,36 +1179,6 @@ public abstract class EchoObject {
 			mEPCList.add(epc);
 			return this;
 		}
-
-		@Override
-		public EchoFrame sendTCP() throws IOException {
-			EchoFrame frame = new EchoFrame(mSrcEchoClassCode, mSrcEchoInstanceCode
-					, mDstEchoClassCode, mDstEchoInstanceCode
-					, mDstEchoAddress, mESV);
-
-			EchoNode node = Echo.getSelfNode();
-			if(node == null) {
-				return frame;
-			}
-			EchoObject seoj = node.getInstance(mSrcEchoClassCode, mSrcEchoInstanceCode);
-			if(seoj.get() == null) {
-				return frame;
-			}
-			for(Byte epc : mEPCList) {
-				byte[] edt = seoj.getProperty(epc);
-
-				if(edt != null) {
-					EchoProperty property = new EchoProperty(epc, edt);
-
-					if(seoj.isValidProperty(property)) {
-						frame.addProperty(property);
-					}
-				}
-			}
-
-			sendTCP(frame);
-			return frame;
-		}
 	}
 
 }
@@ -0,0 +1,145 @@
+package com.sonycsl.echo.eoj;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.sonycsl.echo.EchoFrame;
+import com.sonycsl.echo.EchoProperty;
+
+/**
+ * Last received values of the properties of an EchoObject.
+ * <br>
+ * The cache is fed by the GET_RES, INF and INFC frames from the object.
+ * A value is fresh while it is younger than the TTL of its EPC
+ * (the default TTL unless {@link #setTTL(byte, long)} is called).
+ * A successful Set invalidates the value, because the response does not
+ * carry the new value.
+ */
+public final class PropertyCache {
+
+	public static final long DEFAULT_TTL_MILLIS = 1000;
+	private static final long TTL_DEFAULT = -1;
+
+	private final AtomicReferenceArray<Entry> mEntries = new AtomicReferenceArray<Entry>(256);
+	private final AtomicLongArray mTTLs = new AtomicLongArray(256);
+	private volatile long mDefaultTTL;
+
+	public PropertyCache() {
+		this(DEFAULT_TTL_MILLIS);
+	}
+
+	public PropertyCache(long defaultTTLMillis) {
+		mDefaultTTL = defaultTTLMillis;
+		for(int i = 0; i < 256; i++) {
+			mTTLs.set(i, TTL_DEFAULT);
+		}
+	}
+
+	public void setDefaultTTL(long millis) {
+		mDefaultTTL = millis;
+	}
+
+	public long getDefaultTTL() {
+		return mDefaultTTL;
+	}
+
+	/**
+	 * @param millis 0 to never answer the EPC from the cache,
+	 * Long.MAX_VALUE for a value which does not change.
+	 */
+	public void setTTL(byte epc, long millis) {
+		mTTLs.set(epc & 0xFF, millis);
+	}
+
+	public long getTTL(byte epc) {
+		long ttl = mTTLs.get(epc & 0xFF);
+		return (ttl == TTL_DEFAULT) ? mDefaultTTL : ttl;
+	}
+
+	/**
+	 * @return the last value of the EPC, fresh or not, or null.
+	 */
+	public Entry get(byte epc) {
+		return mEntries.get(epc & 0xFF);
+	}
+
+	/**
+	 * @return EDT of the EPC if it is fresh, or null.
+	 */
+	public byte[] getFresh(byte epc) {
+		Entry entry = mEntries.get(epc & 0xFF);
+		if(entry == null || !isFresh(entry)) return null;
+		return entry.edt;
+	}
+
+	public boolean isFresh(Entry entry) {
+		return entry.getAgeMillis() < getTTL(entry.epc);
+	}
+
+	public void put(byte epc, byte[] edt, short tid) {
+		mEntries.set(epc & 0xFF, new Entry(epc, edt, tid));
+	}
+
+	public void invalidate(byte epc) {
+		mEntries.set(epc & 0xFF, null);
+	}
+
+	public void clear() {
+		for(int i = 0; i < 256; i++) {
+			mEntries.set(i, null);
+		}
+	}
+
+	/**
+	 * Stores the values of a frame received from the object.
+	 */
+	public void update(EchoFrame frame) {
+		switch(frame.getESV()) {
+		case EchoFrame.ESV_GET_RES: case EchoFrame.ESV_GET_SNA:
+		case EchoFrame.ESV_INF: case EchoFrame.ESV_INF_SNA:
+		case EchoFrame.ESV_INFC:
+			for(EchoProperty p : frame.getPropertyList()) {
+				// PDC 0 is a property the object could not answer.
+				if(p.pdc != 0) {
+					put(p.epc, p.edt, frame.getTID());
+				}
+			}
+			break;
+		case EchoFrame.ESV_SET_RES: case EchoFrame.ESV_SETC_SNA: case EchoFrame.ESV_SETI_SNA:
+			for(EchoProperty p : frame.getPropertyList()) {
+				// PDC 0 is a property which was set.
+				if(p.pdc == 0) {
+					invalidate(p.epc);
+				}
+			}
+			break;
+		}
+	}
+
+	public static final class Entry {
+		public final byte epc;
+		public final byte[] edt;
+		public final short tid;
+		private final long mReceivedTimeMillis;
+		private final long mReceivedNanos;
+
+		Entry(byte epc, byte[] edt, short tid) {
+			this.epc = epc;
+			this.edt = edt;
+			this.tid = tid;
+			mReceivedTimeMillis = System.currentTimeMillis();
+			mReceivedNanos = System.nanoTime();
+		}
+
+		/**
+		 * Wall clock time the value was received.
+		 */
+		public long getReceivedTimeMillis() {
+			return mReceivedTimeMillis;
+		}
+
+		public long getAgeMillis() {
+			return (System.nanoTime() - mReceivedNanos) / 1000000;
+		}
+	}
+}
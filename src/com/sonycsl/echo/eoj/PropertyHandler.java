@@ -0,0 +1,45 @@
+package com.sonycsl.echo.eoj;
+
+import com.sonycsl.echo.EchoProperty;
+
+/**
+ * The accessors of the properties defined by one class of EchoObject, and
+ * the callbacks of its Receiver.
+ * <br>
+ * A class registers its handler with the EPCs it handles
+ * ({@link EchoObject#registerPropertyHandler} and
+ * {@link EchoObject.Receiver#registerReceiverHandler}). The handlers of a
+ * class and of its superclasses are merged into one table of 256 slots, so
+ * a property goes with one array lookup to the class which defines it,
+ * instead of through every class from EchoObject down. A handler
+ * switches among the properties of its own class only.
+ */
+public abstract class PropertyHandler {
+
+	protected byte[] get(EchoObject eoj, byte epc) {
+		return null;
+	}
+
+	protected boolean set(EchoObject eoj, EchoProperty property) {
+		return false;
+	}
+
+	protected boolean isValid(EchoObject eoj, EchoProperty property) {
+		return false;
+	}
+
+	protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+			EchoProperty property, boolean success) {
+		return false;
+	}
+
+	protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+			EchoProperty property, boolean success) {
+		return false;
+	}
+
+	protected boolean onInform(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+			EchoProperty property) {
+		return false;
+	}
+}
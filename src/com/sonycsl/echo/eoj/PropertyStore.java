@@ -0,0 +1,61 @@
+package com.sonycsl.echo.eoj;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Property values published by the implementation of a local EchoObject.
+ * <br>
+ * A published value is answered to Get requests as it is, without calling
+ * the getter of the property nor taking the property lock of the object,
+ * so a device which reads its hardware in the background can serve any
+ * number of controllers at once. The values are copied in and out, and
+ * replaced atomically per EPC.
+ */
+public final class PropertyStore {
+
+	private final AtomicReferenceArray<byte[]> mValues = new AtomicReferenceArray<byte[]>(256);
+
+	/**
+	 * @param edt null to withdraw the value.
+	 */
+	public void publish(byte epc, byte[] edt) {
+		mValues.set(epc & 0xFF, (edt == null) ? null : edt.clone());
+	}
+
+	public void withdraw(byte epc) {
+		mValues.set(epc & 0xFF, null);
+	}
+
+	/**
+	 * Withdraws the value if it is still the expected one, which has not
+	 * been replaced meanwhile.
+	 */
+	boolean withdraw(byte epc, byte[] expected) {
+		return mValues.compareAndSet(epc & 0xFF, expected, null);
+	}
+
+	/**
+	 * @return the published value itself, not a copy, or null.
+	 */
+	byte[] peek(byte epc) {
+		return mValues.get(epc & 0xFF);
+	}
+
+	/**
+	 * @return a copy of the published value, or null.
+	 */
+	public byte[] get(byte epc) {
+		byte[] edt = mValues.get(epc & 0xFF);
+		return (edt == null) ? null : edt.clone();
+	}
+
+	public boolean isPublished(byte epc) {
+		return mValues.get(epc & 0xFF) != null;
+	}
+
+	public void clear() {
+		for(int i = 0; i < 256; i++) {
+			mValues.set(i, null);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.sonycsl.echo.eoj;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * EPC -> PropertyHandler of a class of EchoObject or Receiver, merged from
+ * the handlers registered by the class and its superclasses.
+ * <br>
+ * A class registers in its static initializer, which runs before the
+ * static initializers of its subclasses and before any instance exists,
+ * so a table built for the class of an instance is complete.
+ */
+final class PropertyTable {
+
+	static final int GET = 0;
+	static final int SET = 1;
+	static final int IS_VALID = 2;
+	static final int ON_SET = 0;
+	static final int ON_GET = 1;
+	static final int ON_INFORM = 2;
+
+	private static final ConcurrentHashMap<Class<?>, Registration> sRegistrations = new ConcurrentHashMap<Class<?>, Registration>();
+	private static final ConcurrentHashMap<Class<?>, PropertyTable> sTables = new ConcurrentHashMap<Class<?>, PropertyTable>();
+
+	// [operation][epc & 0xFF]
+	private final PropertyHandler[][] mHandlers = new PropertyHandler[3][256];
+
+	private PropertyTable() {
+	}
+
+	static void register(Class<?> cls, PropertyHandler handler, byte[][] epcs) {
+		sRegistrations.put(cls, new Registration(handler, epcs));
+	}
+
+	static PropertyTable of(Class<?> cls) {
+		PropertyTable table = sTables.get(cls);
+		if(table != null) return table;
+		table = new PropertyTable();
+		for(Class<?> c = cls; c != null; c = c.getSuperclass()) {
+			Registration r = sRegistrations.get(c);
+			if(r == null) continue;
+			for(int op = 0; op < 3; op++) {
+				for(byte epc : r.mEPCs[op]) {
+					// a superclass is asked first, as it was by super calls.
+					table.mHandlers[op][epc & 0xFF] = r.mHandler;
+				}
+			}
+		}
+		PropertyTable old = sTables.putIfAbsent(cls, table);
+		return (old == null) ? table : old;
+	}
+
+	PropertyHandler get(int op, byte epc) {
+		return mHandlers[op][epc & 0xFF];
+	}
+
+	private static final class Registration {
+		final PropertyHandler mHandler;
+		final byte[][] mEPCs;
+
+		Registration(PropertyHandler handler, byte[][] epcs) {
+			mHandler = handler;
+			mEPCs = epcs;
+		}
+	}
+}
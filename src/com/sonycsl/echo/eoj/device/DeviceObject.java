@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.EchoUtils;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 
 public abstract class DeviceObject extends EchoObject {
 
@@ -76,92 +77,211 @@ public abstract class DeviceObject extends EchoObject {
 		addGetProperty(EPC_GET_PROPERTY_MAP);
 	}
 	
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			DeviceObject o = (DeviceObject)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_STATUS : return o.setOperationStatus(property.edt);
+			case EPC_INSTALLATION_LOCATION : return o.setInstallationLocation(property.edt);
+			case EPC_CURRENT_LIMIT_SETTING : return o.setCurrentLimitSetting(property.edt);
+			case EPC_POWER_SAVING_OPERATION_SETTING : return o.setPowerSavingOperationSetting(property.edt);
+			case EPC_REMOTE_CONTROL_SETTING : return o.setRemoteControlSetting(property.edt);
+			case EPC_CURRENT_TIME_SETTING : return o.setCurrentTimeSetting(property.edt);
+			case EPC_CURRENT_DATE_SETTING : return o.setCurrentDateSetting(property.edt);
+			case EPC_POWER_LIMIT_SETTING : return o.setPowerLimitSetting(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_OPERATION_STATUS : return setOperationStatus(property.edt);
-		case EPC_INSTALLATION_LOCATION : return setInstallationLocation(property.edt);
-		case EPC_CURRENT_LIMIT_SETTING : return setCurrentLimitSetting(property.edt);
-		case EPC_POWER_SAVING_OPERATION_SETTING : return setPowerSavingOperationSetting(property.edt);
-		case EPC_REMOTE_CONTROL_SETTING : return setRemoteControlSetting(property.edt);
-		case EPC_CURRENT_TIME_SETTING : return setCurrentTimeSetting(property.edt);
-		case EPC_CURRENT_DATE_SETTING : return setCurrentDateSetting(property.edt);
-		case EPC_POWER_LIMIT_SETTING : return setPowerLimitSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			DeviceObject o = (DeviceObject)eoj;
+			switch(epc) {
+			case EPC_OPERATION_STATUS : return o.getOperationStatus();
+			case EPC_INSTALLATION_LOCATION : return o.getInstallationLocation();
+			case EPC_STANDARD_VERSION_INFORMATION : return o.getStandardVersionInformation();
+			case EPC_IDENTIFICATION_NUMBER : return o.getIdentificationNumber();
+			case EPC_MEASURED_INSTANTANEOUS_POWER_CONSUMPTION : return o.getMeasuredInstantaneousPowerConsumption();
+			case EPC_MEASURED_CUMULATIVE_POWER_CONSUMPTION : return o.getMeasuredCumulativePowerConsumption();
+			case EPC_MANUFACTURERS_FAULT_CODE : return o.getManufacturersFaultCode();
+			case EPC_CURRENT_LIMIT_SETTING : return o.getCurrentLimitSetting();
+			case EPC_FAULT_STATUS : return o.getFaultStatus();
+			case EPC_FAULT_DESCRIPTION : return o.getFaultDescription();
+			case EPC_MANUFACTURER_CODE : return o.getManufacturerCode();
+			case EPC_BUSINESS_FACILITY_CODE : return o.getBusinessFacilityCode();
+			case EPC_PRODUCT_CODE : return o.getProductCode();
+			case EPC_PRODUCTION_NUMBER : return o.getProductionNumber();
+			case EPC_PRODUCTION_DATE : return o.getProductionDate();
+			case EPC_POWER_SAVING_OPERATION_SETTING : return o.getPowerSavingOperationSetting();
+			case EPC_REMOTE_CONTROL_SETTING : return o.getRemoteControlSetting();
+			case EPC_CURRENT_TIME_SETTING : return o.getCurrentTimeSetting();
+			case EPC_CURRENT_DATE_SETTING : return o.getCurrentDateSetting();
+			case EPC_POWER_LIMIT_SETTING : return o.getPowerLimitSetting();
+			case EPC_CUMULATIVE_OPERATING_TIME : return o.getCumulativeOperatingTime();
+			case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP : return o.getStatusChangeAnnouncementPropertyMap();
+			case EPC_SET_PROPERTY_MAP : return o.getSetPropertyMap();
+			case EPC_GET_PROPERTY_MAP : return o.getGetPropertyMap();
+			default : return null;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_OPERATION_STATUS : return getOperationStatus();
-		case EPC_INSTALLATION_LOCATION : return getInstallationLocation();
-		case EPC_STANDARD_VERSION_INFORMATION : return getStandardVersionInformation();
-		case EPC_IDENTIFICATION_NUMBER : return getIdentificationNumber();
-		case EPC_MEASURED_INSTANTANEOUS_POWER_CONSUMPTION : return getMeasuredInstantaneousPowerConsumption();
-		case EPC_MEASURED_CUMULATIVE_POWER_CONSUMPTION : return getMeasuredCumulativePowerConsumption();
-		case EPC_MANUFACTURERS_FAULT_CODE : return getManufacturersFaultCode();
-		case EPC_CURRENT_LIMIT_SETTING : return getCurrentLimitSetting();
-		case EPC_FAULT_STATUS : return getFaultStatus();
-		case EPC_FAULT_DESCRIPTION :return getFaultDescription();
-		case EPC_MANUFACTURER_CODE :return getManufacturerCode();
-		case EPC_BUSINESS_FACILITY_CODE : return getBusinessFacilityCode();
-		case EPC_PRODUCT_CODE : return getProductCode();
-		case EPC_PRODUCTION_NUMBER : return getProductionNumber();
-		case EPC_PRODUCTION_DATE : return getProductionDate();
-		case EPC_POWER_SAVING_OPERATION_SETTING : return getPowerSavingOperationSetting();
-		case EPC_REMOTE_CONTROL_SETTING : return getRemoteControlSetting();
-		case EPC_CURRENT_TIME_SETTING : return getCurrentTimeSetting();
-		case EPC_CURRENT_DATE_SETTING : return getCurrentDateSetting();
-		case EPC_POWER_LIMIT_SETTING : return getPowerLimitSetting();
-		case EPC_CUMULATIVE_OPERATING_TIME : return getCumulativeOperatingTime();
-		case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP : return getStatusChangeAnnouncementPropertyMap();
-		case EPC_SET_PROPERTY_MAP : return getSetPropertyMap();
-		case EPC_GET_PROPERTY_MAP : return getGetPropertyMap();
-		default : return null;
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			DeviceObject o = (DeviceObject)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_STATUS : return o.isValidOperationStatus(property.edt);
+			case EPC_INSTALLATION_LOCATION : return o.isValidInstallationLocation(property.edt);
+			case EPC_STANDARD_VERSION_INFORMATION : return o.isValidStandardVersionInformation(property.edt);
+			case EPC_IDENTIFICATION_NUMBER : return o.isValidIdentificationNumber(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_POWER_CONSUMPTION : return o.isValidMeasuredInstantaneousPowerConsumption(property.edt);
+			case EPC_MEASURED_CUMULATIVE_POWER_CONSUMPTION : return o.isValidMeasuredCumulativePowerConsumption(property.edt);
+			case EPC_MANUFACTURERS_FAULT_CODE : return o.isValidManufacturersFaultCode(property.edt);
+			case EPC_CURRENT_LIMIT_SETTING : return o.isValidCurrentLimitSetting(property.edt);
+			case EPC_FAULT_STATUS : return o.isValidFaultStatus(property.edt);
+			case EPC_FAULT_DESCRIPTION : return o.isValidFaultDescription(property.edt);
+			case EPC_MANUFACTURER_CODE : return o.isValidManufacturerCode(property.edt);
+			case EPC_BUSINESS_FACILITY_CODE : return o.isValidBusinessFacilityCode(property.edt);
+			case EPC_PRODUCT_CODE : return o.isValidProductCode(property.edt);
+			case EPC_PRODUCTION_NUMBER : return o.isValidProductionNumber(property.edt);
+			case EPC_PRODUCTION_DATE : return o.isValidProductionDate(property.edt);
+			case EPC_POWER_SAVING_OPERATION_SETTING : return o.isValidPowerSavingOperationSetting(property.edt);
+			case EPC_REMOTE_CONTROL_SETTING : return o.isValidRemoteControlSetting(property.edt);
+			case EPC_CURRENT_TIME_SETTING : return o.isValidCurrentTimeSetting(property.edt);
+			case EPC_CURRENT_DATE_SETTING : return o.isValidCurrentDateSetting(property.edt);
+			case EPC_POWER_LIMIT_SETTING : return o.isValidPowerLimitSetting(property.edt);
+			case EPC_CUMULATIVE_OPERATING_TIME : return o.isValidCumulativeOperatingTime(property.edt);
+			case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP : return o.isValidStatusChangeAnnouncementPropertyMap(property.edt);
+			case EPC_SET_PROPERTY_MAP : return o.isValidSetPropertyMap(property.edt);
+			case EPC_GET_PROPERTY_MAP : return o.isValidGetPropertyMap(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_OPERATION_STATUS : return isValidOperationStatus(property.edt);
-		case EPC_INSTALLATION_LOCATION : return isValidInstallationLocation(property.edt);
-		case EPC_STANDARD_VERSION_INFORMATION : return isValidStandardVersionInformation(property.edt);
-		case EPC_IDENTIFICATION_NUMBER : return isValidIdentificationNumber(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_POWER_CONSUMPTION : return isValidMeasuredInstantaneousPowerConsumption(property.edt);
-		case EPC_MEASURED_CUMULATIVE_POWER_CONSUMPTION : return isValidMeasuredCumulativePowerConsumption(property.edt);
-		case EPC_MANUFACTURERS_FAULT_CODE : return isValidManufacturersFaultCode(property.edt);
-		case EPC_CURRENT_LIMIT_SETTING : return isValidCurrentLimitSetting(property.edt);
-		case EPC_FAULT_STATUS : return isValidFaultStatus(property.edt);
-		case EPC_FAULT_DESCRIPTION : return isValidFaultDescription(property.edt);
-		case EPC_MANUFACTURER_CODE : return isValidManufacturerCode(property.edt);
-		case EPC_BUSINESS_FACILITY_CODE : return isValidBusinessFacilityCode(property.edt);
-		case EPC_PRODUCT_CODE :  return isValidProductCode(property.edt);
-		case EPC_PRODUCTION_NUMBER : return isValidProductionNumber(property.edt);
-		case EPC_PRODUCTION_DATE : return isValidProductionDate(property.edt);
-		case EPC_POWER_SAVING_OPERATION_SETTING : return isValidPowerSavingOperationSetting(property.edt);
-		case EPC_REMOTE_CONTROL_SETTING : return isValidRemoteControlSetting(property.edt);
-		case EPC_CURRENT_TIME_SETTING : return isValidCurrentTimeSetting(property.edt);
-		case EPC_CURRENT_DATE_SETTING : return isValidCurrentDateSetting(property.edt);
-		case EPC_POWER_LIMIT_SETTING : return isValidPowerLimitSetting(property.edt);
-		case EPC_CUMULATIVE_OPERATING_TIME : return isValidCumulativeOperatingTime(property.edt);
-		case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP : return isValidStatusChangeAnnouncementPropertyMap(property.edt);
-		case EPC_SET_PROPERTY_MAP : return isValidSetPropertyMap(property.edt);
-		case EPC_GET_PROPERTY_MAP : return isValidGetPropertyMap(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_OPERATION_STATUS : 
+				r.onSetOperationStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_INSTALLATION_LOCATION : 
+				r.onSetInstallationLocation(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CURRENT_LIMIT_SETTING : 
+				r.onSetCurrentLimitSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_POWER_SAVING_OPERATION_SETTING : 
+				r.onSetPowerSavingOperationSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_REMOTE_CONTROL_SETTING : 
+				r.onSetRemoteControlSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CURRENT_TIME_SETTING : 
+				r.onSetCurrentTimeSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CURRENT_DATE_SETTING : 
+				r.onSetCurrentDateSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_POWER_LIMIT_SETTING : 
+				r.onSetPowerLimitSetting(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
-	}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_OPERATION_STATUS : 
+				r.onGetOperationStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_INSTALLATION_LOCATION : 
+				r.onGetInstallationLocation(eoj, tid, esv, property, success);
+				return true;
+			case EPC_STANDARD_VERSION_INFORMATION : 
+				r.onGetStandardVersionInformation(eoj, tid, esv, property, success);
+				return true;
+			case EPC_IDENTIFICATION_NUMBER : 
+				r.onGetIdentificationNumber(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MEASURED_INSTANTANEOUS_POWER_CONSUMPTION : 
+				r.onGetMeasuredInstantaneousPowerConsumption(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MEASURED_CUMULATIVE_POWER_CONSUMPTION : 
+				r.onGetMeasuredCumulativePowerConsumption(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MANUFACTURERS_FAULT_CODE : 
+				r.onGetManufacturersFaultCode(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CURRENT_LIMIT_SETTING : 
+				r.onGetCurrentLimitSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_FAULT_STATUS : 
+				r.onGetFaultStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_FAULT_DESCRIPTION : 
+				r.onGetFaultDescription(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MANUFACTURER_CODE : 
+				r.onGetManufacturerCode(eoj, tid, esv, property, success);
+				return true;
+			case EPC_BUSINESS_FACILITY_CODE : 
+				r.onGetBusinessFacilityCode(eoj, tid, esv, property, success);
+				return true;
+			case EPC_PRODUCT_CODE : 
+				r.onGetProductCode(eoj, tid, esv, property, success);
+				return true;
+			case EPC_PRODUCTION_NUMBER : 
+				r.onGetProductionNumber(eoj, tid, esv, property, success);
+				return true;
+			case EPC_PRODUCTION_DATE : 
+				r.onGetProductionDate(eoj, tid, esv, property, success);
+				return true;
+			case EPC_POWER_SAVING_OPERATION_SETTING : 
+				r.onGetPowerSavingOperationSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_REMOTE_CONTROL_SETTING : 
+				r.onGetRemoteControlSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CURRENT_TIME_SETTING : 
+				r.onGetCurrentTimeSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CURRENT_DATE_SETTING : 
+				r.onGetCurrentDateSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_POWER_LIMIT_SETTING : 
+				r.onGetPowerLimitSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CUMULATIVE_OPERATING_TIME : 
+				r.onGetCumulativeOperatingTime(eoj, tid, esv, property, success);
+				return true;
+			case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP : 
+				r.onGetStatusChangeAnnouncementPropertyMap(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SET_PROPERTY_MAP : 
+				r.onGetSetPropertyMap(eoj, tid, esv, property, success);
+				return true;
+			case EPC_GET_PROPERTY_MAP : 
+				r.onGetGetPropertyMap(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+	};
 	
+	static {
+		registerPropertyHandler(DeviceObject.class, sPropertyHandler
+				, new byte[] {EPC_OPERATION_STATUS, EPC_INSTALLATION_LOCATION, EPC_STANDARD_VERSION_INFORMATION, EPC_IDENTIFICATION_NUMBER, EPC_MEASURED_INSTANTANEOUS_POWER_CONSUMPTION, EPC_MEASURED_CUMULATIVE_POWER_CONSUMPTION, EPC_MANUFACTURERS_FAULT_CODE, EPC_CURRENT_LIMIT_SETTING, EPC_FAULT_STATUS, EPC_FAULT_DESCRIPTION, EPC_MANUFACTURER_CODE, EPC_BUSINESS_FACILITY_CODE, EPC_PRODUCT_CODE, EPC_PRODUCTION_NUMBER, EPC_PRODUCTION_DATE, EPC_POWER_SAVING_OPERATION_SETTING, EPC_REMOTE_CONTROL_SETTING, EPC_CURRENT_TIME_SETTING, EPC_CURRENT_DATE_SETTING, EPC_POWER_LIMIT_SETTING, EPC_CUMULATIVE_OPERATING_TIME, EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP, EPC_SET_PROPERTY_MAP, EPC_GET_PROPERTY_MAP}
+				, new byte[] {EPC_OPERATION_STATUS, EPC_INSTALLATION_LOCATION, EPC_CURRENT_LIMIT_SETTING, EPC_POWER_SAVING_OPERATION_SETTING, EPC_REMOTE_CONTROL_SETTING, EPC_CURRENT_TIME_SETTING, EPC_CURRENT_DATE_SETTING, EPC_POWER_LIMIT_SETTING}
+				, new byte[] {EPC_OPERATION_STATUS, EPC_INSTALLATION_LOCATION, EPC_STANDARD_VERSION_INFORMATION, EPC_IDENTIFICATION_NUMBER, EPC_MEASURED_INSTANTANEOUS_POWER_CONSUMPTION, EPC_MEASURED_CUMULATIVE_POWER_CONSUMPTION, EPC_MANUFACTURERS_FAULT_CODE, EPC_CURRENT_LIMIT_SETTING, EPC_FAULT_STATUS, EPC_FAULT_DESCRIPTION, EPC_MANUFACTURER_CODE, EPC_BUSINESS_FACILITY_CODE, EPC_PRODUCT_CODE, EPC_PRODUCTION_NUMBER, EPC_PRODUCTION_DATE, EPC_POWER_SAVING_OPERATION_SETTING, EPC_REMOTE_CONTROL_SETTING, EPC_CURRENT_TIME_SETTING, EPC_CURRENT_DATE_SETTING, EPC_POWER_LIMIT_SETTING, EPC_CUMULATIVE_OPERATING_TIME, EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP, EPC_SET_PROPERTY_MAP, EPC_GET_PROPERTY_MAP});
+	}
+
 	/**This property indicates the ON/OFF status.<br>
 	 * <br>
 	 * ON＝0x30，OFF＝0x31<br>
@@ -799,7 +919,7 @@ public abstract class DeviceObject extends EchoObject {
 	 * Get : mandatory<br>
 	 */
 	protected byte[] getStatusChangeAnnouncementPropertyMap() {
-		return EchoUtils.propertiesToPropertyMap(getStatusChangeAnnouncementProperties());
+		return getStatusChangeAnnouncementEPCSet().toPropertyMap();
 	}
 		
 	protected boolean isValidStatusChangeAnnouncementPropertyMap(byte[] edt) {
@@ -819,7 +939,7 @@ public abstract class DeviceObject extends EchoObject {
 	 * Get : mandatory<br>
 	 */
 	protected byte[] getSetPropertyMap() {
-		return EchoUtils.propertiesToPropertyMap(getSetProperties());
+		return getSetEPCSet().toPropertyMap();
 	}
 	
 	protected boolean isValidSetPropertyMap(byte[] edt) {
@@ -839,7 +959,7 @@ public abstract class DeviceObject extends EchoObject {
 	 * Get : mandatory<br>
 	 */
 	protected byte[] getGetPropertyMap() {
-		return EchoUtils.propertiesToPropertyMap(getGetProperties());
+		return getGetEPCSet().toPropertyMap();
 	}
 	
 	protected boolean isValidGetPropertyMap(byte[] edt) {
@@ -883,125 +1003,11 @@ public abstract class DeviceObject extends EchoObject {
 
 
 	public static class Receiver extends EchoObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_OPERATION_STATUS :
-				onSetOperationStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_INSTALLATION_LOCATION :
-				onSetInstallationLocation(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CURRENT_LIMIT_SETTING :
-				onSetCurrentLimitSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_POWER_SAVING_OPERATION_SETTING :
-				onSetPowerSavingOperationSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_REMOTE_CONTROL_SETTING :
-				onSetRemoteControlSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CURRENT_TIME_SETTING :
-				onSetCurrentTimeSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CURRENT_DATE_SETTING :
-				onSetCurrentDateSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_POWER_LIMIT_SETTING :
-				onSetPowerLimitSetting(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_OPERATION_STATUS :
-				onGetOperationStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_INSTALLATION_LOCATION :
-				onGetInstallationLocation(eoj, tid, esv, property, success);
-				return true;
-			case EPC_STANDARD_VERSION_INFORMATION :
-				onGetStandardVersionInformation(eoj, tid, esv, property, success);
-				return true;
-			case EPC_IDENTIFICATION_NUMBER :
-				onGetIdentificationNumber(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MEASURED_INSTANTANEOUS_POWER_CONSUMPTION :
-				onGetMeasuredInstantaneousPowerConsumption(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MEASURED_CUMULATIVE_POWER_CONSUMPTION :
-				onGetMeasuredCumulativePowerConsumption(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MANUFACTURERS_FAULT_CODE :
-				onGetManufacturersFaultCode(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CURRENT_LIMIT_SETTING :
-				onGetCurrentLimitSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_FAULT_STATUS :
-				onGetFaultStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_FAULT_DESCRIPTION :
-				onGetFaultDescription(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MANUFACTURER_CODE :
-				onGetManufacturerCode(eoj, tid, esv, property, success);
-				return true;
-			case EPC_BUSINESS_FACILITY_CODE :
-				onGetBusinessFacilityCode(eoj, tid, esv, property, success);
-				return true;
-			case EPC_PRODUCT_CODE :
-				onGetProductCode(eoj, tid, esv, property, success);
-				return true;
-			case EPC_PRODUCTION_NUMBER :
-				onGetProductionNumber(eoj, tid, esv, property, success);
-				return true;
-			case EPC_PRODUCTION_DATE :
-				onGetProductionDate(eoj, tid, esv, property, success);
-				return true;
-			case EPC_POWER_SAVING_OPERATION_SETTING :
-				onGetPowerSavingOperationSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_REMOTE_CONTROL_SETTING :
-				onGetRemoteControlSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CURRENT_TIME_SETTING :
-				onGetCurrentTimeSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CURRENT_DATE_SETTING :
-				onGetCurrentDateSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_POWER_LIMIT_SETTING :
-				onGetPowerLimitSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CUMULATIVE_OPERATING_TIME :
-				onGetCumulativeOperatingTime(eoj, tid, esv, property, success);
-				return true;
-			case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP :
-				onGetStatusChangeAnnouncementPropertyMap(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SET_PROPERTY_MAP :
-				onGetSetPropertyMap(eoj, tid, esv, property, success);
-				return true;
-			case EPC_GET_PROPERTY_MAP :
-				onGetGetPropertyMap(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_OPERATION_STATUS, EPC_INSTALLATION_LOCATION, EPC_CURRENT_LIMIT_SETTING, EPC_POWER_SAVING_OPERATION_SETTING, EPC_REMOTE_CONTROL_SETTING, EPC_CURRENT_TIME_SETTING, EPC_CURRENT_DATE_SETTING, EPC_POWER_LIMIT_SETTING}
+					, new byte[] {EPC_OPERATION_STATUS, EPC_INSTALLATION_LOCATION, EPC_STANDARD_VERSION_INFORMATION, EPC_IDENTIFICATION_NUMBER, EPC_MEASURED_INSTANTANEOUS_POWER_CONSUMPTION, EPC_MEASURED_CUMULATIVE_POWER_CONSUMPTION, EPC_MANUFACTURERS_FAULT_CODE, EPC_CURRENT_LIMIT_SETTING, EPC_FAULT_STATUS, EPC_FAULT_DESCRIPTION, EPC_MANUFACTURER_CODE, EPC_BUSINESS_FACILITY_CODE, EPC_PRODUCT_CODE, EPC_PRODUCTION_NUMBER, EPC_PRODUCTION_DATE, EPC_POWER_SAVING_OPERATION_SETTING, EPC_REMOTE_CONTROL_SETTING, EPC_CURRENT_TIME_SETTING, EPC_CURRENT_DATE_SETTING, EPC_POWER_LIMIT_SETTING, EPC_CUMULATIVE_OPERATING_TIME, EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP, EPC_SET_PROPERTY_MAP, EPC_GET_PROPERTY_MAP}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -393,46 +394,90 @@ public abstract class AirCleaner extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			AirCleaner o = (AirCleaner)eoj;
+			switch(property.epc) {
+			case EPC_AIR_FLOW_RATE_SETTING : return o.setAirFlowRateSetting(property.edt);
+			case EPC_OPTICAL_CATALYST_OPERATION_SETTING : return o.setOpticalCatalystOperationSetting(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_AIR_FLOW_RATE_SETTING : return setAirFlowRateSetting(property.edt);
-		case EPC_OPTICAL_CATALYST_OPERATION_SETTING : return setOpticalCatalystOperationSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			AirCleaner o = (AirCleaner)eoj;
+			switch(epc) {
+			case EPC_FILTER_CHANGE_NOTICE : return o.getFilterChangeNotice();
+			case EPC_AIR_FLOW_RATE_SETTING : return o.getAirFlowRateSetting();
+			case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : return o.getSmokeCigaretteDetectionStatus();
+			case EPC_OPTICAL_CATALYST_OPERATION_SETTING : return o.getOpticalCatalystOperationSetting();
+			case EPC_AIR_POLLUTION_DETECTION_STATUS : return o.getAirPollutionDetectionStatus();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_FILTER_CHANGE_NOTICE : return getFilterChangeNotice();
-		case EPC_AIR_FLOW_RATE_SETTING : return getAirFlowRateSetting();
-		case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : return getSmokeCigaretteDetectionStatus();
-		case EPC_OPTICAL_CATALYST_OPERATION_SETTING : return getOpticalCatalystOperationSetting();
-		case EPC_AIR_POLLUTION_DETECTION_STATUS : return getAirPollutionDetectionStatus();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			AirCleaner o = (AirCleaner)eoj;
+			switch(property.epc) {
+			case EPC_FILTER_CHANGE_NOTICE : return o.isValidFilterChangeNotice(property.edt);
+			case EPC_AIR_FLOW_RATE_SETTING : return o.isValidAirFlowRateSetting(property.edt);
+			case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : return o.isValidSmokeCigaretteDetectionStatus(property.edt);
+			case EPC_OPTICAL_CATALYST_OPERATION_SETTING : return o.isValidOpticalCatalystOperationSetting(property.edt);
+			case EPC_AIR_POLLUTION_DETECTION_STATUS : return o.isValidAirPollutionDetectionStatus(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_FILTER_CHANGE_NOTICE : return isValidFilterChangeNotice(property.edt);
-		case EPC_AIR_FLOW_RATE_SETTING : return isValidAirFlowRateSetting(property.edt);
-		case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : return isValidSmokeCigaretteDetectionStatus(property.edt);
-		case EPC_OPTICAL_CATALYST_OPERATION_SETTING : return isValidOpticalCatalystOperationSetting(property.edt);
-		case EPC_AIR_POLLUTION_DETECTION_STATUS : return isValidAirPollutionDetectionStatus(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_AIR_FLOW_RATE_SETTING : 
+				r.onSetAirFlowRateSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_OPTICAL_CATALYST_OPERATION_SETTING : 
+				r.onSetOpticalCatalystOperationSetting(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_FILTER_CHANGE_NOTICE : 
+				r.onGetFilterChangeNotice(eoj, tid, esv, property, success);
+				return true;
+			case EPC_AIR_FLOW_RATE_SETTING : 
+				r.onGetAirFlowRateSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : 
+				r.onGetSmokeCigaretteDetectionStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_OPTICAL_CATALYST_OPERATION_SETTING : 
+				r.onGetOpticalCatalystOperationSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_AIR_POLLUTION_DETECTION_STATUS : 
+				r.onGetAirPollutionDetectionStatus(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(AirCleaner.class, sPropertyHandler
+				, new byte[] {EPC_FILTER_CHANGE_NOTICE, EPC_AIR_FLOW_RATE_SETTING, EPC_SMOKE_CIGARETTE_DETECTION_STATUS, EPC_OPTICAL_CATALYST_OPERATION_SETTING, EPC_AIR_POLLUTION_DETECTION_STATUS}
+				, new byte[] {EPC_AIR_FLOW_RATE_SETTING, EPC_OPTICAL_CATALYST_OPERATION_SETTING}
+				, new byte[] {EPC_FILTER_CHANGE_NOTICE, EPC_AIR_FLOW_RATE_SETTING, EPC_SMOKE_CIGARETTE_DETECTION_STATUS, EPC_OPTICAL_CATALYST_OPERATION_SETTING, EPC_AIR_POLLUTION_DETECTION_STATUS});
 	}
 
 	@Override
@@ -470,50 +515,11 @@ public abstract class AirCleaner extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_AIR_FLOW_RATE_SETTING : 
-				onSetAirFlowRateSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_OPTICAL_CATALYST_OPERATION_SETTING : 
-				onSetOpticalCatalystOperationSetting(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_FILTER_CHANGE_NOTICE : 
-				onGetFilterChangeNotice(eoj, tid, esv, property, success);
-				return true;
-			case EPC_AIR_FLOW_RATE_SETTING : 
-				onGetAirFlowRateSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : 
-				onGetSmokeCigaretteDetectionStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_OPTICAL_CATALYST_OPERATION_SETTING : 
-				onGetOpticalCatalystOperationSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_AIR_POLLUTION_DETECTION_STATUS : 
-				onGetAirPollutionDetectionStatus(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_AIR_FLOW_RATE_SETTING, EPC_OPTICAL_CATALYST_OPERATION_SETTING}
+					, new byte[] {EPC_FILTER_CHANGE_NOTICE, EPC_AIR_FLOW_RATE_SETTING, EPC_SMOKE_CIGARETTE_DETECTION_STATUS, EPC_OPTICAL_CATALYST_OPERATION_SETTING, EPC_AIR_POLLUTION_DETECTION_STATUS}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -537,108 +538,65 @@ public abstract class AirConditionerVentilationFan extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return setSetValueOfRoomRelativeHumidity(property.edt);
-		case EPC_VENTILATION_AUTO_SETTING : return setVentilationAutoSetting(property.edt);
-		case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return setSetValueOfVentilationAirFlowRate(property.edt);
-		case EPC_HEAT_EXCHANGER_OPERATION_SETTING : return setHeatExchangerOperationSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return getSetValueOfRoomRelativeHumidity();
-		case EPC_VENTILATION_AUTO_SETTING : return getVentilationAutoSetting();
-		case EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return getMeasuredValueOfRoomRelativeHumidity();
-		case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return getSetValueOfVentilationAirFlowRate();
-		case EPC_HEAT_EXCHANGER_OPERATION_SETTING : return getHeatExchangerOperationSetting();
-		case EPC_MEASURED_VALUE_OF_CO2_CONCENTRATION : return getMeasuredValueOfCo2Concentration();
-		case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : return getSmokeCigaretteDetectionStatus();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			AirConditionerVentilationFan o = (AirConditionerVentilationFan)eoj;
+			switch(property.epc) {
+			case EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return o.setSetValueOfRoomRelativeHumidity(property.edt);
+			case EPC_VENTILATION_AUTO_SETTING : return o.setVentilationAutoSetting(property.edt);
+			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return o.setSetValueOfVentilationAirFlowRate(property.edt);
+			case EPC_HEAT_EXCHANGER_OPERATION_SETTING : return o.setHeatExchangerOperationSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return isValidSetValueOfRoomRelativeHumidity(property.edt);
-		case EPC_VENTILATION_AUTO_SETTING : return isValidVentilationAutoSetting(property.edt);
-		case EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return isValidMeasuredValueOfRoomRelativeHumidity(property.edt);
-		case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return isValidSetValueOfVentilationAirFlowRate(property.edt);
-		case EPC_HEAT_EXCHANGER_OPERATION_SETTING : return isValidHeatExchangerOperationSetting(property.edt);
-		case EPC_MEASURED_VALUE_OF_CO2_CONCENTRATION : return isValidMeasuredValueOfCo2Concentration(property.edt);
-		case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : return isValidSmokeCigaretteDetectionStatus(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			AirConditionerVentilationFan o = (AirConditionerVentilationFan)eoj;
+			switch(epc) {
+			case EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return o.getSetValueOfRoomRelativeHumidity();
+			case EPC_VENTILATION_AUTO_SETTING : return o.getVentilationAutoSetting();
+			case EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return o.getMeasuredValueOfRoomRelativeHumidity();
+			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return o.getSetValueOfVentilationAirFlowRate();
+			case EPC_HEAT_EXCHANGER_OPERATION_SETTING : return o.getHeatExchangerOperationSetting();
+			case EPC_MEASURED_VALUE_OF_CO2_CONCENTRATION : return o.getMeasuredValueOfCo2Concentration();
+			case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : return o.getSmokeCigaretteDetectionStatus();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			AirConditionerVentilationFan o = (AirConditionerVentilationFan)eoj;
+			switch(property.epc) {
+			case EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return o.isValidSetValueOfRoomRelativeHumidity(property.edt);
+			case EPC_VENTILATION_AUTO_SETTING : return o.isValidVentilationAutoSetting(property.edt);
+			case EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return o.isValidMeasuredValueOfRoomRelativeHumidity(property.edt);
+			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return o.isValidSetValueOfVentilationAirFlowRate(property.edt);
+			case EPC_HEAT_EXCHANGER_OPERATION_SETTING : return o.isValidHeatExchangerOperationSetting(property.edt);
+			case EPC_MEASURED_VALUE_OF_CO2_CONCENTRATION : return o.isValidMeasuredValueOfCo2Concentration(property.edt);
+			case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : return o.isValidSmokeCigaretteDetectionStatus(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY : 
-				onSetSetValueOfRoomRelativeHumidity(eoj, tid, esv, property, success);
+				r.onSetSetValueOfRoomRelativeHumidity(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_AUTO_SETTING : 
-				onSetVentilationAutoSetting(eoj, tid, esv, property, success);
+				r.onSetVentilationAutoSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : 
-				onSetSetValueOfVentilationAirFlowRate(eoj, tid, esv, property, success);
+				r.onSetSetValueOfVentilationAirFlowRate(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEAT_EXCHANGER_OPERATION_SETTING : 
-				onSetHeatExchangerOperationSetting(eoj, tid, esv, property, success);
+				r.onSetHeatExchangerOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -646,37 +604,85 @@ public abstract class AirConditionerVentilationFan extends DeviceObject {
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY : 
-				onGetSetValueOfRoomRelativeHumidity(eoj, tid, esv, property, success);
+				r.onGetSetValueOfRoomRelativeHumidity(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_AUTO_SETTING : 
-				onGetVentilationAutoSetting(eoj, tid, esv, property, success);
+				r.onGetVentilationAutoSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY : 
-				onGetMeasuredValueOfRoomRelativeHumidity(eoj, tid, esv, property, success);
+				r.onGetMeasuredValueOfRoomRelativeHumidity(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : 
-				onGetSetValueOfVentilationAirFlowRate(eoj, tid, esv, property, success);
+				r.onGetSetValueOfVentilationAirFlowRate(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEAT_EXCHANGER_OPERATION_SETTING : 
-				onGetHeatExchangerOperationSetting(eoj, tid, esv, property, success);
+				r.onGetHeatExchangerOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_VALUE_OF_CO2_CONCENTRATION : 
-				onGetMeasuredValueOfCo2Concentration(eoj, tid, esv, property, success);
+				r.onGetMeasuredValueOfCo2Concentration(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SMOKE_CIGARETTE_DETECTION_STATUS : 
-				onGetSmokeCigaretteDetectionStatus(eoj, tid, esv, property, success);
+				r.onGetSmokeCigaretteDetectionStatus(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(AirConditionerVentilationFan.class, sPropertyHandler
+				, new byte[] {EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_VENTILATION_AUTO_SETTING, EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE, EPC_HEAT_EXCHANGER_OPERATION_SETTING, EPC_MEASURED_VALUE_OF_CO2_CONCENTRATION, EPC_SMOKE_CIGARETTE_DETECTION_STATUS}
+				, new byte[] {EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_VENTILATION_AUTO_SETTING, EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE, EPC_HEAT_EXCHANGER_OPERATION_SETTING}
+				, new byte[] {EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_VENTILATION_AUTO_SETTING, EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE, EPC_HEAT_EXCHANGER_OPERATION_SETTING, EPC_MEASURED_VALUE_OF_CO2_CONCENTRATION, EPC_SMOKE_CIGARETTE_DETECTION_STATUS});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_VENTILATION_AUTO_SETTING, EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE, EPC_HEAT_EXCHANGER_OPERATION_SETTING}
+					, new byte[] {EPC_SET_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_VENTILATION_AUTO_SETTING, EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE, EPC_HEAT_EXCHANGER_OPERATION_SETTING, EPC_MEASURED_VALUE_OF_CO2_CONCENTRATION, EPC_SMOKE_CIGARETTE_DETECTION_STATUS}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Set value of room relative humidity<br>
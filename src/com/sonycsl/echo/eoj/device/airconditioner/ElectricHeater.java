@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -852,136 +853,93 @@ public abstract class ElectricHeater extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return setAutomaticTemperatureControlSetting(property.edt);
-		case EPC_TEMPERATURE_SETTING : return setTemperatureSetting(property.edt);
-		case EPC_AIR_FLOW_RATE_SETTING : return setAirFlowRateSetting(property.edt);
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return setOnTimerBasedReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING_TIME : return setOnTimerSettingTime(property.edt);
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return setOnTimerSettingRelativeTime(property.edt);
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return setOffTimerBasedReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING_TIME : return setOffTimerSettingTime(property.edt);
-		case EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME : return setSetValueOfOffTimerRelativeTime(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return getAutomaticTemperatureControlSetting();
-		case EPC_TEMPERATURE_SETTING : return getTemperatureSetting();
-		case EPC_MEASURED_ROOM_TEMPERATURE : return getMeasuredRoomTemperature();
-		case EPC_REMOTELY_SET_TEMPERATURE : return getRemotelySetTemperature();
-		case EPC_AIR_FLOW_RATE_SETTING : return getAirFlowRateSetting();
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return getOnTimerBasedReservationSetting();
-		case EPC_ON_TIMER_SETTING_TIME : return getOnTimerSettingTime();
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return getOnTimerSettingRelativeTime();
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return getOffTimerBasedReservationSetting();
-		case EPC_OFF_TIMER_SETTING_TIME : return getOffTimerSettingTime();
-		case EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME : return getSetValueOfOffTimerRelativeTime();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			ElectricHeater o = (ElectricHeater)eoj;
+			switch(property.epc) {
+			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return o.setAutomaticTemperatureControlSetting(property.edt);
+			case EPC_TEMPERATURE_SETTING : return o.setTemperatureSetting(property.edt);
+			case EPC_AIR_FLOW_RATE_SETTING : return o.setAirFlowRateSetting(property.edt);
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return o.setOnTimerBasedReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING_TIME : return o.setOnTimerSettingTime(property.edt);
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.setOnTimerSettingRelativeTime(property.edt);
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.setOffTimerBasedReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING_TIME : return o.setOffTimerSettingTime(property.edt);
+			case EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME : return o.setSetValueOfOffTimerRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return isValidAutomaticTemperatureControlSetting(property.edt);
-		case EPC_TEMPERATURE_SETTING : return isValidTemperatureSetting(property.edt);
-		case EPC_MEASURED_ROOM_TEMPERATURE : return isValidMeasuredRoomTemperature(property.edt);
-		case EPC_REMOTELY_SET_TEMPERATURE : return isValidRemotelySetTemperature(property.edt);
-		case EPC_AIR_FLOW_RATE_SETTING : return isValidAirFlowRateSetting(property.edt);
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return isValidOnTimerBasedReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING_TIME : return isValidOnTimerSettingTime(property.edt);
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return isValidOnTimerSettingRelativeTime(property.edt);
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return isValidOffTimerBasedReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING_TIME : return isValidOffTimerSettingTime(property.edt);
-		case EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME : return isValidSetValueOfOffTimerRelativeTime(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ElectricHeater o = (ElectricHeater)eoj;
+			switch(epc) {
+			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return o.getAutomaticTemperatureControlSetting();
+			case EPC_TEMPERATURE_SETTING : return o.getTemperatureSetting();
+			case EPC_MEASURED_ROOM_TEMPERATURE : return o.getMeasuredRoomTemperature();
+			case EPC_REMOTELY_SET_TEMPERATURE : return o.getRemotelySetTemperature();
+			case EPC_AIR_FLOW_RATE_SETTING : return o.getAirFlowRateSetting();
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return o.getOnTimerBasedReservationSetting();
+			case EPC_ON_TIMER_SETTING_TIME : return o.getOnTimerSettingTime();
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.getOnTimerSettingRelativeTime();
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.getOffTimerBasedReservationSetting();
+			case EPC_OFF_TIMER_SETTING_TIME : return o.getOffTimerSettingTime();
+			case EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME : return o.getSetValueOfOffTimerRelativeTime();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ElectricHeater o = (ElectricHeater)eoj;
+			switch(property.epc) {
+			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return o.isValidAutomaticTemperatureControlSetting(property.edt);
+			case EPC_TEMPERATURE_SETTING : return o.isValidTemperatureSetting(property.edt);
+			case EPC_MEASURED_ROOM_TEMPERATURE : return o.isValidMeasuredRoomTemperature(property.edt);
+			case EPC_REMOTELY_SET_TEMPERATURE : return o.isValidRemotelySetTemperature(property.edt);
+			case EPC_AIR_FLOW_RATE_SETTING : return o.isValidAirFlowRateSetting(property.edt);
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return o.isValidOnTimerBasedReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING_TIME : return o.isValidOnTimerSettingTime(property.edt);
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.isValidOnTimerSettingRelativeTime(property.edt);
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.isValidOffTimerBasedReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING_TIME : return o.isValidOffTimerSettingTime(property.edt);
+			case EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME : return o.isValidSetValueOfOffTimerRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : 
-				onSetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING : 
-				onSetTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_RATE_SETTING : 
-				onSetAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onSetAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : 
-				onSetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_TIME : 
-				onSetOnTimerSettingTime(eoj, tid, esv, property, success);
+				r.onSetOnTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : 
-				onSetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onSetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : 
-				onSetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_TIME : 
-				onSetOffTimerSettingTime(eoj, tid, esv, property, success);
+				r.onSetOffTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME : 
-				onSetSetValueOfOffTimerRelativeTime(eoj, tid, esv, property, success);
+				r.onSetSetValueOfOffTimerRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -989,49 +947,97 @@ public abstract class ElectricHeater extends DeviceObject {
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : 
-				onGetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING : 
-				onGetTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_ROOM_TEMPERATURE : 
-				onGetMeasuredRoomTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredRoomTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMOTELY_SET_TEMPERATURE : 
-				onGetRemotelySetTemperature(eoj, tid, esv, property, success);
+				r.onGetRemotelySetTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_RATE_SETTING : 
-				onGetAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onGetAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : 
-				onGetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_TIME : 
-				onGetOnTimerSettingTime(eoj, tid, esv, property, success);
+				r.onGetOnTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : 
-				onGetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onGetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : 
-				onGetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_TIME : 
-				onGetOffTimerSettingTime(eoj, tid, esv, property, success);
+				r.onGetOffTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME : 
-				onGetSetValueOfOffTimerRelativeTime(eoj, tid, esv, property, success);
+				r.onGetSetValueOfOffTimerRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ElectricHeater.class, sPropertyHandler
+				, new byte[] {EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_TEMPERATURE_SETTING, EPC_MEASURED_ROOM_TEMPERATURE, EPC_REMOTELY_SET_TEMPERATURE, EPC_AIR_FLOW_RATE_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME}
+				, new byte[] {EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME}
+				, new byte[] {EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_TEMPERATURE_SETTING, EPC_MEASURED_ROOM_TEMPERATURE, EPC_REMOTELY_SET_TEMPERATURE, EPC_AIR_FLOW_RATE_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME}
+					, new byte[] {EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_TEMPERATURE_SETTING, EPC_MEASURED_ROOM_TEMPERATURE, EPC_REMOTELY_SET_TEMPERATURE, EPC_AIR_FLOW_RATE_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_SET_VALUE_OF_OFF_TIMER_RELATIVE_TIME}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Automatic temperature control setting<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -1047,150 +1048,107 @@ public abstract class FanHeater extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_TEMPERATURE_SETTING_VALUE : return setTemperatureSettingValue(property.edt);
-		case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return setAutomaticTemperatureControlSetting(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return setOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING_VALUE_TIME : return setOnTimerSettingValueTime(property.edt);
-		case EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME : return setOnTimerSettingValueRelativeTime(property.edt);
-		case EPC_OFF_TIMER_RESERVATION_SETTING : return setOffTimerReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING_VALUE_TIME : return setOffTimerSettingValueTime(property.edt);
-		case EPC_OFF_TIMER_VALUE_RELATIVE_TIME : return setOffTimerValueRelativeTime(property.edt);
-		case EPC_EXTENTIONAL_OPERATION_SETTING : return setExtentionalOperationSetting(property.edt);
-		case EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE : return setExtentionalOperationTimerTimeSettingValue(property.edt);
-		case EPC_ION_EMISSION_SETTING : return setIonEmissionSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_TEMPERATURE_SETTING_VALUE : return getTemperatureSettingValue();
-		case EPC_MEASURED_TEMPERATURE : return getMeasuredTemperature();
-		case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return getAutomaticTemperatureControlSetting();
-		case EPC_ON_TIMER_RESERVATION_SETTING : return getOnTimerReservationSetting();
-		case EPC_ON_TIMER_SETTING_VALUE_TIME : return getOnTimerSettingValueTime();
-		case EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME : return getOnTimerSettingValueRelativeTime();
-		case EPC_OFF_TIMER_RESERVATION_SETTING : return getOffTimerReservationSetting();
-		case EPC_OFF_TIMER_SETTING_VALUE_TIME : return getOffTimerSettingValueTime();
-		case EPC_OFF_TIMER_VALUE_RELATIVE_TIME : return getOffTimerValueRelativeTime();
-		case EPC_EXTENTIONAL_OPERATION_SETTING : return getExtentionalOperationSetting();
-		case EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE : return getExtentionalOperationTimerTimeSettingValue();
-		case EPC_ION_EMISSION_SETTING : return getIonEmissionSetting();
-		case EPC_IMPLEMENTED_ION_EMISSION_METHOD : return getImplementedIonEmissionMethod();
-		case EPC_OIL_AMOUNT_LEVEL : return getOilAmountLevel();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			FanHeater o = (FanHeater)eoj;
+			switch(property.epc) {
+			case EPC_TEMPERATURE_SETTING_VALUE : return o.setTemperatureSettingValue(property.edt);
+			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return o.setAutomaticTemperatureControlSetting(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.setOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING_VALUE_TIME : return o.setOnTimerSettingValueTime(property.edt);
+			case EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME : return o.setOnTimerSettingValueRelativeTime(property.edt);
+			case EPC_OFF_TIMER_RESERVATION_SETTING : return o.setOffTimerReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING_VALUE_TIME : return o.setOffTimerSettingValueTime(property.edt);
+			case EPC_OFF_TIMER_VALUE_RELATIVE_TIME : return o.setOffTimerValueRelativeTime(property.edt);
+			case EPC_EXTENTIONAL_OPERATION_SETTING : return o.setExtentionalOperationSetting(property.edt);
+			case EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE : return o.setExtentionalOperationTimerTimeSettingValue(property.edt);
+			case EPC_ION_EMISSION_SETTING : return o.setIonEmissionSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_TEMPERATURE_SETTING_VALUE : return isValidTemperatureSettingValue(property.edt);
-		case EPC_MEASURED_TEMPERATURE : return isValidMeasuredTemperature(property.edt);
-		case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return isValidAutomaticTemperatureControlSetting(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return isValidOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING_VALUE_TIME : return isValidOnTimerSettingValueTime(property.edt);
-		case EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME : return isValidOnTimerSettingValueRelativeTime(property.edt);
-		case EPC_OFF_TIMER_RESERVATION_SETTING : return isValidOffTimerReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING_VALUE_TIME : return isValidOffTimerSettingValueTime(property.edt);
-		case EPC_OFF_TIMER_VALUE_RELATIVE_TIME : return isValidOffTimerValueRelativeTime(property.edt);
-		case EPC_EXTENTIONAL_OPERATION_SETTING : return isValidExtentionalOperationSetting(property.edt);
-		case EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE : return isValidExtentionalOperationTimerTimeSettingValue(property.edt);
-		case EPC_ION_EMISSION_SETTING : return isValidIonEmissionSetting(property.edt);
-		case EPC_IMPLEMENTED_ION_EMISSION_METHOD : return isValidImplementedIonEmissionMethod(property.edt);
-		case EPC_OIL_AMOUNT_LEVEL : return isValidOilAmountLevel(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			FanHeater o = (FanHeater)eoj;
+			switch(epc) {
+			case EPC_TEMPERATURE_SETTING_VALUE : return o.getTemperatureSettingValue();
+			case EPC_MEASURED_TEMPERATURE : return o.getMeasuredTemperature();
+			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return o.getAutomaticTemperatureControlSetting();
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.getOnTimerReservationSetting();
+			case EPC_ON_TIMER_SETTING_VALUE_TIME : return o.getOnTimerSettingValueTime();
+			case EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME : return o.getOnTimerSettingValueRelativeTime();
+			case EPC_OFF_TIMER_RESERVATION_SETTING : return o.getOffTimerReservationSetting();
+			case EPC_OFF_TIMER_SETTING_VALUE_TIME : return o.getOffTimerSettingValueTime();
+			case EPC_OFF_TIMER_VALUE_RELATIVE_TIME : return o.getOffTimerValueRelativeTime();
+			case EPC_EXTENTIONAL_OPERATION_SETTING : return o.getExtentionalOperationSetting();
+			case EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE : return o.getExtentionalOperationTimerTimeSettingValue();
+			case EPC_ION_EMISSION_SETTING : return o.getIonEmissionSetting();
+			case EPC_IMPLEMENTED_ION_EMISSION_METHOD : return o.getImplementedIonEmissionMethod();
+			case EPC_OIL_AMOUNT_LEVEL : return o.getOilAmountLevel();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			FanHeater o = (FanHeater)eoj;
+			switch(property.epc) {
+			case EPC_TEMPERATURE_SETTING_VALUE : return o.isValidTemperatureSettingValue(property.edt);
+			case EPC_MEASURED_TEMPERATURE : return o.isValidMeasuredTemperature(property.edt);
+			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return o.isValidAutomaticTemperatureControlSetting(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.isValidOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING_VALUE_TIME : return o.isValidOnTimerSettingValueTime(property.edt);
+			case EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME : return o.isValidOnTimerSettingValueRelativeTime(property.edt);
+			case EPC_OFF_TIMER_RESERVATION_SETTING : return o.isValidOffTimerReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING_VALUE_TIME : return o.isValidOffTimerSettingValueTime(property.edt);
+			case EPC_OFF_TIMER_VALUE_RELATIVE_TIME : return o.isValidOffTimerValueRelativeTime(property.edt);
+			case EPC_EXTENTIONAL_OPERATION_SETTING : return o.isValidExtentionalOperationSetting(property.edt);
+			case EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE : return o.isValidExtentionalOperationTimerTimeSettingValue(property.edt);
+			case EPC_ION_EMISSION_SETTING : return o.isValidIonEmissionSetting(property.edt);
+			case EPC_IMPLEMENTED_ION_EMISSION_METHOD : return o.isValidImplementedIonEmissionMethod(property.edt);
+			case EPC_OIL_AMOUNT_LEVEL : return o.isValidOilAmountLevel(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_TEMPERATURE_SETTING_VALUE : 
-				onSetTemperatureSettingValue(eoj, tid, esv, property, success);
+				r.onSetTemperatureSettingValue(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : 
-				onSetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_VALUE_TIME : 
-				onSetOnTimerSettingValueTime(eoj, tid, esv, property, success);
+				r.onSetOnTimerSettingValueTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME : 
-				onSetOnTimerSettingValueRelativeTime(eoj, tid, esv, property, success);
+				r.onSetOnTimerSettingValueRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_RESERVATION_SETTING : 
-				onSetOffTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOffTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_VALUE_TIME : 
-				onSetOffTimerSettingValueTime(eoj, tid, esv, property, success);
+				r.onSetOffTimerSettingValueTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_VALUE_RELATIVE_TIME : 
-				onSetOffTimerValueRelativeTime(eoj, tid, esv, property, success);
+				r.onSetOffTimerValueRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_EXTENTIONAL_OPERATION_SETTING : 
-				onSetExtentionalOperationSetting(eoj, tid, esv, property, success);
+				r.onSetExtentionalOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE : 
-				onSetExtentionalOperationTimerTimeSettingValue(eoj, tid, esv, property, success);
+				r.onSetExtentionalOperationTimerTimeSettingValue(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ION_EMISSION_SETTING : 
-				onSetIonEmissionSetting(eoj, tid, esv, property, success);
+				r.onSetIonEmissionSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1198,58 +1156,106 @@ public abstract class FanHeater extends DeviceObject {
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_TEMPERATURE_SETTING_VALUE : 
-				onGetTemperatureSettingValue(eoj, tid, esv, property, success);
+				r.onGetTemperatureSettingValue(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_TEMPERATURE : 
-				onGetMeasuredTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : 
-				onGetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_VALUE_TIME : 
-				onGetOnTimerSettingValueTime(eoj, tid, esv, property, success);
+				r.onGetOnTimerSettingValueTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME : 
-				onGetOnTimerSettingValueRelativeTime(eoj, tid, esv, property, success);
+				r.onGetOnTimerSettingValueRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_RESERVATION_SETTING : 
-				onGetOffTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOffTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_VALUE_TIME : 
-				onGetOffTimerSettingValueTime(eoj, tid, esv, property, success);
+				r.onGetOffTimerSettingValueTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_VALUE_RELATIVE_TIME : 
-				onGetOffTimerValueRelativeTime(eoj, tid, esv, property, success);
+				r.onGetOffTimerValueRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_EXTENTIONAL_OPERATION_SETTING : 
-				onGetExtentionalOperationSetting(eoj, tid, esv, property, success);
+				r.onGetExtentionalOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE : 
-				onGetExtentionalOperationTimerTimeSettingValue(eoj, tid, esv, property, success);
+				r.onGetExtentionalOperationTimerTimeSettingValue(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ION_EMISSION_SETTING : 
-				onGetIonEmissionSetting(eoj, tid, esv, property, success);
+				r.onGetIonEmissionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_IMPLEMENTED_ION_EMISSION_METHOD : 
-				onGetImplementedIonEmissionMethod(eoj, tid, esv, property, success);
+				r.onGetImplementedIonEmissionMethod(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OIL_AMOUNT_LEVEL : 
-				onGetOilAmountLevel(eoj, tid, esv, property, success);
+				r.onGetOilAmountLevel(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(FanHeater.class, sPropertyHandler
+				, new byte[] {EPC_TEMPERATURE_SETTING_VALUE, EPC_MEASURED_TEMPERATURE, EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_VALUE_TIME, EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_VALUE_TIME, EPC_OFF_TIMER_VALUE_RELATIVE_TIME, EPC_EXTENTIONAL_OPERATION_SETTING, EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE, EPC_ION_EMISSION_SETTING, EPC_IMPLEMENTED_ION_EMISSION_METHOD, EPC_OIL_AMOUNT_LEVEL}
+				, new byte[] {EPC_TEMPERATURE_SETTING_VALUE, EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_VALUE_TIME, EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_VALUE_TIME, EPC_OFF_TIMER_VALUE_RELATIVE_TIME, EPC_EXTENTIONAL_OPERATION_SETTING, EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE, EPC_ION_EMISSION_SETTING}
+				, new byte[] {EPC_TEMPERATURE_SETTING_VALUE, EPC_MEASURED_TEMPERATURE, EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_VALUE_TIME, EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_VALUE_TIME, EPC_OFF_TIMER_VALUE_RELATIVE_TIME, EPC_EXTENTIONAL_OPERATION_SETTING, EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE, EPC_ION_EMISSION_SETTING, EPC_IMPLEMENTED_ION_EMISSION_METHOD, EPC_OIL_AMOUNT_LEVEL});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_TEMPERATURE_SETTING_VALUE, EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_VALUE_TIME, EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_VALUE_TIME, EPC_OFF_TIMER_VALUE_RELATIVE_TIME, EPC_EXTENTIONAL_OPERATION_SETTING, EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE, EPC_ION_EMISSION_SETTING}
+					, new byte[] {EPC_TEMPERATURE_SETTING_VALUE, EPC_MEASURED_TEMPERATURE, EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_VALUE_TIME, EPC_ON_TIMER_SETTING_VALUE_RELATIVE_TIME, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_VALUE_TIME, EPC_OFF_TIMER_VALUE_RELATIVE_TIME, EPC_EXTENTIONAL_OPERATION_SETTING, EPC_EXTENTIONAL_OPERATION_TIMER_TIME_SETTING_VALUE, EPC_ION_EMISSION_SETTING, EPC_IMPLEMENTED_ION_EMISSION_METHOD, EPC_OIL_AMOUNT_LEVEL}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Temperature setting value<br>
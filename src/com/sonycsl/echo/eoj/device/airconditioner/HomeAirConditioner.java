@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -3045,283 +3046,240 @@ public abstract class HomeAirConditioner extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_OPERATION_MODE_SETTING : return setOperationModeSetting(property.edt);
-		case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return setAutomaticTemperatureControlSetting(property.edt);
-		case EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING : return setNormalHighSpeedSilentOperationSetting(property.edt);
-		case EPC_SET_TEMPERATURE_VALUE : return setSetTemperatureValue(property.edt);
-		case EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE : return setSetValueOfRelativeHumidityInDehumidifyingMode(property.edt);
-		case EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE : return setSetTemperatureValueInCoolingMode(property.edt);
-		case EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE : return setSetTemperatureValueInHeatingMode(property.edt);
-		case EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE : return setSetTemperatureValueInDehumidifyingMode(property.edt);
-		case EPC_RELATIVE_TEMPERATURE_SETTING : return setRelativeTemperatureSetting(property.edt);
-		case EPC_AIR_FLOW_RATE_SETTING : return setAirFlowRateSetting(property.edt);
-		case EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING : return setAutomaticControlOfAirFlowDirectionSetting(property.edt);
-		case EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING : return setAutomaticSwingOfAirFlowSetting(property.edt);
-		case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return setAirFlowDirectionVerticalSetting(property.edt);
-		case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return setAirFlowDirectionHorizontalSetting(property.edt);
-		case EPC_VENTILATION_FUNCTION_SETTING : return setVentilationFunctionSetting(property.edt);
-		case EPC_HUMIDIFIER_FUNCTION_SETTING : return setHumidifierFunctionSetting(property.edt);
-		case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return setVentilationAirFlowRateSetting(property.edt);
-		case EPC_DEGREE_OF_HUMIDIFICATION_SETTING : return setDegreeOfHumidificationSetting(property.edt);
-		case EPC_AIR_PURIFIER_FUNCTION_SETTING : return setAirPurifierFunctionSetting(property.edt);
-		case EPC_AIR_REFRESHER_FUNCTION_SETTING : return setAirRefresherFunctionSetting(property.edt);
-		case EPC_SELF_CLEANING_FUNCTION_SETTING : return setSelfCleaningFunctionSetting(property.edt);
-		case EPC_SPECIAL_FUNCTION_SETTING : return setSpecialFunctionSetting(property.edt);
-		case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : return setThermostatSettingOverrideFunction(property.edt);
-		case EPC_AIR_PURIFICATION_MODE_SETTING : return setAirPurificationModeSetting(property.edt);
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return setOnTimerBasedReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING_TIME : return setOnTimerSettingTime(property.edt);
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return setOnTimerSettingRelativeTime(property.edt);
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return setOffTimerBasedReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING_TIME : return setOffTimerSettingTime(property.edt);
-		case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return setOffTimerSettingRelativeTime(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_OPERATION_MODE_SETTING : return getOperationModeSetting();
-		case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return getAutomaticTemperatureControlSetting();
-		case EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING : return getNormalHighSpeedSilentOperationSetting();
-		case EPC_SET_TEMPERATURE_VALUE : return getSetTemperatureValue();
-		case EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE : return getSetValueOfRelativeHumidityInDehumidifyingMode();
-		case EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE : return getSetTemperatureValueInCoolingMode();
-		case EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE : return getSetTemperatureValueInHeatingMode();
-		case EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE : return getSetTemperatureValueInDehumidifyingMode();
-		case EPC_RATED_POWER_CONSUMPTION : return getRatedPowerConsumption();
-		case EPC_MEASURED_VALUE_OF_CURRENT_CONSUMPTION : return getMeasuredValueOfCurrentConsumption();
-		case EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return getMeasuredValueOfRoomRelativeHumidity();
-		case EPC_MEASURED_VALUE_OF_ROOM_TEMPERATURE : return getMeasuredValueOfRoomTemperature();
-		case EPC_SET_TEMPERATURE_VALUE_OF_USER_REMOTE_CONTROL : return getSetTemperatureValueOfUserRemoteControl();
-		case EPC_MEASURED_COOLED_AIR_TEMPERATURE : return getMeasuredCooledAirTemperature();
-		case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE : return getMeasuredOutdoorAirTemperature();
-		case EPC_RELATIVE_TEMPERATURE_SETTING : return getRelativeTemperatureSetting();
-		case EPC_AIR_FLOW_RATE_SETTING : return getAirFlowRateSetting();
-		case EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING : return getAutomaticControlOfAirFlowDirectionSetting();
-		case EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING : return getAutomaticSwingOfAirFlowSetting();
-		case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return getAirFlowDirectionVerticalSetting();
-		case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return getAirFlowDirectionHorizontalSetting();
-		case EPC_SPECIAL_STATE : return getSpecialState();
-		case EPC_NON_PRIORITY_STATE : return getNonPriorityState();
-		case EPC_VENTILATION_FUNCTION_SETTING : return getVentilationFunctionSetting();
-		case EPC_HUMIDIFIER_FUNCTION_SETTING : return getHumidifierFunctionSetting();
-		case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return getVentilationAirFlowRateSetting();
-		case EPC_DEGREE_OF_HUMIDIFICATION_SETTING : return getDegreeOfHumidificationSetting();
-		case EPC_MOUNTED_AIR_CLEANING_METHOD : return getMountedAirCleaningMethod();
-		case EPC_AIR_PURIFIER_FUNCTION_SETTING : return getAirPurifierFunctionSetting();
-		case EPC_MOUNTED_AIR_REFRESH_METHOD : return getMountedAirRefreshMethod();
-		case EPC_AIR_REFRESHER_FUNCTION_SETTING : return getAirRefresherFunctionSetting();
-		case EPC_MOUNTED_SELF_CLEANING_METHOD : return getMountedSelfCleaningMethod();
-		case EPC_SELF_CLEANING_FUNCTION_SETTING : return getSelfCleaningFunctionSetting();
-		case EPC_SPECIAL_FUNCTION_SETTING : return getSpecialFunctionSetting();
-		case EPC_OPERATION_STATUS_OF_COMPONENTS : return getOperationStatusOfComponents();
-		case EPC_AIR_PURIFICATION_MODE_SETTING : return getAirPurificationModeSetting();
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return getOnTimerBasedReservationSetting();
-		case EPC_ON_TIMER_SETTING_TIME : return getOnTimerSettingTime();
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return getOnTimerSettingRelativeTime();
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return getOffTimerBasedReservationSetting();
-		case EPC_OFF_TIMER_SETTING_TIME : return getOffTimerSettingTime();
-		case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return getOffTimerSettingRelativeTime();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			HomeAirConditioner o = (HomeAirConditioner)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.setOperationModeSetting(property.edt);
+			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return o.setAutomaticTemperatureControlSetting(property.edt);
+			case EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING : return o.setNormalHighSpeedSilentOperationSetting(property.edt);
+			case EPC_SET_TEMPERATURE_VALUE : return o.setSetTemperatureValue(property.edt);
+			case EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE : return o.setSetValueOfRelativeHumidityInDehumidifyingMode(property.edt);
+			case EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE : return o.setSetTemperatureValueInCoolingMode(property.edt);
+			case EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE : return o.setSetTemperatureValueInHeatingMode(property.edt);
+			case EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE : return o.setSetTemperatureValueInDehumidifyingMode(property.edt);
+			case EPC_RELATIVE_TEMPERATURE_SETTING : return o.setRelativeTemperatureSetting(property.edt);
+			case EPC_AIR_FLOW_RATE_SETTING : return o.setAirFlowRateSetting(property.edt);
+			case EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING : return o.setAutomaticControlOfAirFlowDirectionSetting(property.edt);
+			case EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING : return o.setAutomaticSwingOfAirFlowSetting(property.edt);
+			case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return o.setAirFlowDirectionVerticalSetting(property.edt);
+			case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return o.setAirFlowDirectionHorizontalSetting(property.edt);
+			case EPC_VENTILATION_FUNCTION_SETTING : return o.setVentilationFunctionSetting(property.edt);
+			case EPC_HUMIDIFIER_FUNCTION_SETTING : return o.setHumidifierFunctionSetting(property.edt);
+			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return o.setVentilationAirFlowRateSetting(property.edt);
+			case EPC_DEGREE_OF_HUMIDIFICATION_SETTING : return o.setDegreeOfHumidificationSetting(property.edt);
+			case EPC_AIR_PURIFIER_FUNCTION_SETTING : return o.setAirPurifierFunctionSetting(property.edt);
+			case EPC_AIR_REFRESHER_FUNCTION_SETTING : return o.setAirRefresherFunctionSetting(property.edt);
+			case EPC_SELF_CLEANING_FUNCTION_SETTING : return o.setSelfCleaningFunctionSetting(property.edt);
+			case EPC_SPECIAL_FUNCTION_SETTING : return o.setSpecialFunctionSetting(property.edt);
+			case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : return o.setThermostatSettingOverrideFunction(property.edt);
+			case EPC_AIR_PURIFICATION_MODE_SETTING : return o.setAirPurificationModeSetting(property.edt);
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return o.setOnTimerBasedReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING_TIME : return o.setOnTimerSettingTime(property.edt);
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.setOnTimerSettingRelativeTime(property.edt);
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.setOffTimerBasedReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING_TIME : return o.setOffTimerSettingTime(property.edt);
+			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return o.setOffTimerSettingRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_OPERATION_MODE_SETTING : return isValidOperationModeSetting(property.edt);
-		case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return isValidAutomaticTemperatureControlSetting(property.edt);
-		case EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING : return isValidNormalHighSpeedSilentOperationSetting(property.edt);
-		case EPC_SET_TEMPERATURE_VALUE : return isValidSetTemperatureValue(property.edt);
-		case EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE : return isValidSetValueOfRelativeHumidityInDehumidifyingMode(property.edt);
-		case EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE : return isValidSetTemperatureValueInCoolingMode(property.edt);
-		case EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE : return isValidSetTemperatureValueInHeatingMode(property.edt);
-		case EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE : return isValidSetTemperatureValueInDehumidifyingMode(property.edt);
-		case EPC_RATED_POWER_CONSUMPTION : return isValidRatedPowerConsumption(property.edt);
-		case EPC_MEASURED_VALUE_OF_CURRENT_CONSUMPTION : return isValidMeasuredValueOfCurrentConsumption(property.edt);
-		case EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return isValidMeasuredValueOfRoomRelativeHumidity(property.edt);
-		case EPC_MEASURED_VALUE_OF_ROOM_TEMPERATURE : return isValidMeasuredValueOfRoomTemperature(property.edt);
-		case EPC_SET_TEMPERATURE_VALUE_OF_USER_REMOTE_CONTROL : return isValidSetTemperatureValueOfUserRemoteControl(property.edt);
-		case EPC_MEASURED_COOLED_AIR_TEMPERATURE : return isValidMeasuredCooledAirTemperature(property.edt);
-		case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE : return isValidMeasuredOutdoorAirTemperature(property.edt);
-		case EPC_RELATIVE_TEMPERATURE_SETTING : return isValidRelativeTemperatureSetting(property.edt);
-		case EPC_AIR_FLOW_RATE_SETTING : return isValidAirFlowRateSetting(property.edt);
-		case EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING : return isValidAutomaticControlOfAirFlowDirectionSetting(property.edt);
-		case EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING : return isValidAutomaticSwingOfAirFlowSetting(property.edt);
-		case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return isValidAirFlowDirectionVerticalSetting(property.edt);
-		case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return isValidAirFlowDirectionHorizontalSetting(property.edt);
-		case EPC_SPECIAL_STATE : return isValidSpecialState(property.edt);
-		case EPC_NON_PRIORITY_STATE : return isValidNonPriorityState(property.edt);
-		case EPC_VENTILATION_FUNCTION_SETTING : return isValidVentilationFunctionSetting(property.edt);
-		case EPC_HUMIDIFIER_FUNCTION_SETTING : return isValidHumidifierFunctionSetting(property.edt);
-		case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return isValidVentilationAirFlowRateSetting(property.edt);
-		case EPC_DEGREE_OF_HUMIDIFICATION_SETTING : return isValidDegreeOfHumidificationSetting(property.edt);
-		case EPC_MOUNTED_AIR_CLEANING_METHOD : return isValidMountedAirCleaningMethod(property.edt);
-		case EPC_AIR_PURIFIER_FUNCTION_SETTING : return isValidAirPurifierFunctionSetting(property.edt);
-		case EPC_MOUNTED_AIR_REFRESH_METHOD : return isValidMountedAirRefreshMethod(property.edt);
-		case EPC_AIR_REFRESHER_FUNCTION_SETTING : return isValidAirRefresherFunctionSetting(property.edt);
-		case EPC_MOUNTED_SELF_CLEANING_METHOD : return isValidMountedSelfCleaningMethod(property.edt);
-		case EPC_SELF_CLEANING_FUNCTION_SETTING : return isValidSelfCleaningFunctionSetting(property.edt);
-		case EPC_SPECIAL_FUNCTION_SETTING : return isValidSpecialFunctionSetting(property.edt);
-		case EPC_OPERATION_STATUS_OF_COMPONENTS : return isValidOperationStatusOfComponents(property.edt);
-		case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : return isValidThermostatSettingOverrideFunction(property.edt);
-		case EPC_AIR_PURIFICATION_MODE_SETTING : return isValidAirPurificationModeSetting(property.edt);
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return isValidOnTimerBasedReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING_TIME : return isValidOnTimerSettingTime(property.edt);
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return isValidOnTimerSettingRelativeTime(property.edt);
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return isValidOffTimerBasedReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING_TIME : return isValidOffTimerSettingTime(property.edt);
-		case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return isValidOffTimerSettingRelativeTime(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			HomeAirConditioner o = (HomeAirConditioner)eoj;
+			switch(epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.getOperationModeSetting();
+			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return o.getAutomaticTemperatureControlSetting();
+			case EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING : return o.getNormalHighSpeedSilentOperationSetting();
+			case EPC_SET_TEMPERATURE_VALUE : return o.getSetTemperatureValue();
+			case EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE : return o.getSetValueOfRelativeHumidityInDehumidifyingMode();
+			case EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE : return o.getSetTemperatureValueInCoolingMode();
+			case EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE : return o.getSetTemperatureValueInHeatingMode();
+			case EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE : return o.getSetTemperatureValueInDehumidifyingMode();
+			case EPC_RATED_POWER_CONSUMPTION : return o.getRatedPowerConsumption();
+			case EPC_MEASURED_VALUE_OF_CURRENT_CONSUMPTION : return o.getMeasuredValueOfCurrentConsumption();
+			case EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return o.getMeasuredValueOfRoomRelativeHumidity();
+			case EPC_MEASURED_VALUE_OF_ROOM_TEMPERATURE : return o.getMeasuredValueOfRoomTemperature();
+			case EPC_SET_TEMPERATURE_VALUE_OF_USER_REMOTE_CONTROL : return o.getSetTemperatureValueOfUserRemoteControl();
+			case EPC_MEASURED_COOLED_AIR_TEMPERATURE : return o.getMeasuredCooledAirTemperature();
+			case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE : return o.getMeasuredOutdoorAirTemperature();
+			case EPC_RELATIVE_TEMPERATURE_SETTING : return o.getRelativeTemperatureSetting();
+			case EPC_AIR_FLOW_RATE_SETTING : return o.getAirFlowRateSetting();
+			case EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING : return o.getAutomaticControlOfAirFlowDirectionSetting();
+			case EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING : return o.getAutomaticSwingOfAirFlowSetting();
+			case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return o.getAirFlowDirectionVerticalSetting();
+			case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return o.getAirFlowDirectionHorizontalSetting();
+			case EPC_SPECIAL_STATE : return o.getSpecialState();
+			case EPC_NON_PRIORITY_STATE : return o.getNonPriorityState();
+			case EPC_VENTILATION_FUNCTION_SETTING : return o.getVentilationFunctionSetting();
+			case EPC_HUMIDIFIER_FUNCTION_SETTING : return o.getHumidifierFunctionSetting();
+			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return o.getVentilationAirFlowRateSetting();
+			case EPC_DEGREE_OF_HUMIDIFICATION_SETTING : return o.getDegreeOfHumidificationSetting();
+			case EPC_MOUNTED_AIR_CLEANING_METHOD : return o.getMountedAirCleaningMethod();
+			case EPC_AIR_PURIFIER_FUNCTION_SETTING : return o.getAirPurifierFunctionSetting();
+			case EPC_MOUNTED_AIR_REFRESH_METHOD : return o.getMountedAirRefreshMethod();
+			case EPC_AIR_REFRESHER_FUNCTION_SETTING : return o.getAirRefresherFunctionSetting();
+			case EPC_MOUNTED_SELF_CLEANING_METHOD : return o.getMountedSelfCleaningMethod();
+			case EPC_SELF_CLEANING_FUNCTION_SETTING : return o.getSelfCleaningFunctionSetting();
+			case EPC_SPECIAL_FUNCTION_SETTING : return o.getSpecialFunctionSetting();
+			case EPC_OPERATION_STATUS_OF_COMPONENTS : return o.getOperationStatusOfComponents();
+			case EPC_AIR_PURIFICATION_MODE_SETTING : return o.getAirPurificationModeSetting();
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return o.getOnTimerBasedReservationSetting();
+			case EPC_ON_TIMER_SETTING_TIME : return o.getOnTimerSettingTime();
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.getOnTimerSettingRelativeTime();
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.getOffTimerBasedReservationSetting();
+			case EPC_OFF_TIMER_SETTING_TIME : return o.getOffTimerSettingTime();
+			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return o.getOffTimerSettingRelativeTime();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			HomeAirConditioner o = (HomeAirConditioner)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.isValidOperationModeSetting(property.edt);
+			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : return o.isValidAutomaticTemperatureControlSetting(property.edt);
+			case EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING : return o.isValidNormalHighSpeedSilentOperationSetting(property.edt);
+			case EPC_SET_TEMPERATURE_VALUE : return o.isValidSetTemperatureValue(property.edt);
+			case EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE : return o.isValidSetValueOfRelativeHumidityInDehumidifyingMode(property.edt);
+			case EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE : return o.isValidSetTemperatureValueInCoolingMode(property.edt);
+			case EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE : return o.isValidSetTemperatureValueInHeatingMode(property.edt);
+			case EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE : return o.isValidSetTemperatureValueInDehumidifyingMode(property.edt);
+			case EPC_RATED_POWER_CONSUMPTION : return o.isValidRatedPowerConsumption(property.edt);
+			case EPC_MEASURED_VALUE_OF_CURRENT_CONSUMPTION : return o.isValidMeasuredValueOfCurrentConsumption(property.edt);
+			case EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY : return o.isValidMeasuredValueOfRoomRelativeHumidity(property.edt);
+			case EPC_MEASURED_VALUE_OF_ROOM_TEMPERATURE : return o.isValidMeasuredValueOfRoomTemperature(property.edt);
+			case EPC_SET_TEMPERATURE_VALUE_OF_USER_REMOTE_CONTROL : return o.isValidSetTemperatureValueOfUserRemoteControl(property.edt);
+			case EPC_MEASURED_COOLED_AIR_TEMPERATURE : return o.isValidMeasuredCooledAirTemperature(property.edt);
+			case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE : return o.isValidMeasuredOutdoorAirTemperature(property.edt);
+			case EPC_RELATIVE_TEMPERATURE_SETTING : return o.isValidRelativeTemperatureSetting(property.edt);
+			case EPC_AIR_FLOW_RATE_SETTING : return o.isValidAirFlowRateSetting(property.edt);
+			case EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING : return o.isValidAutomaticControlOfAirFlowDirectionSetting(property.edt);
+			case EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING : return o.isValidAutomaticSwingOfAirFlowSetting(property.edt);
+			case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return o.isValidAirFlowDirectionVerticalSetting(property.edt);
+			case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return o.isValidAirFlowDirectionHorizontalSetting(property.edt);
+			case EPC_SPECIAL_STATE : return o.isValidSpecialState(property.edt);
+			case EPC_NON_PRIORITY_STATE : return o.isValidNonPriorityState(property.edt);
+			case EPC_VENTILATION_FUNCTION_SETTING : return o.isValidVentilationFunctionSetting(property.edt);
+			case EPC_HUMIDIFIER_FUNCTION_SETTING : return o.isValidHumidifierFunctionSetting(property.edt);
+			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return o.isValidVentilationAirFlowRateSetting(property.edt);
+			case EPC_DEGREE_OF_HUMIDIFICATION_SETTING : return o.isValidDegreeOfHumidificationSetting(property.edt);
+			case EPC_MOUNTED_AIR_CLEANING_METHOD : return o.isValidMountedAirCleaningMethod(property.edt);
+			case EPC_AIR_PURIFIER_FUNCTION_SETTING : return o.isValidAirPurifierFunctionSetting(property.edt);
+			case EPC_MOUNTED_AIR_REFRESH_METHOD : return o.isValidMountedAirRefreshMethod(property.edt);
+			case EPC_AIR_REFRESHER_FUNCTION_SETTING : return o.isValidAirRefresherFunctionSetting(property.edt);
+			case EPC_MOUNTED_SELF_CLEANING_METHOD : return o.isValidMountedSelfCleaningMethod(property.edt);
+			case EPC_SELF_CLEANING_FUNCTION_SETTING : return o.isValidSelfCleaningFunctionSetting(property.edt);
+			case EPC_SPECIAL_FUNCTION_SETTING : return o.isValidSpecialFunctionSetting(property.edt);
+			case EPC_OPERATION_STATUS_OF_COMPONENTS : return o.isValidOperationStatusOfComponents(property.edt);
+			case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : return o.isValidThermostatSettingOverrideFunction(property.edt);
+			case EPC_AIR_PURIFICATION_MODE_SETTING : return o.isValidAirPurificationModeSetting(property.edt);
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return o.isValidOnTimerBasedReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING_TIME : return o.isValidOnTimerSettingTime(property.edt);
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.isValidOnTimerSettingRelativeTime(property.edt);
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.isValidOffTimerBasedReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING_TIME : return o.isValidOffTimerSettingTime(property.edt);
+			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return o.isValidOffTimerSettingRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPERATION_MODE_SETTING : 
-				onSetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onSetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : 
-				onSetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING : 
-				onSetNormalHighSpeedSilentOperationSetting(eoj, tid, esv, property, success);
+				r.onSetNormalHighSpeedSilentOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_TEMPERATURE_VALUE : 
-				onSetSetTemperatureValue(eoj, tid, esv, property, success);
+				r.onSetSetTemperatureValue(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE : 
-				onSetSetValueOfRelativeHumidityInDehumidifyingMode(eoj, tid, esv, property, success);
+				r.onSetSetValueOfRelativeHumidityInDehumidifyingMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE : 
-				onSetSetTemperatureValueInCoolingMode(eoj, tid, esv, property, success);
+				r.onSetSetTemperatureValueInCoolingMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE : 
-				onSetSetTemperatureValueInHeatingMode(eoj, tid, esv, property, success);
+				r.onSetSetTemperatureValueInHeatingMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE : 
-				onSetSetTemperatureValueInDehumidifyingMode(eoj, tid, esv, property, success);
+				r.onSetSetTemperatureValueInDehumidifyingMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TEMPERATURE_SETTING : 
-				onSetRelativeTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetRelativeTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_RATE_SETTING : 
-				onSetAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onSetAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING : 
-				onSetAutomaticControlOfAirFlowDirectionSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticControlOfAirFlowDirectionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING : 
-				onSetAutomaticSwingOfAirFlowSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticSwingOfAirFlowSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : 
-				onSetAirFlowDirectionVerticalSetting(eoj, tid, esv, property, success);
+				r.onSetAirFlowDirectionVerticalSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : 
-				onSetAirFlowDirectionHorizontalSetting(eoj, tid, esv, property, success);
+				r.onSetAirFlowDirectionHorizontalSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_FUNCTION_SETTING : 
-				onSetVentilationFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetVentilationFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HUMIDIFIER_FUNCTION_SETTING : 
-				onSetHumidifierFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetHumidifierFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : 
-				onSetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onSetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DEGREE_OF_HUMIDIFICATION_SETTING : 
-				onSetDegreeOfHumidificationSetting(eoj, tid, esv, property, success);
+				r.onSetDegreeOfHumidificationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_PURIFIER_FUNCTION_SETTING : 
-				onSetAirPurifierFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetAirPurifierFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_REFRESHER_FUNCTION_SETTING : 
-				onSetAirRefresherFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetAirRefresherFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SELF_CLEANING_FUNCTION_SETTING : 
-				onSetSelfCleaningFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetSelfCleaningFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_FUNCTION_SETTING : 
-				onSetSpecialFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetSpecialFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : 
-				onSetThermostatSettingOverrideFunction(eoj, tid, esv, property, success);
+				r.onSetThermostatSettingOverrideFunction(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_PURIFICATION_MODE_SETTING : 
-				onSetAirPurificationModeSetting(eoj, tid, esv, property, success);
+				r.onSetAirPurificationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : 
-				onSetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_TIME : 
-				onSetOnTimerSettingTime(eoj, tid, esv, property, success);
+				r.onSetOnTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : 
-				onSetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onSetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : 
-				onSetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_TIME : 
-				onSetOffTimerSettingTime(eoj, tid, esv, property, success);
+				r.onSetOffTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : 
-				onSetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onSetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -3329,142 +3287,190 @@ public abstract class HomeAirConditioner extends DeviceObject {
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPERATION_MODE_SETTING : 
-				onGetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onGetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING : 
-				onGetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticTemperatureControlSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING : 
-				onGetNormalHighSpeedSilentOperationSetting(eoj, tid, esv, property, success);
+				r.onGetNormalHighSpeedSilentOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_TEMPERATURE_VALUE : 
-				onGetSetTemperatureValue(eoj, tid, esv, property, success);
+				r.onGetSetTemperatureValue(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE : 
-				onGetSetValueOfRelativeHumidityInDehumidifyingMode(eoj, tid, esv, property, success);
+				r.onGetSetValueOfRelativeHumidityInDehumidifyingMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE : 
-				onGetSetTemperatureValueInCoolingMode(eoj, tid, esv, property, success);
+				r.onGetSetTemperatureValueInCoolingMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE : 
-				onGetSetTemperatureValueInHeatingMode(eoj, tid, esv, property, success);
+				r.onGetSetTemperatureValueInHeatingMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE : 
-				onGetSetTemperatureValueInDehumidifyingMode(eoj, tid, esv, property, success);
+				r.onGetSetTemperatureValueInDehumidifyingMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_CONSUMPTION : 
-				onGetRatedPowerConsumption(eoj, tid, esv, property, success);
+				r.onGetRatedPowerConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_VALUE_OF_CURRENT_CONSUMPTION : 
-				onGetMeasuredValueOfCurrentConsumption(eoj, tid, esv, property, success);
+				r.onGetMeasuredValueOfCurrentConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY : 
-				onGetMeasuredValueOfRoomRelativeHumidity(eoj, tid, esv, property, success);
+				r.onGetMeasuredValueOfRoomRelativeHumidity(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_VALUE_OF_ROOM_TEMPERATURE : 
-				onGetMeasuredValueOfRoomTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredValueOfRoomTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_TEMPERATURE_VALUE_OF_USER_REMOTE_CONTROL : 
-				onGetSetTemperatureValueOfUserRemoteControl(eoj, tid, esv, property, success);
+				r.onGetSetTemperatureValueOfUserRemoteControl(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_COOLED_AIR_TEMPERATURE : 
-				onGetMeasuredCooledAirTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredCooledAirTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE : 
-				onGetMeasuredOutdoorAirTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredOutdoorAirTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TEMPERATURE_SETTING : 
-				onGetRelativeTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetRelativeTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_RATE_SETTING : 
-				onGetAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onGetAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING : 
-				onGetAutomaticControlOfAirFlowDirectionSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticControlOfAirFlowDirectionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING : 
-				onGetAutomaticSwingOfAirFlowSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticSwingOfAirFlowSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : 
-				onGetAirFlowDirectionVerticalSetting(eoj, tid, esv, property, success);
+				r.onGetAirFlowDirectionVerticalSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : 
-				onGetAirFlowDirectionHorizontalSetting(eoj, tid, esv, property, success);
+				r.onGetAirFlowDirectionHorizontalSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_STATE : 
-				onGetSpecialState(eoj, tid, esv, property, success);
+				r.onGetSpecialState(eoj, tid, esv, property, success);
 				return true;
 			case EPC_NON_PRIORITY_STATE : 
-				onGetNonPriorityState(eoj, tid, esv, property, success);
+				r.onGetNonPriorityState(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_FUNCTION_SETTING : 
-				onGetVentilationFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetVentilationFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HUMIDIFIER_FUNCTION_SETTING : 
-				onGetHumidifierFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetHumidifierFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : 
-				onGetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onGetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DEGREE_OF_HUMIDIFICATION_SETTING : 
-				onGetDegreeOfHumidificationSetting(eoj, tid, esv, property, success);
+				r.onGetDegreeOfHumidificationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MOUNTED_AIR_CLEANING_METHOD : 
-				onGetMountedAirCleaningMethod(eoj, tid, esv, property, success);
+				r.onGetMountedAirCleaningMethod(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_PURIFIER_FUNCTION_SETTING : 
-				onGetAirPurifierFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetAirPurifierFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MOUNTED_AIR_REFRESH_METHOD : 
-				onGetMountedAirRefreshMethod(eoj, tid, esv, property, success);
+				r.onGetMountedAirRefreshMethod(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_REFRESHER_FUNCTION_SETTING : 
-				onGetAirRefresherFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetAirRefresherFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MOUNTED_SELF_CLEANING_METHOD : 
-				onGetMountedSelfCleaningMethod(eoj, tid, esv, property, success);
+				r.onGetMountedSelfCleaningMethod(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SELF_CLEANING_FUNCTION_SETTING : 
-				onGetSelfCleaningFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetSelfCleaningFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_FUNCTION_SETTING : 
-				onGetSpecialFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetSpecialFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OPERATION_STATUS_OF_COMPONENTS : 
-				onGetOperationStatusOfComponents(eoj, tid, esv, property, success);
+				r.onGetOperationStatusOfComponents(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_PURIFICATION_MODE_SETTING : 
-				onGetAirPurificationModeSetting(eoj, tid, esv, property, success);
+				r.onGetAirPurificationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : 
-				onGetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_TIME : 
-				onGetOnTimerSettingTime(eoj, tid, esv, property, success);
+				r.onGetOnTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : 
-				onGetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onGetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : 
-				onGetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_TIME : 
-				onGetOffTimerSettingTime(eoj, tid, esv, property, success);
+				r.onGetOffTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : 
-				onGetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onGetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(HomeAirConditioner.class, sPropertyHandler
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING, EPC_SET_TEMPERATURE_VALUE, EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE, EPC_RATED_POWER_CONSUMPTION, EPC_MEASURED_VALUE_OF_CURRENT_CONSUMPTION, EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_MEASURED_VALUE_OF_ROOM_TEMPERATURE, EPC_SET_TEMPERATURE_VALUE_OF_USER_REMOTE_CONTROL, EPC_MEASURED_COOLED_AIR_TEMPERATURE, EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE, EPC_RELATIVE_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING, EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING, EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING, EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING, EPC_SPECIAL_STATE, EPC_NON_PRIORITY_STATE, EPC_VENTILATION_FUNCTION_SETTING, EPC_HUMIDIFIER_FUNCTION_SETTING, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_DEGREE_OF_HUMIDIFICATION_SETTING, EPC_MOUNTED_AIR_CLEANING_METHOD, EPC_AIR_PURIFIER_FUNCTION_SETTING, EPC_MOUNTED_AIR_REFRESH_METHOD, EPC_AIR_REFRESHER_FUNCTION_SETTING, EPC_MOUNTED_SELF_CLEANING_METHOD, EPC_SELF_CLEANING_FUNCTION_SETTING, EPC_SPECIAL_FUNCTION_SETTING, EPC_OPERATION_STATUS_OF_COMPONENTS, EPC_AIR_PURIFICATION_MODE_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING, EPC_SET_TEMPERATURE_VALUE, EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE, EPC_RELATIVE_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING, EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING, EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING, EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING, EPC_VENTILATION_FUNCTION_SETTING, EPC_HUMIDIFIER_FUNCTION_SETTING, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_DEGREE_OF_HUMIDIFICATION_SETTING, EPC_AIR_PURIFIER_FUNCTION_SETTING, EPC_AIR_REFRESHER_FUNCTION_SETTING, EPC_SELF_CLEANING_FUNCTION_SETTING, EPC_SPECIAL_FUNCTION_SETTING, EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION, EPC_AIR_PURIFICATION_MODE_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING, EPC_SET_TEMPERATURE_VALUE, EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE, EPC_RATED_POWER_CONSUMPTION, EPC_MEASURED_VALUE_OF_CURRENT_CONSUMPTION, EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_MEASURED_VALUE_OF_ROOM_TEMPERATURE, EPC_SET_TEMPERATURE_VALUE_OF_USER_REMOTE_CONTROL, EPC_MEASURED_COOLED_AIR_TEMPERATURE, EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE, EPC_RELATIVE_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING, EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING, EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING, EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING, EPC_SPECIAL_STATE, EPC_NON_PRIORITY_STATE, EPC_VENTILATION_FUNCTION_SETTING, EPC_HUMIDIFIER_FUNCTION_SETTING, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_DEGREE_OF_HUMIDIFICATION_SETTING, EPC_MOUNTED_AIR_CLEANING_METHOD, EPC_AIR_PURIFIER_FUNCTION_SETTING, EPC_MOUNTED_AIR_REFRESH_METHOD, EPC_AIR_REFRESHER_FUNCTION_SETTING, EPC_MOUNTED_SELF_CLEANING_METHOD, EPC_SELF_CLEANING_FUNCTION_SETTING, EPC_SPECIAL_FUNCTION_SETTING, EPC_OPERATION_STATUS_OF_COMPONENTS, EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION, EPC_AIR_PURIFICATION_MODE_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING, EPC_SET_TEMPERATURE_VALUE, EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE, EPC_RELATIVE_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING, EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING, EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING, EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING, EPC_VENTILATION_FUNCTION_SETTING, EPC_HUMIDIFIER_FUNCTION_SETTING, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_DEGREE_OF_HUMIDIFICATION_SETTING, EPC_AIR_PURIFIER_FUNCTION_SETTING, EPC_AIR_REFRESHER_FUNCTION_SETTING, EPC_SELF_CLEANING_FUNCTION_SETTING, EPC_SPECIAL_FUNCTION_SETTING, EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION, EPC_AIR_PURIFICATION_MODE_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+					, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_AUTOMATIC_TEMPERATURE_CONTROL_SETTING, EPC_NORMAL_HIGH_SPEED_SILENT_OPERATION_SETTING, EPC_SET_TEMPERATURE_VALUE, EPC_SET_VALUE_OF_RELATIVE_HUMIDITY_IN_DEHUMIDIFYING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_COOLING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_HEATING_MODE, EPC_SET_TEMPERATURE_VALUE_IN_DEHUMIDIFYING_MODE, EPC_RATED_POWER_CONSUMPTION, EPC_MEASURED_VALUE_OF_CURRENT_CONSUMPTION, EPC_MEASURED_VALUE_OF_ROOM_RELATIVE_HUMIDITY, EPC_MEASURED_VALUE_OF_ROOM_TEMPERATURE, EPC_SET_TEMPERATURE_VALUE_OF_USER_REMOTE_CONTROL, EPC_MEASURED_COOLED_AIR_TEMPERATURE, EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE, EPC_RELATIVE_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_AUTOMATIC_CONTROL_OF_AIR_FLOW_DIRECTION_SETTING, EPC_AUTOMATIC_SWING_OF_AIR_FLOW_SETTING, EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING, EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING, EPC_SPECIAL_STATE, EPC_NON_PRIORITY_STATE, EPC_VENTILATION_FUNCTION_SETTING, EPC_HUMIDIFIER_FUNCTION_SETTING, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_DEGREE_OF_HUMIDIFICATION_SETTING, EPC_MOUNTED_AIR_CLEANING_METHOD, EPC_AIR_PURIFIER_FUNCTION_SETTING, EPC_MOUNTED_AIR_REFRESH_METHOD, EPC_AIR_REFRESHER_FUNCTION_SETTING, EPC_MOUNTED_SELF_CLEANING_METHOD, EPC_SELF_CLEANING_FUNCTION_SETTING, EPC_SPECIAL_FUNCTION_SETTING, EPC_OPERATION_STATUS_OF_COMPONENTS, EPC_AIR_PURIFICATION_MODE_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Operation mode setting<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -690,120 +691,77 @@ public abstract class Humidifier extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_HUMIDIFYING_SETTING1 : return setHumidifyingSetting1(property.edt);
-		case EPC_HUMIDIFYING_SETTING2 : return setHumidifyingSetting2(property.edt);
-		case EPC_RESERVATION_SET_OF_OFF_TIMER : return setReservationSetOfOffTimer(property.edt);
-		case EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER : return setRelativeTimeValueSetOfOffTimer(property.edt);
-		case EPC_ION_EMISSION_SETTING : return setIonEmissionSetting(property.edt);
-		case EPC_SPECIAL_OPERATION_MODE_SETTING : return setSpecialOperationModeSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_HUMIDIFYING_SETTING1 : return getHumidifyingSetting1();
-		case EPC_HUMIDIFYING_SETTING2 : return getHumidifyingSetting2();
-		case EPC_MEASURED_VALUE_OF_RELATIVE_HUMIDITY : return getMeasuredValueOfRelativeHumidity();
-		case EPC_RESERVATION_SET_OF_OFF_TIMER : return getReservationSetOfOffTimer();
-		case EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER : return getRelativeTimeValueSetOfOffTimer();
-		case EPC_ION_EMISSION_SETTING : return getIonEmissionSetting();
-		case EPC_IMPLEMENTED_ION_EMISSION_METHOD : return getImplementedIonEmissionMethod();
-		case EPC_SPECIAL_OPERATION_MODE_SETTING : return getSpecialOperationModeSetting();
-		case EPC_WATER_AMOUNT_LEVEL : return getWaterAmountLevel();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			Humidifier o = (Humidifier)eoj;
+			switch(property.epc) {
+			case EPC_HUMIDIFYING_SETTING1 : return o.setHumidifyingSetting1(property.edt);
+			case EPC_HUMIDIFYING_SETTING2 : return o.setHumidifyingSetting2(property.edt);
+			case EPC_RESERVATION_SET_OF_OFF_TIMER : return o.setReservationSetOfOffTimer(property.edt);
+			case EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER : return o.setRelativeTimeValueSetOfOffTimer(property.edt);
+			case EPC_ION_EMISSION_SETTING : return o.setIonEmissionSetting(property.edt);
+			case EPC_SPECIAL_OPERATION_MODE_SETTING : return o.setSpecialOperationModeSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_HUMIDIFYING_SETTING1 : return isValidHumidifyingSetting1(property.edt);
-		case EPC_HUMIDIFYING_SETTING2 : return isValidHumidifyingSetting2(property.edt);
-		case EPC_MEASURED_VALUE_OF_RELATIVE_HUMIDITY : return isValidMeasuredValueOfRelativeHumidity(property.edt);
-		case EPC_RESERVATION_SET_OF_OFF_TIMER : return isValidReservationSetOfOffTimer(property.edt);
-		case EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER : return isValidRelativeTimeValueSetOfOffTimer(property.edt);
-		case EPC_ION_EMISSION_SETTING : return isValidIonEmissionSetting(property.edt);
-		case EPC_IMPLEMENTED_ION_EMISSION_METHOD : return isValidImplementedIonEmissionMethod(property.edt);
-		case EPC_SPECIAL_OPERATION_MODE_SETTING : return isValidSpecialOperationModeSetting(property.edt);
-		case EPC_WATER_AMOUNT_LEVEL : return isValidWaterAmountLevel(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			Humidifier o = (Humidifier)eoj;
+			switch(epc) {
+			case EPC_HUMIDIFYING_SETTING1 : return o.getHumidifyingSetting1();
+			case EPC_HUMIDIFYING_SETTING2 : return o.getHumidifyingSetting2();
+			case EPC_MEASURED_VALUE_OF_RELATIVE_HUMIDITY : return o.getMeasuredValueOfRelativeHumidity();
+			case EPC_RESERVATION_SET_OF_OFF_TIMER : return o.getReservationSetOfOffTimer();
+			case EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER : return o.getRelativeTimeValueSetOfOffTimer();
+			case EPC_ION_EMISSION_SETTING : return o.getIonEmissionSetting();
+			case EPC_IMPLEMENTED_ION_EMISSION_METHOD : return o.getImplementedIonEmissionMethod();
+			case EPC_SPECIAL_OPERATION_MODE_SETTING : return o.getSpecialOperationModeSetting();
+			case EPC_WATER_AMOUNT_LEVEL : return o.getWaterAmountLevel();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			Humidifier o = (Humidifier)eoj;
+			switch(property.epc) {
+			case EPC_HUMIDIFYING_SETTING1 : return o.isValidHumidifyingSetting1(property.edt);
+			case EPC_HUMIDIFYING_SETTING2 : return o.isValidHumidifyingSetting2(property.edt);
+			case EPC_MEASURED_VALUE_OF_RELATIVE_HUMIDITY : return o.isValidMeasuredValueOfRelativeHumidity(property.edt);
+			case EPC_RESERVATION_SET_OF_OFF_TIMER : return o.isValidReservationSetOfOffTimer(property.edt);
+			case EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER : return o.isValidRelativeTimeValueSetOfOffTimer(property.edt);
+			case EPC_ION_EMISSION_SETTING : return o.isValidIonEmissionSetting(property.edt);
+			case EPC_IMPLEMENTED_ION_EMISSION_METHOD : return o.isValidImplementedIonEmissionMethod(property.edt);
+			case EPC_SPECIAL_OPERATION_MODE_SETTING : return o.isValidSpecialOperationModeSetting(property.edt);
+			case EPC_WATER_AMOUNT_LEVEL : return o.isValidWaterAmountLevel(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_HUMIDIFYING_SETTING1 : 
-				onSetHumidifyingSetting1(eoj, tid, esv, property, success);
+				r.onSetHumidifyingSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HUMIDIFYING_SETTING2 : 
-				onSetHumidifyingSetting2(eoj, tid, esv, property, success);
+				r.onSetHumidifyingSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RESERVATION_SET_OF_OFF_TIMER : 
-				onSetReservationSetOfOffTimer(eoj, tid, esv, property, success);
+				r.onSetReservationSetOfOffTimer(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER : 
-				onSetRelativeTimeValueSetOfOffTimer(eoj, tid, esv, property, success);
+				r.onSetRelativeTimeValueSetOfOffTimer(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ION_EMISSION_SETTING : 
-				onSetIonEmissionSetting(eoj, tid, esv, property, success);
+				r.onSetIonEmissionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_OPERATION_MODE_SETTING : 
-				onSetSpecialOperationModeSetting(eoj, tid, esv, property, success);
+				r.onSetSpecialOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -811,43 +769,91 @@ public abstract class Humidifier extends DeviceObject {
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_HUMIDIFYING_SETTING1 : 
-				onGetHumidifyingSetting1(eoj, tid, esv, property, success);
+				r.onGetHumidifyingSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HUMIDIFYING_SETTING2 : 
-				onGetHumidifyingSetting2(eoj, tid, esv, property, success);
+				r.onGetHumidifyingSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_VALUE_OF_RELATIVE_HUMIDITY : 
-				onGetMeasuredValueOfRelativeHumidity(eoj, tid, esv, property, success);
+				r.onGetMeasuredValueOfRelativeHumidity(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RESERVATION_SET_OF_OFF_TIMER : 
-				onGetReservationSetOfOffTimer(eoj, tid, esv, property, success);
+				r.onGetReservationSetOfOffTimer(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER : 
-				onGetRelativeTimeValueSetOfOffTimer(eoj, tid, esv, property, success);
+				r.onGetRelativeTimeValueSetOfOffTimer(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ION_EMISSION_SETTING : 
-				onGetIonEmissionSetting(eoj, tid, esv, property, success);
+				r.onGetIonEmissionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_IMPLEMENTED_ION_EMISSION_METHOD : 
-				onGetImplementedIonEmissionMethod(eoj, tid, esv, property, success);
+				r.onGetImplementedIonEmissionMethod(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_OPERATION_MODE_SETTING : 
-				onGetSpecialOperationModeSetting(eoj, tid, esv, property, success);
+				r.onGetSpecialOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_AMOUNT_LEVEL : 
-				onGetWaterAmountLevel(eoj, tid, esv, property, success);
+				r.onGetWaterAmountLevel(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(Humidifier.class, sPropertyHandler
+				, new byte[] {EPC_HUMIDIFYING_SETTING1, EPC_HUMIDIFYING_SETTING2, EPC_MEASURED_VALUE_OF_RELATIVE_HUMIDITY, EPC_RESERVATION_SET_OF_OFF_TIMER, EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER, EPC_ION_EMISSION_SETTING, EPC_IMPLEMENTED_ION_EMISSION_METHOD, EPC_SPECIAL_OPERATION_MODE_SETTING, EPC_WATER_AMOUNT_LEVEL}
+				, new byte[] {EPC_HUMIDIFYING_SETTING1, EPC_HUMIDIFYING_SETTING2, EPC_RESERVATION_SET_OF_OFF_TIMER, EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER, EPC_ION_EMISSION_SETTING, EPC_SPECIAL_OPERATION_MODE_SETTING}
+				, new byte[] {EPC_HUMIDIFYING_SETTING1, EPC_HUMIDIFYING_SETTING2, EPC_MEASURED_VALUE_OF_RELATIVE_HUMIDITY, EPC_RESERVATION_SET_OF_OFF_TIMER, EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER, EPC_ION_EMISSION_SETTING, EPC_IMPLEMENTED_ION_EMISSION_METHOD, EPC_SPECIAL_OPERATION_MODE_SETTING, EPC_WATER_AMOUNT_LEVEL});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_HUMIDIFYING_SETTING1, EPC_HUMIDIFYING_SETTING2, EPC_RESERVATION_SET_OF_OFF_TIMER, EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER, EPC_ION_EMISSION_SETTING, EPC_SPECIAL_OPERATION_MODE_SETTING}
+					, new byte[] {EPC_HUMIDIFYING_SETTING1, EPC_HUMIDIFYING_SETTING2, EPC_MEASURED_VALUE_OF_RELATIVE_HUMIDITY, EPC_RESERVATION_SET_OF_OFF_TIMER, EPC_RELATIVE_TIME_VALUE_SET_OF_OFF_TIMER, EPC_ION_EMISSION_SETTING, EPC_IMPLEMENTED_ION_EMISSION_METHOD, EPC_SPECIAL_OPERATION_MODE_SETTING, EPC_WATER_AMOUNT_LEVEL}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Humidifying setting 1<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -2719,262 +2720,219 @@ timer-based reservation” setting<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_OPERATION_MODE_SETTING : return setOperationModeSetting(property.edt);
-		case EPC_TEMPERATURE_SETTING1 : return setTemperatureSetting1(property.edt);
-		case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return setRelativeHumiditySettingForDehumidificaTionMode1(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1 : return setTemperatureSettingForCoolingMode1(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1 : return setTemperatureSettingForHeatingMode1(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return setTemperatureSettingForDehumidificaTionMode1(property.edt);
-		case EPC_RELATIVE_TEMPERATURE_SETTING : return setRelativeTemperatureSetting(property.edt);
-		case EPC_AIR_FLOW_RATE_SETTING : return setAirFlowRateSetting(property.edt);
-		case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return setAirFlowDirectionVerticalSetting(property.edt);
-		case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return setAirFlowDirectionHorizontalSetting(property.edt);
-		case EPC_VENTILATION_MODE_SETTING : return setVentilationModeSetting(property.edt);
-		case EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER : return setCombinedOperationOfIndoorUnitAndTotalHeatExchanger(property.edt);
-		case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return setVentilationAirFlowRateSetting(property.edt);
-		case EPC_DISABLING_OF_AIR_CONDITIONER_SETTING : return setDisablingOfAirConditionerSetting(property.edt);
-		case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : return setThermostatSettingOverrideFunction(property.edt);
-		case EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING : return setFilterCleaningReminderLampSetting(property.edt);
-		case EPC_TEMPERATURE_SETTING2 : return setTemperatureSetting2(property.edt);
-		case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return setRelativeHumiditySettingForDehumidificatioNMode2(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2 : return setTemperatureSettingForCoolingMode2(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2 : return setTemperatureSettingForHeatingMode2(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return setTemperatureSettingForDehumidificatioNMode2(property.edt);
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return setOnTimerBasedReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING_TIME : return setOnTimerSettingTime(property.edt);
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return setOnTimerSettingRelativeTime(property.edt);
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return setOffTimerBasedReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING_TIME : return setOffTimerSettingTime(property.edt);
-		case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return setOffTimerSettingRelativeTime(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_OPERATION_MODE_SETTING : return getOperationModeSetting();
-		case EPC_TEMPERATURE_SETTING1 : return getTemperatureSetting1();
-		case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return getRelativeHumiditySettingForDehumidificaTionMode1();
-		case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1 : return getTemperatureSettingForCoolingMode1();
-		case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1 : return getTemperatureSettingForHeatingMode1();
-		case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return getTemperatureSettingForDehumidificaTionMode1();
-		case EPC_RATED_POWER_CONSUMPTION_OF_INDOOR_UNIT : return getRatedPowerConsumptionOfIndoorUnit();
-		case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_INDOOR_UNIT : return getMeasuredElectricCurrentConsumptionOfIndoorUnit();
-		case EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY1 : return getMeasuredIndoorRelativeHumidity1();
-		case EPC_MEASURED_INDOOR_TEMPERATURE1 : return getMeasuredIndoorTemperature1();
-		case EPC_RELATIVE_TEMPERATURE_SETTING : return getRelativeTemperatureSetting();
-		case EPC_AIR_FLOW_RATE_SETTING : return getAirFlowRateSetting();
-		case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return getAirFlowDirectionVerticalSetting();
-		case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return getAirFlowDirectionHorizontalSetting();
-		case EPC_SPECIAL_STATE : return getSpecialState();
-		case EPC_THERMOSTAT_STATE : return getThermostatState();
-		case EPC_CURRENT_FUNCTION_AUTOMATIC_OPERATION_MODE : return getCurrentFunctionAutomaticOperationMode();
-		case EPC_VENTILATION_MODE_SETTING : return getVentilationModeSetting();
-		case EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER : return getCombinedOperationOfIndoorUnitAndTotalHeatExchanger();
-		case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return getVentilationAirFlowRateSetting();
-		case EPC_DISABLING_OF_AIR_CONDITIONER_SETTING : return getDisablingOfAirConditionerSetting();
-		case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : return getThermostatSettingOverrideFunction();
-		case EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING : return getFilterCleaningReminderLampSetting();
-		case EPC_MEASURED_POWER_CONSUMPTION_OF_INDOOR_UNIT : return getMeasuredPowerConsumptionOfIndoorUnit();
-		case EPC_APERTURE_OF_EXPANSION_VALVE : return getApertureOfExpansionValve();
-		case EPC_TEMPERATURE_SETTING2 : return getTemperatureSetting2();
-		case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return getRelativeHumiditySettingForDehumidificatioNMode2();
-		case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2 : return getTemperatureSettingForCoolingMode2();
-		case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2 : return getTemperatureSettingForHeatingMode2();
-		case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return getTemperatureSettingForDehumidificatioNMode2();
-		case EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY2 : return getMeasuredIndoorRelativeHumidity2();
-		case EPC_MEASURED_INDOOR_TEMPERATURE2 : return getMeasuredIndoorTemperature2();
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return getOnTimerBasedReservationSetting();
-		case EPC_ON_TIMER_SETTING_TIME : return getOnTimerSettingTime();
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return getOnTimerSettingRelativeTime();
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return getOffTimerBasedReservationSetting();
-		case EPC_OFF_TIMER_SETTING_TIME : return getOffTimerSettingTime();
-		case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return getOffTimerSettingRelativeTime();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			PackageTypeCommercialAirConditionerIndoorUnit o = (PackageTypeCommercialAirConditionerIndoorUnit)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.setOperationModeSetting(property.edt);
+			case EPC_TEMPERATURE_SETTING1 : return o.setTemperatureSetting1(property.edt);
+			case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return o.setRelativeHumiditySettingForDehumidificaTionMode1(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1 : return o.setTemperatureSettingForCoolingMode1(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1 : return o.setTemperatureSettingForHeatingMode1(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return o.setTemperatureSettingForDehumidificaTionMode1(property.edt);
+			case EPC_RELATIVE_TEMPERATURE_SETTING : return o.setRelativeTemperatureSetting(property.edt);
+			case EPC_AIR_FLOW_RATE_SETTING : return o.setAirFlowRateSetting(property.edt);
+			case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return o.setAirFlowDirectionVerticalSetting(property.edt);
+			case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return o.setAirFlowDirectionHorizontalSetting(property.edt);
+			case EPC_VENTILATION_MODE_SETTING : return o.setVentilationModeSetting(property.edt);
+			case EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER : return o.setCombinedOperationOfIndoorUnitAndTotalHeatExchanger(property.edt);
+			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return o.setVentilationAirFlowRateSetting(property.edt);
+			case EPC_DISABLING_OF_AIR_CONDITIONER_SETTING : return o.setDisablingOfAirConditionerSetting(property.edt);
+			case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : return o.setThermostatSettingOverrideFunction(property.edt);
+			case EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING : return o.setFilterCleaningReminderLampSetting(property.edt);
+			case EPC_TEMPERATURE_SETTING2 : return o.setTemperatureSetting2(property.edt);
+			case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return o.setRelativeHumiditySettingForDehumidificatioNMode2(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2 : return o.setTemperatureSettingForCoolingMode2(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2 : return o.setTemperatureSettingForHeatingMode2(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return o.setTemperatureSettingForDehumidificatioNMode2(property.edt);
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return o.setOnTimerBasedReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING_TIME : return o.setOnTimerSettingTime(property.edt);
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.setOnTimerSettingRelativeTime(property.edt);
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.setOffTimerBasedReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING_TIME : return o.setOffTimerSettingTime(property.edt);
+			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return o.setOffTimerSettingRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_OPERATION_MODE_SETTING : return isValidOperationModeSetting(property.edt);
-		case EPC_TEMPERATURE_SETTING1 : return isValidTemperatureSetting1(property.edt);
-		case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return isValidRelativeHumiditySettingForDehumidificaTionMode1(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1 : return isValidTemperatureSettingForCoolingMode1(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1 : return isValidTemperatureSettingForHeatingMode1(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return isValidTemperatureSettingForDehumidificaTionMode1(property.edt);
-		case EPC_RATED_POWER_CONSUMPTION_OF_INDOOR_UNIT : return isValidRatedPowerConsumptionOfIndoorUnit(property.edt);
-		case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_INDOOR_UNIT : return isValidMeasuredElectricCurrentConsumptionOfIndoorUnit(property.edt);
-		case EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY1 : return isValidMeasuredIndoorRelativeHumidity1(property.edt);
-		case EPC_MEASURED_INDOOR_TEMPERATURE1 : return isValidMeasuredIndoorTemperature1(property.edt);
-		case EPC_RELATIVE_TEMPERATURE_SETTING : return isValidRelativeTemperatureSetting(property.edt);
-		case EPC_AIR_FLOW_RATE_SETTING : return isValidAirFlowRateSetting(property.edt);
-		case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return isValidAirFlowDirectionVerticalSetting(property.edt);
-		case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return isValidAirFlowDirectionHorizontalSetting(property.edt);
-		case EPC_SPECIAL_STATE : return isValidSpecialState(property.edt);
-		case EPC_THERMOSTAT_STATE : return isValidThermostatState(property.edt);
-		case EPC_CURRENT_FUNCTION_AUTOMATIC_OPERATION_MODE : return isValidCurrentFunctionAutomaticOperationMode(property.edt);
-		case EPC_VENTILATION_MODE_SETTING : return isValidVentilationModeSetting(property.edt);
-		case EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER : return isValidCombinedOperationOfIndoorUnitAndTotalHeatExchanger(property.edt);
-		case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return isValidVentilationAirFlowRateSetting(property.edt);
-		case EPC_DISABLING_OF_AIR_CONDITIONER_SETTING : return isValidDisablingOfAirConditionerSetting(property.edt);
-		case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : return isValidThermostatSettingOverrideFunction(property.edt);
-		case EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING : return isValidFilterCleaningReminderLampSetting(property.edt);
-		case EPC_MEASURED_POWER_CONSUMPTION_OF_INDOOR_UNIT : return isValidMeasuredPowerConsumptionOfIndoorUnit(property.edt);
-		case EPC_APERTURE_OF_EXPANSION_VALVE : return isValidApertureOfExpansionValve(property.edt);
-		case EPC_TEMPERATURE_SETTING2 : return isValidTemperatureSetting2(property.edt);
-		case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return isValidRelativeHumiditySettingForDehumidificatioNMode2(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2 : return isValidTemperatureSettingForCoolingMode2(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2 : return isValidTemperatureSettingForHeatingMode2(property.edt);
-		case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return isValidTemperatureSettingForDehumidificatioNMode2(property.edt);
-		case EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY2 : return isValidMeasuredIndoorRelativeHumidity2(property.edt);
-		case EPC_MEASURED_INDOOR_TEMPERATURE2 : return isValidMeasuredIndoorTemperature2(property.edt);
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return isValidOnTimerBasedReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING_TIME : return isValidOnTimerSettingTime(property.edt);
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return isValidOnTimerSettingRelativeTime(property.edt);
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return isValidOffTimerBasedReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING_TIME : return isValidOffTimerSettingTime(property.edt);
-		case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return isValidOffTimerSettingRelativeTime(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			PackageTypeCommercialAirConditionerIndoorUnit o = (PackageTypeCommercialAirConditionerIndoorUnit)eoj;
+			switch(epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.getOperationModeSetting();
+			case EPC_TEMPERATURE_SETTING1 : return o.getTemperatureSetting1();
+			case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return o.getRelativeHumiditySettingForDehumidificaTionMode1();
+			case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1 : return o.getTemperatureSettingForCoolingMode1();
+			case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1 : return o.getTemperatureSettingForHeatingMode1();
+			case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return o.getTemperatureSettingForDehumidificaTionMode1();
+			case EPC_RATED_POWER_CONSUMPTION_OF_INDOOR_UNIT : return o.getRatedPowerConsumptionOfIndoorUnit();
+			case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_INDOOR_UNIT : return o.getMeasuredElectricCurrentConsumptionOfIndoorUnit();
+			case EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY1 : return o.getMeasuredIndoorRelativeHumidity1();
+			case EPC_MEASURED_INDOOR_TEMPERATURE1 : return o.getMeasuredIndoorTemperature1();
+			case EPC_RELATIVE_TEMPERATURE_SETTING : return o.getRelativeTemperatureSetting();
+			case EPC_AIR_FLOW_RATE_SETTING : return o.getAirFlowRateSetting();
+			case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return o.getAirFlowDirectionVerticalSetting();
+			case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return o.getAirFlowDirectionHorizontalSetting();
+			case EPC_SPECIAL_STATE : return o.getSpecialState();
+			case EPC_THERMOSTAT_STATE : return o.getThermostatState();
+			case EPC_CURRENT_FUNCTION_AUTOMATIC_OPERATION_MODE : return o.getCurrentFunctionAutomaticOperationMode();
+			case EPC_VENTILATION_MODE_SETTING : return o.getVentilationModeSetting();
+			case EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER : return o.getCombinedOperationOfIndoorUnitAndTotalHeatExchanger();
+			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return o.getVentilationAirFlowRateSetting();
+			case EPC_DISABLING_OF_AIR_CONDITIONER_SETTING : return o.getDisablingOfAirConditionerSetting();
+			case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : return o.getThermostatSettingOverrideFunction();
+			case EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING : return o.getFilterCleaningReminderLampSetting();
+			case EPC_MEASURED_POWER_CONSUMPTION_OF_INDOOR_UNIT : return o.getMeasuredPowerConsumptionOfIndoorUnit();
+			case EPC_APERTURE_OF_EXPANSION_VALVE : return o.getApertureOfExpansionValve();
+			case EPC_TEMPERATURE_SETTING2 : return o.getTemperatureSetting2();
+			case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return o.getRelativeHumiditySettingForDehumidificatioNMode2();
+			case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2 : return o.getTemperatureSettingForCoolingMode2();
+			case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2 : return o.getTemperatureSettingForHeatingMode2();
+			case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return o.getTemperatureSettingForDehumidificatioNMode2();
+			case EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY2 : return o.getMeasuredIndoorRelativeHumidity2();
+			case EPC_MEASURED_INDOOR_TEMPERATURE2 : return o.getMeasuredIndoorTemperature2();
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return o.getOnTimerBasedReservationSetting();
+			case EPC_ON_TIMER_SETTING_TIME : return o.getOnTimerSettingTime();
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.getOnTimerSettingRelativeTime();
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.getOffTimerBasedReservationSetting();
+			case EPC_OFF_TIMER_SETTING_TIME : return o.getOffTimerSettingTime();
+			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return o.getOffTimerSettingRelativeTime();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			PackageTypeCommercialAirConditionerIndoorUnit o = (PackageTypeCommercialAirConditionerIndoorUnit)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.isValidOperationModeSetting(property.edt);
+			case EPC_TEMPERATURE_SETTING1 : return o.isValidTemperatureSetting1(property.edt);
+			case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return o.isValidRelativeHumiditySettingForDehumidificaTionMode1(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1 : return o.isValidTemperatureSettingForCoolingMode1(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1 : return o.isValidTemperatureSettingForHeatingMode1(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : return o.isValidTemperatureSettingForDehumidificaTionMode1(property.edt);
+			case EPC_RATED_POWER_CONSUMPTION_OF_INDOOR_UNIT : return o.isValidRatedPowerConsumptionOfIndoorUnit(property.edt);
+			case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_INDOOR_UNIT : return o.isValidMeasuredElectricCurrentConsumptionOfIndoorUnit(property.edt);
+			case EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY1 : return o.isValidMeasuredIndoorRelativeHumidity1(property.edt);
+			case EPC_MEASURED_INDOOR_TEMPERATURE1 : return o.isValidMeasuredIndoorTemperature1(property.edt);
+			case EPC_RELATIVE_TEMPERATURE_SETTING : return o.isValidRelativeTemperatureSetting(property.edt);
+			case EPC_AIR_FLOW_RATE_SETTING : return o.isValidAirFlowRateSetting(property.edt);
+			case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : return o.isValidAirFlowDirectionVerticalSetting(property.edt);
+			case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : return o.isValidAirFlowDirectionHorizontalSetting(property.edt);
+			case EPC_SPECIAL_STATE : return o.isValidSpecialState(property.edt);
+			case EPC_THERMOSTAT_STATE : return o.isValidThermostatState(property.edt);
+			case EPC_CURRENT_FUNCTION_AUTOMATIC_OPERATION_MODE : return o.isValidCurrentFunctionAutomaticOperationMode(property.edt);
+			case EPC_VENTILATION_MODE_SETTING : return o.isValidVentilationModeSetting(property.edt);
+			case EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER : return o.isValidCombinedOperationOfIndoorUnitAndTotalHeatExchanger(property.edt);
+			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return o.isValidVentilationAirFlowRateSetting(property.edt);
+			case EPC_DISABLING_OF_AIR_CONDITIONER_SETTING : return o.isValidDisablingOfAirConditionerSetting(property.edt);
+			case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : return o.isValidThermostatSettingOverrideFunction(property.edt);
+			case EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING : return o.isValidFilterCleaningReminderLampSetting(property.edt);
+			case EPC_MEASURED_POWER_CONSUMPTION_OF_INDOOR_UNIT : return o.isValidMeasuredPowerConsumptionOfIndoorUnit(property.edt);
+			case EPC_APERTURE_OF_EXPANSION_VALVE : return o.isValidApertureOfExpansionValve(property.edt);
+			case EPC_TEMPERATURE_SETTING2 : return o.isValidTemperatureSetting2(property.edt);
+			case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return o.isValidRelativeHumiditySettingForDehumidificatioNMode2(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2 : return o.isValidTemperatureSettingForCoolingMode2(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2 : return o.isValidTemperatureSettingForHeatingMode2(property.edt);
+			case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : return o.isValidTemperatureSettingForDehumidificatioNMode2(property.edt);
+			case EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY2 : return o.isValidMeasuredIndoorRelativeHumidity2(property.edt);
+			case EPC_MEASURED_INDOOR_TEMPERATURE2 : return o.isValidMeasuredIndoorTemperature2(property.edt);
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : return o.isValidOnTimerBasedReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING_TIME : return o.isValidOnTimerSettingTime(property.edt);
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.isValidOnTimerSettingRelativeTime(property.edt);
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.isValidOffTimerBasedReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING_TIME : return o.isValidOffTimerSettingTime(property.edt);
+			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return o.isValidOffTimerSettingRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPERATION_MODE_SETTING : 
-				onSetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onSetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING1 : 
-				onSetTemperatureSetting1(eoj, tid, esv, property, success);
+				r.onSetTemperatureSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : 
-				onSetRelativeHumiditySettingForDehumidificaTionMode1(eoj, tid, esv, property, success);
+				r.onSetRelativeHumiditySettingForDehumidificaTionMode1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1 : 
-				onSetTemperatureSettingForCoolingMode1(eoj, tid, esv, property, success);
+				r.onSetTemperatureSettingForCoolingMode1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1 : 
-				onSetTemperatureSettingForHeatingMode1(eoj, tid, esv, property, success);
+				r.onSetTemperatureSettingForHeatingMode1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : 
-				onSetTemperatureSettingForDehumidificaTionMode1(eoj, tid, esv, property, success);
+				r.onSetTemperatureSettingForDehumidificaTionMode1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TEMPERATURE_SETTING : 
-				onSetRelativeTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetRelativeTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_RATE_SETTING : 
-				onSetAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onSetAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : 
-				onSetAirFlowDirectionVerticalSetting(eoj, tid, esv, property, success);
+				r.onSetAirFlowDirectionVerticalSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : 
-				onSetAirFlowDirectionHorizontalSetting(eoj, tid, esv, property, success);
+				r.onSetAirFlowDirectionHorizontalSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_MODE_SETTING : 
-				onSetVentilationModeSetting(eoj, tid, esv, property, success);
+				r.onSetVentilationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER : 
-				onSetCombinedOperationOfIndoorUnitAndTotalHeatExchanger(eoj, tid, esv, property, success);
+				r.onSetCombinedOperationOfIndoorUnitAndTotalHeatExchanger(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : 
-				onSetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onSetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISABLING_OF_AIR_CONDITIONER_SETTING : 
-				onSetDisablingOfAirConditionerSetting(eoj, tid, esv, property, success);
+				r.onSetDisablingOfAirConditionerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : 
-				onSetThermostatSettingOverrideFunction(eoj, tid, esv, property, success);
+				r.onSetThermostatSettingOverrideFunction(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING : 
-				onSetFilterCleaningReminderLampSetting(eoj, tid, esv, property, success);
+				r.onSetFilterCleaningReminderLampSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING2 : 
-				onSetTemperatureSetting2(eoj, tid, esv, property, success);
+				r.onSetTemperatureSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : 
-				onSetRelativeHumiditySettingForDehumidificatioNMode2(eoj, tid, esv, property, success);
+				r.onSetRelativeHumiditySettingForDehumidificatioNMode2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2 : 
-				onSetTemperatureSettingForCoolingMode2(eoj, tid, esv, property, success);
+				r.onSetTemperatureSettingForCoolingMode2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2 : 
-				onSetTemperatureSettingForHeatingMode2(eoj, tid, esv, property, success);
+				r.onSetTemperatureSettingForHeatingMode2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : 
-				onSetTemperatureSettingForDehumidificatioNMode2(eoj, tid, esv, property, success);
+				r.onSetTemperatureSettingForDehumidificatioNMode2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : 
-				onSetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_TIME : 
-				onSetOnTimerSettingTime(eoj, tid, esv, property, success);
+				r.onSetOnTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : 
-				onSetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onSetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : 
-				onSetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_TIME : 
-				onSetOffTimerSettingTime(eoj, tid, esv, property, success);
+				r.onSetOffTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : 
-				onSetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onSetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -2982,130 +2940,178 @@ timer-based reservation” setting<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPERATION_MODE_SETTING : 
-				onGetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onGetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING1 : 
-				onGetTemperatureSetting1(eoj, tid, esv, property, success);
+				r.onGetTemperatureSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : 
-				onGetRelativeHumiditySettingForDehumidificaTionMode1(eoj, tid, esv, property, success);
+				r.onGetRelativeHumiditySettingForDehumidificaTionMode1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1 : 
-				onGetTemperatureSettingForCoolingMode1(eoj, tid, esv, property, success);
+				r.onGetTemperatureSettingForCoolingMode1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1 : 
-				onGetTemperatureSettingForHeatingMode1(eoj, tid, esv, property, success);
+				r.onGetTemperatureSettingForHeatingMode1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1 : 
-				onGetTemperatureSettingForDehumidificaTionMode1(eoj, tid, esv, property, success);
+				r.onGetTemperatureSettingForDehumidificaTionMode1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_CONSUMPTION_OF_INDOOR_UNIT : 
-				onGetRatedPowerConsumptionOfIndoorUnit(eoj, tid, esv, property, success);
+				r.onGetRatedPowerConsumptionOfIndoorUnit(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_INDOOR_UNIT : 
-				onGetMeasuredElectricCurrentConsumptionOfIndoorUnit(eoj, tid, esv, property, success);
+				r.onGetMeasuredElectricCurrentConsumptionOfIndoorUnit(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY1 : 
-				onGetMeasuredIndoorRelativeHumidity1(eoj, tid, esv, property, success);
+				r.onGetMeasuredIndoorRelativeHumidity1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INDOOR_TEMPERATURE1 : 
-				onGetMeasuredIndoorTemperature1(eoj, tid, esv, property, success);
+				r.onGetMeasuredIndoorTemperature1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TEMPERATURE_SETTING : 
-				onGetRelativeTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetRelativeTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_RATE_SETTING : 
-				onGetAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onGetAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING : 
-				onGetAirFlowDirectionVerticalSetting(eoj, tid, esv, property, success);
+				r.onGetAirFlowDirectionVerticalSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING : 
-				onGetAirFlowDirectionHorizontalSetting(eoj, tid, esv, property, success);
+				r.onGetAirFlowDirectionHorizontalSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_STATE : 
-				onGetSpecialState(eoj, tid, esv, property, success);
+				r.onGetSpecialState(eoj, tid, esv, property, success);
 				return true;
 			case EPC_THERMOSTAT_STATE : 
-				onGetThermostatState(eoj, tid, esv, property, success);
+				r.onGetThermostatState(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CURRENT_FUNCTION_AUTOMATIC_OPERATION_MODE : 
-				onGetCurrentFunctionAutomaticOperationMode(eoj, tid, esv, property, success);
+				r.onGetCurrentFunctionAutomaticOperationMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_MODE_SETTING : 
-				onGetVentilationModeSetting(eoj, tid, esv, property, success);
+				r.onGetVentilationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER : 
-				onGetCombinedOperationOfIndoorUnitAndTotalHeatExchanger(eoj, tid, esv, property, success);
+				r.onGetCombinedOperationOfIndoorUnitAndTotalHeatExchanger(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : 
-				onGetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onGetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISABLING_OF_AIR_CONDITIONER_SETTING : 
-				onGetDisablingOfAirConditionerSetting(eoj, tid, esv, property, success);
+				r.onGetDisablingOfAirConditionerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION : 
-				onGetThermostatSettingOverrideFunction(eoj, tid, esv, property, success);
+				r.onGetThermostatSettingOverrideFunction(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING : 
-				onGetFilterCleaningReminderLampSetting(eoj, tid, esv, property, success);
+				r.onGetFilterCleaningReminderLampSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_POWER_CONSUMPTION_OF_INDOOR_UNIT : 
-				onGetMeasuredPowerConsumptionOfIndoorUnit(eoj, tid, esv, property, success);
+				r.onGetMeasuredPowerConsumptionOfIndoorUnit(eoj, tid, esv, property, success);
 				return true;
 			case EPC_APERTURE_OF_EXPANSION_VALVE : 
-				onGetApertureOfExpansionValve(eoj, tid, esv, property, success);
+				r.onGetApertureOfExpansionValve(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING2 : 
-				onGetTemperatureSetting2(eoj, tid, esv, property, success);
+				r.onGetTemperatureSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : 
-				onGetRelativeHumiditySettingForDehumidificatioNMode2(eoj, tid, esv, property, success);
+				r.onGetRelativeHumiditySettingForDehumidificatioNMode2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2 : 
-				onGetTemperatureSettingForCoolingMode2(eoj, tid, esv, property, success);
+				r.onGetTemperatureSettingForCoolingMode2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2 : 
-				onGetTemperatureSettingForHeatingMode2(eoj, tid, esv, property, success);
+				r.onGetTemperatureSettingForHeatingMode2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2 : 
-				onGetTemperatureSettingForDehumidificatioNMode2(eoj, tid, esv, property, success);
+				r.onGetTemperatureSettingForDehumidificatioNMode2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY2 : 
-				onGetMeasuredIndoorRelativeHumidity2(eoj, tid, esv, property, success);
+				r.onGetMeasuredIndoorRelativeHumidity2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INDOOR_TEMPERATURE2 : 
-				onGetMeasuredIndoorTemperature2(eoj, tid, esv, property, success);
+				r.onGetMeasuredIndoorTemperature2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_BASED_RESERVATION_SETTING : 
-				onGetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_TIME : 
-				onGetOnTimerSettingTime(eoj, tid, esv, property, success);
+				r.onGetOnTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : 
-				onGetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onGetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : 
-				onGetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_TIME : 
-				onGetOffTimerSettingTime(eoj, tid, esv, property, success);
+				r.onGetOffTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : 
-				onGetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onGetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(PackageTypeCommercialAirConditionerIndoorUnit.class, sPropertyHandler
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_TEMPERATURE_SETTING1, EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1, EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1, EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1, EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1, EPC_RATED_POWER_CONSUMPTION_OF_INDOOR_UNIT, EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_INDOOR_UNIT, EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY1, EPC_MEASURED_INDOOR_TEMPERATURE1, EPC_RELATIVE_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING, EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING, EPC_SPECIAL_STATE, EPC_THERMOSTAT_STATE, EPC_CURRENT_FUNCTION_AUTOMATIC_OPERATION_MODE, EPC_VENTILATION_MODE_SETTING, EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_DISABLING_OF_AIR_CONDITIONER_SETTING, EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION, EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING, EPC_MEASURED_POWER_CONSUMPTION_OF_INDOOR_UNIT, EPC_APERTURE_OF_EXPANSION_VALVE, EPC_TEMPERATURE_SETTING2, EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2, EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2, EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2, EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2, EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY2, EPC_MEASURED_INDOOR_TEMPERATURE2, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_TEMPERATURE_SETTING1, EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1, EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1, EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1, EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1, EPC_RELATIVE_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING, EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING, EPC_VENTILATION_MODE_SETTING, EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_DISABLING_OF_AIR_CONDITIONER_SETTING, EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION, EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING, EPC_TEMPERATURE_SETTING2, EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2, EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2, EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2, EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_TEMPERATURE_SETTING1, EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1, EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1, EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1, EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1, EPC_RATED_POWER_CONSUMPTION_OF_INDOOR_UNIT, EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_INDOOR_UNIT, EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY1, EPC_MEASURED_INDOOR_TEMPERATURE1, EPC_RELATIVE_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING, EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING, EPC_SPECIAL_STATE, EPC_THERMOSTAT_STATE, EPC_CURRENT_FUNCTION_AUTOMATIC_OPERATION_MODE, EPC_VENTILATION_MODE_SETTING, EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_DISABLING_OF_AIR_CONDITIONER_SETTING, EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION, EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING, EPC_MEASURED_POWER_CONSUMPTION_OF_INDOOR_UNIT, EPC_APERTURE_OF_EXPANSION_VALVE, EPC_TEMPERATURE_SETTING2, EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2, EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2, EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2, EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2, EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY2, EPC_MEASURED_INDOOR_TEMPERATURE2, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_TEMPERATURE_SETTING1, EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1, EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1, EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1, EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1, EPC_RELATIVE_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING, EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING, EPC_VENTILATION_MODE_SETTING, EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_DISABLING_OF_AIR_CONDITIONER_SETTING, EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION, EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING, EPC_TEMPERATURE_SETTING2, EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2, EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2, EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2, EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+					, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_TEMPERATURE_SETTING1, EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICA_TION_MODE1, EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE1, EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE1, EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICA_TION_MODE1, EPC_RATED_POWER_CONSUMPTION_OF_INDOOR_UNIT, EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_INDOOR_UNIT, EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY1, EPC_MEASURED_INDOOR_TEMPERATURE1, EPC_RELATIVE_TEMPERATURE_SETTING, EPC_AIR_FLOW_RATE_SETTING, EPC_AIR_FLOW_DIRECTION_VERTICAL_SETTING, EPC_AIR_FLOW_DIRECTION_HORIZONTAL_SETTING, EPC_SPECIAL_STATE, EPC_THERMOSTAT_STATE, EPC_CURRENT_FUNCTION_AUTOMATIC_OPERATION_MODE, EPC_VENTILATION_MODE_SETTING, EPC_COMBINED_OPERATION_OF_INDOOR_UNIT_AND_TOTAL_HEAT_EXCHANGER, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_DISABLING_OF_AIR_CONDITIONER_SETTING, EPC_THERMOSTAT_SETTING_OVERRIDE_FUNCTION, EPC_FILTER_CLEANING_REMINDER_LAMP_SETTING, EPC_MEASURED_POWER_CONSUMPTION_OF_INDOOR_UNIT, EPC_APERTURE_OF_EXPANSION_VALVE, EPC_TEMPERATURE_SETTING2, EPC_RELATIVE_HUMIDITY_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2, EPC_TEMPERATURE_SETTING_FOR_COOLING_MODE2, EPC_TEMPERATURE_SETTING_FOR_HEATING_MODE2, EPC_TEMPERATURE_SETTING_FOR_DEHUMIDIFICATIO_N_MODE2, EPC_MEASURED_INDOOR_RELATIVE_HUMIDITY2, EPC_MEASURED_INDOOR_TEMPERATURE2, EPC_ON_TIMER_BASED_RESERVATION_SETTING, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Operation mode setting<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -634,102 +635,59 @@ public abstract class PackageTypeCommercialAirConditionerOutdoorUnit extends Dev
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_OPERATION_MODE_SETTING : return setOperationModeSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_OPERATION_MODE_SETTING : return getOperationModeSetting();
-		case EPC_RATED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT : return getRatedPowerConsumptionOfOutdoorUnit();
-		case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_OUTDOOR_UNIT : return getMeasuredElectricCurrentConsumptionOfOutdoorUnit();
-		case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE1 : return getMeasuredOutdoorAirTemperature1();
-		case EPC_SPECIAL_STATE : return getSpecialState();
-		case EPC_OPERATION_STATUS_OF_COMPRESSOR : return getOperationStatusOfCompressor();
-		case EPC_OPERATION_MODE_INFORMATION : return getOperationModeInformation();
-		case EPC_FAN_ROTATION_SPEED : return getFanRotationSpeed();
-		case EPC_MEASURED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT : return getMeasuredPowerConsumptionOfOutdoorUnit();
-		case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE2 : return getMeasuredOutdoorAirTemperature2();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			PackageTypeCommercialAirConditionerOutdoorUnit o = (PackageTypeCommercialAirConditionerOutdoorUnit)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.setOperationModeSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_OPERATION_MODE_SETTING : return isValidOperationModeSetting(property.edt);
-		case EPC_RATED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT : return isValidRatedPowerConsumptionOfOutdoorUnit(property.edt);
-		case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_OUTDOOR_UNIT : return isValidMeasuredElectricCurrentConsumptionOfOutdoorUnit(property.edt);
-		case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE1 : return isValidMeasuredOutdoorAirTemperature1(property.edt);
-		case EPC_SPECIAL_STATE : return isValidSpecialState(property.edt);
-		case EPC_OPERATION_STATUS_OF_COMPRESSOR : return isValidOperationStatusOfCompressor(property.edt);
-		case EPC_OPERATION_MODE_INFORMATION : return isValidOperationModeInformation(property.edt);
-		case EPC_FAN_ROTATION_SPEED : return isValidFanRotationSpeed(property.edt);
-		case EPC_MEASURED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT : return isValidMeasuredPowerConsumptionOfOutdoorUnit(property.edt);
-		case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE2 : return isValidMeasuredOutdoorAirTemperature2(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			PackageTypeCommercialAirConditionerOutdoorUnit o = (PackageTypeCommercialAirConditionerOutdoorUnit)eoj;
+			switch(epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.getOperationModeSetting();
+			case EPC_RATED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT : return o.getRatedPowerConsumptionOfOutdoorUnit();
+			case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_OUTDOOR_UNIT : return o.getMeasuredElectricCurrentConsumptionOfOutdoorUnit();
+			case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE1 : return o.getMeasuredOutdoorAirTemperature1();
+			case EPC_SPECIAL_STATE : return o.getSpecialState();
+			case EPC_OPERATION_STATUS_OF_COMPRESSOR : return o.getOperationStatusOfCompressor();
+			case EPC_OPERATION_MODE_INFORMATION : return o.getOperationModeInformation();
+			case EPC_FAN_ROTATION_SPEED : return o.getFanRotationSpeed();
+			case EPC_MEASURED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT : return o.getMeasuredPowerConsumptionOfOutdoorUnit();
+			case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE2 : return o.getMeasuredOutdoorAirTemperature2();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			PackageTypeCommercialAirConditionerOutdoorUnit o = (PackageTypeCommercialAirConditionerOutdoorUnit)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.isValidOperationModeSetting(property.edt);
+			case EPC_RATED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT : return o.isValidRatedPowerConsumptionOfOutdoorUnit(property.edt);
+			case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_OUTDOOR_UNIT : return o.isValidMeasuredElectricCurrentConsumptionOfOutdoorUnit(property.edt);
+			case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE1 : return o.isValidMeasuredOutdoorAirTemperature1(property.edt);
+			case EPC_SPECIAL_STATE : return o.isValidSpecialState(property.edt);
+			case EPC_OPERATION_STATUS_OF_COMPRESSOR : return o.isValidOperationStatusOfCompressor(property.edt);
+			case EPC_OPERATION_MODE_INFORMATION : return o.isValidOperationModeInformation(property.edt);
+			case EPC_FAN_ROTATION_SPEED : return o.isValidFanRotationSpeed(property.edt);
+			case EPC_MEASURED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT : return o.isValidMeasuredPowerConsumptionOfOutdoorUnit(property.edt);
+			case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE2 : return o.isValidMeasuredOutdoorAirTemperature2(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPERATION_MODE_SETTING : 
-				onSetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onSetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -737,46 +695,94 @@ public abstract class PackageTypeCommercialAirConditionerOutdoorUnit extends Dev
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPERATION_MODE_SETTING : 
-				onGetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onGetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT : 
-				onGetRatedPowerConsumptionOfOutdoorUnit(eoj, tid, esv, property, success);
+				r.onGetRatedPowerConsumptionOfOutdoorUnit(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_OUTDOOR_UNIT : 
-				onGetMeasuredElectricCurrentConsumptionOfOutdoorUnit(eoj, tid, esv, property, success);
+				r.onGetMeasuredElectricCurrentConsumptionOfOutdoorUnit(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE1 : 
-				onGetMeasuredOutdoorAirTemperature1(eoj, tid, esv, property, success);
+				r.onGetMeasuredOutdoorAirTemperature1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_STATE : 
-				onGetSpecialState(eoj, tid, esv, property, success);
+				r.onGetSpecialState(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OPERATION_STATUS_OF_COMPRESSOR : 
-				onGetOperationStatusOfCompressor(eoj, tid, esv, property, success);
+				r.onGetOperationStatusOfCompressor(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OPERATION_MODE_INFORMATION : 
-				onGetOperationModeInformation(eoj, tid, esv, property, success);
+				r.onGetOperationModeInformation(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FAN_ROTATION_SPEED : 
-				onGetFanRotationSpeed(eoj, tid, esv, property, success);
+				r.onGetFanRotationSpeed(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT : 
-				onGetMeasuredPowerConsumptionOfOutdoorUnit(eoj, tid, esv, property, success);
+				r.onGetMeasuredPowerConsumptionOfOutdoorUnit(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE2 : 
-				onGetMeasuredOutdoorAirTemperature2(eoj, tid, esv, property, success);
+				r.onGetMeasuredOutdoorAirTemperature2(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(PackageTypeCommercialAirConditionerOutdoorUnit.class, sPropertyHandler
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_RATED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT, EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_OUTDOOR_UNIT, EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE1, EPC_SPECIAL_STATE, EPC_OPERATION_STATUS_OF_COMPRESSOR, EPC_OPERATION_MODE_INFORMATION, EPC_FAN_ROTATION_SPEED, EPC_MEASURED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT, EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE2}
+				, new byte[] {EPC_OPERATION_MODE_SETTING}
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_RATED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT, EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_OUTDOOR_UNIT, EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE1, EPC_SPECIAL_STATE, EPC_OPERATION_STATUS_OF_COMPRESSOR, EPC_OPERATION_MODE_INFORMATION, EPC_FAN_ROTATION_SPEED, EPC_MEASURED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT, EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE2});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_OPERATION_MODE_SETTING}
+					, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_RATED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT, EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION_OF_OUTDOOR_UNIT, EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE1, EPC_SPECIAL_STATE, EPC_OPERATION_STATUS_OF_COMPRESSOR, EPC_OPERATION_MODE_INFORMATION, EPC_FAN_ROTATION_SPEED, EPC_MEASURED_POWER_CONSUMPTION_OF_OUTDOOR_UNIT, EPC_MEASURED_OUTDOOR_AIR_TEMPERATURE2}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Operation mode setting<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -239,40 +240,75 @@ public abstract class VentilationFan extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			VentilationFan o = (VentilationFan)eoj;
+			switch(property.epc) {
+			case EPC_VENTILATION_AUTO_SETTING : return o.setVentilationAutoSetting(property.edt);
+			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return o.setSetValueOfVentilationAirFlowRate(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_VENTILATION_AUTO_SETTING : return setVentilationAutoSetting(property.edt);
-		case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return setSetValueOfVentilationAirFlowRate(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			VentilationFan o = (VentilationFan)eoj;
+			switch(epc) {
+			case EPC_VENTILATION_AUTO_SETTING : return o.getVentilationAutoSetting();
+			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return o.getSetValueOfVentilationAirFlowRate();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_VENTILATION_AUTO_SETTING : return getVentilationAutoSetting();
-		case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return getSetValueOfVentilationAirFlowRate();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			VentilationFan o = (VentilationFan)eoj;
+			switch(property.epc) {
+			case EPC_VENTILATION_AUTO_SETTING : return o.isValidVentilationAutoSetting(property.edt);
+			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return o.isValidSetValueOfVentilationAirFlowRate(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_VENTILATION_AUTO_SETTING : return isValidVentilationAutoSetting(property.edt);
-		case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : return isValidSetValueOfVentilationAirFlowRate(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_VENTILATION_AUTO_SETTING : 
+				r.onSetVentilationAutoSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : 
+				r.onSetSetValueOfVentilationAirFlowRate(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_VENTILATION_AUTO_SETTING : 
+				r.onGetVentilationAutoSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : 
+				r.onGetSetValueOfVentilationAirFlowRate(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(VentilationFan.class, sPropertyHandler
+				, new byte[] {EPC_VENTILATION_AUTO_SETTING, EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE}
+				, new byte[] {EPC_VENTILATION_AUTO_SETTING, EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE}
+				, new byte[] {EPC_VENTILATION_AUTO_SETTING, EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE});
 	}
 
 	@Override
@@ -310,41 +346,11 @@ public abstract class VentilationFan extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_VENTILATION_AUTO_SETTING : 
-				onSetVentilationAutoSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : 
-				onSetSetValueOfVentilationAirFlowRate(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_VENTILATION_AUTO_SETTING : 
-				onGetVentilationAutoSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE : 
-				onGetSetValueOfVentilationAirFlowRate(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_VENTILATION_AUTO_SETTING, EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE}
+					, new byte[] {EPC_VENTILATION_AUTO_SETTING, EPC_SET_VALUE_OF_VENTILATION_AIR_FLOW_RATE}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -479,46 +480,90 @@ byte<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			Display o = (Display)eoj;
+			switch(property.epc) {
+			case EPC_DISPLAY_CONTROL_SETTING : return o.setDisplayControlSetting(property.edt);
+			case EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER : return o.setCharacterStringToPresentToTheUser(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_DISPLAY_CONTROL_SETTING : return setDisplayControlSetting(property.edt);
-		case EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER : return setCharacterStringToPresentToTheUser(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			Display o = (Display)eoj;
+			switch(epc) {
+			case EPC_DISPLAY_CONTROL_SETTING : return o.getDisplayControlSetting();
+			case EPC_CHARACTER_STRING_SETTING_ACCEPTANCE_STATUS : return o.getCharacterStringSettingAcceptanceStatus();
+			case EPC_SUPPORTED_CHARACTER_CODES : return o.getSupportedCharacterCodes();
+			case EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER : return o.getCharacterStringToPresentToTheUser();
+			case EPC_LENGTH_OF_CHARACTER_STRING_ACCEPTED : return o.getLengthOfCharacterStringAccepted();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DISPLAY_CONTROL_SETTING : return getDisplayControlSetting();
-		case EPC_CHARACTER_STRING_SETTING_ACCEPTANCE_STATUS : return getCharacterStringSettingAcceptanceStatus();
-		case EPC_SUPPORTED_CHARACTER_CODES : return getSupportedCharacterCodes();
-		case EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER : return getCharacterStringToPresentToTheUser();
-		case EPC_LENGTH_OF_CHARACTER_STRING_ACCEPTED : return getLengthOfCharacterStringAccepted();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			Display o = (Display)eoj;
+			switch(property.epc) {
+			case EPC_DISPLAY_CONTROL_SETTING : return o.isValidDisplayControlSetting(property.edt);
+			case EPC_CHARACTER_STRING_SETTING_ACCEPTANCE_STATUS : return o.isValidCharacterStringSettingAcceptanceStatus(property.edt);
+			case EPC_SUPPORTED_CHARACTER_CODES : return o.isValidSupportedCharacterCodes(property.edt);
+			case EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER : return o.isValidCharacterStringToPresentToTheUser(property.edt);
+			case EPC_LENGTH_OF_CHARACTER_STRING_ACCEPTED : return o.isValidLengthOfCharacterStringAccepted(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DISPLAY_CONTROL_SETTING : return isValidDisplayControlSetting(property.edt);
-		case EPC_CHARACTER_STRING_SETTING_ACCEPTANCE_STATUS : return isValidCharacterStringSettingAcceptanceStatus(property.edt);
-		case EPC_SUPPORTED_CHARACTER_CODES : return isValidSupportedCharacterCodes(property.edt);
-		case EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER : return isValidCharacterStringToPresentToTheUser(property.edt);
-		case EPC_LENGTH_OF_CHARACTER_STRING_ACCEPTED : return isValidLengthOfCharacterStringAccepted(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DISPLAY_CONTROL_SETTING : 
+				r.onSetDisplayControlSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER : 
+				r.onSetCharacterStringToPresentToTheUser(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DISPLAY_CONTROL_SETTING : 
+				r.onGetDisplayControlSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CHARACTER_STRING_SETTING_ACCEPTANCE_STATUS : 
+				r.onGetCharacterStringSettingAcceptanceStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SUPPORTED_CHARACTER_CODES : 
+				r.onGetSupportedCharacterCodes(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER : 
+				r.onGetCharacterStringToPresentToTheUser(eoj, tid, esv, property, success);
+				return true;
+			case EPC_LENGTH_OF_CHARACTER_STRING_ACCEPTED : 
+				r.onGetLengthOfCharacterStringAccepted(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(Display.class, sPropertyHandler
+				, new byte[] {EPC_DISPLAY_CONTROL_SETTING, EPC_CHARACTER_STRING_SETTING_ACCEPTANCE_STATUS, EPC_SUPPORTED_CHARACTER_CODES, EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER, EPC_LENGTH_OF_CHARACTER_STRING_ACCEPTED}
+				, new byte[] {EPC_DISPLAY_CONTROL_SETTING, EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER}
+				, new byte[] {EPC_DISPLAY_CONTROL_SETTING, EPC_CHARACTER_STRING_SETTING_ACCEPTANCE_STATUS, EPC_SUPPORTED_CHARACTER_CODES, EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER, EPC_LENGTH_OF_CHARACTER_STRING_ACCEPTED});
 	}
 
 	@Override
@@ -556,50 +601,11 @@ byte<br>
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DISPLAY_CONTROL_SETTING : 
-				onSetDisplayControlSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER : 
-				onSetCharacterStringToPresentToTheUser(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DISPLAY_CONTROL_SETTING : 
-				onGetDisplayControlSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CHARACTER_STRING_SETTING_ACCEPTANCE_STATUS : 
-				onGetCharacterStringSettingAcceptanceStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SUPPORTED_CHARACTER_CODES : 
-				onGetSupportedCharacterCodes(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER : 
-				onGetCharacterStringToPresentToTheUser(eoj, tid, esv, property, success);
-				return true;
-			case EPC_LENGTH_OF_CHARACTER_STRING_ACCEPTED : 
-				onGetLengthOfCharacterStringAccepted(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_DISPLAY_CONTROL_SETTING, EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER}
+					, new byte[] {EPC_DISPLAY_CONTROL_SETTING, EPC_CHARACTER_STRING_SETTING_ACCEPTANCE_STATUS, EPC_SUPPORTED_CHARACTER_CODES, EPC_CHARACTER_STRING_TO_PRESENT_TO_THE_USER, EPC_LENGTH_OF_CHARACTER_STRING_ACCEPTED}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -559,108 +560,65 @@ bytes<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_DRYING_SETTING : return setDryingSetting(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return setOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return setOnTimerSetting(property.edt);
-		case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return setRelativeTimeBasedOnTimerSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return getDoorCoverOpenCloseStatus();
-		case EPC_DRYING_SETTING : return getDryingSetting();
-		case EPC_DRYING_STATUS : return getDryingStatus();
-		case EPC_REMAINING_DRYING_TIME : return getRemainingDryingTime();
-		case EPC_ON_TIMER_RESERVATION_SETTING : return getOnTimerReservationSetting();
-		case EPC_ON_TIMER_SETTING : return getOnTimerSetting();
-		case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return getRelativeTimeBasedOnTimerSetting();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			ClothesDryer o = (ClothesDryer)eoj;
+			switch(property.epc) {
+			case EPC_DRYING_SETTING : return o.setDryingSetting(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.setOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.setOnTimerSetting(property.edt);
+			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return o.setRelativeTimeBasedOnTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return isValidDoorCoverOpenCloseStatus(property.edt);
-		case EPC_DRYING_SETTING : return isValidDryingSetting(property.edt);
-		case EPC_DRYING_STATUS : return isValidDryingStatus(property.edt);
-		case EPC_REMAINING_DRYING_TIME : return isValidRemainingDryingTime(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return isValidOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return isValidOnTimerSetting(property.edt);
-		case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return isValidRelativeTimeBasedOnTimerSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ClothesDryer o = (ClothesDryer)eoj;
+			switch(epc) {
+			case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return o.getDoorCoverOpenCloseStatus();
+			case EPC_DRYING_SETTING : return o.getDryingSetting();
+			case EPC_DRYING_STATUS : return o.getDryingStatus();
+			case EPC_REMAINING_DRYING_TIME : return o.getRemainingDryingTime();
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.getOnTimerReservationSetting();
+			case EPC_ON_TIMER_SETTING : return o.getOnTimerSetting();
+			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return o.getRelativeTimeBasedOnTimerSetting();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ClothesDryer o = (ClothesDryer)eoj;
+			switch(property.epc) {
+			case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return o.isValidDoorCoverOpenCloseStatus(property.edt);
+			case EPC_DRYING_SETTING : return o.isValidDryingSetting(property.edt);
+			case EPC_DRYING_STATUS : return o.isValidDryingStatus(property.edt);
+			case EPC_REMAINING_DRYING_TIME : return o.isValidRemainingDryingTime(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.isValidOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.isValidOnTimerSetting(property.edt);
+			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return o.isValidRelativeTimeBasedOnTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_DRYING_SETTING : 
-				onSetDryingSetting(eoj, tid, esv, property, success);
+				r.onSetDryingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onSetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : 
-				onSetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
+				r.onSetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -668,37 +626,85 @@ bytes<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : 
-				onGetDoorCoverOpenCloseStatus(eoj, tid, esv, property, success);
+				r.onGetDoorCoverOpenCloseStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DRYING_SETTING : 
-				onGetDryingSetting(eoj, tid, esv, property, success);
+				r.onGetDryingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DRYING_STATUS : 
-				onGetDryingStatus(eoj, tid, esv, property, success);
+				r.onGetDryingStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_DRYING_TIME : 
-				onGetRemainingDryingTime(eoj, tid, esv, property, success);
+				r.onGetRemainingDryingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onGetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : 
-				onGetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
+				r.onGetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ClothesDryer.class, sPropertyHandler
+				, new byte[] {EPC_DOOR_COVER_OPEN_CLOSE_STATUS, EPC_DRYING_SETTING, EPC_DRYING_STATUS, EPC_REMAINING_DRYING_TIME, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+				, new byte[] {EPC_DRYING_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+				, new byte[] {EPC_DOOR_COVER_OPEN_CLOSE_STATUS, EPC_DRYING_SETTING, EPC_DRYING_STATUS, EPC_REMAINING_DRYING_TIME, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_DRYING_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+					, new byte[] {EPC_DOOR_COVER_OPEN_CLOSE_STATUS, EPC_DRYING_SETTING, EPC_DRYING_STATUS, EPC_REMAINING_DRYING_TIME, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Door/cover open/close status<br>
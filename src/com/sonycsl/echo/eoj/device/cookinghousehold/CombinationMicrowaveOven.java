@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -1626,189 +1627,146 @@ W<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_HEATING_SETTING : return setHeatingSetting(property.edt);
-		case EPC_HEATING_MODE_SETTING : return setHeatingModeSetting(property.edt);
-		case EPC_AUTOMATIC_HEATING_SETTING : return setAutomaticHeatingSetting(property.edt);
-		case EPC_AUTOMATIC_HEATING_LEVEL_SETTING : return setAutomaticHeatingLevelSetting(property.edt);
-		case EPC_AUTOMATIC_HEATING_MENU_SETTING : return setAutomaticHeatingMenuSetting(property.edt);
-		case EPC_OVEN_MODE_SETTING : return setOvenModeSetting(property.edt);
-		case EPC_OVEN_PREHEATING_SETTING : return setOvenPreheatingSetting(property.edt);
-		case EPC_FERMENTING_MODE_SETTING : return setFermentingModeSetting(property.edt);
-		case EPC_CHAMBER_TEMPERATURE_SETTING : return setChamberTemperatureSetting(property.edt);
-		case EPC_FOOD_TEMPERATURE_SETTING : return setFoodTemperatureSetting(property.edt);
-		case EPC_HEATING_TIME_SETTING : return setHeatingTimeSetting(property.edt);
-		case EPC_REMAINING_HEATING_TIME_SETTING : return setRemainingHeatingTimeSetting(property.edt);
-		case EPC_MICROWAVE_HEATING_POWER_SETTING : return setMicrowaveHeatingPowerSetting(property.edt);
-		case EPC_PROMPT_MESSAGE_SETTING : return setPromptMessageSetting(property.edt);
-		case EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING : return setAccessoriesToCombinationMicrowaveOvenSetting(property.edt);
-		case EPC_DISPLAY_CHARACTER_STRING_SETTING : return setDisplayCharacterStringSetting(property.edt);
-		case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION : return setTwoStageMicrowaveHeatingSettingDuration(property.edt);
-		case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER : return setTwoStageMicrowaveHeatingSettingHeatingPower(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DOOR_OPEN_CLOSE_STATUS : return getDoorOpenCloseStatus();
-		case EPC_HEATING_STATUS : return getHeatingStatus();
-		case EPC_HEATING_SETTING : return getHeatingSetting();
-		case EPC_HEATING_MODE_SETTING : return getHeatingModeSetting();
-		case EPC_AUTOMATIC_HEATING_SETTING : return getAutomaticHeatingSetting();
-		case EPC_AUTOMATIC_HEATING_LEVEL_SETTING : return getAutomaticHeatingLevelSetting();
-		case EPC_AUTOMATIC_HEATING_MENU_SETTING : return getAutomaticHeatingMenuSetting();
-		case EPC_OVEN_MODE_SETTING : return getOvenModeSetting();
-		case EPC_OVEN_PREHEATING_SETTING : return getOvenPreheatingSetting();
-		case EPC_FERMENTING_MODE_SETTING : return getFermentingModeSetting();
-		case EPC_CHAMBER_TEMPERATURE_SETTING : return getChamberTemperatureSetting();
-		case EPC_FOOD_TEMPERATURE_SETTING : return getFoodTemperatureSetting();
-		case EPC_HEATING_TIME_SETTING : return getHeatingTimeSetting();
-		case EPC_REMAINING_HEATING_TIME_SETTING : return getRemainingHeatingTimeSetting();
-		case EPC_MICROWAVE_HEATING_POWER_SETTING : return getMicrowaveHeatingPowerSetting();
-		case EPC_PROMPT_MESSAGE_SETTING : return getPromptMessageSetting();
-		case EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING : return getAccessoriesToCombinationMicrowaveOvenSetting();
-		case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION : return getTwoStageMicrowaveHeatingSettingDuration();
-		case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER : return getTwoStageMicrowaveHeatingSettingHeatingPower();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			CombinationMicrowaveOven o = (CombinationMicrowaveOven)eoj;
+			switch(property.epc) {
+			case EPC_HEATING_SETTING : return o.setHeatingSetting(property.edt);
+			case EPC_HEATING_MODE_SETTING : return o.setHeatingModeSetting(property.edt);
+			case EPC_AUTOMATIC_HEATING_SETTING : return o.setAutomaticHeatingSetting(property.edt);
+			case EPC_AUTOMATIC_HEATING_LEVEL_SETTING : return o.setAutomaticHeatingLevelSetting(property.edt);
+			case EPC_AUTOMATIC_HEATING_MENU_SETTING : return o.setAutomaticHeatingMenuSetting(property.edt);
+			case EPC_OVEN_MODE_SETTING : return o.setOvenModeSetting(property.edt);
+			case EPC_OVEN_PREHEATING_SETTING : return o.setOvenPreheatingSetting(property.edt);
+			case EPC_FERMENTING_MODE_SETTING : return o.setFermentingModeSetting(property.edt);
+			case EPC_CHAMBER_TEMPERATURE_SETTING : return o.setChamberTemperatureSetting(property.edt);
+			case EPC_FOOD_TEMPERATURE_SETTING : return o.setFoodTemperatureSetting(property.edt);
+			case EPC_HEATING_TIME_SETTING : return o.setHeatingTimeSetting(property.edt);
+			case EPC_REMAINING_HEATING_TIME_SETTING : return o.setRemainingHeatingTimeSetting(property.edt);
+			case EPC_MICROWAVE_HEATING_POWER_SETTING : return o.setMicrowaveHeatingPowerSetting(property.edt);
+			case EPC_PROMPT_MESSAGE_SETTING : return o.setPromptMessageSetting(property.edt);
+			case EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING : return o.setAccessoriesToCombinationMicrowaveOvenSetting(property.edt);
+			case EPC_DISPLAY_CHARACTER_STRING_SETTING : return o.setDisplayCharacterStringSetting(property.edt);
+			case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION : return o.setTwoStageMicrowaveHeatingSettingDuration(property.edt);
+			case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER : return o.setTwoStageMicrowaveHeatingSettingHeatingPower(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DOOR_OPEN_CLOSE_STATUS : return isValidDoorOpenCloseStatus(property.edt);
-		case EPC_HEATING_STATUS : return isValidHeatingStatus(property.edt);
-		case EPC_HEATING_SETTING : return isValidHeatingSetting(property.edt);
-		case EPC_HEATING_MODE_SETTING : return isValidHeatingModeSetting(property.edt);
-		case EPC_AUTOMATIC_HEATING_SETTING : return isValidAutomaticHeatingSetting(property.edt);
-		case EPC_AUTOMATIC_HEATING_LEVEL_SETTING : return isValidAutomaticHeatingLevelSetting(property.edt);
-		case EPC_AUTOMATIC_HEATING_MENU_SETTING : return isValidAutomaticHeatingMenuSetting(property.edt);
-		case EPC_OVEN_MODE_SETTING : return isValidOvenModeSetting(property.edt);
-		case EPC_OVEN_PREHEATING_SETTING : return isValidOvenPreheatingSetting(property.edt);
-		case EPC_FERMENTING_MODE_SETTING : return isValidFermentingModeSetting(property.edt);
-		case EPC_CHAMBER_TEMPERATURE_SETTING : return isValidChamberTemperatureSetting(property.edt);
-		case EPC_FOOD_TEMPERATURE_SETTING : return isValidFoodTemperatureSetting(property.edt);
-		case EPC_HEATING_TIME_SETTING : return isValidHeatingTimeSetting(property.edt);
-		case EPC_REMAINING_HEATING_TIME_SETTING : return isValidRemainingHeatingTimeSetting(property.edt);
-		case EPC_MICROWAVE_HEATING_POWER_SETTING : return isValidMicrowaveHeatingPowerSetting(property.edt);
-		case EPC_PROMPT_MESSAGE_SETTING : return isValidPromptMessageSetting(property.edt);
-		case EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING : return isValidAccessoriesToCombinationMicrowaveOvenSetting(property.edt);
-		case EPC_DISPLAY_CHARACTER_STRING_SETTING : return isValidDisplayCharacterStringSetting(property.edt);
-		case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION : return isValidTwoStageMicrowaveHeatingSettingDuration(property.edt);
-		case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER : return isValidTwoStageMicrowaveHeatingSettingHeatingPower(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			CombinationMicrowaveOven o = (CombinationMicrowaveOven)eoj;
+			switch(epc) {
+			case EPC_DOOR_OPEN_CLOSE_STATUS : return o.getDoorOpenCloseStatus();
+			case EPC_HEATING_STATUS : return o.getHeatingStatus();
+			case EPC_HEATING_SETTING : return o.getHeatingSetting();
+			case EPC_HEATING_MODE_SETTING : return o.getHeatingModeSetting();
+			case EPC_AUTOMATIC_HEATING_SETTING : return o.getAutomaticHeatingSetting();
+			case EPC_AUTOMATIC_HEATING_LEVEL_SETTING : return o.getAutomaticHeatingLevelSetting();
+			case EPC_AUTOMATIC_HEATING_MENU_SETTING : return o.getAutomaticHeatingMenuSetting();
+			case EPC_OVEN_MODE_SETTING : return o.getOvenModeSetting();
+			case EPC_OVEN_PREHEATING_SETTING : return o.getOvenPreheatingSetting();
+			case EPC_FERMENTING_MODE_SETTING : return o.getFermentingModeSetting();
+			case EPC_CHAMBER_TEMPERATURE_SETTING : return o.getChamberTemperatureSetting();
+			case EPC_FOOD_TEMPERATURE_SETTING : return o.getFoodTemperatureSetting();
+			case EPC_HEATING_TIME_SETTING : return o.getHeatingTimeSetting();
+			case EPC_REMAINING_HEATING_TIME_SETTING : return o.getRemainingHeatingTimeSetting();
+			case EPC_MICROWAVE_HEATING_POWER_SETTING : return o.getMicrowaveHeatingPowerSetting();
+			case EPC_PROMPT_MESSAGE_SETTING : return o.getPromptMessageSetting();
+			case EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING : return o.getAccessoriesToCombinationMicrowaveOvenSetting();
+			case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION : return o.getTwoStageMicrowaveHeatingSettingDuration();
+			case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER : return o.getTwoStageMicrowaveHeatingSettingHeatingPower();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			CombinationMicrowaveOven o = (CombinationMicrowaveOven)eoj;
+			switch(property.epc) {
+			case EPC_DOOR_OPEN_CLOSE_STATUS : return o.isValidDoorOpenCloseStatus(property.edt);
+			case EPC_HEATING_STATUS : return o.isValidHeatingStatus(property.edt);
+			case EPC_HEATING_SETTING : return o.isValidHeatingSetting(property.edt);
+			case EPC_HEATING_MODE_SETTING : return o.isValidHeatingModeSetting(property.edt);
+			case EPC_AUTOMATIC_HEATING_SETTING : return o.isValidAutomaticHeatingSetting(property.edt);
+			case EPC_AUTOMATIC_HEATING_LEVEL_SETTING : return o.isValidAutomaticHeatingLevelSetting(property.edt);
+			case EPC_AUTOMATIC_HEATING_MENU_SETTING : return o.isValidAutomaticHeatingMenuSetting(property.edt);
+			case EPC_OVEN_MODE_SETTING : return o.isValidOvenModeSetting(property.edt);
+			case EPC_OVEN_PREHEATING_SETTING : return o.isValidOvenPreheatingSetting(property.edt);
+			case EPC_FERMENTING_MODE_SETTING : return o.isValidFermentingModeSetting(property.edt);
+			case EPC_CHAMBER_TEMPERATURE_SETTING : return o.isValidChamberTemperatureSetting(property.edt);
+			case EPC_FOOD_TEMPERATURE_SETTING : return o.isValidFoodTemperatureSetting(property.edt);
+			case EPC_HEATING_TIME_SETTING : return o.isValidHeatingTimeSetting(property.edt);
+			case EPC_REMAINING_HEATING_TIME_SETTING : return o.isValidRemainingHeatingTimeSetting(property.edt);
+			case EPC_MICROWAVE_HEATING_POWER_SETTING : return o.isValidMicrowaveHeatingPowerSetting(property.edt);
+			case EPC_PROMPT_MESSAGE_SETTING : return o.isValidPromptMessageSetting(property.edt);
+			case EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING : return o.isValidAccessoriesToCombinationMicrowaveOvenSetting(property.edt);
+			case EPC_DISPLAY_CHARACTER_STRING_SETTING : return o.isValidDisplayCharacterStringSetting(property.edt);
+			case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION : return o.isValidTwoStageMicrowaveHeatingSettingDuration(property.edt);
+			case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER : return o.isValidTwoStageMicrowaveHeatingSettingHeatingPower(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_HEATING_SETTING : 
-				onSetHeatingSetting(eoj, tid, esv, property, success);
+				r.onSetHeatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_MODE_SETTING : 
-				onSetHeatingModeSetting(eoj, tid, esv, property, success);
+				r.onSetHeatingModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_HEATING_SETTING : 
-				onSetAutomaticHeatingSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticHeatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_HEATING_LEVEL_SETTING : 
-				onSetAutomaticHeatingLevelSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticHeatingLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_HEATING_MENU_SETTING : 
-				onSetAutomaticHeatingMenuSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticHeatingMenuSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OVEN_MODE_SETTING : 
-				onSetOvenModeSetting(eoj, tid, esv, property, success);
+				r.onSetOvenModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OVEN_PREHEATING_SETTING : 
-				onSetOvenPreheatingSetting(eoj, tid, esv, property, success);
+				r.onSetOvenPreheatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FERMENTING_MODE_SETTING : 
-				onSetFermentingModeSetting(eoj, tid, esv, property, success);
+				r.onSetFermentingModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHAMBER_TEMPERATURE_SETTING : 
-				onSetChamberTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetChamberTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FOOD_TEMPERATURE_SETTING : 
-				onSetFoodTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetFoodTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_TIME_SETTING : 
-				onSetHeatingTimeSetting(eoj, tid, esv, property, success);
+				r.onSetHeatingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_HEATING_TIME_SETTING : 
-				onSetRemainingHeatingTimeSetting(eoj, tid, esv, property, success);
+				r.onSetRemainingHeatingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MICROWAVE_HEATING_POWER_SETTING : 
-				onSetMicrowaveHeatingPowerSetting(eoj, tid, esv, property, success);
+				r.onSetMicrowaveHeatingPowerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_PROMPT_MESSAGE_SETTING : 
-				onSetPromptMessageSetting(eoj, tid, esv, property, success);
+				r.onSetPromptMessageSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING : 
-				onSetAccessoriesToCombinationMicrowaveOvenSetting(eoj, tid, esv, property, success);
+				r.onSetAccessoriesToCombinationMicrowaveOvenSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISPLAY_CHARACTER_STRING_SETTING : 
-				onSetDisplayCharacterStringSetting(eoj, tid, esv, property, success);
+				r.onSetDisplayCharacterStringSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION : 
-				onSetTwoStageMicrowaveHeatingSettingDuration(eoj, tid, esv, property, success);
+				r.onSetTwoStageMicrowaveHeatingSettingDuration(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER : 
-				onSetTwoStageMicrowaveHeatingSettingHeatingPower(eoj, tid, esv, property, success);
+				r.onSetTwoStageMicrowaveHeatingSettingHeatingPower(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1816,73 +1774,121 @@ W<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_DOOR_OPEN_CLOSE_STATUS : 
-				onGetDoorOpenCloseStatus(eoj, tid, esv, property, success);
+				r.onGetDoorOpenCloseStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_STATUS : 
-				onGetHeatingStatus(eoj, tid, esv, property, success);
+				r.onGetHeatingStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_SETTING : 
-				onGetHeatingSetting(eoj, tid, esv, property, success);
+				r.onGetHeatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_MODE_SETTING : 
-				onGetHeatingModeSetting(eoj, tid, esv, property, success);
+				r.onGetHeatingModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_HEATING_SETTING : 
-				onGetAutomaticHeatingSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticHeatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_HEATING_LEVEL_SETTING : 
-				onGetAutomaticHeatingLevelSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticHeatingLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_HEATING_MENU_SETTING : 
-				onGetAutomaticHeatingMenuSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticHeatingMenuSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OVEN_MODE_SETTING : 
-				onGetOvenModeSetting(eoj, tid, esv, property, success);
+				r.onGetOvenModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OVEN_PREHEATING_SETTING : 
-				onGetOvenPreheatingSetting(eoj, tid, esv, property, success);
+				r.onGetOvenPreheatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FERMENTING_MODE_SETTING : 
-				onGetFermentingModeSetting(eoj, tid, esv, property, success);
+				r.onGetFermentingModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHAMBER_TEMPERATURE_SETTING : 
-				onGetChamberTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetChamberTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FOOD_TEMPERATURE_SETTING : 
-				onGetFoodTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetFoodTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_TIME_SETTING : 
-				onGetHeatingTimeSetting(eoj, tid, esv, property, success);
+				r.onGetHeatingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_HEATING_TIME_SETTING : 
-				onGetRemainingHeatingTimeSetting(eoj, tid, esv, property, success);
+				r.onGetRemainingHeatingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MICROWAVE_HEATING_POWER_SETTING : 
-				onGetMicrowaveHeatingPowerSetting(eoj, tid, esv, property, success);
+				r.onGetMicrowaveHeatingPowerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_PROMPT_MESSAGE_SETTING : 
-				onGetPromptMessageSetting(eoj, tid, esv, property, success);
+				r.onGetPromptMessageSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING : 
-				onGetAccessoriesToCombinationMicrowaveOvenSetting(eoj, tid, esv, property, success);
+				r.onGetAccessoriesToCombinationMicrowaveOvenSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION : 
-				onGetTwoStageMicrowaveHeatingSettingDuration(eoj, tid, esv, property, success);
+				r.onGetTwoStageMicrowaveHeatingSettingDuration(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER : 
-				onGetTwoStageMicrowaveHeatingSettingHeatingPower(eoj, tid, esv, property, success);
+				r.onGetTwoStageMicrowaveHeatingSettingHeatingPower(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(CombinationMicrowaveOven.class, sPropertyHandler
+				, new byte[] {EPC_DOOR_OPEN_CLOSE_STATUS, EPC_HEATING_STATUS, EPC_HEATING_SETTING, EPC_HEATING_MODE_SETTING, EPC_AUTOMATIC_HEATING_SETTING, EPC_AUTOMATIC_HEATING_LEVEL_SETTING, EPC_AUTOMATIC_HEATING_MENU_SETTING, EPC_OVEN_MODE_SETTING, EPC_OVEN_PREHEATING_SETTING, EPC_FERMENTING_MODE_SETTING, EPC_CHAMBER_TEMPERATURE_SETTING, EPC_FOOD_TEMPERATURE_SETTING, EPC_HEATING_TIME_SETTING, EPC_REMAINING_HEATING_TIME_SETTING, EPC_MICROWAVE_HEATING_POWER_SETTING, EPC_PROMPT_MESSAGE_SETTING, EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING, EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION, EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER}
+				, new byte[] {EPC_HEATING_SETTING, EPC_HEATING_MODE_SETTING, EPC_AUTOMATIC_HEATING_SETTING, EPC_AUTOMATIC_HEATING_LEVEL_SETTING, EPC_AUTOMATIC_HEATING_MENU_SETTING, EPC_OVEN_MODE_SETTING, EPC_OVEN_PREHEATING_SETTING, EPC_FERMENTING_MODE_SETTING, EPC_CHAMBER_TEMPERATURE_SETTING, EPC_FOOD_TEMPERATURE_SETTING, EPC_HEATING_TIME_SETTING, EPC_REMAINING_HEATING_TIME_SETTING, EPC_MICROWAVE_HEATING_POWER_SETTING, EPC_PROMPT_MESSAGE_SETTING, EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING, EPC_DISPLAY_CHARACTER_STRING_SETTING, EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION, EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER}
+				, new byte[] {EPC_DOOR_OPEN_CLOSE_STATUS, EPC_HEATING_STATUS, EPC_HEATING_SETTING, EPC_HEATING_MODE_SETTING, EPC_AUTOMATIC_HEATING_SETTING, EPC_AUTOMATIC_HEATING_LEVEL_SETTING, EPC_AUTOMATIC_HEATING_MENU_SETTING, EPC_OVEN_MODE_SETTING, EPC_OVEN_PREHEATING_SETTING, EPC_FERMENTING_MODE_SETTING, EPC_CHAMBER_TEMPERATURE_SETTING, EPC_FOOD_TEMPERATURE_SETTING, EPC_HEATING_TIME_SETTING, EPC_REMAINING_HEATING_TIME_SETTING, EPC_MICROWAVE_HEATING_POWER_SETTING, EPC_PROMPT_MESSAGE_SETTING, EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING, EPC_DISPLAY_CHARACTER_STRING_SETTING, EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION, EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_HEATING_SETTING, EPC_HEATING_MODE_SETTING, EPC_AUTOMATIC_HEATING_SETTING, EPC_AUTOMATIC_HEATING_LEVEL_SETTING, EPC_AUTOMATIC_HEATING_MENU_SETTING, EPC_OVEN_MODE_SETTING, EPC_OVEN_PREHEATING_SETTING, EPC_FERMENTING_MODE_SETTING, EPC_CHAMBER_TEMPERATURE_SETTING, EPC_FOOD_TEMPERATURE_SETTING, EPC_HEATING_TIME_SETTING, EPC_REMAINING_HEATING_TIME_SETTING, EPC_MICROWAVE_HEATING_POWER_SETTING, EPC_PROMPT_MESSAGE_SETTING, EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING, EPC_DISPLAY_CHARACTER_STRING_SETTING, EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION, EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER}
+					, new byte[] {EPC_DOOR_OPEN_CLOSE_STATUS, EPC_HEATING_STATUS, EPC_HEATING_SETTING, EPC_HEATING_MODE_SETTING, EPC_AUTOMATIC_HEATING_SETTING, EPC_AUTOMATIC_HEATING_LEVEL_SETTING, EPC_AUTOMATIC_HEATING_MENU_SETTING, EPC_OVEN_MODE_SETTING, EPC_OVEN_PREHEATING_SETTING, EPC_FERMENTING_MODE_SETTING, EPC_CHAMBER_TEMPERATURE_SETTING, EPC_FOOD_TEMPERATURE_SETTING, EPC_HEATING_TIME_SETTING, EPC_REMAINING_HEATING_TIME_SETTING, EPC_MICROWAVE_HEATING_POWER_SETTING, EPC_PROMPT_MESSAGE_SETTING, EPC_ACCESSORIES_TO_COMBINATION_MICROWAVE_OVEN_SETTING, EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_DURATION, EPC_TWO_STAGE_MICROWAVE_HEATING_SETTING_HEATING_POWER}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Door open/close status<br>
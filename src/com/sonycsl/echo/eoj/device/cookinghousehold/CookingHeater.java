@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -793,127 +794,84 @@ Or Level Or
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_HEATING_SETTING : return setHeatingSetting(property.edt);
-		case EPC_ALL_STOP_SETTING : return setAllStopSetting(property.edt);
-		case EPC_HEATING_POWER_SETTING : return setHeatingPowerSetting(property.edt);
-		case EPC_HEATING_TEMPERATURE_SETTING : return setHeatingTemperatureSetting(property.edt);
-		case EPC_HEATING_MODES_OF_STOVES_SETTING : return setHeatingModesOfStovesSetting(property.edt);
-		case EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS : return setRelativeTimeSettingsOfOffTimers(property.edt);
-		case EPC_CHILD_LOCK_SETTING : return setChildLockSetting(property.edt);
-		case EPC_RADIANT_HEATER_LOCK_SETTING : return setRadiantHeaterLockSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_HEATING_STATUS : return getHeatingStatus();
-		case EPC_HEATING_SETTING : return getHeatingSetting();
-		case EPC_HEATING_POWER_SETTING : return getHeatingPowerSetting();
-		case EPC_HEATING_TEMPERATURE_SETTING : return getHeatingTemperatureSetting();
-		case EPC_HEATING_MODES_OF_STOVES_SETTING : return getHeatingModesOfStovesSetting();
-		case EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS : return getRelativeTimeSettingsOfOffTimers();
-		case EPC_CHILD_LOCK_SETTING : return getChildLockSetting();
-		case EPC_RADIANT_HEATER_LOCK_SETTING : return getRadiantHeaterLockSetting();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			CookingHeater o = (CookingHeater)eoj;
+			switch(property.epc) {
+			case EPC_HEATING_SETTING : return o.setHeatingSetting(property.edt);
+			case EPC_ALL_STOP_SETTING : return o.setAllStopSetting(property.edt);
+			case EPC_HEATING_POWER_SETTING : return o.setHeatingPowerSetting(property.edt);
+			case EPC_HEATING_TEMPERATURE_SETTING : return o.setHeatingTemperatureSetting(property.edt);
+			case EPC_HEATING_MODES_OF_STOVES_SETTING : return o.setHeatingModesOfStovesSetting(property.edt);
+			case EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS : return o.setRelativeTimeSettingsOfOffTimers(property.edt);
+			case EPC_CHILD_LOCK_SETTING : return o.setChildLockSetting(property.edt);
+			case EPC_RADIANT_HEATER_LOCK_SETTING : return o.setRadiantHeaterLockSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_HEATING_STATUS : return isValidHeatingStatus(property.edt);
-		case EPC_HEATING_SETTING : return isValidHeatingSetting(property.edt);
-		case EPC_ALL_STOP_SETTING : return isValidAllStopSetting(property.edt);
-		case EPC_HEATING_POWER_SETTING : return isValidHeatingPowerSetting(property.edt);
-		case EPC_HEATING_TEMPERATURE_SETTING : return isValidHeatingTemperatureSetting(property.edt);
-		case EPC_HEATING_MODES_OF_STOVES_SETTING : return isValidHeatingModesOfStovesSetting(property.edt);
-		case EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS : return isValidRelativeTimeSettingsOfOffTimers(property.edt);
-		case EPC_CHILD_LOCK_SETTING : return isValidChildLockSetting(property.edt);
-		case EPC_RADIANT_HEATER_LOCK_SETTING : return isValidRadiantHeaterLockSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			CookingHeater o = (CookingHeater)eoj;
+			switch(epc) {
+			case EPC_HEATING_STATUS : return o.getHeatingStatus();
+			case EPC_HEATING_SETTING : return o.getHeatingSetting();
+			case EPC_HEATING_POWER_SETTING : return o.getHeatingPowerSetting();
+			case EPC_HEATING_TEMPERATURE_SETTING : return o.getHeatingTemperatureSetting();
+			case EPC_HEATING_MODES_OF_STOVES_SETTING : return o.getHeatingModesOfStovesSetting();
+			case EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS : return o.getRelativeTimeSettingsOfOffTimers();
+			case EPC_CHILD_LOCK_SETTING : return o.getChildLockSetting();
+			case EPC_RADIANT_HEATER_LOCK_SETTING : return o.getRadiantHeaterLockSetting();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			CookingHeater o = (CookingHeater)eoj;
+			switch(property.epc) {
+			case EPC_HEATING_STATUS : return o.isValidHeatingStatus(property.edt);
+			case EPC_HEATING_SETTING : return o.isValidHeatingSetting(property.edt);
+			case EPC_ALL_STOP_SETTING : return o.isValidAllStopSetting(property.edt);
+			case EPC_HEATING_POWER_SETTING : return o.isValidHeatingPowerSetting(property.edt);
+			case EPC_HEATING_TEMPERATURE_SETTING : return o.isValidHeatingTemperatureSetting(property.edt);
+			case EPC_HEATING_MODES_OF_STOVES_SETTING : return o.isValidHeatingModesOfStovesSetting(property.edt);
+			case EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS : return o.isValidRelativeTimeSettingsOfOffTimers(property.edt);
+			case EPC_CHILD_LOCK_SETTING : return o.isValidChildLockSetting(property.edt);
+			case EPC_RADIANT_HEATER_LOCK_SETTING : return o.isValidRadiantHeaterLockSetting(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_HEATING_SETTING : 
-				onSetHeatingSetting(eoj, tid, esv, property, success);
+				r.onSetHeatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ALL_STOP_SETTING : 
-				onSetAllStopSetting(eoj, tid, esv, property, success);
+				r.onSetAllStopSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_POWER_SETTING : 
-				onSetHeatingPowerSetting(eoj, tid, esv, property, success);
+				r.onSetHeatingPowerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_TEMPERATURE_SETTING : 
-				onSetHeatingTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetHeatingTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_MODES_OF_STOVES_SETTING : 
-				onSetHeatingModesOfStovesSetting(eoj, tid, esv, property, success);
+				r.onSetHeatingModesOfStovesSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS : 
-				onSetRelativeTimeSettingsOfOffTimers(eoj, tid, esv, property, success);
+				r.onSetRelativeTimeSettingsOfOffTimers(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHILD_LOCK_SETTING : 
-				onSetChildLockSetting(eoj, tid, esv, property, success);
+				r.onSetChildLockSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RADIANT_HEATER_LOCK_SETTING : 
-				onSetRadiantHeaterLockSetting(eoj, tid, esv, property, success);
+				r.onSetRadiantHeaterLockSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -921,40 +879,88 @@ Or Level Or
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_HEATING_STATUS : 
-				onGetHeatingStatus(eoj, tid, esv, property, success);
+				r.onGetHeatingStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_SETTING : 
-				onGetHeatingSetting(eoj, tid, esv, property, success);
+				r.onGetHeatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_POWER_SETTING : 
-				onGetHeatingPowerSetting(eoj, tid, esv, property, success);
+				r.onGetHeatingPowerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_TEMPERATURE_SETTING : 
-				onGetHeatingTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetHeatingTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_MODES_OF_STOVES_SETTING : 
-				onGetHeatingModesOfStovesSetting(eoj, tid, esv, property, success);
+				r.onGetHeatingModesOfStovesSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS : 
-				onGetRelativeTimeSettingsOfOffTimers(eoj, tid, esv, property, success);
+				r.onGetRelativeTimeSettingsOfOffTimers(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHILD_LOCK_SETTING : 
-				onGetChildLockSetting(eoj, tid, esv, property, success);
+				r.onGetChildLockSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RADIANT_HEATER_LOCK_SETTING : 
-				onGetRadiantHeaterLockSetting(eoj, tid, esv, property, success);
+				r.onGetRadiantHeaterLockSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(CookingHeater.class, sPropertyHandler
+				, new byte[] {EPC_HEATING_STATUS, EPC_HEATING_SETTING, EPC_HEATING_POWER_SETTING, EPC_HEATING_TEMPERATURE_SETTING, EPC_HEATING_MODES_OF_STOVES_SETTING, EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS, EPC_CHILD_LOCK_SETTING, EPC_RADIANT_HEATER_LOCK_SETTING}
+				, new byte[] {EPC_HEATING_SETTING, EPC_ALL_STOP_SETTING, EPC_HEATING_POWER_SETTING, EPC_HEATING_TEMPERATURE_SETTING, EPC_HEATING_MODES_OF_STOVES_SETTING, EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS, EPC_CHILD_LOCK_SETTING, EPC_RADIANT_HEATER_LOCK_SETTING}
+				, new byte[] {EPC_HEATING_STATUS, EPC_HEATING_SETTING, EPC_ALL_STOP_SETTING, EPC_HEATING_POWER_SETTING, EPC_HEATING_TEMPERATURE_SETTING, EPC_HEATING_MODES_OF_STOVES_SETTING, EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS, EPC_CHILD_LOCK_SETTING, EPC_RADIANT_HEATER_LOCK_SETTING});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_HEATING_SETTING, EPC_ALL_STOP_SETTING, EPC_HEATING_POWER_SETTING, EPC_HEATING_TEMPERATURE_SETTING, EPC_HEATING_MODES_OF_STOVES_SETTING, EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS, EPC_CHILD_LOCK_SETTING, EPC_RADIANT_HEATER_LOCK_SETTING}
+					, new byte[] {EPC_HEATING_STATUS, EPC_HEATING_SETTING, EPC_HEATING_POWER_SETTING, EPC_HEATING_TEMPERATURE_SETTING, EPC_HEATING_MODES_OF_STOVES_SETTING, EPC_RELATIVE_TIME_SETTINGS_OF_OFF_TIMERS, EPC_CHILD_LOCK_SETTING, EPC_RADIANT_HEATER_LOCK_SETTING}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Heating status<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -521,51 +522,104 @@ public abstract class ElectricHotWaterPot extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			ElectricHotWaterPot o = (ElectricHotWaterPot)eoj;
+			switch(property.epc) {
+			case EPC_BOIL_UP_SETTING : return o.setBoilUpSetting(property.edt);
+			case EPC_BOIL_UP_WARMER_MODE_SETTING : return o.setBoilUpWarmerModeSetting(property.edt);
+			case EPC_SET_VALUE_OF_WARMER_TEMPERATURE : return o.setSetValueOfWarmerTemperature(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_BOIL_UP_SETTING : return setBoilUpSetting(property.edt);
-		case EPC_BOIL_UP_WARMER_MODE_SETTING : return setBoilUpWarmerModeSetting(property.edt);
-		case EPC_SET_VALUE_OF_WARMER_TEMPERATURE : return setSetValueOfWarmerTemperature(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ElectricHotWaterPot o = (ElectricHotWaterPot)eoj;
+			switch(epc) {
+			case EPC_COVER_OPEN_CLOSE_STATUS : return o.getCoverOpenCloseStatus();
+			case EPC_NO_WATER_WARNING : return o.getNoWaterWarning();
+			case EPC_BOIL_UP_SETTING : return o.getBoilUpSetting();
+			case EPC_BOIL_UP_WARMER_MODE_SETTING : return o.getBoilUpWarmerModeSetting();
+			case EPC_SET_VALUE_OF_WARMER_TEMPERATURE : return o.getSetValueOfWarmerTemperature();
+			case EPC_HOT_WATER_DISCHARGE_STATUS : return o.getHotWaterDischargeStatus();
+			case EPC_LOCK_STATUS : return o.getLockStatus();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_COVER_OPEN_CLOSE_STATUS : return getCoverOpenCloseStatus();
-		case EPC_NO_WATER_WARNING : return getNoWaterWarning();
-		case EPC_BOIL_UP_SETTING : return getBoilUpSetting();
-		case EPC_BOIL_UP_WARMER_MODE_SETTING : return getBoilUpWarmerModeSetting();
-		case EPC_SET_VALUE_OF_WARMER_TEMPERATURE : return getSetValueOfWarmerTemperature();
-		case EPC_HOT_WATER_DISCHARGE_STATUS : return getHotWaterDischargeStatus();
-		case EPC_LOCK_STATUS : return getLockStatus();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ElectricHotWaterPot o = (ElectricHotWaterPot)eoj;
+			switch(property.epc) {
+			case EPC_COVER_OPEN_CLOSE_STATUS : return o.isValidCoverOpenCloseStatus(property.edt);
+			case EPC_NO_WATER_WARNING : return o.isValidNoWaterWarning(property.edt);
+			case EPC_BOIL_UP_SETTING : return o.isValidBoilUpSetting(property.edt);
+			case EPC_BOIL_UP_WARMER_MODE_SETTING : return o.isValidBoilUpWarmerModeSetting(property.edt);
+			case EPC_SET_VALUE_OF_WARMER_TEMPERATURE : return o.isValidSetValueOfWarmerTemperature(property.edt);
+			case EPC_HOT_WATER_DISCHARGE_STATUS : return o.isValidHotWaterDischargeStatus(property.edt);
+			case EPC_LOCK_STATUS : return o.isValidLockStatus(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_COVER_OPEN_CLOSE_STATUS : return isValidCoverOpenCloseStatus(property.edt);
-		case EPC_NO_WATER_WARNING : return isValidNoWaterWarning(property.edt);
-		case EPC_BOIL_UP_SETTING : return isValidBoilUpSetting(property.edt);
-		case EPC_BOIL_UP_WARMER_MODE_SETTING : return isValidBoilUpWarmerModeSetting(property.edt);
-		case EPC_SET_VALUE_OF_WARMER_TEMPERATURE : return isValidSetValueOfWarmerTemperature(property.edt);
-		case EPC_HOT_WATER_DISCHARGE_STATUS : return isValidHotWaterDischargeStatus(property.edt);
-		case EPC_LOCK_STATUS : return isValidLockStatus(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_BOIL_UP_SETTING : 
+				r.onSetBoilUpSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_BOIL_UP_WARMER_MODE_SETTING : 
+				r.onSetBoilUpWarmerModeSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SET_VALUE_OF_WARMER_TEMPERATURE : 
+				r.onSetSetValueOfWarmerTemperature(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_COVER_OPEN_CLOSE_STATUS : 
+				r.onGetCoverOpenCloseStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_NO_WATER_WARNING : 
+				r.onGetNoWaterWarning(eoj, tid, esv, property, success);
+				return true;
+			case EPC_BOIL_UP_SETTING : 
+				r.onGetBoilUpSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_BOIL_UP_WARMER_MODE_SETTING : 
+				r.onGetBoilUpWarmerModeSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SET_VALUE_OF_WARMER_TEMPERATURE : 
+				r.onGetSetValueOfWarmerTemperature(eoj, tid, esv, property, success);
+				return true;
+			case EPC_HOT_WATER_DISCHARGE_STATUS : 
+				r.onGetHotWaterDischargeStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_LOCK_STATUS : 
+				r.onGetLockStatus(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ElectricHotWaterPot.class, sPropertyHandler
+				, new byte[] {EPC_COVER_OPEN_CLOSE_STATUS, EPC_NO_WATER_WARNING, EPC_BOIL_UP_SETTING, EPC_BOIL_UP_WARMER_MODE_SETTING, EPC_SET_VALUE_OF_WARMER_TEMPERATURE, EPC_HOT_WATER_DISCHARGE_STATUS, EPC_LOCK_STATUS}
+				, new byte[] {EPC_BOIL_UP_SETTING, EPC_BOIL_UP_WARMER_MODE_SETTING, EPC_SET_VALUE_OF_WARMER_TEMPERATURE}
+				, new byte[] {EPC_COVER_OPEN_CLOSE_STATUS, EPC_NO_WATER_WARNING, EPC_BOIL_UP_SETTING, EPC_BOIL_UP_WARMER_MODE_SETTING, EPC_SET_VALUE_OF_WARMER_TEMPERATURE, EPC_HOT_WATER_DISCHARGE_STATUS, EPC_LOCK_STATUS});
 	}
 
 	@Override
@@ -603,59 +657,11 @@ public abstract class ElectricHotWaterPot extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_BOIL_UP_SETTING : 
-				onSetBoilUpSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_BOIL_UP_WARMER_MODE_SETTING : 
-				onSetBoilUpWarmerModeSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SET_VALUE_OF_WARMER_TEMPERATURE : 
-				onSetSetValueOfWarmerTemperature(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_COVER_OPEN_CLOSE_STATUS : 
-				onGetCoverOpenCloseStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_NO_WATER_WARNING : 
-				onGetNoWaterWarning(eoj, tid, esv, property, success);
-				return true;
-			case EPC_BOIL_UP_SETTING : 
-				onGetBoilUpSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_BOIL_UP_WARMER_MODE_SETTING : 
-				onGetBoilUpWarmerModeSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SET_VALUE_OF_WARMER_TEMPERATURE : 
-				onGetSetValueOfWarmerTemperature(eoj, tid, esv, property, success);
-				return true;
-			case EPC_HOT_WATER_DISCHARGE_STATUS : 
-				onGetHotWaterDischargeStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_LOCK_STATUS : 
-				onGetLockStatus(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_BOIL_UP_SETTING, EPC_BOIL_UP_WARMER_MODE_SETTING, EPC_SET_VALUE_OF_WARMER_TEMPERATURE}
+					, new byte[] {EPC_COVER_OPEN_CLOSE_STATUS, EPC_NO_WATER_WARNING, EPC_BOIL_UP_SETTING, EPC_BOIL_UP_WARMER_MODE_SETTING, EPC_SET_VALUE_OF_WARMER_TEMPERATURE, EPC_HOT_WATER_DISCHARGE_STATUS, EPC_LOCK_STATUS}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -2193,210 +2194,167 @@ multi-refrigeratin g mode compartment temperature<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING : return setRefrigeratorCompartmentTemperatureSetting(property.edt);
-		case EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING : return setFreezerCompartmentTemperatureSetting(property.edt);
-		case EPC_ICE_TEMPERATURE_SETTING : return setIceTemperatureSetting(property.edt);
-		case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING : return setVegetableCompartmentTemperatureSetting(property.edt);
-		case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING : return setMultiRefrigeraTingModeCompartmentTemperatureSetting(property.edt);
-		case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return setRefrigeratorCompartmentTemperatureLevelSetting(property.edt);
-		case EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return setFreezerCompartmentTemperatureLevelSetting(property.edt);
-		case EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return setIceCompartmentTemperatureLevelSetting(property.edt);
-		case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return setVegetableCompartmentTemperatureLevelSetting(property.edt);
-		case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return setMultiRefrigeraTingModeCompartmentTemperatureLevelSetting(property.edt);
-		case EPC_QUICK_FREEZE_FUNCTION_SETTING : return setQuickFreezeFunctionSetting(property.edt);
-		case EPC_QUICK_REFRIGERATION_FUNCTION_SETTING : return setQuickRefrigerationFunctionSetting(property.edt);
-		case EPC_ICEMAKER_SETTING : return setIcemakerSetting(property.edt);
-		case EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return setRefrigeratorCompartmentHumidificationFunctionSetting(property.edt);
-		case EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return setVegetableCompartmentHumidificationFunctionSetting(property.edt);
-		case EPC_DEODORIZATION_FUNCTION_SETTING : return setDeodorizationFunctionSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DOOR_OPEN_CLOSE_STATUS : return getDoorOpenCloseStatus();
-		case EPC_DOOR_OPEN_WARNING : return getDoorOpenWarning();
-		case EPC_REFRIGERATOR_COMPARTMENT_DOOR_STATUS : return getRefrigeratorCompartmentDoorStatus();
-		case EPC_FREEZER_COMPARTMENT_DOOR_STATUS : return getFreezerCompartmentDoorStatus();
-		case EPC_ICE_COMPARTMENT_DOOR_STATUS : return getIceCompartmentDoorStatus();
-		case EPC_VEGETABLE_COMPARTMENT_DOOR_STATUS : return getVegetableCompartmentDoorStatus();
-		case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_DOOR : return getMultiRefrigeraTingModeCompartmentDoor();
-		case EPC_MAXIMUM_ALLOWABLE_TEMPERATURE_SETTING_LEVEL : return getMaximumAllowableTemperatureSettingLevel();
-		case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING : return getRefrigeratorCompartmentTemperatureSetting();
-		case EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING : return getFreezerCompartmentTemperatureSetting();
-		case EPC_ICE_TEMPERATURE_SETTING : return getIceTemperatureSetting();
-		case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING : return getVegetableCompartmentTemperatureSetting();
-		case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING : return getMultiRefrigeraTingModeCompartmentTemperatureSetting();
-		case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return getRefrigeratorCompartmentTemperatureLevelSetting();
-		case EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return getFreezerCompartmentTemperatureLevelSetting();
-		case EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return getIceCompartmentTemperatureLevelSetting();
-		case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return getVegetableCompartmentTemperatureLevelSetting();
-		case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return getMultiRefrigeraTingModeCompartmentTemperatureLevelSetting();
-		case EPC_MEASURED_REFRIGERATOR_COMPARTMENT_TEMPERATURE : return getMeasuredRefrigeratorCompartmentTemperature();
-		case EPC_MEASURED_FREEZER_COMPARTMENT_TEMPERATURE : return getMeasuredFreezerCompartmentTemperature();
-		case EPC_MEASURED_SUBZERO_FRESH_COMPARTMENT_TEMPERATURE : return getMeasuredSubzeroFreshCompartmentTemperature();
-		case EPC_MEASURED_VEGETABLE_COMPARTMENT_TEMPERATURE : return getMeasuredVegetableCompartmentTemperature();
-		case EPC_MEASURED_MULTI_REFRIGERATIN_G_MODE_COMPARTMENT_TEMPERATURE : return getMeasuredMultiRefrigeratinGModeCompartmentTemperature();
-		case EPC_COMPRESSOR_ROTATION_SPEED : return getCompressorRotationSpeed();
-		case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION : return getMeasuredElectricCurrentConsumption();
-		case EPC_RATED_POWER_CONSUMPTION : return getRatedPowerConsumption();
-		case EPC_QUICK_FREEZE_FUNCTION_SETTING : return getQuickFreezeFunctionSetting();
-		case EPC_QUICK_REFRIGERATION_FUNCTION_SETTING : return getQuickRefrigerationFunctionSetting();
-		case EPC_ICEMAKER_SETTING : return getIcemakerSetting();
-		case EPC_ICEMAKER_OPERATION_STATUS : return getIcemakerOperationStatus();
-		case EPC_ICEMAKER_TANK_STATUS : return getIcemakerTankStatus();
-		case EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return getRefrigeratorCompartmentHumidificationFunctionSetting();
-		case EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return getVegetableCompartmentHumidificationFunctionSetting();
-		case EPC_DEODORIZATION_FUNCTION_SETTING : return getDeodorizationFunctionSetting();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			Refrigerator o = (Refrigerator)eoj;
+			switch(property.epc) {
+			case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING : return o.setRefrigeratorCompartmentTemperatureSetting(property.edt);
+			case EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING : return o.setFreezerCompartmentTemperatureSetting(property.edt);
+			case EPC_ICE_TEMPERATURE_SETTING : return o.setIceTemperatureSetting(property.edt);
+			case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING : return o.setVegetableCompartmentTemperatureSetting(property.edt);
+			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING : return o.setMultiRefrigeraTingModeCompartmentTemperatureSetting(property.edt);
+			case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.setRefrigeratorCompartmentTemperatureLevelSetting(property.edt);
+			case EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.setFreezerCompartmentTemperatureLevelSetting(property.edt);
+			case EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.setIceCompartmentTemperatureLevelSetting(property.edt);
+			case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.setVegetableCompartmentTemperatureLevelSetting(property.edt);
+			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.setMultiRefrigeraTingModeCompartmentTemperatureLevelSetting(property.edt);
+			case EPC_QUICK_FREEZE_FUNCTION_SETTING : return o.setQuickFreezeFunctionSetting(property.edt);
+			case EPC_QUICK_REFRIGERATION_FUNCTION_SETTING : return o.setQuickRefrigerationFunctionSetting(property.edt);
+			case EPC_ICEMAKER_SETTING : return o.setIcemakerSetting(property.edt);
+			case EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return o.setRefrigeratorCompartmentHumidificationFunctionSetting(property.edt);
+			case EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return o.setVegetableCompartmentHumidificationFunctionSetting(property.edt);
+			case EPC_DEODORIZATION_FUNCTION_SETTING : return o.setDeodorizationFunctionSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DOOR_OPEN_CLOSE_STATUS : return isValidDoorOpenCloseStatus(property.edt);
-		case EPC_DOOR_OPEN_WARNING : return isValidDoorOpenWarning(property.edt);
-		case EPC_REFRIGERATOR_COMPARTMENT_DOOR_STATUS : return isValidRefrigeratorCompartmentDoorStatus(property.edt);
-		case EPC_FREEZER_COMPARTMENT_DOOR_STATUS : return isValidFreezerCompartmentDoorStatus(property.edt);
-		case EPC_ICE_COMPARTMENT_DOOR_STATUS : return isValidIceCompartmentDoorStatus(property.edt);
-		case EPC_VEGETABLE_COMPARTMENT_DOOR_STATUS : return isValidVegetableCompartmentDoorStatus(property.edt);
-		case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_DOOR : return isValidMultiRefrigeraTingModeCompartmentDoor(property.edt);
-		case EPC_MAXIMUM_ALLOWABLE_TEMPERATURE_SETTING_LEVEL : return isValidMaximumAllowableTemperatureSettingLevel(property.edt);
-		case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING : return isValidRefrigeratorCompartmentTemperatureSetting(property.edt);
-		case EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING : return isValidFreezerCompartmentTemperatureSetting(property.edt);
-		case EPC_ICE_TEMPERATURE_SETTING : return isValidIceTemperatureSetting(property.edt);
-		case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING : return isValidVegetableCompartmentTemperatureSetting(property.edt);
-		case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING : return isValidMultiRefrigeraTingModeCompartmentTemperatureSetting(property.edt);
-		case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return isValidRefrigeratorCompartmentTemperatureLevelSetting(property.edt);
-		case EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return isValidFreezerCompartmentTemperatureLevelSetting(property.edt);
-		case EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return isValidIceCompartmentTemperatureLevelSetting(property.edt);
-		case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return isValidVegetableCompartmentTemperatureLevelSetting(property.edt);
-		case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return isValidMultiRefrigeraTingModeCompartmentTemperatureLevelSetting(property.edt);
-		case EPC_MEASURED_REFRIGERATOR_COMPARTMENT_TEMPERATURE : return isValidMeasuredRefrigeratorCompartmentTemperature(property.edt);
-		case EPC_MEASURED_FREEZER_COMPARTMENT_TEMPERATURE : return isValidMeasuredFreezerCompartmentTemperature(property.edt);
-		case EPC_MEASURED_SUBZERO_FRESH_COMPARTMENT_TEMPERATURE : return isValidMeasuredSubzeroFreshCompartmentTemperature(property.edt);
-		case EPC_MEASURED_VEGETABLE_COMPARTMENT_TEMPERATURE : return isValidMeasuredVegetableCompartmentTemperature(property.edt);
-		case EPC_MEASURED_MULTI_REFRIGERATIN_G_MODE_COMPARTMENT_TEMPERATURE : return isValidMeasuredMultiRefrigeratinGModeCompartmentTemperature(property.edt);
-		case EPC_COMPRESSOR_ROTATION_SPEED : return isValidCompressorRotationSpeed(property.edt);
-		case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION : return isValidMeasuredElectricCurrentConsumption(property.edt);
-		case EPC_RATED_POWER_CONSUMPTION : return isValidRatedPowerConsumption(property.edt);
-		case EPC_QUICK_FREEZE_FUNCTION_SETTING : return isValidQuickFreezeFunctionSetting(property.edt);
-		case EPC_QUICK_REFRIGERATION_FUNCTION_SETTING : return isValidQuickRefrigerationFunctionSetting(property.edt);
-		case EPC_ICEMAKER_SETTING : return isValidIcemakerSetting(property.edt);
-		case EPC_ICEMAKER_OPERATION_STATUS : return isValidIcemakerOperationStatus(property.edt);
-		case EPC_ICEMAKER_TANK_STATUS : return isValidIcemakerTankStatus(property.edt);
-		case EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return isValidRefrigeratorCompartmentHumidificationFunctionSetting(property.edt);
-		case EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return isValidVegetableCompartmentHumidificationFunctionSetting(property.edt);
-		case EPC_DEODORIZATION_FUNCTION_SETTING : return isValidDeodorizationFunctionSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			Refrigerator o = (Refrigerator)eoj;
+			switch(epc) {
+			case EPC_DOOR_OPEN_CLOSE_STATUS : return o.getDoorOpenCloseStatus();
+			case EPC_DOOR_OPEN_WARNING : return o.getDoorOpenWarning();
+			case EPC_REFRIGERATOR_COMPARTMENT_DOOR_STATUS : return o.getRefrigeratorCompartmentDoorStatus();
+			case EPC_FREEZER_COMPARTMENT_DOOR_STATUS : return o.getFreezerCompartmentDoorStatus();
+			case EPC_ICE_COMPARTMENT_DOOR_STATUS : return o.getIceCompartmentDoorStatus();
+			case EPC_VEGETABLE_COMPARTMENT_DOOR_STATUS : return o.getVegetableCompartmentDoorStatus();
+			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_DOOR : return o.getMultiRefrigeraTingModeCompartmentDoor();
+			case EPC_MAXIMUM_ALLOWABLE_TEMPERATURE_SETTING_LEVEL : return o.getMaximumAllowableTemperatureSettingLevel();
+			case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING : return o.getRefrigeratorCompartmentTemperatureSetting();
+			case EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING : return o.getFreezerCompartmentTemperatureSetting();
+			case EPC_ICE_TEMPERATURE_SETTING : return o.getIceTemperatureSetting();
+			case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING : return o.getVegetableCompartmentTemperatureSetting();
+			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING : return o.getMultiRefrigeraTingModeCompartmentTemperatureSetting();
+			case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.getRefrigeratorCompartmentTemperatureLevelSetting();
+			case EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.getFreezerCompartmentTemperatureLevelSetting();
+			case EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.getIceCompartmentTemperatureLevelSetting();
+			case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.getVegetableCompartmentTemperatureLevelSetting();
+			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.getMultiRefrigeraTingModeCompartmentTemperatureLevelSetting();
+			case EPC_MEASURED_REFRIGERATOR_COMPARTMENT_TEMPERATURE : return o.getMeasuredRefrigeratorCompartmentTemperature();
+			case EPC_MEASURED_FREEZER_COMPARTMENT_TEMPERATURE : return o.getMeasuredFreezerCompartmentTemperature();
+			case EPC_MEASURED_SUBZERO_FRESH_COMPARTMENT_TEMPERATURE : return o.getMeasuredSubzeroFreshCompartmentTemperature();
+			case EPC_MEASURED_VEGETABLE_COMPARTMENT_TEMPERATURE : return o.getMeasuredVegetableCompartmentTemperature();
+			case EPC_MEASURED_MULTI_REFRIGERATIN_G_MODE_COMPARTMENT_TEMPERATURE : return o.getMeasuredMultiRefrigeratinGModeCompartmentTemperature();
+			case EPC_COMPRESSOR_ROTATION_SPEED : return o.getCompressorRotationSpeed();
+			case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION : return o.getMeasuredElectricCurrentConsumption();
+			case EPC_RATED_POWER_CONSUMPTION : return o.getRatedPowerConsumption();
+			case EPC_QUICK_FREEZE_FUNCTION_SETTING : return o.getQuickFreezeFunctionSetting();
+			case EPC_QUICK_REFRIGERATION_FUNCTION_SETTING : return o.getQuickRefrigerationFunctionSetting();
+			case EPC_ICEMAKER_SETTING : return o.getIcemakerSetting();
+			case EPC_ICEMAKER_OPERATION_STATUS : return o.getIcemakerOperationStatus();
+			case EPC_ICEMAKER_TANK_STATUS : return o.getIcemakerTankStatus();
+			case EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return o.getRefrigeratorCompartmentHumidificationFunctionSetting();
+			case EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return o.getVegetableCompartmentHumidificationFunctionSetting();
+			case EPC_DEODORIZATION_FUNCTION_SETTING : return o.getDeodorizationFunctionSetting();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			Refrigerator o = (Refrigerator)eoj;
+			switch(property.epc) {
+			case EPC_DOOR_OPEN_CLOSE_STATUS : return o.isValidDoorOpenCloseStatus(property.edt);
+			case EPC_DOOR_OPEN_WARNING : return o.isValidDoorOpenWarning(property.edt);
+			case EPC_REFRIGERATOR_COMPARTMENT_DOOR_STATUS : return o.isValidRefrigeratorCompartmentDoorStatus(property.edt);
+			case EPC_FREEZER_COMPARTMENT_DOOR_STATUS : return o.isValidFreezerCompartmentDoorStatus(property.edt);
+			case EPC_ICE_COMPARTMENT_DOOR_STATUS : return o.isValidIceCompartmentDoorStatus(property.edt);
+			case EPC_VEGETABLE_COMPARTMENT_DOOR_STATUS : return o.isValidVegetableCompartmentDoorStatus(property.edt);
+			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_DOOR : return o.isValidMultiRefrigeraTingModeCompartmentDoor(property.edt);
+			case EPC_MAXIMUM_ALLOWABLE_TEMPERATURE_SETTING_LEVEL : return o.isValidMaximumAllowableTemperatureSettingLevel(property.edt);
+			case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING : return o.isValidRefrigeratorCompartmentTemperatureSetting(property.edt);
+			case EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING : return o.isValidFreezerCompartmentTemperatureSetting(property.edt);
+			case EPC_ICE_TEMPERATURE_SETTING : return o.isValidIceTemperatureSetting(property.edt);
+			case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING : return o.isValidVegetableCompartmentTemperatureSetting(property.edt);
+			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING : return o.isValidMultiRefrigeraTingModeCompartmentTemperatureSetting(property.edt);
+			case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.isValidRefrigeratorCompartmentTemperatureLevelSetting(property.edt);
+			case EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.isValidFreezerCompartmentTemperatureLevelSetting(property.edt);
+			case EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.isValidIceCompartmentTemperatureLevelSetting(property.edt);
+			case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.isValidVegetableCompartmentTemperatureLevelSetting(property.edt);
+			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : return o.isValidMultiRefrigeraTingModeCompartmentTemperatureLevelSetting(property.edt);
+			case EPC_MEASURED_REFRIGERATOR_COMPARTMENT_TEMPERATURE : return o.isValidMeasuredRefrigeratorCompartmentTemperature(property.edt);
+			case EPC_MEASURED_FREEZER_COMPARTMENT_TEMPERATURE : return o.isValidMeasuredFreezerCompartmentTemperature(property.edt);
+			case EPC_MEASURED_SUBZERO_FRESH_COMPARTMENT_TEMPERATURE : return o.isValidMeasuredSubzeroFreshCompartmentTemperature(property.edt);
+			case EPC_MEASURED_VEGETABLE_COMPARTMENT_TEMPERATURE : return o.isValidMeasuredVegetableCompartmentTemperature(property.edt);
+			case EPC_MEASURED_MULTI_REFRIGERATIN_G_MODE_COMPARTMENT_TEMPERATURE : return o.isValidMeasuredMultiRefrigeratinGModeCompartmentTemperature(property.edt);
+			case EPC_COMPRESSOR_ROTATION_SPEED : return o.isValidCompressorRotationSpeed(property.edt);
+			case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION : return o.isValidMeasuredElectricCurrentConsumption(property.edt);
+			case EPC_RATED_POWER_CONSUMPTION : return o.isValidRatedPowerConsumption(property.edt);
+			case EPC_QUICK_FREEZE_FUNCTION_SETTING : return o.isValidQuickFreezeFunctionSetting(property.edt);
+			case EPC_QUICK_REFRIGERATION_FUNCTION_SETTING : return o.isValidQuickRefrigerationFunctionSetting(property.edt);
+			case EPC_ICEMAKER_SETTING : return o.isValidIcemakerSetting(property.edt);
+			case EPC_ICEMAKER_OPERATION_STATUS : return o.isValidIcemakerOperationStatus(property.edt);
+			case EPC_ICEMAKER_TANK_STATUS : return o.isValidIcemakerTankStatus(property.edt);
+			case EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return o.isValidRefrigeratorCompartmentHumidificationFunctionSetting(property.edt);
+			case EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : return o.isValidVegetableCompartmentHumidificationFunctionSetting(property.edt);
+			case EPC_DEODORIZATION_FUNCTION_SETTING : return o.isValidDeodorizationFunctionSetting(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING : 
-				onSetRefrigeratorCompartmentTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetRefrigeratorCompartmentTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING : 
-				onSetFreezerCompartmentTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetFreezerCompartmentTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ICE_TEMPERATURE_SETTING : 
-				onSetIceTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetIceTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING : 
-				onSetVegetableCompartmentTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetVegetableCompartmentTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING : 
-				onSetMultiRefrigeraTingModeCompartmentTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetMultiRefrigeraTingModeCompartmentTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : 
-				onSetRefrigeratorCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
+				r.onSetRefrigeratorCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : 
-				onSetFreezerCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
+				r.onSetFreezerCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : 
-				onSetIceCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
+				r.onSetIceCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : 
-				onSetVegetableCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
+				r.onSetVegetableCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : 
-				onSetMultiRefrigeraTingModeCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
+				r.onSetMultiRefrigeraTingModeCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_QUICK_FREEZE_FUNCTION_SETTING : 
-				onSetQuickFreezeFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetQuickFreezeFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_QUICK_REFRIGERATION_FUNCTION_SETTING : 
-				onSetQuickRefrigerationFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetQuickRefrigerationFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ICEMAKER_SETTING : 
-				onSetIcemakerSetting(eoj, tid, esv, property, success);
+				r.onSetIcemakerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : 
-				onSetRefrigeratorCompartmentHumidificationFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetRefrigeratorCompartmentHumidificationFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : 
-				onSetVegetableCompartmentHumidificationFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetVegetableCompartmentHumidificationFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DEODORIZATION_FUNCTION_SETTING : 
-				onSetDeodorizationFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetDeodorizationFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -2404,118 +2362,166 @@ multi-refrigeratin g mode compartment temperature<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_DOOR_OPEN_CLOSE_STATUS : 
-				onGetDoorOpenCloseStatus(eoj, tid, esv, property, success);
+				r.onGetDoorOpenCloseStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DOOR_OPEN_WARNING : 
-				onGetDoorOpenWarning(eoj, tid, esv, property, success);
+				r.onGetDoorOpenWarning(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REFRIGERATOR_COMPARTMENT_DOOR_STATUS : 
-				onGetRefrigeratorCompartmentDoorStatus(eoj, tid, esv, property, success);
+				r.onGetRefrigeratorCompartmentDoorStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FREEZER_COMPARTMENT_DOOR_STATUS : 
-				onGetFreezerCompartmentDoorStatus(eoj, tid, esv, property, success);
+				r.onGetFreezerCompartmentDoorStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ICE_COMPARTMENT_DOOR_STATUS : 
-				onGetIceCompartmentDoorStatus(eoj, tid, esv, property, success);
+				r.onGetIceCompartmentDoorStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VEGETABLE_COMPARTMENT_DOOR_STATUS : 
-				onGetVegetableCompartmentDoorStatus(eoj, tid, esv, property, success);
+				r.onGetVegetableCompartmentDoorStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_DOOR : 
-				onGetMultiRefrigeraTingModeCompartmentDoor(eoj, tid, esv, property, success);
+				r.onGetMultiRefrigeraTingModeCompartmentDoor(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MAXIMUM_ALLOWABLE_TEMPERATURE_SETTING_LEVEL : 
-				onGetMaximumAllowableTemperatureSettingLevel(eoj, tid, esv, property, success);
+				r.onGetMaximumAllowableTemperatureSettingLevel(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING : 
-				onGetRefrigeratorCompartmentTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetRefrigeratorCompartmentTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING : 
-				onGetFreezerCompartmentTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetFreezerCompartmentTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ICE_TEMPERATURE_SETTING : 
-				onGetIceTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetIceTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING : 
-				onGetVegetableCompartmentTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetVegetableCompartmentTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING : 
-				onGetMultiRefrigeraTingModeCompartmentTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetMultiRefrigeraTingModeCompartmentTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : 
-				onGetRefrigeratorCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
+				r.onGetRefrigeratorCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : 
-				onGetFreezerCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
+				r.onGetFreezerCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : 
-				onGetIceCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
+				r.onGetIceCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : 
-				onGetVegetableCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
+				r.onGetVegetableCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING : 
-				onGetMultiRefrigeraTingModeCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
+				r.onGetMultiRefrigeraTingModeCompartmentTemperatureLevelSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_REFRIGERATOR_COMPARTMENT_TEMPERATURE : 
-				onGetMeasuredRefrigeratorCompartmentTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredRefrigeratorCompartmentTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_FREEZER_COMPARTMENT_TEMPERATURE : 
-				onGetMeasuredFreezerCompartmentTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredFreezerCompartmentTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_SUBZERO_FRESH_COMPARTMENT_TEMPERATURE : 
-				onGetMeasuredSubzeroFreshCompartmentTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredSubzeroFreshCompartmentTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_VEGETABLE_COMPARTMENT_TEMPERATURE : 
-				onGetMeasuredVegetableCompartmentTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredVegetableCompartmentTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_MULTI_REFRIGERATIN_G_MODE_COMPARTMENT_TEMPERATURE : 
-				onGetMeasuredMultiRefrigeratinGModeCompartmentTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredMultiRefrigeratinGModeCompartmentTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_COMPRESSOR_ROTATION_SPEED : 
-				onGetCompressorRotationSpeed(eoj, tid, esv, property, success);
+				r.onGetCompressorRotationSpeed(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION : 
-				onGetMeasuredElectricCurrentConsumption(eoj, tid, esv, property, success);
+				r.onGetMeasuredElectricCurrentConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_CONSUMPTION : 
-				onGetRatedPowerConsumption(eoj, tid, esv, property, success);
+				r.onGetRatedPowerConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_QUICK_FREEZE_FUNCTION_SETTING : 
-				onGetQuickFreezeFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetQuickFreezeFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_QUICK_REFRIGERATION_FUNCTION_SETTING : 
-				onGetQuickRefrigerationFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetQuickRefrigerationFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ICEMAKER_SETTING : 
-				onGetIcemakerSetting(eoj, tid, esv, property, success);
+				r.onGetIcemakerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ICEMAKER_OPERATION_STATUS : 
-				onGetIcemakerOperationStatus(eoj, tid, esv, property, success);
+				r.onGetIcemakerOperationStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ICEMAKER_TANK_STATUS : 
-				onGetIcemakerTankStatus(eoj, tid, esv, property, success);
+				r.onGetIcemakerTankStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : 
-				onGetRefrigeratorCompartmentHumidificationFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetRefrigeratorCompartmentHumidificationFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING : 
-				onGetVegetableCompartmentHumidificationFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetVegetableCompartmentHumidificationFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DEODORIZATION_FUNCTION_SETTING : 
-				onGetDeodorizationFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetDeodorizationFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(Refrigerator.class, sPropertyHandler
+				, new byte[] {EPC_DOOR_OPEN_CLOSE_STATUS, EPC_DOOR_OPEN_WARNING, EPC_REFRIGERATOR_COMPARTMENT_DOOR_STATUS, EPC_FREEZER_COMPARTMENT_DOOR_STATUS, EPC_ICE_COMPARTMENT_DOOR_STATUS, EPC_VEGETABLE_COMPARTMENT_DOOR_STATUS, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_DOOR, EPC_MAXIMUM_ALLOWABLE_TEMPERATURE_SETTING_LEVEL, EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING, EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING, EPC_ICE_TEMPERATURE_SETTING, EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING, EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_MEASURED_REFRIGERATOR_COMPARTMENT_TEMPERATURE, EPC_MEASURED_FREEZER_COMPARTMENT_TEMPERATURE, EPC_MEASURED_SUBZERO_FRESH_COMPARTMENT_TEMPERATURE, EPC_MEASURED_VEGETABLE_COMPARTMENT_TEMPERATURE, EPC_MEASURED_MULTI_REFRIGERATIN_G_MODE_COMPARTMENT_TEMPERATURE, EPC_COMPRESSOR_ROTATION_SPEED, EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION, EPC_RATED_POWER_CONSUMPTION, EPC_QUICK_FREEZE_FUNCTION_SETTING, EPC_QUICK_REFRIGERATION_FUNCTION_SETTING, EPC_ICEMAKER_SETTING, EPC_ICEMAKER_OPERATION_STATUS, EPC_ICEMAKER_TANK_STATUS, EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING, EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING, EPC_DEODORIZATION_FUNCTION_SETTING}
+				, new byte[] {EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING, EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING, EPC_ICE_TEMPERATURE_SETTING, EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING, EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_QUICK_FREEZE_FUNCTION_SETTING, EPC_QUICK_REFRIGERATION_FUNCTION_SETTING, EPC_ICEMAKER_SETTING, EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING, EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING, EPC_DEODORIZATION_FUNCTION_SETTING}
+				, new byte[] {EPC_DOOR_OPEN_CLOSE_STATUS, EPC_DOOR_OPEN_WARNING, EPC_REFRIGERATOR_COMPARTMENT_DOOR_STATUS, EPC_FREEZER_COMPARTMENT_DOOR_STATUS, EPC_ICE_COMPARTMENT_DOOR_STATUS, EPC_VEGETABLE_COMPARTMENT_DOOR_STATUS, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_DOOR, EPC_MAXIMUM_ALLOWABLE_TEMPERATURE_SETTING_LEVEL, EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING, EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING, EPC_ICE_TEMPERATURE_SETTING, EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING, EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_MEASURED_REFRIGERATOR_COMPARTMENT_TEMPERATURE, EPC_MEASURED_FREEZER_COMPARTMENT_TEMPERATURE, EPC_MEASURED_SUBZERO_FRESH_COMPARTMENT_TEMPERATURE, EPC_MEASURED_VEGETABLE_COMPARTMENT_TEMPERATURE, EPC_MEASURED_MULTI_REFRIGERATIN_G_MODE_COMPARTMENT_TEMPERATURE, EPC_COMPRESSOR_ROTATION_SPEED, EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION, EPC_RATED_POWER_CONSUMPTION, EPC_QUICK_FREEZE_FUNCTION_SETTING, EPC_QUICK_REFRIGERATION_FUNCTION_SETTING, EPC_ICEMAKER_SETTING, EPC_ICEMAKER_OPERATION_STATUS, EPC_ICEMAKER_TANK_STATUS, EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING, EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING, EPC_DEODORIZATION_FUNCTION_SETTING});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING, EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING, EPC_ICE_TEMPERATURE_SETTING, EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING, EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_QUICK_FREEZE_FUNCTION_SETTING, EPC_QUICK_REFRIGERATION_FUNCTION_SETTING, EPC_ICEMAKER_SETTING, EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING, EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING, EPC_DEODORIZATION_FUNCTION_SETTING}
+					, new byte[] {EPC_DOOR_OPEN_CLOSE_STATUS, EPC_DOOR_OPEN_WARNING, EPC_REFRIGERATOR_COMPARTMENT_DOOR_STATUS, EPC_FREEZER_COMPARTMENT_DOOR_STATUS, EPC_ICE_COMPARTMENT_DOOR_STATUS, EPC_VEGETABLE_COMPARTMENT_DOOR_STATUS, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_DOOR, EPC_MAXIMUM_ALLOWABLE_TEMPERATURE_SETTING_LEVEL, EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_SETTING, EPC_FREEZER_COMPARTMENT_TEMPERATURE_SETTING, EPC_ICE_TEMPERATURE_SETTING, EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_SETTING, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_SETTING, EPC_REFRIGERATOR_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_FREEZER_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_ICE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_VEGETABLE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_MULTI_REFRIGERA_TING_MODE_COMPARTMENT_TEMPERATURE_LEVEL_SETTING, EPC_MEASURED_REFRIGERATOR_COMPARTMENT_TEMPERATURE, EPC_MEASURED_FREEZER_COMPARTMENT_TEMPERATURE, EPC_MEASURED_SUBZERO_FRESH_COMPARTMENT_TEMPERATURE, EPC_MEASURED_VEGETABLE_COMPARTMENT_TEMPERATURE, EPC_MEASURED_MULTI_REFRIGERATIN_G_MODE_COMPARTMENT_TEMPERATURE, EPC_COMPRESSOR_ROTATION_SPEED, EPC_MEASURED_ELECTRIC_CURRENT_CONSUMPTION, EPC_RATED_POWER_CONSUMPTION, EPC_QUICK_FREEZE_FUNCTION_SETTING, EPC_QUICK_REFRIGERATION_FUNCTION_SETTING, EPC_ICEMAKER_SETTING, EPC_ICEMAKER_OPERATION_STATUS, EPC_ICEMAKER_TANK_STATUS, EPC_REFRIGERATOR_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING, EPC_VEGETABLE_COMPARTMENT_HUMIDIFICATION_FUNCTION_SETTING, EPC_DEODORIZATION_FUNCTION_SETTING}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Door open/close status<br>
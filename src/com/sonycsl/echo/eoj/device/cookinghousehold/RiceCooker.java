@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -652,116 +653,73 @@ public abstract class RiceCooker extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_RICE_COOKING_CONTROL_SETTING : return setRiceCookingControlSetting(property.edt);
-		case EPC_WARMER_SETTING : return setWarmerSetting(property.edt);
-		case EPC_RICE_COOKING_RESERVATION_SETTING : return setRiceCookingReservationSetting(property.edt);
-		case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME : return setSetValueOfRiceCookingReservationSettingTime(property.edt);
-		case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME : return setSetValueOfRiceCookingReservationSettingRelativeTime(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_COVER_OPEN_CLOSE_STATUS : return getCoverOpenCloseStatus();
-		case EPC_RICE_COOKING_STATUS : return getRiceCookingStatus();
-		case EPC_RICE_COOKING_CONTROL_SETTING : return getRiceCookingControlSetting();
-		case EPC_WARMER_SETTING : return getWarmerSetting();
-		case EPC_INNER_POT_REMOVAL_STATUS : return getInnerPotRemovalStatus();
-		case EPC_COVER_REMOVAL_STATUS : return getCoverRemovalStatus();
-		case EPC_RICE_COOKING_RESERVATION_SETTING : return getRiceCookingReservationSetting();
-		case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME : return getSetValueOfRiceCookingReservationSettingTime();
-		case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME : return getSetValueOfRiceCookingReservationSettingRelativeTime();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			RiceCooker o = (RiceCooker)eoj;
+			switch(property.epc) {
+			case EPC_RICE_COOKING_CONTROL_SETTING : return o.setRiceCookingControlSetting(property.edt);
+			case EPC_WARMER_SETTING : return o.setWarmerSetting(property.edt);
+			case EPC_RICE_COOKING_RESERVATION_SETTING : return o.setRiceCookingReservationSetting(property.edt);
+			case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME : return o.setSetValueOfRiceCookingReservationSettingTime(property.edt);
+			case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME : return o.setSetValueOfRiceCookingReservationSettingRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_COVER_OPEN_CLOSE_STATUS : return isValidCoverOpenCloseStatus(property.edt);
-		case EPC_RICE_COOKING_STATUS : return isValidRiceCookingStatus(property.edt);
-		case EPC_RICE_COOKING_CONTROL_SETTING : return isValidRiceCookingControlSetting(property.edt);
-		case EPC_WARMER_SETTING : return isValidWarmerSetting(property.edt);
-		case EPC_INNER_POT_REMOVAL_STATUS : return isValidInnerPotRemovalStatus(property.edt);
-		case EPC_COVER_REMOVAL_STATUS : return isValidCoverRemovalStatus(property.edt);
-		case EPC_RICE_COOKING_RESERVATION_SETTING : return isValidRiceCookingReservationSetting(property.edt);
-		case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME : return isValidSetValueOfRiceCookingReservationSettingTime(property.edt);
-		case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME : return isValidSetValueOfRiceCookingReservationSettingRelativeTime(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			RiceCooker o = (RiceCooker)eoj;
+			switch(epc) {
+			case EPC_COVER_OPEN_CLOSE_STATUS : return o.getCoverOpenCloseStatus();
+			case EPC_RICE_COOKING_STATUS : return o.getRiceCookingStatus();
+			case EPC_RICE_COOKING_CONTROL_SETTING : return o.getRiceCookingControlSetting();
+			case EPC_WARMER_SETTING : return o.getWarmerSetting();
+			case EPC_INNER_POT_REMOVAL_STATUS : return o.getInnerPotRemovalStatus();
+			case EPC_COVER_REMOVAL_STATUS : return o.getCoverRemovalStatus();
+			case EPC_RICE_COOKING_RESERVATION_SETTING : return o.getRiceCookingReservationSetting();
+			case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME : return o.getSetValueOfRiceCookingReservationSettingTime();
+			case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME : return o.getSetValueOfRiceCookingReservationSettingRelativeTime();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			RiceCooker o = (RiceCooker)eoj;
+			switch(property.epc) {
+			case EPC_COVER_OPEN_CLOSE_STATUS : return o.isValidCoverOpenCloseStatus(property.edt);
+			case EPC_RICE_COOKING_STATUS : return o.isValidRiceCookingStatus(property.edt);
+			case EPC_RICE_COOKING_CONTROL_SETTING : return o.isValidRiceCookingControlSetting(property.edt);
+			case EPC_WARMER_SETTING : return o.isValidWarmerSetting(property.edt);
+			case EPC_INNER_POT_REMOVAL_STATUS : return o.isValidInnerPotRemovalStatus(property.edt);
+			case EPC_COVER_REMOVAL_STATUS : return o.isValidCoverRemovalStatus(property.edt);
+			case EPC_RICE_COOKING_RESERVATION_SETTING : return o.isValidRiceCookingReservationSetting(property.edt);
+			case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME : return o.isValidSetValueOfRiceCookingReservationSettingTime(property.edt);
+			case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME : return o.isValidSetValueOfRiceCookingReservationSettingRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_RICE_COOKING_CONTROL_SETTING : 
-				onSetRiceCookingControlSetting(eoj, tid, esv, property, success);
+				r.onSetRiceCookingControlSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WARMER_SETTING : 
-				onSetWarmerSetting(eoj, tid, esv, property, success);
+				r.onSetWarmerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RICE_COOKING_RESERVATION_SETTING : 
-				onSetRiceCookingReservationSetting(eoj, tid, esv, property, success);
+				r.onSetRiceCookingReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME : 
-				onSetSetValueOfRiceCookingReservationSettingTime(eoj, tid, esv, property, success);
+				r.onSetSetValueOfRiceCookingReservationSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME : 
-				onSetSetValueOfRiceCookingReservationSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onSetSetValueOfRiceCookingReservationSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -769,43 +727,91 @@ public abstract class RiceCooker extends DeviceObject {
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_COVER_OPEN_CLOSE_STATUS : 
-				onGetCoverOpenCloseStatus(eoj, tid, esv, property, success);
+				r.onGetCoverOpenCloseStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RICE_COOKING_STATUS : 
-				onGetRiceCookingStatus(eoj, tid, esv, property, success);
+				r.onGetRiceCookingStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RICE_COOKING_CONTROL_SETTING : 
-				onGetRiceCookingControlSetting(eoj, tid, esv, property, success);
+				r.onGetRiceCookingControlSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WARMER_SETTING : 
-				onGetWarmerSetting(eoj, tid, esv, property, success);
+				r.onGetWarmerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_INNER_POT_REMOVAL_STATUS : 
-				onGetInnerPotRemovalStatus(eoj, tid, esv, property, success);
+				r.onGetInnerPotRemovalStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_COVER_REMOVAL_STATUS : 
-				onGetCoverRemovalStatus(eoj, tid, esv, property, success);
+				r.onGetCoverRemovalStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RICE_COOKING_RESERVATION_SETTING : 
-				onGetRiceCookingReservationSetting(eoj, tid, esv, property, success);
+				r.onGetRiceCookingReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME : 
-				onGetSetValueOfRiceCookingReservationSettingTime(eoj, tid, esv, property, success);
+				r.onGetSetValueOfRiceCookingReservationSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME : 
-				onGetSetValueOfRiceCookingReservationSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onGetSetValueOfRiceCookingReservationSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(RiceCooker.class, sPropertyHandler
+				, new byte[] {EPC_COVER_OPEN_CLOSE_STATUS, EPC_RICE_COOKING_STATUS, EPC_RICE_COOKING_CONTROL_SETTING, EPC_WARMER_SETTING, EPC_INNER_POT_REMOVAL_STATUS, EPC_COVER_REMOVAL_STATUS, EPC_RICE_COOKING_RESERVATION_SETTING, EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME, EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME}
+				, new byte[] {EPC_RICE_COOKING_CONTROL_SETTING, EPC_WARMER_SETTING, EPC_RICE_COOKING_RESERVATION_SETTING, EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME, EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME}
+				, new byte[] {EPC_COVER_OPEN_CLOSE_STATUS, EPC_RICE_COOKING_STATUS, EPC_RICE_COOKING_CONTROL_SETTING, EPC_WARMER_SETTING, EPC_INNER_POT_REMOVAL_STATUS, EPC_COVER_REMOVAL_STATUS, EPC_RICE_COOKING_RESERVATION_SETTING, EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME, EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_RICE_COOKING_CONTROL_SETTING, EPC_WARMER_SETTING, EPC_RICE_COOKING_RESERVATION_SETTING, EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME, EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME}
+					, new byte[] {EPC_COVER_OPEN_CLOSE_STATUS, EPC_RICE_COOKING_STATUS, EPC_RICE_COOKING_CONTROL_SETTING, EPC_WARMER_SETTING, EPC_INNER_POT_REMOVAL_STATUS, EPC_COVER_REMOVAL_STATUS, EPC_RICE_COOKING_RESERVATION_SETTING, EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_TIME, EPC_SET_VALUE_OF_RICE_COOKING_RESERVATION_SETTING_RELATIVE_TIME}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Cover open/close status<br>
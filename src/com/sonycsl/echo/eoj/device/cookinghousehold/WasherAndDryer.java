@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -2705,230 +2706,187 @@ bytes<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_WASHER_AND_DRYER_SETTING : return setWasherAndDryerSetting(property.edt);
-		case EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1 : return setWasherAndDryerCycleSetting1Note1(property.edt);
-		case EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1 : return setWasherAndDryerCycleSetting2Note1(property.edt);
-		case EPC_DRYING_CYCLE_SETTING_NOTE1 : return setDryingCycleSettingNote1(property.edt);
-		case EPC_WATER_FLOW_RATE_SETTING : return setWaterFlowRateSetting(property.edt);
-		case EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING : return setRotationSpeedForSpinDryingSetting(property.edt);
-		case EPC_DEGREE_OF_DRYING_SETTING : return setDegreeOfDryingSetting(property.edt);
-		case EPC_PRESOAKING_TIME_SETTING : return setPresoakingTimeSetting(property.edt);
-		case EPC_WATER_VOLUME_SETTING1 : return setWaterVolumeSetting1(property.edt);
-		case EPC_WATER_VOLUME_SETTING2 : return setWaterVolumeSetting2(property.edt);
-		case EPC_WASHING_TIME_SETTING : return setWashingTimeSetting(property.edt);
-		case EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING : return setNumberOfTimesOfRinsingSetting(property.edt);
-		case EPC_RINSING_PROCESS_SETTING : return setRinsingProcessSetting(property.edt);
-		case EPC_SPIN_DRYING_TIME_SETTING : return setSpinDryingTimeSetting(property.edt);
-		case EPC_DRYING_TIME_SETTING : return setDryingTimeSetting(property.edt);
-		case EPC_WARM_WATER_SETTING : return setWarmWaterSetting(property.edt);
-		case EPC_BATHTUB_WATER_RECYCLE_SETTING : return setBathtubWaterRecycleSetting(property.edt);
-		case EPC_WRINKLING_MINIMIZATION_SETTING : return setWrinklingMinimizationSetting(property.edt);
-		case EPC_DOOR_COVER_LOCK_SETTING : return setDoorCoverLockSetting(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return setOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return setOnTimerSetting(property.edt);
-		case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return setRelativeTimeBasedOnTimerSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return getDoorCoverOpenCloseStatus();
-		case EPC_WASHER_AND_DRYER_SETTING : return getWasherAndDryerSetting();
-		case EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1 : return getWasherAndDryerCycleSetting1Note1();
-		case EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1 : return getWasherAndDryerCycleSetting2Note1();
-		case EPC_DRYING_CYCLE_SETTING_NOTE1 : return getDryingCycleSettingNote1();
-		case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST1 : return getWasherAndDryerCycleOptionList1();
-		case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST2 : return getWasherAndDryerCycleOptionList2();
-		case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST3 : return getWasherAndDryerCycleOptionList3();
-		case EPC_WATER_FLOW_RATE_SETTING : return getWaterFlowRateSetting();
-		case EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING : return getRotationSpeedForSpinDryingSetting();
-		case EPC_DEGREE_OF_DRYING_SETTING : return getDegreeOfDryingSetting();
-		case EPC_REMAINING_WASHING_TIME : return getRemainingWashingTime();
-		case EPC_REMAINING_DRYING_TIME : return getRemainingDryingTime();
-		case EPC_ELAPSED_TIME_ON_THE_ON_TIMER : return getElapsedTimeOnTheOnTimer();
-		case EPC_PRESOAKING_TIME_SETTING : return getPresoakingTimeSetting();
-		case EPC_CURRENT_STAGE_OF_WASHER_AND_DRYER_CYCLE : return getCurrentStageOfWasherAndDryerCycle();
-		case EPC_WATER_VOLUME_SETTING1 : return getWaterVolumeSetting1();
-		case EPC_WATER_VOLUME_SETTING2 : return getWaterVolumeSetting2();
-		case EPC_WASHING_TIME_SETTING : return getWashingTimeSetting();
-		case EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING : return getNumberOfTimesOfRinsingSetting();
-		case EPC_RINSING_PROCESS_SETTING : return getRinsingProcessSetting();
-		case EPC_SPIN_DRYING_TIME_SETTING : return getSpinDryingTimeSetting();
-		case EPC_DRYING_TIME_SETTING : return getDryingTimeSetting();
-		case EPC_WARM_WATER_SETTING : return getWarmWaterSetting();
-		case EPC_BATHTUB_WATER_RECYCLE_SETTING : return getBathtubWaterRecycleSetting();
-		case EPC_WRINKLING_MINIMIZATION_SETTING : return getWrinklingMinimizationSetting();
-		case EPC_TIME_REMAINING_TO_COMPLETE_WASHER_AND_DRYER_CYCLE : return getTimeRemainingToCompleteWasherAndDryerCycle();
-		case EPC_DOOR_COVER_LOCK_SETTING : return getDoorCoverLockSetting();
-		case EPC_WASHER_AND_DRYER_CYCLE : return getWasherAndDryerCycle();
-		case EPC_ON_TIMER_RESERVATION_SETTING : return getOnTimerReservationSetting();
-		case EPC_ON_TIMER_SETTING : return getOnTimerSetting();
-		case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return getRelativeTimeBasedOnTimerSetting();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			WasherAndDryer o = (WasherAndDryer)eoj;
+			switch(property.epc) {
+			case EPC_WASHER_AND_DRYER_SETTING : return o.setWasherAndDryerSetting(property.edt);
+			case EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1 : return o.setWasherAndDryerCycleSetting1Note1(property.edt);
+			case EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1 : return o.setWasherAndDryerCycleSetting2Note1(property.edt);
+			case EPC_DRYING_CYCLE_SETTING_NOTE1 : return o.setDryingCycleSettingNote1(property.edt);
+			case EPC_WATER_FLOW_RATE_SETTING : return o.setWaterFlowRateSetting(property.edt);
+			case EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING : return o.setRotationSpeedForSpinDryingSetting(property.edt);
+			case EPC_DEGREE_OF_DRYING_SETTING : return o.setDegreeOfDryingSetting(property.edt);
+			case EPC_PRESOAKING_TIME_SETTING : return o.setPresoakingTimeSetting(property.edt);
+			case EPC_WATER_VOLUME_SETTING1 : return o.setWaterVolumeSetting1(property.edt);
+			case EPC_WATER_VOLUME_SETTING2 : return o.setWaterVolumeSetting2(property.edt);
+			case EPC_WASHING_TIME_SETTING : return o.setWashingTimeSetting(property.edt);
+			case EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING : return o.setNumberOfTimesOfRinsingSetting(property.edt);
+			case EPC_RINSING_PROCESS_SETTING : return o.setRinsingProcessSetting(property.edt);
+			case EPC_SPIN_DRYING_TIME_SETTING : return o.setSpinDryingTimeSetting(property.edt);
+			case EPC_DRYING_TIME_SETTING : return o.setDryingTimeSetting(property.edt);
+			case EPC_WARM_WATER_SETTING : return o.setWarmWaterSetting(property.edt);
+			case EPC_BATHTUB_WATER_RECYCLE_SETTING : return o.setBathtubWaterRecycleSetting(property.edt);
+			case EPC_WRINKLING_MINIMIZATION_SETTING : return o.setWrinklingMinimizationSetting(property.edt);
+			case EPC_DOOR_COVER_LOCK_SETTING : return o.setDoorCoverLockSetting(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.setOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.setOnTimerSetting(property.edt);
+			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return o.setRelativeTimeBasedOnTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return isValidDoorCoverOpenCloseStatus(property.edt);
-		case EPC_WASHER_AND_DRYER_SETTING : return isValidWasherAndDryerSetting(property.edt);
-		case EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1 : return isValidWasherAndDryerCycleSetting1Note1(property.edt);
-		case EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1 : return isValidWasherAndDryerCycleSetting2Note1(property.edt);
-		case EPC_DRYING_CYCLE_SETTING_NOTE1 : return isValidDryingCycleSettingNote1(property.edt);
-		case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST1 : return isValidWasherAndDryerCycleOptionList1(property.edt);
-		case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST2 : return isValidWasherAndDryerCycleOptionList2(property.edt);
-		case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST3 : return isValidWasherAndDryerCycleOptionList3(property.edt);
-		case EPC_WATER_FLOW_RATE_SETTING : return isValidWaterFlowRateSetting(property.edt);
-		case EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING : return isValidRotationSpeedForSpinDryingSetting(property.edt);
-		case EPC_DEGREE_OF_DRYING_SETTING : return isValidDegreeOfDryingSetting(property.edt);
-		case EPC_REMAINING_WASHING_TIME : return isValidRemainingWashingTime(property.edt);
-		case EPC_REMAINING_DRYING_TIME : return isValidRemainingDryingTime(property.edt);
-		case EPC_ELAPSED_TIME_ON_THE_ON_TIMER : return isValidElapsedTimeOnTheOnTimer(property.edt);
-		case EPC_PRESOAKING_TIME_SETTING : return isValidPresoakingTimeSetting(property.edt);
-		case EPC_CURRENT_STAGE_OF_WASHER_AND_DRYER_CYCLE : return isValidCurrentStageOfWasherAndDryerCycle(property.edt);
-		case EPC_WATER_VOLUME_SETTING1 : return isValidWaterVolumeSetting1(property.edt);
-		case EPC_WATER_VOLUME_SETTING2 : return isValidWaterVolumeSetting2(property.edt);
-		case EPC_WASHING_TIME_SETTING : return isValidWashingTimeSetting(property.edt);
-		case EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING : return isValidNumberOfTimesOfRinsingSetting(property.edt);
-		case EPC_RINSING_PROCESS_SETTING : return isValidRinsingProcessSetting(property.edt);
-		case EPC_SPIN_DRYING_TIME_SETTING : return isValidSpinDryingTimeSetting(property.edt);
-		case EPC_DRYING_TIME_SETTING : return isValidDryingTimeSetting(property.edt);
-		case EPC_WARM_WATER_SETTING : return isValidWarmWaterSetting(property.edt);
-		case EPC_BATHTUB_WATER_RECYCLE_SETTING : return isValidBathtubWaterRecycleSetting(property.edt);
-		case EPC_WRINKLING_MINIMIZATION_SETTING : return isValidWrinklingMinimizationSetting(property.edt);
-		case EPC_TIME_REMAINING_TO_COMPLETE_WASHER_AND_DRYER_CYCLE : return isValidTimeRemainingToCompleteWasherAndDryerCycle(property.edt);
-		case EPC_DOOR_COVER_LOCK_SETTING : return isValidDoorCoverLockSetting(property.edt);
-		case EPC_WASHER_AND_DRYER_CYCLE : return isValidWasherAndDryerCycle(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return isValidOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return isValidOnTimerSetting(property.edt);
-		case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return isValidRelativeTimeBasedOnTimerSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			WasherAndDryer o = (WasherAndDryer)eoj;
+			switch(epc) {
+			case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return o.getDoorCoverOpenCloseStatus();
+			case EPC_WASHER_AND_DRYER_SETTING : return o.getWasherAndDryerSetting();
+			case EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1 : return o.getWasherAndDryerCycleSetting1Note1();
+			case EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1 : return o.getWasherAndDryerCycleSetting2Note1();
+			case EPC_DRYING_CYCLE_SETTING_NOTE1 : return o.getDryingCycleSettingNote1();
+			case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST1 : return o.getWasherAndDryerCycleOptionList1();
+			case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST2 : return o.getWasherAndDryerCycleOptionList2();
+			case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST3 : return o.getWasherAndDryerCycleOptionList3();
+			case EPC_WATER_FLOW_RATE_SETTING : return o.getWaterFlowRateSetting();
+			case EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING : return o.getRotationSpeedForSpinDryingSetting();
+			case EPC_DEGREE_OF_DRYING_SETTING : return o.getDegreeOfDryingSetting();
+			case EPC_REMAINING_WASHING_TIME : return o.getRemainingWashingTime();
+			case EPC_REMAINING_DRYING_TIME : return o.getRemainingDryingTime();
+			case EPC_ELAPSED_TIME_ON_THE_ON_TIMER : return o.getElapsedTimeOnTheOnTimer();
+			case EPC_PRESOAKING_TIME_SETTING : return o.getPresoakingTimeSetting();
+			case EPC_CURRENT_STAGE_OF_WASHER_AND_DRYER_CYCLE : return o.getCurrentStageOfWasherAndDryerCycle();
+			case EPC_WATER_VOLUME_SETTING1 : return o.getWaterVolumeSetting1();
+			case EPC_WATER_VOLUME_SETTING2 : return o.getWaterVolumeSetting2();
+			case EPC_WASHING_TIME_SETTING : return o.getWashingTimeSetting();
+			case EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING : return o.getNumberOfTimesOfRinsingSetting();
+			case EPC_RINSING_PROCESS_SETTING : return o.getRinsingProcessSetting();
+			case EPC_SPIN_DRYING_TIME_SETTING : return o.getSpinDryingTimeSetting();
+			case EPC_DRYING_TIME_SETTING : return o.getDryingTimeSetting();
+			case EPC_WARM_WATER_SETTING : return o.getWarmWaterSetting();
+			case EPC_BATHTUB_WATER_RECYCLE_SETTING : return o.getBathtubWaterRecycleSetting();
+			case EPC_WRINKLING_MINIMIZATION_SETTING : return o.getWrinklingMinimizationSetting();
+			case EPC_TIME_REMAINING_TO_COMPLETE_WASHER_AND_DRYER_CYCLE : return o.getTimeRemainingToCompleteWasherAndDryerCycle();
+			case EPC_DOOR_COVER_LOCK_SETTING : return o.getDoorCoverLockSetting();
+			case EPC_WASHER_AND_DRYER_CYCLE : return o.getWasherAndDryerCycle();
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.getOnTimerReservationSetting();
+			case EPC_ON_TIMER_SETTING : return o.getOnTimerSetting();
+			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return o.getRelativeTimeBasedOnTimerSetting();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			WasherAndDryer o = (WasherAndDryer)eoj;
+			switch(property.epc) {
+			case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return o.isValidDoorCoverOpenCloseStatus(property.edt);
+			case EPC_WASHER_AND_DRYER_SETTING : return o.isValidWasherAndDryerSetting(property.edt);
+			case EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1 : return o.isValidWasherAndDryerCycleSetting1Note1(property.edt);
+			case EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1 : return o.isValidWasherAndDryerCycleSetting2Note1(property.edt);
+			case EPC_DRYING_CYCLE_SETTING_NOTE1 : return o.isValidDryingCycleSettingNote1(property.edt);
+			case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST1 : return o.isValidWasherAndDryerCycleOptionList1(property.edt);
+			case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST2 : return o.isValidWasherAndDryerCycleOptionList2(property.edt);
+			case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST3 : return o.isValidWasherAndDryerCycleOptionList3(property.edt);
+			case EPC_WATER_FLOW_RATE_SETTING : return o.isValidWaterFlowRateSetting(property.edt);
+			case EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING : return o.isValidRotationSpeedForSpinDryingSetting(property.edt);
+			case EPC_DEGREE_OF_DRYING_SETTING : return o.isValidDegreeOfDryingSetting(property.edt);
+			case EPC_REMAINING_WASHING_TIME : return o.isValidRemainingWashingTime(property.edt);
+			case EPC_REMAINING_DRYING_TIME : return o.isValidRemainingDryingTime(property.edt);
+			case EPC_ELAPSED_TIME_ON_THE_ON_TIMER : return o.isValidElapsedTimeOnTheOnTimer(property.edt);
+			case EPC_PRESOAKING_TIME_SETTING : return o.isValidPresoakingTimeSetting(property.edt);
+			case EPC_CURRENT_STAGE_OF_WASHER_AND_DRYER_CYCLE : return o.isValidCurrentStageOfWasherAndDryerCycle(property.edt);
+			case EPC_WATER_VOLUME_SETTING1 : return o.isValidWaterVolumeSetting1(property.edt);
+			case EPC_WATER_VOLUME_SETTING2 : return o.isValidWaterVolumeSetting2(property.edt);
+			case EPC_WASHING_TIME_SETTING : return o.isValidWashingTimeSetting(property.edt);
+			case EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING : return o.isValidNumberOfTimesOfRinsingSetting(property.edt);
+			case EPC_RINSING_PROCESS_SETTING : return o.isValidRinsingProcessSetting(property.edt);
+			case EPC_SPIN_DRYING_TIME_SETTING : return o.isValidSpinDryingTimeSetting(property.edt);
+			case EPC_DRYING_TIME_SETTING : return o.isValidDryingTimeSetting(property.edt);
+			case EPC_WARM_WATER_SETTING : return o.isValidWarmWaterSetting(property.edt);
+			case EPC_BATHTUB_WATER_RECYCLE_SETTING : return o.isValidBathtubWaterRecycleSetting(property.edt);
+			case EPC_WRINKLING_MINIMIZATION_SETTING : return o.isValidWrinklingMinimizationSetting(property.edt);
+			case EPC_TIME_REMAINING_TO_COMPLETE_WASHER_AND_DRYER_CYCLE : return o.isValidTimeRemainingToCompleteWasherAndDryerCycle(property.edt);
+			case EPC_DOOR_COVER_LOCK_SETTING : return o.isValidDoorCoverLockSetting(property.edt);
+			case EPC_WASHER_AND_DRYER_CYCLE : return o.isValidWasherAndDryerCycle(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.isValidOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.isValidOnTimerSetting(property.edt);
+			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return o.isValidRelativeTimeBasedOnTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_WASHER_AND_DRYER_SETTING : 
-				onSetWasherAndDryerSetting(eoj, tid, esv, property, success);
+				r.onSetWasherAndDryerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1 : 
-				onSetWasherAndDryerCycleSetting1Note1(eoj, tid, esv, property, success);
+				r.onSetWasherAndDryerCycleSetting1Note1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1 : 
-				onSetWasherAndDryerCycleSetting2Note1(eoj, tid, esv, property, success);
+				r.onSetWasherAndDryerCycleSetting2Note1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DRYING_CYCLE_SETTING_NOTE1 : 
-				onSetDryingCycleSettingNote1(eoj, tid, esv, property, success);
+				r.onSetDryingCycleSettingNote1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_FLOW_RATE_SETTING : 
-				onSetWaterFlowRateSetting(eoj, tid, esv, property, success);
+				r.onSetWaterFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING : 
-				onSetRotationSpeedForSpinDryingSetting(eoj, tid, esv, property, success);
+				r.onSetRotationSpeedForSpinDryingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DEGREE_OF_DRYING_SETTING : 
-				onSetDegreeOfDryingSetting(eoj, tid, esv, property, success);
+				r.onSetDegreeOfDryingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_PRESOAKING_TIME_SETTING : 
-				onSetPresoakingTimeSetting(eoj, tid, esv, property, success);
+				r.onSetPresoakingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_VOLUME_SETTING1 : 
-				onSetWaterVolumeSetting1(eoj, tid, esv, property, success);
+				r.onSetWaterVolumeSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_VOLUME_SETTING2 : 
-				onSetWaterVolumeSetting2(eoj, tid, esv, property, success);
+				r.onSetWaterVolumeSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHING_TIME_SETTING : 
-				onSetWashingTimeSetting(eoj, tid, esv, property, success);
+				r.onSetWashingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING : 
-				onSetNumberOfTimesOfRinsingSetting(eoj, tid, esv, property, success);
+				r.onSetNumberOfTimesOfRinsingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RINSING_PROCESS_SETTING : 
-				onSetRinsingProcessSetting(eoj, tid, esv, property, success);
+				r.onSetRinsingProcessSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPIN_DRYING_TIME_SETTING : 
-				onSetSpinDryingTimeSetting(eoj, tid, esv, property, success);
+				r.onSetSpinDryingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DRYING_TIME_SETTING : 
-				onSetDryingTimeSetting(eoj, tid, esv, property, success);
+				r.onSetDryingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WARM_WATER_SETTING : 
-				onSetWarmWaterSetting(eoj, tid, esv, property, success);
+				r.onSetWarmWaterSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATHTUB_WATER_RECYCLE_SETTING : 
-				onSetBathtubWaterRecycleSetting(eoj, tid, esv, property, success);
+				r.onSetBathtubWaterRecycleSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WRINKLING_MINIMIZATION_SETTING : 
-				onSetWrinklingMinimizationSetting(eoj, tid, esv, property, success);
+				r.onSetWrinklingMinimizationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DOOR_COVER_LOCK_SETTING : 
-				onSetDoorCoverLockSetting(eoj, tid, esv, property, success);
+				r.onSetDoorCoverLockSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onSetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : 
-				onSetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
+				r.onSetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -2936,112 +2894,160 @@ bytes<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : 
-				onGetDoorCoverOpenCloseStatus(eoj, tid, esv, property, success);
+				r.onGetDoorCoverOpenCloseStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHER_AND_DRYER_SETTING : 
-				onGetWasherAndDryerSetting(eoj, tid, esv, property, success);
+				r.onGetWasherAndDryerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1 : 
-				onGetWasherAndDryerCycleSetting1Note1(eoj, tid, esv, property, success);
+				r.onGetWasherAndDryerCycleSetting1Note1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1 : 
-				onGetWasherAndDryerCycleSetting2Note1(eoj, tid, esv, property, success);
+				r.onGetWasherAndDryerCycleSetting2Note1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DRYING_CYCLE_SETTING_NOTE1 : 
-				onGetDryingCycleSettingNote1(eoj, tid, esv, property, success);
+				r.onGetDryingCycleSettingNote1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST1 : 
-				onGetWasherAndDryerCycleOptionList1(eoj, tid, esv, property, success);
+				r.onGetWasherAndDryerCycleOptionList1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST2 : 
-				onGetWasherAndDryerCycleOptionList2(eoj, tid, esv, property, success);
+				r.onGetWasherAndDryerCycleOptionList2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST3 : 
-				onGetWasherAndDryerCycleOptionList3(eoj, tid, esv, property, success);
+				r.onGetWasherAndDryerCycleOptionList3(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_FLOW_RATE_SETTING : 
-				onGetWaterFlowRateSetting(eoj, tid, esv, property, success);
+				r.onGetWaterFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING : 
-				onGetRotationSpeedForSpinDryingSetting(eoj, tid, esv, property, success);
+				r.onGetRotationSpeedForSpinDryingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DEGREE_OF_DRYING_SETTING : 
-				onGetDegreeOfDryingSetting(eoj, tid, esv, property, success);
+				r.onGetDegreeOfDryingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_WASHING_TIME : 
-				onGetRemainingWashingTime(eoj, tid, esv, property, success);
+				r.onGetRemainingWashingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_DRYING_TIME : 
-				onGetRemainingDryingTime(eoj, tid, esv, property, success);
+				r.onGetRemainingDryingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ELAPSED_TIME_ON_THE_ON_TIMER : 
-				onGetElapsedTimeOnTheOnTimer(eoj, tid, esv, property, success);
+				r.onGetElapsedTimeOnTheOnTimer(eoj, tid, esv, property, success);
 				return true;
 			case EPC_PRESOAKING_TIME_SETTING : 
-				onGetPresoakingTimeSetting(eoj, tid, esv, property, success);
+				r.onGetPresoakingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CURRENT_STAGE_OF_WASHER_AND_DRYER_CYCLE : 
-				onGetCurrentStageOfWasherAndDryerCycle(eoj, tid, esv, property, success);
+				r.onGetCurrentStageOfWasherAndDryerCycle(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_VOLUME_SETTING1 : 
-				onGetWaterVolumeSetting1(eoj, tid, esv, property, success);
+				r.onGetWaterVolumeSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_VOLUME_SETTING2 : 
-				onGetWaterVolumeSetting2(eoj, tid, esv, property, success);
+				r.onGetWaterVolumeSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHING_TIME_SETTING : 
-				onGetWashingTimeSetting(eoj, tid, esv, property, success);
+				r.onGetWashingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING : 
-				onGetNumberOfTimesOfRinsingSetting(eoj, tid, esv, property, success);
+				r.onGetNumberOfTimesOfRinsingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RINSING_PROCESS_SETTING : 
-				onGetRinsingProcessSetting(eoj, tid, esv, property, success);
+				r.onGetRinsingProcessSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPIN_DRYING_TIME_SETTING : 
-				onGetSpinDryingTimeSetting(eoj, tid, esv, property, success);
+				r.onGetSpinDryingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DRYING_TIME_SETTING : 
-				onGetDryingTimeSetting(eoj, tid, esv, property, success);
+				r.onGetDryingTimeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WARM_WATER_SETTING : 
-				onGetWarmWaterSetting(eoj, tid, esv, property, success);
+				r.onGetWarmWaterSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATHTUB_WATER_RECYCLE_SETTING : 
-				onGetBathtubWaterRecycleSetting(eoj, tid, esv, property, success);
+				r.onGetBathtubWaterRecycleSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WRINKLING_MINIMIZATION_SETTING : 
-				onGetWrinklingMinimizationSetting(eoj, tid, esv, property, success);
+				r.onGetWrinklingMinimizationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TIME_REMAINING_TO_COMPLETE_WASHER_AND_DRYER_CYCLE : 
-				onGetTimeRemainingToCompleteWasherAndDryerCycle(eoj, tid, esv, property, success);
+				r.onGetTimeRemainingToCompleteWasherAndDryerCycle(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DOOR_COVER_LOCK_SETTING : 
-				onGetDoorCoverLockSetting(eoj, tid, esv, property, success);
+				r.onGetDoorCoverLockSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHER_AND_DRYER_CYCLE : 
-				onGetWasherAndDryerCycle(eoj, tid, esv, property, success);
+				r.onGetWasherAndDryerCycle(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onGetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : 
-				onGetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
+				r.onGetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(WasherAndDryer.class, sPropertyHandler
+				, new byte[] {EPC_DOOR_COVER_OPEN_CLOSE_STATUS, EPC_WASHER_AND_DRYER_SETTING, EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1, EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1, EPC_DRYING_CYCLE_SETTING_NOTE1, EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST1, EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST2, EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST3, EPC_WATER_FLOW_RATE_SETTING, EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING, EPC_DEGREE_OF_DRYING_SETTING, EPC_REMAINING_WASHING_TIME, EPC_REMAINING_DRYING_TIME, EPC_ELAPSED_TIME_ON_THE_ON_TIMER, EPC_PRESOAKING_TIME_SETTING, EPC_CURRENT_STAGE_OF_WASHER_AND_DRYER_CYCLE, EPC_WATER_VOLUME_SETTING1, EPC_WATER_VOLUME_SETTING2, EPC_WASHING_TIME_SETTING, EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING, EPC_RINSING_PROCESS_SETTING, EPC_SPIN_DRYING_TIME_SETTING, EPC_DRYING_TIME_SETTING, EPC_WARM_WATER_SETTING, EPC_BATHTUB_WATER_RECYCLE_SETTING, EPC_WRINKLING_MINIMIZATION_SETTING, EPC_TIME_REMAINING_TO_COMPLETE_WASHER_AND_DRYER_CYCLE, EPC_DOOR_COVER_LOCK_SETTING, EPC_WASHER_AND_DRYER_CYCLE, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+				, new byte[] {EPC_WASHER_AND_DRYER_SETTING, EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1, EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1, EPC_DRYING_CYCLE_SETTING_NOTE1, EPC_WATER_FLOW_RATE_SETTING, EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING, EPC_DEGREE_OF_DRYING_SETTING, EPC_PRESOAKING_TIME_SETTING, EPC_WATER_VOLUME_SETTING1, EPC_WATER_VOLUME_SETTING2, EPC_WASHING_TIME_SETTING, EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING, EPC_RINSING_PROCESS_SETTING, EPC_SPIN_DRYING_TIME_SETTING, EPC_DRYING_TIME_SETTING, EPC_WARM_WATER_SETTING, EPC_BATHTUB_WATER_RECYCLE_SETTING, EPC_WRINKLING_MINIMIZATION_SETTING, EPC_DOOR_COVER_LOCK_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+				, new byte[] {EPC_DOOR_COVER_OPEN_CLOSE_STATUS, EPC_WASHER_AND_DRYER_SETTING, EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1, EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1, EPC_DRYING_CYCLE_SETTING_NOTE1, EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST1, EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST2, EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST3, EPC_WATER_FLOW_RATE_SETTING, EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING, EPC_DEGREE_OF_DRYING_SETTING, EPC_REMAINING_WASHING_TIME, EPC_REMAINING_DRYING_TIME, EPC_ELAPSED_TIME_ON_THE_ON_TIMER, EPC_PRESOAKING_TIME_SETTING, EPC_CURRENT_STAGE_OF_WASHER_AND_DRYER_CYCLE, EPC_WATER_VOLUME_SETTING1, EPC_WATER_VOLUME_SETTING2, EPC_WASHING_TIME_SETTING, EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING, EPC_RINSING_PROCESS_SETTING, EPC_SPIN_DRYING_TIME_SETTING, EPC_DRYING_TIME_SETTING, EPC_WARM_WATER_SETTING, EPC_BATHTUB_WATER_RECYCLE_SETTING, EPC_WRINKLING_MINIMIZATION_SETTING, EPC_TIME_REMAINING_TO_COMPLETE_WASHER_AND_DRYER_CYCLE, EPC_DOOR_COVER_LOCK_SETTING, EPC_WASHER_AND_DRYER_CYCLE, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_WASHER_AND_DRYER_SETTING, EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1, EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1, EPC_DRYING_CYCLE_SETTING_NOTE1, EPC_WATER_FLOW_RATE_SETTING, EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING, EPC_DEGREE_OF_DRYING_SETTING, EPC_PRESOAKING_TIME_SETTING, EPC_WATER_VOLUME_SETTING1, EPC_WATER_VOLUME_SETTING2, EPC_WASHING_TIME_SETTING, EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING, EPC_RINSING_PROCESS_SETTING, EPC_SPIN_DRYING_TIME_SETTING, EPC_DRYING_TIME_SETTING, EPC_WARM_WATER_SETTING, EPC_BATHTUB_WATER_RECYCLE_SETTING, EPC_WRINKLING_MINIMIZATION_SETTING, EPC_DOOR_COVER_LOCK_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+					, new byte[] {EPC_DOOR_COVER_OPEN_CLOSE_STATUS, EPC_WASHER_AND_DRYER_SETTING, EPC_WASHER_AND_DRYER_CYCLE_SETTING1_NOTE1, EPC_WASHER_AND_DRYER_CYCLE_SETTING2_NOTE1, EPC_DRYING_CYCLE_SETTING_NOTE1, EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST1, EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST2, EPC_WASHER_AND_DRYER_CYCLE_OPTION_LIST3, EPC_WATER_FLOW_RATE_SETTING, EPC_ROTATION_SPEED_FOR_SPIN_DRYING_SETTING, EPC_DEGREE_OF_DRYING_SETTING, EPC_REMAINING_WASHING_TIME, EPC_REMAINING_DRYING_TIME, EPC_ELAPSED_TIME_ON_THE_ON_TIMER, EPC_PRESOAKING_TIME_SETTING, EPC_CURRENT_STAGE_OF_WASHER_AND_DRYER_CYCLE, EPC_WATER_VOLUME_SETTING1, EPC_WATER_VOLUME_SETTING2, EPC_WASHING_TIME_SETTING, EPC_NUMBER_OF_TIMES_OF_RINSING_SETTING, EPC_RINSING_PROCESS_SETTING, EPC_SPIN_DRYING_TIME_SETTING, EPC_DRYING_TIME_SETTING, EPC_WARM_WATER_SETTING, EPC_BATHTUB_WATER_RECYCLE_SETTING, EPC_WRINKLING_MINIMIZATION_SETTING, EPC_TIME_REMAINING_TO_COMPLETE_WASHER_AND_DRYER_CYCLE, EPC_DOOR_COVER_LOCK_SETTING, EPC_WASHER_AND_DRYER_CYCLE, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Door/cover open/close status<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -535,108 +536,65 @@ time-based ON timer setting<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_WASHING_MACHINE_SETTING : return setWashingMachineSetting(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return setOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return setOnTimerSetting(property.edt);
-		case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return setRelativeTimeBasedOnTimerSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return getDoorCoverOpenCloseStatus();
-		case EPC_WASHING_MACHINE_SETTING : return getWashingMachineSetting();
-		case EPC_CURRENT_STAGE_OF_WASHING_CYCLE : return getCurrentStageOfWashingCycle();
-		case EPC_TIME_REMAINING_TO_COMPLETE_WASHING_CYCLE : return getTimeRemainingToCompleteWashingCycle();
-		case EPC_ON_TIMER_RESERVATION_SETTING : return getOnTimerReservationSetting();
-		case EPC_ON_TIMER_SETTING : return getOnTimerSetting();
-		case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return getRelativeTimeBasedOnTimerSetting();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			WashingMachine o = (WashingMachine)eoj;
+			switch(property.epc) {
+			case EPC_WASHING_MACHINE_SETTING : return o.setWashingMachineSetting(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.setOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.setOnTimerSetting(property.edt);
+			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return o.setRelativeTimeBasedOnTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return isValidDoorCoverOpenCloseStatus(property.edt);
-		case EPC_WASHING_MACHINE_SETTING : return isValidWashingMachineSetting(property.edt);
-		case EPC_CURRENT_STAGE_OF_WASHING_CYCLE : return isValidCurrentStageOfWashingCycle(property.edt);
-		case EPC_TIME_REMAINING_TO_COMPLETE_WASHING_CYCLE : return isValidTimeRemainingToCompleteWashingCycle(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return isValidOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return isValidOnTimerSetting(property.edt);
-		case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return isValidRelativeTimeBasedOnTimerSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			WashingMachine o = (WashingMachine)eoj;
+			switch(epc) {
+			case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return o.getDoorCoverOpenCloseStatus();
+			case EPC_WASHING_MACHINE_SETTING : return o.getWashingMachineSetting();
+			case EPC_CURRENT_STAGE_OF_WASHING_CYCLE : return o.getCurrentStageOfWashingCycle();
+			case EPC_TIME_REMAINING_TO_COMPLETE_WASHING_CYCLE : return o.getTimeRemainingToCompleteWashingCycle();
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.getOnTimerReservationSetting();
+			case EPC_ON_TIMER_SETTING : return o.getOnTimerSetting();
+			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return o.getRelativeTimeBasedOnTimerSetting();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			WashingMachine o = (WashingMachine)eoj;
+			switch(property.epc) {
+			case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : return o.isValidDoorCoverOpenCloseStatus(property.edt);
+			case EPC_WASHING_MACHINE_SETTING : return o.isValidWashingMachineSetting(property.edt);
+			case EPC_CURRENT_STAGE_OF_WASHING_CYCLE : return o.isValidCurrentStageOfWashingCycle(property.edt);
+			case EPC_TIME_REMAINING_TO_COMPLETE_WASHING_CYCLE : return o.isValidTimeRemainingToCompleteWashingCycle(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.isValidOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.isValidOnTimerSetting(property.edt);
+			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : return o.isValidRelativeTimeBasedOnTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_WASHING_MACHINE_SETTING : 
-				onSetWashingMachineSetting(eoj, tid, esv, property, success);
+				r.onSetWashingMachineSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onSetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : 
-				onSetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
+				r.onSetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -644,37 +602,85 @@ time-based ON timer setting<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_DOOR_COVER_OPEN_CLOSE_STATUS : 
-				onGetDoorCoverOpenCloseStatus(eoj, tid, esv, property, success);
+				r.onGetDoorCoverOpenCloseStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WASHING_MACHINE_SETTING : 
-				onGetWashingMachineSetting(eoj, tid, esv, property, success);
+				r.onGetWashingMachineSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CURRENT_STAGE_OF_WASHING_CYCLE : 
-				onGetCurrentStageOfWashingCycle(eoj, tid, esv, property, success);
+				r.onGetCurrentStageOfWashingCycle(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TIME_REMAINING_TO_COMPLETE_WASHING_CYCLE : 
-				onGetTimeRemainingToCompleteWashingCycle(eoj, tid, esv, property, success);
+				r.onGetTimeRemainingToCompleteWashingCycle(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onGetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING : 
-				onGetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
+				r.onGetRelativeTimeBasedOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(WashingMachine.class, sPropertyHandler
+				, new byte[] {EPC_DOOR_COVER_OPEN_CLOSE_STATUS, EPC_WASHING_MACHINE_SETTING, EPC_CURRENT_STAGE_OF_WASHING_CYCLE, EPC_TIME_REMAINING_TO_COMPLETE_WASHING_CYCLE, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+				, new byte[] {EPC_WASHING_MACHINE_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+				, new byte[] {EPC_DOOR_COVER_OPEN_CLOSE_STATUS, EPC_WASHING_MACHINE_SETTING, EPC_CURRENT_STAGE_OF_WASHING_CYCLE, EPC_TIME_REMAINING_TO_COMPLETE_WASHING_CYCLE, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_WASHING_MACHINE_SETTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+					, new byte[] {EPC_DOOR_COVER_OPEN_CLOSE_STATUS, EPC_WASHING_MACHINE_SETTING, EPC_CURRENT_STAGE_OF_WASHING_CYCLE, EPC_TIME_REMAINING_TO_COMPLETE_WASHING_CYCLE, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_TIME_BASED_ON_TIMER_SETTING}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Door/cover open/close status<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -185,38 +186,49 @@ public abstract class Weighing extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			Weighing o = (Weighing)eoj;
+			switch(epc) {
+			case EPC_MEASURED_VALUE_OF_BODY_WEIGHT : return o.getMeasuredValueOfBodyWeight();
+			case EPC_MEASURED_VALUE_OF_BODY_FAT : return o.getMeasuredValueOfBodyFat();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_MEASURED_VALUE_OF_BODY_WEIGHT : return getMeasuredValueOfBodyWeight();
-		case EPC_MEASURED_VALUE_OF_BODY_FAT : return getMeasuredValueOfBodyFat();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			Weighing o = (Weighing)eoj;
+			switch(property.epc) {
+			case EPC_MEASURED_VALUE_OF_BODY_WEIGHT : return o.isValidMeasuredValueOfBodyWeight(property.edt);
+			case EPC_MEASURED_VALUE_OF_BODY_FAT : return o.isValidMeasuredValueOfBodyFat(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_MEASURED_VALUE_OF_BODY_WEIGHT : return isValidMeasuredValueOfBodyWeight(property.edt);
-		case EPC_MEASURED_VALUE_OF_BODY_FAT : return isValidMeasuredValueOfBodyFat(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_MEASURED_VALUE_OF_BODY_WEIGHT : 
+				r.onGetMeasuredValueOfBodyWeight(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MEASURED_VALUE_OF_BODY_FAT : 
+				r.onGetMeasuredValueOfBodyFat(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(Weighing.class, sPropertyHandler
+				, new byte[] {EPC_MEASURED_VALUE_OF_BODY_WEIGHT, EPC_MEASURED_VALUE_OF_BODY_FAT}
+				, new byte[] {}
+				, new byte[] {EPC_MEASURED_VALUE_OF_BODY_WEIGHT, EPC_MEASURED_VALUE_OF_BODY_FAT});
 	}
 
 	@Override
@@ -254,35 +266,11 @@ public abstract class Weighing extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_MEASURED_VALUE_OF_BODY_WEIGHT : 
-				onGetMeasuredValueOfBodyWeight(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MEASURED_VALUE_OF_BODY_FAT : 
-				onGetMeasuredValueOfBodyFat(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_MEASURED_VALUE_OF_BODY_WEIGHT, EPC_MEASURED_VALUE_OF_BODY_FAT}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -1439,174 +1440,131 @@ timer-based reservation” setting<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_OPERATION_SETTING : return setOperationSetting(property.edt);
-		case EPC_VENTILATION_OPERATION_SETTING : return setVentilationOperationSetting(property.edt);
-		case EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING : return setBathroomPreWarmerOperationSetting(property.edt);
-		case EPC_BATHROOM_HEATER_OPERATION_SETTING : return setBathroomHeaterOperationSetting(property.edt);
-		case EPC_BATHROOM_DRYER_OPERATION_SETTING : return setBathroomDryerOperationSetting(property.edt);
-		case EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING : return setCoolAirCirculatorOperationSetting(property.edt);
-		case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return setVentilationAirFlowRateSetting(property.edt);
-		case EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING : return setFilterCleaningReminderSignSetting(property.edt);
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING1 : return setOnTimerBasedReservationSetting1(property.edt);
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING2 : return setOnTimerBasedReservationSetting2(property.edt);
-		case EPC_ON_TIMER_SETTING_TIME : return setOnTimerSettingTime(property.edt);
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return setOnTimerSettingRelativeTime(property.edt);
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return setOffTimerBasedReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING_TIME : return setOffTimerSettingTime(property.edt);
-		case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return setOffTimerSettingRelativeTime(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_OPERATION_SETTING : return getOperationSetting();
-		case EPC_VENTILATION_OPERATION_SETTING : return getVentilationOperationSetting();
-		case EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING : return getBathroomPreWarmerOperationSetting();
-		case EPC_BATHROOM_HEATER_OPERATION_SETTING : return getBathroomHeaterOperationSetting();
-		case EPC_BATHROOM_DRYER_OPERATION_SETTING : return getBathroomDryerOperationSetting();
-		case EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING : return getCoolAirCirculatorOperationSetting();
-		case EPC_MEASURED_RELATIVE_BATHROOM_HUMIDITY : return getMeasuredRelativeBathroomHumidity();
-		case EPC_MEASURED_BATHROOM_TEMPERATURE : return getMeasuredBathroomTemperature();
-		case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return getVentilationAirFlowRateSetting();
-		case EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING : return getFilterCleaningReminderSignSetting();
-		case EPC_HUMAN_BODY_DETECTION_STATUS : return getHumanBodyDetectionStatus();
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING1 : return getOnTimerBasedReservationSetting1();
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING2 : return getOnTimerBasedReservationSetting2();
-		case EPC_ON_TIMER_SETTING_TIME : return getOnTimerSettingTime();
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return getOnTimerSettingRelativeTime();
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return getOffTimerBasedReservationSetting();
-		case EPC_OFF_TIMER_SETTING_TIME : return getOffTimerSettingTime();
-		case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return getOffTimerSettingRelativeTime();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			BathroomHeaterAndDryer o = (BathroomHeaterAndDryer)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_SETTING : return o.setOperationSetting(property.edt);
+			case EPC_VENTILATION_OPERATION_SETTING : return o.setVentilationOperationSetting(property.edt);
+			case EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING : return o.setBathroomPreWarmerOperationSetting(property.edt);
+			case EPC_BATHROOM_HEATER_OPERATION_SETTING : return o.setBathroomHeaterOperationSetting(property.edt);
+			case EPC_BATHROOM_DRYER_OPERATION_SETTING : return o.setBathroomDryerOperationSetting(property.edt);
+			case EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING : return o.setCoolAirCirculatorOperationSetting(property.edt);
+			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return o.setVentilationAirFlowRateSetting(property.edt);
+			case EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING : return o.setFilterCleaningReminderSignSetting(property.edt);
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING1 : return o.setOnTimerBasedReservationSetting1(property.edt);
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING2 : return o.setOnTimerBasedReservationSetting2(property.edt);
+			case EPC_ON_TIMER_SETTING_TIME : return o.setOnTimerSettingTime(property.edt);
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.setOnTimerSettingRelativeTime(property.edt);
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.setOffTimerBasedReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING_TIME : return o.setOffTimerSettingTime(property.edt);
+			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return o.setOffTimerSettingRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_OPERATION_SETTING : return isValidOperationSetting(property.edt);
-		case EPC_VENTILATION_OPERATION_SETTING : return isValidVentilationOperationSetting(property.edt);
-		case EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING : return isValidBathroomPreWarmerOperationSetting(property.edt);
-		case EPC_BATHROOM_HEATER_OPERATION_SETTING : return isValidBathroomHeaterOperationSetting(property.edt);
-		case EPC_BATHROOM_DRYER_OPERATION_SETTING : return isValidBathroomDryerOperationSetting(property.edt);
-		case EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING : return isValidCoolAirCirculatorOperationSetting(property.edt);
-		case EPC_MEASURED_RELATIVE_BATHROOM_HUMIDITY : return isValidMeasuredRelativeBathroomHumidity(property.edt);
-		case EPC_MEASURED_BATHROOM_TEMPERATURE : return isValidMeasuredBathroomTemperature(property.edt);
-		case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return isValidVentilationAirFlowRateSetting(property.edt);
-		case EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING : return isValidFilterCleaningReminderSignSetting(property.edt);
-		case EPC_HUMAN_BODY_DETECTION_STATUS : return isValidHumanBodyDetectionStatus(property.edt);
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING1 : return isValidOnTimerBasedReservationSetting1(property.edt);
-		case EPC_ON_TIMER_BASED_RESERVATION_SETTING2 : return isValidOnTimerBasedReservationSetting2(property.edt);
-		case EPC_ON_TIMER_SETTING_TIME : return isValidOnTimerSettingTime(property.edt);
-		case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return isValidOnTimerSettingRelativeTime(property.edt);
-		case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return isValidOffTimerBasedReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING_TIME : return isValidOffTimerSettingTime(property.edt);
-		case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return isValidOffTimerSettingRelativeTime(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			BathroomHeaterAndDryer o = (BathroomHeaterAndDryer)eoj;
+			switch(epc) {
+			case EPC_OPERATION_SETTING : return o.getOperationSetting();
+			case EPC_VENTILATION_OPERATION_SETTING : return o.getVentilationOperationSetting();
+			case EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING : return o.getBathroomPreWarmerOperationSetting();
+			case EPC_BATHROOM_HEATER_OPERATION_SETTING : return o.getBathroomHeaterOperationSetting();
+			case EPC_BATHROOM_DRYER_OPERATION_SETTING : return o.getBathroomDryerOperationSetting();
+			case EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING : return o.getCoolAirCirculatorOperationSetting();
+			case EPC_MEASURED_RELATIVE_BATHROOM_HUMIDITY : return o.getMeasuredRelativeBathroomHumidity();
+			case EPC_MEASURED_BATHROOM_TEMPERATURE : return o.getMeasuredBathroomTemperature();
+			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return o.getVentilationAirFlowRateSetting();
+			case EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING : return o.getFilterCleaningReminderSignSetting();
+			case EPC_HUMAN_BODY_DETECTION_STATUS : return o.getHumanBodyDetectionStatus();
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING1 : return o.getOnTimerBasedReservationSetting1();
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING2 : return o.getOnTimerBasedReservationSetting2();
+			case EPC_ON_TIMER_SETTING_TIME : return o.getOnTimerSettingTime();
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.getOnTimerSettingRelativeTime();
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.getOffTimerBasedReservationSetting();
+			case EPC_OFF_TIMER_SETTING_TIME : return o.getOffTimerSettingTime();
+			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return o.getOffTimerSettingRelativeTime();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			BathroomHeaterAndDryer o = (BathroomHeaterAndDryer)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_SETTING : return o.isValidOperationSetting(property.edt);
+			case EPC_VENTILATION_OPERATION_SETTING : return o.isValidVentilationOperationSetting(property.edt);
+			case EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING : return o.isValidBathroomPreWarmerOperationSetting(property.edt);
+			case EPC_BATHROOM_HEATER_OPERATION_SETTING : return o.isValidBathroomHeaterOperationSetting(property.edt);
+			case EPC_BATHROOM_DRYER_OPERATION_SETTING : return o.isValidBathroomDryerOperationSetting(property.edt);
+			case EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING : return o.isValidCoolAirCirculatorOperationSetting(property.edt);
+			case EPC_MEASURED_RELATIVE_BATHROOM_HUMIDITY : return o.isValidMeasuredRelativeBathroomHumidity(property.edt);
+			case EPC_MEASURED_BATHROOM_TEMPERATURE : return o.isValidMeasuredBathroomTemperature(property.edt);
+			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : return o.isValidVentilationAirFlowRateSetting(property.edt);
+			case EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING : return o.isValidFilterCleaningReminderSignSetting(property.edt);
+			case EPC_HUMAN_BODY_DETECTION_STATUS : return o.isValidHumanBodyDetectionStatus(property.edt);
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING1 : return o.isValidOnTimerBasedReservationSetting1(property.edt);
+			case EPC_ON_TIMER_BASED_RESERVATION_SETTING2 : return o.isValidOnTimerBasedReservationSetting2(property.edt);
+			case EPC_ON_TIMER_SETTING_TIME : return o.isValidOnTimerSettingTime(property.edt);
+			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : return o.isValidOnTimerSettingRelativeTime(property.edt);
+			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : return o.isValidOffTimerBasedReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING_TIME : return o.isValidOffTimerSettingTime(property.edt);
+			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : return o.isValidOffTimerSettingRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPERATION_SETTING : 
-				onSetOperationSetting(eoj, tid, esv, property, success);
+				r.onSetOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_OPERATION_SETTING : 
-				onSetVentilationOperationSetting(eoj, tid, esv, property, success);
+				r.onSetVentilationOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING : 
-				onSetBathroomPreWarmerOperationSetting(eoj, tid, esv, property, success);
+				r.onSetBathroomPreWarmerOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATHROOM_HEATER_OPERATION_SETTING : 
-				onSetBathroomHeaterOperationSetting(eoj, tid, esv, property, success);
+				r.onSetBathroomHeaterOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATHROOM_DRYER_OPERATION_SETTING : 
-				onSetBathroomDryerOperationSetting(eoj, tid, esv, property, success);
+				r.onSetBathroomDryerOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING : 
-				onSetCoolAirCirculatorOperationSetting(eoj, tid, esv, property, success);
+				r.onSetCoolAirCirculatorOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : 
-				onSetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onSetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING : 
-				onSetFilterCleaningReminderSignSetting(eoj, tid, esv, property, success);
+				r.onSetFilterCleaningReminderSignSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_BASED_RESERVATION_SETTING1 : 
-				onSetOnTimerBasedReservationSetting1(eoj, tid, esv, property, success);
+				r.onSetOnTimerBasedReservationSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_BASED_RESERVATION_SETTING2 : 
-				onSetOnTimerBasedReservationSetting2(eoj, tid, esv, property, success);
+				r.onSetOnTimerBasedReservationSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_TIME : 
-				onSetOnTimerSettingTime(eoj, tid, esv, property, success);
+				r.onSetOnTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : 
-				onSetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onSetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : 
-				onSetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_TIME : 
-				onSetOffTimerSettingTime(eoj, tid, esv, property, success);
+				r.onSetOffTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : 
-				onSetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onSetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1614,70 +1572,118 @@ timer-based reservation” setting<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPERATION_SETTING : 
-				onGetOperationSetting(eoj, tid, esv, property, success);
+				r.onGetOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_OPERATION_SETTING : 
-				onGetVentilationOperationSetting(eoj, tid, esv, property, success);
+				r.onGetVentilationOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING : 
-				onGetBathroomPreWarmerOperationSetting(eoj, tid, esv, property, success);
+				r.onGetBathroomPreWarmerOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATHROOM_HEATER_OPERATION_SETTING : 
-				onGetBathroomHeaterOperationSetting(eoj, tid, esv, property, success);
+				r.onGetBathroomHeaterOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATHROOM_DRYER_OPERATION_SETTING : 
-				onGetBathroomDryerOperationSetting(eoj, tid, esv, property, success);
+				r.onGetBathroomDryerOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING : 
-				onGetCoolAirCirculatorOperationSetting(eoj, tid, esv, property, success);
+				r.onGetCoolAirCirculatorOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_RELATIVE_BATHROOM_HUMIDITY : 
-				onGetMeasuredRelativeBathroomHumidity(eoj, tid, esv, property, success);
+				r.onGetMeasuredRelativeBathroomHumidity(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_BATHROOM_TEMPERATURE : 
-				onGetMeasuredBathroomTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredBathroomTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VENTILATION_AIR_FLOW_RATE_SETTING : 
-				onGetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
+				r.onGetVentilationAirFlowRateSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING : 
-				onGetFilterCleaningReminderSignSetting(eoj, tid, esv, property, success);
+				r.onGetFilterCleaningReminderSignSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HUMAN_BODY_DETECTION_STATUS : 
-				onGetHumanBodyDetectionStatus(eoj, tid, esv, property, success);
+				r.onGetHumanBodyDetectionStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_BASED_RESERVATION_SETTING1 : 
-				onGetOnTimerBasedReservationSetting1(eoj, tid, esv, property, success);
+				r.onGetOnTimerBasedReservationSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_BASED_RESERVATION_SETTING2 : 
-				onGetOnTimerBasedReservationSetting2(eoj, tid, esv, property, success);
+				r.onGetOnTimerBasedReservationSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_TIME : 
-				onGetOnTimerSettingTime(eoj, tid, esv, property, success);
+				r.onGetOnTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING_RELATIVE_TIME : 
-				onGetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onGetOnTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_BASED_RESERVATION_SETTING : 
-				onGetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOffTimerBasedReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_TIME : 
-				onGetOffTimerSettingTime(eoj, tid, esv, property, success);
+				r.onGetOffTimerSettingTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING_RELATIVE_TIME : 
-				onGetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
+				r.onGetOffTimerSettingRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(BathroomHeaterAndDryer.class, sPropertyHandler
+				, new byte[] {EPC_OPERATION_SETTING, EPC_VENTILATION_OPERATION_SETTING, EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING, EPC_BATHROOM_HEATER_OPERATION_SETTING, EPC_BATHROOM_DRYER_OPERATION_SETTING, EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING, EPC_MEASURED_RELATIVE_BATHROOM_HUMIDITY, EPC_MEASURED_BATHROOM_TEMPERATURE, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING, EPC_HUMAN_BODY_DETECTION_STATUS, EPC_ON_TIMER_BASED_RESERVATION_SETTING1, EPC_ON_TIMER_BASED_RESERVATION_SETTING2, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+				, new byte[] {EPC_OPERATION_SETTING, EPC_VENTILATION_OPERATION_SETTING, EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING, EPC_BATHROOM_HEATER_OPERATION_SETTING, EPC_BATHROOM_DRYER_OPERATION_SETTING, EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING1, EPC_ON_TIMER_BASED_RESERVATION_SETTING2, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+				, new byte[] {EPC_OPERATION_SETTING, EPC_VENTILATION_OPERATION_SETTING, EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING, EPC_BATHROOM_HEATER_OPERATION_SETTING, EPC_BATHROOM_DRYER_OPERATION_SETTING, EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING, EPC_MEASURED_RELATIVE_BATHROOM_HUMIDITY, EPC_MEASURED_BATHROOM_TEMPERATURE, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING, EPC_HUMAN_BODY_DETECTION_STATUS, EPC_ON_TIMER_BASED_RESERVATION_SETTING1, EPC_ON_TIMER_BASED_RESERVATION_SETTING2, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_OPERATION_SETTING, EPC_VENTILATION_OPERATION_SETTING, EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING, EPC_BATHROOM_HEATER_OPERATION_SETTING, EPC_BATHROOM_DRYER_OPERATION_SETTING, EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING, EPC_ON_TIMER_BASED_RESERVATION_SETTING1, EPC_ON_TIMER_BASED_RESERVATION_SETTING2, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+					, new byte[] {EPC_OPERATION_SETTING, EPC_VENTILATION_OPERATION_SETTING, EPC_BATHROOM_PRE_WARMER_OPERATION_SETTING, EPC_BATHROOM_HEATER_OPERATION_SETTING, EPC_BATHROOM_DRYER_OPERATION_SETTING, EPC_COOL_AIR_CIRCULATOR_OPERATION_SETTING, EPC_MEASURED_RELATIVE_BATHROOM_HUMIDITY, EPC_MEASURED_BATHROOM_TEMPERATURE, EPC_VENTILATION_AIR_FLOW_RATE_SETTING, EPC_FILTER_CLEANING_REMINDER_SIGN_SETTING, EPC_HUMAN_BODY_DETECTION_STATUS, EPC_ON_TIMER_BASED_RESERVATION_SETTING1, EPC_ON_TIMER_BASED_RESERVATION_SETTING2, EPC_ON_TIMER_SETTING_TIME, EPC_ON_TIMER_SETTING_RELATIVE_TIME, EPC_OFF_TIMER_BASED_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING_TIME, EPC_OFF_TIMER_SETTING_RELATIVE_TIME}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Operation setting<br>
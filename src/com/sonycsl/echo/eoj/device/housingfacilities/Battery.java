@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -2186,198 +2187,155 @@ Minimum/maxim um discharging power (Independent)<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : return setMeasuredCumulativeDischargeElectricEnergyResetSetting(property.edt);
-		case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : return setMeasuredCumulativeChargeElectricEnergyResetSetting(property.edt);
-		case EPC_OPERATION_MODE_SETTING : return setOperationModeSetting(property.edt);
-		case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1 : return setChargingDischarGingAmountSetting1(property.edt);
-		case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2 : return setChargingDischarGingAmountSetting2(property.edt);
-		case EPC_CHARGING_AMOUNT_SETTING1 : return setChargingAmountSetting1(property.edt);
-		case EPC_DISCHARGING_AMOUNT_SETTING1 : return setDischargingAmountSetting1(property.edt);
-		case EPC_CHARGING_AMOUNT_SETTING2 : return setChargingAmountSetting2(property.edt);
-		case EPC_DISCHARGING_AMOUNT_SETTING2 : return setDischargingAmountSetting2(property.edt);
-		case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return setChargeElectricEnergySetting(property.edt);
-		case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return setDischargeElectricEnergySetting(property.edt);
-		case EPC_CHARGE_CURRENT_SETTING : return setChargeCurrentSetting(property.edt);
-		case EPC_DISCHARGE_CURRENT_SETTING : return setDischargeCurrentSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_MINIMUM_MAXIM_UM_CHARGE_ELECTRIC_ENERGY : return getMinimumMaximUmChargeElectricEnergy();
-		case EPC_MINIMUM_MAXIM_UM_DISCHARGE_ELECTRIC_ENERGY : return getMinimumMaximUmDischargeElectricEnergy();
-		case EPC_MINIMUM_MAXIM_UM_CHARGE_CURRENT : return getMinimumMaximUmChargeCurrent();
-		case EPC_MINIMUM_MAXIM_UM_DISCHARGE_CURRENT : return getMinimumMaximUmDischargeCurrent();
-		case EPC_RATED_ELECTRIC_ENERGY : return getRatedElectricEnergy();
-		case EPC_RATED_CAPACITY : return getRatedCapacity();
-		case EPC_RATED_VOLTAGE : return getRatedVoltage();
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY : return getMeasuredInstantaneousChargeDischargeElectricEnergy();
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT : return getMeasuredInstantaneousChargeDischargeCurrent();
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE : return getMeasuredInstantaneousChargeDischargeVoltage();
-		case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY : return getMeasuredCumulativeDischargeElectricEnergy();
-		case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY : return getMeasuredCumulativeChargeElectricEnergy();
-		case EPC_OPERATION_MODE_SETTING : return getOperationModeSetting();
-		case EPC_SYSTEM_INTERCONN_ECTED_TYPE : return getSystemInterconnEctedType();
-		case EPC_MINIMUM_MAXIMUM_CHARGING_POWER_INDEPENDENT : return getMinimumMaximumChargingPowerIndependent();
-		case EPC_MINIMUM_MAXIM_UM_DISCHARGING_POWER_INDEPENDENT : return getMinimumMaximUmDischargingPowerIndependent();
-		case EPC_MINIMUM_MAXIM_UM_CHARGING_CURRENT_INDEPENDENT : return getMinimumMaximUmChargingCurrentIndependent();
-		case EPC_MINIMUM_MAXIM_UM_DISCHARGING_CURRENT_INDEPENDENT : return getMinimumMaximUmDischargingCurrentIndependent();
-		case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1 : return getChargingDischarGingAmountSetting1();
-		case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2 : return getChargingDischarGingAmountSetting2();
-		case EPC_REMAINING_STORED_ELECTRICITY1 : return getRemainingStoredElectricity1();
-		case EPC_REMAINING_STORED_ELECTRICITY2 : return getRemainingStoredElectricity2();
-		case EPC_REMAINING_STORED_ELECTRICITY3_BATTERY_STATE_OF_HEALTH : return getRemainingStoredElectricity3BatteryStateOfHealth();
-		case EPC_BATTERY_TYPE : return getBatteryType();
-		case EPC_CHARGING_AMOUNT_SETTING1 : return getChargingAmountSetting1();
-		case EPC_DISCHARGING_AMOUNT_SETTING1 : return getDischargingAmountSetting1();
-		case EPC_CHARGING_AMOUNT_SETTING2 : return getChargingAmountSetting2();
-		case EPC_DISCHARGING_AMOUNT_SETTING2 : return getDischargingAmountSetting2();
-		case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return getChargeElectricEnergySetting();
-		case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return getDischargeElectricEnergySetting();
-		case EPC_CHARGE_CURRENT_SETTING : return getChargeCurrentSetting();
-		case EPC_DISCHARGE_CURRENT_SETTING : return getDischargeCurrentSetting();
-		case EPC_RATED_VOLTAGE_INDEPENDENT : return getRatedVoltageIndependent();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			Battery o = (Battery)eoj;
+			switch(property.epc) {
+			case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : return o.setMeasuredCumulativeDischargeElectricEnergyResetSetting(property.edt);
+			case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : return o.setMeasuredCumulativeChargeElectricEnergyResetSetting(property.edt);
+			case EPC_OPERATION_MODE_SETTING : return o.setOperationModeSetting(property.edt);
+			case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1 : return o.setChargingDischarGingAmountSetting1(property.edt);
+			case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2 : return o.setChargingDischarGingAmountSetting2(property.edt);
+			case EPC_CHARGING_AMOUNT_SETTING1 : return o.setChargingAmountSetting1(property.edt);
+			case EPC_DISCHARGING_AMOUNT_SETTING1 : return o.setDischargingAmountSetting1(property.edt);
+			case EPC_CHARGING_AMOUNT_SETTING2 : return o.setChargingAmountSetting2(property.edt);
+			case EPC_DISCHARGING_AMOUNT_SETTING2 : return o.setDischargingAmountSetting2(property.edt);
+			case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return o.setChargeElectricEnergySetting(property.edt);
+			case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return o.setDischargeElectricEnergySetting(property.edt);
+			case EPC_CHARGE_CURRENT_SETTING : return o.setChargeCurrentSetting(property.edt);
+			case EPC_DISCHARGE_CURRENT_SETTING : return o.setDischargeCurrentSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_MINIMUM_MAXIM_UM_CHARGE_ELECTRIC_ENERGY : return isValidMinimumMaximUmChargeElectricEnergy(property.edt);
-		case EPC_MINIMUM_MAXIM_UM_DISCHARGE_ELECTRIC_ENERGY : return isValidMinimumMaximUmDischargeElectricEnergy(property.edt);
-		case EPC_MINIMUM_MAXIM_UM_CHARGE_CURRENT : return isValidMinimumMaximUmChargeCurrent(property.edt);
-		case EPC_MINIMUM_MAXIM_UM_DISCHARGE_CURRENT : return isValidMinimumMaximUmDischargeCurrent(property.edt);
-		case EPC_RATED_ELECTRIC_ENERGY : return isValidRatedElectricEnergy(property.edt);
-		case EPC_RATED_CAPACITY : return isValidRatedCapacity(property.edt);
-		case EPC_RATED_VOLTAGE : return isValidRatedVoltage(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY : return isValidMeasuredInstantaneousChargeDischargeElectricEnergy(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT : return isValidMeasuredInstantaneousChargeDischargeCurrent(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE : return isValidMeasuredInstantaneousChargeDischargeVoltage(property.edt);
-		case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY : return isValidMeasuredCumulativeDischargeElectricEnergy(property.edt);
-		case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : return isValidMeasuredCumulativeDischargeElectricEnergyResetSetting(property.edt);
-		case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY : return isValidMeasuredCumulativeChargeElectricEnergy(property.edt);
-		case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : return isValidMeasuredCumulativeChargeElectricEnergyResetSetting(property.edt);
-		case EPC_OPERATION_MODE_SETTING : return isValidOperationModeSetting(property.edt);
-		case EPC_SYSTEM_INTERCONN_ECTED_TYPE : return isValidSystemInterconnEctedType(property.edt);
-		case EPC_MINIMUM_MAXIMUM_CHARGING_POWER_INDEPENDENT : return isValidMinimumMaximumChargingPowerIndependent(property.edt);
-		case EPC_MINIMUM_MAXIM_UM_DISCHARGING_POWER_INDEPENDENT : return isValidMinimumMaximUmDischargingPowerIndependent(property.edt);
-		case EPC_MINIMUM_MAXIM_UM_CHARGING_CURRENT_INDEPENDENT : return isValidMinimumMaximUmChargingCurrentIndependent(property.edt);
-		case EPC_MINIMUM_MAXIM_UM_DISCHARGING_CURRENT_INDEPENDENT : return isValidMinimumMaximUmDischargingCurrentIndependent(property.edt);
-		case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1 : return isValidChargingDischarGingAmountSetting1(property.edt);
-		case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2 : return isValidChargingDischarGingAmountSetting2(property.edt);
-		case EPC_REMAINING_STORED_ELECTRICITY1 : return isValidRemainingStoredElectricity1(property.edt);
-		case EPC_REMAINING_STORED_ELECTRICITY2 : return isValidRemainingStoredElectricity2(property.edt);
-		case EPC_REMAINING_STORED_ELECTRICITY3_BATTERY_STATE_OF_HEALTH : return isValidRemainingStoredElectricity3BatteryStateOfHealth(property.edt);
-		case EPC_BATTERY_TYPE : return isValidBatteryType(property.edt);
-		case EPC_CHARGING_AMOUNT_SETTING1 : return isValidChargingAmountSetting1(property.edt);
-		case EPC_DISCHARGING_AMOUNT_SETTING1 : return isValidDischargingAmountSetting1(property.edt);
-		case EPC_CHARGING_AMOUNT_SETTING2 : return isValidChargingAmountSetting2(property.edt);
-		case EPC_DISCHARGING_AMOUNT_SETTING2 : return isValidDischargingAmountSetting2(property.edt);
-		case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return isValidChargeElectricEnergySetting(property.edt);
-		case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return isValidDischargeElectricEnergySetting(property.edt);
-		case EPC_CHARGE_CURRENT_SETTING : return isValidChargeCurrentSetting(property.edt);
-		case EPC_DISCHARGE_CURRENT_SETTING : return isValidDischargeCurrentSetting(property.edt);
-		case EPC_RATED_VOLTAGE_INDEPENDENT : return isValidRatedVoltageIndependent(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			Battery o = (Battery)eoj;
+			switch(epc) {
+			case EPC_MINIMUM_MAXIM_UM_CHARGE_ELECTRIC_ENERGY : return o.getMinimumMaximUmChargeElectricEnergy();
+			case EPC_MINIMUM_MAXIM_UM_DISCHARGE_ELECTRIC_ENERGY : return o.getMinimumMaximUmDischargeElectricEnergy();
+			case EPC_MINIMUM_MAXIM_UM_CHARGE_CURRENT : return o.getMinimumMaximUmChargeCurrent();
+			case EPC_MINIMUM_MAXIM_UM_DISCHARGE_CURRENT : return o.getMinimumMaximUmDischargeCurrent();
+			case EPC_RATED_ELECTRIC_ENERGY : return o.getRatedElectricEnergy();
+			case EPC_RATED_CAPACITY : return o.getRatedCapacity();
+			case EPC_RATED_VOLTAGE : return o.getRatedVoltage();
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY : return o.getMeasuredInstantaneousChargeDischargeElectricEnergy();
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT : return o.getMeasuredInstantaneousChargeDischargeCurrent();
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE : return o.getMeasuredInstantaneousChargeDischargeVoltage();
+			case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY : return o.getMeasuredCumulativeDischargeElectricEnergy();
+			case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY : return o.getMeasuredCumulativeChargeElectricEnergy();
+			case EPC_OPERATION_MODE_SETTING : return o.getOperationModeSetting();
+			case EPC_SYSTEM_INTERCONN_ECTED_TYPE : return o.getSystemInterconnEctedType();
+			case EPC_MINIMUM_MAXIMUM_CHARGING_POWER_INDEPENDENT : return o.getMinimumMaximumChargingPowerIndependent();
+			case EPC_MINIMUM_MAXIM_UM_DISCHARGING_POWER_INDEPENDENT : return o.getMinimumMaximUmDischargingPowerIndependent();
+			case EPC_MINIMUM_MAXIM_UM_CHARGING_CURRENT_INDEPENDENT : return o.getMinimumMaximUmChargingCurrentIndependent();
+			case EPC_MINIMUM_MAXIM_UM_DISCHARGING_CURRENT_INDEPENDENT : return o.getMinimumMaximUmDischargingCurrentIndependent();
+			case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1 : return o.getChargingDischarGingAmountSetting1();
+			case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2 : return o.getChargingDischarGingAmountSetting2();
+			case EPC_REMAINING_STORED_ELECTRICITY1 : return o.getRemainingStoredElectricity1();
+			case EPC_REMAINING_STORED_ELECTRICITY2 : return o.getRemainingStoredElectricity2();
+			case EPC_REMAINING_STORED_ELECTRICITY3_BATTERY_STATE_OF_HEALTH : return o.getRemainingStoredElectricity3BatteryStateOfHealth();
+			case EPC_BATTERY_TYPE : return o.getBatteryType();
+			case EPC_CHARGING_AMOUNT_SETTING1 : return o.getChargingAmountSetting1();
+			case EPC_DISCHARGING_AMOUNT_SETTING1 : return o.getDischargingAmountSetting1();
+			case EPC_CHARGING_AMOUNT_SETTING2 : return o.getChargingAmountSetting2();
+			case EPC_DISCHARGING_AMOUNT_SETTING2 : return o.getDischargingAmountSetting2();
+			case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return o.getChargeElectricEnergySetting();
+			case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return o.getDischargeElectricEnergySetting();
+			case EPC_CHARGE_CURRENT_SETTING : return o.getChargeCurrentSetting();
+			case EPC_DISCHARGE_CURRENT_SETTING : return o.getDischargeCurrentSetting();
+			case EPC_RATED_VOLTAGE_INDEPENDENT : return o.getRatedVoltageIndependent();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			Battery o = (Battery)eoj;
+			switch(property.epc) {
+			case EPC_MINIMUM_MAXIM_UM_CHARGE_ELECTRIC_ENERGY : return o.isValidMinimumMaximUmChargeElectricEnergy(property.edt);
+			case EPC_MINIMUM_MAXIM_UM_DISCHARGE_ELECTRIC_ENERGY : return o.isValidMinimumMaximUmDischargeElectricEnergy(property.edt);
+			case EPC_MINIMUM_MAXIM_UM_CHARGE_CURRENT : return o.isValidMinimumMaximUmChargeCurrent(property.edt);
+			case EPC_MINIMUM_MAXIM_UM_DISCHARGE_CURRENT : return o.isValidMinimumMaximUmDischargeCurrent(property.edt);
+			case EPC_RATED_ELECTRIC_ENERGY : return o.isValidRatedElectricEnergy(property.edt);
+			case EPC_RATED_CAPACITY : return o.isValidRatedCapacity(property.edt);
+			case EPC_RATED_VOLTAGE : return o.isValidRatedVoltage(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY : return o.isValidMeasuredInstantaneousChargeDischargeElectricEnergy(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT : return o.isValidMeasuredInstantaneousChargeDischargeCurrent(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE : return o.isValidMeasuredInstantaneousChargeDischargeVoltage(property.edt);
+			case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY : return o.isValidMeasuredCumulativeDischargeElectricEnergy(property.edt);
+			case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : return o.isValidMeasuredCumulativeDischargeElectricEnergyResetSetting(property.edt);
+			case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY : return o.isValidMeasuredCumulativeChargeElectricEnergy(property.edt);
+			case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : return o.isValidMeasuredCumulativeChargeElectricEnergyResetSetting(property.edt);
+			case EPC_OPERATION_MODE_SETTING : return o.isValidOperationModeSetting(property.edt);
+			case EPC_SYSTEM_INTERCONN_ECTED_TYPE : return o.isValidSystemInterconnEctedType(property.edt);
+			case EPC_MINIMUM_MAXIMUM_CHARGING_POWER_INDEPENDENT : return o.isValidMinimumMaximumChargingPowerIndependent(property.edt);
+			case EPC_MINIMUM_MAXIM_UM_DISCHARGING_POWER_INDEPENDENT : return o.isValidMinimumMaximUmDischargingPowerIndependent(property.edt);
+			case EPC_MINIMUM_MAXIM_UM_CHARGING_CURRENT_INDEPENDENT : return o.isValidMinimumMaximUmChargingCurrentIndependent(property.edt);
+			case EPC_MINIMUM_MAXIM_UM_DISCHARGING_CURRENT_INDEPENDENT : return o.isValidMinimumMaximUmDischargingCurrentIndependent(property.edt);
+			case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1 : return o.isValidChargingDischarGingAmountSetting1(property.edt);
+			case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2 : return o.isValidChargingDischarGingAmountSetting2(property.edt);
+			case EPC_REMAINING_STORED_ELECTRICITY1 : return o.isValidRemainingStoredElectricity1(property.edt);
+			case EPC_REMAINING_STORED_ELECTRICITY2 : return o.isValidRemainingStoredElectricity2(property.edt);
+			case EPC_REMAINING_STORED_ELECTRICITY3_BATTERY_STATE_OF_HEALTH : return o.isValidRemainingStoredElectricity3BatteryStateOfHealth(property.edt);
+			case EPC_BATTERY_TYPE : return o.isValidBatteryType(property.edt);
+			case EPC_CHARGING_AMOUNT_SETTING1 : return o.isValidChargingAmountSetting1(property.edt);
+			case EPC_DISCHARGING_AMOUNT_SETTING1 : return o.isValidDischargingAmountSetting1(property.edt);
+			case EPC_CHARGING_AMOUNT_SETTING2 : return o.isValidChargingAmountSetting2(property.edt);
+			case EPC_DISCHARGING_AMOUNT_SETTING2 : return o.isValidDischargingAmountSetting2(property.edt);
+			case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return o.isValidChargeElectricEnergySetting(property.edt);
+			case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return o.isValidDischargeElectricEnergySetting(property.edt);
+			case EPC_CHARGE_CURRENT_SETTING : return o.isValidChargeCurrentSetting(property.edt);
+			case EPC_DISCHARGE_CURRENT_SETTING : return o.isValidDischargeCurrentSetting(property.edt);
+			case EPC_RATED_VOLTAGE_INDEPENDENT : return o.isValidRatedVoltageIndependent(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : 
-				onSetMeasuredCumulativeDischargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
+				r.onSetMeasuredCumulativeDischargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : 
-				onSetMeasuredCumulativeChargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
+				r.onSetMeasuredCumulativeChargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OPERATION_MODE_SETTING : 
-				onSetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onSetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1 : 
-				onSetChargingDischarGingAmountSetting1(eoj, tid, esv, property, success);
+				r.onSetChargingDischarGingAmountSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2 : 
-				onSetChargingDischarGingAmountSetting2(eoj, tid, esv, property, success);
+				r.onSetChargingDischarGingAmountSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_AMOUNT_SETTING1 : 
-				onSetChargingAmountSetting1(eoj, tid, esv, property, success);
+				r.onSetChargingAmountSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGING_AMOUNT_SETTING1 : 
-				onSetDischargingAmountSetting1(eoj, tid, esv, property, success);
+				r.onSetDischargingAmountSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_AMOUNT_SETTING2 : 
-				onSetChargingAmountSetting2(eoj, tid, esv, property, success);
+				r.onSetChargingAmountSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGING_AMOUNT_SETTING2 : 
-				onSetDischargingAmountSetting2(eoj, tid, esv, property, success);
+				r.onSetDischargingAmountSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : 
-				onSetChargeElectricEnergySetting(eoj, tid, esv, property, success);
+				r.onSetChargeElectricEnergySetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : 
-				onSetDischargeElectricEnergySetting(eoj, tid, esv, property, success);
+				r.onSetDischargeElectricEnergySetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGE_CURRENT_SETTING : 
-				onSetChargeCurrentSetting(eoj, tid, esv, property, success);
+				r.onSetChargeCurrentSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGE_CURRENT_SETTING : 
-				onSetDischargeCurrentSetting(eoj, tid, esv, property, success);
+				r.onSetDischargeCurrentSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -2385,115 +2343,163 @@ Minimum/maxim um discharging power (Independent)<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_MINIMUM_MAXIM_UM_CHARGE_ELECTRIC_ENERGY : 
-				onGetMinimumMaximUmChargeElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximUmChargeElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIM_UM_DISCHARGE_ELECTRIC_ENERGY : 
-				onGetMinimumMaximUmDischargeElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximUmDischargeElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIM_UM_CHARGE_CURRENT : 
-				onGetMinimumMaximUmChargeCurrent(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximUmChargeCurrent(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIM_UM_DISCHARGE_CURRENT : 
-				onGetMinimumMaximUmDischargeCurrent(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximUmDischargeCurrent(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_ELECTRIC_ENERGY : 
-				onGetRatedElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetRatedElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_CAPACITY : 
-				onGetRatedCapacity(eoj, tid, esv, property, success);
+				r.onGetRatedCapacity(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_VOLTAGE : 
-				onGetRatedVoltage(eoj, tid, esv, property, success);
+				r.onGetRatedVoltage(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY : 
-				onGetMeasuredInstantaneousChargeDischargeElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousChargeDischargeElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT : 
-				onGetMeasuredInstantaneousChargeDischargeCurrent(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousChargeDischargeCurrent(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE : 
-				onGetMeasuredInstantaneousChargeDischargeVoltage(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousChargeDischargeVoltage(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY : 
-				onGetMeasuredCumulativeDischargeElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeDischargeElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY : 
-				onGetMeasuredCumulativeChargeElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeChargeElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OPERATION_MODE_SETTING : 
-				onGetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onGetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SYSTEM_INTERCONN_ECTED_TYPE : 
-				onGetSystemInterconnEctedType(eoj, tid, esv, property, success);
+				r.onGetSystemInterconnEctedType(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIMUM_CHARGING_POWER_INDEPENDENT : 
-				onGetMinimumMaximumChargingPowerIndependent(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximumChargingPowerIndependent(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIM_UM_DISCHARGING_POWER_INDEPENDENT : 
-				onGetMinimumMaximUmDischargingPowerIndependent(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximUmDischargingPowerIndependent(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIM_UM_CHARGING_CURRENT_INDEPENDENT : 
-				onGetMinimumMaximUmChargingCurrentIndependent(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximUmChargingCurrentIndependent(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIM_UM_DISCHARGING_CURRENT_INDEPENDENT : 
-				onGetMinimumMaximUmDischargingCurrentIndependent(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximUmDischargingCurrentIndependent(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1 : 
-				onGetChargingDischarGingAmountSetting1(eoj, tid, esv, property, success);
+				r.onGetChargingDischarGingAmountSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2 : 
-				onGetChargingDischarGingAmountSetting2(eoj, tid, esv, property, success);
+				r.onGetChargingDischarGingAmountSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_STORED_ELECTRICITY1 : 
-				onGetRemainingStoredElectricity1(eoj, tid, esv, property, success);
+				r.onGetRemainingStoredElectricity1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_STORED_ELECTRICITY2 : 
-				onGetRemainingStoredElectricity2(eoj, tid, esv, property, success);
+				r.onGetRemainingStoredElectricity2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_STORED_ELECTRICITY3_BATTERY_STATE_OF_HEALTH : 
-				onGetRemainingStoredElectricity3BatteryStateOfHealth(eoj, tid, esv, property, success);
+				r.onGetRemainingStoredElectricity3BatteryStateOfHealth(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATTERY_TYPE : 
-				onGetBatteryType(eoj, tid, esv, property, success);
+				r.onGetBatteryType(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_AMOUNT_SETTING1 : 
-				onGetChargingAmountSetting1(eoj, tid, esv, property, success);
+				r.onGetChargingAmountSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGING_AMOUNT_SETTING1 : 
-				onGetDischargingAmountSetting1(eoj, tid, esv, property, success);
+				r.onGetDischargingAmountSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_AMOUNT_SETTING2 : 
-				onGetChargingAmountSetting2(eoj, tid, esv, property, success);
+				r.onGetChargingAmountSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGING_AMOUNT_SETTING2 : 
-				onGetDischargingAmountSetting2(eoj, tid, esv, property, success);
+				r.onGetDischargingAmountSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : 
-				onGetChargeElectricEnergySetting(eoj, tid, esv, property, success);
+				r.onGetChargeElectricEnergySetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : 
-				onGetDischargeElectricEnergySetting(eoj, tid, esv, property, success);
+				r.onGetDischargeElectricEnergySetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGE_CURRENT_SETTING : 
-				onGetChargeCurrentSetting(eoj, tid, esv, property, success);
+				r.onGetChargeCurrentSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGE_CURRENT_SETTING : 
-				onGetDischargeCurrentSetting(eoj, tid, esv, property, success);
+				r.onGetDischargeCurrentSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_VOLTAGE_INDEPENDENT : 
-				onGetRatedVoltageIndependent(eoj, tid, esv, property, success);
+				r.onGetRatedVoltageIndependent(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(Battery.class, sPropertyHandler
+				, new byte[] {EPC_MINIMUM_MAXIM_UM_CHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIM_UM_DISCHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIM_UM_CHARGE_CURRENT, EPC_MINIMUM_MAXIM_UM_DISCHARGE_CURRENT, EPC_RATED_ELECTRIC_ENERGY, EPC_RATED_CAPACITY, EPC_RATED_VOLTAGE, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE, EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY, EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY, EPC_OPERATION_MODE_SETTING, EPC_SYSTEM_INTERCONN_ECTED_TYPE, EPC_MINIMUM_MAXIMUM_CHARGING_POWER_INDEPENDENT, EPC_MINIMUM_MAXIM_UM_DISCHARGING_POWER_INDEPENDENT, EPC_MINIMUM_MAXIM_UM_CHARGING_CURRENT_INDEPENDENT, EPC_MINIMUM_MAXIM_UM_DISCHARGING_CURRENT_INDEPENDENT, EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1, EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2, EPC_REMAINING_STORED_ELECTRICITY1, EPC_REMAINING_STORED_ELECTRICITY2, EPC_REMAINING_STORED_ELECTRICITY3_BATTERY_STATE_OF_HEALTH, EPC_BATTERY_TYPE, EPC_CHARGING_AMOUNT_SETTING1, EPC_DISCHARGING_AMOUNT_SETTING1, EPC_CHARGING_AMOUNT_SETTING2, EPC_DISCHARGING_AMOUNT_SETTING2, EPC_CHARGE_ELECTRIC_ENERGY_SETTING, EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING, EPC_CHARGE_CURRENT_SETTING, EPC_DISCHARGE_CURRENT_SETTING, EPC_RATED_VOLTAGE_INDEPENDENT}
+				, new byte[] {EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_OPERATION_MODE_SETTING, EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1, EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2, EPC_CHARGING_AMOUNT_SETTING1, EPC_DISCHARGING_AMOUNT_SETTING1, EPC_CHARGING_AMOUNT_SETTING2, EPC_DISCHARGING_AMOUNT_SETTING2, EPC_CHARGE_ELECTRIC_ENERGY_SETTING, EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING, EPC_CHARGE_CURRENT_SETTING, EPC_DISCHARGE_CURRENT_SETTING}
+				, new byte[] {EPC_MINIMUM_MAXIM_UM_CHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIM_UM_DISCHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIM_UM_CHARGE_CURRENT, EPC_MINIMUM_MAXIM_UM_DISCHARGE_CURRENT, EPC_RATED_ELECTRIC_ENERGY, EPC_RATED_CAPACITY, EPC_RATED_VOLTAGE, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE, EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY, EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY, EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_OPERATION_MODE_SETTING, EPC_SYSTEM_INTERCONN_ECTED_TYPE, EPC_MINIMUM_MAXIMUM_CHARGING_POWER_INDEPENDENT, EPC_MINIMUM_MAXIM_UM_DISCHARGING_POWER_INDEPENDENT, EPC_MINIMUM_MAXIM_UM_CHARGING_CURRENT_INDEPENDENT, EPC_MINIMUM_MAXIM_UM_DISCHARGING_CURRENT_INDEPENDENT, EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1, EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2, EPC_REMAINING_STORED_ELECTRICITY1, EPC_REMAINING_STORED_ELECTRICITY2, EPC_REMAINING_STORED_ELECTRICITY3_BATTERY_STATE_OF_HEALTH, EPC_BATTERY_TYPE, EPC_CHARGING_AMOUNT_SETTING1, EPC_DISCHARGING_AMOUNT_SETTING1, EPC_CHARGING_AMOUNT_SETTING2, EPC_DISCHARGING_AMOUNT_SETTING2, EPC_CHARGE_ELECTRIC_ENERGY_SETTING, EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING, EPC_CHARGE_CURRENT_SETTING, EPC_DISCHARGE_CURRENT_SETTING, EPC_RATED_VOLTAGE_INDEPENDENT});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_OPERATION_MODE_SETTING, EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1, EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2, EPC_CHARGING_AMOUNT_SETTING1, EPC_DISCHARGING_AMOUNT_SETTING1, EPC_CHARGING_AMOUNT_SETTING2, EPC_DISCHARGING_AMOUNT_SETTING2, EPC_CHARGE_ELECTRIC_ENERGY_SETTING, EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING, EPC_CHARGE_CURRENT_SETTING, EPC_DISCHARGE_CURRENT_SETTING}
+					, new byte[] {EPC_MINIMUM_MAXIM_UM_CHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIM_UM_DISCHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIM_UM_CHARGE_CURRENT, EPC_MINIMUM_MAXIM_UM_DISCHARGE_CURRENT, EPC_RATED_ELECTRIC_ENERGY, EPC_RATED_CAPACITY, EPC_RATED_VOLTAGE, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE, EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY, EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY, EPC_OPERATION_MODE_SETTING, EPC_SYSTEM_INTERCONN_ECTED_TYPE, EPC_MINIMUM_MAXIMUM_CHARGING_POWER_INDEPENDENT, EPC_MINIMUM_MAXIM_UM_DISCHARGING_POWER_INDEPENDENT, EPC_MINIMUM_MAXIM_UM_CHARGING_CURRENT_INDEPENDENT, EPC_MINIMUM_MAXIM_UM_DISCHARGING_CURRENT_INDEPENDENT, EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING1, EPC_CHARGING_DISCHAR_GING_AMOUNT_SETTING2, EPC_REMAINING_STORED_ELECTRICITY1, EPC_REMAINING_STORED_ELECTRICITY2, EPC_REMAINING_STORED_ELECTRICITY3_BATTERY_STATE_OF_HEALTH, EPC_BATTERY_TYPE, EPC_CHARGING_AMOUNT_SETTING1, EPC_DISCHARGING_AMOUNT_SETTING1, EPC_CHARGING_AMOUNT_SETTING2, EPC_DISCHARGING_AMOUNT_SETTING2, EPC_CHARGE_ELECTRIC_ENERGY_SETTING, EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING, EPC_CHARGE_CURRENT_SETTING, EPC_DISCHARGE_CURRENT_SETTING, EPC_RATED_VOLTAGE_INDEPENDENT}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Minimum/maxim um charge electric energy<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -230,40 +231,75 @@ public abstract class Buzzer extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			Buzzer o = (Buzzer)eoj;
+			switch(property.epc) {
+			case EPC_SOUND_GENERATION_SETTING : return o.setSoundGenerationSetting(property.edt);
+			case EPC_BUZZER_SOUND_TYPE : return o.setBuzzerSoundType(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_SOUND_GENERATION_SETTING : return setSoundGenerationSetting(property.edt);
-		case EPC_BUZZER_SOUND_TYPE : return setBuzzerSoundType(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			Buzzer o = (Buzzer)eoj;
+			switch(epc) {
+			case EPC_SOUND_GENERATION_SETTING : return o.getSoundGenerationSetting();
+			case EPC_BUZZER_SOUND_TYPE : return o.getBuzzerSoundType();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_SOUND_GENERATION_SETTING : return getSoundGenerationSetting();
-		case EPC_BUZZER_SOUND_TYPE : return getBuzzerSoundType();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			Buzzer o = (Buzzer)eoj;
+			switch(property.epc) {
+			case EPC_SOUND_GENERATION_SETTING : return o.isValidSoundGenerationSetting(property.edt);
+			case EPC_BUZZER_SOUND_TYPE : return o.isValidBuzzerSoundType(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_SOUND_GENERATION_SETTING : return isValidSoundGenerationSetting(property.edt);
-		case EPC_BUZZER_SOUND_TYPE : return isValidBuzzerSoundType(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_SOUND_GENERATION_SETTING : 
+				r.onSetSoundGenerationSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_BUZZER_SOUND_TYPE : 
+				r.onSetBuzzerSoundType(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_SOUND_GENERATION_SETTING : 
+				r.onGetSoundGenerationSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_BUZZER_SOUND_TYPE : 
+				r.onGetBuzzerSoundType(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(Buzzer.class, sPropertyHandler
+				, new byte[] {EPC_SOUND_GENERATION_SETTING, EPC_BUZZER_SOUND_TYPE}
+				, new byte[] {EPC_SOUND_GENERATION_SETTING, EPC_BUZZER_SOUND_TYPE}
+				, new byte[] {EPC_SOUND_GENERATION_SETTING, EPC_BUZZER_SOUND_TYPE});
 	}
 
 	@Override
@@ -301,41 +337,11 @@ public abstract class Buzzer extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_SOUND_GENERATION_SETTING : 
-				onSetSoundGenerationSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_BUZZER_SOUND_TYPE : 
-				onSetBuzzerSoundType(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_SOUND_GENERATION_SETTING : 
-				onGetSoundGenerationSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_BUZZER_SOUND_TYPE : 
-				onGetBuzzerSoundType(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_SOUND_GENERATION_SETTING, EPC_BUZZER_SOUND_TYPE}
+					, new byte[] {EPC_SOUND_GENERATION_SETTING, EPC_BUZZER_SOUND_TYPE}
+					, new byte[] {});
 		}
 		
 		/**
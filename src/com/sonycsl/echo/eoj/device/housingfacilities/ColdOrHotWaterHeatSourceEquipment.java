@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -1229,160 +1230,117 @@ bytes<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_OPERATION_MODE_SETTING : return setOperationModeSetting(property.edt);
-		case EPC_WATER_TEMPERATURE_SETTING1 : return setWaterTemperatureSetting1(property.edt);
-		case EPC_WATER_TEMPERATURE_SETTING2 : return setWaterTemperatureSetting2(property.edt);
-		case EPC_SPECIAL_OPERATION_SETTING : return setSpecialOperationSetting(property.edt);
-		case EPC_DAILY_TIMER_SETTING : return setDailyTimerSetting(property.edt);
-		case EPC_DAILY_TIMER_SETTING1 : return setDailyTimerSetting1(property.edt);
-		case EPC_DAILY_TIMER_SETTING2 : return setDailyTimerSetting2(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return setOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return setOnTimerSetting(property.edt);
-		case EPC_RELATIVE_ON_TIMER_SETTING : return setRelativeOnTimerSetting(property.edt);
-		case EPC_OFF_TIMER_RESERVATION_SETTING : return setOffTimerReservationSetting(property.edt);
-		case EPC_TIME_SET_BY_OFF_TIMER : return setTimeSetByOffTimer(property.edt);
-		case EPC_RELATIVE_OFF_TIMER_SETTING : return setRelativeOffTimerSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_OPERATION_MODE_SETTING : return getOperationModeSetting();
-		case EPC_WATER_TEMPERATURE_SETTING1 : return getWaterTemperatureSetting1();
-		case EPC_WATER_TEMPERATURE_SETTING2 : return getWaterTemperatureSetting2();
-		case EPC_MEASURED_TEMPERATURE_OF_OUTWARD_WATER_EXIT_WATER_TEMPERATURE : return getMeasuredTemperatureOfOutwardWaterExitWaterTemperature();
-		case EPC_MEASURED_TEMPERATURE_OF_INWARD_WATER_ENTRANCE_WATER_TEMPERATURE : return getMeasuredTemperatureOfInwardWaterEntranceWaterTemperature();
-		case EPC_SPECIAL_OPERATION_SETTING : return getSpecialOperationSetting();
-		case EPC_DAILY_TIMER_SETTING : return getDailyTimerSetting();
-		case EPC_DAILY_TIMER_SETTING1 : return getDailyTimerSetting1();
-		case EPC_DAILY_TIMER_SETTING2 : return getDailyTimerSetting2();
-		case EPC_ON_TIMER_RESERVATION_SETTING : return getOnTimerReservationSetting();
-		case EPC_ON_TIMER_SETTING : return getOnTimerSetting();
-		case EPC_RELATIVE_ON_TIMER_SETTING : return getRelativeOnTimerSetting();
-		case EPC_OFF_TIMER_RESERVATION_SETTING : return getOffTimerReservationSetting();
-		case EPC_TIME_SET_BY_OFF_TIMER : return getTimeSetByOffTimer();
-		case EPC_RELATIVE_OFF_TIMER_SETTING : return getRelativeOffTimerSetting();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			ColdOrHotWaterHeatSourceEquipment o = (ColdOrHotWaterHeatSourceEquipment)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.setOperationModeSetting(property.edt);
+			case EPC_WATER_TEMPERATURE_SETTING1 : return o.setWaterTemperatureSetting1(property.edt);
+			case EPC_WATER_TEMPERATURE_SETTING2 : return o.setWaterTemperatureSetting2(property.edt);
+			case EPC_SPECIAL_OPERATION_SETTING : return o.setSpecialOperationSetting(property.edt);
+			case EPC_DAILY_TIMER_SETTING : return o.setDailyTimerSetting(property.edt);
+			case EPC_DAILY_TIMER_SETTING1 : return o.setDailyTimerSetting1(property.edt);
+			case EPC_DAILY_TIMER_SETTING2 : return o.setDailyTimerSetting2(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.setOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.setOnTimerSetting(property.edt);
+			case EPC_RELATIVE_ON_TIMER_SETTING : return o.setRelativeOnTimerSetting(property.edt);
+			case EPC_OFF_TIMER_RESERVATION_SETTING : return o.setOffTimerReservationSetting(property.edt);
+			case EPC_TIME_SET_BY_OFF_TIMER : return o.setTimeSetByOffTimer(property.edt);
+			case EPC_RELATIVE_OFF_TIMER_SETTING : return o.setRelativeOffTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_OPERATION_MODE_SETTING : return isValidOperationModeSetting(property.edt);
-		case EPC_WATER_TEMPERATURE_SETTING1 : return isValidWaterTemperatureSetting1(property.edt);
-		case EPC_WATER_TEMPERATURE_SETTING2 : return isValidWaterTemperatureSetting2(property.edt);
-		case EPC_MEASURED_TEMPERATURE_OF_OUTWARD_WATER_EXIT_WATER_TEMPERATURE : return isValidMeasuredTemperatureOfOutwardWaterExitWaterTemperature(property.edt);
-		case EPC_MEASURED_TEMPERATURE_OF_INWARD_WATER_ENTRANCE_WATER_TEMPERATURE : return isValidMeasuredTemperatureOfInwardWaterEntranceWaterTemperature(property.edt);
-		case EPC_SPECIAL_OPERATION_SETTING : return isValidSpecialOperationSetting(property.edt);
-		case EPC_DAILY_TIMER_SETTING : return isValidDailyTimerSetting(property.edt);
-		case EPC_DAILY_TIMER_SETTING1 : return isValidDailyTimerSetting1(property.edt);
-		case EPC_DAILY_TIMER_SETTING2 : return isValidDailyTimerSetting2(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return isValidOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return isValidOnTimerSetting(property.edt);
-		case EPC_RELATIVE_ON_TIMER_SETTING : return isValidRelativeOnTimerSetting(property.edt);
-		case EPC_OFF_TIMER_RESERVATION_SETTING : return isValidOffTimerReservationSetting(property.edt);
-		case EPC_TIME_SET_BY_OFF_TIMER : return isValidTimeSetByOffTimer(property.edt);
-		case EPC_RELATIVE_OFF_TIMER_SETTING : return isValidRelativeOffTimerSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ColdOrHotWaterHeatSourceEquipment o = (ColdOrHotWaterHeatSourceEquipment)eoj;
+			switch(epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.getOperationModeSetting();
+			case EPC_WATER_TEMPERATURE_SETTING1 : return o.getWaterTemperatureSetting1();
+			case EPC_WATER_TEMPERATURE_SETTING2 : return o.getWaterTemperatureSetting2();
+			case EPC_MEASURED_TEMPERATURE_OF_OUTWARD_WATER_EXIT_WATER_TEMPERATURE : return o.getMeasuredTemperatureOfOutwardWaterExitWaterTemperature();
+			case EPC_MEASURED_TEMPERATURE_OF_INWARD_WATER_ENTRANCE_WATER_TEMPERATURE : return o.getMeasuredTemperatureOfInwardWaterEntranceWaterTemperature();
+			case EPC_SPECIAL_OPERATION_SETTING : return o.getSpecialOperationSetting();
+			case EPC_DAILY_TIMER_SETTING : return o.getDailyTimerSetting();
+			case EPC_DAILY_TIMER_SETTING1 : return o.getDailyTimerSetting1();
+			case EPC_DAILY_TIMER_SETTING2 : return o.getDailyTimerSetting2();
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.getOnTimerReservationSetting();
+			case EPC_ON_TIMER_SETTING : return o.getOnTimerSetting();
+			case EPC_RELATIVE_ON_TIMER_SETTING : return o.getRelativeOnTimerSetting();
+			case EPC_OFF_TIMER_RESERVATION_SETTING : return o.getOffTimerReservationSetting();
+			case EPC_TIME_SET_BY_OFF_TIMER : return o.getTimeSetByOffTimer();
+			case EPC_RELATIVE_OFF_TIMER_SETTING : return o.getRelativeOffTimerSetting();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ColdOrHotWaterHeatSourceEquipment o = (ColdOrHotWaterHeatSourceEquipment)eoj;
+			switch(property.epc) {
+			case EPC_OPERATION_MODE_SETTING : return o.isValidOperationModeSetting(property.edt);
+			case EPC_WATER_TEMPERATURE_SETTING1 : return o.isValidWaterTemperatureSetting1(property.edt);
+			case EPC_WATER_TEMPERATURE_SETTING2 : return o.isValidWaterTemperatureSetting2(property.edt);
+			case EPC_MEASURED_TEMPERATURE_OF_OUTWARD_WATER_EXIT_WATER_TEMPERATURE : return o.isValidMeasuredTemperatureOfOutwardWaterExitWaterTemperature(property.edt);
+			case EPC_MEASURED_TEMPERATURE_OF_INWARD_WATER_ENTRANCE_WATER_TEMPERATURE : return o.isValidMeasuredTemperatureOfInwardWaterEntranceWaterTemperature(property.edt);
+			case EPC_SPECIAL_OPERATION_SETTING : return o.isValidSpecialOperationSetting(property.edt);
+			case EPC_DAILY_TIMER_SETTING : return o.isValidDailyTimerSetting(property.edt);
+			case EPC_DAILY_TIMER_SETTING1 : return o.isValidDailyTimerSetting1(property.edt);
+			case EPC_DAILY_TIMER_SETTING2 : return o.isValidDailyTimerSetting2(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.isValidOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.isValidOnTimerSetting(property.edt);
+			case EPC_RELATIVE_ON_TIMER_SETTING : return o.isValidRelativeOnTimerSetting(property.edt);
+			case EPC_OFF_TIMER_RESERVATION_SETTING : return o.isValidOffTimerReservationSetting(property.edt);
+			case EPC_TIME_SET_BY_OFF_TIMER : return o.isValidTimeSetByOffTimer(property.edt);
+			case EPC_RELATIVE_OFF_TIMER_SETTING : return o.isValidRelativeOffTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPERATION_MODE_SETTING : 
-				onSetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onSetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_TEMPERATURE_SETTING1 : 
-				onSetWaterTemperatureSetting1(eoj, tid, esv, property, success);
+				r.onSetWaterTemperatureSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_TEMPERATURE_SETTING2 : 
-				onSetWaterTemperatureSetting2(eoj, tid, esv, property, success);
+				r.onSetWaterTemperatureSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_OPERATION_SETTING : 
-				onSetSpecialOperationSetting(eoj, tid, esv, property, success);
+				r.onSetSpecialOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAILY_TIMER_SETTING : 
-				onSetDailyTimerSetting(eoj, tid, esv, property, success);
+				r.onSetDailyTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAILY_TIMER_SETTING1 : 
-				onSetDailyTimerSetting1(eoj, tid, esv, property, success);
+				r.onSetDailyTimerSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAILY_TIMER_SETTING2 : 
-				onSetDailyTimerSetting2(eoj, tid, esv, property, success);
+				r.onSetDailyTimerSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onSetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_ON_TIMER_SETTING : 
-				onSetRelativeOnTimerSetting(eoj, tid, esv, property, success);
+				r.onSetRelativeOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_RESERVATION_SETTING : 
-				onSetOffTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOffTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TIME_SET_BY_OFF_TIMER : 
-				onSetTimeSetByOffTimer(eoj, tid, esv, property, success);
+				r.onSetTimeSetByOffTimer(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_OFF_TIMER_SETTING : 
-				onSetRelativeOffTimerSetting(eoj, tid, esv, property, success);
+				r.onSetRelativeOffTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1390,61 +1348,109 @@ bytes<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPERATION_MODE_SETTING : 
-				onGetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onGetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_TEMPERATURE_SETTING1 : 
-				onGetWaterTemperatureSetting1(eoj, tid, esv, property, success);
+				r.onGetWaterTemperatureSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_TEMPERATURE_SETTING2 : 
-				onGetWaterTemperatureSetting2(eoj, tid, esv, property, success);
+				r.onGetWaterTemperatureSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_TEMPERATURE_OF_OUTWARD_WATER_EXIT_WATER_TEMPERATURE : 
-				onGetMeasuredTemperatureOfOutwardWaterExitWaterTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredTemperatureOfOutwardWaterExitWaterTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_TEMPERATURE_OF_INWARD_WATER_ENTRANCE_WATER_TEMPERATURE : 
-				onGetMeasuredTemperatureOfInwardWaterEntranceWaterTemperature(eoj, tid, esv, property, success);
+				r.onGetMeasuredTemperatureOfInwardWaterEntranceWaterTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_OPERATION_SETTING : 
-				onGetSpecialOperationSetting(eoj, tid, esv, property, success);
+				r.onGetSpecialOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAILY_TIMER_SETTING : 
-				onGetDailyTimerSetting(eoj, tid, esv, property, success);
+				r.onGetDailyTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAILY_TIMER_SETTING1 : 
-				onGetDailyTimerSetting1(eoj, tid, esv, property, success);
+				r.onGetDailyTimerSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAILY_TIMER_SETTING2 : 
-				onGetDailyTimerSetting2(eoj, tid, esv, property, success);
+				r.onGetDailyTimerSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onGetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_ON_TIMER_SETTING : 
-				onGetRelativeOnTimerSetting(eoj, tid, esv, property, success);
+				r.onGetRelativeOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_RESERVATION_SETTING : 
-				onGetOffTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOffTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TIME_SET_BY_OFF_TIMER : 
-				onGetTimeSetByOffTimer(eoj, tid, esv, property, success);
+				r.onGetTimeSetByOffTimer(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RELATIVE_OFF_TIMER_SETTING : 
-				onGetRelativeOffTimerSetting(eoj, tid, esv, property, success);
+				r.onGetRelativeOffTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ColdOrHotWaterHeatSourceEquipment.class, sPropertyHandler
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_WATER_TEMPERATURE_SETTING1, EPC_WATER_TEMPERATURE_SETTING2, EPC_MEASURED_TEMPERATURE_OF_OUTWARD_WATER_EXIT_WATER_TEMPERATURE, EPC_MEASURED_TEMPERATURE_OF_INWARD_WATER_ENTRANCE_WATER_TEMPERATURE, EPC_SPECIAL_OPERATION_SETTING, EPC_DAILY_TIMER_SETTING, EPC_DAILY_TIMER_SETTING1, EPC_DAILY_TIMER_SETTING2, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_ON_TIMER_SETTING, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_TIME_SET_BY_OFF_TIMER, EPC_RELATIVE_OFF_TIMER_SETTING}
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_WATER_TEMPERATURE_SETTING1, EPC_WATER_TEMPERATURE_SETTING2, EPC_SPECIAL_OPERATION_SETTING, EPC_DAILY_TIMER_SETTING, EPC_DAILY_TIMER_SETTING1, EPC_DAILY_TIMER_SETTING2, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_ON_TIMER_SETTING, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_TIME_SET_BY_OFF_TIMER, EPC_RELATIVE_OFF_TIMER_SETTING}
+				, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_WATER_TEMPERATURE_SETTING1, EPC_WATER_TEMPERATURE_SETTING2, EPC_MEASURED_TEMPERATURE_OF_OUTWARD_WATER_EXIT_WATER_TEMPERATURE, EPC_MEASURED_TEMPERATURE_OF_INWARD_WATER_ENTRANCE_WATER_TEMPERATURE, EPC_SPECIAL_OPERATION_SETTING, EPC_DAILY_TIMER_SETTING, EPC_DAILY_TIMER_SETTING1, EPC_DAILY_TIMER_SETTING2, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_ON_TIMER_SETTING, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_TIME_SET_BY_OFF_TIMER, EPC_RELATIVE_OFF_TIMER_SETTING});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_WATER_TEMPERATURE_SETTING1, EPC_WATER_TEMPERATURE_SETTING2, EPC_SPECIAL_OPERATION_SETTING, EPC_DAILY_TIMER_SETTING, EPC_DAILY_TIMER_SETTING1, EPC_DAILY_TIMER_SETTING2, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_ON_TIMER_SETTING, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_TIME_SET_BY_OFF_TIMER, EPC_RELATIVE_OFF_TIMER_SETTING}
+					, new byte[] {EPC_OPERATION_MODE_SETTING, EPC_WATER_TEMPERATURE_SETTING1, EPC_WATER_TEMPERATURE_SETTING2, EPC_MEASURED_TEMPERATURE_OF_OUTWARD_WATER_EXIT_WATER_TEMPERATURE, EPC_MEASURED_TEMPERATURE_OF_INWARD_WATER_ENTRANCE_WATER_TEMPERATURE, EPC_SPECIAL_OPERATION_SETTING, EPC_DAILY_TIMER_SETTING, EPC_DAILY_TIMER_SETTING1, EPC_DAILY_TIMER_SETTING2, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RELATIVE_ON_TIMER_SETTING, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_TIME_SET_BY_OFF_TIMER, EPC_RELATIVE_OFF_TIMER_SETTING}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Operation mode setting<br>
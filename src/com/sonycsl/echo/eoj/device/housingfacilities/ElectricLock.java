@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -517,51 +518,104 @@ public abstract class ElectricLock extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			ElectricLock o = (ElectricLock)eoj;
+			switch(property.epc) {
+			case EPC_LOCK_SETTING1 : return o.setLockSetting1(property.edt);
+			case EPC_LOCK_SETTING2 : return o.setLockSetting2(property.edt);
+			case EPC_AUTO_LOCK_MODE_SETTING : return o.setAutoLockModeSetting(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_LOCK_SETTING1 : return setLockSetting1(property.edt);
-		case EPC_LOCK_SETTING2 : return setLockSetting2(property.edt);
-		case EPC_AUTO_LOCK_MODE_SETTING : return setAutoLockModeSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ElectricLock o = (ElectricLock)eoj;
+			switch(epc) {
+			case EPC_LOCK_SETTING1 : return o.getLockSetting1();
+			case EPC_LOCK_SETTING2 : return o.getLockSetting2();
+			case EPC_LOCK_STATUS_OF_DOOR_GUARD : return o.getLockStatusOfDoorGuard();
+			case EPC_DOOR_OPEN_CLOSE_STATUS : return o.getDoorOpenCloseStatus();
+			case EPC_OCCUPANT_NON_OCCUPANT_STATUS : return o.getOccupantNonOccupantStatus();
+			case EPC_ALARM_STATUS : return o.getAlarmStatus();
+			case EPC_AUTO_LOCK_MODE_SETTING : return o.getAutoLockModeSetting();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_LOCK_SETTING1 : return getLockSetting1();
-		case EPC_LOCK_SETTING2 : return getLockSetting2();
-		case EPC_LOCK_STATUS_OF_DOOR_GUARD : return getLockStatusOfDoorGuard();
-		case EPC_DOOR_OPEN_CLOSE_STATUS : return getDoorOpenCloseStatus();
-		case EPC_OCCUPANT_NON_OCCUPANT_STATUS : return getOccupantNonOccupantStatus();
-		case EPC_ALARM_STATUS : return getAlarmStatus();
-		case EPC_AUTO_LOCK_MODE_SETTING : return getAutoLockModeSetting();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ElectricLock o = (ElectricLock)eoj;
+			switch(property.epc) {
+			case EPC_LOCK_SETTING1 : return o.isValidLockSetting1(property.edt);
+			case EPC_LOCK_SETTING2 : return o.isValidLockSetting2(property.edt);
+			case EPC_LOCK_STATUS_OF_DOOR_GUARD : return o.isValidLockStatusOfDoorGuard(property.edt);
+			case EPC_DOOR_OPEN_CLOSE_STATUS : return o.isValidDoorOpenCloseStatus(property.edt);
+			case EPC_OCCUPANT_NON_OCCUPANT_STATUS : return o.isValidOccupantNonOccupantStatus(property.edt);
+			case EPC_ALARM_STATUS : return o.isValidAlarmStatus(property.edt);
+			case EPC_AUTO_LOCK_MODE_SETTING : return o.isValidAutoLockModeSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_LOCK_SETTING1 : return isValidLockSetting1(property.edt);
-		case EPC_LOCK_SETTING2 : return isValidLockSetting2(property.edt);
-		case EPC_LOCK_STATUS_OF_DOOR_GUARD : return isValidLockStatusOfDoorGuard(property.edt);
-		case EPC_DOOR_OPEN_CLOSE_STATUS : return isValidDoorOpenCloseStatus(property.edt);
-		case EPC_OCCUPANT_NON_OCCUPANT_STATUS : return isValidOccupantNonOccupantStatus(property.edt);
-		case EPC_ALARM_STATUS : return isValidAlarmStatus(property.edt);
-		case EPC_AUTO_LOCK_MODE_SETTING : return isValidAutoLockModeSetting(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_LOCK_SETTING1 : 
+				r.onSetLockSetting1(eoj, tid, esv, property, success);
+				return true;
+			case EPC_LOCK_SETTING2 : 
+				r.onSetLockSetting2(eoj, tid, esv, property, success);
+				return true;
+			case EPC_AUTO_LOCK_MODE_SETTING : 
+				r.onSetAutoLockModeSetting(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_LOCK_SETTING1 : 
+				r.onGetLockSetting1(eoj, tid, esv, property, success);
+				return true;
+			case EPC_LOCK_SETTING2 : 
+				r.onGetLockSetting2(eoj, tid, esv, property, success);
+				return true;
+			case EPC_LOCK_STATUS_OF_DOOR_GUARD : 
+				r.onGetLockStatusOfDoorGuard(eoj, tid, esv, property, success);
+				return true;
+			case EPC_DOOR_OPEN_CLOSE_STATUS : 
+				r.onGetDoorOpenCloseStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_OCCUPANT_NON_OCCUPANT_STATUS : 
+				r.onGetOccupantNonOccupantStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_ALARM_STATUS : 
+				r.onGetAlarmStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_AUTO_LOCK_MODE_SETTING : 
+				r.onGetAutoLockModeSetting(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ElectricLock.class, sPropertyHandler
+				, new byte[] {EPC_LOCK_SETTING1, EPC_LOCK_SETTING2, EPC_LOCK_STATUS_OF_DOOR_GUARD, EPC_DOOR_OPEN_CLOSE_STATUS, EPC_OCCUPANT_NON_OCCUPANT_STATUS, EPC_ALARM_STATUS, EPC_AUTO_LOCK_MODE_SETTING}
+				, new byte[] {EPC_LOCK_SETTING1, EPC_LOCK_SETTING2, EPC_AUTO_LOCK_MODE_SETTING}
+				, new byte[] {EPC_LOCK_SETTING1, EPC_LOCK_SETTING2, EPC_LOCK_STATUS_OF_DOOR_GUARD, EPC_DOOR_OPEN_CLOSE_STATUS, EPC_OCCUPANT_NON_OCCUPANT_STATUS, EPC_ALARM_STATUS, EPC_AUTO_LOCK_MODE_SETTING});
 	}
 
 	@Override
@@ -599,59 +653,11 @@ public abstract class ElectricLock extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_LOCK_SETTING1 : 
-				onSetLockSetting1(eoj, tid, esv, property, success);
-				return true;
-			case EPC_LOCK_SETTING2 : 
-				onSetLockSetting2(eoj, tid, esv, property, success);
-				return true;
-			case EPC_AUTO_LOCK_MODE_SETTING : 
-				onSetAutoLockModeSetting(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_LOCK_SETTING1 : 
-				onGetLockSetting1(eoj, tid, esv, property, success);
-				return true;
-			case EPC_LOCK_SETTING2 : 
-				onGetLockSetting2(eoj, tid, esv, property, success);
-				return true;
-			case EPC_LOCK_STATUS_OF_DOOR_GUARD : 
-				onGetLockStatusOfDoorGuard(eoj, tid, esv, property, success);
-				return true;
-			case EPC_DOOR_OPEN_CLOSE_STATUS : 
-				onGetDoorOpenCloseStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_OCCUPANT_NON_OCCUPANT_STATUS : 
-				onGetOccupantNonOccupantStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_ALARM_STATUS : 
-				onGetAlarmStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_AUTO_LOCK_MODE_SETTING : 
-				onGetAutoLockModeSetting(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_LOCK_SETTING1, EPC_LOCK_SETTING2, EPC_AUTO_LOCK_MODE_SETTING}
+					, new byte[] {EPC_LOCK_SETTING1, EPC_LOCK_SETTING2, EPC_LOCK_STATUS_OF_DOOR_GUARD, EPC_DOOR_OPEN_CLOSE_STATUS, EPC_OCCUPANT_NON_OCCUPANT_STATUS, EPC_ALARM_STATUS, EPC_AUTO_LOCK_MODE_SETTING}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -613,120 +614,77 @@ public abstract class ElectricShutter extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_OPEN_CLOSE_SETTING1 : return setOpenCloseSetting1(property.edt);
-		case EPC_EXTENT_OF_OPENING1 : return setExtentOfOpening1(property.edt);
-		case EPC_BLIND_ANGLE_SETTING : return setBlindAngleSetting(property.edt);
-		case EPC_SHUTTER_SPEED : return setShutterSpeed(property.edt);
-		case EPC_EXTENT_OF_OPENING2 : return setExtentOfOpening2(property.edt);
-		case EPC_ELECTRIC_LOCK_SETTING : return setElectricLockSetting(property.edt);
-		case EPC_OPEN_CLOSE_SETTING2 : return setOpenCloseSetting2(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_OPEN_CLOSE_SETTING1 : return getOpenCloseSetting1();
-		case EPC_EXTENT_OF_OPENING1 : return getExtentOfOpening1();
-		case EPC_BLIND_ANGLE_SETTING : return getBlindAngleSetting();
-		case EPC_SHUTTER_SPEED : return getShutterSpeed();
-		case EPC_EXTENT_OF_OPENING2 : return getExtentOfOpening2();
-		case EPC_ELECTRIC_LOCK_SETTING : return getElectricLockSetting();
-		case EPC_OPEN_CLOSE_SETTING2 : return getOpenCloseSetting2();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			ElectricShutter o = (ElectricShutter)eoj;
+			switch(property.epc) {
+			case EPC_OPEN_CLOSE_SETTING1 : return o.setOpenCloseSetting1(property.edt);
+			case EPC_EXTENT_OF_OPENING1 : return o.setExtentOfOpening1(property.edt);
+			case EPC_BLIND_ANGLE_SETTING : return o.setBlindAngleSetting(property.edt);
+			case EPC_SHUTTER_SPEED : return o.setShutterSpeed(property.edt);
+			case EPC_EXTENT_OF_OPENING2 : return o.setExtentOfOpening2(property.edt);
+			case EPC_ELECTRIC_LOCK_SETTING : return o.setElectricLockSetting(property.edt);
+			case EPC_OPEN_CLOSE_SETTING2 : return o.setOpenCloseSetting2(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_OPEN_CLOSE_SETTING1 : return isValidOpenCloseSetting1(property.edt);
-		case EPC_EXTENT_OF_OPENING1 : return isValidExtentOfOpening1(property.edt);
-		case EPC_BLIND_ANGLE_SETTING : return isValidBlindAngleSetting(property.edt);
-		case EPC_SHUTTER_SPEED : return isValidShutterSpeed(property.edt);
-		case EPC_EXTENT_OF_OPENING2 : return isValidExtentOfOpening2(property.edt);
-		case EPC_ELECTRIC_LOCK_SETTING : return isValidElectricLockSetting(property.edt);
-		case EPC_OPEN_CLOSE_SETTING2 : return isValidOpenCloseSetting2(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ElectricShutter o = (ElectricShutter)eoj;
+			switch(epc) {
+			case EPC_OPEN_CLOSE_SETTING1 : return o.getOpenCloseSetting1();
+			case EPC_EXTENT_OF_OPENING1 : return o.getExtentOfOpening1();
+			case EPC_BLIND_ANGLE_SETTING : return o.getBlindAngleSetting();
+			case EPC_SHUTTER_SPEED : return o.getShutterSpeed();
+			case EPC_EXTENT_OF_OPENING2 : return o.getExtentOfOpening2();
+			case EPC_ELECTRIC_LOCK_SETTING : return o.getElectricLockSetting();
+			case EPC_OPEN_CLOSE_SETTING2 : return o.getOpenCloseSetting2();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ElectricShutter o = (ElectricShutter)eoj;
+			switch(property.epc) {
+			case EPC_OPEN_CLOSE_SETTING1 : return o.isValidOpenCloseSetting1(property.edt);
+			case EPC_EXTENT_OF_OPENING1 : return o.isValidExtentOfOpening1(property.edt);
+			case EPC_BLIND_ANGLE_SETTING : return o.isValidBlindAngleSetting(property.edt);
+			case EPC_SHUTTER_SPEED : return o.isValidShutterSpeed(property.edt);
+			case EPC_EXTENT_OF_OPENING2 : return o.isValidExtentOfOpening2(property.edt);
+			case EPC_ELECTRIC_LOCK_SETTING : return o.isValidElectricLockSetting(property.edt);
+			case EPC_OPEN_CLOSE_SETTING2 : return o.isValidOpenCloseSetting2(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPEN_CLOSE_SETTING1 : 
-				onSetOpenCloseSetting1(eoj, tid, esv, property, success);
+				r.onSetOpenCloseSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_EXTENT_OF_OPENING1 : 
-				onSetExtentOfOpening1(eoj, tid, esv, property, success);
+				r.onSetExtentOfOpening1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BLIND_ANGLE_SETTING : 
-				onSetBlindAngleSetting(eoj, tid, esv, property, success);
+				r.onSetBlindAngleSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SHUTTER_SPEED : 
-				onSetShutterSpeed(eoj, tid, esv, property, success);
+				r.onSetShutterSpeed(eoj, tid, esv, property, success);
 				return true;
 			case EPC_EXTENT_OF_OPENING2 : 
-				onSetExtentOfOpening2(eoj, tid, esv, property, success);
+				r.onSetExtentOfOpening2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ELECTRIC_LOCK_SETTING : 
-				onSetElectricLockSetting(eoj, tid, esv, property, success);
+				r.onSetElectricLockSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OPEN_CLOSE_SETTING2 : 
-				onSetOpenCloseSetting2(eoj, tid, esv, property, success);
+				r.onSetOpenCloseSetting2(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -734,37 +692,85 @@ public abstract class ElectricShutter extends DeviceObject {
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_OPEN_CLOSE_SETTING1 : 
-				onGetOpenCloseSetting1(eoj, tid, esv, property, success);
+				r.onGetOpenCloseSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_EXTENT_OF_OPENING1 : 
-				onGetExtentOfOpening1(eoj, tid, esv, property, success);
+				r.onGetExtentOfOpening1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BLIND_ANGLE_SETTING : 
-				onGetBlindAngleSetting(eoj, tid, esv, property, success);
+				r.onGetBlindAngleSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SHUTTER_SPEED : 
-				onGetShutterSpeed(eoj, tid, esv, property, success);
+				r.onGetShutterSpeed(eoj, tid, esv, property, success);
 				return true;
 			case EPC_EXTENT_OF_OPENING2 : 
-				onGetExtentOfOpening2(eoj, tid, esv, property, success);
+				r.onGetExtentOfOpening2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ELECTRIC_LOCK_SETTING : 
-				onGetElectricLockSetting(eoj, tid, esv, property, success);
+				r.onGetElectricLockSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OPEN_CLOSE_SETTING2 : 
-				onGetOpenCloseSetting2(eoj, tid, esv, property, success);
+				r.onGetOpenCloseSetting2(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ElectricShutter.class, sPropertyHandler
+				, new byte[] {EPC_OPEN_CLOSE_SETTING1, EPC_EXTENT_OF_OPENING1, EPC_BLIND_ANGLE_SETTING, EPC_SHUTTER_SPEED, EPC_EXTENT_OF_OPENING2, EPC_ELECTRIC_LOCK_SETTING, EPC_OPEN_CLOSE_SETTING2}
+				, new byte[] {EPC_OPEN_CLOSE_SETTING1, EPC_EXTENT_OF_OPENING1, EPC_BLIND_ANGLE_SETTING, EPC_SHUTTER_SPEED, EPC_EXTENT_OF_OPENING2, EPC_ELECTRIC_LOCK_SETTING, EPC_OPEN_CLOSE_SETTING2}
+				, new byte[] {EPC_OPEN_CLOSE_SETTING1, EPC_EXTENT_OF_OPENING1, EPC_BLIND_ANGLE_SETTING, EPC_SHUTTER_SPEED, EPC_EXTENT_OF_OPENING2, EPC_ELECTRIC_LOCK_SETTING, EPC_OPEN_CLOSE_SETTING2});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_OPEN_CLOSE_SETTING1, EPC_EXTENT_OF_OPENING1, EPC_BLIND_ANGLE_SETTING, EPC_SHUTTER_SPEED, EPC_EXTENT_OF_OPENING2, EPC_ELECTRIC_LOCK_SETTING, EPC_OPEN_CLOSE_SETTING2}
+					, new byte[] {EPC_OPEN_CLOSE_SETTING1, EPC_EXTENT_OF_OPENING1, EPC_BLIND_ANGLE_SETTING, EPC_SHUTTER_SPEED, EPC_EXTENT_OF_OPENING2, EPC_ELECTRIC_LOCK_SETTING, EPC_OPEN_CLOSE_SETTING2}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Open/close setting 1<br>
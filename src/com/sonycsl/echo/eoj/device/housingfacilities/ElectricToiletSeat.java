@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -991,144 +992,101 @@ public abstract class ElectricToiletSeat extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT : return setTemperatureLevelOfToiletSeat(property.edt);
-		case EPC_HEATER_SETTING_OF_TOILET_SEAT : return setHeaterSettingOfToiletSeat(property.edt);
-		case EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT : return setTemporalHaltSettingOfToiletSeat(property.edt);
-		case EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT : return setTemporalHaltStartTimeOfToiletSeat(property.edt);
-		case EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT : return setTemporalHaltTimeDurationOfToiletSeat(property.edt);
-		case EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING : return setTemperatureLevelSettingOfRoomHeating(property.edt);
-		case EPC_ROOM_HEATING_SETTING : return setRoomHeatingSetting(property.edt);
-		case EPC_START_TIME_OF_ROOM_HEATING : return setStartTimeOfRoomHeating(property.edt);
-		case EPC_DURATION_TIME_OF_ROOM_HEATING : return setDurationTimeOfRoomHeating(property.edt);
-		case EPC_SPECIAL_OPERATION_MODE_SETTING : return setSpecialOperationModeSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT : return getTemperatureLevelOfToiletSeat();
-		case EPC_HEATER_SETTING_OF_TOILET_SEAT : return getHeaterSettingOfToiletSeat();
-		case EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT : return getTemporalHaltSettingOfToiletSeat();
-		case EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT : return getTemporalHaltStartTimeOfToiletSeat();
-		case EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT : return getTemporalHaltTimeDurationOfToiletSeat();
-		case EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING : return getTemperatureLevelSettingOfRoomHeating();
-		case EPC_ROOM_HEATING_SETTING : return getRoomHeatingSetting();
-		case EPC_ROOM_HEATING_STATUS : return getRoomHeatingStatus();
-		case EPC_START_TIME_OF_ROOM_HEATING : return getStartTimeOfRoomHeating();
-		case EPC_DURATION_TIME_OF_ROOM_HEATING : return getDurationTimeOfRoomHeating();
-		case EPC_SPECIAL_OPERATION_MODE_SETTING : return getSpecialOperationModeSetting();
-		case EPC_HUMAN_DETECTION_STATUS : return getHumanDetectionStatus();
-		case EPC_SEATING_DETECTION_STATUS : return getSeatingDetectionStatus();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			ElectricToiletSeat o = (ElectricToiletSeat)eoj;
+			switch(property.epc) {
+			case EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT : return o.setTemperatureLevelOfToiletSeat(property.edt);
+			case EPC_HEATER_SETTING_OF_TOILET_SEAT : return o.setHeaterSettingOfToiletSeat(property.edt);
+			case EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT : return o.setTemporalHaltSettingOfToiletSeat(property.edt);
+			case EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT : return o.setTemporalHaltStartTimeOfToiletSeat(property.edt);
+			case EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT : return o.setTemporalHaltTimeDurationOfToiletSeat(property.edt);
+			case EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING : return o.setTemperatureLevelSettingOfRoomHeating(property.edt);
+			case EPC_ROOM_HEATING_SETTING : return o.setRoomHeatingSetting(property.edt);
+			case EPC_START_TIME_OF_ROOM_HEATING : return o.setStartTimeOfRoomHeating(property.edt);
+			case EPC_DURATION_TIME_OF_ROOM_HEATING : return o.setDurationTimeOfRoomHeating(property.edt);
+			case EPC_SPECIAL_OPERATION_MODE_SETTING : return o.setSpecialOperationModeSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT : return isValidTemperatureLevelOfToiletSeat(property.edt);
-		case EPC_HEATER_SETTING_OF_TOILET_SEAT : return isValidHeaterSettingOfToiletSeat(property.edt);
-		case EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT : return isValidTemporalHaltSettingOfToiletSeat(property.edt);
-		case EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT : return isValidTemporalHaltStartTimeOfToiletSeat(property.edt);
-		case EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT : return isValidTemporalHaltTimeDurationOfToiletSeat(property.edt);
-		case EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING : return isValidTemperatureLevelSettingOfRoomHeating(property.edt);
-		case EPC_ROOM_HEATING_SETTING : return isValidRoomHeatingSetting(property.edt);
-		case EPC_ROOM_HEATING_STATUS : return isValidRoomHeatingStatus(property.edt);
-		case EPC_START_TIME_OF_ROOM_HEATING : return isValidStartTimeOfRoomHeating(property.edt);
-		case EPC_DURATION_TIME_OF_ROOM_HEATING : return isValidDurationTimeOfRoomHeating(property.edt);
-		case EPC_SPECIAL_OPERATION_MODE_SETTING : return isValidSpecialOperationModeSetting(property.edt);
-		case EPC_HUMAN_DETECTION_STATUS : return isValidHumanDetectionStatus(property.edt);
-		case EPC_SEATING_DETECTION_STATUS : return isValidSeatingDetectionStatus(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ElectricToiletSeat o = (ElectricToiletSeat)eoj;
+			switch(epc) {
+			case EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT : return o.getTemperatureLevelOfToiletSeat();
+			case EPC_HEATER_SETTING_OF_TOILET_SEAT : return o.getHeaterSettingOfToiletSeat();
+			case EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT : return o.getTemporalHaltSettingOfToiletSeat();
+			case EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT : return o.getTemporalHaltStartTimeOfToiletSeat();
+			case EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT : return o.getTemporalHaltTimeDurationOfToiletSeat();
+			case EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING : return o.getTemperatureLevelSettingOfRoomHeating();
+			case EPC_ROOM_HEATING_SETTING : return o.getRoomHeatingSetting();
+			case EPC_ROOM_HEATING_STATUS : return o.getRoomHeatingStatus();
+			case EPC_START_TIME_OF_ROOM_HEATING : return o.getStartTimeOfRoomHeating();
+			case EPC_DURATION_TIME_OF_ROOM_HEATING : return o.getDurationTimeOfRoomHeating();
+			case EPC_SPECIAL_OPERATION_MODE_SETTING : return o.getSpecialOperationModeSetting();
+			case EPC_HUMAN_DETECTION_STATUS : return o.getHumanDetectionStatus();
+			case EPC_SEATING_DETECTION_STATUS : return o.getSeatingDetectionStatus();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ElectricToiletSeat o = (ElectricToiletSeat)eoj;
+			switch(property.epc) {
+			case EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT : return o.isValidTemperatureLevelOfToiletSeat(property.edt);
+			case EPC_HEATER_SETTING_OF_TOILET_SEAT : return o.isValidHeaterSettingOfToiletSeat(property.edt);
+			case EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT : return o.isValidTemporalHaltSettingOfToiletSeat(property.edt);
+			case EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT : return o.isValidTemporalHaltStartTimeOfToiletSeat(property.edt);
+			case EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT : return o.isValidTemporalHaltTimeDurationOfToiletSeat(property.edt);
+			case EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING : return o.isValidTemperatureLevelSettingOfRoomHeating(property.edt);
+			case EPC_ROOM_HEATING_SETTING : return o.isValidRoomHeatingSetting(property.edt);
+			case EPC_ROOM_HEATING_STATUS : return o.isValidRoomHeatingStatus(property.edt);
+			case EPC_START_TIME_OF_ROOM_HEATING : return o.isValidStartTimeOfRoomHeating(property.edt);
+			case EPC_DURATION_TIME_OF_ROOM_HEATING : return o.isValidDurationTimeOfRoomHeating(property.edt);
+			case EPC_SPECIAL_OPERATION_MODE_SETTING : return o.isValidSpecialOperationModeSetting(property.edt);
+			case EPC_HUMAN_DETECTION_STATUS : return o.isValidHumanDetectionStatus(property.edt);
+			case EPC_SEATING_DETECTION_STATUS : return o.isValidSeatingDetectionStatus(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT : 
-				onSetTemperatureLevelOfToiletSeat(eoj, tid, esv, property, success);
+				r.onSetTemperatureLevelOfToiletSeat(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATER_SETTING_OF_TOILET_SEAT : 
-				onSetHeaterSettingOfToiletSeat(eoj, tid, esv, property, success);
+				r.onSetHeaterSettingOfToiletSeat(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT : 
-				onSetTemporalHaltSettingOfToiletSeat(eoj, tid, esv, property, success);
+				r.onSetTemporalHaltSettingOfToiletSeat(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT : 
-				onSetTemporalHaltStartTimeOfToiletSeat(eoj, tid, esv, property, success);
+				r.onSetTemporalHaltStartTimeOfToiletSeat(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT : 
-				onSetTemporalHaltTimeDurationOfToiletSeat(eoj, tid, esv, property, success);
+				r.onSetTemporalHaltTimeDurationOfToiletSeat(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING : 
-				onSetTemperatureLevelSettingOfRoomHeating(eoj, tid, esv, property, success);
+				r.onSetTemperatureLevelSettingOfRoomHeating(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ROOM_HEATING_SETTING : 
-				onSetRoomHeatingSetting(eoj, tid, esv, property, success);
+				r.onSetRoomHeatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_START_TIME_OF_ROOM_HEATING : 
-				onSetStartTimeOfRoomHeating(eoj, tid, esv, property, success);
+				r.onSetStartTimeOfRoomHeating(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DURATION_TIME_OF_ROOM_HEATING : 
-				onSetDurationTimeOfRoomHeating(eoj, tid, esv, property, success);
+				r.onSetDurationTimeOfRoomHeating(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_OPERATION_MODE_SETTING : 
-				onSetSpecialOperationModeSetting(eoj, tid, esv, property, success);
+				r.onSetSpecialOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1136,55 +1094,103 @@ public abstract class ElectricToiletSeat extends DeviceObject {
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT : 
-				onGetTemperatureLevelOfToiletSeat(eoj, tid, esv, property, success);
+				r.onGetTemperatureLevelOfToiletSeat(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATER_SETTING_OF_TOILET_SEAT : 
-				onGetHeaterSettingOfToiletSeat(eoj, tid, esv, property, success);
+				r.onGetHeaterSettingOfToiletSeat(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT : 
-				onGetTemporalHaltSettingOfToiletSeat(eoj, tid, esv, property, success);
+				r.onGetTemporalHaltSettingOfToiletSeat(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT : 
-				onGetTemporalHaltStartTimeOfToiletSeat(eoj, tid, esv, property, success);
+				r.onGetTemporalHaltStartTimeOfToiletSeat(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT : 
-				onGetTemporalHaltTimeDurationOfToiletSeat(eoj, tid, esv, property, success);
+				r.onGetTemporalHaltTimeDurationOfToiletSeat(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING : 
-				onGetTemperatureLevelSettingOfRoomHeating(eoj, tid, esv, property, success);
+				r.onGetTemperatureLevelSettingOfRoomHeating(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ROOM_HEATING_SETTING : 
-				onGetRoomHeatingSetting(eoj, tid, esv, property, success);
+				r.onGetRoomHeatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ROOM_HEATING_STATUS : 
-				onGetRoomHeatingStatus(eoj, tid, esv, property, success);
+				r.onGetRoomHeatingStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_START_TIME_OF_ROOM_HEATING : 
-				onGetStartTimeOfRoomHeating(eoj, tid, esv, property, success);
+				r.onGetStartTimeOfRoomHeating(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DURATION_TIME_OF_ROOM_HEATING : 
-				onGetDurationTimeOfRoomHeating(eoj, tid, esv, property, success);
+				r.onGetDurationTimeOfRoomHeating(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPECIAL_OPERATION_MODE_SETTING : 
-				onGetSpecialOperationModeSetting(eoj, tid, esv, property, success);
+				r.onGetSpecialOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HUMAN_DETECTION_STATUS : 
-				onGetHumanDetectionStatus(eoj, tid, esv, property, success);
+				r.onGetHumanDetectionStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SEATING_DETECTION_STATUS : 
-				onGetSeatingDetectionStatus(eoj, tid, esv, property, success);
+				r.onGetSeatingDetectionStatus(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ElectricToiletSeat.class, sPropertyHandler
+				, new byte[] {EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT, EPC_HEATER_SETTING_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT, EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING, EPC_ROOM_HEATING_SETTING, EPC_ROOM_HEATING_STATUS, EPC_START_TIME_OF_ROOM_HEATING, EPC_DURATION_TIME_OF_ROOM_HEATING, EPC_SPECIAL_OPERATION_MODE_SETTING, EPC_HUMAN_DETECTION_STATUS, EPC_SEATING_DETECTION_STATUS}
+				, new byte[] {EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT, EPC_HEATER_SETTING_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT, EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING, EPC_ROOM_HEATING_SETTING, EPC_START_TIME_OF_ROOM_HEATING, EPC_DURATION_TIME_OF_ROOM_HEATING, EPC_SPECIAL_OPERATION_MODE_SETTING}
+				, new byte[] {EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT, EPC_HEATER_SETTING_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT, EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING, EPC_ROOM_HEATING_SETTING, EPC_ROOM_HEATING_STATUS, EPC_START_TIME_OF_ROOM_HEATING, EPC_DURATION_TIME_OF_ROOM_HEATING, EPC_SPECIAL_OPERATION_MODE_SETTING, EPC_HUMAN_DETECTION_STATUS, EPC_SEATING_DETECTION_STATUS});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT, EPC_HEATER_SETTING_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT, EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING, EPC_ROOM_HEATING_SETTING, EPC_START_TIME_OF_ROOM_HEATING, EPC_DURATION_TIME_OF_ROOM_HEATING, EPC_SPECIAL_OPERATION_MODE_SETTING}
+					, new byte[] {EPC_TEMPERATURE_LEVEL_OF_TOILET_SEAT, EPC_HEATER_SETTING_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_SETTING_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_START_TIME_OF_TOILET_SEAT, EPC_TEMPORAL_HALT_TIME_DURATION_OF_TOILET_SEAT, EPC_TEMPERATURE_LEVEL_SETTING_OF_ROOM_HEATING, EPC_ROOM_HEATING_SETTING, EPC_ROOM_HEATING_STATUS, EPC_START_TIME_OF_ROOM_HEATING, EPC_DURATION_TIME_OF_ROOM_HEATING, EPC_SPECIAL_OPERATION_MODE_SETTING, EPC_HUMAN_DETECTION_STATUS, EPC_SEATING_DETECTION_STATUS}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Temperature level of toilet seat<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -2303,194 +2304,151 @@ bytes<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : return setCumulativeDischargeElectricEnergyResetSetting(property.edt);
-		case EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : return setCumulativeChargeElectricEnergyResetSetting(property.edt);
-		case EPC_OPERATION_MODE_SETTING : return setOperationModeSetting(property.edt);
-		case EPC_CHARGING_AMOUNT_SETTING1 : return setChargingAmountSetting1(property.edt);
-		case EPC_DISCHARGING_AMOUNT_SETTING1 : return setDischargingAmountSetting1(property.edt);
-		case EPC_CHARGING_AMOUNT_SETTING2 : return setChargingAmountSetting2(property.edt);
-		case EPC_DISCHARGING_AMOUNT_SETTING2 : return setDischargingAmountSetting2(property.edt);
-		case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return setChargeElectricEnergySetting(property.edt);
-		case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return setDischargeElectricEnergySetting(property.edt);
-		case EPC_CHARGE_CURRENT_SETTING : return setChargeCurrentSetting(property.edt);
-		case EPC_DISCHARGE_CURRENT_SETTING : return setDischargeCurrentSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_V2H_STORED_ELECTRICITY1 : return getV2hStoredElectricity1();
-		case EPC_V2H_STORED_ELECTRICITY2 : return getV2hStoredElectricity2();
-		case EPC_V2H_REMAINING_AVAILABLE_CAPACITY1 : return getV2hRemainingAvailableCapacity1();
-		case EPC_V2H_REMAINING_AVAILABLE_CAPACITY2 : return getV2hRemainingAvailableCapacity2();
-		case EPC_V2H_REMAINING_AVAILABLE_CAPACITY3 : return getV2hRemainingAvailableCapacity3();
-		case EPC_RATED_CHARGE_CAPACITY : return getRatedChargeCapacity();
-		case EPC_RATED_DISCHARGE_CAPACITY : return getRatedDischargeCapacity();
-		case EPC_CHARGEABLE_DISCHARGE_ABLE_STATUS : return getChargeableDischargeAbleStatus();
-		case EPC_MINIMUM_MAXIMUM_CHARGE_ELECTRIC_ENERGY : return getMinimumMaximumChargeElectricEnergy();
-		case EPC_MINIMUM_MAXIMUM_DISCHARGE_ELECTRIC_ENERGY : return getMinimumMaximumDischargeElectricEnergy();
-		case EPC_MINIMUM_MAXIMUM_CHARGE_CURRENT : return getMinimumMaximumChargeCurrent();
-		case EPC_MINIMUM_MAXIMUM_DISCHARGE_CURRENT : return getMinimumMaximumDischargeCurrent();
-		case EPC_USED_CAPACITY1 : return getUsedCapacity1();
-		case EPC_USED_CAPACITY2 : return getUsedCapacity2();
-		case EPC_RATED_VOLTAGE : return getRatedVoltage();
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY : return getMeasuredInstantaneousChargeDischargeElectricEnergy();
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT : return getMeasuredInstantaneousChargeDischargeCurrent();
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE : return getMeasuredInstantaneousChargeDischargeVoltage();
-		case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY : return getMeasuredCumulativeDischargeElectricEnergy();
-		case EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : return getCumulativeDischargeElectricEnergyResetSetting();
-		case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY : return getMeasuredCumulativeChargeElectricEnergy();
-		case EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : return getCumulativeChargeElectricEnergyResetSetting();
-		case EPC_OPERATION_MODE_SETTING : return getOperationModeSetting();
-		case EPC_SYSTEM_INTERCONNECTE_D_TYPE : return getSystemInterconnecteDType();
-		case EPC_REMAINING_BATTERY_CAPACITY1 : return getRemainingBatteryCapacity1();
-		case EPC_REMAINING_BATTERY_CAPACITY2 : return getRemainingBatteryCapacity2();
-		case EPC_REMAINING_BATTERY_CAPACITY3 : return getRemainingBatteryCapacity3();
-		case EPC_DETERIORATION_STATUS : return getDeteriorationStatus();
-		case EPC_CHARGING_AMOUNT_SETTING1 : return getChargingAmountSetting1();
-		case EPC_DISCHARGING_AMOUNT_SETTING1 : return getDischargingAmountSetting1();
-		case EPC_CHARGING_AMOUNT_SETTING2 : return getChargingAmountSetting2();
-		case EPC_DISCHARGING_AMOUNT_SETTING2 : return getDischargingAmountSetting2();
-		case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return getChargeElectricEnergySetting();
-		case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return getDischargeElectricEnergySetting();
-		case EPC_CHARGE_CURRENT_SETTING : return getChargeCurrentSetting();
-		case EPC_DISCHARGE_CURRENT_SETTING : return getDischargeCurrentSetting();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			ElectricVehicle o = (ElectricVehicle)eoj;
+			switch(property.epc) {
+			case EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : return o.setCumulativeDischargeElectricEnergyResetSetting(property.edt);
+			case EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : return o.setCumulativeChargeElectricEnergyResetSetting(property.edt);
+			case EPC_OPERATION_MODE_SETTING : return o.setOperationModeSetting(property.edt);
+			case EPC_CHARGING_AMOUNT_SETTING1 : return o.setChargingAmountSetting1(property.edt);
+			case EPC_DISCHARGING_AMOUNT_SETTING1 : return o.setDischargingAmountSetting1(property.edt);
+			case EPC_CHARGING_AMOUNT_SETTING2 : return o.setChargingAmountSetting2(property.edt);
+			case EPC_DISCHARGING_AMOUNT_SETTING2 : return o.setDischargingAmountSetting2(property.edt);
+			case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return o.setChargeElectricEnergySetting(property.edt);
+			case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return o.setDischargeElectricEnergySetting(property.edt);
+			case EPC_CHARGE_CURRENT_SETTING : return o.setChargeCurrentSetting(property.edt);
+			case EPC_DISCHARGE_CURRENT_SETTING : return o.setDischargeCurrentSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_V2H_STORED_ELECTRICITY1 : return isValidV2hStoredElectricity1(property.edt);
-		case EPC_V2H_STORED_ELECTRICITY2 : return isValidV2hStoredElectricity2(property.edt);
-		case EPC_V2H_REMAINING_AVAILABLE_CAPACITY1 : return isValidV2hRemainingAvailableCapacity1(property.edt);
-		case EPC_V2H_REMAINING_AVAILABLE_CAPACITY2 : return isValidV2hRemainingAvailableCapacity2(property.edt);
-		case EPC_V2H_REMAINING_AVAILABLE_CAPACITY3 : return isValidV2hRemainingAvailableCapacity3(property.edt);
-		case EPC_RATED_CHARGE_CAPACITY : return isValidRatedChargeCapacity(property.edt);
-		case EPC_RATED_DISCHARGE_CAPACITY : return isValidRatedDischargeCapacity(property.edt);
-		case EPC_CHARGEABLE_DISCHARGE_ABLE_STATUS : return isValidChargeableDischargeAbleStatus(property.edt);
-		case EPC_MINIMUM_MAXIMUM_CHARGE_ELECTRIC_ENERGY : return isValidMinimumMaximumChargeElectricEnergy(property.edt);
-		case EPC_MINIMUM_MAXIMUM_DISCHARGE_ELECTRIC_ENERGY : return isValidMinimumMaximumDischargeElectricEnergy(property.edt);
-		case EPC_MINIMUM_MAXIMUM_CHARGE_CURRENT : return isValidMinimumMaximumChargeCurrent(property.edt);
-		case EPC_MINIMUM_MAXIMUM_DISCHARGE_CURRENT : return isValidMinimumMaximumDischargeCurrent(property.edt);
-		case EPC_USED_CAPACITY1 : return isValidUsedCapacity1(property.edt);
-		case EPC_USED_CAPACITY2 : return isValidUsedCapacity2(property.edt);
-		case EPC_RATED_VOLTAGE : return isValidRatedVoltage(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY : return isValidMeasuredInstantaneousChargeDischargeElectricEnergy(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT : return isValidMeasuredInstantaneousChargeDischargeCurrent(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE : return isValidMeasuredInstantaneousChargeDischargeVoltage(property.edt);
-		case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY : return isValidMeasuredCumulativeDischargeElectricEnergy(property.edt);
-		case EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : return isValidCumulativeDischargeElectricEnergyResetSetting(property.edt);
-		case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY : return isValidMeasuredCumulativeChargeElectricEnergy(property.edt);
-		case EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : return isValidCumulativeChargeElectricEnergyResetSetting(property.edt);
-		case EPC_OPERATION_MODE_SETTING : return isValidOperationModeSetting(property.edt);
-		case EPC_SYSTEM_INTERCONNECTE_D_TYPE : return isValidSystemInterconnecteDType(property.edt);
-		case EPC_REMAINING_BATTERY_CAPACITY1 : return isValidRemainingBatteryCapacity1(property.edt);
-		case EPC_REMAINING_BATTERY_CAPACITY2 : return isValidRemainingBatteryCapacity2(property.edt);
-		case EPC_REMAINING_BATTERY_CAPACITY3 : return isValidRemainingBatteryCapacity3(property.edt);
-		case EPC_DETERIORATION_STATUS : return isValidDeteriorationStatus(property.edt);
-		case EPC_CHARGING_AMOUNT_SETTING1 : return isValidChargingAmountSetting1(property.edt);
-		case EPC_DISCHARGING_AMOUNT_SETTING1 : return isValidDischargingAmountSetting1(property.edt);
-		case EPC_CHARGING_AMOUNT_SETTING2 : return isValidChargingAmountSetting2(property.edt);
-		case EPC_DISCHARGING_AMOUNT_SETTING2 : return isValidDischargingAmountSetting2(property.edt);
-		case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return isValidChargeElectricEnergySetting(property.edt);
-		case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return isValidDischargeElectricEnergySetting(property.edt);
-		case EPC_CHARGE_CURRENT_SETTING : return isValidChargeCurrentSetting(property.edt);
-		case EPC_DISCHARGE_CURRENT_SETTING : return isValidDischargeCurrentSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ElectricVehicle o = (ElectricVehicle)eoj;
+			switch(epc) {
+			case EPC_V2H_STORED_ELECTRICITY1 : return o.getV2hStoredElectricity1();
+			case EPC_V2H_STORED_ELECTRICITY2 : return o.getV2hStoredElectricity2();
+			case EPC_V2H_REMAINING_AVAILABLE_CAPACITY1 : return o.getV2hRemainingAvailableCapacity1();
+			case EPC_V2H_REMAINING_AVAILABLE_CAPACITY2 : return o.getV2hRemainingAvailableCapacity2();
+			case EPC_V2H_REMAINING_AVAILABLE_CAPACITY3 : return o.getV2hRemainingAvailableCapacity3();
+			case EPC_RATED_CHARGE_CAPACITY : return o.getRatedChargeCapacity();
+			case EPC_RATED_DISCHARGE_CAPACITY : return o.getRatedDischargeCapacity();
+			case EPC_CHARGEABLE_DISCHARGE_ABLE_STATUS : return o.getChargeableDischargeAbleStatus();
+			case EPC_MINIMUM_MAXIMUM_CHARGE_ELECTRIC_ENERGY : return o.getMinimumMaximumChargeElectricEnergy();
+			case EPC_MINIMUM_MAXIMUM_DISCHARGE_ELECTRIC_ENERGY : return o.getMinimumMaximumDischargeElectricEnergy();
+			case EPC_MINIMUM_MAXIMUM_CHARGE_CURRENT : return o.getMinimumMaximumChargeCurrent();
+			case EPC_MINIMUM_MAXIMUM_DISCHARGE_CURRENT : return o.getMinimumMaximumDischargeCurrent();
+			case EPC_USED_CAPACITY1 : return o.getUsedCapacity1();
+			case EPC_USED_CAPACITY2 : return o.getUsedCapacity2();
+			case EPC_RATED_VOLTAGE : return o.getRatedVoltage();
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY : return o.getMeasuredInstantaneousChargeDischargeElectricEnergy();
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT : return o.getMeasuredInstantaneousChargeDischargeCurrent();
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE : return o.getMeasuredInstantaneousChargeDischargeVoltage();
+			case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY : return o.getMeasuredCumulativeDischargeElectricEnergy();
+			case EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : return o.getCumulativeDischargeElectricEnergyResetSetting();
+			case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY : return o.getMeasuredCumulativeChargeElectricEnergy();
+			case EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : return o.getCumulativeChargeElectricEnergyResetSetting();
+			case EPC_OPERATION_MODE_SETTING : return o.getOperationModeSetting();
+			case EPC_SYSTEM_INTERCONNECTE_D_TYPE : return o.getSystemInterconnecteDType();
+			case EPC_REMAINING_BATTERY_CAPACITY1 : return o.getRemainingBatteryCapacity1();
+			case EPC_REMAINING_BATTERY_CAPACITY2 : return o.getRemainingBatteryCapacity2();
+			case EPC_REMAINING_BATTERY_CAPACITY3 : return o.getRemainingBatteryCapacity3();
+			case EPC_DETERIORATION_STATUS : return o.getDeteriorationStatus();
+			case EPC_CHARGING_AMOUNT_SETTING1 : return o.getChargingAmountSetting1();
+			case EPC_DISCHARGING_AMOUNT_SETTING1 : return o.getDischargingAmountSetting1();
+			case EPC_CHARGING_AMOUNT_SETTING2 : return o.getChargingAmountSetting2();
+			case EPC_DISCHARGING_AMOUNT_SETTING2 : return o.getDischargingAmountSetting2();
+			case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return o.getChargeElectricEnergySetting();
+			case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return o.getDischargeElectricEnergySetting();
+			case EPC_CHARGE_CURRENT_SETTING : return o.getChargeCurrentSetting();
+			case EPC_DISCHARGE_CURRENT_SETTING : return o.getDischargeCurrentSetting();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ElectricVehicle o = (ElectricVehicle)eoj;
+			switch(property.epc) {
+			case EPC_V2H_STORED_ELECTRICITY1 : return o.isValidV2hStoredElectricity1(property.edt);
+			case EPC_V2H_STORED_ELECTRICITY2 : return o.isValidV2hStoredElectricity2(property.edt);
+			case EPC_V2H_REMAINING_AVAILABLE_CAPACITY1 : return o.isValidV2hRemainingAvailableCapacity1(property.edt);
+			case EPC_V2H_REMAINING_AVAILABLE_CAPACITY2 : return o.isValidV2hRemainingAvailableCapacity2(property.edt);
+			case EPC_V2H_REMAINING_AVAILABLE_CAPACITY3 : return o.isValidV2hRemainingAvailableCapacity3(property.edt);
+			case EPC_RATED_CHARGE_CAPACITY : return o.isValidRatedChargeCapacity(property.edt);
+			case EPC_RATED_DISCHARGE_CAPACITY : return o.isValidRatedDischargeCapacity(property.edt);
+			case EPC_CHARGEABLE_DISCHARGE_ABLE_STATUS : return o.isValidChargeableDischargeAbleStatus(property.edt);
+			case EPC_MINIMUM_MAXIMUM_CHARGE_ELECTRIC_ENERGY : return o.isValidMinimumMaximumChargeElectricEnergy(property.edt);
+			case EPC_MINIMUM_MAXIMUM_DISCHARGE_ELECTRIC_ENERGY : return o.isValidMinimumMaximumDischargeElectricEnergy(property.edt);
+			case EPC_MINIMUM_MAXIMUM_CHARGE_CURRENT : return o.isValidMinimumMaximumChargeCurrent(property.edt);
+			case EPC_MINIMUM_MAXIMUM_DISCHARGE_CURRENT : return o.isValidMinimumMaximumDischargeCurrent(property.edt);
+			case EPC_USED_CAPACITY1 : return o.isValidUsedCapacity1(property.edt);
+			case EPC_USED_CAPACITY2 : return o.isValidUsedCapacity2(property.edt);
+			case EPC_RATED_VOLTAGE : return o.isValidRatedVoltage(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY : return o.isValidMeasuredInstantaneousChargeDischargeElectricEnergy(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT : return o.isValidMeasuredInstantaneousChargeDischargeCurrent(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE : return o.isValidMeasuredInstantaneousChargeDischargeVoltage(property.edt);
+			case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY : return o.isValidMeasuredCumulativeDischargeElectricEnergy(property.edt);
+			case EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : return o.isValidCumulativeDischargeElectricEnergyResetSetting(property.edt);
+			case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY : return o.isValidMeasuredCumulativeChargeElectricEnergy(property.edt);
+			case EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : return o.isValidCumulativeChargeElectricEnergyResetSetting(property.edt);
+			case EPC_OPERATION_MODE_SETTING : return o.isValidOperationModeSetting(property.edt);
+			case EPC_SYSTEM_INTERCONNECTE_D_TYPE : return o.isValidSystemInterconnecteDType(property.edt);
+			case EPC_REMAINING_BATTERY_CAPACITY1 : return o.isValidRemainingBatteryCapacity1(property.edt);
+			case EPC_REMAINING_BATTERY_CAPACITY2 : return o.isValidRemainingBatteryCapacity2(property.edt);
+			case EPC_REMAINING_BATTERY_CAPACITY3 : return o.isValidRemainingBatteryCapacity3(property.edt);
+			case EPC_DETERIORATION_STATUS : return o.isValidDeteriorationStatus(property.edt);
+			case EPC_CHARGING_AMOUNT_SETTING1 : return o.isValidChargingAmountSetting1(property.edt);
+			case EPC_DISCHARGING_AMOUNT_SETTING1 : return o.isValidDischargingAmountSetting1(property.edt);
+			case EPC_CHARGING_AMOUNT_SETTING2 : return o.isValidChargingAmountSetting2(property.edt);
+			case EPC_DISCHARGING_AMOUNT_SETTING2 : return o.isValidDischargingAmountSetting2(property.edt);
+			case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : return o.isValidChargeElectricEnergySetting(property.edt);
+			case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : return o.isValidDischargeElectricEnergySetting(property.edt);
+			case EPC_CHARGE_CURRENT_SETTING : return o.isValidChargeCurrentSetting(property.edt);
+			case EPC_DISCHARGE_CURRENT_SETTING : return o.isValidDischargeCurrentSetting(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : 
-				onSetCumulativeDischargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
+				r.onSetCumulativeDischargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : 
-				onSetCumulativeChargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
+				r.onSetCumulativeChargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OPERATION_MODE_SETTING : 
-				onSetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onSetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_AMOUNT_SETTING1 : 
-				onSetChargingAmountSetting1(eoj, tid, esv, property, success);
+				r.onSetChargingAmountSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGING_AMOUNT_SETTING1 : 
-				onSetDischargingAmountSetting1(eoj, tid, esv, property, success);
+				r.onSetDischargingAmountSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_AMOUNT_SETTING2 : 
-				onSetChargingAmountSetting2(eoj, tid, esv, property, success);
+				r.onSetChargingAmountSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGING_AMOUNT_SETTING2 : 
-				onSetDischargingAmountSetting2(eoj, tid, esv, property, success);
+				r.onSetDischargingAmountSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : 
-				onSetChargeElectricEnergySetting(eoj, tid, esv, property, success);
+				r.onSetChargeElectricEnergySetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : 
-				onSetDischargeElectricEnergySetting(eoj, tid, esv, property, success);
+				r.onSetDischargeElectricEnergySetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGE_CURRENT_SETTING : 
-				onSetChargeCurrentSetting(eoj, tid, esv, property, success);
+				r.onSetChargeCurrentSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGE_CURRENT_SETTING : 
-				onSetDischargeCurrentSetting(eoj, tid, esv, property, success);
+				r.onSetDischargeCurrentSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -2498,124 +2456,172 @@ bytes<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_V2H_STORED_ELECTRICITY1 : 
-				onGetV2hStoredElectricity1(eoj, tid, esv, property, success);
+				r.onGetV2hStoredElectricity1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_V2H_STORED_ELECTRICITY2 : 
-				onGetV2hStoredElectricity2(eoj, tid, esv, property, success);
+				r.onGetV2hStoredElectricity2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_V2H_REMAINING_AVAILABLE_CAPACITY1 : 
-				onGetV2hRemainingAvailableCapacity1(eoj, tid, esv, property, success);
+				r.onGetV2hRemainingAvailableCapacity1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_V2H_REMAINING_AVAILABLE_CAPACITY2 : 
-				onGetV2hRemainingAvailableCapacity2(eoj, tid, esv, property, success);
+				r.onGetV2hRemainingAvailableCapacity2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_V2H_REMAINING_AVAILABLE_CAPACITY3 : 
-				onGetV2hRemainingAvailableCapacity3(eoj, tid, esv, property, success);
+				r.onGetV2hRemainingAvailableCapacity3(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_CHARGE_CAPACITY : 
-				onGetRatedChargeCapacity(eoj, tid, esv, property, success);
+				r.onGetRatedChargeCapacity(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_DISCHARGE_CAPACITY : 
-				onGetRatedDischargeCapacity(eoj, tid, esv, property, success);
+				r.onGetRatedDischargeCapacity(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGEABLE_DISCHARGE_ABLE_STATUS : 
-				onGetChargeableDischargeAbleStatus(eoj, tid, esv, property, success);
+				r.onGetChargeableDischargeAbleStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIMUM_CHARGE_ELECTRIC_ENERGY : 
-				onGetMinimumMaximumChargeElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximumChargeElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIMUM_DISCHARGE_ELECTRIC_ENERGY : 
-				onGetMinimumMaximumDischargeElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximumDischargeElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIMUM_CHARGE_CURRENT : 
-				onGetMinimumMaximumChargeCurrent(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximumChargeCurrent(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_MAXIMUM_DISCHARGE_CURRENT : 
-				onGetMinimumMaximumDischargeCurrent(eoj, tid, esv, property, success);
+				r.onGetMinimumMaximumDischargeCurrent(eoj, tid, esv, property, success);
 				return true;
 			case EPC_USED_CAPACITY1 : 
-				onGetUsedCapacity1(eoj, tid, esv, property, success);
+				r.onGetUsedCapacity1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_USED_CAPACITY2 : 
-				onGetUsedCapacity2(eoj, tid, esv, property, success);
+				r.onGetUsedCapacity2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_VOLTAGE : 
-				onGetRatedVoltage(eoj, tid, esv, property, success);
+				r.onGetRatedVoltage(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY : 
-				onGetMeasuredInstantaneousChargeDischargeElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousChargeDischargeElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT : 
-				onGetMeasuredInstantaneousChargeDischargeCurrent(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousChargeDischargeCurrent(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE : 
-				onGetMeasuredInstantaneousChargeDischargeVoltage(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousChargeDischargeVoltage(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY : 
-				onGetMeasuredCumulativeDischargeElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeDischargeElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING : 
-				onGetCumulativeDischargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
+				r.onGetCumulativeDischargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY : 
-				onGetMeasuredCumulativeChargeElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeChargeElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING : 
-				onGetCumulativeChargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
+				r.onGetCumulativeChargeElectricEnergyResetSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OPERATION_MODE_SETTING : 
-				onGetOperationModeSetting(eoj, tid, esv, property, success);
+				r.onGetOperationModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SYSTEM_INTERCONNECTE_D_TYPE : 
-				onGetSystemInterconnecteDType(eoj, tid, esv, property, success);
+				r.onGetSystemInterconnecteDType(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_BATTERY_CAPACITY1 : 
-				onGetRemainingBatteryCapacity1(eoj, tid, esv, property, success);
+				r.onGetRemainingBatteryCapacity1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_BATTERY_CAPACITY2 : 
-				onGetRemainingBatteryCapacity2(eoj, tid, esv, property, success);
+				r.onGetRemainingBatteryCapacity2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_BATTERY_CAPACITY3 : 
-				onGetRemainingBatteryCapacity3(eoj, tid, esv, property, success);
+				r.onGetRemainingBatteryCapacity3(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DETERIORATION_STATUS : 
-				onGetDeteriorationStatus(eoj, tid, esv, property, success);
+				r.onGetDeteriorationStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_AMOUNT_SETTING1 : 
-				onGetChargingAmountSetting1(eoj, tid, esv, property, success);
+				r.onGetChargingAmountSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGING_AMOUNT_SETTING1 : 
-				onGetDischargingAmountSetting1(eoj, tid, esv, property, success);
+				r.onGetDischargingAmountSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGING_AMOUNT_SETTING2 : 
-				onGetChargingAmountSetting2(eoj, tid, esv, property, success);
+				r.onGetChargingAmountSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGING_AMOUNT_SETTING2 : 
-				onGetDischargingAmountSetting2(eoj, tid, esv, property, success);
+				r.onGetDischargingAmountSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGE_ELECTRIC_ENERGY_SETTING : 
-				onGetChargeElectricEnergySetting(eoj, tid, esv, property, success);
+				r.onGetChargeElectricEnergySetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING : 
-				onGetDischargeElectricEnergySetting(eoj, tid, esv, property, success);
+				r.onGetDischargeElectricEnergySetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CHARGE_CURRENT_SETTING : 
-				onGetChargeCurrentSetting(eoj, tid, esv, property, success);
+				r.onGetChargeCurrentSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DISCHARGE_CURRENT_SETTING : 
-				onGetDischargeCurrentSetting(eoj, tid, esv, property, success);
+				r.onGetDischargeCurrentSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ElectricVehicle.class, sPropertyHandler
+				, new byte[] {EPC_V2H_STORED_ELECTRICITY1, EPC_V2H_STORED_ELECTRICITY2, EPC_V2H_REMAINING_AVAILABLE_CAPACITY1, EPC_V2H_REMAINING_AVAILABLE_CAPACITY2, EPC_V2H_REMAINING_AVAILABLE_CAPACITY3, EPC_RATED_CHARGE_CAPACITY, EPC_RATED_DISCHARGE_CAPACITY, EPC_CHARGEABLE_DISCHARGE_ABLE_STATUS, EPC_MINIMUM_MAXIMUM_CHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIMUM_DISCHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIMUM_CHARGE_CURRENT, EPC_MINIMUM_MAXIMUM_DISCHARGE_CURRENT, EPC_USED_CAPACITY1, EPC_USED_CAPACITY2, EPC_RATED_VOLTAGE, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE, EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY, EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY, EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_OPERATION_MODE_SETTING, EPC_SYSTEM_INTERCONNECTE_D_TYPE, EPC_REMAINING_BATTERY_CAPACITY1, EPC_REMAINING_BATTERY_CAPACITY2, EPC_REMAINING_BATTERY_CAPACITY3, EPC_DETERIORATION_STATUS, EPC_CHARGING_AMOUNT_SETTING1, EPC_DISCHARGING_AMOUNT_SETTING1, EPC_CHARGING_AMOUNT_SETTING2, EPC_DISCHARGING_AMOUNT_SETTING2, EPC_CHARGE_ELECTRIC_ENERGY_SETTING, EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING, EPC_CHARGE_CURRENT_SETTING, EPC_DISCHARGE_CURRENT_SETTING}
+				, new byte[] {EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_OPERATION_MODE_SETTING, EPC_CHARGING_AMOUNT_SETTING1, EPC_DISCHARGING_AMOUNT_SETTING1, EPC_CHARGING_AMOUNT_SETTING2, EPC_DISCHARGING_AMOUNT_SETTING2, EPC_CHARGE_ELECTRIC_ENERGY_SETTING, EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING, EPC_CHARGE_CURRENT_SETTING, EPC_DISCHARGE_CURRENT_SETTING}
+				, new byte[] {EPC_V2H_STORED_ELECTRICITY1, EPC_V2H_STORED_ELECTRICITY2, EPC_V2H_REMAINING_AVAILABLE_CAPACITY1, EPC_V2H_REMAINING_AVAILABLE_CAPACITY2, EPC_V2H_REMAINING_AVAILABLE_CAPACITY3, EPC_RATED_CHARGE_CAPACITY, EPC_RATED_DISCHARGE_CAPACITY, EPC_CHARGEABLE_DISCHARGE_ABLE_STATUS, EPC_MINIMUM_MAXIMUM_CHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIMUM_DISCHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIMUM_CHARGE_CURRENT, EPC_MINIMUM_MAXIMUM_DISCHARGE_CURRENT, EPC_USED_CAPACITY1, EPC_USED_CAPACITY2, EPC_RATED_VOLTAGE, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE, EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY, EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY, EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_OPERATION_MODE_SETTING, EPC_SYSTEM_INTERCONNECTE_D_TYPE, EPC_REMAINING_BATTERY_CAPACITY1, EPC_REMAINING_BATTERY_CAPACITY2, EPC_REMAINING_BATTERY_CAPACITY3, EPC_DETERIORATION_STATUS, EPC_CHARGING_AMOUNT_SETTING1, EPC_DISCHARGING_AMOUNT_SETTING1, EPC_CHARGING_AMOUNT_SETTING2, EPC_DISCHARGING_AMOUNT_SETTING2, EPC_CHARGE_ELECTRIC_ENERGY_SETTING, EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING, EPC_CHARGE_CURRENT_SETTING, EPC_DISCHARGE_CURRENT_SETTING});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_OPERATION_MODE_SETTING, EPC_CHARGING_AMOUNT_SETTING1, EPC_DISCHARGING_AMOUNT_SETTING1, EPC_CHARGING_AMOUNT_SETTING2, EPC_DISCHARGING_AMOUNT_SETTING2, EPC_CHARGE_ELECTRIC_ENERGY_SETTING, EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING, EPC_CHARGE_CURRENT_SETTING, EPC_DISCHARGE_CURRENT_SETTING}
+					, new byte[] {EPC_V2H_STORED_ELECTRICITY1, EPC_V2H_STORED_ELECTRICITY2, EPC_V2H_REMAINING_AVAILABLE_CAPACITY1, EPC_V2H_REMAINING_AVAILABLE_CAPACITY2, EPC_V2H_REMAINING_AVAILABLE_CAPACITY3, EPC_RATED_CHARGE_CAPACITY, EPC_RATED_DISCHARGE_CAPACITY, EPC_CHARGEABLE_DISCHARGE_ABLE_STATUS, EPC_MINIMUM_MAXIMUM_CHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIMUM_DISCHARGE_ELECTRIC_ENERGY, EPC_MINIMUM_MAXIMUM_CHARGE_CURRENT, EPC_MINIMUM_MAXIMUM_DISCHARGE_CURRENT, EPC_USED_CAPACITY1, EPC_USED_CAPACITY2, EPC_RATED_VOLTAGE, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_CURRENT, EPC_MEASURED_INSTANTANEOUS_CHARGE_DISCHARGE_VOLTAGE, EPC_MEASURED_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY, EPC_CUMULATIVE_DISCHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_MEASURED_CUMULATIVE_CHARGE_ELECTRIC_ENERGY, EPC_CUMULATIVE_CHARGE_ELECTRIC_ENERGY_RESET_SETTING, EPC_OPERATION_MODE_SETTING, EPC_SYSTEM_INTERCONNECTE_D_TYPE, EPC_REMAINING_BATTERY_CAPACITY1, EPC_REMAINING_BATTERY_CAPACITY2, EPC_REMAINING_BATTERY_CAPACITY3, EPC_DETERIORATION_STATUS, EPC_CHARGING_AMOUNT_SETTING1, EPC_DISCHARGING_AMOUNT_SETTING1, EPC_CHARGING_AMOUNT_SETTING2, EPC_DISCHARGING_AMOUNT_SETTING2, EPC_CHARGE_ELECTRIC_ENERGY_SETTING, EPC_DISCHARGE_ELECTRIC_ENERGY_SETTING, EPC_CHARGE_CURRENT_SETTING, EPC_DISCHARGE_CURRENT_SETTING}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : V2H stored electricity 1<br>
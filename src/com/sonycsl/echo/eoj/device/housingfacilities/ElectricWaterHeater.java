@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -1769,192 +1770,149 @@ bytes<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_AUTOMATIC_WATER_HEATING_SETTING : return setAutomaticWaterHeatingSetting(property.edt);
-		case EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING : return setAutomaticWaterTemperatureControlSetting(property.edt);
-		case EPC_WATER_HEATING_TEMPERATURE_SETTING : return setWaterHeatingTemperatureSetting(property.edt);
-		case EPC_DAYTIME_REHEATING_PERMISSION_SETTING : return setDaytimeReheatingPermissionSetting(property.edt);
-		case EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING : return setTemperatureOfSuppliedWaterSetting(property.edt);
-		case EPC_BATH_WATER_TEMPERATURE_SETTING : return setBathWaterTemperatureSetting(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING : return setBathWaterVolumeSetting(property.edt);
-		case EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING : return setAutomaticBathWaterHeatingModeSetting(property.edt);
-		case EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING : return setAdditionOfHotWaterFunctionSetting(property.edt);
-		case EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING : return setSlightBathWaterTemperatureLoweringFunctionSetting(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING1 : return setBathWaterVolumeSetting1(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING2 : return setBathWaterVolumeSetting2(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING3 : return setBathWaterVolumeSetting3(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING4 : return setBathWaterVolumeSetting4(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return setOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return setOnTimerSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_AUTOMATIC_WATER_HEATING_SETTING : return getAutomaticWaterHeatingSetting();
-		case EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING : return getAutomaticWaterTemperatureControlSetting();
-		case EPC_WATER_HEATER_STATUS : return getWaterHeaterStatus();
-		case EPC_WATER_HEATING_TEMPERATURE_SETTING : return getWaterHeatingTemperatureSetting();
-		case EPC_DAYTIME_REHEATING_PERMISSION_SETTING : return getDaytimeReheatingPermissionSetting();
-		case EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER : return getMeasuredTemperatureOfWaterInWaterHeater();
-		case EPC_ALARM_STATUS : return getAlarmStatus();
-		case EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING : return getTemperatureOfSuppliedWaterSetting();
-		case EPC_BATH_WATER_TEMPERATURE_SETTING : return getBathWaterTemperatureSetting();
-		case EPC_BATH_WATER_VOLUME_SETTING : return getBathWaterVolumeSetting();
-		case EPC_MEASURED_AMOUNT_OF_WATER_REMAINING_IN_TANK : return getMeasuredAmountOfWaterRemainingInTank();
-		case EPC_TANK_CAPACITY : return getTankCapacity();
-		case EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING : return getAutomaticBathWaterHeatingModeSetting();
-		case EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING : return getAdditionOfHotWaterFunctionSetting();
-		case EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING : return getSlightBathWaterTemperatureLoweringFunctionSetting();
-		case EPC_BATH_WATER_VOLUME_SETTING1 : return getBathWaterVolumeSetting1();
-		case EPC_BATH_WATER_VOLUME_SETTING2 : return getBathWaterVolumeSetting2();
-		case EPC_BATH_WATER_VOLUME_SETTING3 : return getBathWaterVolumeSetting3();
-		case EPC_BATH_WATER_VOLUME_SETTING4 : return getBathWaterVolumeSetting4();
-		case EPC_BATH_WATER_VOLUME_SETTING4_MAXIMUM_SETTABLE_LEVEL : return getBathWaterVolumeSetting4MaximumSettableLevel();
-		case EPC_ON_TIMER_RESERVATION_SETTING : return getOnTimerReservationSetting();
-		case EPC_ON_TIMER_SETTING : return getOnTimerSetting();
-		case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_WINTERTIME : return getRatedPowerConsumptionOfHPUnitInWintertime();
-		case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_IN_BETWEEN_SEASONS : return getRatedPowerConsumptionOfHPUnitInInBetweenSeasons();
-		case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_SUMMERTIME : return getRatedPowerConsumptionOfHPUnitInSummertime();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			ElectricWaterHeater o = (ElectricWaterHeater)eoj;
+			switch(property.epc) {
+			case EPC_AUTOMATIC_WATER_HEATING_SETTING : return o.setAutomaticWaterHeatingSetting(property.edt);
+			case EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING : return o.setAutomaticWaterTemperatureControlSetting(property.edt);
+			case EPC_WATER_HEATING_TEMPERATURE_SETTING : return o.setWaterHeatingTemperatureSetting(property.edt);
+			case EPC_DAYTIME_REHEATING_PERMISSION_SETTING : return o.setDaytimeReheatingPermissionSetting(property.edt);
+			case EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING : return o.setTemperatureOfSuppliedWaterSetting(property.edt);
+			case EPC_BATH_WATER_TEMPERATURE_SETTING : return o.setBathWaterTemperatureSetting(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING : return o.setBathWaterVolumeSetting(property.edt);
+			case EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING : return o.setAutomaticBathWaterHeatingModeSetting(property.edt);
+			case EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING : return o.setAdditionOfHotWaterFunctionSetting(property.edt);
+			case EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING : return o.setSlightBathWaterTemperatureLoweringFunctionSetting(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING1 : return o.setBathWaterVolumeSetting1(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING2 : return o.setBathWaterVolumeSetting2(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING3 : return o.setBathWaterVolumeSetting3(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING4 : return o.setBathWaterVolumeSetting4(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.setOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.setOnTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_AUTOMATIC_WATER_HEATING_SETTING : return isValidAutomaticWaterHeatingSetting(property.edt);
-		case EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING : return isValidAutomaticWaterTemperatureControlSetting(property.edt);
-		case EPC_WATER_HEATER_STATUS : return isValidWaterHeaterStatus(property.edt);
-		case EPC_WATER_HEATING_TEMPERATURE_SETTING : return isValidWaterHeatingTemperatureSetting(property.edt);
-		case EPC_DAYTIME_REHEATING_PERMISSION_SETTING : return isValidDaytimeReheatingPermissionSetting(property.edt);
-		case EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER : return isValidMeasuredTemperatureOfWaterInWaterHeater(property.edt);
-		case EPC_ALARM_STATUS : return isValidAlarmStatus(property.edt);
-		case EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING : return isValidTemperatureOfSuppliedWaterSetting(property.edt);
-		case EPC_BATH_WATER_TEMPERATURE_SETTING : return isValidBathWaterTemperatureSetting(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING : return isValidBathWaterVolumeSetting(property.edt);
-		case EPC_MEASURED_AMOUNT_OF_WATER_REMAINING_IN_TANK : return isValidMeasuredAmountOfWaterRemainingInTank(property.edt);
-		case EPC_TANK_CAPACITY : return isValidTankCapacity(property.edt);
-		case EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING : return isValidAutomaticBathWaterHeatingModeSetting(property.edt);
-		case EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING : return isValidAdditionOfHotWaterFunctionSetting(property.edt);
-		case EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING : return isValidSlightBathWaterTemperatureLoweringFunctionSetting(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING1 : return isValidBathWaterVolumeSetting1(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING2 : return isValidBathWaterVolumeSetting2(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING3 : return isValidBathWaterVolumeSetting3(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING4 : return isValidBathWaterVolumeSetting4(property.edt);
-		case EPC_BATH_WATER_VOLUME_SETTING4_MAXIMUM_SETTABLE_LEVEL : return isValidBathWaterVolumeSetting4MaximumSettableLevel(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return isValidOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return isValidOnTimerSetting(property.edt);
-		case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_WINTERTIME : return isValidRatedPowerConsumptionOfHPUnitInWintertime(property.edt);
-		case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_IN_BETWEEN_SEASONS : return isValidRatedPowerConsumptionOfHPUnitInInBetweenSeasons(property.edt);
-		case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_SUMMERTIME : return isValidRatedPowerConsumptionOfHPUnitInSummertime(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ElectricWaterHeater o = (ElectricWaterHeater)eoj;
+			switch(epc) {
+			case EPC_AUTOMATIC_WATER_HEATING_SETTING : return o.getAutomaticWaterHeatingSetting();
+			case EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING : return o.getAutomaticWaterTemperatureControlSetting();
+			case EPC_WATER_HEATER_STATUS : return o.getWaterHeaterStatus();
+			case EPC_WATER_HEATING_TEMPERATURE_SETTING : return o.getWaterHeatingTemperatureSetting();
+			case EPC_DAYTIME_REHEATING_PERMISSION_SETTING : return o.getDaytimeReheatingPermissionSetting();
+			case EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER : return o.getMeasuredTemperatureOfWaterInWaterHeater();
+			case EPC_ALARM_STATUS : return o.getAlarmStatus();
+			case EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING : return o.getTemperatureOfSuppliedWaterSetting();
+			case EPC_BATH_WATER_TEMPERATURE_SETTING : return o.getBathWaterTemperatureSetting();
+			case EPC_BATH_WATER_VOLUME_SETTING : return o.getBathWaterVolumeSetting();
+			case EPC_MEASURED_AMOUNT_OF_WATER_REMAINING_IN_TANK : return o.getMeasuredAmountOfWaterRemainingInTank();
+			case EPC_TANK_CAPACITY : return o.getTankCapacity();
+			case EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING : return o.getAutomaticBathWaterHeatingModeSetting();
+			case EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING : return o.getAdditionOfHotWaterFunctionSetting();
+			case EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING : return o.getSlightBathWaterTemperatureLoweringFunctionSetting();
+			case EPC_BATH_WATER_VOLUME_SETTING1 : return o.getBathWaterVolumeSetting1();
+			case EPC_BATH_WATER_VOLUME_SETTING2 : return o.getBathWaterVolumeSetting2();
+			case EPC_BATH_WATER_VOLUME_SETTING3 : return o.getBathWaterVolumeSetting3();
+			case EPC_BATH_WATER_VOLUME_SETTING4 : return o.getBathWaterVolumeSetting4();
+			case EPC_BATH_WATER_VOLUME_SETTING4_MAXIMUM_SETTABLE_LEVEL : return o.getBathWaterVolumeSetting4MaximumSettableLevel();
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.getOnTimerReservationSetting();
+			case EPC_ON_TIMER_SETTING : return o.getOnTimerSetting();
+			case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_WINTERTIME : return o.getRatedPowerConsumptionOfHPUnitInWintertime();
+			case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_IN_BETWEEN_SEASONS : return o.getRatedPowerConsumptionOfHPUnitInInBetweenSeasons();
+			case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_SUMMERTIME : return o.getRatedPowerConsumptionOfHPUnitInSummertime();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ElectricWaterHeater o = (ElectricWaterHeater)eoj;
+			switch(property.epc) {
+			case EPC_AUTOMATIC_WATER_HEATING_SETTING : return o.isValidAutomaticWaterHeatingSetting(property.edt);
+			case EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING : return o.isValidAutomaticWaterTemperatureControlSetting(property.edt);
+			case EPC_WATER_HEATER_STATUS : return o.isValidWaterHeaterStatus(property.edt);
+			case EPC_WATER_HEATING_TEMPERATURE_SETTING : return o.isValidWaterHeatingTemperatureSetting(property.edt);
+			case EPC_DAYTIME_REHEATING_PERMISSION_SETTING : return o.isValidDaytimeReheatingPermissionSetting(property.edt);
+			case EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER : return o.isValidMeasuredTemperatureOfWaterInWaterHeater(property.edt);
+			case EPC_ALARM_STATUS : return o.isValidAlarmStatus(property.edt);
+			case EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING : return o.isValidTemperatureOfSuppliedWaterSetting(property.edt);
+			case EPC_BATH_WATER_TEMPERATURE_SETTING : return o.isValidBathWaterTemperatureSetting(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING : return o.isValidBathWaterVolumeSetting(property.edt);
+			case EPC_MEASURED_AMOUNT_OF_WATER_REMAINING_IN_TANK : return o.isValidMeasuredAmountOfWaterRemainingInTank(property.edt);
+			case EPC_TANK_CAPACITY : return o.isValidTankCapacity(property.edt);
+			case EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING : return o.isValidAutomaticBathWaterHeatingModeSetting(property.edt);
+			case EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING : return o.isValidAdditionOfHotWaterFunctionSetting(property.edt);
+			case EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING : return o.isValidSlightBathWaterTemperatureLoweringFunctionSetting(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING1 : return o.isValidBathWaterVolumeSetting1(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING2 : return o.isValidBathWaterVolumeSetting2(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING3 : return o.isValidBathWaterVolumeSetting3(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING4 : return o.isValidBathWaterVolumeSetting4(property.edt);
+			case EPC_BATH_WATER_VOLUME_SETTING4_MAXIMUM_SETTABLE_LEVEL : return o.isValidBathWaterVolumeSetting4MaximumSettableLevel(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.isValidOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.isValidOnTimerSetting(property.edt);
+			case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_WINTERTIME : return o.isValidRatedPowerConsumptionOfHPUnitInWintertime(property.edt);
+			case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_IN_BETWEEN_SEASONS : return o.isValidRatedPowerConsumptionOfHPUnitInInBetweenSeasons(property.edt);
+			case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_SUMMERTIME : return o.isValidRatedPowerConsumptionOfHPUnitInSummertime(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_AUTOMATIC_WATER_HEATING_SETTING : 
-				onSetAutomaticWaterHeatingSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticWaterHeatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING : 
-				onSetAutomaticWaterTemperatureControlSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticWaterTemperatureControlSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_HEATING_TEMPERATURE_SETTING : 
-				onSetWaterHeatingTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetWaterHeatingTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAYTIME_REHEATING_PERMISSION_SETTING : 
-				onSetDaytimeReheatingPermissionSetting(eoj, tid, esv, property, success);
+				r.onSetDaytimeReheatingPermissionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING : 
-				onSetTemperatureOfSuppliedWaterSetting(eoj, tid, esv, property, success);
+				r.onSetTemperatureOfSuppliedWaterSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_TEMPERATURE_SETTING : 
-				onSetBathWaterTemperatureSetting(eoj, tid, esv, property, success);
+				r.onSetBathWaterTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING : 
-				onSetBathWaterVolumeSetting(eoj, tid, esv, property, success);
+				r.onSetBathWaterVolumeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING : 
-				onSetAutomaticBathWaterHeatingModeSetting(eoj, tid, esv, property, success);
+				r.onSetAutomaticBathWaterHeatingModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING : 
-				onSetAdditionOfHotWaterFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetAdditionOfHotWaterFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING : 
-				onSetSlightBathWaterTemperatureLoweringFunctionSetting(eoj, tid, esv, property, success);
+				r.onSetSlightBathWaterTemperatureLoweringFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING1 : 
-				onSetBathWaterVolumeSetting1(eoj, tid, esv, property, success);
+				r.onSetBathWaterVolumeSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING2 : 
-				onSetBathWaterVolumeSetting2(eoj, tid, esv, property, success);
+				r.onSetBathWaterVolumeSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING3 : 
-				onSetBathWaterVolumeSetting3(eoj, tid, esv, property, success);
+				r.onSetBathWaterVolumeSetting3(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING4 : 
-				onSetBathWaterVolumeSetting4(eoj, tid, esv, property, success);
+				r.onSetBathWaterVolumeSetting4(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onSetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1962,91 +1920,139 @@ bytes<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_AUTOMATIC_WATER_HEATING_SETTING : 
-				onGetAutomaticWaterHeatingSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticWaterHeatingSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING : 
-				onGetAutomaticWaterTemperatureControlSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticWaterTemperatureControlSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_HEATER_STATUS : 
-				onGetWaterHeaterStatus(eoj, tid, esv, property, success);
+				r.onGetWaterHeaterStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_WATER_HEATING_TEMPERATURE_SETTING : 
-				onGetWaterHeatingTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetWaterHeatingTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAYTIME_REHEATING_PERMISSION_SETTING : 
-				onGetDaytimeReheatingPermissionSetting(eoj, tid, esv, property, success);
+				r.onGetDaytimeReheatingPermissionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER : 
-				onGetMeasuredTemperatureOfWaterInWaterHeater(eoj, tid, esv, property, success);
+				r.onGetMeasuredTemperatureOfWaterInWaterHeater(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ALARM_STATUS : 
-				onGetAlarmStatus(eoj, tid, esv, property, success);
+				r.onGetAlarmStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING : 
-				onGetTemperatureOfSuppliedWaterSetting(eoj, tid, esv, property, success);
+				r.onGetTemperatureOfSuppliedWaterSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_TEMPERATURE_SETTING : 
-				onGetBathWaterTemperatureSetting(eoj, tid, esv, property, success);
+				r.onGetBathWaterTemperatureSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING : 
-				onGetBathWaterVolumeSetting(eoj, tid, esv, property, success);
+				r.onGetBathWaterVolumeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_AMOUNT_OF_WATER_REMAINING_IN_TANK : 
-				onGetMeasuredAmountOfWaterRemainingInTank(eoj, tid, esv, property, success);
+				r.onGetMeasuredAmountOfWaterRemainingInTank(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TANK_CAPACITY : 
-				onGetTankCapacity(eoj, tid, esv, property, success);
+				r.onGetTankCapacity(eoj, tid, esv, property, success);
 				return true;
 			case EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING : 
-				onGetAutomaticBathWaterHeatingModeSetting(eoj, tid, esv, property, success);
+				r.onGetAutomaticBathWaterHeatingModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING : 
-				onGetAdditionOfHotWaterFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetAdditionOfHotWaterFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING : 
-				onGetSlightBathWaterTemperatureLoweringFunctionSetting(eoj, tid, esv, property, success);
+				r.onGetSlightBathWaterTemperatureLoweringFunctionSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING1 : 
-				onGetBathWaterVolumeSetting1(eoj, tid, esv, property, success);
+				r.onGetBathWaterVolumeSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING2 : 
-				onGetBathWaterVolumeSetting2(eoj, tid, esv, property, success);
+				r.onGetBathWaterVolumeSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING3 : 
-				onGetBathWaterVolumeSetting3(eoj, tid, esv, property, success);
+				r.onGetBathWaterVolumeSetting3(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING4 : 
-				onGetBathWaterVolumeSetting4(eoj, tid, esv, property, success);
+				r.onGetBathWaterVolumeSetting4(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_VOLUME_SETTING4_MAXIMUM_SETTABLE_LEVEL : 
-				onGetBathWaterVolumeSetting4MaximumSettableLevel(eoj, tid, esv, property, success);
+				r.onGetBathWaterVolumeSetting4MaximumSettableLevel(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onGetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_WINTERTIME : 
-				onGetRatedPowerConsumptionOfHPUnitInWintertime(eoj, tid, esv, property, success);
+				r.onGetRatedPowerConsumptionOfHPUnitInWintertime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_IN_BETWEEN_SEASONS : 
-				onGetRatedPowerConsumptionOfHPUnitInInBetweenSeasons(eoj, tid, esv, property, success);
+				r.onGetRatedPowerConsumptionOfHPUnitInInBetweenSeasons(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_SUMMERTIME : 
-				onGetRatedPowerConsumptionOfHPUnitInSummertime(eoj, tid, esv, property, success);
+				r.onGetRatedPowerConsumptionOfHPUnitInSummertime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ElectricWaterHeater.class, sPropertyHandler
+				, new byte[] {EPC_AUTOMATIC_WATER_HEATING_SETTING, EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING, EPC_WATER_HEATER_STATUS, EPC_WATER_HEATING_TEMPERATURE_SETTING, EPC_DAYTIME_REHEATING_PERMISSION_SETTING, EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER, EPC_ALARM_STATUS, EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING, EPC_BATH_WATER_TEMPERATURE_SETTING, EPC_BATH_WATER_VOLUME_SETTING, EPC_MEASURED_AMOUNT_OF_WATER_REMAINING_IN_TANK, EPC_TANK_CAPACITY, EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING, EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING, EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING, EPC_BATH_WATER_VOLUME_SETTING1, EPC_BATH_WATER_VOLUME_SETTING2, EPC_BATH_WATER_VOLUME_SETTING3, EPC_BATH_WATER_VOLUME_SETTING4, EPC_BATH_WATER_VOLUME_SETTING4_MAXIMUM_SETTABLE_LEVEL, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_WINTERTIME, EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_IN_BETWEEN_SEASONS, EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_SUMMERTIME}
+				, new byte[] {EPC_AUTOMATIC_WATER_HEATING_SETTING, EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING, EPC_WATER_HEATING_TEMPERATURE_SETTING, EPC_DAYTIME_REHEATING_PERMISSION_SETTING, EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING, EPC_BATH_WATER_TEMPERATURE_SETTING, EPC_BATH_WATER_VOLUME_SETTING, EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING, EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING, EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING, EPC_BATH_WATER_VOLUME_SETTING1, EPC_BATH_WATER_VOLUME_SETTING2, EPC_BATH_WATER_VOLUME_SETTING3, EPC_BATH_WATER_VOLUME_SETTING4, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING}
+				, new byte[] {EPC_AUTOMATIC_WATER_HEATING_SETTING, EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING, EPC_WATER_HEATER_STATUS, EPC_WATER_HEATING_TEMPERATURE_SETTING, EPC_DAYTIME_REHEATING_PERMISSION_SETTING, EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER, EPC_ALARM_STATUS, EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING, EPC_BATH_WATER_TEMPERATURE_SETTING, EPC_BATH_WATER_VOLUME_SETTING, EPC_MEASURED_AMOUNT_OF_WATER_REMAINING_IN_TANK, EPC_TANK_CAPACITY, EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING, EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING, EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING, EPC_BATH_WATER_VOLUME_SETTING1, EPC_BATH_WATER_VOLUME_SETTING2, EPC_BATH_WATER_VOLUME_SETTING3, EPC_BATH_WATER_VOLUME_SETTING4, EPC_BATH_WATER_VOLUME_SETTING4_MAXIMUM_SETTABLE_LEVEL, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_WINTERTIME, EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_IN_BETWEEN_SEASONS, EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_SUMMERTIME});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_AUTOMATIC_WATER_HEATING_SETTING, EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING, EPC_WATER_HEATING_TEMPERATURE_SETTING, EPC_DAYTIME_REHEATING_PERMISSION_SETTING, EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING, EPC_BATH_WATER_TEMPERATURE_SETTING, EPC_BATH_WATER_VOLUME_SETTING, EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING, EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING, EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING, EPC_BATH_WATER_VOLUME_SETTING1, EPC_BATH_WATER_VOLUME_SETTING2, EPC_BATH_WATER_VOLUME_SETTING3, EPC_BATH_WATER_VOLUME_SETTING4, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING}
+					, new byte[] {EPC_AUTOMATIC_WATER_HEATING_SETTING, EPC_AUTOMATIC_WATER_TEMPERATURE_CONTROL_SETTING, EPC_WATER_HEATER_STATUS, EPC_WATER_HEATING_TEMPERATURE_SETTING, EPC_DAYTIME_REHEATING_PERMISSION_SETTING, EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER, EPC_ALARM_STATUS, EPC_TEMPERATURE_OF_SUPPLIED_WATER_SETTING, EPC_BATH_WATER_TEMPERATURE_SETTING, EPC_BATH_WATER_VOLUME_SETTING, EPC_MEASURED_AMOUNT_OF_WATER_REMAINING_IN_TANK, EPC_TANK_CAPACITY, EPC_AUTOMATIC_BATH_WATER_HEATING_MODE_SETTING, EPC_ADDITION_OF_HOT_WATER_FUNCTION_SETTING, EPC_SLIGHT_BATH_WATER_TEMPERATURE_LOWERING_FUNCTION_SETTING, EPC_BATH_WATER_VOLUME_SETTING1, EPC_BATH_WATER_VOLUME_SETTING2, EPC_BATH_WATER_VOLUME_SETTING3, EPC_BATH_WATER_VOLUME_SETTING4, EPC_BATH_WATER_VOLUME_SETTING4_MAXIMUM_SETTABLE_LEVEL, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_WINTERTIME, EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_IN_BETWEEN_SEASONS, EPC_RATED_POWER_CONSUMPTION_OF_H_P_UNIT_IN_SUMMERTIME}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : “Automatic water heating” setting<br>
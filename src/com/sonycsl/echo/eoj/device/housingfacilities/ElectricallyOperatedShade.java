@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -387,46 +388,93 @@ public abstract class ElectricallyOperatedShade extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			ElectricallyOperatedShade o = (ElectricallyOperatedShade)eoj;
+			switch(property.epc) {
+			case EPC_OPEN_CLOSE_SETTING : return o.setOpenCloseSetting(property.edt);
+			case EPC_DEGREE_OF_OPENI_NG_LEVEL : return o.setDegreeOfOpeniNgLevel(property.edt);
+			case EPC_SET_VALUE_OF_SHADE_ANGLE : return o.setSetValueOfShadeAngle(property.edt);
+			case EPC_SHADE_OPEN_CLOSE_SPEED : return o.setShadeOpenCloseSpeed(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_OPEN_CLOSE_SETTING : return setOpenCloseSetting(property.edt);
-		case EPC_DEGREE_OF_OPENI_NG_LEVEL : return setDegreeOfOpeniNgLevel(property.edt);
-		case EPC_SET_VALUE_OF_SHADE_ANGLE : return setSetValueOfShadeAngle(property.edt);
-		case EPC_SHADE_OPEN_CLOSE_SPEED : return setShadeOpenCloseSpeed(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ElectricallyOperatedShade o = (ElectricallyOperatedShade)eoj;
+			switch(epc) {
+			case EPC_OPEN_CLOSE_SETTING : return o.getOpenCloseSetting();
+			case EPC_DEGREE_OF_OPENI_NG_LEVEL : return o.getDegreeOfOpeniNgLevel();
+			case EPC_SET_VALUE_OF_SHADE_ANGLE : return o.getSetValueOfShadeAngle();
+			case EPC_SHADE_OPEN_CLOSE_SPEED : return o.getShadeOpenCloseSpeed();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_OPEN_CLOSE_SETTING : return getOpenCloseSetting();
-		case EPC_DEGREE_OF_OPENI_NG_LEVEL : return getDegreeOfOpeniNgLevel();
-		case EPC_SET_VALUE_OF_SHADE_ANGLE : return getSetValueOfShadeAngle();
-		case EPC_SHADE_OPEN_CLOSE_SPEED : return getShadeOpenCloseSpeed();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ElectricallyOperatedShade o = (ElectricallyOperatedShade)eoj;
+			switch(property.epc) {
+			case EPC_OPEN_CLOSE_SETTING : return o.isValidOpenCloseSetting(property.edt);
+			case EPC_DEGREE_OF_OPENI_NG_LEVEL : return o.isValidDegreeOfOpeniNgLevel(property.edt);
+			case EPC_SET_VALUE_OF_SHADE_ANGLE : return o.isValidSetValueOfShadeAngle(property.edt);
+			case EPC_SHADE_OPEN_CLOSE_SPEED : return o.isValidShadeOpenCloseSpeed(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_OPEN_CLOSE_SETTING : return isValidOpenCloseSetting(property.edt);
-		case EPC_DEGREE_OF_OPENI_NG_LEVEL : return isValidDegreeOfOpeniNgLevel(property.edt);
-		case EPC_SET_VALUE_OF_SHADE_ANGLE : return isValidSetValueOfShadeAngle(property.edt);
-		case EPC_SHADE_OPEN_CLOSE_SPEED : return isValidShadeOpenCloseSpeed(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_OPEN_CLOSE_SETTING : 
+				r.onSetOpenCloseSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_DEGREE_OF_OPENI_NG_LEVEL : 
+				r.onSetDegreeOfOpeniNgLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SET_VALUE_OF_SHADE_ANGLE : 
+				r.onSetSetValueOfShadeAngle(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SHADE_OPEN_CLOSE_SPEED : 
+				r.onSetShadeOpenCloseSpeed(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_OPEN_CLOSE_SETTING : 
+				r.onGetOpenCloseSetting(eoj, tid, esv, property, success);
+				return true;
+			case EPC_DEGREE_OF_OPENI_NG_LEVEL : 
+				r.onGetDegreeOfOpeniNgLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SET_VALUE_OF_SHADE_ANGLE : 
+				r.onGetSetValueOfShadeAngle(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SHADE_OPEN_CLOSE_SPEED : 
+				r.onGetShadeOpenCloseSpeed(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ElectricallyOperatedShade.class, sPropertyHandler
+				, new byte[] {EPC_OPEN_CLOSE_SETTING, EPC_DEGREE_OF_OPENI_NG_LEVEL, EPC_SET_VALUE_OF_SHADE_ANGLE, EPC_SHADE_OPEN_CLOSE_SPEED}
+				, new byte[] {EPC_OPEN_CLOSE_SETTING, EPC_DEGREE_OF_OPENI_NG_LEVEL, EPC_SET_VALUE_OF_SHADE_ANGLE, EPC_SHADE_OPEN_CLOSE_SPEED}
+				, new byte[] {EPC_OPEN_CLOSE_SETTING, EPC_DEGREE_OF_OPENI_NG_LEVEL, EPC_SET_VALUE_OF_SHADE_ANGLE, EPC_SHADE_OPEN_CLOSE_SPEED});
 	}
 
 	@Override
@@ -464,53 +512,11 @@ public abstract class ElectricallyOperatedShade extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_OPEN_CLOSE_SETTING : 
-				onSetOpenCloseSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_DEGREE_OF_OPENI_NG_LEVEL : 
-				onSetDegreeOfOpeniNgLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SET_VALUE_OF_SHADE_ANGLE : 
-				onSetSetValueOfShadeAngle(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SHADE_OPEN_CLOSE_SPEED : 
-				onSetShadeOpenCloseSpeed(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_OPEN_CLOSE_SETTING : 
-				onGetOpenCloseSetting(eoj, tid, esv, property, success);
-				return true;
-			case EPC_DEGREE_OF_OPENI_NG_LEVEL : 
-				onGetDegreeOfOpeniNgLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SET_VALUE_OF_SHADE_ANGLE : 
-				onGetSetValueOfShadeAngle(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SHADE_OPEN_CLOSE_SPEED : 
-				onGetShadeOpenCloseSpeed(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_OPEN_CLOSE_SETTING, EPC_DEGREE_OF_OPENI_NG_LEVEL, EPC_SET_VALUE_OF_SHADE_ANGLE, EPC_SHADE_OPEN_CLOSE_SPEED}
+					, new byte[] {EPC_OPEN_CLOSE_SETTING, EPC_DEGREE_OF_OPENI_NG_LEVEL, EPC_SET_VALUE_OF_SHADE_ANGLE, EPC_SHADE_OPEN_CLOSE_SPEED}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -938,124 +939,81 @@ public abstract class EngineCogeneration extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_CUMULATIVE_POWER_GENERATION_OUTPUT_RESET_SETTING : return setCumulativePowerGenerationOutputResetSetting(property.edt);
-		case EPC_CUMULATIVE_GAS_CONSUMPTION_RESET_SETTING : return setCumulativeGasConsumptionResetSetting(property.edt);
-		case EPC_POWER_GENERATION_SETTING : return setPowerGenerationSetting(property.edt);
-		case EPC_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION_RESET : return setInHouseCumulativePowerConsumptionReset(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER : return getMeasuredTemperatureOfWaterInWaterHeater();
-		case EPC_RATED_POWER_GENERATION_OUTPUT : return getRatedPowerGenerationOutput();
-		case EPC_HEATING_VALUE_OF_HOT_WATER_STORAGE_TANK : return getHeatingValueOfHotWaterStorageTank();
-		case EPC_MEASURED_INSTANTANEOUS_POWER_GENERATION_OUTPUT : return getMeasuredInstantaneousPowerGenerationOutput();
-		case EPC_MEASURED_CUMULATIVE_POWER_GENERATION_OUTPUT : return getMeasuredCumulativePowerGenerationOutput();
-		case EPC_MEASURED_INSTANTANEOUS_GAS_CONSUMPTION : return getMeasuredInstantaneousGasConsumption();
-		case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return getMeasuredCumulativeGasConsumption();
-		case EPC_POWER_GENERATION_STATUS : return getPowerGenerationStatus();
-		case EPC_MEASURED_IN_HOUSE_INSTANTANEOUS_POWER_CONSUMPTION : return getMeasuredInHouseInstantaneousPowerConsumption();
-		case EPC_MEASURED_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION : return getMeasuredInHouseCumulativePowerConsumption();
-		case EPC_SYSTEM_INTERCONNECTED_TYPE : return getSystemInterconnectedType();
-		case EPC_MEASURED_REMAINING_HOT_WATER_AMOUNT : return getMeasuredRemainingHotWaterAmount();
-		case EPC_TANK_CAPACITY : return getTankCapacity();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			EngineCogeneration o = (EngineCogeneration)eoj;
+			switch(property.epc) {
+			case EPC_CUMULATIVE_POWER_GENERATION_OUTPUT_RESET_SETTING : return o.setCumulativePowerGenerationOutputResetSetting(property.edt);
+			case EPC_CUMULATIVE_GAS_CONSUMPTION_RESET_SETTING : return o.setCumulativeGasConsumptionResetSetting(property.edt);
+			case EPC_POWER_GENERATION_SETTING : return o.setPowerGenerationSetting(property.edt);
+			case EPC_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION_RESET : return o.setInHouseCumulativePowerConsumptionReset(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER : return isValidMeasuredTemperatureOfWaterInWaterHeater(property.edt);
-		case EPC_RATED_POWER_GENERATION_OUTPUT : return isValidRatedPowerGenerationOutput(property.edt);
-		case EPC_HEATING_VALUE_OF_HOT_WATER_STORAGE_TANK : return isValidHeatingValueOfHotWaterStorageTank(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_POWER_GENERATION_OUTPUT : return isValidMeasuredInstantaneousPowerGenerationOutput(property.edt);
-		case EPC_MEASURED_CUMULATIVE_POWER_GENERATION_OUTPUT : return isValidMeasuredCumulativePowerGenerationOutput(property.edt);
-		case EPC_CUMULATIVE_POWER_GENERATION_OUTPUT_RESET_SETTING : return isValidCumulativePowerGenerationOutputResetSetting(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_GAS_CONSUMPTION : return isValidMeasuredInstantaneousGasConsumption(property.edt);
-		case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return isValidMeasuredCumulativeGasConsumption(property.edt);
-		case EPC_CUMULATIVE_GAS_CONSUMPTION_RESET_SETTING : return isValidCumulativeGasConsumptionResetSetting(property.edt);
-		case EPC_POWER_GENERATION_SETTING : return isValidPowerGenerationSetting(property.edt);
-		case EPC_POWER_GENERATION_STATUS : return isValidPowerGenerationStatus(property.edt);
-		case EPC_MEASURED_IN_HOUSE_INSTANTANEOUS_POWER_CONSUMPTION : return isValidMeasuredInHouseInstantaneousPowerConsumption(property.edt);
-		case EPC_MEASURED_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION : return isValidMeasuredInHouseCumulativePowerConsumption(property.edt);
-		case EPC_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION_RESET : return isValidInHouseCumulativePowerConsumptionReset(property.edt);
-		case EPC_SYSTEM_INTERCONNECTED_TYPE : return isValidSystemInterconnectedType(property.edt);
-		case EPC_MEASURED_REMAINING_HOT_WATER_AMOUNT : return isValidMeasuredRemainingHotWaterAmount(property.edt);
-		case EPC_TANK_CAPACITY : return isValidTankCapacity(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			EngineCogeneration o = (EngineCogeneration)eoj;
+			switch(epc) {
+			case EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER : return o.getMeasuredTemperatureOfWaterInWaterHeater();
+			case EPC_RATED_POWER_GENERATION_OUTPUT : return o.getRatedPowerGenerationOutput();
+			case EPC_HEATING_VALUE_OF_HOT_WATER_STORAGE_TANK : return o.getHeatingValueOfHotWaterStorageTank();
+			case EPC_MEASURED_INSTANTANEOUS_POWER_GENERATION_OUTPUT : return o.getMeasuredInstantaneousPowerGenerationOutput();
+			case EPC_MEASURED_CUMULATIVE_POWER_GENERATION_OUTPUT : return o.getMeasuredCumulativePowerGenerationOutput();
+			case EPC_MEASURED_INSTANTANEOUS_GAS_CONSUMPTION : return o.getMeasuredInstantaneousGasConsumption();
+			case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return o.getMeasuredCumulativeGasConsumption();
+			case EPC_POWER_GENERATION_STATUS : return o.getPowerGenerationStatus();
+			case EPC_MEASURED_IN_HOUSE_INSTANTANEOUS_POWER_CONSUMPTION : return o.getMeasuredInHouseInstantaneousPowerConsumption();
+			case EPC_MEASURED_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION : return o.getMeasuredInHouseCumulativePowerConsumption();
+			case EPC_SYSTEM_INTERCONNECTED_TYPE : return o.getSystemInterconnectedType();
+			case EPC_MEASURED_REMAINING_HOT_WATER_AMOUNT : return o.getMeasuredRemainingHotWaterAmount();
+			case EPC_TANK_CAPACITY : return o.getTankCapacity();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			EngineCogeneration o = (EngineCogeneration)eoj;
+			switch(property.epc) {
+			case EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER : return o.isValidMeasuredTemperatureOfWaterInWaterHeater(property.edt);
+			case EPC_RATED_POWER_GENERATION_OUTPUT : return o.isValidRatedPowerGenerationOutput(property.edt);
+			case EPC_HEATING_VALUE_OF_HOT_WATER_STORAGE_TANK : return o.isValidHeatingValueOfHotWaterStorageTank(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_POWER_GENERATION_OUTPUT : return o.isValidMeasuredInstantaneousPowerGenerationOutput(property.edt);
+			case EPC_MEASURED_CUMULATIVE_POWER_GENERATION_OUTPUT : return o.isValidMeasuredCumulativePowerGenerationOutput(property.edt);
+			case EPC_CUMULATIVE_POWER_GENERATION_OUTPUT_RESET_SETTING : return o.isValidCumulativePowerGenerationOutputResetSetting(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_GAS_CONSUMPTION : return o.isValidMeasuredInstantaneousGasConsumption(property.edt);
+			case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return o.isValidMeasuredCumulativeGasConsumption(property.edt);
+			case EPC_CUMULATIVE_GAS_CONSUMPTION_RESET_SETTING : return o.isValidCumulativeGasConsumptionResetSetting(property.edt);
+			case EPC_POWER_GENERATION_SETTING : return o.isValidPowerGenerationSetting(property.edt);
+			case EPC_POWER_GENERATION_STATUS : return o.isValidPowerGenerationStatus(property.edt);
+			case EPC_MEASURED_IN_HOUSE_INSTANTANEOUS_POWER_CONSUMPTION : return o.isValidMeasuredInHouseInstantaneousPowerConsumption(property.edt);
+			case EPC_MEASURED_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION : return o.isValidMeasuredInHouseCumulativePowerConsumption(property.edt);
+			case EPC_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION_RESET : return o.isValidInHouseCumulativePowerConsumptionReset(property.edt);
+			case EPC_SYSTEM_INTERCONNECTED_TYPE : return o.isValidSystemInterconnectedType(property.edt);
+			case EPC_MEASURED_REMAINING_HOT_WATER_AMOUNT : return o.isValidMeasuredRemainingHotWaterAmount(property.edt);
+			case EPC_TANK_CAPACITY : return o.isValidTankCapacity(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_CUMULATIVE_POWER_GENERATION_OUTPUT_RESET_SETTING : 
-				onSetCumulativePowerGenerationOutputResetSetting(eoj, tid, esv, property, success);
+				r.onSetCumulativePowerGenerationOutputResetSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CUMULATIVE_GAS_CONSUMPTION_RESET_SETTING : 
-				onSetCumulativeGasConsumptionResetSetting(eoj, tid, esv, property, success);
+				r.onSetCumulativeGasConsumptionResetSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_POWER_GENERATION_SETTING : 
-				onSetPowerGenerationSetting(eoj, tid, esv, property, success);
+				r.onSetPowerGenerationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION_RESET : 
-				onSetInHouseCumulativePowerConsumptionReset(eoj, tid, esv, property, success);
+				r.onSetInHouseCumulativePowerConsumptionReset(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1063,55 +1021,103 @@ public abstract class EngineCogeneration extends DeviceObject {
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER : 
-				onGetMeasuredTemperatureOfWaterInWaterHeater(eoj, tid, esv, property, success);
+				r.onGetMeasuredTemperatureOfWaterInWaterHeater(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_GENERATION_OUTPUT : 
-				onGetRatedPowerGenerationOutput(eoj, tid, esv, property, success);
+				r.onGetRatedPowerGenerationOutput(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HEATING_VALUE_OF_HOT_WATER_STORAGE_TANK : 
-				onGetHeatingValueOfHotWaterStorageTank(eoj, tid, esv, property, success);
+				r.onGetHeatingValueOfHotWaterStorageTank(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_POWER_GENERATION_OUTPUT : 
-				onGetMeasuredInstantaneousPowerGenerationOutput(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousPowerGenerationOutput(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_POWER_GENERATION_OUTPUT : 
-				onGetMeasuredCumulativePowerGenerationOutput(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativePowerGenerationOutput(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_GAS_CONSUMPTION : 
-				onGetMeasuredInstantaneousGasConsumption(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousGasConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION : 
-				onGetMeasuredCumulativeGasConsumption(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeGasConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_POWER_GENERATION_STATUS : 
-				onGetPowerGenerationStatus(eoj, tid, esv, property, success);
+				r.onGetPowerGenerationStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_IN_HOUSE_INSTANTANEOUS_POWER_CONSUMPTION : 
-				onGetMeasuredInHouseInstantaneousPowerConsumption(eoj, tid, esv, property, success);
+				r.onGetMeasuredInHouseInstantaneousPowerConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION : 
-				onGetMeasuredInHouseCumulativePowerConsumption(eoj, tid, esv, property, success);
+				r.onGetMeasuredInHouseCumulativePowerConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SYSTEM_INTERCONNECTED_TYPE : 
-				onGetSystemInterconnectedType(eoj, tid, esv, property, success);
+				r.onGetSystemInterconnectedType(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_REMAINING_HOT_WATER_AMOUNT : 
-				onGetMeasuredRemainingHotWaterAmount(eoj, tid, esv, property, success);
+				r.onGetMeasuredRemainingHotWaterAmount(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TANK_CAPACITY : 
-				onGetTankCapacity(eoj, tid, esv, property, success);
+				r.onGetTankCapacity(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(EngineCogeneration.class, sPropertyHandler
+				, new byte[] {EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER, EPC_RATED_POWER_GENERATION_OUTPUT, EPC_HEATING_VALUE_OF_HOT_WATER_STORAGE_TANK, EPC_MEASURED_INSTANTANEOUS_POWER_GENERATION_OUTPUT, EPC_MEASURED_CUMULATIVE_POWER_GENERATION_OUTPUT, EPC_MEASURED_INSTANTANEOUS_GAS_CONSUMPTION, EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_POWER_GENERATION_STATUS, EPC_MEASURED_IN_HOUSE_INSTANTANEOUS_POWER_CONSUMPTION, EPC_MEASURED_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION, EPC_SYSTEM_INTERCONNECTED_TYPE, EPC_MEASURED_REMAINING_HOT_WATER_AMOUNT, EPC_TANK_CAPACITY}
+				, new byte[] {EPC_CUMULATIVE_POWER_GENERATION_OUTPUT_RESET_SETTING, EPC_CUMULATIVE_GAS_CONSUMPTION_RESET_SETTING, EPC_POWER_GENERATION_SETTING, EPC_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION_RESET}
+				, new byte[] {EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER, EPC_RATED_POWER_GENERATION_OUTPUT, EPC_HEATING_VALUE_OF_HOT_WATER_STORAGE_TANK, EPC_MEASURED_INSTANTANEOUS_POWER_GENERATION_OUTPUT, EPC_MEASURED_CUMULATIVE_POWER_GENERATION_OUTPUT, EPC_CUMULATIVE_POWER_GENERATION_OUTPUT_RESET_SETTING, EPC_MEASURED_INSTANTANEOUS_GAS_CONSUMPTION, EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_CUMULATIVE_GAS_CONSUMPTION_RESET_SETTING, EPC_POWER_GENERATION_SETTING, EPC_POWER_GENERATION_STATUS, EPC_MEASURED_IN_HOUSE_INSTANTANEOUS_POWER_CONSUMPTION, EPC_MEASURED_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION, EPC_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION_RESET, EPC_SYSTEM_INTERCONNECTED_TYPE, EPC_MEASURED_REMAINING_HOT_WATER_AMOUNT, EPC_TANK_CAPACITY});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_CUMULATIVE_POWER_GENERATION_OUTPUT_RESET_SETTING, EPC_CUMULATIVE_GAS_CONSUMPTION_RESET_SETTING, EPC_POWER_GENERATION_SETTING, EPC_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION_RESET}
+					, new byte[] {EPC_MEASURED_TEMPERATURE_OF_WATER_IN_WATER_HEATER, EPC_RATED_POWER_GENERATION_OUTPUT, EPC_HEATING_VALUE_OF_HOT_WATER_STORAGE_TANK, EPC_MEASURED_INSTANTANEOUS_POWER_GENERATION_OUTPUT, EPC_MEASURED_CUMULATIVE_POWER_GENERATION_OUTPUT, EPC_MEASURED_INSTANTANEOUS_GAS_CONSUMPTION, EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_POWER_GENERATION_STATUS, EPC_MEASURED_IN_HOUSE_INSTANTANEOUS_POWER_CONSUMPTION, EPC_MEASURED_IN_HOUSE_CUMULATIVE_POWER_CONSUMPTION, EPC_SYSTEM_INTERCONNECTED_TYPE, EPC_MEASURED_REMAINING_HOT_WATER_AMOUNT, EPC_TANK_CAPACITY}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Measured temperature of water in water heater<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -187,38 +188,49 @@ bytes<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			GasMeter o = (GasMeter)eoj;
+			switch(epc) {
+			case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_VALUE : return o.getIntegralGasConsumptionMeasurementValue();
+			case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_LOG : return o.getIntegralGasConsumptionMeasurementLog();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_VALUE : return getIntegralGasConsumptionMeasurementValue();
-		case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_LOG : return getIntegralGasConsumptionMeasurementLog();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			GasMeter o = (GasMeter)eoj;
+			switch(property.epc) {
+			case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_VALUE : return o.isValidIntegralGasConsumptionMeasurementValue(property.edt);
+			case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_LOG : return o.isValidIntegralGasConsumptionMeasurementLog(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_VALUE : return isValidIntegralGasConsumptionMeasurementValue(property.edt);
-		case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_LOG : return isValidIntegralGasConsumptionMeasurementLog(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_VALUE : 
+				r.onGetIntegralGasConsumptionMeasurementValue(eoj, tid, esv, property, success);
+				return true;
+			case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_LOG : 
+				r.onGetIntegralGasConsumptionMeasurementLog(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(GasMeter.class, sPropertyHandler
+				, new byte[] {EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_VALUE, EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_LOG}
+				, new byte[] {}
+				, new byte[] {EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_VALUE, EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_LOG});
 	}
 
 	@Override
@@ -256,35 +268,11 @@ bytes<br>
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_VALUE : 
-				onGetIntegralGasConsumptionMeasurementValue(eoj, tid, esv, property, success);
-				return true;
-			case EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_LOG : 
-				onGetIntegralGasConsumptionMeasurementLog(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_VALUE, EPC_INTEGRAL_GAS_CONSUMPTION_MEASUREMENT_LOG}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -1628,196 +1629,153 @@ bytes<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_ILLUMINANCE_LEVEL : return setIlluminanceLevel(property.edt);
-		case EPC_LIGHT_COLOR_SETTING : return setLightColorSetting(property.edt);
-		case EPC_ILLUMINANCE_LEVEL_STEP_SETTING : return setIlluminanceLevelStepSetting(property.edt);
-		case EPC_LIGHT_COLOR_STEP_SETTING : return setLightColorStepSetting(property.edt);
-		case EPC_LIGHTING_MODE_SETTING : return setLightingModeSetting(property.edt);
-		case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING : return setIlluminanceLevelSettingForMainLighting(property.edt);
-		case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return setIlluminanceLevelStepSettingForMainLighting(property.edt);
-		case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING : return setIlluminanceLevelSettingForNightLighting(property.edt);
-		case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return setIlluminanceLevelStepSettingForNightLighting(property.edt);
-		case EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING : return setLightColorSettingForMainLighting(property.edt);
-		case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return setLightColorLevelStepSettingForMainLighting(property.edt);
-		case EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING : return setLightColorSettingForNightLighting(property.edt);
-		case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return setLightColorLevelStepSettingForNightLighting(property.edt);
-		case EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE : return setLightingModeStatusInAutoMode(property.edt);
-		case EPC_RGB_SETTING_FOR_COLOR_LIGHTING : return setRgbSettingForColorLighting(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return setOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return setOnTimerSetting(property.edt);
-		case EPC_OFF_TIMER_RESERVATION_SETTING : return setOffTimerReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING : return setOffTimerSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_ILLUMINANCE_LEVEL : return getIlluminanceLevel();
-		case EPC_LIGHT_COLOR_SETTING : return getLightColorSetting();
-		case EPC_ILLUMINANCE_LEVEL_STEP_SETTING : return getIlluminanceLevelStepSetting();
-		case EPC_LIGHT_COLOR_STEP_SETTING : return getLightColorStepSetting();
-		case EPC_MAXIMUM_SPECIFIABLE_VALUES : return getMaximumSpecifiableValues();
-		case EPC_MAXIMUM_VALUE_OF_SETTABLE_LEVEL_FOR_NIGHT_LIGHTING : return getMaximumValueOfSettableLevelForNightLighting();
-		case EPC_LIGHTING_MODE_SETTING : return getLightingModeSetting();
-		case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING : return getIlluminanceLevelSettingForMainLighting();
-		case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return getIlluminanceLevelStepSettingForMainLighting();
-		case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING : return getIlluminanceLevelSettingForNightLighting();
-		case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return getIlluminanceLevelStepSettingForNightLighting();
-		case EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING : return getLightColorSettingForMainLighting();
-		case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return getLightColorLevelStepSettingForMainLighting();
-		case EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING : return getLightColorSettingForNightLighting();
-		case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return getLightColorLevelStepSettingForNightLighting();
-		case EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE : return getLightingModeStatusInAutoMode();
-		case EPC_RGB_SETTING_FOR_COLOR_LIGHTING : return getRgbSettingForColorLighting();
-		case EPC_ON_TIMER_RESERVATION_SETTING : return getOnTimerReservationSetting();
-		case EPC_ON_TIMER_SETTING : return getOnTimerSetting();
-		case EPC_OFF_TIMER_RESERVATION_SETTING : return getOffTimerReservationSetting();
-		case EPC_OFF_TIMER_SETTING : return getOffTimerSetting();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			GeneralLighting o = (GeneralLighting)eoj;
+			switch(property.epc) {
+			case EPC_ILLUMINANCE_LEVEL : return o.setIlluminanceLevel(property.edt);
+			case EPC_LIGHT_COLOR_SETTING : return o.setLightColorSetting(property.edt);
+			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING : return o.setIlluminanceLevelStepSetting(property.edt);
+			case EPC_LIGHT_COLOR_STEP_SETTING : return o.setLightColorStepSetting(property.edt);
+			case EPC_LIGHTING_MODE_SETTING : return o.setLightingModeSetting(property.edt);
+			case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING : return o.setIlluminanceLevelSettingForMainLighting(property.edt);
+			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return o.setIlluminanceLevelStepSettingForMainLighting(property.edt);
+			case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING : return o.setIlluminanceLevelSettingForNightLighting(property.edt);
+			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return o.setIlluminanceLevelStepSettingForNightLighting(property.edt);
+			case EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING : return o.setLightColorSettingForMainLighting(property.edt);
+			case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return o.setLightColorLevelStepSettingForMainLighting(property.edt);
+			case EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING : return o.setLightColorSettingForNightLighting(property.edt);
+			case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return o.setLightColorLevelStepSettingForNightLighting(property.edt);
+			case EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE : return o.setLightingModeStatusInAutoMode(property.edt);
+			case EPC_RGB_SETTING_FOR_COLOR_LIGHTING : return o.setRgbSettingForColorLighting(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.setOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.setOnTimerSetting(property.edt);
+			case EPC_OFF_TIMER_RESERVATION_SETTING : return o.setOffTimerReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING : return o.setOffTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_ILLUMINANCE_LEVEL : return isValidIlluminanceLevel(property.edt);
-		case EPC_LIGHT_COLOR_SETTING : return isValidLightColorSetting(property.edt);
-		case EPC_ILLUMINANCE_LEVEL_STEP_SETTING : return isValidIlluminanceLevelStepSetting(property.edt);
-		case EPC_LIGHT_COLOR_STEP_SETTING : return isValidLightColorStepSetting(property.edt);
-		case EPC_MAXIMUM_SPECIFIABLE_VALUES : return isValidMaximumSpecifiableValues(property.edt);
-		case EPC_MAXIMUM_VALUE_OF_SETTABLE_LEVEL_FOR_NIGHT_LIGHTING : return isValidMaximumValueOfSettableLevelForNightLighting(property.edt);
-		case EPC_LIGHTING_MODE_SETTING : return isValidLightingModeSetting(property.edt);
-		case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING : return isValidIlluminanceLevelSettingForMainLighting(property.edt);
-		case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return isValidIlluminanceLevelStepSettingForMainLighting(property.edt);
-		case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING : return isValidIlluminanceLevelSettingForNightLighting(property.edt);
-		case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return isValidIlluminanceLevelStepSettingForNightLighting(property.edt);
-		case EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING : return isValidLightColorSettingForMainLighting(property.edt);
-		case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return isValidLightColorLevelStepSettingForMainLighting(property.edt);
-		case EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING : return isValidLightColorSettingForNightLighting(property.edt);
-		case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return isValidLightColorLevelStepSettingForNightLighting(property.edt);
-		case EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE : return isValidLightingModeStatusInAutoMode(property.edt);
-		case EPC_RGB_SETTING_FOR_COLOR_LIGHTING : return isValidRgbSettingForColorLighting(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return isValidOnTimerReservationSetting(property.edt);
-		case EPC_ON_TIMER_SETTING : return isValidOnTimerSetting(property.edt);
-		case EPC_OFF_TIMER_RESERVATION_SETTING : return isValidOffTimerReservationSetting(property.edt);
-		case EPC_OFF_TIMER_SETTING : return isValidOffTimerSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			GeneralLighting o = (GeneralLighting)eoj;
+			switch(epc) {
+			case EPC_ILLUMINANCE_LEVEL : return o.getIlluminanceLevel();
+			case EPC_LIGHT_COLOR_SETTING : return o.getLightColorSetting();
+			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING : return o.getIlluminanceLevelStepSetting();
+			case EPC_LIGHT_COLOR_STEP_SETTING : return o.getLightColorStepSetting();
+			case EPC_MAXIMUM_SPECIFIABLE_VALUES : return o.getMaximumSpecifiableValues();
+			case EPC_MAXIMUM_VALUE_OF_SETTABLE_LEVEL_FOR_NIGHT_LIGHTING : return o.getMaximumValueOfSettableLevelForNightLighting();
+			case EPC_LIGHTING_MODE_SETTING : return o.getLightingModeSetting();
+			case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING : return o.getIlluminanceLevelSettingForMainLighting();
+			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return o.getIlluminanceLevelStepSettingForMainLighting();
+			case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING : return o.getIlluminanceLevelSettingForNightLighting();
+			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return o.getIlluminanceLevelStepSettingForNightLighting();
+			case EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING : return o.getLightColorSettingForMainLighting();
+			case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return o.getLightColorLevelStepSettingForMainLighting();
+			case EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING : return o.getLightColorSettingForNightLighting();
+			case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return o.getLightColorLevelStepSettingForNightLighting();
+			case EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE : return o.getLightingModeStatusInAutoMode();
+			case EPC_RGB_SETTING_FOR_COLOR_LIGHTING : return o.getRgbSettingForColorLighting();
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.getOnTimerReservationSetting();
+			case EPC_ON_TIMER_SETTING : return o.getOnTimerSetting();
+			case EPC_OFF_TIMER_RESERVATION_SETTING : return o.getOffTimerReservationSetting();
+			case EPC_OFF_TIMER_SETTING : return o.getOffTimerSetting();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			GeneralLighting o = (GeneralLighting)eoj;
+			switch(property.epc) {
+			case EPC_ILLUMINANCE_LEVEL : return o.isValidIlluminanceLevel(property.edt);
+			case EPC_LIGHT_COLOR_SETTING : return o.isValidLightColorSetting(property.edt);
+			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING : return o.isValidIlluminanceLevelStepSetting(property.edt);
+			case EPC_LIGHT_COLOR_STEP_SETTING : return o.isValidLightColorStepSetting(property.edt);
+			case EPC_MAXIMUM_SPECIFIABLE_VALUES : return o.isValidMaximumSpecifiableValues(property.edt);
+			case EPC_MAXIMUM_VALUE_OF_SETTABLE_LEVEL_FOR_NIGHT_LIGHTING : return o.isValidMaximumValueOfSettableLevelForNightLighting(property.edt);
+			case EPC_LIGHTING_MODE_SETTING : return o.isValidLightingModeSetting(property.edt);
+			case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING : return o.isValidIlluminanceLevelSettingForMainLighting(property.edt);
+			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return o.isValidIlluminanceLevelStepSettingForMainLighting(property.edt);
+			case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING : return o.isValidIlluminanceLevelSettingForNightLighting(property.edt);
+			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return o.isValidIlluminanceLevelStepSettingForNightLighting(property.edt);
+			case EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING : return o.isValidLightColorSettingForMainLighting(property.edt);
+			case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : return o.isValidLightColorLevelStepSettingForMainLighting(property.edt);
+			case EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING : return o.isValidLightColorSettingForNightLighting(property.edt);
+			case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : return o.isValidLightColorLevelStepSettingForNightLighting(property.edt);
+			case EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE : return o.isValidLightingModeStatusInAutoMode(property.edt);
+			case EPC_RGB_SETTING_FOR_COLOR_LIGHTING : return o.isValidRgbSettingForColorLighting(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.isValidOnTimerReservationSetting(property.edt);
+			case EPC_ON_TIMER_SETTING : return o.isValidOnTimerSetting(property.edt);
+			case EPC_OFF_TIMER_RESERVATION_SETTING : return o.isValidOffTimerReservationSetting(property.edt);
+			case EPC_OFF_TIMER_SETTING : return o.isValidOffTimerSetting(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_ILLUMINANCE_LEVEL : 
-				onSetIlluminanceLevel(eoj, tid, esv, property, success);
+				r.onSetIlluminanceLevel(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_SETTING : 
-				onSetLightColorSetting(eoj, tid, esv, property, success);
+				r.onSetLightColorSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING : 
-				onSetIlluminanceLevelStepSetting(eoj, tid, esv, property, success);
+				r.onSetIlluminanceLevelStepSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_STEP_SETTING : 
-				onSetLightColorStepSetting(eoj, tid, esv, property, success);
+				r.onSetLightColorStepSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHTING_MODE_SETTING : 
-				onSetLightingModeSetting(eoj, tid, esv, property, success);
+				r.onSetLightingModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING : 
-				onSetIlluminanceLevelSettingForMainLighting(eoj, tid, esv, property, success);
+				r.onSetIlluminanceLevelSettingForMainLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : 
-				onSetIlluminanceLevelStepSettingForMainLighting(eoj, tid, esv, property, success);
+				r.onSetIlluminanceLevelStepSettingForMainLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING : 
-				onSetIlluminanceLevelSettingForNightLighting(eoj, tid, esv, property, success);
+				r.onSetIlluminanceLevelSettingForNightLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : 
-				onSetIlluminanceLevelStepSettingForNightLighting(eoj, tid, esv, property, success);
+				r.onSetIlluminanceLevelStepSettingForNightLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING : 
-				onSetLightColorSettingForMainLighting(eoj, tid, esv, property, success);
+				r.onSetLightColorSettingForMainLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : 
-				onSetLightColorLevelStepSettingForMainLighting(eoj, tid, esv, property, success);
+				r.onSetLightColorLevelStepSettingForMainLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING : 
-				onSetLightColorSettingForNightLighting(eoj, tid, esv, property, success);
+				r.onSetLightColorSettingForNightLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : 
-				onSetLightColorLevelStepSettingForNightLighting(eoj, tid, esv, property, success);
+				r.onSetLightColorLevelStepSettingForNightLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE : 
-				onSetLightingModeStatusInAutoMode(eoj, tid, esv, property, success);
+				r.onSetLightingModeStatusInAutoMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RGB_SETTING_FOR_COLOR_LIGHTING : 
-				onSetRgbSettingForColorLighting(eoj, tid, esv, property, success);
+				r.onSetRgbSettingForColorLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onSetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_RESERVATION_SETTING : 
-				onSetOffTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOffTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING : 
-				onSetOffTimerSetting(eoj, tid, esv, property, success);
+				r.onSetOffTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1825,79 +1783,127 @@ bytes<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_ILLUMINANCE_LEVEL : 
-				onGetIlluminanceLevel(eoj, tid, esv, property, success);
+				r.onGetIlluminanceLevel(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_SETTING : 
-				onGetLightColorSetting(eoj, tid, esv, property, success);
+				r.onGetLightColorSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING : 
-				onGetIlluminanceLevelStepSetting(eoj, tid, esv, property, success);
+				r.onGetIlluminanceLevelStepSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_STEP_SETTING : 
-				onGetLightColorStepSetting(eoj, tid, esv, property, success);
+				r.onGetLightColorStepSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MAXIMUM_SPECIFIABLE_VALUES : 
-				onGetMaximumSpecifiableValues(eoj, tid, esv, property, success);
+				r.onGetMaximumSpecifiableValues(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MAXIMUM_VALUE_OF_SETTABLE_LEVEL_FOR_NIGHT_LIGHTING : 
-				onGetMaximumValueOfSettableLevelForNightLighting(eoj, tid, esv, property, success);
+				r.onGetMaximumValueOfSettableLevelForNightLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHTING_MODE_SETTING : 
-				onGetLightingModeSetting(eoj, tid, esv, property, success);
+				r.onGetLightingModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING : 
-				onGetIlluminanceLevelSettingForMainLighting(eoj, tid, esv, property, success);
+				r.onGetIlluminanceLevelSettingForMainLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : 
-				onGetIlluminanceLevelStepSettingForMainLighting(eoj, tid, esv, property, success);
+				r.onGetIlluminanceLevelStepSettingForMainLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING : 
-				onGetIlluminanceLevelSettingForNightLighting(eoj, tid, esv, property, success);
+				r.onGetIlluminanceLevelSettingForNightLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : 
-				onGetIlluminanceLevelStepSettingForNightLighting(eoj, tid, esv, property, success);
+				r.onGetIlluminanceLevelStepSettingForNightLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING : 
-				onGetLightColorSettingForMainLighting(eoj, tid, esv, property, success);
+				r.onGetLightColorSettingForMainLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING : 
-				onGetLightColorLevelStepSettingForMainLighting(eoj, tid, esv, property, success);
+				r.onGetLightColorLevelStepSettingForMainLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING : 
-				onGetLightColorSettingForNightLighting(eoj, tid, esv, property, success);
+				r.onGetLightColorSettingForNightLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING : 
-				onGetLightColorLevelStepSettingForNightLighting(eoj, tid, esv, property, success);
+				r.onGetLightColorLevelStepSettingForNightLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE : 
-				onGetLightingModeStatusInAutoMode(eoj, tid, esv, property, success);
+				r.onGetLightingModeStatusInAutoMode(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RGB_SETTING_FOR_COLOR_LIGHTING : 
-				onGetRgbSettingForColorLighting(eoj, tid, esv, property, success);
+				r.onGetRgbSettingForColorLighting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_SETTING : 
-				onGetOnTimerSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_RESERVATION_SETTING : 
-				onGetOffTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOffTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OFF_TIMER_SETTING : 
-				onGetOffTimerSetting(eoj, tid, esv, property, success);
+				r.onGetOffTimerSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(GeneralLighting.class, sPropertyHandler
+				, new byte[] {EPC_ILLUMINANCE_LEVEL, EPC_LIGHT_COLOR_SETTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING, EPC_LIGHT_COLOR_STEP_SETTING, EPC_MAXIMUM_SPECIFIABLE_VALUES, EPC_MAXIMUM_VALUE_OF_SETTABLE_LEVEL_FOR_NIGHT_LIGHTING, EPC_LIGHTING_MODE_SETTING, EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING, EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING, EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING, EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE, EPC_RGB_SETTING_FOR_COLOR_LIGHTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING}
+				, new byte[] {EPC_ILLUMINANCE_LEVEL, EPC_LIGHT_COLOR_SETTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING, EPC_LIGHT_COLOR_STEP_SETTING, EPC_LIGHTING_MODE_SETTING, EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING, EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING, EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING, EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE, EPC_RGB_SETTING_FOR_COLOR_LIGHTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING}
+				, new byte[] {EPC_ILLUMINANCE_LEVEL, EPC_LIGHT_COLOR_SETTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING, EPC_LIGHT_COLOR_STEP_SETTING, EPC_MAXIMUM_SPECIFIABLE_VALUES, EPC_MAXIMUM_VALUE_OF_SETTABLE_LEVEL_FOR_NIGHT_LIGHTING, EPC_LIGHTING_MODE_SETTING, EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING, EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING, EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING, EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE, EPC_RGB_SETTING_FOR_COLOR_LIGHTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_ILLUMINANCE_LEVEL, EPC_LIGHT_COLOR_SETTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING, EPC_LIGHT_COLOR_STEP_SETTING, EPC_LIGHTING_MODE_SETTING, EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING, EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING, EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING, EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE, EPC_RGB_SETTING_FOR_COLOR_LIGHTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING}
+					, new byte[] {EPC_ILLUMINANCE_LEVEL, EPC_LIGHT_COLOR_SETTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING, EPC_LIGHT_COLOR_STEP_SETTING, EPC_MAXIMUM_SPECIFIABLE_VALUES, EPC_MAXIMUM_VALUE_OF_SETTABLE_LEVEL_FOR_NIGHT_LIGHTING, EPC_LIGHTING_MODE_SETTING, EPC_ILLUMINANCE_LEVEL_SETTING_FOR_MAIN_LIGHTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING, EPC_ILLUMINANCE_LEVEL_SETTING_FOR_NIGHT_LIGHTING, EPC_ILLUMINANCE_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHT_COLOR_SETTING_FOR_MAIN_LIGHTING, EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_MAIN_LIGHTING, EPC_LIGHT_COLOR_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHT_COLOR_LEVEL_STEP_SETTING_FOR_NIGHT_LIGHTING, EPC_LIGHTING_MODE_STATUS_IN_AUTO_MODE, EPC_RGB_SETTING_FOR_COLOR_LIGHTING, EPC_ON_TIMER_RESERVATION_SETTING, EPC_ON_TIMER_SETTING, EPC_OFF_TIMER_RESERVATION_SETTING, EPC_OFF_TIMER_SETTING}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Illuminance level<br>
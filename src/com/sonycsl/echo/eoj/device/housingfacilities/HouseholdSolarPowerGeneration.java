@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -757,126 +758,83 @@ kWh<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED : return setResettingCumulativeAmountOfElectricityGenerated(property.edt);
-		case EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD : return setResettingCumulativeAmountOfElectricitySold(property.edt);
-		case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1 : return setPowerGenerationOutputLimitSetting1(property.edt);
-		case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2 : return setPowerGenerationOutputLimitSetting2(property.edt);
-		case EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD : return setLimitSettingForTheAmountOfElectricitySold(property.edt);
-		case EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED : return setRatedPowerGenerationOutputSystemInterconnected(property.edt);
-		case EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT : return setRatedPowerGenerationOutputIndependent(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_SYSTEM_INTERCONN_ECTED_TYPE : return getSystemInterconnEctedType();
-		case EPC_MEASURED_INSTANTANEOUS_AMOUNT_OF_ELECTRICITY_GENERATED : return getMeasuredInstantaneousAmountOfElectricityGenerated();
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED : return getMeasuredCumulativeAmountOfElectricityGenerated();
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD : return getMeasuredCumulativeAmountOfElectricitySold();
-		case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1 : return getPowerGenerationOutputLimitSetting1();
-		case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2 : return getPowerGenerationOutputLimitSetting2();
-		case EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD : return getLimitSettingForTheAmountOfElectricitySold();
-		case EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED : return getRatedPowerGenerationOutputSystemInterconnected();
-		case EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT : return getRatedPowerGenerationOutputIndependent();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			HouseholdSolarPowerGeneration o = (HouseholdSolarPowerGeneration)eoj;
+			switch(property.epc) {
+			case EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED : return o.setResettingCumulativeAmountOfElectricityGenerated(property.edt);
+			case EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD : return o.setResettingCumulativeAmountOfElectricitySold(property.edt);
+			case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1 : return o.setPowerGenerationOutputLimitSetting1(property.edt);
+			case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2 : return o.setPowerGenerationOutputLimitSetting2(property.edt);
+			case EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD : return o.setLimitSettingForTheAmountOfElectricitySold(property.edt);
+			case EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED : return o.setRatedPowerGenerationOutputSystemInterconnected(property.edt);
+			case EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT : return o.setRatedPowerGenerationOutputIndependent(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_SYSTEM_INTERCONN_ECTED_TYPE : return isValidSystemInterconnEctedType(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_AMOUNT_OF_ELECTRICITY_GENERATED : return isValidMeasuredInstantaneousAmountOfElectricityGenerated(property.edt);
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED : return isValidMeasuredCumulativeAmountOfElectricityGenerated(property.edt);
-		case EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED : return isValidResettingCumulativeAmountOfElectricityGenerated(property.edt);
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD : return isValidMeasuredCumulativeAmountOfElectricitySold(property.edt);
-		case EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD : return isValidResettingCumulativeAmountOfElectricitySold(property.edt);
-		case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1 : return isValidPowerGenerationOutputLimitSetting1(property.edt);
-		case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2 : return isValidPowerGenerationOutputLimitSetting2(property.edt);
-		case EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD : return isValidLimitSettingForTheAmountOfElectricitySold(property.edt);
-		case EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED : return isValidRatedPowerGenerationOutputSystemInterconnected(property.edt);
-		case EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT : return isValidRatedPowerGenerationOutputIndependent(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			HouseholdSolarPowerGeneration o = (HouseholdSolarPowerGeneration)eoj;
+			switch(epc) {
+			case EPC_SYSTEM_INTERCONN_ECTED_TYPE : return o.getSystemInterconnEctedType();
+			case EPC_MEASURED_INSTANTANEOUS_AMOUNT_OF_ELECTRICITY_GENERATED : return o.getMeasuredInstantaneousAmountOfElectricityGenerated();
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED : return o.getMeasuredCumulativeAmountOfElectricityGenerated();
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD : return o.getMeasuredCumulativeAmountOfElectricitySold();
+			case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1 : return o.getPowerGenerationOutputLimitSetting1();
+			case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2 : return o.getPowerGenerationOutputLimitSetting2();
+			case EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD : return o.getLimitSettingForTheAmountOfElectricitySold();
+			case EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED : return o.getRatedPowerGenerationOutputSystemInterconnected();
+			case EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT : return o.getRatedPowerGenerationOutputIndependent();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			HouseholdSolarPowerGeneration o = (HouseholdSolarPowerGeneration)eoj;
+			switch(property.epc) {
+			case EPC_SYSTEM_INTERCONN_ECTED_TYPE : return o.isValidSystemInterconnEctedType(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_AMOUNT_OF_ELECTRICITY_GENERATED : return o.isValidMeasuredInstantaneousAmountOfElectricityGenerated(property.edt);
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED : return o.isValidMeasuredCumulativeAmountOfElectricityGenerated(property.edt);
+			case EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED : return o.isValidResettingCumulativeAmountOfElectricityGenerated(property.edt);
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD : return o.isValidMeasuredCumulativeAmountOfElectricitySold(property.edt);
+			case EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD : return o.isValidResettingCumulativeAmountOfElectricitySold(property.edt);
+			case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1 : return o.isValidPowerGenerationOutputLimitSetting1(property.edt);
+			case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2 : return o.isValidPowerGenerationOutputLimitSetting2(property.edt);
+			case EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD : return o.isValidLimitSettingForTheAmountOfElectricitySold(property.edt);
+			case EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED : return o.isValidRatedPowerGenerationOutputSystemInterconnected(property.edt);
+			case EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT : return o.isValidRatedPowerGenerationOutputIndependent(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED : 
-				onSetResettingCumulativeAmountOfElectricityGenerated(eoj, tid, esv, property, success);
+				r.onSetResettingCumulativeAmountOfElectricityGenerated(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD : 
-				onSetResettingCumulativeAmountOfElectricitySold(eoj, tid, esv, property, success);
+				r.onSetResettingCumulativeAmountOfElectricitySold(eoj, tid, esv, property, success);
 				return true;
 			case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1 : 
-				onSetPowerGenerationOutputLimitSetting1(eoj, tid, esv, property, success);
+				r.onSetPowerGenerationOutputLimitSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2 : 
-				onSetPowerGenerationOutputLimitSetting2(eoj, tid, esv, property, success);
+				r.onSetPowerGenerationOutputLimitSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD : 
-				onSetLimitSettingForTheAmountOfElectricitySold(eoj, tid, esv, property, success);
+				r.onSetLimitSettingForTheAmountOfElectricitySold(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED : 
-				onSetRatedPowerGenerationOutputSystemInterconnected(eoj, tid, esv, property, success);
+				r.onSetRatedPowerGenerationOutputSystemInterconnected(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT : 
-				onSetRatedPowerGenerationOutputIndependent(eoj, tid, esv, property, success);
+				r.onSetRatedPowerGenerationOutputIndependent(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -884,43 +842,91 @@ kWh<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_SYSTEM_INTERCONN_ECTED_TYPE : 
-				onGetSystemInterconnEctedType(eoj, tid, esv, property, success);
+				r.onGetSystemInterconnEctedType(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_AMOUNT_OF_ELECTRICITY_GENERATED : 
-				onGetMeasuredInstantaneousAmountOfElectricityGenerated(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousAmountOfElectricityGenerated(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED : 
-				onGetMeasuredCumulativeAmountOfElectricityGenerated(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeAmountOfElectricityGenerated(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD : 
-				onGetMeasuredCumulativeAmountOfElectricitySold(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeAmountOfElectricitySold(eoj, tid, esv, property, success);
 				return true;
 			case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1 : 
-				onGetPowerGenerationOutputLimitSetting1(eoj, tid, esv, property, success);
+				r.onGetPowerGenerationOutputLimitSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2 : 
-				onGetPowerGenerationOutputLimitSetting2(eoj, tid, esv, property, success);
+				r.onGetPowerGenerationOutputLimitSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD : 
-				onGetLimitSettingForTheAmountOfElectricitySold(eoj, tid, esv, property, success);
+				r.onGetLimitSettingForTheAmountOfElectricitySold(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED : 
-				onGetRatedPowerGenerationOutputSystemInterconnected(eoj, tid, esv, property, success);
+				r.onGetRatedPowerGenerationOutputSystemInterconnected(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT : 
-				onGetRatedPowerGenerationOutputIndependent(eoj, tid, esv, property, success);
+				r.onGetRatedPowerGenerationOutputIndependent(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(HouseholdSolarPowerGeneration.class, sPropertyHandler
+				, new byte[] {EPC_SYSTEM_INTERCONN_ECTED_TYPE, EPC_MEASURED_INSTANTANEOUS_AMOUNT_OF_ELECTRICITY_GENERATED, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1, EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2, EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED, EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT}
+				, new byte[] {EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED, EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1, EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2, EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED, EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT}
+				, new byte[] {EPC_SYSTEM_INTERCONN_ECTED_TYPE, EPC_MEASURED_INSTANTANEOUS_AMOUNT_OF_ELECTRICITY_GENERATED, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED, EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1, EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2, EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED, EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED, EPC_RESETTING_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1, EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2, EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED, EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT}
+					, new byte[] {EPC_SYSTEM_INTERCONN_ECTED_TYPE, EPC_MEASURED_INSTANTANEOUS_AMOUNT_OF_ELECTRICITY_GENERATED, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_GENERATED, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING1, EPC_POWER_GENERATION_OUTPUT_LIMIT_SETTING2, EPC_LIMIT_SETTING_FOR_THE_AMOUNT_OF_ELECTRICITY_SOLD, EPC_RATED_POWER_GENERATION_OUTPUT_SYSTEM_INTERCONNECTED, EPC_RATED_POWER_GENERATION_OUTPUT_INDEPENDENT}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : System-interconn ected type<br>
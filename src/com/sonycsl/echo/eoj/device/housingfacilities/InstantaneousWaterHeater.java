@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -1594,190 +1595,147 @@ public abstract class InstantaneousWaterHeater extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE : return setSetValueOfHotWaterTemperature(property.edt);
-		case EPC_HOT_WATER_WARMER_SETTING : return setHotWaterWarmerSetting(property.edt);
-		case EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING : return setDurationOfAutomaticOperationSetting(property.edt);
-		case EPC_SET_VALUE_OF_BATH_TEMPERATURE : return setSetValueOfBathTemperature(property.edt);
-		case EPC_BATH_AUTO_MODE_SETTING : return setBathAutoModeSetting(property.edt);
-		case EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING : return setBathAdditionalBoilUpOperationSetting(property.edt);
-		case EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING : return setBathHotWaterAddingOperationSetting(property.edt);
-		case EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING : return setBathWaterTemperatureLoweringOperationSetting(property.edt);
-		case EPC_BATH_HOT_WATER_VOLUME_SETTING1 : return setBathHotWaterVolumeSetting1(property.edt);
-		case EPC_BATH_HOT_WATER_VOLUME_SETTING2 : return setBathHotWaterVolumeSetting2(property.edt);
-		case EPC_BATH_HOT_WATER_VOLUME_SETTING3 : return setBathHotWaterVolumeSetting3(property.edt);
-		case EPC_BATHROOM_PRIORITY_SETTING : return setBathroomPrioritySetting(property.edt);
-		case EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING : return setHotWaterWarmerOnTimerReservationSetting(property.edt);
-		case EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME : return setSetValueOfHotWaterWarmerOnTimerTime(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return setOnTimerReservationSetting(property.edt);
-		case EPC_SET_VALUE_OF_ON_TIMER_TIME : return setSetValueOfOnTimerTime(property.edt);
-		case EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME : return setSetValueOfOnTimerRelativeTime(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_HOT_WATER_HEATING_STATUS : return getHotWaterHeatingStatus();
-		case EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE : return getSetValueOfHotWaterTemperature();
-		case EPC_HOT_WATER_WARMER_SETTING : return getHotWaterWarmerSetting();
-		case EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING : return getDurationOfAutomaticOperationSetting();
-		case EPC_REMAINING_AUTOMATIC_OPERATION_TIME : return getRemainingAutomaticOperationTime();
-		case EPC_SET_VALUE_OF_BATH_TEMPERATURE : return getSetValueOfBathTemperature();
-		case EPC_BATH_WATER_HEATER_STATUS : return getBathWaterHeaterStatus();
-		case EPC_BATH_AUTO_MODE_SETTING : return getBathAutoModeSetting();
-		case EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING : return getBathAdditionalBoilUpOperationSetting();
-		case EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING : return getBathHotWaterAddingOperationSetting();
-		case EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING : return getBathWaterTemperatureLoweringOperationSetting();
-		case EPC_BATH_HOT_WATER_VOLUME_SETTING1 : return getBathHotWaterVolumeSetting1();
-		case EPC_BATH_HOT_WATER_VOLUME_SETTING2 : return getBathHotWaterVolumeSetting2();
-		case EPC_BATH_HOT_WATER_VOLUME_SETTING3 : return getBathHotWaterVolumeSetting3();
-		case EPC_BATHROOM_PRIORITY_SETTING : return getBathroomPrioritySetting();
-		case EPC_SHOWER_HOT_WATER_SUPPLY_STATUS : return getShowerHotWaterSupplyStatus();
-		case EPC_KITCHEN_HOT_WATER_SUPPLY_STATUS : return getKitchenHotWaterSupplyStatus();
-		case EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING : return getHotWaterWarmerOnTimerReservationSetting();
-		case EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME : return getSetValueOfHotWaterWarmerOnTimerTime();
-		case EPC_ON_TIMER_RESERVATION_SETTING : return getOnTimerReservationSetting();
-		case EPC_SET_VALUE_OF_ON_TIMER_TIME : return getSetValueOfOnTimerTime();
-		case EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME : return getSetValueOfOnTimerRelativeTime();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			InstantaneousWaterHeater o = (InstantaneousWaterHeater)eoj;
+			switch(property.epc) {
+			case EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE : return o.setSetValueOfHotWaterTemperature(property.edt);
+			case EPC_HOT_WATER_WARMER_SETTING : return o.setHotWaterWarmerSetting(property.edt);
+			case EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING : return o.setDurationOfAutomaticOperationSetting(property.edt);
+			case EPC_SET_VALUE_OF_BATH_TEMPERATURE : return o.setSetValueOfBathTemperature(property.edt);
+			case EPC_BATH_AUTO_MODE_SETTING : return o.setBathAutoModeSetting(property.edt);
+			case EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING : return o.setBathAdditionalBoilUpOperationSetting(property.edt);
+			case EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING : return o.setBathHotWaterAddingOperationSetting(property.edt);
+			case EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING : return o.setBathWaterTemperatureLoweringOperationSetting(property.edt);
+			case EPC_BATH_HOT_WATER_VOLUME_SETTING1 : return o.setBathHotWaterVolumeSetting1(property.edt);
+			case EPC_BATH_HOT_WATER_VOLUME_SETTING2 : return o.setBathHotWaterVolumeSetting2(property.edt);
+			case EPC_BATH_HOT_WATER_VOLUME_SETTING3 : return o.setBathHotWaterVolumeSetting3(property.edt);
+			case EPC_BATHROOM_PRIORITY_SETTING : return o.setBathroomPrioritySetting(property.edt);
+			case EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING : return o.setHotWaterWarmerOnTimerReservationSetting(property.edt);
+			case EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME : return o.setSetValueOfHotWaterWarmerOnTimerTime(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.setOnTimerReservationSetting(property.edt);
+			case EPC_SET_VALUE_OF_ON_TIMER_TIME : return o.setSetValueOfOnTimerTime(property.edt);
+			case EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME : return o.setSetValueOfOnTimerRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_HOT_WATER_HEATING_STATUS : return isValidHotWaterHeatingStatus(property.edt);
-		case EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE : return isValidSetValueOfHotWaterTemperature(property.edt);
-		case EPC_HOT_WATER_WARMER_SETTING : return isValidHotWaterWarmerSetting(property.edt);
-		case EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING : return isValidDurationOfAutomaticOperationSetting(property.edt);
-		case EPC_REMAINING_AUTOMATIC_OPERATION_TIME : return isValidRemainingAutomaticOperationTime(property.edt);
-		case EPC_SET_VALUE_OF_BATH_TEMPERATURE : return isValidSetValueOfBathTemperature(property.edt);
-		case EPC_BATH_WATER_HEATER_STATUS : return isValidBathWaterHeaterStatus(property.edt);
-		case EPC_BATH_AUTO_MODE_SETTING : return isValidBathAutoModeSetting(property.edt);
-		case EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING : return isValidBathAdditionalBoilUpOperationSetting(property.edt);
-		case EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING : return isValidBathHotWaterAddingOperationSetting(property.edt);
-		case EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING : return isValidBathWaterTemperatureLoweringOperationSetting(property.edt);
-		case EPC_BATH_HOT_WATER_VOLUME_SETTING1 : return isValidBathHotWaterVolumeSetting1(property.edt);
-		case EPC_BATH_HOT_WATER_VOLUME_SETTING2 : return isValidBathHotWaterVolumeSetting2(property.edt);
-		case EPC_BATH_HOT_WATER_VOLUME_SETTING3 : return isValidBathHotWaterVolumeSetting3(property.edt);
-		case EPC_BATHROOM_PRIORITY_SETTING : return isValidBathroomPrioritySetting(property.edt);
-		case EPC_SHOWER_HOT_WATER_SUPPLY_STATUS : return isValidShowerHotWaterSupplyStatus(property.edt);
-		case EPC_KITCHEN_HOT_WATER_SUPPLY_STATUS : return isValidKitchenHotWaterSupplyStatus(property.edt);
-		case EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING : return isValidHotWaterWarmerOnTimerReservationSetting(property.edt);
-		case EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME : return isValidSetValueOfHotWaterWarmerOnTimerTime(property.edt);
-		case EPC_ON_TIMER_RESERVATION_SETTING : return isValidOnTimerReservationSetting(property.edt);
-		case EPC_SET_VALUE_OF_ON_TIMER_TIME : return isValidSetValueOfOnTimerTime(property.edt);
-		case EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME : return isValidSetValueOfOnTimerRelativeTime(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			InstantaneousWaterHeater o = (InstantaneousWaterHeater)eoj;
+			switch(epc) {
+			case EPC_HOT_WATER_HEATING_STATUS : return o.getHotWaterHeatingStatus();
+			case EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE : return o.getSetValueOfHotWaterTemperature();
+			case EPC_HOT_WATER_WARMER_SETTING : return o.getHotWaterWarmerSetting();
+			case EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING : return o.getDurationOfAutomaticOperationSetting();
+			case EPC_REMAINING_AUTOMATIC_OPERATION_TIME : return o.getRemainingAutomaticOperationTime();
+			case EPC_SET_VALUE_OF_BATH_TEMPERATURE : return o.getSetValueOfBathTemperature();
+			case EPC_BATH_WATER_HEATER_STATUS : return o.getBathWaterHeaterStatus();
+			case EPC_BATH_AUTO_MODE_SETTING : return o.getBathAutoModeSetting();
+			case EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING : return o.getBathAdditionalBoilUpOperationSetting();
+			case EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING : return o.getBathHotWaterAddingOperationSetting();
+			case EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING : return o.getBathWaterTemperatureLoweringOperationSetting();
+			case EPC_BATH_HOT_WATER_VOLUME_SETTING1 : return o.getBathHotWaterVolumeSetting1();
+			case EPC_BATH_HOT_WATER_VOLUME_SETTING2 : return o.getBathHotWaterVolumeSetting2();
+			case EPC_BATH_HOT_WATER_VOLUME_SETTING3 : return o.getBathHotWaterVolumeSetting3();
+			case EPC_BATHROOM_PRIORITY_SETTING : return o.getBathroomPrioritySetting();
+			case EPC_SHOWER_HOT_WATER_SUPPLY_STATUS : return o.getShowerHotWaterSupplyStatus();
+			case EPC_KITCHEN_HOT_WATER_SUPPLY_STATUS : return o.getKitchenHotWaterSupplyStatus();
+			case EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING : return o.getHotWaterWarmerOnTimerReservationSetting();
+			case EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME : return o.getSetValueOfHotWaterWarmerOnTimerTime();
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.getOnTimerReservationSetting();
+			case EPC_SET_VALUE_OF_ON_TIMER_TIME : return o.getSetValueOfOnTimerTime();
+			case EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME : return o.getSetValueOfOnTimerRelativeTime();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			InstantaneousWaterHeater o = (InstantaneousWaterHeater)eoj;
+			switch(property.epc) {
+			case EPC_HOT_WATER_HEATING_STATUS : return o.isValidHotWaterHeatingStatus(property.edt);
+			case EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE : return o.isValidSetValueOfHotWaterTemperature(property.edt);
+			case EPC_HOT_WATER_WARMER_SETTING : return o.isValidHotWaterWarmerSetting(property.edt);
+			case EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING : return o.isValidDurationOfAutomaticOperationSetting(property.edt);
+			case EPC_REMAINING_AUTOMATIC_OPERATION_TIME : return o.isValidRemainingAutomaticOperationTime(property.edt);
+			case EPC_SET_VALUE_OF_BATH_TEMPERATURE : return o.isValidSetValueOfBathTemperature(property.edt);
+			case EPC_BATH_WATER_HEATER_STATUS : return o.isValidBathWaterHeaterStatus(property.edt);
+			case EPC_BATH_AUTO_MODE_SETTING : return o.isValidBathAutoModeSetting(property.edt);
+			case EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING : return o.isValidBathAdditionalBoilUpOperationSetting(property.edt);
+			case EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING : return o.isValidBathHotWaterAddingOperationSetting(property.edt);
+			case EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING : return o.isValidBathWaterTemperatureLoweringOperationSetting(property.edt);
+			case EPC_BATH_HOT_WATER_VOLUME_SETTING1 : return o.isValidBathHotWaterVolumeSetting1(property.edt);
+			case EPC_BATH_HOT_WATER_VOLUME_SETTING2 : return o.isValidBathHotWaterVolumeSetting2(property.edt);
+			case EPC_BATH_HOT_WATER_VOLUME_SETTING3 : return o.isValidBathHotWaterVolumeSetting3(property.edt);
+			case EPC_BATHROOM_PRIORITY_SETTING : return o.isValidBathroomPrioritySetting(property.edt);
+			case EPC_SHOWER_HOT_WATER_SUPPLY_STATUS : return o.isValidShowerHotWaterSupplyStatus(property.edt);
+			case EPC_KITCHEN_HOT_WATER_SUPPLY_STATUS : return o.isValidKitchenHotWaterSupplyStatus(property.edt);
+			case EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING : return o.isValidHotWaterWarmerOnTimerReservationSetting(property.edt);
+			case EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME : return o.isValidSetValueOfHotWaterWarmerOnTimerTime(property.edt);
+			case EPC_ON_TIMER_RESERVATION_SETTING : return o.isValidOnTimerReservationSetting(property.edt);
+			case EPC_SET_VALUE_OF_ON_TIMER_TIME : return o.isValidSetValueOfOnTimerTime(property.edt);
+			case EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME : return o.isValidSetValueOfOnTimerRelativeTime(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE : 
-				onSetSetValueOfHotWaterTemperature(eoj, tid, esv, property, success);
+				r.onSetSetValueOfHotWaterTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HOT_WATER_WARMER_SETTING : 
-				onSetHotWaterWarmerSetting(eoj, tid, esv, property, success);
+				r.onSetHotWaterWarmerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING : 
-				onSetDurationOfAutomaticOperationSetting(eoj, tid, esv, property, success);
+				r.onSetDurationOfAutomaticOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_BATH_TEMPERATURE : 
-				onSetSetValueOfBathTemperature(eoj, tid, esv, property, success);
+				r.onSetSetValueOfBathTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_AUTO_MODE_SETTING : 
-				onSetBathAutoModeSetting(eoj, tid, esv, property, success);
+				r.onSetBathAutoModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING : 
-				onSetBathAdditionalBoilUpOperationSetting(eoj, tid, esv, property, success);
+				r.onSetBathAdditionalBoilUpOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING : 
-				onSetBathHotWaterAddingOperationSetting(eoj, tid, esv, property, success);
+				r.onSetBathHotWaterAddingOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING : 
-				onSetBathWaterTemperatureLoweringOperationSetting(eoj, tid, esv, property, success);
+				r.onSetBathWaterTemperatureLoweringOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_HOT_WATER_VOLUME_SETTING1 : 
-				onSetBathHotWaterVolumeSetting1(eoj, tid, esv, property, success);
+				r.onSetBathHotWaterVolumeSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_HOT_WATER_VOLUME_SETTING2 : 
-				onSetBathHotWaterVolumeSetting2(eoj, tid, esv, property, success);
+				r.onSetBathHotWaterVolumeSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_HOT_WATER_VOLUME_SETTING3 : 
-				onSetBathHotWaterVolumeSetting3(eoj, tid, esv, property, success);
+				r.onSetBathHotWaterVolumeSetting3(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATHROOM_PRIORITY_SETTING : 
-				onSetBathroomPrioritySetting(eoj, tid, esv, property, success);
+				r.onSetBathroomPrioritySetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING : 
-				onSetHotWaterWarmerOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetHotWaterWarmerOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME : 
-				onSetSetValueOfHotWaterWarmerOnTimerTime(eoj, tid, esv, property, success);
+				r.onSetSetValueOfHotWaterWarmerOnTimerTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onSetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_ON_TIMER_TIME : 
-				onSetSetValueOfOnTimerTime(eoj, tid, esv, property, success);
+				r.onSetSetValueOfOnTimerTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME : 
-				onSetSetValueOfOnTimerRelativeTime(eoj, tid, esv, property, success);
+				r.onSetSetValueOfOnTimerRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1785,82 +1743,130 @@ public abstract class InstantaneousWaterHeater extends DeviceObject {
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_HOT_WATER_HEATING_STATUS : 
-				onGetHotWaterHeatingStatus(eoj, tid, esv, property, success);
+				r.onGetHotWaterHeatingStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE : 
-				onGetSetValueOfHotWaterTemperature(eoj, tid, esv, property, success);
+				r.onGetSetValueOfHotWaterTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HOT_WATER_WARMER_SETTING : 
-				onGetHotWaterWarmerSetting(eoj, tid, esv, property, success);
+				r.onGetHotWaterWarmerSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING : 
-				onGetDurationOfAutomaticOperationSetting(eoj, tid, esv, property, success);
+				r.onGetDurationOfAutomaticOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_REMAINING_AUTOMATIC_OPERATION_TIME : 
-				onGetRemainingAutomaticOperationTime(eoj, tid, esv, property, success);
+				r.onGetRemainingAutomaticOperationTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_BATH_TEMPERATURE : 
-				onGetSetValueOfBathTemperature(eoj, tid, esv, property, success);
+				r.onGetSetValueOfBathTemperature(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_HEATER_STATUS : 
-				onGetBathWaterHeaterStatus(eoj, tid, esv, property, success);
+				r.onGetBathWaterHeaterStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_AUTO_MODE_SETTING : 
-				onGetBathAutoModeSetting(eoj, tid, esv, property, success);
+				r.onGetBathAutoModeSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING : 
-				onGetBathAdditionalBoilUpOperationSetting(eoj, tid, esv, property, success);
+				r.onGetBathAdditionalBoilUpOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING : 
-				onGetBathHotWaterAddingOperationSetting(eoj, tid, esv, property, success);
+				r.onGetBathHotWaterAddingOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING : 
-				onGetBathWaterTemperatureLoweringOperationSetting(eoj, tid, esv, property, success);
+				r.onGetBathWaterTemperatureLoweringOperationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_HOT_WATER_VOLUME_SETTING1 : 
-				onGetBathHotWaterVolumeSetting1(eoj, tid, esv, property, success);
+				r.onGetBathHotWaterVolumeSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_HOT_WATER_VOLUME_SETTING2 : 
-				onGetBathHotWaterVolumeSetting2(eoj, tid, esv, property, success);
+				r.onGetBathHotWaterVolumeSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATH_HOT_WATER_VOLUME_SETTING3 : 
-				onGetBathHotWaterVolumeSetting3(eoj, tid, esv, property, success);
+				r.onGetBathHotWaterVolumeSetting3(eoj, tid, esv, property, success);
 				return true;
 			case EPC_BATHROOM_PRIORITY_SETTING : 
-				onGetBathroomPrioritySetting(eoj, tid, esv, property, success);
+				r.onGetBathroomPrioritySetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SHOWER_HOT_WATER_SUPPLY_STATUS : 
-				onGetShowerHotWaterSupplyStatus(eoj, tid, esv, property, success);
+				r.onGetShowerHotWaterSupplyStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_KITCHEN_HOT_WATER_SUPPLY_STATUS : 
-				onGetKitchenHotWaterSupplyStatus(eoj, tid, esv, property, success);
+				r.onGetKitchenHotWaterSupplyStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING : 
-				onGetHotWaterWarmerOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetHotWaterWarmerOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME : 
-				onGetSetValueOfHotWaterWarmerOnTimerTime(eoj, tid, esv, property, success);
+				r.onGetSetValueOfHotWaterWarmerOnTimerTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ON_TIMER_RESERVATION_SETTING : 
-				onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
+				r.onGetOnTimerReservationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_ON_TIMER_TIME : 
-				onGetSetValueOfOnTimerTime(eoj, tid, esv, property, success);
+				r.onGetSetValueOfOnTimerTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME : 
-				onGetSetValueOfOnTimerRelativeTime(eoj, tid, esv, property, success);
+				r.onGetSetValueOfOnTimerRelativeTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(InstantaneousWaterHeater.class, sPropertyHandler
+				, new byte[] {EPC_HOT_WATER_HEATING_STATUS, EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE, EPC_HOT_WATER_WARMER_SETTING, EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING, EPC_REMAINING_AUTOMATIC_OPERATION_TIME, EPC_SET_VALUE_OF_BATH_TEMPERATURE, EPC_BATH_WATER_HEATER_STATUS, EPC_BATH_AUTO_MODE_SETTING, EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING, EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING, EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING, EPC_BATH_HOT_WATER_VOLUME_SETTING1, EPC_BATH_HOT_WATER_VOLUME_SETTING2, EPC_BATH_HOT_WATER_VOLUME_SETTING3, EPC_BATHROOM_PRIORITY_SETTING, EPC_SHOWER_HOT_WATER_SUPPLY_STATUS, EPC_KITCHEN_HOT_WATER_SUPPLY_STATUS, EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING, EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME, EPC_ON_TIMER_RESERVATION_SETTING, EPC_SET_VALUE_OF_ON_TIMER_TIME, EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME}
+				, new byte[] {EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE, EPC_HOT_WATER_WARMER_SETTING, EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING, EPC_SET_VALUE_OF_BATH_TEMPERATURE, EPC_BATH_AUTO_MODE_SETTING, EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING, EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING, EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING, EPC_BATH_HOT_WATER_VOLUME_SETTING1, EPC_BATH_HOT_WATER_VOLUME_SETTING2, EPC_BATH_HOT_WATER_VOLUME_SETTING3, EPC_BATHROOM_PRIORITY_SETTING, EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING, EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME, EPC_ON_TIMER_RESERVATION_SETTING, EPC_SET_VALUE_OF_ON_TIMER_TIME, EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME}
+				, new byte[] {EPC_HOT_WATER_HEATING_STATUS, EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE, EPC_HOT_WATER_WARMER_SETTING, EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING, EPC_REMAINING_AUTOMATIC_OPERATION_TIME, EPC_SET_VALUE_OF_BATH_TEMPERATURE, EPC_BATH_WATER_HEATER_STATUS, EPC_BATH_AUTO_MODE_SETTING, EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING, EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING, EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING, EPC_BATH_HOT_WATER_VOLUME_SETTING1, EPC_BATH_HOT_WATER_VOLUME_SETTING2, EPC_BATH_HOT_WATER_VOLUME_SETTING3, EPC_BATHROOM_PRIORITY_SETTING, EPC_SHOWER_HOT_WATER_SUPPLY_STATUS, EPC_KITCHEN_HOT_WATER_SUPPLY_STATUS, EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING, EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME, EPC_ON_TIMER_RESERVATION_SETTING, EPC_SET_VALUE_OF_ON_TIMER_TIME, EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE, EPC_HOT_WATER_WARMER_SETTING, EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING, EPC_SET_VALUE_OF_BATH_TEMPERATURE, EPC_BATH_AUTO_MODE_SETTING, EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING, EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING, EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING, EPC_BATH_HOT_WATER_VOLUME_SETTING1, EPC_BATH_HOT_WATER_VOLUME_SETTING2, EPC_BATH_HOT_WATER_VOLUME_SETTING3, EPC_BATHROOM_PRIORITY_SETTING, EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING, EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME, EPC_ON_TIMER_RESERVATION_SETTING, EPC_SET_VALUE_OF_ON_TIMER_TIME, EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME}
+					, new byte[] {EPC_HOT_WATER_HEATING_STATUS, EPC_SET_VALUE_OF_HOT_WATER_TEMPERATURE, EPC_HOT_WATER_WARMER_SETTING, EPC_DURATION_OF_AUTOMATIC_OPERATION_SETTING, EPC_REMAINING_AUTOMATIC_OPERATION_TIME, EPC_SET_VALUE_OF_BATH_TEMPERATURE, EPC_BATH_WATER_HEATER_STATUS, EPC_BATH_AUTO_MODE_SETTING, EPC_BATH_ADDITIONAL_BOIL_UP_OPERATION_SETTING, EPC_BATH_HOT_WATER_ADDING_OPERATION_SETTING, EPC_BATH_WATER_TEMPERATURE_LOWERING_OPERATION_SETTING, EPC_BATH_HOT_WATER_VOLUME_SETTING1, EPC_BATH_HOT_WATER_VOLUME_SETTING2, EPC_BATH_HOT_WATER_VOLUME_SETTING3, EPC_BATHROOM_PRIORITY_SETTING, EPC_SHOWER_HOT_WATER_SUPPLY_STATUS, EPC_KITCHEN_HOT_WATER_SUPPLY_STATUS, EPC_HOT_WATER_WARMER_ON_TIMER_RESERVATION_SETTING, EPC_SET_VALUE_OF_HOT_WATER_WARMER_ON_TIMER_TIME, EPC_ON_TIMER_RESERVATION_SETTING, EPC_SET_VALUE_OF_ON_TIMER_TIME, EPC_SET_VALUE_OF_ON_TIMER_RELATIVE_TIME}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Hot water heating status<br>
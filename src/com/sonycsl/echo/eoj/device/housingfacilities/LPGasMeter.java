@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -1449,142 +1450,99 @@ kPa<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1 : return setSetValueOfResidualVolumeControlWarningLevel1(property.edt);
-		case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2 : return setSetValueOfResidualVolumeControlWarningLevel2(property.edt);
-		case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3 : return setSetValueOfResidualVolumeControlWarningLevel3(property.edt);
-		case EPC_TEST_CALL_SETTING : return setTestCallSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA1 : return getIntegralGasConsumptionOfMeteringData1();
-		case EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA2 : return getIntegralGasConsumptionOfMeteringData2();
-		case EPC_ERROR_DETECTION_STATUSOF_METERING_DATA : return getErrorDetectionStatusofMeteringData();
-		case EPC_SECURITY_DATA1 : return getSecurityData1();
-		case EPC_SECURITY_DATA2 : return getSecurityData2();
-		case EPC_CENTER_VALVE_SHUT_OFF_STATUS : return getCenterValveShutOffStatus();
-		case EPC_CENTER_VALVE_SHUT_OFF_RECOVERY_PERMISSION_SETTING_STATUS : return getCenterValveShutOffRecoveryPermissionSettingStatus();
-		case EPC_EMERGENCY_VALVE_SHUT_OFF_STATUS : return getEmergencyValveShutOffStatus();
-		case EPC_SHUT_OFF_VALVE_OPEN_CLOSE_STATUS : return getShutOffValveOpenCloseStatus();
-		case EPC_RESIDUAL_VOLUME_CONTROL_WARNING : return getResidualVolumeControlWarning();
-		case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1 : return getSetValueOfResidualVolumeControlWarningLevel1();
-		case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2 : return getSetValueOfResidualVolumeControlWarningLevel2();
-		case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3 : return getSetValueOfResidualVolumeControlWarningLevel3();
-		case EPC_SLIGHT_LEAK_TIMER_VALUE_GAS_FLOW_RATE_CONTINUATION : return getSlightLeakTimerValueGasFlowRateContinuation();
-		case EPC_SLIGHT_LEAK_TIMER_VALUE_WITHOUT_PRESSURE_INCREASE : return getSlightLeakTimerValueWithoutPressureIncrease();
-		case EPC_SHUT_OFF_REASON_LOG : return getShutOffReasonLog();
-		case EPC_MAXIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA : return getMaximumValueOfSupplyPressureData();
-		case EPC_MINIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA : return getMinimumValueOfSupplyPressureData();
-		case EPC_CURRENT_VALUE_OF_SUPPLY_PRESSURE_DATA : return getCurrentValueOfSupplyPressureData();
-		case EPC_MAXIMUM_VALUE_OF_BLOCK_PRESSURE_DATA : return getMaximumValueOfBlockPressureData();
-		case EPC_MINIMUM_VALUE_OF_BLOCK_PRESSURE_DATA : return getMinimumValueOfBlockPressureData();
-		case EPC_CURRENT_VALUE_OF_BLOCK_PRESSURE_DATA : return getCurrentValueOfBlockPressureData();
-		case EPC_NUMBER_OF_BLOCK_PRESSURE_SUPPLY_PRESSURE_ERROR_DAYS_TIME : return getNumberOfBlockPressureSupplyPressureErrorDaysTime();
-		case EPC_TEST_CALL_SETTING : return getTestCallSetting();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			LPGasMeter o = (LPGasMeter)eoj;
+			switch(property.epc) {
+			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1 : return o.setSetValueOfResidualVolumeControlWarningLevel1(property.edt);
+			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2 : return o.setSetValueOfResidualVolumeControlWarningLevel2(property.edt);
+			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3 : return o.setSetValueOfResidualVolumeControlWarningLevel3(property.edt);
+			case EPC_TEST_CALL_SETTING : return o.setTestCallSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA1 : return isValidIntegralGasConsumptionOfMeteringData1(property.edt);
-		case EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA2 : return isValidIntegralGasConsumptionOfMeteringData2(property.edt);
-		case EPC_ERROR_DETECTION_STATUSOF_METERING_DATA : return isValidErrorDetectionStatusofMeteringData(property.edt);
-		case EPC_SECURITY_DATA1 : return isValidSecurityData1(property.edt);
-		case EPC_SECURITY_DATA2 : return isValidSecurityData2(property.edt);
-		case EPC_CENTER_VALVE_SHUT_OFF_STATUS : return isValidCenterValveShutOffStatus(property.edt);
-		case EPC_CENTER_VALVE_SHUT_OFF_RECOVERY_PERMISSION_SETTING_STATUS : return isValidCenterValveShutOffRecoveryPermissionSettingStatus(property.edt);
-		case EPC_EMERGENCY_VALVE_SHUT_OFF_STATUS : return isValidEmergencyValveShutOffStatus(property.edt);
-		case EPC_SHUT_OFF_VALVE_OPEN_CLOSE_STATUS : return isValidShutOffValveOpenCloseStatus(property.edt);
-		case EPC_RESIDUAL_VOLUME_CONTROL_WARNING : return isValidResidualVolumeControlWarning(property.edt);
-		case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1 : return isValidSetValueOfResidualVolumeControlWarningLevel1(property.edt);
-		case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2 : return isValidSetValueOfResidualVolumeControlWarningLevel2(property.edt);
-		case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3 : return isValidSetValueOfResidualVolumeControlWarningLevel3(property.edt);
-		case EPC_SLIGHT_LEAK_TIMER_VALUE_GAS_FLOW_RATE_CONTINUATION : return isValidSlightLeakTimerValueGasFlowRateContinuation(property.edt);
-		case EPC_SLIGHT_LEAK_TIMER_VALUE_WITHOUT_PRESSURE_INCREASE : return isValidSlightLeakTimerValueWithoutPressureIncrease(property.edt);
-		case EPC_SHUT_OFF_REASON_LOG : return isValidShutOffReasonLog(property.edt);
-		case EPC_MAXIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA : return isValidMaximumValueOfSupplyPressureData(property.edt);
-		case EPC_MINIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA : return isValidMinimumValueOfSupplyPressureData(property.edt);
-		case EPC_CURRENT_VALUE_OF_SUPPLY_PRESSURE_DATA : return isValidCurrentValueOfSupplyPressureData(property.edt);
-		case EPC_MAXIMUM_VALUE_OF_BLOCK_PRESSURE_DATA : return isValidMaximumValueOfBlockPressureData(property.edt);
-		case EPC_MINIMUM_VALUE_OF_BLOCK_PRESSURE_DATA : return isValidMinimumValueOfBlockPressureData(property.edt);
-		case EPC_CURRENT_VALUE_OF_BLOCK_PRESSURE_DATA : return isValidCurrentValueOfBlockPressureData(property.edt);
-		case EPC_NUMBER_OF_BLOCK_PRESSURE_SUPPLY_PRESSURE_ERROR_DAYS_TIME : return isValidNumberOfBlockPressureSupplyPressureErrorDaysTime(property.edt);
-		case EPC_TEST_CALL_SETTING : return isValidTestCallSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			LPGasMeter o = (LPGasMeter)eoj;
+			switch(epc) {
+			case EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA1 : return o.getIntegralGasConsumptionOfMeteringData1();
+			case EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA2 : return o.getIntegralGasConsumptionOfMeteringData2();
+			case EPC_ERROR_DETECTION_STATUSOF_METERING_DATA : return o.getErrorDetectionStatusofMeteringData();
+			case EPC_SECURITY_DATA1 : return o.getSecurityData1();
+			case EPC_SECURITY_DATA2 : return o.getSecurityData2();
+			case EPC_CENTER_VALVE_SHUT_OFF_STATUS : return o.getCenterValveShutOffStatus();
+			case EPC_CENTER_VALVE_SHUT_OFF_RECOVERY_PERMISSION_SETTING_STATUS : return o.getCenterValveShutOffRecoveryPermissionSettingStatus();
+			case EPC_EMERGENCY_VALVE_SHUT_OFF_STATUS : return o.getEmergencyValveShutOffStatus();
+			case EPC_SHUT_OFF_VALVE_OPEN_CLOSE_STATUS : return o.getShutOffValveOpenCloseStatus();
+			case EPC_RESIDUAL_VOLUME_CONTROL_WARNING : return o.getResidualVolumeControlWarning();
+			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1 : return o.getSetValueOfResidualVolumeControlWarningLevel1();
+			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2 : return o.getSetValueOfResidualVolumeControlWarningLevel2();
+			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3 : return o.getSetValueOfResidualVolumeControlWarningLevel3();
+			case EPC_SLIGHT_LEAK_TIMER_VALUE_GAS_FLOW_RATE_CONTINUATION : return o.getSlightLeakTimerValueGasFlowRateContinuation();
+			case EPC_SLIGHT_LEAK_TIMER_VALUE_WITHOUT_PRESSURE_INCREASE : return o.getSlightLeakTimerValueWithoutPressureIncrease();
+			case EPC_SHUT_OFF_REASON_LOG : return o.getShutOffReasonLog();
+			case EPC_MAXIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA : return o.getMaximumValueOfSupplyPressureData();
+			case EPC_MINIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA : return o.getMinimumValueOfSupplyPressureData();
+			case EPC_CURRENT_VALUE_OF_SUPPLY_PRESSURE_DATA : return o.getCurrentValueOfSupplyPressureData();
+			case EPC_MAXIMUM_VALUE_OF_BLOCK_PRESSURE_DATA : return o.getMaximumValueOfBlockPressureData();
+			case EPC_MINIMUM_VALUE_OF_BLOCK_PRESSURE_DATA : return o.getMinimumValueOfBlockPressureData();
+			case EPC_CURRENT_VALUE_OF_BLOCK_PRESSURE_DATA : return o.getCurrentValueOfBlockPressureData();
+			case EPC_NUMBER_OF_BLOCK_PRESSURE_SUPPLY_PRESSURE_ERROR_DAYS_TIME : return o.getNumberOfBlockPressureSupplyPressureErrorDaysTime();
+			case EPC_TEST_CALL_SETTING : return o.getTestCallSetting();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			LPGasMeter o = (LPGasMeter)eoj;
+			switch(property.epc) {
+			case EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA1 : return o.isValidIntegralGasConsumptionOfMeteringData1(property.edt);
+			case EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA2 : return o.isValidIntegralGasConsumptionOfMeteringData2(property.edt);
+			case EPC_ERROR_DETECTION_STATUSOF_METERING_DATA : return o.isValidErrorDetectionStatusofMeteringData(property.edt);
+			case EPC_SECURITY_DATA1 : return o.isValidSecurityData1(property.edt);
+			case EPC_SECURITY_DATA2 : return o.isValidSecurityData2(property.edt);
+			case EPC_CENTER_VALVE_SHUT_OFF_STATUS : return o.isValidCenterValveShutOffStatus(property.edt);
+			case EPC_CENTER_VALVE_SHUT_OFF_RECOVERY_PERMISSION_SETTING_STATUS : return o.isValidCenterValveShutOffRecoveryPermissionSettingStatus(property.edt);
+			case EPC_EMERGENCY_VALVE_SHUT_OFF_STATUS : return o.isValidEmergencyValveShutOffStatus(property.edt);
+			case EPC_SHUT_OFF_VALVE_OPEN_CLOSE_STATUS : return o.isValidShutOffValveOpenCloseStatus(property.edt);
+			case EPC_RESIDUAL_VOLUME_CONTROL_WARNING : return o.isValidResidualVolumeControlWarning(property.edt);
+			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1 : return o.isValidSetValueOfResidualVolumeControlWarningLevel1(property.edt);
+			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2 : return o.isValidSetValueOfResidualVolumeControlWarningLevel2(property.edt);
+			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3 : return o.isValidSetValueOfResidualVolumeControlWarningLevel3(property.edt);
+			case EPC_SLIGHT_LEAK_TIMER_VALUE_GAS_FLOW_RATE_CONTINUATION : return o.isValidSlightLeakTimerValueGasFlowRateContinuation(property.edt);
+			case EPC_SLIGHT_LEAK_TIMER_VALUE_WITHOUT_PRESSURE_INCREASE : return o.isValidSlightLeakTimerValueWithoutPressureIncrease(property.edt);
+			case EPC_SHUT_OFF_REASON_LOG : return o.isValidShutOffReasonLog(property.edt);
+			case EPC_MAXIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA : return o.isValidMaximumValueOfSupplyPressureData(property.edt);
+			case EPC_MINIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA : return o.isValidMinimumValueOfSupplyPressureData(property.edt);
+			case EPC_CURRENT_VALUE_OF_SUPPLY_PRESSURE_DATA : return o.isValidCurrentValueOfSupplyPressureData(property.edt);
+			case EPC_MAXIMUM_VALUE_OF_BLOCK_PRESSURE_DATA : return o.isValidMaximumValueOfBlockPressureData(property.edt);
+			case EPC_MINIMUM_VALUE_OF_BLOCK_PRESSURE_DATA : return o.isValidMinimumValueOfBlockPressureData(property.edt);
+			case EPC_CURRENT_VALUE_OF_BLOCK_PRESSURE_DATA : return o.isValidCurrentValueOfBlockPressureData(property.edt);
+			case EPC_NUMBER_OF_BLOCK_PRESSURE_SUPPLY_PRESSURE_ERROR_DAYS_TIME : return o.isValidNumberOfBlockPressureSupplyPressureErrorDaysTime(property.edt);
+			case EPC_TEST_CALL_SETTING : return o.isValidTestCallSetting(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1 : 
-				onSetSetValueOfResidualVolumeControlWarningLevel1(eoj, tid, esv, property, success);
+				r.onSetSetValueOfResidualVolumeControlWarningLevel1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2 : 
-				onSetSetValueOfResidualVolumeControlWarningLevel2(eoj, tid, esv, property, success);
+				r.onSetSetValueOfResidualVolumeControlWarningLevel2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3 : 
-				onSetSetValueOfResidualVolumeControlWarningLevel3(eoj, tid, esv, property, success);
+				r.onSetSetValueOfResidualVolumeControlWarningLevel3(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEST_CALL_SETTING : 
-				onSetTestCallSetting(eoj, tid, esv, property, success);
+				r.onSetTestCallSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1592,88 +1550,136 @@ kPa<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA1 : 
-				onGetIntegralGasConsumptionOfMeteringData1(eoj, tid, esv, property, success);
+				r.onGetIntegralGasConsumptionOfMeteringData1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA2 : 
-				onGetIntegralGasConsumptionOfMeteringData2(eoj, tid, esv, property, success);
+				r.onGetIntegralGasConsumptionOfMeteringData2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ERROR_DETECTION_STATUSOF_METERING_DATA : 
-				onGetErrorDetectionStatusofMeteringData(eoj, tid, esv, property, success);
+				r.onGetErrorDetectionStatusofMeteringData(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SECURITY_DATA1 : 
-				onGetSecurityData1(eoj, tid, esv, property, success);
+				r.onGetSecurityData1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SECURITY_DATA2 : 
-				onGetSecurityData2(eoj, tid, esv, property, success);
+				r.onGetSecurityData2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CENTER_VALVE_SHUT_OFF_STATUS : 
-				onGetCenterValveShutOffStatus(eoj, tid, esv, property, success);
+				r.onGetCenterValveShutOffStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CENTER_VALVE_SHUT_OFF_RECOVERY_PERMISSION_SETTING_STATUS : 
-				onGetCenterValveShutOffRecoveryPermissionSettingStatus(eoj, tid, esv, property, success);
+				r.onGetCenterValveShutOffRecoveryPermissionSettingStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_EMERGENCY_VALVE_SHUT_OFF_STATUS : 
-				onGetEmergencyValveShutOffStatus(eoj, tid, esv, property, success);
+				r.onGetEmergencyValveShutOffStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SHUT_OFF_VALVE_OPEN_CLOSE_STATUS : 
-				onGetShutOffValveOpenCloseStatus(eoj, tid, esv, property, success);
+				r.onGetShutOffValveOpenCloseStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_RESIDUAL_VOLUME_CONTROL_WARNING : 
-				onGetResidualVolumeControlWarning(eoj, tid, esv, property, success);
+				r.onGetResidualVolumeControlWarning(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1 : 
-				onGetSetValueOfResidualVolumeControlWarningLevel1(eoj, tid, esv, property, success);
+				r.onGetSetValueOfResidualVolumeControlWarningLevel1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2 : 
-				onGetSetValueOfResidualVolumeControlWarningLevel2(eoj, tid, esv, property, success);
+				r.onGetSetValueOfResidualVolumeControlWarningLevel2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3 : 
-				onGetSetValueOfResidualVolumeControlWarningLevel3(eoj, tid, esv, property, success);
+				r.onGetSetValueOfResidualVolumeControlWarningLevel3(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SLIGHT_LEAK_TIMER_VALUE_GAS_FLOW_RATE_CONTINUATION : 
-				onGetSlightLeakTimerValueGasFlowRateContinuation(eoj, tid, esv, property, success);
+				r.onGetSlightLeakTimerValueGasFlowRateContinuation(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SLIGHT_LEAK_TIMER_VALUE_WITHOUT_PRESSURE_INCREASE : 
-				onGetSlightLeakTimerValueWithoutPressureIncrease(eoj, tid, esv, property, success);
+				r.onGetSlightLeakTimerValueWithoutPressureIncrease(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SHUT_OFF_REASON_LOG : 
-				onGetShutOffReasonLog(eoj, tid, esv, property, success);
+				r.onGetShutOffReasonLog(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MAXIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA : 
-				onGetMaximumValueOfSupplyPressureData(eoj, tid, esv, property, success);
+				r.onGetMaximumValueOfSupplyPressureData(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA : 
-				onGetMinimumValueOfSupplyPressureData(eoj, tid, esv, property, success);
+				r.onGetMinimumValueOfSupplyPressureData(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CURRENT_VALUE_OF_SUPPLY_PRESSURE_DATA : 
-				onGetCurrentValueOfSupplyPressureData(eoj, tid, esv, property, success);
+				r.onGetCurrentValueOfSupplyPressureData(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MAXIMUM_VALUE_OF_BLOCK_PRESSURE_DATA : 
-				onGetMaximumValueOfBlockPressureData(eoj, tid, esv, property, success);
+				r.onGetMaximumValueOfBlockPressureData(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MINIMUM_VALUE_OF_BLOCK_PRESSURE_DATA : 
-				onGetMinimumValueOfBlockPressureData(eoj, tid, esv, property, success);
+				r.onGetMinimumValueOfBlockPressureData(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CURRENT_VALUE_OF_BLOCK_PRESSURE_DATA : 
-				onGetCurrentValueOfBlockPressureData(eoj, tid, esv, property, success);
+				r.onGetCurrentValueOfBlockPressureData(eoj, tid, esv, property, success);
 				return true;
 			case EPC_NUMBER_OF_BLOCK_PRESSURE_SUPPLY_PRESSURE_ERROR_DAYS_TIME : 
-				onGetNumberOfBlockPressureSupplyPressureErrorDaysTime(eoj, tid, esv, property, success);
+				r.onGetNumberOfBlockPressureSupplyPressureErrorDaysTime(eoj, tid, esv, property, success);
 				return true;
 			case EPC_TEST_CALL_SETTING : 
-				onGetTestCallSetting(eoj, tid, esv, property, success);
+				r.onGetTestCallSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(LPGasMeter.class, sPropertyHandler
+				, new byte[] {EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA1, EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA2, EPC_ERROR_DETECTION_STATUSOF_METERING_DATA, EPC_SECURITY_DATA1, EPC_SECURITY_DATA2, EPC_CENTER_VALVE_SHUT_OFF_STATUS, EPC_CENTER_VALVE_SHUT_OFF_RECOVERY_PERMISSION_SETTING_STATUS, EPC_EMERGENCY_VALVE_SHUT_OFF_STATUS, EPC_SHUT_OFF_VALVE_OPEN_CLOSE_STATUS, EPC_RESIDUAL_VOLUME_CONTROL_WARNING, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3, EPC_SLIGHT_LEAK_TIMER_VALUE_GAS_FLOW_RATE_CONTINUATION, EPC_SLIGHT_LEAK_TIMER_VALUE_WITHOUT_PRESSURE_INCREASE, EPC_SHUT_OFF_REASON_LOG, EPC_MAXIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA, EPC_MINIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA, EPC_CURRENT_VALUE_OF_SUPPLY_PRESSURE_DATA, EPC_MAXIMUM_VALUE_OF_BLOCK_PRESSURE_DATA, EPC_MINIMUM_VALUE_OF_BLOCK_PRESSURE_DATA, EPC_CURRENT_VALUE_OF_BLOCK_PRESSURE_DATA, EPC_NUMBER_OF_BLOCK_PRESSURE_SUPPLY_PRESSURE_ERROR_DAYS_TIME, EPC_TEST_CALL_SETTING}
+				, new byte[] {EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3, EPC_TEST_CALL_SETTING}
+				, new byte[] {EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA1, EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA2, EPC_ERROR_DETECTION_STATUSOF_METERING_DATA, EPC_SECURITY_DATA1, EPC_SECURITY_DATA2, EPC_CENTER_VALVE_SHUT_OFF_STATUS, EPC_CENTER_VALVE_SHUT_OFF_RECOVERY_PERMISSION_SETTING_STATUS, EPC_EMERGENCY_VALVE_SHUT_OFF_STATUS, EPC_SHUT_OFF_VALVE_OPEN_CLOSE_STATUS, EPC_RESIDUAL_VOLUME_CONTROL_WARNING, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3, EPC_SLIGHT_LEAK_TIMER_VALUE_GAS_FLOW_RATE_CONTINUATION, EPC_SLIGHT_LEAK_TIMER_VALUE_WITHOUT_PRESSURE_INCREASE, EPC_SHUT_OFF_REASON_LOG, EPC_MAXIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA, EPC_MINIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA, EPC_CURRENT_VALUE_OF_SUPPLY_PRESSURE_DATA, EPC_MAXIMUM_VALUE_OF_BLOCK_PRESSURE_DATA, EPC_MINIMUM_VALUE_OF_BLOCK_PRESSURE_DATA, EPC_CURRENT_VALUE_OF_BLOCK_PRESSURE_DATA, EPC_NUMBER_OF_BLOCK_PRESSURE_SUPPLY_PRESSURE_ERROR_DAYS_TIME, EPC_TEST_CALL_SETTING});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3, EPC_TEST_CALL_SETTING}
+					, new byte[] {EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA1, EPC_INTEGRAL_GAS_CONSUMPTION_OF_METERING_DATA2, EPC_ERROR_DETECTION_STATUSOF_METERING_DATA, EPC_SECURITY_DATA1, EPC_SECURITY_DATA2, EPC_CENTER_VALVE_SHUT_OFF_STATUS, EPC_CENTER_VALVE_SHUT_OFF_RECOVERY_PERMISSION_SETTING_STATUS, EPC_EMERGENCY_VALVE_SHUT_OFF_STATUS, EPC_SHUT_OFF_VALVE_OPEN_CLOSE_STATUS, EPC_RESIDUAL_VOLUME_CONTROL_WARNING, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL1, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL2, EPC_SET_VALUE_OF_RESIDUAL_VOLUME_CONTROL_WARNING_LEVEL3, EPC_SLIGHT_LEAK_TIMER_VALUE_GAS_FLOW_RATE_CONTINUATION, EPC_SLIGHT_LEAK_TIMER_VALUE_WITHOUT_PRESSURE_INCREASE, EPC_SHUT_OFF_REASON_LOG, EPC_MAXIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA, EPC_MINIMUM_VALUE_OF_SUPPLY_PRESSURE_DATA, EPC_CURRENT_VALUE_OF_SUPPLY_PRESSURE_DATA, EPC_MAXIMUM_VALUE_OF_BLOCK_PRESSURE_DATA, EPC_MINIMUM_VALUE_OF_BLOCK_PRESSURE_DATA, EPC_CURRENT_VALUE_OF_BLOCK_PRESSURE_DATA, EPC_NUMBER_OF_BLOCK_PRESSURE_SUPPLY_PRESSURE_ERROR_DAYS_TIME, EPC_TEST_CALL_SETTING}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Integral gas consumption of metering data 1<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -2753,164 +2754,121 @@ bytes<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return setDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return getMeasuredCumulativeAmountOfElectricEnergyNormalDirection();
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return getMeasuredCumulativeAmountOfElectricEnergyReverseDirection();
-		case EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY : return getUnitForCumulativeAmountsOfElectricEnergy();
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return getHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection();
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return getHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection();
-		case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return getDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved();
-		case EPC_MEASURED_INSTANTANEO_US_AMOUNT_OF_ELECTRIC_ENERGY : return getMeasuredInstantaneoUsAmountOfElectricEnergy();
-		case EPC_MEASURED_INSTANTANEOUS_CURRENTS : return getMeasuredInstantaneousCurrents();
-		case EPC_MEASURED_INSTANTANEOUS_VOLTAGES : return getMeasuredInstantaneousVoltages();
-		case EPC_MEASUREMENT_CHANNEL1 : return getMeasurementChannel1();
-		case EPC_MEASUREMENT_CHANNEL2 : return getMeasurementChannel2();
-		case EPC_MEASUREMENT_CHANNEL3 : return getMeasurementChannel3();
-		case EPC_MEASUREMENT_CHANNEL4 : return getMeasurementChannel4();
-		case EPC_MEASUREMENT_CHANNEL5 : return getMeasurementChannel5();
-		case EPC_MEASUREMENT_CHANNEL6 : return getMeasurementChannel6();
-		case EPC_MEASUREMENT_CHANNEL7 : return getMeasurementChannel7();
-		case EPC_MEASUREMENT_CHANNEL8 : return getMeasurementChannel8();
-		case EPC_MEASUREMENT_CHANNEL9 : return getMeasurementChannel9();
-		case EPC_MEASUREMENT_CHANNEL10 : return getMeasurementChannel10();
-		case EPC_MEASUREMENT_CHANNEL11 : return getMeasurementChannel11();
-		case EPC_MEASUREMENT_CHANNEL12 : return getMeasurementChannel12();
-		case EPC_MEASUREMENT_CHANNEL13 : return getMeasurementChannel13();
-		case EPC_MEASUREMENT_CHANNEL14 : return getMeasurementChannel14();
-		case EPC_MEASUREMENT_CHANNEL15 : return getMeasurementChannel15();
-		case EPC_MEASUREMENT_CHANNEL16 : return getMeasurementChannel16();
-		case EPC_MEASUREMENT_CHANNEL17 : return getMeasurementChannel17();
-		case EPC_MEASUREMENT_CHANNEL18 : return getMeasurementChannel18();
-		case EPC_MEASUREMENT_CHANNEL19 : return getMeasurementChannel19();
-		case EPC_MEASUREMENT_CHANNEL20 : return getMeasurementChannel20();
-		case EPC_MEASUREMENT_CHANNEL21 : return getMeasurementChannel21();
-		case EPC_MEASUREMENT_CHANNEL22 : return getMeasurementChannel22();
-		case EPC_MEASUREMENT_CHANNEL23 : return getMeasurementChannel23();
-		case EPC_MEASUREMENT_CHANNEL24 : return getMeasurementChannel24();
-		case EPC_MEASUREMENT_CHANNEL25 : return getMeasurementChannel25();
-		case EPC_MEASUREMENT_CHANNEL26 : return getMeasurementChannel26();
-		case EPC_MEASUREMENT_CHANNEL27 : return getMeasurementChannel27();
-		case EPC_MEASUREMENT_CHANNEL28 : return getMeasurementChannel28();
-		case EPC_MEASUREMENT_CHANNEL29 : return getMeasurementChannel29();
-		case EPC_MEASUREMENT_CHANNEL30 : return getMeasurementChannel30();
-		case EPC_MEASUREMENT_CHANNEL31 : return getMeasurementChannel31();
-		case EPC_MEASUREMENT_CHANNEL32 : return getMeasurementChannel32();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			PowerDistributionBoardMetering o = (PowerDistributionBoardMetering)eoj;
+			switch(property.epc) {
+			case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return o.setDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return isValidMeasuredCumulativeAmountOfElectricEnergyNormalDirection(property.edt);
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return isValidMeasuredCumulativeAmountOfElectricEnergyReverseDirection(property.edt);
-		case EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY : return isValidUnitForCumulativeAmountsOfElectricEnergy(property.edt);
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return isValidHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection(property.edt);
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return isValidHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(property.edt);
-		case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return isValidDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(property.edt);
-		case EPC_MEASURED_INSTANTANEO_US_AMOUNT_OF_ELECTRIC_ENERGY : return isValidMeasuredInstantaneoUsAmountOfElectricEnergy(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_CURRENTS : return isValidMeasuredInstantaneousCurrents(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_VOLTAGES : return isValidMeasuredInstantaneousVoltages(property.edt);
-		case EPC_MEASUREMENT_CHANNEL1 : return isValidMeasurementChannel1(property.edt);
-		case EPC_MEASUREMENT_CHANNEL2 : return isValidMeasurementChannel2(property.edt);
-		case EPC_MEASUREMENT_CHANNEL3 : return isValidMeasurementChannel3(property.edt);
-		case EPC_MEASUREMENT_CHANNEL4 : return isValidMeasurementChannel4(property.edt);
-		case EPC_MEASUREMENT_CHANNEL5 : return isValidMeasurementChannel5(property.edt);
-		case EPC_MEASUREMENT_CHANNEL6 : return isValidMeasurementChannel6(property.edt);
-		case EPC_MEASUREMENT_CHANNEL7 : return isValidMeasurementChannel7(property.edt);
-		case EPC_MEASUREMENT_CHANNEL8 : return isValidMeasurementChannel8(property.edt);
-		case EPC_MEASUREMENT_CHANNEL9 : return isValidMeasurementChannel9(property.edt);
-		case EPC_MEASUREMENT_CHANNEL10 : return isValidMeasurementChannel10(property.edt);
-		case EPC_MEASUREMENT_CHANNEL11 : return isValidMeasurementChannel11(property.edt);
-		case EPC_MEASUREMENT_CHANNEL12 : return isValidMeasurementChannel12(property.edt);
-		case EPC_MEASUREMENT_CHANNEL13 : return isValidMeasurementChannel13(property.edt);
-		case EPC_MEASUREMENT_CHANNEL14 : return isValidMeasurementChannel14(property.edt);
-		case EPC_MEASUREMENT_CHANNEL15 : return isValidMeasurementChannel15(property.edt);
-		case EPC_MEASUREMENT_CHANNEL16 : return isValidMeasurementChannel16(property.edt);
-		case EPC_MEASUREMENT_CHANNEL17 : return isValidMeasurementChannel17(property.edt);
-		case EPC_MEASUREMENT_CHANNEL18 : return isValidMeasurementChannel18(property.edt);
-		case EPC_MEASUREMENT_CHANNEL19 : return isValidMeasurementChannel19(property.edt);
-		case EPC_MEASUREMENT_CHANNEL20 : return isValidMeasurementChannel20(property.edt);
-		case EPC_MEASUREMENT_CHANNEL21 : return isValidMeasurementChannel21(property.edt);
-		case EPC_MEASUREMENT_CHANNEL22 : return isValidMeasurementChannel22(property.edt);
-		case EPC_MEASUREMENT_CHANNEL23 : return isValidMeasurementChannel23(property.edt);
-		case EPC_MEASUREMENT_CHANNEL24 : return isValidMeasurementChannel24(property.edt);
-		case EPC_MEASUREMENT_CHANNEL25 : return isValidMeasurementChannel25(property.edt);
-		case EPC_MEASUREMENT_CHANNEL26 : return isValidMeasurementChannel26(property.edt);
-		case EPC_MEASUREMENT_CHANNEL27 : return isValidMeasurementChannel27(property.edt);
-		case EPC_MEASUREMENT_CHANNEL28 : return isValidMeasurementChannel28(property.edt);
-		case EPC_MEASUREMENT_CHANNEL29 : return isValidMeasurementChannel29(property.edt);
-		case EPC_MEASUREMENT_CHANNEL30 : return isValidMeasurementChannel30(property.edt);
-		case EPC_MEASUREMENT_CHANNEL31 : return isValidMeasurementChannel31(property.edt);
-		case EPC_MEASUREMENT_CHANNEL32 : return isValidMeasurementChannel32(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			PowerDistributionBoardMetering o = (PowerDistributionBoardMetering)eoj;
+			switch(epc) {
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return o.getMeasuredCumulativeAmountOfElectricEnergyNormalDirection();
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return o.getMeasuredCumulativeAmountOfElectricEnergyReverseDirection();
+			case EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY : return o.getUnitForCumulativeAmountsOfElectricEnergy();
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return o.getHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection();
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return o.getHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection();
+			case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return o.getDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved();
+			case EPC_MEASURED_INSTANTANEO_US_AMOUNT_OF_ELECTRIC_ENERGY : return o.getMeasuredInstantaneoUsAmountOfElectricEnergy();
+			case EPC_MEASURED_INSTANTANEOUS_CURRENTS : return o.getMeasuredInstantaneousCurrents();
+			case EPC_MEASURED_INSTANTANEOUS_VOLTAGES : return o.getMeasuredInstantaneousVoltages();
+			case EPC_MEASUREMENT_CHANNEL1 : return o.getMeasurementChannel1();
+			case EPC_MEASUREMENT_CHANNEL2 : return o.getMeasurementChannel2();
+			case EPC_MEASUREMENT_CHANNEL3 : return o.getMeasurementChannel3();
+			case EPC_MEASUREMENT_CHANNEL4 : return o.getMeasurementChannel4();
+			case EPC_MEASUREMENT_CHANNEL5 : return o.getMeasurementChannel5();
+			case EPC_MEASUREMENT_CHANNEL6 : return o.getMeasurementChannel6();
+			case EPC_MEASUREMENT_CHANNEL7 : return o.getMeasurementChannel7();
+			case EPC_MEASUREMENT_CHANNEL8 : return o.getMeasurementChannel8();
+			case EPC_MEASUREMENT_CHANNEL9 : return o.getMeasurementChannel9();
+			case EPC_MEASUREMENT_CHANNEL10 : return o.getMeasurementChannel10();
+			case EPC_MEASUREMENT_CHANNEL11 : return o.getMeasurementChannel11();
+			case EPC_MEASUREMENT_CHANNEL12 : return o.getMeasurementChannel12();
+			case EPC_MEASUREMENT_CHANNEL13 : return o.getMeasurementChannel13();
+			case EPC_MEASUREMENT_CHANNEL14 : return o.getMeasurementChannel14();
+			case EPC_MEASUREMENT_CHANNEL15 : return o.getMeasurementChannel15();
+			case EPC_MEASUREMENT_CHANNEL16 : return o.getMeasurementChannel16();
+			case EPC_MEASUREMENT_CHANNEL17 : return o.getMeasurementChannel17();
+			case EPC_MEASUREMENT_CHANNEL18 : return o.getMeasurementChannel18();
+			case EPC_MEASUREMENT_CHANNEL19 : return o.getMeasurementChannel19();
+			case EPC_MEASUREMENT_CHANNEL20 : return o.getMeasurementChannel20();
+			case EPC_MEASUREMENT_CHANNEL21 : return o.getMeasurementChannel21();
+			case EPC_MEASUREMENT_CHANNEL22 : return o.getMeasurementChannel22();
+			case EPC_MEASUREMENT_CHANNEL23 : return o.getMeasurementChannel23();
+			case EPC_MEASUREMENT_CHANNEL24 : return o.getMeasurementChannel24();
+			case EPC_MEASUREMENT_CHANNEL25 : return o.getMeasurementChannel25();
+			case EPC_MEASUREMENT_CHANNEL26 : return o.getMeasurementChannel26();
+			case EPC_MEASUREMENT_CHANNEL27 : return o.getMeasurementChannel27();
+			case EPC_MEASUREMENT_CHANNEL28 : return o.getMeasurementChannel28();
+			case EPC_MEASUREMENT_CHANNEL29 : return o.getMeasurementChannel29();
+			case EPC_MEASUREMENT_CHANNEL30 : return o.getMeasurementChannel30();
+			case EPC_MEASUREMENT_CHANNEL31 : return o.getMeasurementChannel31();
+			case EPC_MEASUREMENT_CHANNEL32 : return o.getMeasurementChannel32();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			PowerDistributionBoardMetering o = (PowerDistributionBoardMetering)eoj;
+			switch(property.epc) {
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return o.isValidMeasuredCumulativeAmountOfElectricEnergyNormalDirection(property.edt);
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return o.isValidMeasuredCumulativeAmountOfElectricEnergyReverseDirection(property.edt);
+			case EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY : return o.isValidUnitForCumulativeAmountsOfElectricEnergy(property.edt);
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return o.isValidHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection(property.edt);
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return o.isValidHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(property.edt);
+			case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return o.isValidDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(property.edt);
+			case EPC_MEASURED_INSTANTANEO_US_AMOUNT_OF_ELECTRIC_ENERGY : return o.isValidMeasuredInstantaneoUsAmountOfElectricEnergy(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_CURRENTS : return o.isValidMeasuredInstantaneousCurrents(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_VOLTAGES : return o.isValidMeasuredInstantaneousVoltages(property.edt);
+			case EPC_MEASUREMENT_CHANNEL1 : return o.isValidMeasurementChannel1(property.edt);
+			case EPC_MEASUREMENT_CHANNEL2 : return o.isValidMeasurementChannel2(property.edt);
+			case EPC_MEASUREMENT_CHANNEL3 : return o.isValidMeasurementChannel3(property.edt);
+			case EPC_MEASUREMENT_CHANNEL4 : return o.isValidMeasurementChannel4(property.edt);
+			case EPC_MEASUREMENT_CHANNEL5 : return o.isValidMeasurementChannel5(property.edt);
+			case EPC_MEASUREMENT_CHANNEL6 : return o.isValidMeasurementChannel6(property.edt);
+			case EPC_MEASUREMENT_CHANNEL7 : return o.isValidMeasurementChannel7(property.edt);
+			case EPC_MEASUREMENT_CHANNEL8 : return o.isValidMeasurementChannel8(property.edt);
+			case EPC_MEASUREMENT_CHANNEL9 : return o.isValidMeasurementChannel9(property.edt);
+			case EPC_MEASUREMENT_CHANNEL10 : return o.isValidMeasurementChannel10(property.edt);
+			case EPC_MEASUREMENT_CHANNEL11 : return o.isValidMeasurementChannel11(property.edt);
+			case EPC_MEASUREMENT_CHANNEL12 : return o.isValidMeasurementChannel12(property.edt);
+			case EPC_MEASUREMENT_CHANNEL13 : return o.isValidMeasurementChannel13(property.edt);
+			case EPC_MEASUREMENT_CHANNEL14 : return o.isValidMeasurementChannel14(property.edt);
+			case EPC_MEASUREMENT_CHANNEL15 : return o.isValidMeasurementChannel15(property.edt);
+			case EPC_MEASUREMENT_CHANNEL16 : return o.isValidMeasurementChannel16(property.edt);
+			case EPC_MEASUREMENT_CHANNEL17 : return o.isValidMeasurementChannel17(property.edt);
+			case EPC_MEASUREMENT_CHANNEL18 : return o.isValidMeasurementChannel18(property.edt);
+			case EPC_MEASUREMENT_CHANNEL19 : return o.isValidMeasurementChannel19(property.edt);
+			case EPC_MEASUREMENT_CHANNEL20 : return o.isValidMeasurementChannel20(property.edt);
+			case EPC_MEASUREMENT_CHANNEL21 : return o.isValidMeasurementChannel21(property.edt);
+			case EPC_MEASUREMENT_CHANNEL22 : return o.isValidMeasurementChannel22(property.edt);
+			case EPC_MEASUREMENT_CHANNEL23 : return o.isValidMeasurementChannel23(property.edt);
+			case EPC_MEASUREMENT_CHANNEL24 : return o.isValidMeasurementChannel24(property.edt);
+			case EPC_MEASUREMENT_CHANNEL25 : return o.isValidMeasurementChannel25(property.edt);
+			case EPC_MEASUREMENT_CHANNEL26 : return o.isValidMeasurementChannel26(property.edt);
+			case EPC_MEASUREMENT_CHANNEL27 : return o.isValidMeasurementChannel27(property.edt);
+			case EPC_MEASUREMENT_CHANNEL28 : return o.isValidMeasurementChannel28(property.edt);
+			case EPC_MEASUREMENT_CHANNEL29 : return o.isValidMeasurementChannel29(property.edt);
+			case EPC_MEASUREMENT_CHANNEL30 : return o.isValidMeasurementChannel30(property.edt);
+			case EPC_MEASUREMENT_CHANNEL31 : return o.isValidMeasurementChannel31(property.edt);
+			case EPC_MEASUREMENT_CHANNEL32 : return o.isValidMeasurementChannel32(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : 
-				onSetDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(eoj, tid, esv, property, success);
+				r.onSetDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -2918,139 +2876,187 @@ bytes<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : 
-				onGetMeasuredCumulativeAmountOfElectricEnergyNormalDirection(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeAmountOfElectricEnergyNormalDirection(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : 
-				onGetMeasuredCumulativeAmountOfElectricEnergyReverseDirection(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeAmountOfElectricEnergyReverseDirection(eoj, tid, esv, property, success);
 				return true;
 			case EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY : 
-				onGetUnitForCumulativeAmountsOfElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetUnitForCumulativeAmountsOfElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : 
-				onGetHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection(eoj, tid, esv, property, success);
+				r.onGetHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : 
-				onGetHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(eoj, tid, esv, property, success);
+				r.onGetHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : 
-				onGetDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(eoj, tid, esv, property, success);
+				r.onGetDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEO_US_AMOUNT_OF_ELECTRIC_ENERGY : 
-				onGetMeasuredInstantaneoUsAmountOfElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneoUsAmountOfElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_CURRENTS : 
-				onGetMeasuredInstantaneousCurrents(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousCurrents(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_VOLTAGES : 
-				onGetMeasuredInstantaneousVoltages(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousVoltages(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL1 : 
-				onGetMeasurementChannel1(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL2 : 
-				onGetMeasurementChannel2(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL3 : 
-				onGetMeasurementChannel3(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel3(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL4 : 
-				onGetMeasurementChannel4(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel4(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL5 : 
-				onGetMeasurementChannel5(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel5(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL6 : 
-				onGetMeasurementChannel6(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel6(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL7 : 
-				onGetMeasurementChannel7(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel7(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL8 : 
-				onGetMeasurementChannel8(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel8(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL9 : 
-				onGetMeasurementChannel9(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel9(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL10 : 
-				onGetMeasurementChannel10(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel10(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL11 : 
-				onGetMeasurementChannel11(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel11(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL12 : 
-				onGetMeasurementChannel12(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel12(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL13 : 
-				onGetMeasurementChannel13(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel13(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL14 : 
-				onGetMeasurementChannel14(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel14(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL15 : 
-				onGetMeasurementChannel15(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel15(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL16 : 
-				onGetMeasurementChannel16(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel16(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL17 : 
-				onGetMeasurementChannel17(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel17(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL18 : 
-				onGetMeasurementChannel18(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel18(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL19 : 
-				onGetMeasurementChannel19(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel19(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL20 : 
-				onGetMeasurementChannel20(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel20(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL21 : 
-				onGetMeasurementChannel21(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel21(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL22 : 
-				onGetMeasurementChannel22(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel22(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL23 : 
-				onGetMeasurementChannel23(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel23(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL24 : 
-				onGetMeasurementChannel24(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel24(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL25 : 
-				onGetMeasurementChannel25(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel25(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL26 : 
-				onGetMeasurementChannel26(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel26(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL27 : 
-				onGetMeasurementChannel27(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel27(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL28 : 
-				onGetMeasurementChannel28(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel28(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL29 : 
-				onGetMeasurementChannel29(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel29(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL30 : 
-				onGetMeasurementChannel30(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel30(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL31 : 
-				onGetMeasurementChannel31(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel31(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASUREMENT_CHANNEL32 : 
-				onGetMeasurementChannel32(eoj, tid, esv, property, success);
+				r.onGetMeasurementChannel32(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(PowerDistributionBoardMetering.class, sPropertyHandler
+				, new byte[] {EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED, EPC_MEASURED_INSTANTANEO_US_AMOUNT_OF_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CURRENTS, EPC_MEASURED_INSTANTANEOUS_VOLTAGES, EPC_MEASUREMENT_CHANNEL1, EPC_MEASUREMENT_CHANNEL2, EPC_MEASUREMENT_CHANNEL3, EPC_MEASUREMENT_CHANNEL4, EPC_MEASUREMENT_CHANNEL5, EPC_MEASUREMENT_CHANNEL6, EPC_MEASUREMENT_CHANNEL7, EPC_MEASUREMENT_CHANNEL8, EPC_MEASUREMENT_CHANNEL9, EPC_MEASUREMENT_CHANNEL10, EPC_MEASUREMENT_CHANNEL11, EPC_MEASUREMENT_CHANNEL12, EPC_MEASUREMENT_CHANNEL13, EPC_MEASUREMENT_CHANNEL14, EPC_MEASUREMENT_CHANNEL15, EPC_MEASUREMENT_CHANNEL16, EPC_MEASUREMENT_CHANNEL17, EPC_MEASUREMENT_CHANNEL18, EPC_MEASUREMENT_CHANNEL19, EPC_MEASUREMENT_CHANNEL20, EPC_MEASUREMENT_CHANNEL21, EPC_MEASUREMENT_CHANNEL22, EPC_MEASUREMENT_CHANNEL23, EPC_MEASUREMENT_CHANNEL24, EPC_MEASUREMENT_CHANNEL25, EPC_MEASUREMENT_CHANNEL26, EPC_MEASUREMENT_CHANNEL27, EPC_MEASUREMENT_CHANNEL28, EPC_MEASUREMENT_CHANNEL29, EPC_MEASUREMENT_CHANNEL30, EPC_MEASUREMENT_CHANNEL31, EPC_MEASUREMENT_CHANNEL32}
+				, new byte[] {EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED}
+				, new byte[] {EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED, EPC_MEASURED_INSTANTANEO_US_AMOUNT_OF_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CURRENTS, EPC_MEASURED_INSTANTANEOUS_VOLTAGES, EPC_MEASUREMENT_CHANNEL1, EPC_MEASUREMENT_CHANNEL2, EPC_MEASUREMENT_CHANNEL3, EPC_MEASUREMENT_CHANNEL4, EPC_MEASUREMENT_CHANNEL5, EPC_MEASUREMENT_CHANNEL6, EPC_MEASUREMENT_CHANNEL7, EPC_MEASUREMENT_CHANNEL8, EPC_MEASUREMENT_CHANNEL9, EPC_MEASUREMENT_CHANNEL10, EPC_MEASUREMENT_CHANNEL11, EPC_MEASUREMENT_CHANNEL12, EPC_MEASUREMENT_CHANNEL13, EPC_MEASUREMENT_CHANNEL14, EPC_MEASUREMENT_CHANNEL15, EPC_MEASUREMENT_CHANNEL16, EPC_MEASUREMENT_CHANNEL17, EPC_MEASUREMENT_CHANNEL18, EPC_MEASUREMENT_CHANNEL19, EPC_MEASUREMENT_CHANNEL20, EPC_MEASUREMENT_CHANNEL21, EPC_MEASUREMENT_CHANNEL22, EPC_MEASUREMENT_CHANNEL23, EPC_MEASUREMENT_CHANNEL24, EPC_MEASUREMENT_CHANNEL25, EPC_MEASUREMENT_CHANNEL26, EPC_MEASUREMENT_CHANNEL27, EPC_MEASUREMENT_CHANNEL28, EPC_MEASUREMENT_CHANNEL29, EPC_MEASUREMENT_CHANNEL30, EPC_MEASUREMENT_CHANNEL31, EPC_MEASUREMENT_CHANNEL32});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED}
+					, new byte[] {EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED, EPC_MEASURED_INSTANTANEO_US_AMOUNT_OF_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CURRENTS, EPC_MEASURED_INSTANTANEOUS_VOLTAGES, EPC_MEASUREMENT_CHANNEL1, EPC_MEASUREMENT_CHANNEL2, EPC_MEASUREMENT_CHANNEL3, EPC_MEASUREMENT_CHANNEL4, EPC_MEASUREMENT_CHANNEL5, EPC_MEASUREMENT_CHANNEL6, EPC_MEASUREMENT_CHANNEL7, EPC_MEASUREMENT_CHANNEL8, EPC_MEASUREMENT_CHANNEL9, EPC_MEASUREMENT_CHANNEL10, EPC_MEASUREMENT_CHANNEL11, EPC_MEASUREMENT_CHANNEL12, EPC_MEASUREMENT_CHANNEL13, EPC_MEASUREMENT_CHANNEL14, EPC_MEASUREMENT_CHANNEL15, EPC_MEASUREMENT_CHANNEL16, EPC_MEASUREMENT_CHANNEL17, EPC_MEASUREMENT_CHANNEL18, EPC_MEASUREMENT_CHANNEL19, EPC_MEASUREMENT_CHANNEL20, EPC_MEASUREMENT_CHANNEL21, EPC_MEASUREMENT_CHANNEL22, EPC_MEASUREMENT_CHANNEL23, EPC_MEASUREMENT_CHANNEL24, EPC_MEASUREMENT_CHANNEL25, EPC_MEASUREMENT_CHANNEL26, EPC_MEASUREMENT_CHANNEL27, EPC_MEASUREMENT_CHANNEL28, EPC_MEASUREMENT_CHANNEL29, EPC_MEASUREMENT_CHANNEL30, EPC_MEASUREMENT_CHANNEL31, EPC_MEASUREMENT_CHANNEL32}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Measured cumulative amount of electric energy (normal direction)<br>
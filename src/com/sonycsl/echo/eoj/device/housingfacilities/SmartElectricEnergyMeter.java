@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -1315,132 +1316,89 @@ unsigned long<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION : return setElectricEnergyMeterClassification(property.edt);
-		case EPC_OWNER_CLASSIFICATION : return setOwnerClassification(property.edt);
-		case EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY : return setYearAndMonthOfInspectionExpiry(property.edt);
-		case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return setDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION : return getElectricEnergyMeterClassification();
-		case EPC_OWNER_CLASSIFICATION : return getOwnerClassification();
-		case EPC_PHASES_AND_WIRES_SETTING_STATUS : return getPhasesAndWiresSettingStatus();
-		case EPC_COMPOSITE_TRANSFORMATION_RATIO : return getCompositeTransformationRatio();
-		case EPC_MULTIPLYING_FACTOR_FOR_COMPOSITE_TRANSFORMATION_RATIO : return getMultiplyingFactorForCompositeTransformationRatio();
-		case EPC_METER_TYPE_CERTIFICATION_NUMBER : return getMeterTypeCertificationNumber();
-		case EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY : return getYearAndMonthOfInspectionExpiry();
-		case EPC_NUMBER_OF_EFFECTIVE_DIGITS_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY : return getNumberOfEffectiveDigitsForCumulativeAmountsOfElectricEnergy();
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return getMeasuredCumulativeAmountOfElectricEnergyNormalDirection();
-		case EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_AND_REVERSE_DIRECTIONS : return getUnitForCumulativeAmountsOfElectricEnergyNormalAndReverseDirections();
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return getHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection();
-		case EPC_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return getMeasuredCumulativeAmountsOfElectricEnergyReverseDirection();
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return getHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection();
-		case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return getDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved();
-		case EPC_MEASURED_INSTANTANEOUS_ELECTRIC_ENERGY : return getMeasuredInstantaneousElectricEnergy();
-		case EPC_MEASURED_INSTANTANEOUS_CURRENTS : return getMeasuredInstantaneousCurrents();
-		case EPC_MEASURED_INSTANTANEOUS_VOLTAGES : return getMeasuredInstantaneousVoltages();
-		case EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_NORMAL_DIRECTION : return getCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeNormalDirection();
-		case EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_REVERSE_DIRECTION : return getCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeReverseDirection();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			SmartElectricEnergyMeter o = (SmartElectricEnergyMeter)eoj;
+			switch(property.epc) {
+			case EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION : return o.setElectricEnergyMeterClassification(property.edt);
+			case EPC_OWNER_CLASSIFICATION : return o.setOwnerClassification(property.edt);
+			case EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY : return o.setYearAndMonthOfInspectionExpiry(property.edt);
+			case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return o.setDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION : return isValidElectricEnergyMeterClassification(property.edt);
-		case EPC_OWNER_CLASSIFICATION : return isValidOwnerClassification(property.edt);
-		case EPC_PHASES_AND_WIRES_SETTING_STATUS : return isValidPhasesAndWiresSettingStatus(property.edt);
-		case EPC_COMPOSITE_TRANSFORMATION_RATIO : return isValidCompositeTransformationRatio(property.edt);
-		case EPC_MULTIPLYING_FACTOR_FOR_COMPOSITE_TRANSFORMATION_RATIO : return isValidMultiplyingFactorForCompositeTransformationRatio(property.edt);
-		case EPC_METER_TYPE_CERTIFICATION_NUMBER : return isValidMeterTypeCertificationNumber(property.edt);
-		case EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY : return isValidYearAndMonthOfInspectionExpiry(property.edt);
-		case EPC_NUMBER_OF_EFFECTIVE_DIGITS_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY : return isValidNumberOfEffectiveDigitsForCumulativeAmountsOfElectricEnergy(property.edt);
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return isValidMeasuredCumulativeAmountOfElectricEnergyNormalDirection(property.edt);
-		case EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_AND_REVERSE_DIRECTIONS : return isValidUnitForCumulativeAmountsOfElectricEnergyNormalAndReverseDirections(property.edt);
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return isValidHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection(property.edt);
-		case EPC_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return isValidMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(property.edt);
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return isValidHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(property.edt);
-		case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return isValidDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_ELECTRIC_ENERGY : return isValidMeasuredInstantaneousElectricEnergy(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_CURRENTS : return isValidMeasuredInstantaneousCurrents(property.edt);
-		case EPC_MEASURED_INSTANTANEOUS_VOLTAGES : return isValidMeasuredInstantaneousVoltages(property.edt);
-		case EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_NORMAL_DIRECTION : return isValidCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeNormalDirection(property.edt);
-		case EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_REVERSE_DIRECTION : return isValidCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeReverseDirection(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			SmartElectricEnergyMeter o = (SmartElectricEnergyMeter)eoj;
+			switch(epc) {
+			case EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION : return o.getElectricEnergyMeterClassification();
+			case EPC_OWNER_CLASSIFICATION : return o.getOwnerClassification();
+			case EPC_PHASES_AND_WIRES_SETTING_STATUS : return o.getPhasesAndWiresSettingStatus();
+			case EPC_COMPOSITE_TRANSFORMATION_RATIO : return o.getCompositeTransformationRatio();
+			case EPC_MULTIPLYING_FACTOR_FOR_COMPOSITE_TRANSFORMATION_RATIO : return o.getMultiplyingFactorForCompositeTransformationRatio();
+			case EPC_METER_TYPE_CERTIFICATION_NUMBER : return o.getMeterTypeCertificationNumber();
+			case EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY : return o.getYearAndMonthOfInspectionExpiry();
+			case EPC_NUMBER_OF_EFFECTIVE_DIGITS_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY : return o.getNumberOfEffectiveDigitsForCumulativeAmountsOfElectricEnergy();
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return o.getMeasuredCumulativeAmountOfElectricEnergyNormalDirection();
+			case EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_AND_REVERSE_DIRECTIONS : return o.getUnitForCumulativeAmountsOfElectricEnergyNormalAndReverseDirections();
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return o.getHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection();
+			case EPC_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return o.getMeasuredCumulativeAmountsOfElectricEnergyReverseDirection();
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return o.getHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection();
+			case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return o.getDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved();
+			case EPC_MEASURED_INSTANTANEOUS_ELECTRIC_ENERGY : return o.getMeasuredInstantaneousElectricEnergy();
+			case EPC_MEASURED_INSTANTANEOUS_CURRENTS : return o.getMeasuredInstantaneousCurrents();
+			case EPC_MEASURED_INSTANTANEOUS_VOLTAGES : return o.getMeasuredInstantaneousVoltages();
+			case EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_NORMAL_DIRECTION : return o.getCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeNormalDirection();
+			case EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_REVERSE_DIRECTION : return o.getCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeReverseDirection();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			SmartElectricEnergyMeter o = (SmartElectricEnergyMeter)eoj;
+			switch(property.epc) {
+			case EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION : return o.isValidElectricEnergyMeterClassification(property.edt);
+			case EPC_OWNER_CLASSIFICATION : return o.isValidOwnerClassification(property.edt);
+			case EPC_PHASES_AND_WIRES_SETTING_STATUS : return o.isValidPhasesAndWiresSettingStatus(property.edt);
+			case EPC_COMPOSITE_TRANSFORMATION_RATIO : return o.isValidCompositeTransformationRatio(property.edt);
+			case EPC_MULTIPLYING_FACTOR_FOR_COMPOSITE_TRANSFORMATION_RATIO : return o.isValidMultiplyingFactorForCompositeTransformationRatio(property.edt);
+			case EPC_METER_TYPE_CERTIFICATION_NUMBER : return o.isValidMeterTypeCertificationNumber(property.edt);
+			case EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY : return o.isValidYearAndMonthOfInspectionExpiry(property.edt);
+			case EPC_NUMBER_OF_EFFECTIVE_DIGITS_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY : return o.isValidNumberOfEffectiveDigitsForCumulativeAmountsOfElectricEnergy(property.edt);
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return o.isValidMeasuredCumulativeAmountOfElectricEnergyNormalDirection(property.edt);
+			case EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_AND_REVERSE_DIRECTIONS : return o.isValidUnitForCumulativeAmountsOfElectricEnergyNormalAndReverseDirections(property.edt);
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : return o.isValidHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection(property.edt);
+			case EPC_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return o.isValidMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(property.edt);
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : return o.isValidHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(property.edt);
+			case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : return o.isValidDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_ELECTRIC_ENERGY : return o.isValidMeasuredInstantaneousElectricEnergy(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_CURRENTS : return o.isValidMeasuredInstantaneousCurrents(property.edt);
+			case EPC_MEASURED_INSTANTANEOUS_VOLTAGES : return o.isValidMeasuredInstantaneousVoltages(property.edt);
+			case EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_NORMAL_DIRECTION : return o.isValidCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeNormalDirection(property.edt);
+			case EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_REVERSE_DIRECTION : return o.isValidCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeReverseDirection(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION : 
-				onSetElectricEnergyMeterClassification(eoj, tid, esv, property, success);
+				r.onSetElectricEnergyMeterClassification(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OWNER_CLASSIFICATION : 
-				onSetOwnerClassification(eoj, tid, esv, property, success);
+				r.onSetOwnerClassification(eoj, tid, esv, property, success);
 				return true;
 			case EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY : 
-				onSetYearAndMonthOfInspectionExpiry(eoj, tid, esv, property, success);
+				r.onSetYearAndMonthOfInspectionExpiry(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : 
-				onSetDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(eoj, tid, esv, property, success);
+				r.onSetDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1448,73 +1406,121 @@ unsigned long<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION : 
-				onGetElectricEnergyMeterClassification(eoj, tid, esv, property, success);
+				r.onGetElectricEnergyMeterClassification(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OWNER_CLASSIFICATION : 
-				onGetOwnerClassification(eoj, tid, esv, property, success);
+				r.onGetOwnerClassification(eoj, tid, esv, property, success);
 				return true;
 			case EPC_PHASES_AND_WIRES_SETTING_STATUS : 
-				onGetPhasesAndWiresSettingStatus(eoj, tid, esv, property, success);
+				r.onGetPhasesAndWiresSettingStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_COMPOSITE_TRANSFORMATION_RATIO : 
-				onGetCompositeTransformationRatio(eoj, tid, esv, property, success);
+				r.onGetCompositeTransformationRatio(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MULTIPLYING_FACTOR_FOR_COMPOSITE_TRANSFORMATION_RATIO : 
-				onGetMultiplyingFactorForCompositeTransformationRatio(eoj, tid, esv, property, success);
+				r.onGetMultiplyingFactorForCompositeTransformationRatio(eoj, tid, esv, property, success);
 				return true;
 			case EPC_METER_TYPE_CERTIFICATION_NUMBER : 
-				onGetMeterTypeCertificationNumber(eoj, tid, esv, property, success);
+				r.onGetMeterTypeCertificationNumber(eoj, tid, esv, property, success);
 				return true;
 			case EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY : 
-				onGetYearAndMonthOfInspectionExpiry(eoj, tid, esv, property, success);
+				r.onGetYearAndMonthOfInspectionExpiry(eoj, tid, esv, property, success);
 				return true;
 			case EPC_NUMBER_OF_EFFECTIVE_DIGITS_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY : 
-				onGetNumberOfEffectiveDigitsForCumulativeAmountsOfElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetNumberOfEffectiveDigitsForCumulativeAmountsOfElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : 
-				onGetMeasuredCumulativeAmountOfElectricEnergyNormalDirection(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeAmountOfElectricEnergyNormalDirection(eoj, tid, esv, property, success);
 				return true;
 			case EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_AND_REVERSE_DIRECTIONS : 
-				onGetUnitForCumulativeAmountsOfElectricEnergyNormalAndReverseDirections(eoj, tid, esv, property, success);
+				r.onGetUnitForCumulativeAmountsOfElectricEnergyNormalAndReverseDirections(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION : 
-				onGetHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection(eoj, tid, esv, property, success);
+				r.onGetHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyNormalDirection(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : 
-				onGetMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION : 
-				onGetHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(eoj, tid, esv, property, success);
+				r.onGetHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyReverseDirection(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED : 
-				onGetDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(eoj, tid, esv, property, success);
+				r.onGetDayForWhichTheHistoricalDataOfMeasuredCumulativeAmountsOfElectricEnergyIsToBeRetrieved(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_ELECTRIC_ENERGY : 
-				onGetMeasuredInstantaneousElectricEnergy(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousElectricEnergy(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_CURRENTS : 
-				onGetMeasuredInstantaneousCurrents(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousCurrents(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_INSTANTANEOUS_VOLTAGES : 
-				onGetMeasuredInstantaneousVoltages(eoj, tid, esv, property, success);
+				r.onGetMeasuredInstantaneousVoltages(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_NORMAL_DIRECTION : 
-				onGetCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeNormalDirection(eoj, tid, esv, property, success);
+				r.onGetCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeNormalDirection(eoj, tid, esv, property, success);
 				return true;
 			case EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_REVERSE_DIRECTION : 
-				onGetCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeReverseDirection(eoj, tid, esv, property, success);
+				r.onGetCumulativeAmountsOfElectricEnergyMeasuredAtFixedTimeReverseDirection(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(SmartElectricEnergyMeter.class, sPropertyHandler
+				, new byte[] {EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION, EPC_OWNER_CLASSIFICATION, EPC_PHASES_AND_WIRES_SETTING_STATUS, EPC_COMPOSITE_TRANSFORMATION_RATIO, EPC_MULTIPLYING_FACTOR_FOR_COMPOSITE_TRANSFORMATION_RATIO, EPC_METER_TYPE_CERTIFICATION_NUMBER, EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY, EPC_NUMBER_OF_EFFECTIVE_DIGITS_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_AND_REVERSE_DIRECTIONS, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED, EPC_MEASURED_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CURRENTS, EPC_MEASURED_INSTANTANEOUS_VOLTAGES, EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_NORMAL_DIRECTION, EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_REVERSE_DIRECTION}
+				, new byte[] {EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION, EPC_OWNER_CLASSIFICATION, EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY, EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED}
+				, new byte[] {EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION, EPC_OWNER_CLASSIFICATION, EPC_PHASES_AND_WIRES_SETTING_STATUS, EPC_COMPOSITE_TRANSFORMATION_RATIO, EPC_MULTIPLYING_FACTOR_FOR_COMPOSITE_TRANSFORMATION_RATIO, EPC_METER_TYPE_CERTIFICATION_NUMBER, EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY, EPC_NUMBER_OF_EFFECTIVE_DIGITS_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_AND_REVERSE_DIRECTIONS, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED, EPC_MEASURED_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CURRENTS, EPC_MEASURED_INSTANTANEOUS_VOLTAGES, EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_NORMAL_DIRECTION, EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_REVERSE_DIRECTION});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION, EPC_OWNER_CLASSIFICATION, EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY, EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED}
+					, new byte[] {EPC_ELECTRIC_ENERGY_METER_CLASSIFICATION, EPC_OWNER_CLASSIFICATION, EPC_PHASES_AND_WIRES_SETTING_STATUS, EPC_COMPOSITE_TRANSFORMATION_RATIO, EPC_MULTIPLYING_FACTOR_FOR_COMPOSITE_TRANSFORMATION_RATIO, EPC_METER_TYPE_CERTIFICATION_NUMBER, EPC_YEAR_AND_MONTH_OF_INSPECTION_EXPIRY, EPC_NUMBER_OF_EFFECTIVE_DIGITS_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_UNIT_FOR_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_AND_REVERSE_DIRECTIONS, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_NORMAL_DIRECTION, EPC_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_REVERSE_DIRECTION, EPC_DAY_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_IS_TO_BE_RETRIEVED, EPC_MEASURED_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_MEASURED_INSTANTANEOUS_CURRENTS, EPC_MEASURED_INSTANTANEOUS_VOLTAGES, EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_NORMAL_DIRECTION, EPC_CUMULATIVE_AMOUNTS_OF_ELECTRIC_ENERGY_MEASURED_AT_FIXED_TIME_REVERSE_DIRECTION}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Electric energy meter classification<br>
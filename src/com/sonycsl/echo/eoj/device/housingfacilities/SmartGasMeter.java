@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -1152,131 +1153,88 @@ short<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_GAS_METER_CLASSIFICATION_SETTING : return setGasMeterClassificationSetting(property.edt);
-		case EPC_OWNER_CLASSIFICATION_SETTING : return setOwnerClassificationSetting(property.edt);
-		case EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED : return setDaySettingForWhichTheHistoricalDataOfMeasuredCumulativeGasConsumptionIsToBeRetrieved(property.edt);
-		case EPC_ID_NUMBER_SETTING : return setIdNumberSetting(property.edt);
-		case EPC_VERIFICATION_EXPIRATION_SETTING : return setVerificationExpirationSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_GAS_METER_CLASSIFICATION_SETTING : return getGasMeterClassificationSetting();
-		case EPC_OWNER_CLASSIFICATION_SETTING : return getOwnerClassificationSetting();
-		case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return getMeasuredCumulativeGasConsumption();
-		case EPC_UNIT_FOR_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return getUnitForMeasuredCumulativeGasConsumption();
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return getHistoricalDataOfMeasuredCumulativeGasConsumption();
-		case EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED : return getDaySettingForWhichTheHistoricalDataOfMeasuredCumulativeGasConsumptionIsToBeRetrieved();
-		case EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA : return getDetectionOfAbnormalValueInMeteringData();
-		case EPC_SECURITY_DATA_INFORMATION : return getSecurityDataInformation();
-		case EPC_VALVE_CLOSURE_BY_THE_CENTER : return getValveClosureByTheCenter();
-		case EPC_PERMISSION_FROM_THE_CENTER_TO_REOPEN_THE_VALVE_CLOSED_BY_THE_CENTER : return getPermissionFromTheCenterToReopenTheValveClosedByTheCenter();
-		case EPC_EMERGENCY_CLOSURE_OF_SHUTOFF_VALVE : return getEmergencyClosureOfShutoffValve();
-		case EPC_SHUTOFF_VALVE_STATUS : return getShutoffValveStatus();
-		case EPC_HISTORICAL_DATA_OF_SHUTOFF_REASONS : return getHistoricalDataOfShutoffReasons();
-		case EPC_ID_NUMBER_SETTING : return getIdNumberSetting();
-		case EPC_VERIFICATION_EXPIRATION_SETTING : return getVerificationExpirationSetting();
-		case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION_INFORMATION_WITH_DATE_AND_TIME : return getMeasuredCumulativeGasConsumptionInformationWithDateAndTime();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			SmartGasMeter o = (SmartGasMeter)eoj;
+			switch(property.epc) {
+			case EPC_GAS_METER_CLASSIFICATION_SETTING : return o.setGasMeterClassificationSetting(property.edt);
+			case EPC_OWNER_CLASSIFICATION_SETTING : return o.setOwnerClassificationSetting(property.edt);
+			case EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED : return o.setDaySettingForWhichTheHistoricalDataOfMeasuredCumulativeGasConsumptionIsToBeRetrieved(property.edt);
+			case EPC_ID_NUMBER_SETTING : return o.setIdNumberSetting(property.edt);
+			case EPC_VERIFICATION_EXPIRATION_SETTING : return o.setVerificationExpirationSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_GAS_METER_CLASSIFICATION_SETTING : return isValidGasMeterClassificationSetting(property.edt);
-		case EPC_OWNER_CLASSIFICATION_SETTING : return isValidOwnerClassificationSetting(property.edt);
-		case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return isValidMeasuredCumulativeGasConsumption(property.edt);
-		case EPC_UNIT_FOR_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return isValidUnitForMeasuredCumulativeGasConsumption(property.edt);
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return isValidHistoricalDataOfMeasuredCumulativeGasConsumption(property.edt);
-		case EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED : return isValidDaySettingForWhichTheHistoricalDataOfMeasuredCumulativeGasConsumptionIsToBeRetrieved(property.edt);
-		case EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA : return isValidDetectionOfAbnormalValueInMeteringData(property.edt);
-		case EPC_SECURITY_DATA_INFORMATION : return isValidSecurityDataInformation(property.edt);
-		case EPC_VALVE_CLOSURE_BY_THE_CENTER : return isValidValveClosureByTheCenter(property.edt);
-		case EPC_PERMISSION_FROM_THE_CENTER_TO_REOPEN_THE_VALVE_CLOSED_BY_THE_CENTER : return isValidPermissionFromTheCenterToReopenTheValveClosedByTheCenter(property.edt);
-		case EPC_EMERGENCY_CLOSURE_OF_SHUTOFF_VALVE : return isValidEmergencyClosureOfShutoffValve(property.edt);
-		case EPC_SHUTOFF_VALVE_STATUS : return isValidShutoffValveStatus(property.edt);
-		case EPC_HISTORICAL_DATA_OF_SHUTOFF_REASONS : return isValidHistoricalDataOfShutoffReasons(property.edt);
-		case EPC_ID_NUMBER_SETTING : return isValidIdNumberSetting(property.edt);
-		case EPC_VERIFICATION_EXPIRATION_SETTING : return isValidVerificationExpirationSetting(property.edt);
-		case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION_INFORMATION_WITH_DATE_AND_TIME : return isValidMeasuredCumulativeGasConsumptionInformationWithDateAndTime(property.edt);
-		case EPC_HISTORICAL_INFORMATION_OF_CUMULATIVE_GAS_CONSUMPTION : return isValidHistoricalInformationOfCumulativeGasConsumption(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			SmartGasMeter o = (SmartGasMeter)eoj;
+			switch(epc) {
+			case EPC_GAS_METER_CLASSIFICATION_SETTING : return o.getGasMeterClassificationSetting();
+			case EPC_OWNER_CLASSIFICATION_SETTING : return o.getOwnerClassificationSetting();
+			case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return o.getMeasuredCumulativeGasConsumption();
+			case EPC_UNIT_FOR_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return o.getUnitForMeasuredCumulativeGasConsumption();
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return o.getHistoricalDataOfMeasuredCumulativeGasConsumption();
+			case EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED : return o.getDaySettingForWhichTheHistoricalDataOfMeasuredCumulativeGasConsumptionIsToBeRetrieved();
+			case EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA : return o.getDetectionOfAbnormalValueInMeteringData();
+			case EPC_SECURITY_DATA_INFORMATION : return o.getSecurityDataInformation();
+			case EPC_VALVE_CLOSURE_BY_THE_CENTER : return o.getValveClosureByTheCenter();
+			case EPC_PERMISSION_FROM_THE_CENTER_TO_REOPEN_THE_VALVE_CLOSED_BY_THE_CENTER : return o.getPermissionFromTheCenterToReopenTheValveClosedByTheCenter();
+			case EPC_EMERGENCY_CLOSURE_OF_SHUTOFF_VALVE : return o.getEmergencyClosureOfShutoffValve();
+			case EPC_SHUTOFF_VALVE_STATUS : return o.getShutoffValveStatus();
+			case EPC_HISTORICAL_DATA_OF_SHUTOFF_REASONS : return o.getHistoricalDataOfShutoffReasons();
+			case EPC_ID_NUMBER_SETTING : return o.getIdNumberSetting();
+			case EPC_VERIFICATION_EXPIRATION_SETTING : return o.getVerificationExpirationSetting();
+			case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION_INFORMATION_WITH_DATE_AND_TIME : return o.getMeasuredCumulativeGasConsumptionInformationWithDateAndTime();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			SmartGasMeter o = (SmartGasMeter)eoj;
+			switch(property.epc) {
+			case EPC_GAS_METER_CLASSIFICATION_SETTING : return o.isValidGasMeterClassificationSetting(property.edt);
+			case EPC_OWNER_CLASSIFICATION_SETTING : return o.isValidOwnerClassificationSetting(property.edt);
+			case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return o.isValidMeasuredCumulativeGasConsumption(property.edt);
+			case EPC_UNIT_FOR_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return o.isValidUnitForMeasuredCumulativeGasConsumption(property.edt);
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION : return o.isValidHistoricalDataOfMeasuredCumulativeGasConsumption(property.edt);
+			case EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED : return o.isValidDaySettingForWhichTheHistoricalDataOfMeasuredCumulativeGasConsumptionIsToBeRetrieved(property.edt);
+			case EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA : return o.isValidDetectionOfAbnormalValueInMeteringData(property.edt);
+			case EPC_SECURITY_DATA_INFORMATION : return o.isValidSecurityDataInformation(property.edt);
+			case EPC_VALVE_CLOSURE_BY_THE_CENTER : return o.isValidValveClosureByTheCenter(property.edt);
+			case EPC_PERMISSION_FROM_THE_CENTER_TO_REOPEN_THE_VALVE_CLOSED_BY_THE_CENTER : return o.isValidPermissionFromTheCenterToReopenTheValveClosedByTheCenter(property.edt);
+			case EPC_EMERGENCY_CLOSURE_OF_SHUTOFF_VALVE : return o.isValidEmergencyClosureOfShutoffValve(property.edt);
+			case EPC_SHUTOFF_VALVE_STATUS : return o.isValidShutoffValveStatus(property.edt);
+			case EPC_HISTORICAL_DATA_OF_SHUTOFF_REASONS : return o.isValidHistoricalDataOfShutoffReasons(property.edt);
+			case EPC_ID_NUMBER_SETTING : return o.isValidIdNumberSetting(property.edt);
+			case EPC_VERIFICATION_EXPIRATION_SETTING : return o.isValidVerificationExpirationSetting(property.edt);
+			case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION_INFORMATION_WITH_DATE_AND_TIME : return o.isValidMeasuredCumulativeGasConsumptionInformationWithDateAndTime(property.edt);
+			case EPC_HISTORICAL_INFORMATION_OF_CUMULATIVE_GAS_CONSUMPTION : return o.isValidHistoricalInformationOfCumulativeGasConsumption(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_GAS_METER_CLASSIFICATION_SETTING : 
-				onSetGasMeterClassificationSetting(eoj, tid, esv, property, success);
+				r.onSetGasMeterClassificationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OWNER_CLASSIFICATION_SETTING : 
-				onSetOwnerClassificationSetting(eoj, tid, esv, property, success);
+				r.onSetOwnerClassificationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED : 
-				onSetDaySettingForWhichTheHistoricalDataOfMeasuredCumulativeGasConsumptionIsToBeRetrieved(eoj, tid, esv, property, success);
+				r.onSetDaySettingForWhichTheHistoricalDataOfMeasuredCumulativeGasConsumptionIsToBeRetrieved(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ID_NUMBER_SETTING : 
-				onSetIdNumberSetting(eoj, tid, esv, property, success);
+				r.onSetIdNumberSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VERIFICATION_EXPIRATION_SETTING : 
-				onSetVerificationExpirationSetting(eoj, tid, esv, property, success);
+				r.onSetVerificationExpirationSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -1284,64 +1242,112 @@ short<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_GAS_METER_CLASSIFICATION_SETTING : 
-				onGetGasMeterClassificationSetting(eoj, tid, esv, property, success);
+				r.onGetGasMeterClassificationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OWNER_CLASSIFICATION_SETTING : 
-				onGetOwnerClassificationSetting(eoj, tid, esv, property, success);
+				r.onGetOwnerClassificationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION : 
-				onGetMeasuredCumulativeGasConsumption(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeGasConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_UNIT_FOR_MEASURED_CUMULATIVE_GAS_CONSUMPTION : 
-				onGetUnitForMeasuredCumulativeGasConsumption(eoj, tid, esv, property, success);
+				r.onGetUnitForMeasuredCumulativeGasConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION : 
-				onGetHistoricalDataOfMeasuredCumulativeGasConsumption(eoj, tid, esv, property, success);
+				r.onGetHistoricalDataOfMeasuredCumulativeGasConsumption(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED : 
-				onGetDaySettingForWhichTheHistoricalDataOfMeasuredCumulativeGasConsumptionIsToBeRetrieved(eoj, tid, esv, property, success);
+				r.onGetDaySettingForWhichTheHistoricalDataOfMeasuredCumulativeGasConsumptionIsToBeRetrieved(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA : 
-				onGetDetectionOfAbnormalValueInMeteringData(eoj, tid, esv, property, success);
+				r.onGetDetectionOfAbnormalValueInMeteringData(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SECURITY_DATA_INFORMATION : 
-				onGetSecurityDataInformation(eoj, tid, esv, property, success);
+				r.onGetSecurityDataInformation(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VALVE_CLOSURE_BY_THE_CENTER : 
-				onGetValveClosureByTheCenter(eoj, tid, esv, property, success);
+				r.onGetValveClosureByTheCenter(eoj, tid, esv, property, success);
 				return true;
 			case EPC_PERMISSION_FROM_THE_CENTER_TO_REOPEN_THE_VALVE_CLOSED_BY_THE_CENTER : 
-				onGetPermissionFromTheCenterToReopenTheValveClosedByTheCenter(eoj, tid, esv, property, success);
+				r.onGetPermissionFromTheCenterToReopenTheValveClosedByTheCenter(eoj, tid, esv, property, success);
 				return true;
 			case EPC_EMERGENCY_CLOSURE_OF_SHUTOFF_VALVE : 
-				onGetEmergencyClosureOfShutoffValve(eoj, tid, esv, property, success);
+				r.onGetEmergencyClosureOfShutoffValve(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SHUTOFF_VALVE_STATUS : 
-				onGetShutoffValveStatus(eoj, tid, esv, property, success);
+				r.onGetShutoffValveStatus(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HISTORICAL_DATA_OF_SHUTOFF_REASONS : 
-				onGetHistoricalDataOfShutoffReasons(eoj, tid, esv, property, success);
+				r.onGetHistoricalDataOfShutoffReasons(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ID_NUMBER_SETTING : 
-				onGetIdNumberSetting(eoj, tid, esv, property, success);
+				r.onGetIdNumberSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VERIFICATION_EXPIRATION_SETTING : 
-				onGetVerificationExpirationSetting(eoj, tid, esv, property, success);
+				r.onGetVerificationExpirationSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION_INFORMATION_WITH_DATE_AND_TIME : 
-				onGetMeasuredCumulativeGasConsumptionInformationWithDateAndTime(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeGasConsumptionInformationWithDateAndTime(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(SmartGasMeter.class, sPropertyHandler
+				, new byte[] {EPC_GAS_METER_CLASSIFICATION_SETTING, EPC_OWNER_CLASSIFICATION_SETTING, EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_UNIT_FOR_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED, EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA, EPC_SECURITY_DATA_INFORMATION, EPC_VALVE_CLOSURE_BY_THE_CENTER, EPC_PERMISSION_FROM_THE_CENTER_TO_REOPEN_THE_VALVE_CLOSED_BY_THE_CENTER, EPC_EMERGENCY_CLOSURE_OF_SHUTOFF_VALVE, EPC_SHUTOFF_VALVE_STATUS, EPC_HISTORICAL_DATA_OF_SHUTOFF_REASONS, EPC_ID_NUMBER_SETTING, EPC_VERIFICATION_EXPIRATION_SETTING, EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION_INFORMATION_WITH_DATE_AND_TIME}
+				, new byte[] {EPC_GAS_METER_CLASSIFICATION_SETTING, EPC_OWNER_CLASSIFICATION_SETTING, EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED, EPC_ID_NUMBER_SETTING, EPC_VERIFICATION_EXPIRATION_SETTING}
+				, new byte[] {EPC_GAS_METER_CLASSIFICATION_SETTING, EPC_OWNER_CLASSIFICATION_SETTING, EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_UNIT_FOR_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED, EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA, EPC_SECURITY_DATA_INFORMATION, EPC_VALVE_CLOSURE_BY_THE_CENTER, EPC_PERMISSION_FROM_THE_CENTER_TO_REOPEN_THE_VALVE_CLOSED_BY_THE_CENTER, EPC_EMERGENCY_CLOSURE_OF_SHUTOFF_VALVE, EPC_SHUTOFF_VALVE_STATUS, EPC_HISTORICAL_DATA_OF_SHUTOFF_REASONS, EPC_ID_NUMBER_SETTING, EPC_VERIFICATION_EXPIRATION_SETTING, EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION_INFORMATION_WITH_DATE_AND_TIME, EPC_HISTORICAL_INFORMATION_OF_CUMULATIVE_GAS_CONSUMPTION});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_GAS_METER_CLASSIFICATION_SETTING, EPC_OWNER_CLASSIFICATION_SETTING, EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED, EPC_ID_NUMBER_SETTING, EPC_VERIFICATION_EXPIRATION_SETTING}
+					, new byte[] {EPC_GAS_METER_CLASSIFICATION_SETTING, EPC_OWNER_CLASSIFICATION_SETTING, EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_UNIT_FOR_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION, EPC_DAY_SETTING_FOR_WHICH_THE_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_GAS_CONSUMPTION_IS_TO_BE_RETRIEVED, EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA, EPC_SECURITY_DATA_INFORMATION, EPC_VALVE_CLOSURE_BY_THE_CENTER, EPC_PERMISSION_FROM_THE_CENTER_TO_REOPEN_THE_VALVE_CLOSED_BY_THE_CENTER, EPC_EMERGENCY_CLOSURE_OF_SHUTOFF_VALVE, EPC_SHUTOFF_VALVE_STATUS, EPC_HISTORICAL_DATA_OF_SHUTOFF_REASONS, EPC_ID_NUMBER_SETTING, EPC_VERIFICATION_EXPIRATION_SETTING, EPC_MEASURED_CUMULATIVE_GAS_CONSUMPTION_INFORMATION_WITH_DATE_AND_TIME}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Gas meter classification setting<br>
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -553,114 +554,71 @@ byte<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING : return setSprinkleValveOpenCloseSetting(property.edt);
-		case EPC_SPRINKLE_INTERVAL_SETTING : return setSprinkleIntervalSetting(property.edt);
-		case EPC_NUMBER_OF_SPRINKLES_SETTING : return setNumberOfSprinklesSetting(property.edt);
-		case EPC_SPRINKLE_TIME_SETTING1 : return setSprinkleTimeSetting1(property.edt);
-		case EPC_SPRINKLE_TIME_SETTING2 : return setSprinkleTimeSetting2(property.edt);
-		case EPC_SPRINKLE_DURATION_SETTING : return setSprinkleDurationSetting(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING : return getSprinkleValveOpenCloseSetting();
-		case EPC_SPRINKLE_INTERVAL_SETTING : return getSprinkleIntervalSetting();
-		case EPC_NUMBER_OF_SPRINKLES_SETTING : return getNumberOfSprinklesSetting();
-		case EPC_SPRINKLE_TIME_SETTING1 : return getSprinkleTimeSetting1();
-		case EPC_SPRINKLE_TIME_SETTING2 : return getSprinkleTimeSetting2();
-		case EPC_SPRINKLE_DURATION_SETTING : return getSprinkleDurationSetting();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			Sprinkler o = (Sprinkler)eoj;
+			switch(property.epc) {
+			case EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING : return o.setSprinkleValveOpenCloseSetting(property.edt);
+			case EPC_SPRINKLE_INTERVAL_SETTING : return o.setSprinkleIntervalSetting(property.edt);
+			case EPC_NUMBER_OF_SPRINKLES_SETTING : return o.setNumberOfSprinklesSetting(property.edt);
+			case EPC_SPRINKLE_TIME_SETTING1 : return o.setSprinkleTimeSetting1(property.edt);
+			case EPC_SPRINKLE_TIME_SETTING2 : return o.setSprinkleTimeSetting2(property.edt);
+			case EPC_SPRINKLE_DURATION_SETTING : return o.setSprinkleDurationSetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING : return isValidSprinkleValveOpenCloseSetting(property.edt);
-		case EPC_SPRINKLE_INTERVAL_SETTING : return isValidSprinkleIntervalSetting(property.edt);
-		case EPC_NUMBER_OF_SPRINKLES_SETTING : return isValidNumberOfSprinklesSetting(property.edt);
-		case EPC_SPRINKLE_TIME_SETTING1 : return isValidSprinkleTimeSetting1(property.edt);
-		case EPC_SPRINKLE_TIME_SETTING2 : return isValidSprinkleTimeSetting2(property.edt);
-		case EPC_SPRINKLE_DURATION_SETTING : return isValidSprinkleDurationSetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			Sprinkler o = (Sprinkler)eoj;
+			switch(epc) {
+			case EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING : return o.getSprinkleValveOpenCloseSetting();
+			case EPC_SPRINKLE_INTERVAL_SETTING : return o.getSprinkleIntervalSetting();
+			case EPC_NUMBER_OF_SPRINKLES_SETTING : return o.getNumberOfSprinklesSetting();
+			case EPC_SPRINKLE_TIME_SETTING1 : return o.getSprinkleTimeSetting1();
+			case EPC_SPRINKLE_TIME_SETTING2 : return o.getSprinkleTimeSetting2();
+			case EPC_SPRINKLE_DURATION_SETTING : return o.getSprinkleDurationSetting();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			Sprinkler o = (Sprinkler)eoj;
+			switch(property.epc) {
+			case EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING : return o.isValidSprinkleValveOpenCloseSetting(property.edt);
+			case EPC_SPRINKLE_INTERVAL_SETTING : return o.isValidSprinkleIntervalSetting(property.edt);
+			case EPC_NUMBER_OF_SPRINKLES_SETTING : return o.isValidNumberOfSprinklesSetting(property.edt);
+			case EPC_SPRINKLE_TIME_SETTING1 : return o.isValidSprinkleTimeSetting1(property.edt);
+			case EPC_SPRINKLE_TIME_SETTING2 : return o.isValidSprinkleTimeSetting2(property.edt);
+			case EPC_SPRINKLE_DURATION_SETTING : return o.isValidSprinkleDurationSetting(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING : 
-				onSetSprinkleValveOpenCloseSetting(eoj, tid, esv, property, success);
+				r.onSetSprinkleValveOpenCloseSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPRINKLE_INTERVAL_SETTING : 
-				onSetSprinkleIntervalSetting(eoj, tid, esv, property, success);
+				r.onSetSprinkleIntervalSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_NUMBER_OF_SPRINKLES_SETTING : 
-				onSetNumberOfSprinklesSetting(eoj, tid, esv, property, success);
+				r.onSetNumberOfSprinklesSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPRINKLE_TIME_SETTING1 : 
-				onSetSprinkleTimeSetting1(eoj, tid, esv, property, success);
+				r.onSetSprinkleTimeSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPRINKLE_TIME_SETTING2 : 
-				onSetSprinkleTimeSetting2(eoj, tid, esv, property, success);
+				r.onSetSprinkleTimeSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPRINKLE_DURATION_SETTING : 
-				onSetSprinkleDurationSetting(eoj, tid, esv, property, success);
+				r.onSetSprinkleDurationSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -668,34 +626,82 @@ byte<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING : 
-				onGetSprinkleValveOpenCloseSetting(eoj, tid, esv, property, success);
+				r.onGetSprinkleValveOpenCloseSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPRINKLE_INTERVAL_SETTING : 
-				onGetSprinkleIntervalSetting(eoj, tid, esv, property, success);
+				r.onGetSprinkleIntervalSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_NUMBER_OF_SPRINKLES_SETTING : 
-				onGetNumberOfSprinklesSetting(eoj, tid, esv, property, success);
+				r.onGetNumberOfSprinklesSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPRINKLE_TIME_SETTING1 : 
-				onGetSprinkleTimeSetting1(eoj, tid, esv, property, success);
+				r.onGetSprinkleTimeSetting1(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPRINKLE_TIME_SETTING2 : 
-				onGetSprinkleTimeSetting2(eoj, tid, esv, property, success);
+				r.onGetSprinkleTimeSetting2(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SPRINKLE_DURATION_SETTING : 
-				onGetSprinkleDurationSetting(eoj, tid, esv, property, success);
+				r.onGetSprinkleDurationSetting(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(Sprinkler.class, sPropertyHandler
+				, new byte[] {EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING, EPC_SPRINKLE_INTERVAL_SETTING, EPC_NUMBER_OF_SPRINKLES_SETTING, EPC_SPRINKLE_TIME_SETTING1, EPC_SPRINKLE_TIME_SETTING2, EPC_SPRINKLE_DURATION_SETTING}
+				, new byte[] {EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING, EPC_SPRINKLE_INTERVAL_SETTING, EPC_NUMBER_OF_SPRINKLES_SETTING, EPC_SPRINKLE_TIME_SETTING1, EPC_SPRINKLE_TIME_SETTING2, EPC_SPRINKLE_DURATION_SETTING}
+				, new byte[] {EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING, EPC_SPRINKLE_INTERVAL_SETTING, EPC_NUMBER_OF_SPRINKLES_SETTING, EPC_SPRINKLE_TIME_SETTING1, EPC_SPRINKLE_TIME_SETTING2, EPC_SPRINKLE_DURATION_SETTING});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING, EPC_SPRINKLE_INTERVAL_SETTING, EPC_NUMBER_OF_SPRINKLES_SETTING, EPC_SPRINKLE_TIME_SETTING1, EPC_SPRINKLE_TIME_SETTING2, EPC_SPRINKLE_DURATION_SETTING}
+					, new byte[] {EPC_SPRINKLE_VALVE_OPEN_CLOSE_SETTING, EPC_SPRINKLE_INTERVAL_SETTING, EPC_NUMBER_OF_SPRINKLES_SETTING, EPC_SPRINKLE_TIME_SETTING1, EPC_SPRINKLE_TIME_SETTING2, EPC_SPRINKLE_DURATION_SETTING}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Sprinkle valve open/close setting<br>
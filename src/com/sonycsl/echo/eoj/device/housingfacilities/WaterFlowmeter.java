@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -675,112 +676,69 @@ bytes<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		case EPC_FLOWING_WATER_CLASSIFICATION : return setFlowingWaterClassification(property.edt);
-		case EPC_OWNER_CLASSIFICATION : return setOwnerClassification(property.edt);
-		case EPC_ID_NUMBER_SETTING : return setIdNumberSetting(property.edt);
-		case EPC_VERIFICATION_EXPIRATION_INFORMATION : return setVerificationExpirationInformation(property.edt);
-		default : return false;
-		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_FLOWING_WATER_CLASSIFICATION : return getFlowingWaterClassification();
-		case EPC_OWNER_CLASSIFICATION : return getOwnerClassification();
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_FLOWING_WATER : return getMeasuredCumulativeAmountOfFlowingWater();
-		case EPC_UNIT_FOR_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER : return getUnitForMeasuredCumulativeAmountsOfFlowingWater();
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER : return getHistoricalDataOfMeasuredCumulativeAmountsOfFlowingWater();
-		case EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA : return getDetectionOfAbnormalValueInMeteringData();
-		case EPC_SECURITY_DATA_INFORMATION : return getSecurityDataInformation();
-		case EPC_ID_NUMBER_SETTING : return getIdNumberSetting();
-		case EPC_VERIFICATION_EXPIRATION_INFORMATION : return getVerificationExpirationInformation();
-		default : return null;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			WaterFlowmeter o = (WaterFlowmeter)eoj;
+			switch(property.epc) {
+			case EPC_FLOWING_WATER_CLASSIFICATION : return o.setFlowingWaterClassification(property.edt);
+			case EPC_OWNER_CLASSIFICATION : return o.setOwnerClassification(property.edt);
+			case EPC_ID_NUMBER_SETTING : return o.setIdNumberSetting(property.edt);
+			case EPC_VERIFICATION_EXPIRATION_INFORMATION : return o.setVerificationExpirationInformation(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_FLOWING_WATER_CLASSIFICATION : return isValidFlowingWaterClassification(property.edt);
-		case EPC_OWNER_CLASSIFICATION : return isValidOwnerClassification(property.edt);
-		case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_FLOWING_WATER : return isValidMeasuredCumulativeAmountOfFlowingWater(property.edt);
-		case EPC_UNIT_FOR_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER : return isValidUnitForMeasuredCumulativeAmountsOfFlowingWater(property.edt);
-		case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER : return isValidHistoricalDataOfMeasuredCumulativeAmountsOfFlowingWater(property.edt);
-		case EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA : return isValidDetectionOfAbnormalValueInMeteringData(property.edt);
-		case EPC_SECURITY_DATA_INFORMATION : return isValidSecurityDataInformation(property.edt);
-		case EPC_ID_NUMBER_SETTING : return isValidIdNumberSetting(property.edt);
-		case EPC_VERIFICATION_EXPIRATION_INFORMATION : return isValidVerificationExpirationInformation(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			WaterFlowmeter o = (WaterFlowmeter)eoj;
+			switch(epc) {
+			case EPC_FLOWING_WATER_CLASSIFICATION : return o.getFlowingWaterClassification();
+			case EPC_OWNER_CLASSIFICATION : return o.getOwnerClassification();
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_FLOWING_WATER : return o.getMeasuredCumulativeAmountOfFlowingWater();
+			case EPC_UNIT_FOR_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER : return o.getUnitForMeasuredCumulativeAmountsOfFlowingWater();
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER : return o.getHistoricalDataOfMeasuredCumulativeAmountsOfFlowingWater();
+			case EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA : return o.getDetectionOfAbnormalValueInMeteringData();
+			case EPC_SECURITY_DATA_INFORMATION : return o.getSecurityDataInformation();
+			case EPC_ID_NUMBER_SETTING : return o.getIdNumberSetting();
+			case EPC_VERIFICATION_EXPIRATION_INFORMATION : return o.getVerificationExpirationInformation();
+			default : return null;
+			}
 		}
-	}
-
-	@Override
-	public Setter set() {
-		return set(true);
-	}
-
-	@Override
-	public Setter set(boolean responseRequired) {
-		return new Setter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr(), responseRequired);
-	}
-
-	@Override
-	public Getter get() {
-		return new Getter(getEchoClassCode(), getInstanceCode()
-				, getNode().getAddressStr());
-	}
 
-	@Override
-	public Informer inform() {
-		return inform(isSelfObject());
-	}
-
-	@Override
-	protected Informer inform(boolean multicast) {
-		String address;
-		if(multicast) {
-			address = EchoSocket.MULTICAST_ADDRESS;
-		} else {
-			address = getNode().getAddressStr();
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			WaterFlowmeter o = (WaterFlowmeter)eoj;
+			switch(property.epc) {
+			case EPC_FLOWING_WATER_CLASSIFICATION : return o.isValidFlowingWaterClassification(property.edt);
+			case EPC_OWNER_CLASSIFICATION : return o.isValidOwnerClassification(property.edt);
+			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_FLOWING_WATER : return o.isValidMeasuredCumulativeAmountOfFlowingWater(property.edt);
+			case EPC_UNIT_FOR_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER : return o.isValidUnitForMeasuredCumulativeAmountsOfFlowingWater(property.edt);
+			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER : return o.isValidHistoricalDataOfMeasuredCumulativeAmountsOfFlowingWater(property.edt);
+			case EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA : return o.isValidDetectionOfAbnormalValueInMeteringData(property.edt);
+			case EPC_SECURITY_DATA_INFORMATION : return o.isValidSecurityDataInformation(property.edt);
+			case EPC_ID_NUMBER_SETTING : return o.isValidIdNumberSetting(property.edt);
+			case EPC_VERIFICATION_EXPIRATION_INFORMATION : return o.isValidVerificationExpirationInformation(property.edt);
+			default : return false;
+			}
 		}
-		return new Informer(getEchoClassCode(), getInstanceCode()
-				, address, isSelfObject());
-	}
-	
-	public static class Receiver extends DeviceObject.Receiver {
 
 		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_FLOWING_WATER_CLASSIFICATION : 
-				onSetFlowingWaterClassification(eoj, tid, esv, property, success);
+				r.onSetFlowingWaterClassification(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OWNER_CLASSIFICATION : 
-				onSetOwnerClassification(eoj, tid, esv, property, success);
+				r.onSetOwnerClassification(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ID_NUMBER_SETTING : 
-				onSetIdNumberSetting(eoj, tid, esv, property, success);
+				r.onSetIdNumberSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VERIFICATION_EXPIRATION_INFORMATION : 
-				onSetVerificationExpirationInformation(eoj, tid, esv, property, success);
+				r.onSetVerificationExpirationInformation(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
@@ -788,43 +746,91 @@ bytes<br>
 		}
 
 		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
 				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
+			Receiver r = (Receiver)receiver;
 			switch(property.epc) {
 			case EPC_FLOWING_WATER_CLASSIFICATION : 
-				onGetFlowingWaterClassification(eoj, tid, esv, property, success);
+				r.onGetFlowingWaterClassification(eoj, tid, esv, property, success);
 				return true;
 			case EPC_OWNER_CLASSIFICATION : 
-				onGetOwnerClassification(eoj, tid, esv, property, success);
+				r.onGetOwnerClassification(eoj, tid, esv, property, success);
 				return true;
 			case EPC_MEASURED_CUMULATIVE_AMOUNT_OF_FLOWING_WATER : 
-				onGetMeasuredCumulativeAmountOfFlowingWater(eoj, tid, esv, property, success);
+				r.onGetMeasuredCumulativeAmountOfFlowingWater(eoj, tid, esv, property, success);
 				return true;
 			case EPC_UNIT_FOR_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER : 
-				onGetUnitForMeasuredCumulativeAmountsOfFlowingWater(eoj, tid, esv, property, success);
+				r.onGetUnitForMeasuredCumulativeAmountsOfFlowingWater(eoj, tid, esv, property, success);
 				return true;
 			case EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER : 
-				onGetHistoricalDataOfMeasuredCumulativeAmountsOfFlowingWater(eoj, tid, esv, property, success);
+				r.onGetHistoricalDataOfMeasuredCumulativeAmountsOfFlowingWater(eoj, tid, esv, property, success);
 				return true;
 			case EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA : 
-				onGetDetectionOfAbnormalValueInMeteringData(eoj, tid, esv, property, success);
+				r.onGetDetectionOfAbnormalValueInMeteringData(eoj, tid, esv, property, success);
 				return true;
 			case EPC_SECURITY_DATA_INFORMATION : 
-				onGetSecurityDataInformation(eoj, tid, esv, property, success);
+				r.onGetSecurityDataInformation(eoj, tid, esv, property, success);
 				return true;
 			case EPC_ID_NUMBER_SETTING : 
-				onGetIdNumberSetting(eoj, tid, esv, property, success);
+				r.onGetIdNumberSetting(eoj, tid, esv, property, success);
 				return true;
 			case EPC_VERIFICATION_EXPIRATION_INFORMATION : 
-				onGetVerificationExpirationInformation(eoj, tid, esv, property, success);
+				r.onGetVerificationExpirationInformation(eoj, tid, esv, property, success);
 				return true;
 			default :
 				return false;
 			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(WaterFlowmeter.class, sPropertyHandler
+				, new byte[] {EPC_FLOWING_WATER_CLASSIFICATION, EPC_OWNER_CLASSIFICATION, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_FLOWING_WATER, EPC_UNIT_FOR_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER, EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA, EPC_SECURITY_DATA_INFORMATION, EPC_ID_NUMBER_SETTING, EPC_VERIFICATION_EXPIRATION_INFORMATION}
+				, new byte[] {EPC_FLOWING_WATER_CLASSIFICATION, EPC_OWNER_CLASSIFICATION, EPC_ID_NUMBER_SETTING, EPC_VERIFICATION_EXPIRATION_INFORMATION}
+				, new byte[] {EPC_FLOWING_WATER_CLASSIFICATION, EPC_OWNER_CLASSIFICATION, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_FLOWING_WATER, EPC_UNIT_FOR_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER, EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA, EPC_SECURITY_DATA_INFORMATION, EPC_ID_NUMBER_SETTING, EPC_VERIFICATION_EXPIRATION_INFORMATION});
+	}
+
+	@Override
+	public Setter set() {
+		return set(true);
+	}
+
+	@Override
+	public Setter set(boolean responseRequired) {
+		return new Setter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr(), responseRequired);
+	}
+
+	@Override
+	public Getter get() {
+		return new Getter(getEchoClassCode(), getInstanceCode()
+				, getNode().getAddressStr());
+	}
+
+	@Override
+	public Informer inform() {
+		return inform(isSelfObject());
+	}
+
+	@Override
+	protected Informer inform(boolean multicast) {
+		String address;
+		if(multicast) {
+			address = EchoSocket.MULTICAST_ADDRESS;
+		} else {
+			address = getNode().getAddressStr();
+		}
+		return new Informer(getEchoClassCode(), getInstanceCode()
+				, address, isSelfObject());
+	}
+	
+	public static class Receiver extends DeviceObject.Receiver {
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_FLOWING_WATER_CLASSIFICATION, EPC_OWNER_CLASSIFICATION, EPC_ID_NUMBER_SETTING, EPC_VERIFICATION_EXPIRATION_INFORMATION}
+					, new byte[] {EPC_FLOWING_WATER_CLASSIFICATION, EPC_OWNER_CLASSIFICATION, EPC_MEASURED_CUMULATIVE_AMOUNT_OF_FLOWING_WATER, EPC_UNIT_FOR_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER, EPC_HISTORICAL_DATA_OF_MEASURED_CUMULATIVE_AMOUNTS_OF_FLOWING_WATER, EPC_DETECTION_OF_ABNORMAL_VALUE_IN_METERING_DATA, EPC_SECURITY_DATA_INFORMATION, EPC_ID_NUMBER_SETTING, EPC_VERIFICATION_EXPIRATION_INFORMATION}
+					, new byte[] {});
+		}
 		
 		/**
 		 * Property name : Flowing water classification<br>
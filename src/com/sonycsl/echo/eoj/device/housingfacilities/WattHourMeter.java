@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -310,42 +311,59 @@ kWh<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			WattHourMeter o = (WattHourMeter)eoj;
+			switch(epc) {
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_VALUE : return o.getIntegralElectricEnergyMeasurementValue();
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_UNIT : return o.getIntegralElectricEnergyUnit();
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG1 : return o.getIntegralElectricEnergyMeasurementLog1();
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG2 : return o.getIntegralElectricEnergyMeasurementLog2();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_VALUE : return getIntegralElectricEnergyMeasurementValue();
-		case EPC_INTEGRAL_ELECTRIC_ENERGY_UNIT : return getIntegralElectricEnergyUnit();
-		case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG1 : return getIntegralElectricEnergyMeasurementLog1();
-		case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG2 : return getIntegralElectricEnergyMeasurementLog2();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			WattHourMeter o = (WattHourMeter)eoj;
+			switch(property.epc) {
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_VALUE : return o.isValidIntegralElectricEnergyMeasurementValue(property.edt);
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_UNIT : return o.isValidIntegralElectricEnergyUnit(property.edt);
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG1 : return o.isValidIntegralElectricEnergyMeasurementLog1(property.edt);
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG2 : return o.isValidIntegralElectricEnergyMeasurementLog2(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_VALUE : return isValidIntegralElectricEnergyMeasurementValue(property.edt);
-		case EPC_INTEGRAL_ELECTRIC_ENERGY_UNIT : return isValidIntegralElectricEnergyUnit(property.edt);
-		case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG1 : return isValidIntegralElectricEnergyMeasurementLog1(property.edt);
-		case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG2 : return isValidIntegralElectricEnergyMeasurementLog2(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_VALUE : 
+				r.onGetIntegralElectricEnergyMeasurementValue(eoj, tid, esv, property, success);
+				return true;
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_UNIT : 
+				r.onGetIntegralElectricEnergyUnit(eoj, tid, esv, property, success);
+				return true;
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG1 : 
+				r.onGetIntegralElectricEnergyMeasurementLog1(eoj, tid, esv, property, success);
+				return true;
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG2 : 
+				r.onGetIntegralElectricEnergyMeasurementLog2(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(WattHourMeter.class, sPropertyHandler
+				, new byte[] {EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_VALUE, EPC_INTEGRAL_ELECTRIC_ENERGY_UNIT, EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG1, EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG2}
+				, new byte[] {}
+				, new byte[] {EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_VALUE, EPC_INTEGRAL_ELECTRIC_ENERGY_UNIT, EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG1, EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG2});
 	}
 
 	@Override
@@ -383,41 +401,11 @@ kWh<br>
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_VALUE : 
-				onGetIntegralElectricEnergyMeasurementValue(eoj, tid, esv, property, success);
-				return true;
-			case EPC_INTEGRAL_ELECTRIC_ENERGY_UNIT : 
-				onGetIntegralElectricEnergyUnit(eoj, tid, esv, property, success);
-				return true;
-			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG1 : 
-				onGetIntegralElectricEnergyMeasurementLog1(eoj, tid, esv, property, success);
-				return true;
-			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG2 : 
-				onGetIntegralElectricEnergyMeasurementLog2(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_VALUE, EPC_INTEGRAL_ELECTRIC_ENERGY_UNIT, EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG1, EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG2}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -86,34 +87,14 @@ public abstract class Controller extends DeviceObject {
 	 */
 	protected abstract byte[] getOperationStatus();
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
-		}
-	}
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+	};
 	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		default : return null;
-		}
-	}
-
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		default : return false;
-		}
+	static {
+		registerPropertyHandler(Controller.class, sPropertyHandler
+				, new byte[] {}
+				, new byte[] {}
+				, new byte[] {});
 	}
 
 	@Override
@@ -152,30 +133,6 @@ public abstract class Controller extends DeviceObject {
 	
 	public static class Receiver extends DeviceObject.Receiver {
 
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-		
 	}
 
 	public static class Setter extends DeviceObject.Setter {
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -189,38 +190,49 @@ m/sec<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			AirSpeedSensor o = (AirSpeedSensor)eoj;
+			switch(epc) {
+			case EPC_MEASURED_VALUE_OF_AIR_SPEED : return o.getMeasuredValueOfAirSpeed();
+			case EPC_AIR_FLOW_DIRECTION : return o.getAirFlowDirection();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_MEASURED_VALUE_OF_AIR_SPEED : return getMeasuredValueOfAirSpeed();
-		case EPC_AIR_FLOW_DIRECTION : return getAirFlowDirection();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			AirSpeedSensor o = (AirSpeedSensor)eoj;
+			switch(property.epc) {
+			case EPC_MEASURED_VALUE_OF_AIR_SPEED : return o.isValidMeasuredValueOfAirSpeed(property.edt);
+			case EPC_AIR_FLOW_DIRECTION : return o.isValidAirFlowDirection(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_MEASURED_VALUE_OF_AIR_SPEED : return isValidMeasuredValueOfAirSpeed(property.edt);
-		case EPC_AIR_FLOW_DIRECTION : return isValidAirFlowDirection(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_MEASURED_VALUE_OF_AIR_SPEED : 
+				r.onGetMeasuredValueOfAirSpeed(eoj, tid, esv, property, success);
+				return true;
+			case EPC_AIR_FLOW_DIRECTION : 
+				r.onGetAirFlowDirection(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(AirSpeedSensor.class, sPropertyHandler
+				, new byte[] {EPC_MEASURED_VALUE_OF_AIR_SPEED, EPC_AIR_FLOW_DIRECTION}
+				, new byte[] {}
+				, new byte[] {EPC_MEASURED_VALUE_OF_AIR_SPEED, EPC_AIR_FLOW_DIRECTION});
 	}
 
 	@Override
@@ -258,35 +270,11 @@ m/sec<br>
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_MEASURED_VALUE_OF_AIR_SPEED : 
-				onGetMeasuredValueOfAirSpeed(eoj, tid, esv, property, success);
-				return true;
-			case EPC_AIR_FLOW_DIRECTION : 
-				onGetAirFlowDirection(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_MEASURED_VALUE_OF_AIR_SPEED, EPC_AIR_FLOW_DIRECTION}
+					, new byte[] {});
 		}
 		
 		/**
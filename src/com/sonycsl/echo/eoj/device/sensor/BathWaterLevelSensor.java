@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -244,40 +245,54 @@ public abstract class BathWaterLevelSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			BathWaterLevelSensor o = (BathWaterLevelSensor)eoj;
+			switch(epc) {
+			case EPC_BATH_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : return o.getBathWaterLevelOverDetectionThresholdLevel();
+			case EPC_BATH_WATER_LEVEL_OVER_DETECTION_STATUS : return o.getBathWaterLevelOverDetectionStatus();
+			case EPC_MEASURED_VALUE_OF_BATH_WATER_LEVEL : return o.getMeasuredValueOfBathWaterLevel();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_BATH_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : return getBathWaterLevelOverDetectionThresholdLevel();
-		case EPC_BATH_WATER_LEVEL_OVER_DETECTION_STATUS : return getBathWaterLevelOverDetectionStatus();
-		case EPC_MEASURED_VALUE_OF_BATH_WATER_LEVEL : return getMeasuredValueOfBathWaterLevel();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			BathWaterLevelSensor o = (BathWaterLevelSensor)eoj;
+			switch(property.epc) {
+			case EPC_BATH_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : return o.isValidBathWaterLevelOverDetectionThresholdLevel(property.edt);
+			case EPC_BATH_WATER_LEVEL_OVER_DETECTION_STATUS : return o.isValidBathWaterLevelOverDetectionStatus(property.edt);
+			case EPC_MEASURED_VALUE_OF_BATH_WATER_LEVEL : return o.isValidMeasuredValueOfBathWaterLevel(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_BATH_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : return isValidBathWaterLevelOverDetectionThresholdLevel(property.edt);
-		case EPC_BATH_WATER_LEVEL_OVER_DETECTION_STATUS : return isValidBathWaterLevelOverDetectionStatus(property.edt);
-		case EPC_MEASURED_VALUE_OF_BATH_WATER_LEVEL : return isValidMeasuredValueOfBathWaterLevel(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_BATH_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : 
+				r.onGetBathWaterLevelOverDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_BATH_WATER_LEVEL_OVER_DETECTION_STATUS : 
+				r.onGetBathWaterLevelOverDetectionStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MEASURED_VALUE_OF_BATH_WATER_LEVEL : 
+				r.onGetMeasuredValueOfBathWaterLevel(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(BathWaterLevelSensor.class, sPropertyHandler
+				, new byte[] {EPC_BATH_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL, EPC_BATH_WATER_LEVEL_OVER_DETECTION_STATUS, EPC_MEASURED_VALUE_OF_BATH_WATER_LEVEL}
+				, new byte[] {}
+				, new byte[] {EPC_BATH_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL, EPC_BATH_WATER_LEVEL_OVER_DETECTION_STATUS, EPC_MEASURED_VALUE_OF_BATH_WATER_LEVEL});
 	}
 
 	@Override
@@ -315,38 +330,11 @@ public abstract class BathWaterLevelSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_BATH_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : 
-				onGetBathWaterLevelOverDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_BATH_WATER_LEVEL_OVER_DETECTION_STATUS : 
-				onGetBathWaterLevelOverDetectionStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MEASURED_VALUE_OF_BATH_WATER_LEVEL : 
-				onGetMeasuredValueOfBathWaterLevel(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_BATH_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL, EPC_BATH_WATER_LEVEL_OVER_DETECTION_STATUS, EPC_MEASURED_VALUE_OF_BATH_WATER_LEVEL}
+					, new byte[] {});
 		}
 		
 		/**
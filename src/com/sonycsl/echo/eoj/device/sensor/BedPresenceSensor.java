@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -213,39 +214,71 @@ public abstract class BedPresenceSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			BedPresenceSensor o = (BedPresenceSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.setDetectionThresholdLevel(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return setDetectionThresholdLevel(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			BedPresenceSensor o = (BedPresenceSensor)eoj;
+			switch(epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.getDetectionThresholdLevel();
+			case EPC_BED_PRESENCE_DETECTION_STATUS : return o.getBedPresenceDetectionStatus();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return getDetectionThresholdLevel();
-		case EPC_BED_PRESENCE_DETECTION_STATUS : return getBedPresenceDetectionStatus();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			BedPresenceSensor o = (BedPresenceSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.isValidDetectionThresholdLevel(property.edt);
+			case EPC_BED_PRESENCE_DETECTION_STATUS : return o.isValidBedPresenceDetectionStatus(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return isValidDetectionThresholdLevel(property.edt);
-		case EPC_BED_PRESENCE_DETECTION_STATUS : return isValidBedPresenceDetectionStatus(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_BED_PRESENCE_DETECTION_STATUS : 
+				r.onGetBedPresenceDetectionStatus(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(BedPresenceSensor.class, sPropertyHandler
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_BED_PRESENCE_DETECTION_STATUS}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_BED_PRESENCE_DETECTION_STATUS});
 	}
 
 	@Override
@@ -283,38 +316,11 @@ public abstract class BedPresenceSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_BED_PRESENCE_DETECTION_STATUS : 
-				onGetBedPresenceDetectionStatus(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL}
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_BED_PRESENCE_DETECTION_STATUS}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -289,42 +290,80 @@ public abstract class CallSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			CallSensor o = (CallSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.setDetectionThresholdLevel(property.edt);
+			case EPC_CALL_HOLDING_TIME : return o.setCallHoldingTime(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return setDetectionThresholdLevel(property.edt);
-		case EPC_CALL_HOLDING_TIME : return setCallHoldingTime(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			CallSensor o = (CallSensor)eoj;
+			switch(epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.getDetectionThresholdLevel();
+			case EPC_CALL_STATUS : return o.getCallStatus();
+			case EPC_CALL_HOLDING_TIME : return o.getCallHoldingTime();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return getDetectionThresholdLevel();
-		case EPC_CALL_STATUS : return getCallStatus();
-		case EPC_CALL_HOLDING_TIME : return getCallHoldingTime();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			CallSensor o = (CallSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.isValidDetectionThresholdLevel(property.edt);
+			case EPC_CALL_STATUS : return o.isValidCallStatus(property.edt);
+			case EPC_CALL_HOLDING_TIME : return o.isValidCallHoldingTime(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return isValidDetectionThresholdLevel(property.edt);
-		case EPC_CALL_STATUS : return isValidCallStatus(property.edt);
-		case EPC_CALL_HOLDING_TIME : return isValidCallHoldingTime(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CALL_HOLDING_TIME : 
+				r.onSetCallHoldingTime(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CALL_STATUS : 
+				r.onGetCallStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_CALL_HOLDING_TIME : 
+				r.onGetCallHoldingTime(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(CallSensor.class, sPropertyHandler
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_CALL_STATUS, EPC_CALL_HOLDING_TIME}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_CALL_HOLDING_TIME}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_CALL_STATUS, EPC_CALL_HOLDING_TIME});
 	}
 
 	@Override
@@ -362,44 +401,11 @@ public abstract class CallSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CALL_HOLDING_TIME : 
-				onSetCallHoldingTime(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CALL_STATUS : 
-				onGetCallStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_CALL_HOLDING_TIME : 
-				onGetCallHoldingTime(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_CALL_HOLDING_TIME}
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_CALL_STATUS, EPC_CALL_HOLDING_TIME}
+					, new byte[] {});
 		}
 		
 		/**
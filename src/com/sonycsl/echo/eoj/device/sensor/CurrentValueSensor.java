@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -240,40 +241,54 @@ public abstract class CurrentValueSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			CurrentValueSensor o = (CurrentValueSensor)eoj;
+			switch(epc) {
+			case EPC_MEASURED_CURRENT_VALUE1 : return o.getMeasuredCurrentValue1();
+			case EPC_RATED_VOLTAGE_TO_BE_MEASURED : return o.getRatedVoltageToBeMeasured();
+			case EPC_MEASURED_CURRENT_VALUE2 : return o.getMeasuredCurrentValue2();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_MEASURED_CURRENT_VALUE1 : return getMeasuredCurrentValue1();
-		case EPC_RATED_VOLTAGE_TO_BE_MEASURED : return getRatedVoltageToBeMeasured();
-		case EPC_MEASURED_CURRENT_VALUE2 : return getMeasuredCurrentValue2();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			CurrentValueSensor o = (CurrentValueSensor)eoj;
+			switch(property.epc) {
+			case EPC_MEASURED_CURRENT_VALUE1 : return o.isValidMeasuredCurrentValue1(property.edt);
+			case EPC_RATED_VOLTAGE_TO_BE_MEASURED : return o.isValidRatedVoltageToBeMeasured(property.edt);
+			case EPC_MEASURED_CURRENT_VALUE2 : return o.isValidMeasuredCurrentValue2(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_MEASURED_CURRENT_VALUE1 : return isValidMeasuredCurrentValue1(property.edt);
-		case EPC_RATED_VOLTAGE_TO_BE_MEASURED : return isValidRatedVoltageToBeMeasured(property.edt);
-		case EPC_MEASURED_CURRENT_VALUE2 : return isValidMeasuredCurrentValue2(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_MEASURED_CURRENT_VALUE1 : 
+				r.onGetMeasuredCurrentValue1(eoj, tid, esv, property, success);
+				return true;
+			case EPC_RATED_VOLTAGE_TO_BE_MEASURED : 
+				r.onGetRatedVoltageToBeMeasured(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MEASURED_CURRENT_VALUE2 : 
+				r.onGetMeasuredCurrentValue2(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(CurrentValueSensor.class, sPropertyHandler
+				, new byte[] {EPC_MEASURED_CURRENT_VALUE1, EPC_RATED_VOLTAGE_TO_BE_MEASURED, EPC_MEASURED_CURRENT_VALUE2}
+				, new byte[] {}
+				, new byte[] {EPC_MEASURED_CURRENT_VALUE1, EPC_RATED_VOLTAGE_TO_BE_MEASURED, EPC_MEASURED_CURRENT_VALUE2});
 	}
 
 	@Override
@@ -311,38 +326,11 @@ public abstract class CurrentValueSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_MEASURED_CURRENT_VALUE1 : 
-				onGetMeasuredCurrentValue1(eoj, tid, esv, property, success);
-				return true;
-			case EPC_RATED_VOLTAGE_TO_BE_MEASURED : 
-				onGetRatedVoltageToBeMeasured(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MEASURED_CURRENT_VALUE2 : 
-				onGetMeasuredCurrentValue2(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_MEASURED_CURRENT_VALUE1, EPC_RATED_VOLTAGE_TO_BE_MEASURED, EPC_MEASURED_CURRENT_VALUE2}
+					, new byte[] {});
 		}
 		
 		/**
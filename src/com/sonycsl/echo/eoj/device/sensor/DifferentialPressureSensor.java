@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -135,36 +136,44 @@ public abstract class DifferentialPressureSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			DifferentialPressureSensor o = (DifferentialPressureSensor)eoj;
+			switch(epc) {
+			case EPC_MEASURED_VALUE_OF_DIFFERENTIAL_PRESSURE : return o.getMeasuredValueOfDifferentialPressure();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_MEASURED_VALUE_OF_DIFFERENTIAL_PRESSURE : return getMeasuredValueOfDifferentialPressure();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			DifferentialPressureSensor o = (DifferentialPressureSensor)eoj;
+			switch(property.epc) {
+			case EPC_MEASURED_VALUE_OF_DIFFERENTIAL_PRESSURE : return o.isValidMeasuredValueOfDifferentialPressure(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_MEASURED_VALUE_OF_DIFFERENTIAL_PRESSURE : return isValidMeasuredValueOfDifferentialPressure(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_MEASURED_VALUE_OF_DIFFERENTIAL_PRESSURE : 
+				r.onGetMeasuredValueOfDifferentialPressure(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(DifferentialPressureSensor.class, sPropertyHandler
+				, new byte[] {EPC_MEASURED_VALUE_OF_DIFFERENTIAL_PRESSURE}
+				, new byte[] {}
+				, new byte[] {EPC_MEASURED_VALUE_OF_DIFFERENTIAL_PRESSURE});
 	}
 
 	@Override
@@ -202,32 +211,11 @@ public abstract class DifferentialPressureSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_MEASURED_VALUE_OF_DIFFERENTIAL_PRESSURE : 
-				onGetMeasuredValueOfDifferentialPressure(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_MEASURED_VALUE_OF_DIFFERENTIAL_PRESSURE}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -265,41 +266,76 @@ public abstract class EarthquakeSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			EarthquakeSensor o = (EarthquakeSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.setDetectionThresholdLevel(property.edt);
+			case EPC_EARTHQUAKE_OCCURRENCE_STATUS_RESETTING : return o.setEarthquakeOccurrenceStatusResetting(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return setDetectionThresholdLevel(property.edt);
-		case EPC_EARTHQUAKE_OCCURRENCE_STATUS_RESETTING : return setEarthquakeOccurrenceStatusResetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			EarthquakeSensor o = (EarthquakeSensor)eoj;
+			switch(epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.getDetectionThresholdLevel();
+			case EPC_EARTHQUAKE_OCCURRENCE_STATUS : return o.getEarthquakeOccurrenceStatus();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return getDetectionThresholdLevel();
-		case EPC_EARTHQUAKE_OCCURRENCE_STATUS : return getEarthquakeOccurrenceStatus();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			EarthquakeSensor o = (EarthquakeSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.isValidDetectionThresholdLevel(property.edt);
+			case EPC_EARTHQUAKE_OCCURRENCE_STATUS : return o.isValidEarthquakeOccurrenceStatus(property.edt);
+			case EPC_EARTHQUAKE_OCCURRENCE_STATUS_RESETTING : return o.isValidEarthquakeOccurrenceStatusResetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return isValidDetectionThresholdLevel(property.edt);
-		case EPC_EARTHQUAKE_OCCURRENCE_STATUS : return isValidEarthquakeOccurrenceStatus(property.edt);
-		case EPC_EARTHQUAKE_OCCURRENCE_STATUS_RESETTING : return isValidEarthquakeOccurrenceStatusResetting(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_EARTHQUAKE_OCCURRENCE_STATUS_RESETTING : 
+				r.onSetEarthquakeOccurrenceStatusResetting(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_EARTHQUAKE_OCCURRENCE_STATUS : 
+				r.onGetEarthquakeOccurrenceStatus(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(EarthquakeSensor.class, sPropertyHandler
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_EARTHQUAKE_OCCURRENCE_STATUS}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_EARTHQUAKE_OCCURRENCE_STATUS_RESETTING}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_EARTHQUAKE_OCCURRENCE_STATUS, EPC_EARTHQUAKE_OCCURRENCE_STATUS_RESETTING});
 	}
 
 	@Override
@@ -337,41 +373,11 @@ public abstract class EarthquakeSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_EARTHQUAKE_OCCURRENCE_STATUS_RESETTING : 
-				onSetEarthquakeOccurrenceStatusResetting(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_EARTHQUAKE_OCCURRENCE_STATUS : 
-				onGetEarthquakeOccurrenceStatus(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_EARTHQUAKE_OCCURRENCE_STATUS_RESETTING}
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_EARTHQUAKE_OCCURRENCE_STATUS}
+					, new byte[] {});
 		}
 		
 		/**
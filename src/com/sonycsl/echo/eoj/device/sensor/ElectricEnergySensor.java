@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -393,46 +394,69 @@ Wh<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ElectricEnergySensor o = (ElectricEnergySensor)eoj;
+			switch(epc) {
+			case EPC_INTEGRAL_ELECTRIC_ENERGY : return o.getIntegralElectricEnergy();
+			case EPC_MEDIUM_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return o.getMediumCapacitySensorInstantaneousElectricEnergy();
+			case EPC_SMALL_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return o.getSmallCapacitySensorInstantaneousElectricEnergy();
+			case EPC_LARGE_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return o.getLargeCapacitySensorInstantaneousElectricEnergy();
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG : return o.getIntegralElectricEnergyMeasurementLog();
+			case EPC_EFFECTIVE_VOLTAGE_VALUE : return o.getEffectiveVoltageValue();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_INTEGRAL_ELECTRIC_ENERGY : return getIntegralElectricEnergy();
-		case EPC_MEDIUM_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return getMediumCapacitySensorInstantaneousElectricEnergy();
-		case EPC_SMALL_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return getSmallCapacitySensorInstantaneousElectricEnergy();
-		case EPC_LARGE_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return getLargeCapacitySensorInstantaneousElectricEnergy();
-		case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG : return getIntegralElectricEnergyMeasurementLog();
-		case EPC_EFFECTIVE_VOLTAGE_VALUE : return getEffectiveVoltageValue();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ElectricEnergySensor o = (ElectricEnergySensor)eoj;
+			switch(property.epc) {
+			case EPC_INTEGRAL_ELECTRIC_ENERGY : return o.isValidIntegralElectricEnergy(property.edt);
+			case EPC_MEDIUM_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return o.isValidMediumCapacitySensorInstantaneousElectricEnergy(property.edt);
+			case EPC_SMALL_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return o.isValidSmallCapacitySensorInstantaneousElectricEnergy(property.edt);
+			case EPC_LARGE_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return o.isValidLargeCapacitySensorInstantaneousElectricEnergy(property.edt);
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG : return o.isValidIntegralElectricEnergyMeasurementLog(property.edt);
+			case EPC_EFFECTIVE_VOLTAGE_VALUE : return o.isValidEffectiveVoltageValue(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_INTEGRAL_ELECTRIC_ENERGY : return isValidIntegralElectricEnergy(property.edt);
-		case EPC_MEDIUM_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return isValidMediumCapacitySensorInstantaneousElectricEnergy(property.edt);
-		case EPC_SMALL_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return isValidSmallCapacitySensorInstantaneousElectricEnergy(property.edt);
-		case EPC_LARGE_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : return isValidLargeCapacitySensorInstantaneousElectricEnergy(property.edt);
-		case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG : return isValidIntegralElectricEnergyMeasurementLog(property.edt);
-		case EPC_EFFECTIVE_VOLTAGE_VALUE : return isValidEffectiveVoltageValue(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_INTEGRAL_ELECTRIC_ENERGY : 
+				r.onGetIntegralElectricEnergy(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MEDIUM_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : 
+				r.onGetMediumCapacitySensorInstantaneousElectricEnergy(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SMALL_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : 
+				r.onGetSmallCapacitySensorInstantaneousElectricEnergy(eoj, tid, esv, property, success);
+				return true;
+			case EPC_LARGE_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : 
+				r.onGetLargeCapacitySensorInstantaneousElectricEnergy(eoj, tid, esv, property, success);
+				return true;
+			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG : 
+				r.onGetIntegralElectricEnergyMeasurementLog(eoj, tid, esv, property, success);
+				return true;
+			case EPC_EFFECTIVE_VOLTAGE_VALUE : 
+				r.onGetEffectiveVoltageValue(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ElectricEnergySensor.class, sPropertyHandler
+				, new byte[] {EPC_INTEGRAL_ELECTRIC_ENERGY, EPC_MEDIUM_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_SMALL_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_LARGE_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG, EPC_EFFECTIVE_VOLTAGE_VALUE}
+				, new byte[] {}
+				, new byte[] {EPC_INTEGRAL_ELECTRIC_ENERGY, EPC_MEDIUM_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_SMALL_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_LARGE_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG, EPC_EFFECTIVE_VOLTAGE_VALUE});
 	}
 
 	@Override
@@ -470,47 +494,11 @@ Wh<br>
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_INTEGRAL_ELECTRIC_ENERGY : 
-				onGetIntegralElectricEnergy(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MEDIUM_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : 
-				onGetMediumCapacitySensorInstantaneousElectricEnergy(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SMALL_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : 
-				onGetSmallCapacitySensorInstantaneousElectricEnergy(eoj, tid, esv, property, success);
-				return true;
-			case EPC_LARGE_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY : 
-				onGetLargeCapacitySensorInstantaneousElectricEnergy(eoj, tid, esv, property, success);
-				return true;
-			case EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG : 
-				onGetIntegralElectricEnergyMeasurementLog(eoj, tid, esv, property, success);
-				return true;
-			case EPC_EFFECTIVE_VOLTAGE_VALUE : 
-				onGetEffectiveVoltageValue(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_INTEGRAL_ELECTRIC_ENERGY, EPC_MEDIUM_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_SMALL_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_LARGE_CAPACITY_SENSOR_INSTANTANEOUS_ELECTRIC_ENERGY, EPC_INTEGRAL_ELECTRIC_ENERGY_MEASUREMENT_LOG, EPC_EFFECTIVE_VOLTAGE_VALUE}
+					, new byte[] {});
 		}
 		
 		/**
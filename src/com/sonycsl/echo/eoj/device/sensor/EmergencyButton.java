@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -194,38 +195,67 @@ public abstract class EmergencyButton extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			EmergencyButton o = (EmergencyButton)eoj;
+			switch(property.epc) {
+			case EPC_EMERGENCY_OCCURRENCE_STATUS_RESETTING : return o.setEmergencyOccurrenceStatusResetting(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_EMERGENCY_OCCURRENCE_STATUS_RESETTING : return setEmergencyOccurrenceStatusResetting(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			EmergencyButton o = (EmergencyButton)eoj;
+			switch(epc) {
+			case EPC_EMERGENCY_OCCURRENCE_STATUS : return o.getEmergencyOccurrenceStatus();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_EMERGENCY_OCCURRENCE_STATUS : return getEmergencyOccurrenceStatus();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			EmergencyButton o = (EmergencyButton)eoj;
+			switch(property.epc) {
+			case EPC_EMERGENCY_OCCURRENCE_STATUS : return o.isValidEmergencyOccurrenceStatus(property.edt);
+			case EPC_EMERGENCY_OCCURRENCE_STATUS_RESETTING : return o.isValidEmergencyOccurrenceStatusResetting(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_EMERGENCY_OCCURRENCE_STATUS : return isValidEmergencyOccurrenceStatus(property.edt);
-		case EPC_EMERGENCY_OCCURRENCE_STATUS_RESETTING : return isValidEmergencyOccurrenceStatusResetting(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_EMERGENCY_OCCURRENCE_STATUS_RESETTING : 
+				r.onSetEmergencyOccurrenceStatusResetting(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_EMERGENCY_OCCURRENCE_STATUS : 
+				r.onGetEmergencyOccurrenceStatus(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(EmergencyButton.class, sPropertyHandler
+				, new byte[] {EPC_EMERGENCY_OCCURRENCE_STATUS}
+				, new byte[] {EPC_EMERGENCY_OCCURRENCE_STATUS_RESETTING}
+				, new byte[] {EPC_EMERGENCY_OCCURRENCE_STATUS, EPC_EMERGENCY_OCCURRENCE_STATUS_RESETTING});
 	}
 
 	@Override
@@ -263,35 +293,11 @@ public abstract class EmergencyButton extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_EMERGENCY_OCCURRENCE_STATUS_RESETTING : 
-				onSetEmergencyOccurrenceStatusResetting(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_EMERGENCY_OCCURRENCE_STATUS : 
-				onGetEmergencyOccurrenceStatus(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_EMERGENCY_OCCURRENCE_STATUS_RESETTING}
+					, new byte[] {EPC_EMERGENCY_OCCURRENCE_STATUS}
+					, new byte[] {});
 		}
 		
 		/**
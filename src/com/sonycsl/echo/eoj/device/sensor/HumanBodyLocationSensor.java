@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -294,42 +295,59 @@ bytes<br>
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			HumanBodyLocationSensor o = (HumanBodyLocationSensor)eoj;
+			switch(epc) {
+			case EPC_HUMAN_BODY_DETECTION_LOCATION1 : return o.getHumanBodyDetectionLocation1();
+			case EPC_MAXIMUM_NUMBER_OF_HUMAN_BODY_ID_S : return o.getMaximumNumberOfHumanBodyIdS();
+			case EPC_HUMAN_BODY_DETECTION_LOCATION2 : return o.getHumanBodyDetectionLocation2();
+			case EPC_HUMAN_BODY_EXISTENCE_INFORMATION : return o.getHumanBodyExistenceInformation();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_HUMAN_BODY_DETECTION_LOCATION1 : return getHumanBodyDetectionLocation1();
-		case EPC_MAXIMUM_NUMBER_OF_HUMAN_BODY_ID_S : return getMaximumNumberOfHumanBodyIdS();
-		case EPC_HUMAN_BODY_DETECTION_LOCATION2 : return getHumanBodyDetectionLocation2();
-		case EPC_HUMAN_BODY_EXISTENCE_INFORMATION : return getHumanBodyExistenceInformation();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			HumanBodyLocationSensor o = (HumanBodyLocationSensor)eoj;
+			switch(property.epc) {
+			case EPC_HUMAN_BODY_DETECTION_LOCATION1 : return o.isValidHumanBodyDetectionLocation1(property.edt);
+			case EPC_MAXIMUM_NUMBER_OF_HUMAN_BODY_ID_S : return o.isValidMaximumNumberOfHumanBodyIdS(property.edt);
+			case EPC_HUMAN_BODY_DETECTION_LOCATION2 : return o.isValidHumanBodyDetectionLocation2(property.edt);
+			case EPC_HUMAN_BODY_EXISTENCE_INFORMATION : return o.isValidHumanBodyExistenceInformation(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_HUMAN_BODY_DETECTION_LOCATION1 : return isValidHumanBodyDetectionLocation1(property.edt);
-		case EPC_MAXIMUM_NUMBER_OF_HUMAN_BODY_ID_S : return isValidMaximumNumberOfHumanBodyIdS(property.edt);
-		case EPC_HUMAN_BODY_DETECTION_LOCATION2 : return isValidHumanBodyDetectionLocation2(property.edt);
-		case EPC_HUMAN_BODY_EXISTENCE_INFORMATION : return isValidHumanBodyExistenceInformation(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_HUMAN_BODY_DETECTION_LOCATION1 : 
+				r.onGetHumanBodyDetectionLocation1(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MAXIMUM_NUMBER_OF_HUMAN_BODY_ID_S : 
+				r.onGetMaximumNumberOfHumanBodyIdS(eoj, tid, esv, property, success);
+				return true;
+			case EPC_HUMAN_BODY_DETECTION_LOCATION2 : 
+				r.onGetHumanBodyDetectionLocation2(eoj, tid, esv, property, success);
+				return true;
+			case EPC_HUMAN_BODY_EXISTENCE_INFORMATION : 
+				r.onGetHumanBodyExistenceInformation(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(HumanBodyLocationSensor.class, sPropertyHandler
+				, new byte[] {EPC_HUMAN_BODY_DETECTION_LOCATION1, EPC_MAXIMUM_NUMBER_OF_HUMAN_BODY_ID_S, EPC_HUMAN_BODY_DETECTION_LOCATION2, EPC_HUMAN_BODY_EXISTENCE_INFORMATION}
+				, new byte[] {}
+				, new byte[] {EPC_HUMAN_BODY_DETECTION_LOCATION1, EPC_MAXIMUM_NUMBER_OF_HUMAN_BODY_ID_S, EPC_HUMAN_BODY_DETECTION_LOCATION2, EPC_HUMAN_BODY_EXISTENCE_INFORMATION});
 	}
 
 	@Override
@@ -367,41 +385,11 @@ bytes<br>
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_HUMAN_BODY_DETECTION_LOCATION1 : 
-				onGetHumanBodyDetectionLocation1(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MAXIMUM_NUMBER_OF_HUMAN_BODY_ID_S : 
-				onGetMaximumNumberOfHumanBodyIdS(eoj, tid, esv, property, success);
-				return true;
-			case EPC_HUMAN_BODY_DETECTION_LOCATION2 : 
-				onGetHumanBodyDetectionLocation2(eoj, tid, esv, property, success);
-				return true;
-			case EPC_HUMAN_BODY_EXISTENCE_INFORMATION : 
-				onGetHumanBodyExistenceInformation(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_HUMAN_BODY_DETECTION_LOCATION1, EPC_MAXIMUM_NUMBER_OF_HUMAN_BODY_ID_S, EPC_HUMAN_BODY_DETECTION_LOCATION2, EPC_HUMAN_BODY_EXISTENCE_INFORMATION}
+					, new byte[] {});
 		}
 		
 		/**
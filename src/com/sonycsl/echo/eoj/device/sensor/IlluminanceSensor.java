@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -188,38 +189,49 @@ public abstract class IlluminanceSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			IlluminanceSensor o = (IlluminanceSensor)eoj;
+			switch(epc) {
+			case EPC_MEASURED_ILLUMINANCE_VALUE1 : return o.getMeasuredIlluminanceValue1();
+			case EPC_MEASURED_ILLUMINANCE_VALUE2 : return o.getMeasuredIlluminanceValue2();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_MEASURED_ILLUMINANCE_VALUE1 : return getMeasuredIlluminanceValue1();
-		case EPC_MEASURED_ILLUMINANCE_VALUE2 : return getMeasuredIlluminanceValue2();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			IlluminanceSensor o = (IlluminanceSensor)eoj;
+			switch(property.epc) {
+			case EPC_MEASURED_ILLUMINANCE_VALUE1 : return o.isValidMeasuredIlluminanceValue1(property.edt);
+			case EPC_MEASURED_ILLUMINANCE_VALUE2 : return o.isValidMeasuredIlluminanceValue2(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_MEASURED_ILLUMINANCE_VALUE1 : return isValidMeasuredIlluminanceValue1(property.edt);
-		case EPC_MEASURED_ILLUMINANCE_VALUE2 : return isValidMeasuredIlluminanceValue2(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_MEASURED_ILLUMINANCE_VALUE1 : 
+				r.onGetMeasuredIlluminanceValue1(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MEASURED_ILLUMINANCE_VALUE2 : 
+				r.onGetMeasuredIlluminanceValue2(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(IlluminanceSensor.class, sPropertyHandler
+				, new byte[] {EPC_MEASURED_ILLUMINANCE_VALUE1, EPC_MEASURED_ILLUMINANCE_VALUE2}
+				, new byte[] {}
+				, new byte[] {EPC_MEASURED_ILLUMINANCE_VALUE1, EPC_MEASURED_ILLUMINANCE_VALUE2});
 	}
 
 	@Override
@@ -257,35 +269,11 @@ public abstract class IlluminanceSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_MEASURED_ILLUMINANCE_VALUE1 : 
-				onGetMeasuredIlluminanceValue1(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MEASURED_ILLUMINANCE_VALUE2 : 
-				onGetMeasuredIlluminanceValue2(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_MEASURED_ILLUMINANCE_VALUE1, EPC_MEASURED_ILLUMINANCE_VALUE2}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -432,48 +433,98 @@ public abstract class MicromotionSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			MicromotionSensor o = (MicromotionSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.setDetectionThresholdLevel(property.edt);
+			case EPC_DETECTION_COUNTER : return o.setDetectionCounter(property.edt);
+			case EPC_SAMPLING_COUNT : return o.setSamplingCount(property.edt);
+			case EPC_SAMPLING_CYCLE : return o.setSamplingCycle(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return setDetectionThresholdLevel(property.edt);
-		case EPC_DETECTION_COUNTER : return setDetectionCounter(property.edt);
-		case EPC_SAMPLING_COUNT : return setSamplingCount(property.edt);
-		case EPC_SAMPLING_CYCLE : return setSamplingCycle(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			MicromotionSensor o = (MicromotionSensor)eoj;
+			switch(epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.getDetectionThresholdLevel();
+			case EPC_MICROMOTION_DETECTION_STATUS : return o.getMicromotionDetectionStatus();
+			case EPC_DETECTION_COUNTER : return o.getDetectionCounter();
+			case EPC_SAMPLING_COUNT : return o.getSamplingCount();
+			case EPC_SAMPLING_CYCLE : return o.getSamplingCycle();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return getDetectionThresholdLevel();
-		case EPC_MICROMOTION_DETECTION_STATUS : return getMicromotionDetectionStatus();
-		case EPC_DETECTION_COUNTER : return getDetectionCounter();
-		case EPC_SAMPLING_COUNT : return getSamplingCount();
-		case EPC_SAMPLING_CYCLE : return getSamplingCycle();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			MicromotionSensor o = (MicromotionSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.isValidDetectionThresholdLevel(property.edt);
+			case EPC_MICROMOTION_DETECTION_STATUS : return o.isValidMicromotionDetectionStatus(property.edt);
+			case EPC_DETECTION_COUNTER : return o.isValidDetectionCounter(property.edt);
+			case EPC_SAMPLING_COUNT : return o.isValidSamplingCount(property.edt);
+			case EPC_SAMPLING_CYCLE : return o.isValidSamplingCycle(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return isValidDetectionThresholdLevel(property.edt);
-		case EPC_MICROMOTION_DETECTION_STATUS : return isValidMicromotionDetectionStatus(property.edt);
-		case EPC_DETECTION_COUNTER : return isValidDetectionCounter(property.edt);
-		case EPC_SAMPLING_COUNT : return isValidSamplingCount(property.edt);
-		case EPC_SAMPLING_CYCLE : return isValidSamplingCycle(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_DETECTION_COUNTER : 
+				r.onSetDetectionCounter(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SAMPLING_COUNT : 
+				r.onSetSamplingCount(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SAMPLING_CYCLE : 
+				r.onSetSamplingCycle(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MICROMOTION_DETECTION_STATUS : 
+				r.onGetMicromotionDetectionStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_DETECTION_COUNTER : 
+				r.onGetDetectionCounter(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SAMPLING_COUNT : 
+				r.onGetSamplingCount(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SAMPLING_CYCLE : 
+				r.onGetSamplingCycle(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(MicromotionSensor.class, sPropertyHandler
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_MICROMOTION_DETECTION_STATUS, EPC_DETECTION_COUNTER, EPC_SAMPLING_COUNT, EPC_SAMPLING_CYCLE}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_DETECTION_COUNTER, EPC_SAMPLING_COUNT, EPC_SAMPLING_CYCLE}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_MICROMOTION_DETECTION_STATUS, EPC_DETECTION_COUNTER, EPC_SAMPLING_COUNT, EPC_SAMPLING_CYCLE});
 	}
 
 	@Override
@@ -511,56 +562,11 @@ public abstract class MicromotionSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_DETECTION_COUNTER : 
-				onSetDetectionCounter(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SAMPLING_COUNT : 
-				onSetSamplingCount(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SAMPLING_CYCLE : 
-				onSetSamplingCycle(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MICROMOTION_DETECTION_STATUS : 
-				onGetMicromotionDetectionStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_DETECTION_COUNTER : 
-				onGetDetectionCounter(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SAMPLING_COUNT : 
-				onGetSamplingCount(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SAMPLING_CYCLE : 
-				onGetSamplingCycle(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_DETECTION_COUNTER, EPC_SAMPLING_COUNT, EPC_SAMPLING_CYCLE}
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_MICROMOTION_DETECTION_STATUS, EPC_DETECTION_COUNTER, EPC_SAMPLING_COUNT, EPC_SAMPLING_CYCLE}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -295,42 +296,80 @@ public abstract class SoundSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			SoundSensor o = (SoundSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.setDetectionThresholdLevel(property.edt);
+			case EPC_SOUND_DETECTION_HOLDING_TIME : return o.setSoundDetectionHoldingTime(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return setDetectionThresholdLevel(property.edt);
-		case EPC_SOUND_DETECTION_HOLDING_TIME : return setSoundDetectionHoldingTime(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			SoundSensor o = (SoundSensor)eoj;
+			switch(epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.getDetectionThresholdLevel();
+			case EPC_SOUND_DETECTION_STATUS : return o.getSoundDetectionStatus();
+			case EPC_SOUND_DETECTION_HOLDING_TIME : return o.getSoundDetectionHoldingTime();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return getDetectionThresholdLevel();
-		case EPC_SOUND_DETECTION_STATUS : return getSoundDetectionStatus();
-		case EPC_SOUND_DETECTION_HOLDING_TIME : return getSoundDetectionHoldingTime();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			SoundSensor o = (SoundSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.isValidDetectionThresholdLevel(property.edt);
+			case EPC_SOUND_DETECTION_STATUS : return o.isValidSoundDetectionStatus(property.edt);
+			case EPC_SOUND_DETECTION_HOLDING_TIME : return o.isValidSoundDetectionHoldingTime(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return isValidDetectionThresholdLevel(property.edt);
-		case EPC_SOUND_DETECTION_STATUS : return isValidSoundDetectionStatus(property.edt);
-		case EPC_SOUND_DETECTION_HOLDING_TIME : return isValidSoundDetectionHoldingTime(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SOUND_DETECTION_HOLDING_TIME : 
+				r.onSetSoundDetectionHoldingTime(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SOUND_DETECTION_STATUS : 
+				r.onGetSoundDetectionStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SOUND_DETECTION_HOLDING_TIME : 
+				r.onGetSoundDetectionHoldingTime(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(SoundSensor.class, sPropertyHandler
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_SOUND_DETECTION_STATUS, EPC_SOUND_DETECTION_HOLDING_TIME}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_SOUND_DETECTION_HOLDING_TIME}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_SOUND_DETECTION_STATUS, EPC_SOUND_DETECTION_HOLDING_TIME});
 	}
 
 	@Override
@@ -368,44 +407,11 @@ public abstract class SoundSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SOUND_DETECTION_HOLDING_TIME : 
-				onSetSoundDetectionHoldingTime(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SOUND_DETECTION_STATUS : 
-				onGetSoundDetectionStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SOUND_DETECTION_HOLDING_TIME : 
-				onGetSoundDetectionHoldingTime(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_SOUND_DETECTION_HOLDING_TIME}
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_SOUND_DETECTION_STATUS, EPC_SOUND_DETECTION_HOLDING_TIME}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -295,42 +296,80 @@ public abstract class VisitorSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			VisitorSensor o = (VisitorSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.setDetectionThresholdLevel(property.edt);
+			case EPC_VISITOR_DETECTION_HOLDING_TIME : return o.setVisitorDetectionHoldingTime(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return setDetectionThresholdLevel(property.edt);
-		case EPC_VISITOR_DETECTION_HOLDING_TIME : return setVisitorDetectionHoldingTime(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			VisitorSensor o = (VisitorSensor)eoj;
+			switch(epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.getDetectionThresholdLevel();
+			case EPC_VISITOR_DETECTION_STATUS : return o.getVisitorDetectionStatus();
+			case EPC_VISITOR_DETECTION_HOLDING_TIME : return o.getVisitorDetectionHoldingTime();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return getDetectionThresholdLevel();
-		case EPC_VISITOR_DETECTION_STATUS : return getVisitorDetectionStatus();
-		case EPC_VISITOR_DETECTION_HOLDING_TIME : return getVisitorDetectionHoldingTime();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			VisitorSensor o = (VisitorSensor)eoj;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : return o.isValidDetectionThresholdLevel(property.edt);
+			case EPC_VISITOR_DETECTION_STATUS : return o.isValidVisitorDetectionStatus(property.edt);
+			case EPC_VISITOR_DETECTION_HOLDING_TIME : return o.isValidVisitorDetectionHoldingTime(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_DETECTION_THRESHOLD_LEVEL : return isValidDetectionThresholdLevel(property.edt);
-		case EPC_VISITOR_DETECTION_STATUS : return isValidVisitorDetectionStatus(property.edt);
-		case EPC_VISITOR_DETECTION_HOLDING_TIME : return isValidVisitorDetectionHoldingTime(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_VISITOR_DETECTION_HOLDING_TIME : 
+				r.onSetVisitorDetectionHoldingTime(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_DETECTION_THRESHOLD_LEVEL : 
+				r.onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_VISITOR_DETECTION_STATUS : 
+				r.onGetVisitorDetectionStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_VISITOR_DETECTION_HOLDING_TIME : 
+				r.onGetVisitorDetectionHoldingTime(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(VisitorSensor.class, sPropertyHandler
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_VISITOR_DETECTION_STATUS, EPC_VISITOR_DETECTION_HOLDING_TIME}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_VISITOR_DETECTION_HOLDING_TIME}
+				, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_VISITOR_DETECTION_STATUS, EPC_VISITOR_DETECTION_HOLDING_TIME});
 	}
 
 	@Override
@@ -368,44 +407,11 @@ public abstract class VisitorSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onSetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_VISITOR_DETECTION_HOLDING_TIME : 
-				onSetVisitorDetectionHoldingTime(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_DETECTION_THRESHOLD_LEVEL : 
-				onGetDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_VISITOR_DETECTION_STATUS : 
-				onGetVisitorDetectionStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_VISITOR_DETECTION_HOLDING_TIME : 
-				onGetVisitorDetectionHoldingTime(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_VISITOR_DETECTION_HOLDING_TIME}
+					, new byte[] {EPC_DETECTION_THRESHOLD_LEVEL, EPC_VISITOR_DETECTION_STATUS, EPC_VISITOR_DETECTION_HOLDING_TIME}
+					, new byte[] {});
 		}
 		
 		/**
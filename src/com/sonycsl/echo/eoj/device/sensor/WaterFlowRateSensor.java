@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -189,38 +190,49 @@ public abstract class WaterFlowRateSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			WaterFlowRateSensor o = (WaterFlowRateSensor)eoj;
+			switch(epc) {
+			case EPC_INTEGRAL_FLOW_RATE : return o.getIntegralFlowRate();
+			case EPC_FLOW_RATE : return o.getFlowRate();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_INTEGRAL_FLOW_RATE : return getIntegralFlowRate();
-		case EPC_FLOW_RATE : return getFlowRate();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			WaterFlowRateSensor o = (WaterFlowRateSensor)eoj;
+			switch(property.epc) {
+			case EPC_INTEGRAL_FLOW_RATE : return o.isValidIntegralFlowRate(property.edt);
+			case EPC_FLOW_RATE : return o.isValidFlowRate(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_INTEGRAL_FLOW_RATE : return isValidIntegralFlowRate(property.edt);
-		case EPC_FLOW_RATE : return isValidFlowRate(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_INTEGRAL_FLOW_RATE : 
+				r.onGetIntegralFlowRate(eoj, tid, esv, property, success);
+				return true;
+			case EPC_FLOW_RATE : 
+				r.onGetFlowRate(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(WaterFlowRateSensor.class, sPropertyHandler
+				, new byte[] {EPC_INTEGRAL_FLOW_RATE, EPC_FLOW_RATE}
+				, new byte[] {}
+				, new byte[] {EPC_INTEGRAL_FLOW_RATE, EPC_FLOW_RATE});
 	}
 
 	@Override
@@ -258,35 +270,11 @@ public abstract class WaterFlowRateSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_INTEGRAL_FLOW_RATE : 
-				onGetIntegralFlowRate(eoj, tid, esv, property, success);
-				return true;
-			case EPC_FLOW_RATE : 
-				onGetFlowRate(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_INTEGRAL_FLOW_RATE, EPC_FLOW_RATE}
+					, new byte[] {});
 		}
 		
 		/**
@@ -5,6 +5,7 @@ import com.sonycsl.echo.EchoFrame;
 import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.node.EchoNode;
 
@@ -244,40 +245,54 @@ public abstract class WaterLevelSensor extends DeviceObject {
 		return true;
 	}
 
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			WaterLevelSensor o = (WaterLevelSensor)eoj;
+			switch(epc) {
+			case EPC_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : return o.getWaterLevelOverDetectionThresholdLevel();
+			case EPC_WATER_LEVEL_OVER_DETECTION_STATUS : return o.getWaterLevelOverDetectionStatus();
+			case EPC_MEASURED_VALUE_OF_WATER_LEVEL : return o.getMeasuredValueOfWaterLevel();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : return getWaterLevelOverDetectionThresholdLevel();
-		case EPC_WATER_LEVEL_OVER_DETECTION_STATUS : return getWaterLevelOverDetectionStatus();
-		case EPC_MEASURED_VALUE_OF_WATER_LEVEL : return getMeasuredValueOfWaterLevel();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			WaterLevelSensor o = (WaterLevelSensor)eoj;
+			switch(property.epc) {
+			case EPC_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : return o.isValidWaterLevelOverDetectionThresholdLevel(property.edt);
+			case EPC_WATER_LEVEL_OVER_DETECTION_STATUS : return o.isValidWaterLevelOverDetectionStatus(property.edt);
+			case EPC_MEASURED_VALUE_OF_WATER_LEVEL : return o.isValidMeasuredValueOfWaterLevel(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : return isValidWaterLevelOverDetectionThresholdLevel(property.edt);
-		case EPC_WATER_LEVEL_OVER_DETECTION_STATUS : return isValidWaterLevelOverDetectionStatus(property.edt);
-		case EPC_MEASURED_VALUE_OF_WATER_LEVEL : return isValidMeasuredValueOfWaterLevel(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : 
+				r.onGetWaterLevelOverDetectionThresholdLevel(eoj, tid, esv, property, success);
+				return true;
+			case EPC_WATER_LEVEL_OVER_DETECTION_STATUS : 
+				r.onGetWaterLevelOverDetectionStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MEASURED_VALUE_OF_WATER_LEVEL : 
+				r.onGetMeasuredValueOfWaterLevel(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(WaterLevelSensor.class, sPropertyHandler
+				, new byte[] {EPC_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL, EPC_WATER_LEVEL_OVER_DETECTION_STATUS, EPC_MEASURED_VALUE_OF_WATER_LEVEL}
+				, new byte[] {}
+				, new byte[] {EPC_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL, EPC_WATER_LEVEL_OVER_DETECTION_STATUS, EPC_MEASURED_VALUE_OF_WATER_LEVEL});
 	}
 
 	@Override
@@ -315,38 +330,11 @@ public abstract class WaterLevelSensor extends DeviceObject {
 	}
 	
 	public static class Receiver extends DeviceObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL : 
-				onGetWaterLevelOverDetectionThresholdLevel(eoj, tid, esv, property, success);
-				return true;
-			case EPC_WATER_LEVEL_OVER_DETECTION_STATUS : 
-				onGetWaterLevelOverDetectionStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MEASURED_VALUE_OF_WATER_LEVEL : 
-				onGetMeasuredValueOfWaterLevel(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_WATER_LEVEL_OVER_DETECTION_THRESHOLD_LEVEL, EPC_WATER_LEVEL_OVER_DETECTION_STATUS, EPC_MEASURED_VALUE_OF_WATER_LEVEL}
+					, new byte[] {});
 		}
 		
 		/**
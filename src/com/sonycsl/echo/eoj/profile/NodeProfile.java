@@ -12,6 +12,7 @@ import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.EchoUtils;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.eoj.profile.ProfileObject.Getter;
 import com.sonycsl.echo.eoj.profile.ProfileObject.Informer;
@@ -80,58 +81,130 @@ public abstract class NodeProfile extends ProfileObject {
 		addGetProperty(EPC_SELF_NODE_CLASS_LIST);
 	}
 	
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected boolean set(EchoObject eoj, EchoProperty property) {
+			NodeProfile o = (NodeProfile)eoj;
+			switch(property.epc) {
+			case EPC_OPERATING_STATUS : return o.setOperatingStatus(property.edt);
+			case EPC_UNIQUE_IDENTIFIER_DATA : return o.setUniqueIdentifierData(property.edt);
+			default : return false;
+			}
+		}
 
-		switch(property.epc) {
-		case EPC_OPERATING_STATUS : return setOperatingStatus(property.edt);
-		case EPC_UNIQUE_IDENTIFIER_DATA: return setUniqueIdentifierData(property.edt);
-		default : return false;
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			NodeProfile o = (NodeProfile)eoj;
+			switch(epc) {
+			case EPC_OPERATING_STATUS : return o.getOperatingStatus();
+			case EPC_VERSION_INFORMATION : return o.getVersionInformation();
+			case EPC_IDENTIFICATION_NUMBER : return o.getIdentificationNumber();
+			case EPC_FAULT_CONTENT : return o.getFaultContent();
+			case EPC_UNIQUE_IDENTIFIER_DATA : return o.getUniqueIdentifierData();
+			case EPC_NUMBER_OF_SELF_NODE_INSTANCES : return o.getNumberOfSelfNodeInstances();
+			case EPC_NUMBER_OF_SELF_NODE_CLASSES : return o.getNumberOfSelfNodeClasses();
+			case EPC_INSTANCE_LIST_NOTIFICATION : return o.getInstanceListNotification();
+			case EPC_SELF_NODE_INSTANCE_LIST_S : return o.getSelfNodeInstanceListS();
+			case EPC_SELF_NODE_CLASS_LIST : return o.getSelfNodeClassList();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_OPERATING_STATUS : return getOperatingStatus();
-		case EPC_VERSION_INFORMATION : return getVersionInformation();
-		case EPC_IDENTIFICATION_NUMBER : return getIdentificationNumber();
-		case EPC_FAULT_CONTENT : return getFaultContent();
-		case EPC_UNIQUE_IDENTIFIER_DATA : return getUniqueIdentifierData();
-		case EPC_NUMBER_OF_SELF_NODE_INSTANCES : return getNumberOfSelfNodeInstances();
-		case EPC_NUMBER_OF_SELF_NODE_CLASSES : return getNumberOfSelfNodeClasses();
-		case EPC_INSTANCE_LIST_NOTIFICATION : return getInstanceListNotification();
-		case EPC_SELF_NODE_INSTANCE_LIST_S : return getSelfNodeInstanceListS();
-		case EPC_SELF_NODE_CLASS_LIST : return getSelfNodeClassList();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			NodeProfile o = (NodeProfile)eoj;
+			switch(property.epc) {
+			case EPC_OPERATING_STATUS : return o.isValidOperatingStatus(property.edt);
+			case EPC_VERSION_INFORMATION : return o.isValidVersionInformation(property.edt);
+			case EPC_IDENTIFICATION_NUMBER : return o.isValidIdentificationNumber(property.edt);
+			case EPC_FAULT_CONTENT : return o.isValidFaultContent(property.edt);
+			case EPC_UNIQUE_IDENTIFIER_DATA : return o.isValidUniqueIdentifierData(property.edt);
+			case EPC_NUMBER_OF_SELF_NODE_INSTANCES : return o.isValidNumberOfSelfNodeInstances(property.edt);
+			case EPC_NUMBER_OF_SELF_NODE_CLASSES : return o.isValidNumberOfSelfNodeClasses(property.edt);
+			case EPC_INSTANCE_LIST_NOTIFICATION : return o.isValidInstanceListNotification(property.edt);
+			case EPC_SELF_NODE_INSTANCE_LIST_S : return o.isValidSelfNodeInstanceListS(property.edt);
+			case EPC_SELF_NODE_CLASS_LIST : return o.isValidSelfNodeClassList(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_OPERATING_STATUS : return isValidOperatingStatus(property.edt);
-		case EPC_VERSION_INFORMATION : return isValidVersionInformation(property.edt);
-		case EPC_IDENTIFICATION_NUMBER : return isValidIdentificationNumber(property.edt);
-		case EPC_FAULT_CONTENT : return isValidFaultContent(property.edt);
-		case EPC_UNIQUE_IDENTIFIER_DATA : return isValidUniqueIdentifierData(property.edt);
-		case EPC_NUMBER_OF_SELF_NODE_INSTANCES : return isValidNumberOfSelfNodeInstances(property.edt);
-		case EPC_NUMBER_OF_SELF_NODE_CLASSES : return isValidNumberOfSelfNodeClasses(property.edt);
-		case EPC_INSTANCE_LIST_NOTIFICATION : return isValidInstanceListNotification(property.edt);
-		case EPC_SELF_NODE_INSTANCE_LIST_S : return isValidSelfNodeInstanceListS(property.edt);
-		case EPC_SELF_NODE_CLASS_LIST : return isValidSelfNodeClassList(property.edt);
-		default : return false;
+		@Override
+		protected boolean onSet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_OPERATING_STATUS : 
+				r.onSetOperatingStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_UNIQUE_IDENTIFIER_DATA : 
+				r.onSetUniqueIdentifierData(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
-	}
+
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_OPERATING_STATUS : 
+				r.onGetOperatingStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_VERSION_INFORMATION : 
+				r.onGetVersionInformation(eoj, tid, esv, property, success);
+				return true;
+			case EPC_IDENTIFICATION_NUMBER : 
+				r.onGetIdentificationNumber(eoj, tid, esv, property, success);
+				return true;
+			case EPC_FAULT_CONTENT : 
+				r.onGetFaultContent(eoj, tid, esv, property, success);
+				return true;
+			case EPC_UNIQUE_IDENTIFIER_DATA : 
+				r.onGetUniqueIdentifierData(eoj, tid, esv, property, success);
+				return true;
+			case EPC_NUMBER_OF_SELF_NODE_INSTANCES : 
+				r.onGetNumberOfSelfNodeInstances(eoj, tid, esv, property, success);
+				return true;
+			case EPC_NUMBER_OF_SELF_NODE_CLASSES : 
+				r.onGetNumberOfSelfNodeClasses(eoj, tid, esv, property, success);
+				return true;
+			case EPC_INSTANCE_LIST_NOTIFICATION : 
+				r.onGetInstanceListNotification(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SELF_NODE_INSTANCE_LIST_S : 
+				r.onGetSelfNodeInstanceListS(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SELF_NODE_CLASS_LIST : 
+				r.onGetSelfNodeClassList(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
+		}
+
+		@Override
+		protected boolean onInform(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_INSTANCE_LIST_NOTIFICATION : 
+				r.onInformInstanceListNotification(eoj, tid, esv, property);
+				return true;
+			default :
+				return false;
+			}
+		}
+	};
 	
+	static {
+		registerPropertyHandler(NodeProfile.class, sPropertyHandler
+				, new byte[] {EPC_OPERATING_STATUS, EPC_VERSION_INFORMATION, EPC_IDENTIFICATION_NUMBER, EPC_FAULT_CONTENT, EPC_UNIQUE_IDENTIFIER_DATA, EPC_NUMBER_OF_SELF_NODE_INSTANCES, EPC_NUMBER_OF_SELF_NODE_CLASSES, EPC_INSTANCE_LIST_NOTIFICATION, EPC_SELF_NODE_INSTANCE_LIST_S, EPC_SELF_NODE_CLASS_LIST}
+				, new byte[] {EPC_OPERATING_STATUS, EPC_UNIQUE_IDENTIFIER_DATA}
+				, new byte[] {EPC_OPERATING_STATUS, EPC_VERSION_INFORMATION, EPC_IDENTIFICATION_NUMBER, EPC_FAULT_CONTENT, EPC_UNIQUE_IDENTIFIER_DATA, EPC_NUMBER_OF_SELF_NODE_INSTANCES, EPC_NUMBER_OF_SELF_NODE_CLASSES, EPC_INSTANCE_LIST_NOTIFICATION, EPC_SELF_NODE_INSTANCE_LIST_S, EPC_SELF_NODE_CLASS_LIST});
+	}
+
 	/**
 	 * Indicates node operating status.<br>
 	 * <br>
@@ -410,7 +483,11 @@ public abstract class NodeProfile extends ProfileObject {
 	protected byte[] getSelfNodeInstanceListS() {
 		// deviceの数は85以上の場合，85番目以降は電文に載せない．
 		//EchoUtils.devicesToByteArray(getNode().getDevices());
-		return EchoUtils.devicesToByteArray(getNode().getDevices(), 0);
+		DeviceObject[] devices = getNode().getDevices();
+		byte[] ret = EchoUtils.devicesToByteArray(devices, 0);
+		// the 1st byte is the total number, so that the receiver knows the list is truncated.
+		ret[0] = (byte)Math.min(devices.length, 255);
+		return ret;
 	}
 
 	protected boolean isValidSelfNodeInstanceListS(byte[] edt) {
@@ -501,81 +578,11 @@ public abstract class NodeProfile extends ProfileObject {
 
 
 	public static class Receiver extends ProfileObject.Receiver {
-		
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_OPERATING_STATUS:
-				onSetOperatingStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_UNIQUE_IDENTIFIER_DATA:
-				onSetUniqueIdentifierData(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_OPERATING_STATUS:
-				onGetOperatingStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_VERSION_INFORMATION:
-				onGetVersionInformation(eoj, tid, esv, property, success);
-				return true;
-			case EPC_IDENTIFICATION_NUMBER:
-				onGetIdentificationNumber(eoj, tid, esv, property, success);
-				return true;
-			case EPC_FAULT_CONTENT:
-				onGetFaultContent(eoj, tid, esv, property, success);
-				return true;
-			case EPC_UNIQUE_IDENTIFIER_DATA:
-				onGetUniqueIdentifierData(eoj, tid, esv, property, success);
-				return true;
-			case EPC_NUMBER_OF_SELF_NODE_INSTANCES:
-				onGetNumberOfSelfNodeInstances(eoj, tid, esv, property, success);
-				return true;
-			case EPC_NUMBER_OF_SELF_NODE_CLASSES:
-				onGetNumberOfSelfNodeClasses(eoj, tid, esv, property, success);
-				return true;
-			case EPC_INSTANCE_LIST_NOTIFICATION:
-				onGetInstanceListNotification(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SELF_NODE_INSTANCE_LIST_S:
-				onGetSelfNodeInstanceListS(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SELF_NODE_CLASS_LIST:
-				onGetSelfNodeClassList(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-		
-		@Override
-		protected boolean onInformProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property) {
-			boolean ret = super.onInformProperty(eoj, tid, esv, property);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_INSTANCE_LIST_NOTIFICATION:
-				onInformInstanceListNotification(eoj, tid, esv, property);
-				return true;
-			default :
-				return false;
-			}
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {EPC_OPERATING_STATUS, EPC_UNIQUE_IDENTIFIER_DATA}
+					, new byte[] {EPC_OPERATING_STATUS, EPC_VERSION_INFORMATION, EPC_IDENTIFICATION_NUMBER, EPC_FAULT_CONTENT, EPC_UNIQUE_IDENTIFIER_DATA, EPC_NUMBER_OF_SELF_NODE_INSTANCES, EPC_NUMBER_OF_SELF_NODE_CLASSES, EPC_INSTANCE_LIST_NOTIFICATION, EPC_SELF_NODE_INSTANCE_LIST_S, EPC_SELF_NODE_CLASS_LIST}
+					, new byte[] {EPC_INSTANCE_LIST_NOTIFICATION});
 		}
 		
 		/**
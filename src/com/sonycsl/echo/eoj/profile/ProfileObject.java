@@ -9,6 +9,7 @@ import com.sonycsl.echo.EchoProperty;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.EchoUtils;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyHandler;
 import com.sonycsl.echo.eoj.EchoObject.Getter;
 import com.sonycsl.echo.eoj.EchoObject.Informer;
 import com.sonycsl.echo.eoj.device.DeviceObject.Setter;
@@ -43,53 +44,86 @@ public abstract class ProfileObject extends EchoObject {
 	}
 	
 	
-	@Override
-	protected synchronized boolean setProperty(EchoProperty property) {
-		boolean success = super.setProperty(property);
-		if(success) return success;
-
-		switch(property.epc) {
-		default : return false;
+	private static final PropertyHandler sPropertyHandler = new PropertyHandler() {
+		@Override
+		protected byte[] get(EchoObject eoj, byte epc) {
+			ProfileObject o = (ProfileObject)eoj;
+			switch(epc) {
+			case EPC_FAULT_STATUS : return o.getFaultStatus();
+			case EPC_MANUFACTURER_CODE : return o.getManufacturerCode();
+			case EPC_PLACE_OF_BUSINESS_CODE : return o.getPlaceOfBusinessCode();
+			case EPC_PRODUCT_CODE : return o.getProductCode();
+			case EPC_SERIAL_NUMBER : return o.getSerialNumber();
+			case EPC_DATE_OF_MANUFACTURE : return o.getDateOfManufacture();
+			case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP : return o.getStatusChangeAnnouncementPropertyMap();
+			case EPC_SET_PROPERTY_MAP : return o.getSetPropertyMap();
+			case EPC_GET_PROPERTY_MAP : return o.getGetPropertyMap();
+			default : return null;
+			}
 		}
-	}
-	
-	@Override
-	protected synchronized byte[] getProperty(byte epc) {
-		byte[] edt = super.getProperty(epc);
-		if(edt != null) return edt;
-		
-		switch(epc) {
-		case EPC_FAULT_STATUS : return getFaultStatus();
-		case EPC_MANUFACTURER_CODE : return getManufacturerCode();
-		case EPC_PLACE_OF_BUSINESS_CODE : return getPlaceOfBusinessCode();
-		case EPC_PRODUCT_CODE : return getProductCode();
-		case EPC_SERIAL_NUMBER : return getSerialNumber();
-		case EPC_DATE_OF_MANUFACTURE : return getDateOfManufacture();
-		case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP : return getStatusChangeAnnouncementPropertyMap();
-		case EPC_SET_PROPERTY_MAP : return getSetPropertyMap();
-		case EPC_GET_PROPERTY_MAP : return getGetPropertyMap();
-		default : return null;
+
+		@Override
+		protected boolean isValid(EchoObject eoj, EchoProperty property) {
+			ProfileObject o = (ProfileObject)eoj;
+			switch(property.epc) {
+			case EPC_FAULT_STATUS : return o.isValidFaultStatus(property.edt);
+			case EPC_MANUFACTURER_CODE : return o.isValidManufacturerCode(property.edt);
+			case EPC_PLACE_OF_BUSINESS_CODE : return o.isValidPlaceOfBusinessCode(property.edt);
+			case EPC_PRODUCT_CODE : return o.isValidProductCode(property.edt);
+			case EPC_SERIAL_NUMBER : return o.isValidSerialNumber(property.edt);
+			case EPC_DATE_OF_MANUFACTURE : return o.isValidDateOfManufacture(property.edt);
+			case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP : return o.isValidStatusChangeAnnouncementPropertyMap(property.edt);
+			case EPC_SET_PROPERTY_MAP : return o.isValidSetPropertyMap(property.edt);
+			case EPC_GET_PROPERTY_MAP : return o.isValidGetPropertyMap(property.edt);
+			default : return false;
+			}
 		}
-	}
 
-	@Override
-	protected synchronized boolean isValidProperty(EchoProperty property) {
-		boolean valid = super.isValidProperty(property);
-		if(valid) return valid;
-		
-		switch(property.epc) {
-		case EPC_FAULT_STATUS : return isValidFaultStatus(property.edt);
-		case EPC_MANUFACTURER_CODE : return isValidManufacturerCode(property.edt);
-		case EPC_PLACE_OF_BUSINESS_CODE : return isValidPlaceOfBusinessCode(property.edt);
-		case EPC_PRODUCT_CODE : return isValidProductCode(property.edt);
-		case EPC_SERIAL_NUMBER : return isValidSerialNumber(property.edt);
-		case EPC_DATE_OF_MANUFACTURE : return isValidDateOfManufacture(property.edt);
-		case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP : return isValidStatusChangeAnnouncementPropertyMap(property.edt);
-		case EPC_SET_PROPERTY_MAP : return isValidSetPropertyMap(property.edt);
-		case EPC_GET_PROPERTY_MAP : return isValidGetPropertyMap(property.edt);
-		default : return false;
+		@Override
+		protected boolean onGet(EchoObject.Receiver receiver, EchoObject eoj, short tid, byte esv,
+				EchoProperty property, boolean success) {
+			Receiver r = (Receiver)receiver;
+			switch(property.epc) {
+			case EPC_FAULT_STATUS : 
+				r.onGetFaultStatus(eoj, tid, esv, property, success);
+				return true;
+			case EPC_MANUFACTURER_CODE : 
+				r.onGetManufacturerCode(eoj, tid, esv, property, success);
+				return true;
+			case EPC_PLACE_OF_BUSINESS_CODE : 
+				r.onGetPlaceOfBusinessCode(eoj, tid, esv, property, success);
+				return true;
+			case EPC_PRODUCT_CODE : 
+				r.onGetProductCode(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SERIAL_NUMBER : 
+				r.onGetSerialNumber(eoj, tid, esv, property, success);
+				return true;
+			case EPC_DATE_OF_MANUFACTURE : 
+				r.onGetDateOfManufacture(eoj, tid, esv, property, success);
+				return true;
+			case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP : 
+				r.onGetStatusChangeAnnouncementPropertyMap(eoj, tid, esv, property, success);
+				return true;
+			case EPC_SET_PROPERTY_MAP : 
+				r.onGetSetPropertyMap(eoj, tid, esv, property, success);
+				return true;
+			case EPC_GET_PROPERTY_MAP : 
+				r.onGetGetPropertyMap(eoj, tid, esv, property, success);
+				return true;
+			default :
+				return false;
+			}
 		}
+	};
+	
+	static {
+		registerPropertyHandler(ProfileObject.class, sPropertyHandler
+				, new byte[] {EPC_FAULT_STATUS, EPC_MANUFACTURER_CODE, EPC_PLACE_OF_BUSINESS_CODE, EPC_PRODUCT_CODE, EPC_SERIAL_NUMBER, EPC_DATE_OF_MANUFACTURE, EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP, EPC_SET_PROPERTY_MAP, EPC_GET_PROPERTY_MAP}
+				, new byte[] {}
+				, new byte[] {EPC_FAULT_STATUS, EPC_MANUFACTURER_CODE, EPC_PLACE_OF_BUSINESS_CODE, EPC_PRODUCT_CODE, EPC_SERIAL_NUMBER, EPC_DATE_OF_MANUFACTURE, EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP, EPC_SET_PROPERTY_MAP, EPC_GET_PROPERTY_MAP});
 	}
+
 /*
 	@Override
 	protected boolean onReceiveProperty(EchoProperty property) {
@@ -248,7 +282,7 @@ public abstract class ProfileObject extends EchoObject {
 	 * Get : mandatory
 	 */
 	protected byte[] getStatusChangeAnnouncementPropertyMap() {
-		return EchoUtils.propertiesToPropertyMap(getStatusChangeAnnouncementProperties());
+		return getStatusChangeAnnouncementEPCSet().toPropertyMap();
 	}
 	
 	protected boolean isValidStatusChangeAnnouncementPropertyMap(byte[] edt) {
@@ -264,7 +298,7 @@ public abstract class ProfileObject extends EchoObject {
 	 * Get : mandatory
 	 */
 	protected byte[] getSetPropertyMap() {
-		return EchoUtils.propertiesToPropertyMap(getSetProperties());
+		return getSetEPCSet().toPropertyMap();
 	}
 	protected boolean isValidSetPropertyMap(byte[] edt) {
 		if(edt == null || !(edt.length <= 17)) return false;
@@ -279,7 +313,7 @@ public abstract class ProfileObject extends EchoObject {
 	 * Get : mandatory
 	 */
 	protected byte[] getGetPropertyMap() {
-		return EchoUtils.propertiesToPropertyMap(getGetProperties());
+		return getGetEPCSet().toPropertyMap();
 	}
 	protected boolean isValidGetPropertyMap(byte[] edt) {
 		if(edt == null || !(edt.length <= 17)) return false;
@@ -322,70 +356,11 @@ public abstract class ProfileObject extends EchoObject {
 	}
 
 	public static class Receiver extends EchoObject.Receiver {
-
-		@Override
-		protected boolean onSetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onSetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			//switch(property.epc) {
-			//default :
-			//	return false;
-			//}
-			return false;
-		}
-
-		@Override
-		protected boolean onGetProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property, boolean success) {
-			boolean ret = super.onGetProperty(eoj, tid, esv, property, success);
-			if(ret) return true;
-			
-			switch(property.epc) {
-			case EPC_FAULT_STATUS:
-				onGetFaultStatus(eoj, tid, esv, property, success);
-				return true;
-			case EPC_MANUFACTURER_CODE:
-				onGetManufacturerCode(eoj, tid, esv, property, success);
-				return true;
-			case EPC_PLACE_OF_BUSINESS_CODE:
-				onGetPlaceOfBusinessCode(eoj, tid, esv, property, success);
-				return true;
-			case EPC_PRODUCT_CODE:
-				onGetProductCode(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SERIAL_NUMBER:
-				onGetSerialNumber(eoj, tid, esv, property, success);
-				return true;
-			case EPC_DATE_OF_MANUFACTURE:
-				onGetDateOfManufacture(eoj, tid, esv, property, success);
-				return true;
-			case EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP:
-				onGetStatusChangeAnnouncementPropertyMap(eoj, tid, esv, property, success);
-				return true;
-			case EPC_SET_PROPERTY_MAP:
-				onGetSetPropertyMap(eoj, tid, esv, property, success);
-				return true;
-			case EPC_GET_PROPERTY_MAP:
-				onGetGetPropertyMap(eoj, tid, esv, property, success);
-				return true;
-			default :
-				return false;
-			}
-		}
-		
-		@Override
-		protected boolean onInformProperty(EchoObject eoj, short tid, byte esv,
-				EchoProperty property) {
-			boolean ret = super.onInformProperty(eoj, tid, esv, property);
-			if(ret) return true;
-			
-			//switch(property.epc) {
-			//default :
-			//	return false;
-			//}
-			return false;
+		static {
+			registerReceiverHandler(Receiver.class, sPropertyHandler
+					, new byte[] {}
+					, new byte[] {EPC_FAULT_STATUS, EPC_MANUFACTURER_CODE, EPC_PLACE_OF_BUSINESS_CODE, EPC_PRODUCT_CODE, EPC_SERIAL_NUMBER, EPC_DATE_OF_MANUFACTURE, EPC_STATUS_CHANGE_ANNOUNCEMENT_PROPERTY_MAP, EPC_SET_PROPERTY_MAP, EPC_GET_PROPERTY_MAP}
+					, new byte[] {});
 		}
 		
 		/**
@@ -4,12 +4,15 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.SocketException;
 import java.net.UnknownHostException;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.sonycsl.echo.Echo;
+import com.sonycsl.echo.EchoPresence;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.EchoUtils;
 import com.sonycsl.echo.eoj.EchoObject;
@@ -26,11 +29,29 @@ import com.sonycsl.echo.eoj.profile.NodeProfile.Proxy;
 
 
 public final class EchoNode {
-	private static HashMap<Short, DeviceProxyCreator> mProxyCreators = new HashMap<Short, DeviceProxyCreator>();
+	
+	public static final int ENUMERATION_NONE = 0;
+	public static final int ENUMERATION_REQUESTED = 1;
+	public static final int ENUMERATION_DONE = 2;
+	
+	private static Map<Short, DeviceProxyCreator> mProxyCreators = new ConcurrentHashMap<Short, DeviceProxyCreator>();
+	
+	private static final DeviceObject[] EMPTY_DEVICES = new DeviceObject[0];
 	
 	private NodeProfile mNodeProfile;
-	private List<DeviceObject> mDevices = new ArrayList<DeviceObject>();
+	// devices in the order they were added. readers iterate without locking,
+	// writers hold mDevices.
+	private final List<DeviceObject> mDevices = new CopyOnWriteArrayList<DeviceObject>();
+	// EOJ (EchoUtils.getEchoObjectCode) -> device
+	private final Map<Integer, DeviceObject> mDeviceIndex = new ConcurrentHashMap<Integer, DeviceObject>();
+	// class code -> devices of the class. the arrays are replaced, never modified.
+	private final Map<Short, DeviceObject[]> mDeviceGroups = new ConcurrentHashMap<Short, DeviceObject[]>();
 	private String mAddress;
+	private final EchoPresence mPresence = new EchoPresence();
+	// number of instances the node says it has, -1 if unknown.
+	private volatile int mReportedInstanceCount = -1;
+	// set by the workers which perform the frames of the node, with compareAndSet.
+	private final AtomicInteger mEnumerationState = new AtomicInteger(ENUMERATION_NONE);
 	
 	public EchoNode(NodeProfile nodeProfile, DeviceObject[] devices) {
 		// selfNode
@@ -40,7 +61,7 @@ public final class EchoNode {
 			if(isSelfNode()) {
 				d.allocateSelfDeviceInstanceCode();
 			}
-			mDevices.add(d);
+			putDevice(d);
 		}
 		
 	}
@@ -59,6 +80,57 @@ public final class EchoNode {
 		Echo.getEventListener().onFoundNode(this);
 	}
 	
+	public void onLost() {
+		Echo.getEventListener().onLostNode(this);
+	}
+	
+	/**
+	 * When frames from the node were received. Maintained for other nodes only.
+	 */
+	public EchoPresence getPresence() {
+		return mPresence;
+	}
+	
+	/**
+	 * @return the number of instances reported by the node (0xD3 or the
+	 * 1st byte of 0xD6), or -1 if it is not known yet. The instances which
+	 * did not fit in its instance list are searched while getDevices() has
+	 * fewer of them.
+	 */
+	public int getReportedInstanceCount() {
+		return mReportedInstanceCount;
+	}
+	
+	public void setReportedInstanceCount(int count) {
+		if(count != mReportedInstanceCount) {
+			mReportedInstanceCount = count;
+			// the node has changed, its instances are searched again.
+			mEnumerationState.set(ENUMERATION_NONE);
+		}
+	}
+	
+	/**
+	 * @return how far the instances which did not fit in the instance list
+	 * have been searched since the reported number of instances changed:
+	 * ENUMERATION_NONE, ENUMERATION_REQUESTED (the class list is requested)
+	 * or ENUMERATION_DONE (the classes are asked).
+	 */
+	public int getEnumerationState() {
+		return mEnumerationState.get();
+	}
+	
+	public void setEnumerationState(int state) {
+		mEnumerationState.set(state);
+	}
+	
+	/**
+	 * @return true if the state was expect and is now update, so that only
+	 * one of the workers which perform the frames of the node takes a step.
+	 */
+	public boolean compareAndSetEnumerationState(int expect, int update) {
+		return mEnumerationState.compareAndSet(expect, update);
+	}
+	
 	public boolean isSelfNode() {
 		return EchoSocket.SELF_ADDRESS.equals(mAddress);
 	}
@@ -92,13 +164,33 @@ public final class EchoNode {
 		return device;
 	}
 	
+	/**
+	 * Adds a proxy of the device unless one exists, atomically.
+	 * 
+	 * @return the device created by this call, or null if the device exists.
+	 */
+	public DeviceObject addOtherDeviceIfAbsent(short echoClassCode, byte echoInstanceCode) {
+		synchronized(mDevices) {
+			if(containsDevice(echoClassCode, echoInstanceCode)) return null;
+			DeviceObject device = newOtherDevice(echoClassCode, echoInstanceCode);
+			if(device == null) return null;
+			// bound before it is visible to the other threads.
+			device.setNode(this);
+			putDevice(device);
+			return device;
+		}
+	}
+	
 	public void addDevice(DeviceObject device) {
 		if(device == null) return;
 		if(device.getNode() == this) return;
 
-		mDevices.add(device);
 		if(isSelfNode()) {
+			// the instance code is the key of the index, allocate it first.
 			device.allocateSelfDeviceInstanceCode();
+		}
+		putDevice(device);
+		if(isSelfNode()) {
 			device.setNode(this);
 			device.onNew();
 			device.onFound();
@@ -125,17 +217,72 @@ public final class EchoNode {
 		if(device.getNode() != this) return;
 		device.setNode(null);
 		// TODO: Release allocated instance code because new instance code is generated when addDevice is called
-		mDevices.remove(device);
+		synchronized(mDevices) {
+			if(!mDevices.remove(device)) return;
+			int code = EchoUtils.getEchoObjectCode(device.getEchoClassCode(), device.getInstanceCode());
+			if(mDeviceIndex.get(code) == device) {
+				mDeviceIndex.remove(code);
+				// another device with the same EOJ takes the place.
+				DeviceObject[] group = mDeviceGroups.get(device.getEchoClassCode());
+				if(group != null) {
+					for(DeviceObject d : group) {
+						if(d != device && d.getInstanceCode() == device.getInstanceCode()) {
+							mDeviceIndex.put(code, d);
+							break;
+						}
+					}
+				}
+			}
+			removeFromDeviceGroup(device);
+		}
 	}
 	
-	public boolean containsDevice(short echoClassCode, byte echoInstanceCode) {
-		for(DeviceObject d : mDevices) {
-			if(d.getEchoClassCode() == echoClassCode
-					&& d.getInstanceCode() == echoInstanceCode) {
-				return true;
+	private void putDevice(DeviceObject device) {
+		synchronized(mDevices) {
+			mDevices.add(device);
+			int code = EchoUtils.getEchoObjectCode(device.getEchoClassCode(), device.getInstanceCode());
+			// the first device with the EOJ is found, as by the former linear search.
+			if(!mDeviceIndex.containsKey(code)) {
+				mDeviceIndex.put(code, device);
+			}
+			addToDeviceGroup(device);
+		}
+	}
+	
+	// called with mDevices held. only the array of the class is copied.
+	private void addToDeviceGroup(DeviceObject device) {
+		short echoClassCode = device.getEchoClassCode();
+		DeviceObject[] group = mDeviceGroups.get(echoClassCode);
+		if(group == null) {
+			mDeviceGroups.put(echoClassCode, new DeviceObject[] {device});
+			return;
+		}
+		DeviceObject[] grown = Arrays.copyOf(group, group.length + 1);
+		grown[group.length] = device;
+		mDeviceGroups.put(echoClassCode, grown);
+	}
+	
+	// called with mDevices held.
+	private void removeFromDeviceGroup(DeviceObject device) {
+		short echoClassCode = device.getEchoClassCode();
+		DeviceObject[] group = mDeviceGroups.get(echoClassCode);
+		if(group == null) return;
+		for(int i = 0; i < group.length; i++) {
+			if(group[i] != device) continue;
+			if(group.length == 1) {
+				mDeviceGroups.remove(echoClassCode);
+				return;
 			}
+			DeviceObject[] shrunk = new DeviceObject[group.length - 1];
+			System.arraycopy(group, 0, shrunk, 0, i);
+			System.arraycopy(group, i + 1, shrunk, i, group.length - i - 1);
+			mDeviceGroups.put(echoClassCode, shrunk);
+			return;
 		}
-		return false;
+	}
+	
+	public boolean containsDevice(short echoClassCode, byte echoInstanceCode) {
+		return mDeviceIndex.containsKey(EchoUtils.getEchoObjectCode(echoClassCode, echoInstanceCode));
 	}
 
 	public boolean containsDevice(DeviceObject device) {
@@ -176,13 +323,7 @@ public final class EchoNode {
 	}
 	
 	public DeviceObject getDevice(short echoClassCode, byte echoInstanceCode) {
-		for(DeviceObject d : mDevices) {
-			if(d.getEchoClassCode() == echoClassCode
-					&& d.getInstanceCode() == echoInstanceCode) {
-				return d;
-			}
-		}
-		return null;
+		return mDeviceIndex.get(EchoUtils.getEchoObjectCode(echoClassCode, echoInstanceCode));
 	}
 	
 	public DeviceObject[] getDevices(byte classGroupCode, byte classCode) {
@@ -190,22 +331,19 @@ public final class EchoNode {
 	}
 	
 	public DeviceObject[] getDevices(short echoClassCode) {
-		List<DeviceObject> ret = new ArrayList<DeviceObject>();
-		for(DeviceObject d : mDevices) {
-			if(d.getEchoClassCode() == echoClassCode) {
-				ret.add(d);
-			}
-		}
-		return ret.toArray(new DeviceObject[]{});
+		DeviceObject[] group = mDeviceGroups.get(echoClassCode);
+		if(group == null) return EMPTY_DEVICES;
+		return group.clone();
 	}
 	
 	public DeviceObject[] getDevices() {
-		return (DeviceObject[]) mDevices.toArray(new DeviceObject[]{});
+		return mDevices.toArray(EMPTY_DEVICES);
 	}
 	
 	private static DeviceObject newOtherDevice(short echoClassCode, byte instanceCode) {
-		if(mProxyCreators.containsKey(echoClassCode)) {
-			return mProxyCreators.get(echoClassCode).create(instanceCode);
+		DeviceProxyCreator creator = mProxyCreators.get(echoClassCode);
+		if(creator != null) {
+			return creator.create(instanceCode);
 		}
 		switch(echoClassCode) {
 		case ActivityAmountSensor.ECHO_CLASS_CODE: return new ActivityAmountSensor.Proxy(instanceCode);
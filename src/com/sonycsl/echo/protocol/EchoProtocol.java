@@ -1,13 +1,19 @@
 package com.sonycsl.echo.protocol;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import com.sonycsl.echo.Echo;
 import com.sonycsl.echo.EchoFrame;
+import com.sonycsl.echo.EchoMetrics;
 import com.sonycsl.echo.EchoProperty;
+import com.sonycsl.echo.EchoRequestTracker;
 import com.sonycsl.echo.EchoSocket;
+import com.sonycsl.echo.EchoUtils;
 import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.PropertyCache;
 import com.sonycsl.echo.eoj.device.DeviceObject;
 import com.sonycsl.echo.eoj.profile.NodeProfile;
 import com.sonycsl.echo.node.EchoNode;
@@ -69,14 +75,42 @@ public abstract class EchoProtocol {
 		public Task(EchoFrame frame) {
 			mFrame = frame;
 		}
+		
+		public EchoFrame getFrame() {
+			return mFrame;
+		}
+		
+		/**
+		 * Tasks with the same key are performed in order by the TaskDispatcher.
+		 * The key is derived from the source address and the source object (SEOJ).
+		 */
+		public int getOrderingKey() {
+			String address = mFrame.getSrcEchoAddress();
+			int key = (address == null) ? 0 : address.hashCode();
+			return key * 31 + EchoUtils.getEchoObjectCode(mFrame.getSrcEchoClassCode(), mFrame.getSrcEchoInstanceCode());
+		}
 		public void perform() {
+			long start = System.nanoTime();
+			try {
+				performFrame();
+			} finally {
+				EchoMetrics.TASK_PERFORM.record(System.nanoTime() - start);
+			}
+		}
+		
+		private void performFrame() {
 			if(mFrame.isValid()){
-				checkObjectInFrame(mFrame.copy());
+				// the frame is shared by discovery, listeners and the request handlers.
+				// none of them modifies it.
+				// resolved once: the node may be removed by EchoDiscovery meanwhile.
+				EchoNode node = checkObjectInFrame(mFrame);
 				Echo.getEventListener().receiveEvent(mFrame);
 
-				if(isReportFrame(mFrame)) {
-					onReceiveReport(mFrame);
+				if(isReportFrame(mFrame) && node != null) {
+					onReceiveReport(node, mFrame);
 				}
+				// after the report, so the PropertyCache is up to date when the future completes.
+				EchoRequestTracker.onReceiveResponse(mFrame);
 				if(isRequestFrame(mFrame)) {
 					List<EchoFrame> responses = onReceiveRequest(mFrame);
 					
@@ -158,21 +192,33 @@ public abstract class EchoProtocol {
 		
 		protected static EchoFrame onReceiveRequest(EchoObject deoj, EchoFrame frame) {
 
-			EchoFrame request = frame.copy();
-			request.setDstEchoInstanceCode(deoj.getInstanceCode());
-			EchoFrame response = deoj.onReceiveRequest(request);
+			// deoj answers as itself, so the request is not copied per instance.
+			long start = System.nanoTime();
+			EchoFrame response = deoj.onReceiveRequest(frame);
+			EchoMetrics.OBJECT_REQUEST.record(System.nanoTime() - start);
 			
 			return response;
 		}
 
 		protected static void onReceiveReport(EchoFrame frame) {
 			EchoNode node = Echo.getNode(frame.getSrcEchoAddress());
+			if(node == null) {return;}
+			onReceiveReport(node, frame);
+		}
+
+		protected static void onReceiveReport(EchoNode node, EchoFrame frame) {
 			EchoObject seoj = node.getInstance(frame.getSrcEchoClassCode(),
 												frame.getSrcEchoInstanceCode());
 
 			if(seoj == null) {return;}
 			seoj.setNode(node);
 
+			seoj.updatePropertyMaps(frame);
+			PropertyCache cache = seoj.getPropertyCache();
+			if(cache != null) {
+				cache.update(frame);
+			}
+
 			// receiver
 			EchoObject.Receiver receiver = seoj.getReceiver();
 			if(receiver != null) {
@@ -181,21 +227,90 @@ public abstract class EchoProtocol {
 		}
 
 		
-		protected static void checkObjectInFrame(EchoFrame frame) {
+		protected static void discoverPropertyMaps(EchoObject eoj) {
+			if(!EchoObject.isPropertyMapDiscoveryEnabled()) return;
+			// the maps of the node profile are not needed to talk to the devices.
+			if(eoj.getEchoClassCode() == NodeProfile.ECHO_CLASS_CODE) return;
+			// the response is taken by updatePropertyMaps() in onReceiveReport().
+			eoj.requestPropertyMaps();
+		}
+		
+		/**
+		 * Searches the instances which did not fit in the instance lists of the node.
+		 * The number of instances and classes and the class list are requested when
+		 * a list is truncated, then every listed class is asked with instance code 0
+		 * while the node has fewer devices than it reported. The responses add the
+		 * devices. The class list has 8 classes at most; when it is partial the
+		 * classes of the known devices are asked as well. Each step is done once per
+		 * reported number of instances, not on every refresh.
+		 */
+		protected static void enumerateInstances(EchoNode node, InstanceListDecoder decoder) {
+			if(decoder.getInstanceCount() >= 0) {
+				node.setReportedInstanceCount(decoder.getInstanceCount());
+			}
+			int state = node.getEnumerationState();
+			if(state == EchoNode.ENUMERATION_DONE) return;
+			int reported = node.getReportedInstanceCount();
+			DeviceObject[] devices = node.getDevices();
+			boolean missing = reported > devices.length;
+			String address = node.getAddressStr();
+			try {
+				if(decoder.getClassCount() < 0) {
+					if(state == EchoNode.ENUMERATION_NONE && decoder.isTruncated() && (reported < 0 || missing)
+							&& node.compareAndSetEnumerationState(EchoNode.ENUMERATION_NONE,
+									EchoNode.ENUMERATION_REQUESTED)) {
+						new NodeProfile.Getter(NodeProfile.ECHO_CLASS_CODE, NodeProfile.INSTANCE_CODE, address)
+								.reqGetNumberOfSelfNodeInstances().reqGetNumberOfSelfNodeClasses()
+								.reqGetSelfNodeClassList().send();
+					}
+					return;
+				}
+				if(!missing) return;
+				// another worker may have asked the classes meanwhile.
+				if(!node.compareAndSetEnumerationState(state, EchoNode.ENUMERATION_DONE)) return;
+				int classCount = decoder.getClassCount();
+				HashSet<Short> classes = new HashSet<Short>();
+				for(int i = 0; i < classCount; i++) {
+					classes.add(decoder.getListedEchoClassCode(i));
+				}
+				if(decoder.isClassListPartial()) {
+					for(DeviceObject d : devices) {
+						classes.add(d.getEchoClassCode());
+					}
+				}
+				for(short classCode : classes) {
+					new EchoObject.Getter(classCode, (byte)0, address)
+							.reqGetProperty(DeviceObject.EPC_OPERATION_STATUS).send();
+				}
+			} catch (IOException e) {
+				try{Echo.getEventListener().onCatchException(e);}catch(Exception ex){}
+			}
+		}
+		
+		/**
+		 * @return the node of the source, or null if it is not known.
+		 */
+		protected static EchoNode checkObjectInFrame(EchoFrame frame) {
 			if(EchoSocket.SELF_ADDRESS.equals(frame.getSrcEchoAddress())) {
 				// self node
-				return;
+				return Echo.getSelfNode();
 			}
 			
 			// other node
+			// onFound is called when the node or object is found, not for every frame.
+			// see EchoPresence.
+			// frames of one node may be performed on several workers at once.
+			// the node and its devices are created only by the worker which adds them.
 			EchoNode node = Echo.getNode(frame.getSrcEchoAddress());
 			boolean flagNewNode = false;
 			if(node == null) {
-				node = Echo.addOtherNode(frame.getSrcEchoAddress());
-				flagNewNode = true;
-				if(node == null) {return;}
-
-				node.getNodeProfile().setNode(node);
+				node = Echo.addOtherNodeIfAbsent(frame.getSrcEchoAddress());
+				if(node == null) {
+					node = Echo.getNode(frame.getSrcEchoAddress());
+					if(node == null) {return null;}
+				} else {
+					flagNewNode = true;
+				}
 			}
 
 			if(frame.getSrcEchoClassCode() == NodeProfile.ECHO_CLASS_CODE
@@ -212,10 +327,12 @@ public abstract class EchoProtocol {
 				// generate
 				// device
 
-				seoj = node.addOtherDevice(frame.getSrcEchoClassCode(), frame.getSrcEchoInstanceCode());
-				flagNewDevice = true;
-
-				if(seoj != null) {seoj.setNode(node);}
+				seoj = node.addOtherDeviceIfAbsent(frame.getSrcEchoClassCode(), frame.getSrcEchoInstanceCode());
+				if(seoj == null) {
+					seoj = node.getInstance(frame.getSrcEchoClassCode(), frame.getSrcEchoInstanceCode());
+				} else {
+					flagNewDevice = true;
+				}
 
 				//seoj = node.get()->getInstnace(frame.getSrcEchoClassCode(), frame.getSrcEchoInstanceCode());
 			}
@@ -225,8 +342,10 @@ public abstract class EchoProtocol {
 					node.onNew();
 				}
 				//Echo.getEventListener().onFoundNode(node);
-				node.onFound();
-				return;
+				if(node.getPresence().seen()) {
+					node.onFound();
+				}
+				return node;
 			}
 			if(seoj.getEchoClassCode() == NodeProfile.ECHO_CLASS_CODE
 					&& (seoj.getInstanceCode() == NodeProfile.INSTANCE_CODE
@@ -237,61 +356,44 @@ public abstract class EchoProtocol {
 						|| frame.getESV() == EchoFrame.ESV_INF_SNA
 						|| frame.getESV() == EchoFrame.ESV_INFC)) {
 				// seoj is NodeProfile
-				List<EchoObject> foundDevices = new ArrayList<EchoObject>();
-				List<Boolean> flagNewDevices = new ArrayList<Boolean>();
-
+				InstanceListDecoder decoder = InstanceListDecoder.get();
 				for(EchoProperty p : frame.getPropertyList()) {
-					if(p.epc != NodeProfile.EPC_INSTANCE_LIST_NOTIFICATION
-						&& p.epc != NodeProfile.EPC_SELF_NODE_INSTANCE_LIST_S) {continue;}
-					if(p.pdc == 0) {continue;}
-					int deviceListSize = (int)p.edt[0];
-					if(deviceListSize > 84) {
-						deviceListSize = 84;
-					}
-					for(int d = 0, i = 1; d < deviceListSize; d++) {
-						if(i == p.pdc) break;
-						short echoClassCode = (short)(((p.edt[i]) & 0xFF) << 8);
-						i += 1;
-						if(i == p.pdc) break;
-						echoClassCode += p.edt[i] & 0xFF;
-						i += 1;
-						if(i == p.pdc) break;
-						byte echoInstanceCode = p.edt[i];
-						i += 1;
-						if(node.containsDevice(echoClassCode, echoInstanceCode)) {
-							flagNewDevices.add(false);
-							foundDevices.add(node.getInstance(echoClassCode, echoInstanceCode));
-						} else {
-							// new
-							flagNewDevices.add(true);
-							EchoObject eoj = node.addOtherDevice(echoClassCode, echoInstanceCode);
-							foundDevices.add(eoj);
-							if(eoj != null) {eoj.setNode(node);}
-						}
-					}
+					decoder.decode(p);
 				}
+				decoder.resolve(node);
 
 				if(flagNewNode) {
 					//Echo.getEventListener().onNewNode(node);
 					node.onNew();
 				}
 				//Echo.getEventListener().onFoundNode(node);
-				node.onFound();
+				if(node.getPresence().seen()) {
+					node.onFound();
+				}
 				if(flagNewDevice) {
 					//Echo.getEventListener().onNewEchoObject(seoj);
 					seoj.onNew();
+					discoverPropertyMaps(seoj);
 				}
 				//Echo.getEventListener().onFoundEchoObject(seoj);
-				seoj.onFound();
-				int foundDeviceListSize = foundDevices.size();
+				if(seoj.getPresence().seen()) {
+					seoj.onFound();
+				}
+				int foundDeviceListSize = decoder.getCount();
 				for(int i = 0; i < foundDeviceListSize; i++) {
-					if(flagNewDevices.get(i)) {
+					EchoObject eoj = decoder.getObject(i);
+					if(eoj == null) continue;
+					if(decoder.isNew(i)) {
 						//Echo.getEventListener().onNewEchoObject(foundDevices.get(i));
-						foundDevices.get(i).onNew();
+						eoj.onNew();
+						discoverPropertyMaps(eoj);
 					}
 					//Echo.getEventListener().onFoundEchoObject(foundDevices.get(i));
-					foundDevices.get(i).onFound();
+					if(eoj.getPresence().seen()) {
+						eoj.onFound();
+					}
 				}
+				enumerateInstances(node, decoder);
 			} else {
 				// seoj is DeviceObject
 				if(flagNewNode) {
@@ -299,15 +401,20 @@ public abstract class EchoProtocol {
 					node.onNew();
 				}
 				//Echo.getEventListener().onFoundNode(node);
-				node.onFound();
+				if(node.getPresence().seen()) {
+					node.onFound();
+				}
 				if(flagNewDevice) {
 					//Echo.getEventListener().onNewEchoObject(seoj);
 					seoj.onNew();
+					discoverPropertyMaps(seoj);
 				}
 				//Echo.getEventListener().onFoundEchoObject(seoj);
-				seoj.onFound();
-				return;
+				if(seoj.getPresence().seen()) {
+					seoj.onFound();
+				}
 			}
+			return node;
 		}
 	}
 
@@ -3,92 +3,135 @@ package com.sonycsl.echo.protocol;
 
 import com.sonycsl.echo.Echo;
 import com.sonycsl.echo.EchoFrame;
+import com.sonycsl.echo.EchoFrameDecoder;
+import com.sonycsl.echo.EchoMetrics;
 import com.sonycsl.echo.EchoSocket;
 
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
-import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.net.SocketTimeoutException;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ECHONET Lite over TCP.
+ * <br>
+ * All sockets are non-blocking and are served by a single selector thread.
+ * Frames read from a connection are enqueued as {@link TCPProtocolTask},
+ * and the response is written back on the same connection.
+ * <br>
+ * A connection holds at most {@link #MAX_QUEUED_BYTES} of frames not yet
+ * written, a peer which reads nothing more is closed when it is exceeded.
+ * A connection which has neither read nor written anything for
+ * {@link #IDLE_TIMEOUT_MILLIS} is closed.
+ */
 public class EchoTCPProtocol extends EchoProtocol {
 
     public static int TCP_MAX_PACKET_SIZE = 65507;
 
     private static final int PORT = 3610;
 
-    private static final int TIMEOUT = 0;
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    public static final int MAX_QUEUED_BYTES = 1024 * 1024;
+    public static final long IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000;
+    // idle connections are looked for this often.
+    private static final long IDLE_CHECK_MILLIS = IDLE_TIMEOUT_MILLIS / 5;
 
-    // for TCP.
-    private ServerSocket mServerSocket;
-    // private static ExecutorService sConnectedTCPSocketThreads;
-    private Thread mSocketAcceptThread;
+    private ServerSocketChannel mServerChannel;
+    private Selector mSelector;
+    private Thread mSelectorThread;
+    private volatile boolean mSelectorActive;
     // may be connected from same source many times.
-    private HashMap<String, ArrayList<Socket>> mTCPSockets;
+    private final ConcurrentHashMap<String, List<TCPConnection>> mConnections = new ConcurrentHashMap<String, List<TCPConnection>>();
+    // registration changes requested by other threads, applied on the selector thread.
+    private final Queue<Runnable> mPendingChanges = new ConcurrentLinkedQueue<Runnable>();
+    // used only by the selector thread. partial frames are kept by the decoder of each connection.
+    private final ByteBuffer mReadBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    // used only by the selector thread.
+    private long mLastIdleCheckNanos = System.nanoTime();
 
     public void openTCP() throws IOException {
-        // tcp
-        mTCPSockets = new HashMap<String, ArrayList<Socket>>();
-
-        mServerSocket = new ServerSocket();
-        mServerSocket.setSoTimeout(0);
-        mServerSocket.setReuseAddress(true);
-        mServerSocket.bind(new InetSocketAddress(PORT));
-        // sConnectedTCPSocketThreads = Executors.newCachedThreadPool();
-        mSocketAcceptThread = new Thread(new Runnable() {
+        mSelector = Selector.open();
+        mServerChannel = ServerSocketChannel.open();
+        mServerChannel.socket().setReuseAddress(true);
+        mServerChannel.socket().bind(new InetSocketAddress(PORT));
+        mServerChannel.configureBlocking(false);
+        mServerChannel.register(mSelector, SelectionKey.OP_ACCEPT);
+
+        mSelectorActive = true;
+        mSelectorThread = new Thread(new Runnable() {
             @Override
             public void run() {
-                while (isOpened()) {
+                while (mSelectorActive) {
+                    Selector selector = mSelector;
+                    if (selector == null || !selector.isOpen()) {
+                        break;
+                    }
                     try {
-                        accept();
-                    } catch (IOException e) {
-                        // e.printStackTrace();
+                        select(selector);
+                    } catch (ClosedSelectorException e) {
                         break;
+                    } catch (IOException e) {
+                        // the connections are served on, only this select failed.
+                        onCatchException(e);
                     }
                 }
             }
-        });
-        mSocketAcceptThread.start();
+        }, "EchoTCPSelector");
+        mSelectorThread.start();
     }
 
     public void closeTCP() throws IOException {
-        if (mServerSocket != null) {
-            ServerSocket s = mServerSocket;
-            mServerSocket = null;
-            s.close();
+        mSelectorActive = false;
+        if (mSelector != null) {
+            mSelector.wakeup();
         }
-        if (mSocketAcceptThread != null) {
-            mSocketAcceptThread.interrupt();
+        if (mSelectorThread != null) {
             try {
-                mSocketAcceptThread.join();
+                mSelectorThread.join();
             } catch (Exception e) {
             }
-            mSocketAcceptThread = null;
+            mSelectorThread = null;
         }
 
-        if (mTCPSockets != null) {
-            for (Map.Entry<String, ArrayList<Socket>> entry : mTCPSockets.entrySet()) {
-                for (Socket s : entry.getValue()) {
-                    s.close();
-                    s = null;
-                }
+        for (List<TCPConnection> list : mConnections.values()) {
+            for (TCPConnection connection : list) {
+                connection.close();
             }
-            mTCPSockets = null;
         }
-        // if we have no socket,there is no need to receive.
-        // stopReceiverThread();
+        mConnections.clear();
+        mPendingChanges.clear();
+
+        if (mServerChannel != null) {
+            ServerSocketChannel s = mServerChannel;
+            mServerChannel = null;
+            s.close();
+        }
+        if (mSelector != null) {
+            Selector s = mSelector;
+            mSelector = null;
+            s.close();
+        }
     }
 
     public boolean isOpened() {
-        return (mServerSocket != null && !mServerSocket.isClosed());
+        return (mServerChannel != null && mServerChannel.isOpen());
     }
 
     public void sendTCP(EchoFrame frame) throws IOException {
@@ -98,10 +141,11 @@ public class EchoTCPProtocol extends EchoProtocol {
             sendToSelf(frame.copy());
             return;
         } else if (EchoSocket.MULTICAST_ADDRESS.equals(frame.getDstEchoAddress())) {
-            sendToGroup(frame.copy(), getKnownAddressSet());
+            sendToGroup(frame, getKnownAddressSet());
             return;
         } else {
-            sendToOther(frame.copy());
+            // the frame is encoded before sendToOther returns.
+            sendToOther(frame);
             return;
         }
     }
@@ -110,109 +154,289 @@ public class EchoTCPProtocol extends EchoProtocol {
 
         Set<String> set = new HashSet<String>();
         set.add(EchoSocket.SELF_ADDRESS);
-        for (String address : mTCPSockets.keySet()) {
-            set.add(address);
+        for (Map.Entry<String, List<TCPConnection>> entry : mConnections.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                set.add(entry.getKey());
+            }
         }
         return set;
     }
 
-    public void sendTCPFrame(EchoFrame frame, Socket socket) throws IOException {
-        byte[] data = frame.getFrameByteArray();
-        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
-        out.write(data);
+    public void sendTCPFrame(EchoFrame frame, TCPConnection connection) throws IOException {
+        if (!connection.isOpen()) {
+            throw new ClosedChannelException();
+        }
+        if (!connection.enqueue(ByteBuffer.wrap(frame.getFrameByteArray()))) {
+            throw new IOException("write queue of " + connection.mAddress + " exceeds "
+                    + MAX_QUEUED_BYTES + " bytes");
+        }
+        EchoMetrics.onSendFrame(frame, true);
+        requestWrite(connection);
     }
 
-    public EchoFrame receive(Socket socket) throws IOException {
-        // DataOutputStream out = new DataOutputStream(sock.getOutputStream());
+    private void requestWrite(final TCPConnection connection) {
+        mPendingChanges.offer(new Runnable() {
+            @Override
+            public void run() {
+                SelectionKey key = connection.mKey;
+                if (key != null && key.isValid() && connection.mConnected) {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                }
+            }
+        });
+        Selector selector = mSelector;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
 
-        DataInputStream in = new DataInputStream(socket.getInputStream());
-        String address = socket.getInetAddress().getHostAddress();
-        EchoFrame frame = null;
+    private static void onCatchException(Exception e) {
         try {
-            frame = EchoFrame.getEchoFrameFromStream(address, in);
-            return frame;
-        } catch (SocketTimeoutException e) {
-            throw e;
+            Echo.getEventListener().onCatchException(e);
+        } catch (Exception ex) {
+        }
+    }
+
+    private void select(Selector selector) throws IOException {
+        selector.select(IDLE_CHECK_MILLIS);
+
+        Runnable change;
+        while ((change = mPendingChanges.poll()) != null) {
+            try {
+                change.run();
+            } catch (CancelledKeyException e) {
+                // the connection was closed meanwhile.
+            }
+        }
+
+        Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+        while (it.hasNext()) {
+            SelectionKey key = it.next();
+            it.remove();
+            if (!key.isValid()) {
+                continue;
+            }
+            if (key.isAcceptable()) {
+                accept();
+                continue;
+            }
+            TCPConnection connection = (TCPConnection) key.attachment();
+            try {
+                if (key.isConnectable()) {
+                    finishConnect(connection);
+                }
+                if (key.isValid() && key.isReadable()) {
+                    read(connection);
+                }
+                if (key.isValid() && key.isWritable()) {
+                    write(connection);
+                }
+            } catch (IOException e) {
+                onCatchException(e);
+                closeConnection(connection);
+            } catch (CancelledKeyException e) {
+                closeConnection(connection);
+            }
+        }
+
+        long now = System.nanoTime();
+        if (now - mLastIdleCheckNanos >= IDLE_CHECK_MILLIS * 1000000) {
+            mLastIdleCheckNanos = now;
+            closeIdleConnections(now);
+        }
+    }
+
+    private void closeIdleConnections(long now) {
+        for (List<TCPConnection> list : mConnections.values()) {
+            for (TCPConnection connection : list) {
+                if (now - connection.mLastActiveNanos >= IDLE_TIMEOUT_MILLIS * 1000000) {
+                    closeConnection(connection);
+                }
+            }
+        }
+    }
+
+    /**
+     * Accepts a connection. A failure (e.g. out of file descriptors, or
+     * a reset by the peer) is reported and loses that connection only.
+     */
+    private void accept() {
+        SocketChannel channel = null;
+        try {
+            channel = mServerChannel.accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            String address = channel.socket().getInetAddress().getHostAddress();
+            TCPConnection connection = new TCPConnection(address, channel);
+            connection.mConnected = true;
+            connection.mKey = channel.register(mSelector, SelectionKey.OP_READ, connection);
+            addConnection(connection);
         } catch (IOException e) {
-            // e.printStackTrace();
-            closeTCPSocket(socket);
-            throw e;
+            onCatchException(e);
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ex) {
+                }
+            }
         }
     }
 
-    public void accept() throws IOException {
-        // has been closed?
-        if (mServerSocket == null) {
-            // System.err.println("TCP server socket has been closed.");
+    private void finishConnect(TCPConnection connection) throws IOException {
+        if (!connection.mChannel.finishConnect()) {
+            // still connecting, wait for the next OP_CONNECT.
             return;
         }
-        Socket sock = mServerSocket.accept();
-        sock.setSoTimeout(TIMEOUT);
-        String address = sock.getInetAddress().getHostAddress();
-        if (mTCPSockets.containsKey(address)) {
-            mTCPSockets.get(address).add(sock);
-        } else {
-            ArrayList<Socket> list = new ArrayList<Socket>();
-            list.add(sock);
-            mTCPSockets.put(address, list);
+        connection.mConnected = true;
+        connection.mLastActiveNanos = System.nanoTime();
+        int ops = SelectionKey.OP_READ;
+        if (!connection.mWriteQueue.isEmpty()) {
+            ops |= SelectionKey.OP_WRITE;
         }
-        System.err.println("Socket add" + sock.getInetAddress() + "(income)");
+        connection.mKey.interestOps(ops);
+    }
 
-        createReceiver(sock);
+    private void read(TCPConnection connection) throws IOException {
+        ByteBuffer buffer = mReadBuffer;
+        buffer.clear();
+        int n = connection.mChannel.read(buffer);
+        if (n < 0) {
+            closeConnection(connection);
+            return;
+        }
+        connection.mLastActiveNanos = System.nanoTime();
 
-        // sConnectedTCPSocketThreads.execute(new TCPSocketThread(sock));
+        buffer.flip();
+        EchoFrame frame;
+        // a broken stream throws IOException and the connection is closed.
+        try {
+            while ((frame = connection.mDecoder.decode(connection.mAddress, buffer)) != null) {
+                EchoMetrics.onReceiveFrame(frame, true);
+                EchoSocket.enqueueTask(new TCPProtocolTask(frame, this, connection));
+            }
+        } catch (IOException e) {
+            EchoMetrics.TCP_DECODE_FAILURES.increment();
+            throw e;
+        }
     }
 
-    private void createReceiver(final Socket sock) {
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                while (sock != null && !sock.isClosed()) {
-                    try {
-                        receive(sock);
-                    } catch (IOException e) {
-                        break;
-                    }
-                }
+    private void write(TCPConnection connection) throws IOException {
+        ByteBuffer buffer;
+        while ((buffer = connection.mWriteQueue.peek()) != null) {
+            if (connection.mChannel.write(buffer) > 0) {
+                connection.mLastActiveNanos = System.nanoTime();
+            }
+            if (buffer.hasRemaining()) {
+                // socket buffer is full, wait for the next OP_WRITE.
+                return;
             }
-        }).start();
+            connection.mWriteQueue.poll();
+            connection.mQueuedBytes.addAndGet(-buffer.capacity());
+        }
+        connection.mKey.interestOps(SelectionKey.OP_READ);
     }
 
-    public void closeTCPSocket(Socket socket) {
-        if (socket != null && mTCPSockets != null) {
-            ArrayList<Socket> list = mTCPSockets.get(socket.getInetAddress().getHostAddress());
-            list.remove(socket);
+    private void addConnection(TCPConnection connection) {
+        List<TCPConnection> list = mConnections.get(connection.mAddress);
+        if (list == null) {
+            list = new CopyOnWriteArrayList<TCPConnection>();
+            List<TCPConnection> l = mConnections
+                    .putIfAbsent(connection.mAddress, list);
+            if (l != null) {
+                list = l;
+            }
+        }
+        list.add(connection);
+    }
 
+    public void closeConnection(TCPConnection connection) {
+        if (connection == null) {
+            return;
+        }
+        List<TCPConnection> list = mConnections.get(connection.mAddress);
+        if (list != null) {
+            list.remove(connection);
+        }
+        connection.close();
+    }
+
+    /**
+     * A TCP connection to (or from) another node.
+     */
+    public static class TCPConnection {
+        private final String mAddress;
+        private final SocketChannel mChannel;
+        private final Queue<ByteBuffer> mWriteQueue = new ConcurrentLinkedQueue<ByteBuffer>();
+        private final AtomicInteger mQueuedBytes = new AtomicInteger();
+        private final EchoFrameDecoder mDecoder = new EchoFrameDecoder();
+        private volatile SelectionKey mKey;
+        private volatile boolean mConnected;
+        private volatile long mLastActiveNanos = System.nanoTime();
+
+        TCPConnection(String address, SocketChannel channel) {
+            mAddress = address;
+            mChannel = channel;
+        }
+
+        /**
+         * @return false if the frames not yet written would exceed MAX_QUEUED_BYTES.
+         */
+        private boolean enqueue(ByteBuffer buffer) {
+            int size = buffer.remaining();
+            if (mQueuedBytes.addAndGet(size) > MAX_QUEUED_BYTES) {
+                mQueuedBytes.addAndGet(-size);
+                return false;
+            }
+            mWriteQueue.offer(buffer);
+            return true;
+        }
+
+        public String getAddress() {
+            return mAddress;
+        }
+
+        public boolean isOpen() {
+            return mChannel.isOpen();
+        }
+
+        private void close() {
+            SelectionKey key = mKey;
+            if (key != null) {
+                key.cancel();
+            }
+            mWriteQueue.clear();
+            mQueuedBytes.set(0);
             try {
-                socket.close();
+                mChannel.close();
             } catch (IOException e) {
-                // TODO Auto-generated catch block
-                e.printStackTrace();
+                onCatchException(e);
             }
         }
     }
 
     public static class TCPProtocolTask extends EchoProtocol.Task {
         protected EchoTCPProtocol mTCPProtocol;
-        protected Socket mSocket;
+        protected TCPConnection mConnection;
 
-        public TCPProtocolTask(EchoFrame frame, EchoTCPProtocol protocol, Socket socket) {
+        public TCPProtocolTask(EchoFrame frame, EchoTCPProtocol protocol, TCPConnection connection) {
             super(frame);
             mTCPProtocol = protocol;
-            mSocket = socket; // boolean isFrameFromSelfNode () { return
-                              // (mSocket == null) }
+            mConnection = connection; // boolean isFrameFromSelfNode () { return
+                                      // (mConnection == null) }
         }
 
         @Override
         protected void respond(EchoFrame response) {
 
-            if (mSocket == null) {
+            if (mConnection == null) {
                 mTCPProtocol.sendToSelf(response);
             } else {
                 try {
-                    mTCPProtocol.sendTCPFrame(response, mSocket);
+                    mTCPProtocol.sendTCPFrame(response, mConnection);
                 } catch (IOException e) {
-                    e.printStackTrace();
+                    onCatchException(e);
                 }
             }
         }
@@ -221,32 +445,32 @@ public class EchoTCPProtocol extends EchoProtocol {
         protected void informAll(EchoFrame response) {
 
             Set<String> set = mTCPProtocol.getKnownAddressSet();
-            if (mSocket == null) {
+            if (mConnection == null) {
                 set.remove(EchoSocket.SELF_ADDRESS);
                 EchoFrame frame = response.copy();
                 frame.setDstEchoAddress(EchoSocket.SELF_ADDRESS);
                 mTCPProtocol.sendToSelf(frame);
             } else {
-                String adr = mSocket.getInetAddress().getHostAddress();
+                String adr = mConnection.getAddress();
                 set.remove(adr);
 
                 EchoFrame frame = response.copy();
                 frame.setDstEchoAddress(adr);
                 try {
-                    mTCPProtocol.sendTCPFrame(frame, mSocket);
+                    mTCPProtocol.sendTCPFrame(frame, mConnection);
                 } catch (IOException e) {
-                    e.printStackTrace();
+                    onCatchException(e);
                 }
             }
             try {
-                mTCPProtocol.sendToGroup(response.copy(), set);
+                mTCPProtocol.sendToGroup(response, set);
             } catch (IOException e) {
-                e.printStackTrace();
+                onCatchException(e);
             }
         }
 
         protected boolean isFrameFromSelfNode() {
-            return (mSocket == null);
+            return (mConnection == null);
         }
     }
 
@@ -256,40 +480,59 @@ public class EchoTCPProtocol extends EchoProtocol {
     }
 
     protected void sendToOther(EchoFrame frame) throws IOException {
-        InetAddress address = InetAddress.getByName(frame.getDstEchoAddress());
+        String address = frame.getDstEchoAddress();
 
-        if (mTCPSockets.containsKey(frame.getDstEchoAddress())) {
-            ArrayList<Socket> list = mTCPSockets.get(frame.getDstEchoAddress());
-            // 既存のsocketを新しいものから試す．
+        List<TCPConnection> list = mConnections.get(address);
+        if (list != null) {
+            // 既存のconnectionを新しいものから試す．
             for (int i = list.size() - 1; i >= 0; --i) {
-                Socket sock = list.get(i);
+                TCPConnection connection;
                 try {
-                    // System.err.println("Reuse " + sock.getInetAddress() +
-                    // " [" + i + "]");
-                    sendTCPFrame(frame, sock);
+                    connection = list.get(i);
+                } catch (IndexOutOfBoundsException e) {
+                    // removed by the selector thread.
+                    continue;
+                }
+                try {
+                    sendTCPFrame(frame, connection);
                     return;
                 } catch (IOException e) {
-                    closeTCPSocket(sock);
+                    closeConnection(connection);
                     continue;
                 }
             }
         }
 
-        // 既存のsocketが使えない場合
-        Socket sock = new Socket(address, PORT);
-        sock.setSoTimeout(TIMEOUT);
-        // System.err.println("Socket add" + sock.getInetAddress());
-
-        sendTCPFrame(frame, sock);
-        if (mTCPSockets.containsKey(address.getHostAddress())) {
-            mTCPSockets.get(address.getHostAddress()).add(sock);
-        } else {
-            ArrayList<Socket> list = new ArrayList<Socket>();
-            list.add(sock);
-            mTCPSockets.put(address.getHostAddress(), list);
+        // 既存のconnectionが使えない場合
+        Selector selector = mSelector;
+        if (selector == null) {
+            throw new ClosedChannelException();
+        }
+        SocketChannel channel = SocketChannel.open();
+        channel.configureBlocking(false);
+        final TCPConnection connection = new TCPConnection(address, channel);
+        if (!connection.enqueue(ByteBuffer.wrap(frame.getFrameByteArray()))) {
+            channel.close();
+            throw new IOException("frame exceeds " + MAX_QUEUED_BYTES + " bytes");
         }
+        EchoMetrics.onSendFrame(frame, true);
+        final boolean connected = channel.connect(new InetSocketAddress(address, PORT));
+        addConnection(connection);
         // at first,read. 要求電文に対する応答電文は同一のコネクションで送信するものとする。
-        // sConnectedTCPSocketThreads.execute(new TCPSocketThread(sock));
+        mPendingChanges.offer(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    connection.mConnected = connected;
+                    connection.mKey = connection.mChannel.register(mSelector, connected
+                            ? (SelectionKey.OP_READ | SelectionKey.OP_WRITE)
+                            : SelectionKey.OP_CONNECT, connection);
+                } catch (IOException e) {
+                    closeConnection(connection);
+                }
+            }
+        });
+        selector.wakeup();
     }
 
     protected void sendToGroup(EchoFrame frame, Set<String> addressSet) throws IOException {
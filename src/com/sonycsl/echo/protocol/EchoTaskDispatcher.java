@@ -0,0 +1,122 @@
+package com.sonycsl.echo.protocol;
+
+import com.sonycsl.echo.Echo;
+import com.sonycsl.echo.EchoMetrics;
+
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Default {@link TaskDispatcher}.
+ * <br>
+ * Each task is assigned to one of the workers by its ordering key, so tasks
+ * from the same source object (address + class + instance) are performed in
+ * order on one worker while tasks from unrelated objects run in parallel.
+ */
+public class EchoTaskDispatcher implements TaskDispatcher {
+    @SuppressWarnings("unused")
+    private static final String TAG = EchoTaskDispatcher.class.getSimpleName();
+
+    private final Worker[] mWorkers;
+
+    /**
+     * One worker per available processor.
+     */
+    public EchoTaskDispatcher() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public EchoTaskDispatcher(int workerCount) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("workerCount must be positive: " + workerCount);
+        }
+        mWorkers = new Worker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            mWorkers[i] = new Worker(i);
+        }
+    }
+
+    public int getWorkerCount() {
+        return mWorkers.length;
+    }
+
+    @Override
+    public synchronized void start() {
+        for (Worker worker : mWorkers) {
+            worker.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        for (Worker worker : mWorkers) {
+            worker.stop();
+        }
+    }
+
+    @Override
+    public void dispatch(EchoProtocol.Task task) {
+        int key = task.getOrderingKey();
+        key ^= (key >>> 16);
+        mWorkers[(key & 0x7FFFFFFF) % mWorkers.length].mQueue.offer(task);
+    }
+
+    @Override
+    public int getQueueSize() {
+        int size = 0;
+        for (Worker worker : mWorkers) {
+            size += worker.mQueue.size();
+        }
+        return size;
+    }
+
+    private static class Worker implements Runnable {
+        private final int mIndex;
+        private final LinkedBlockingQueue<EchoProtocol.Task> mQueue = new LinkedBlockingQueue<EchoProtocol.Task>();
+        private Thread mThread;
+        private volatile boolean mActive;
+
+        Worker(int index) {
+            mIndex = index;
+        }
+
+        void start() {
+            if (mThread != null) {
+                return;
+            }
+            mActive = true;
+            mThread = new Thread(this, "EchoTaskWorker-" + mIndex);
+            mThread.start();
+        }
+
+        void stop() {
+            if (mThread == null) {
+                return;
+            }
+            mActive = false;
+            mThread.interrupt();
+            try {
+                mThread.join();
+            } catch (Exception e) {
+            }
+            mThread = null;
+        }
+
+        @Override
+        public void run() {
+            while (mActive) {
+                try {
+                    mQueue.take().perform();
+                } catch (InterruptedException e) {
+                    // e.printStackTrace();
+                } catch (RuntimeException e) {
+                    // keep the worker alive, one broken task must not stop the node.
+                    EchoMetrics.TASK_FAILURES.increment();
+                    try {
+                        Echo.getEventListener().onCatchException(e);
+                    } catch (Exception ex) {
+                    }
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.sonycsl.echo.protocol;
 
 import com.sonycsl.echo.Echo;
 import com.sonycsl.echo.EchoFrame;
+import com.sonycsl.echo.EchoFrameReader;
+import com.sonycsl.echo.EchoMetrics;
 import com.sonycsl.echo.EchoSocket;
 import com.sonycsl.echo.EchoUtils;
 
@@ -12,7 +14,14 @@ import java.net.InetAddress;
 import java.net.MulticastSocket;
 import java.net.NetworkInterface;
 import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class EchoUDPProtocol extends EchoProtocol {
     public static int UDP_MAX_PACKET_SIZE = 65507;
@@ -21,6 +30,29 @@ public class EchoUDPProtocol extends EchoProtocol {
 
     private MulticastSocket mMulticastSocket;
     private InetAddress mMulticastAddress;
+    // addresses of the network interface, to drop the frames sent by this node.
+    private volatile Set<InetAddress> mSelfAddresses = Collections.emptySet();
+
+    // peer addresses are resolved once. the cache is bounded for a node
+    // which talks to many transient peers: past the bound, the addresses
+    // are resolved on each send, which parses a literal address only.
+    private static final int MAX_CACHED_ADDRESSES = 1024;
+    private final ConcurrentHashMap<String, InetAddress> mInetAddresses = new ConcurrentHashMap<String, InetAddress>();
+
+    // frames are encoded into a send buffer of the sending thread, so
+    // sending allocates nothing and the threads do not wait for each other.
+    private final ThreadLocal<TxBuffer> mTxBuffers = new ThreadLocal<TxBuffer>() {
+        @Override
+        protected TxBuffer initialValue() {
+            return new TxBuffer();
+        }
+    };
+
+    private static final class TxBuffer {
+        final byte[] mData = new byte[UDP_MAX_PACKET_SIZE];
+        final ByteBuffer mBuffer = ByteBuffer.wrap(mData);
+        final DatagramPacket mPacket = new DatagramPacket(mData, 0);
+    }
 
     public EchoUDPProtocol() {
 
@@ -33,6 +65,7 @@ public class EchoUDPProtocol extends EchoProtocol {
         mMulticastSocket.joinGroup(mMulticastAddress);
         mMulticastSocket.setLoopbackMode(true);
         mMulticastSocket.setSoTimeout(0);
+        updateSelfAddresses();
     }
 
     public void openUDP(NetworkInterface nwif) throws IOException {
@@ -42,6 +75,19 @@ public class EchoUDPProtocol extends EchoProtocol {
         mMulticastSocket.joinGroup(mMulticastAddress);
         mMulticastSocket.setLoopbackMode(true);
         mMulticastSocket.setSoTimeout(0);
+        updateSelfAddresses();
+    }
+
+    private void updateSelfAddresses() throws SocketException {
+        Set<InetAddress> set = new HashSet<InetAddress>();
+        NetworkInterface nwif = mMulticastSocket.getNetworkInterface();
+        if (nwif != null) {
+            Enumeration<InetAddress> enumIpAddr = nwif.getInetAddresses();
+            while (enumIpAddr.hasMoreElements()) {
+                set.add(enumIpAddr.nextElement());
+            }
+        }
+        mSelfAddresses = set;
     }
 
     public void closeUDP() {
@@ -66,14 +112,21 @@ public class EchoUDPProtocol extends EchoProtocol {
             return;
         }
 
-        if (mMulticastSocket != null) {
-            byte[] data = frame.getFrameByteArray();
-
-            InetAddress address = InetAddress.getByName(frame.getDstEchoAddress());
-            DatagramPacket packet = new DatagramPacket(data, data.length,
-                    address, PORT);
-
-            mMulticastSocket.send(packet);
+        MulticastSocket socket = mMulticastSocket;
+        if (socket != null) {
+            InetAddress address = getInetAddress(frame.getDstEchoAddress());
+            TxBuffer tx = mTxBuffers.get();
+            tx.mBuffer.clear();
+            try {
+                frame.encodeTo(tx.mBuffer);
+            } catch (BufferOverflowException e) {
+                throw new IOException("frame exceeds UDP_MAX_PACKET_SIZE: " + frame.getFrameSize());
+            }
+            tx.mPacket.setData(tx.mData, 0, tx.mBuffer.position());
+            tx.mPacket.setAddress(address);
+            tx.mPacket.setPort(PORT);
+            socket.send(tx.mPacket);
+            EchoMetrics.onSendFrame(frame, false);
             if (frame.getDstEchoAddress().equals(EchoSocket.MULTICAST_ADDRESS)) {
                 EchoFrame f = frame.copy();
                 f.setDstEchoAddress(EchoSocket.SELF_ADDRESS);
@@ -82,6 +135,19 @@ public class EchoUDPProtocol extends EchoProtocol {
         }
     }
 
+    private InetAddress getInetAddress(String echoAddress) throws UnknownHostException {
+        InetAddress address = mInetAddresses.get(echoAddress);
+        if (address == null) {
+            address = InetAddress.getByName(echoAddress);
+            // the addresses cached first are kept, clearing them all would
+            // resolve the busy peers again.
+            if (mInetAddresses.size() < MAX_CACHED_ADDRESSES) {
+                mInetAddresses.put(echoAddress, address);
+            }
+        }
+        return address;
+    }
+
     public void sendToSelf(EchoFrame frame) {
         UDPProtocolTask task = new UDPProtocolTask(frame, this);
         EchoSocket.enqueueTask(task);
@@ -91,63 +157,37 @@ public class EchoUDPProtocol extends EchoProtocol {
         return (mMulticastSocket != null && !mMulticastSocket.isClosed());
     }
 
-    private DatagramPacket rxPacket = new DatagramPacket(
-            new byte[UDP_MAX_PACKET_SIZE], UDP_MAX_PACKET_SIZE);
+    private final byte[] rxData = new byte[UDP_MAX_PACKET_SIZE];
+    private final ByteBuffer rxBuffer = ByteBuffer.wrap(rxData);
+    private final DatagramPacket rxPacket = new DatagramPacket(rxData, UDP_MAX_PACKET_SIZE);
+    private final EchoFrameReader rxReader = new EchoFrameReader();
 
     public void receive() {
         // closed?
-        if (mMulticastSocket == null) {
+        MulticastSocket socket = mMulticastSocket;
+        if (socket == null) {
             // System.err.println("sMulticastSocket has been closed.");
-            // try {
-            // openUDP();
-            // } catch (IOException e) {
-            // e.printStackTrace();
-            // }
             return;
         }
         try {
-            rxPacket.setLength(rxPacket.getData().length);
-            mMulticastSocket.receive(rxPacket);
+            rxPacket.setLength(rxData.length);
+            socket.receive(rxPacket);
         } catch (IOException e) {
             // e.printStackTrace();
-            // try {
-            // openUDP();
-            // } catch (IOException e1) {
-            // e1.printStackTrace();
-            // }
-            return;
-        }
-        if (mMulticastSocket == null) {
             return;
         }
-        Enumeration<InetAddress> enumIpAddr;
-        try {
-            enumIpAddr = mMulticastSocket.getNetworkInterface().getInetAddresses();
-        } catch (SocketException e) {
-            // e.printStackTrace();
-            // try {
-            // openUDP();
-            // } catch (IOException e1) {
-            // e1.printStackTrace();
-            // }
+        if (mSelfAddresses.contains(rxPacket.getAddress())) {
+            // from self node
             return;
         }
-        while (enumIpAddr.hasMoreElements()) {
-            InetAddress inetAddress = enumIpAddr.nextElement();
-            if (inetAddress.equals(rxPacket.getAddress())) {
-                // from self node
-                return;
-            }
-        }
-        byte[] data = new byte[rxPacket.getLength()];
-        System.arraycopy(rxPacket.getData(), 0, data, 0, rxPacket.getLength());
-
-        if (data.length < EchoFrame.MIN_FRAME_SIZE) {
+        // check the frame in the receive buffer before copying it.
+        if (!rxReader.wrap(rxBuffer, 0, rxPacket.getLength())) {
+            EchoMetrics.UDP_DECODE_FAILURES.increment();
             return;
         }
-        InetAddress address = rxPacket.getAddress();
-        String srcEchoAddress = address.getHostAddress();
-        EchoFrame frame = new EchoFrame(srcEchoAddress, data);
+        String srcEchoAddress = rxPacket.getAddress().getHostAddress();
+        EchoFrame frame = rxReader.toEchoFrame(srcEchoAddress);
+        EchoMetrics.onReceiveFrame(frame, false);
 
         UDPProtocolTask task = new UDPProtocolTask(frame, this);
         EchoSocket.enqueueTask(task);
@@ -0,0 +1,218 @@
+package com.sonycsl.echo.protocol;
+
+import java.util.Arrays;
+
+import com.sonycsl.echo.EchoProperty;
+import com.sonycsl.echo.eoj.EchoObject;
+import com.sonycsl.echo.eoj.profile.NodeProfile;
+import com.sonycsl.echo.node.EchoNode;
+
+/**
+ * Decodes the instance lists (0xD5, 0xD6), the number of instances (0xD3)
+ * and the class list (0xD7) in a frame from a node profile.
+ * <br>
+ * One property lists 84 instances at most (PDC is one byte). A node with
+ * more instances sends several instance list notifications, each of which
+ * is decoded on its own, and its self-node instance list S has the total
+ * number in the 1st byte but lists only 84; {@link #isTruncated()} tells
+ * that some instances were not listed. Likewise the class list lists 8
+ * classes at most; {@link #isClassListPartial()} tells that the number of
+ * classes (0xD4, or the 1st byte of 0xD7) is larger.
+ * <br>
+ * The arrays are allocated once per thread and reused, use {@link #get()}.
+ */
+public final class InstanceListDecoder {
+
+	public static final int MAX_INSTANCES_PER_PROPERTY = 84;
+	public static final int MAX_CLASSES_PER_LIST = 8;
+
+	private static final ThreadLocal<InstanceListDecoder> sDecoders = new ThreadLocal<InstanceListDecoder>() {
+		@Override
+		protected InstanceListDecoder initialValue() {
+			return new InstanceListDecoder();
+		}
+	};
+
+	// a frame has a 0xD5 and a 0xD6 at most, normally.
+	private short[] mEchoClassCodes = new short[MAX_INSTANCES_PER_PROPERTY * 2];
+	private byte[] mInstanceCodes = new byte[MAX_INSTANCES_PER_PROPERTY * 2];
+	private EchoObject[] mObjects = new EchoObject[MAX_INSTANCES_PER_PROPERTY * 2];
+	private boolean[] mNew = new boolean[MAX_INSTANCES_PER_PROPERTY * 2];
+	private int mCount;
+	private boolean mTruncated;
+	private int mInstanceCount;
+
+	private final short[] mClassList = new short[MAX_CLASSES_PER_LIST];
+	private int mClassCount;
+	// the number of classes other than the node profile, -1 if unknown.
+	private int mDeclaredClassCount;
+
+	/**
+	 * @return the decoder of the thread, reset.
+	 */
+	public static InstanceListDecoder get() {
+		InstanceListDecoder decoder = sDecoders.get();
+		decoder.reset();
+		return decoder;
+	}
+
+	public void reset() {
+		// the objects are not kept alive by a decoder.
+		Arrays.fill(mObjects, 0, mCount, null);
+		mCount = 0;
+		mTruncated = false;
+		mInstanceCount = -1;
+		mClassCount = -1;
+		mDeclaredClassCount = -1;
+	}
+
+	/**
+	 * Decodes the property if it is one of the lists.
+	 *
+	 * @return false if the property is not a list or is malformed.
+	 */
+	public boolean decode(EchoProperty p) {
+		switch(p.epc) {
+		case NodeProfile.EPC_INSTANCE_LIST_NOTIFICATION:
+		case NodeProfile.EPC_SELF_NODE_INSTANCE_LIST_S:
+			return decodeInstanceList(p);
+		case NodeProfile.EPC_NUMBER_OF_SELF_NODE_INSTANCES:
+			if(p.pdc != 3 || p.edt == null || p.edt.length != 3) return false;
+			mInstanceCount = ((p.edt[0] & 0xFF) << 16) | ((p.edt[1] & 0xFF) << 8) | (p.edt[2] & 0xFF);
+			return true;
+		case NodeProfile.EPC_NUMBER_OF_SELF_NODE_CLASSES:
+			if(p.pdc != 2 || p.edt == null || p.edt.length != 2) return false;
+			// includes the node profile.
+			int classes = ((p.edt[0] & 0xFF) << 8) | (p.edt[1] & 0xFF);
+			mDeclaredClassCount = Math.max(mDeclaredClassCount, classes - 1);
+			return true;
+		case NodeProfile.EPC_SELF_NODE_CLASS_LIST:
+			return decodeClassList(p);
+		default:
+			return false;
+		}
+	}
+
+	private boolean decodeInstanceList(EchoProperty p) {
+		if(p.pdc == 0 || p.edt == null || p.edt.length == 0) return false;
+		int declared = p.edt[0] & 0xFF;
+		int listed = Math.min(declared, (p.edt.length - 1) / 3);
+		if(listed < declared) {
+			mTruncated = true;
+		}
+		if(p.epc == NodeProfile.EPC_SELF_NODE_INSTANCE_LIST_S) {
+			// the 1st byte is the total number of instances.
+			mInstanceCount = Math.max(mInstanceCount, declared);
+		}
+		ensureCapacity(mCount + listed);
+		byte[] edt = p.edt;
+		for(int d = 0, i = 1; d < listed; d++, i += 3) {
+			mEchoClassCodes[mCount] = (short)(((edt[i] & 0xFF) << 8) | (edt[i + 1] & 0xFF));
+			mInstanceCodes[mCount] = edt[i + 2];
+			mNew[mCount] = false;
+			mCount++;
+		}
+		return true;
+	}
+
+	private boolean decodeClassList(EchoProperty p) {
+		if(p.pdc == 0 || p.edt == null || p.edt.length == 0) return false;
+		// the 1st byte is the number of classes, which may be more than listed.
+		int declared = p.edt[0] & 0xFF;
+		mDeclaredClassCount = Math.max(mDeclaredClassCount, declared);
+		int listed = Math.min(declared, (p.edt.length - 1) / 2);
+		if(mClassCount < 0) mClassCount = 0;
+		for(int d = 0, i = 1; d < listed && mClassCount < mClassList.length; d++, i += 2) {
+			mClassList[mClassCount++] = (short)(((p.edt[i] & 0xFF) << 8) | (p.edt[i + 1] & 0xFF));
+		}
+		return true;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if(capacity <= mEchoClassCodes.length) return;
+		int size = Math.max(capacity, mEchoClassCodes.length * 2);
+		mEchoClassCodes = Arrays.copyOf(mEchoClassCodes, size);
+		mInstanceCodes = Arrays.copyOf(mInstanceCodes, size);
+		mObjects = Arrays.copyOf(mObjects, size);
+		mNew = Arrays.copyOf(mNew, size);
+	}
+
+	/**
+	 * Gets or creates the proxies of the listed instances in the node.
+	 */
+	public void resolve(EchoNode node) {
+		for(int i = 0; i < mCount; i++) {
+			EchoObject eoj = node.addOtherDeviceIfAbsent(mEchoClassCodes[i], mInstanceCodes[i]);
+			if(eoj == null) {
+				mNew[i] = false;
+				mObjects[i] = node.getInstance(mEchoClassCodes[i], mInstanceCodes[i]);
+			} else {
+				mNew[i] = true;
+				mObjects[i] = eoj;
+			}
+		}
+	}
+
+	/**
+	 * @return the number of listed instances.
+	 */
+	public int getCount() {
+		return mCount;
+	}
+
+	public short getEchoClassCode(int index) {
+		return mEchoClassCodes[index];
+	}
+
+	public byte getInstanceCode(int index) {
+		return mInstanceCodes[index];
+	}
+
+	/**
+	 * @return the proxy after resolve(), or null.
+	 */
+	public EchoObject getObject(int index) {
+		return mObjects[index];
+	}
+
+	/**
+	 * @return true if resolve() created the proxy.
+	 */
+	public boolean isNew(int index) {
+		return mNew[index];
+	}
+
+	/**
+	 * @return true if a list had fewer instances than its 1st byte.
+	 */
+	public boolean isTruncated() {
+		return mTruncated;
+	}
+
+	/**
+	 * @return the total number of instances of the node (0xD3, or the 1st
+	 * byte of 0xD6), or -1 if the frame does not tell it.
+	 */
+	public int getInstanceCount() {
+		return mInstanceCount;
+	}
+
+	/**
+	 * @return the number of classes in the class list, or -1 if the frame
+	 * has no class list.
+	 */
+	public int getClassCount() {
+		return mClassCount;
+	}
+
+	/**
+	 * @return true if the node has more classes than the class list has.
+	 */
+	public boolean isClassListPartial() {
+		return mClassCount >= 0 && mDeclaredClassCount > mClassCount;
+	}
+
+	public short getListedEchoClassCode(int index) {
+		return mClassList[index];
+	}
+}
@@ -0,0 +1,22 @@
+package com.sonycsl.echo.protocol;
+
+/**
+ * Executes received (and self-addressed) tasks.
+ * <br>
+ * An implementation may run tasks on several threads, but it must perform
+ * the tasks that share an ordering key ({@link EchoProtocol.Task#getOrderingKey()})
+ * in the order they were dispatched.
+ */
+public interface TaskDispatcher {
+
+    public void start();
+
+    public void stop();
+
+    public void dispatch(EchoProtocol.Task task);
+
+    /**
+     * @return the number of tasks waiting to be performed.
+     */
+    public int getQueueSize();
+}
@@ -0,0 +1,202 @@
+package com.sonycsl.echo;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class EchoFrameDecoderTest {
+
+    private static final String ADDRESS = "192.168.0.10";
+
+    private static byte[] frame(short tid, byte[]... edts) {
+        EchoFrame frame = new EchoFrame((short) 0x0130, (byte) 0x01, (short) 0x05FF, (byte) 0x01,
+                EchoSocket.SELF_ADDRESS, EchoFrame.ESV_GET_RES);
+        frame.setTID(tid);
+        for (int i = 0; i < edts.length; i++) {
+            frame.addProperty(new EchoProperty((byte) (0x80 + i), edts[i]));
+        }
+        return frame.getFrameByteArray();
+    }
+
+    private static byte[] concat(byte[]... arrays) {
+        int length = 0;
+        for (byte[] a : arrays) {
+            length += a.length;
+        }
+        byte[] ret = new byte[length];
+        int offset = 0;
+        for (byte[] a : arrays) {
+            System.arraycopy(a, 0, ret, offset, a.length);
+            offset += a.length;
+        }
+        return ret;
+    }
+
+    private static void assertFrame(byte[] expected, EchoFrame frame) {
+        assertNotNull(frame);
+        assertEquals(ADDRESS, frame.getSrcEchoAddress());
+        assertArrayEquals(expected, frame.getFrameByteArray());
+    }
+
+    @Test
+    public void decodesFrameInOneBuffer() throws IOException {
+        byte[] data = frame((short) 1, new byte[] { 0x30 }, new byte[] { 0x01, 0x02 });
+        ByteBuffer in = ByteBuffer.wrap(data);
+
+        assertFrame(data, new EchoFrameDecoder().decode(ADDRESS, in));
+        assertEquals(0, in.remaining());
+    }
+
+    @Test
+    public void decodesFrameWithoutProperties() throws IOException {
+        byte[] data = frame((short) 1);
+
+        assertEquals(EchoFrame.MIN_FRAME_SIZE, data.length);
+        assertFrame(data, new EchoFrameDecoder().decode(ADDRESS, ByteBuffer.wrap(data)));
+    }
+
+    @Test
+    public void decodesPropertyWithoutEdt() throws IOException {
+        byte[] data = frame((short) 1, new byte[0], new byte[] { 0x30 });
+
+        EchoFrame frame = new EchoFrameDecoder().decode(ADDRESS, ByteBuffer.wrap(data));
+        assertFrame(data, frame);
+        assertEquals(2, frame.getPropertyCount());
+        assertEquals(0, frame.getPropertyList().get(0).pdc);
+    }
+
+    @Test
+    public void decodesSplitHeader() throws IOException {
+        byte[] data = frame((short) 1, new byte[] { 0x30 });
+        EchoFrameDecoder decoder = new EchoFrameDecoder();
+
+        // byte by byte: every header and property header is split.
+        for (int i = 0; i < data.length - 1; i++) {
+            assertNull(decoder.decode(ADDRESS, ByteBuffer.wrap(data, i, 1)));
+        }
+        assertFrame(data, decoder.decode(ADDRESS, ByteBuffer.wrap(data, data.length - 1, 1)));
+    }
+
+    @Test
+    public void decodesSplitEdt() throws IOException {
+        // PDC is one byte, so 255 bytes at most.
+        byte[] edt = new byte[255];
+        for (int i = 0; i < edt.length; i++) {
+            edt[i] = (byte) i;
+        }
+        byte[] data = frame((short) 1, edt, new byte[] { 0x30 });
+        EchoFrameDecoder decoder = new EchoFrameDecoder();
+        int split = EchoFrame.MIN_FRAME_SIZE + 2 + 100;
+
+        assertNull(decoder.decode(ADDRESS, ByteBuffer.wrap(data, 0, split)));
+        assertFrame(data, decoder.decode(ADDRESS, ByteBuffer.wrap(data, split, data.length - split)));
+    }
+
+    @Test
+    public void decodesFramesInOneBuffer() throws IOException {
+        byte[] first = frame((short) 1, new byte[] { 0x30 });
+        byte[] second = frame((short) 2, new byte[] { 0x31 }, new byte[] { 0x01, 0x02, 0x03 });
+        byte[] third = frame((short) 3, new byte[] { 0x32 });
+        byte[] data = concat(first, second, Arrays.copyOf(third, 5));
+        EchoFrameDecoder decoder = new EchoFrameDecoder();
+        ByteBuffer in = ByteBuffer.wrap(data);
+
+        // exactly the bytes of one frame are consumed per frame.
+        assertFrame(first, decoder.decode(ADDRESS, in));
+        assertEquals(data.length - first.length, in.remaining());
+        assertFrame(second, decoder.decode(ADDRESS, in));
+        assertNull(decoder.decode(ADDRESS, in));
+        assertEquals(0, in.remaining());
+
+        // the partial frame is kept until the rest arrives.
+        assertFrame(third, decoder.decode(ADDRESS,
+                ByteBuffer.wrap(third, 5, third.length - 5)));
+    }
+
+    @Test
+    public void rejectsInvalidHeader() throws IOException {
+        byte[] data = frame((short) 1, new byte[] { 0x30 });
+        byte[] broken = data.clone();
+        broken[0] = 0x00;
+        EchoFrameDecoder decoder = new EchoFrameDecoder();
+
+        try {
+            decoder.decode(ADDRESS, ByteBuffer.wrap(broken));
+            fail("StreamCorruptedException expected");
+        } catch (StreamCorruptedException e) {
+            // expected
+        }
+
+        // the decoder is reset and decodes the next frame.
+        assertFrame(data, decoder.decode(ADDRESS, ByteBuffer.wrap(data)));
+    }
+
+    @Test
+    public void rejectsInvalidEhd2() throws IOException {
+        byte[] broken = frame((short) 1, new byte[] { 0x30 });
+        broken[1] = 0x02;
+
+        try {
+            new EchoFrameDecoder().decode(ADDRESS, ByteBuffer.wrap(broken));
+            fail("StreamCorruptedException expected");
+        } catch (StreamCorruptedException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void waitsForPropertiesBeyondBuffer() throws IOException {
+        // OPC says 2 properties, but only one follows.
+        byte[] data = frame((short) 1, new byte[] { 0x30 });
+        data[11] = 2;
+
+        assertNull(new EchoFrameDecoder().decode(ADDRESS, ByteBuffer.wrap(data)));
+    }
+
+    @Test
+    public void readsFrameFromStream() throws IOException {
+        byte[] first = frame((short) 1, new byte[] { 0x30 });
+        byte[] second = frame((short) 2, new byte[] { 0x31, 0x32 });
+        ByteArrayInputStream in = new ByteArrayInputStream(concat(first, second));
+        EchoFrameDecoder decoder = new EchoFrameDecoder();
+
+        assertFrame(first, decoder.readFrame(ADDRESS, in));
+        assertFrame(second, decoder.readFrame(ADDRESS, in));
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void readFrameReturnsNullForForeignStream() throws IOException {
+        byte[] data = frame((short) 1, new byte[] { 0x30 });
+        data[0] = 0x00;
+        ByteArrayInputStream in = new ByteArrayInputStream(data);
+
+        assertNull(new EchoFrameDecoder().readFrame(ADDRESS, in));
+        // only EHD is consumed.
+        assertEquals(data.length - 2, in.available());
+    }
+
+    @Test
+    public void readFrameThrowsAtEndOfStream() throws IOException {
+        byte[] data = frame((short) 1, new byte[] { 0x30, 0x31 });
+        ByteArrayInputStream in = new ByteArrayInputStream(Arrays.copyOf(data, data.length - 1));
+
+        try {
+            new EchoFrameDecoder().readFrame(ADDRESS, in);
+            fail("EOFException expected");
+        } catch (EOFException e) {
+            // expected
+        }
+    }
+}
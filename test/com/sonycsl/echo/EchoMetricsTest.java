@@ -0,0 +1,148 @@
+package com.sonycsl.echo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class EchoMetricsTest {
+
+    // 8 sub-buckets per power of 2.
+    private static final double MAX_ERROR = 0.125;
+
+    private static List<Long> edges() {
+        List<Long> values = new ArrayList<Long>();
+        for (long v = 0; v <= 17; v++) {
+            values.add(v);
+        }
+        for (int shift = 4; shift < 63; shift++) {
+            long power = 1L << shift;
+            values.add(power - 1);
+            values.add(power);
+            values.add(power + 1);
+        }
+        values.add(Long.MAX_VALUE - 1);
+        values.add(Long.MAX_VALUE);
+        return values;
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        assertTrue("expected " + expected + " was " + actual,
+                Math.abs((double) actual - expected) <= expected * MAX_ERROR);
+    }
+
+    @Test
+    public void smallValuesHaveBucketEach() {
+        for (long v = 0; v < 16; v++) {
+            assertEquals(v, EchoMetrics.Histogram.index(v));
+            assertEquals(v, EchoMetrics.Histogram.upperBound((int) v));
+        }
+    }
+
+    @Test
+    public void bucketHoldsValue() {
+        for (long v : edges()) {
+            int index = EchoMetrics.Histogram.index(v);
+            assertTrue("index of " + v, index >= 0 && index < EchoMetrics.Histogram.BUCKETS);
+            long upper = EchoMetrics.Histogram.upperBound(index);
+            assertTrue(v + " above " + upper, v <= upper);
+            if (index > 0) {
+                long lower = EchoMetrics.Histogram.upperBound(index - 1) + 1;
+                assertTrue(v + " below " + lower, lower <= v);
+            }
+            assertWithinError(v, upper);
+        }
+    }
+
+    @Test
+    public void bucketsAreContiguous() {
+        int last = EchoMetrics.Histogram.index(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, EchoMetrics.Histogram.upperBound(last));
+        for (int i = 1; i <= last; i++) {
+            long lower = EchoMetrics.Histogram.upperBound(i - 1) + 1;
+            assertEquals(i, EchoMetrics.Histogram.index(lower));
+            assertEquals(i, EchoMetrics.Histogram.index(EchoMetrics.Histogram.upperBound(i)));
+        }
+    }
+
+    @Test
+    public void percentilesAreWithinError() {
+        EchoMetrics.Histogram histogram = new EchoMetrics.Histogram();
+        for (long v = 1; v <= 1000; v++) {
+            histogram.record(v);
+        }
+        EchoMetrics.HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500, snapshot.getMean());
+        assertWithinError(500, snapshot.getP50());
+        assertWithinError(900, snapshot.getP90());
+        assertWithinError(990, snapshot.getP99());
+        assertEquals(1000, snapshot.getMax());
+    }
+
+    @Test
+    public void percentilesOfRandomValuesAreWithinError() {
+        Random random = new Random(1);
+        long[] values = new long[10000];
+        EchoMetrics.Histogram histogram = new EchoMetrics.Histogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong() >>> random.nextInt(63);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        EchoMetrics.HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertWithinError(values[values.length / 2 - 1], snapshot.getP50());
+        assertWithinError(values[values.length * 9 / 10 - 1], snapshot.getP90());
+        assertWithinError(values[values.length * 99 / 100 - 1], snapshot.getP99());
+        assertEquals(values[values.length - 1], snapshot.getMax());
+    }
+
+    @Test
+    public void percentilesAreCappedByMax() {
+        EchoMetrics.Histogram histogram = new EchoMetrics.Histogram();
+        histogram.record(17);
+        EchoMetrics.HistogramSnapshot snapshot = histogram.snapshot();
+
+        // the bucket of 17 ends at 17, of 100 at 103.
+        assertEquals(17, snapshot.getP99());
+        histogram.record(100);
+        assertEquals(100, histogram.snapshot().getP99());
+    }
+
+    @Test
+    public void recordsEdgeValues() {
+        EchoMetrics.Histogram histogram = new EchoMetrics.Histogram();
+        histogram.record(Long.MAX_VALUE);
+        EchoMetrics.HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(1, snapshot.getCount());
+        assertEquals(Long.MAX_VALUE, snapshot.getP50());
+        assertEquals(Long.MAX_VALUE, snapshot.getMax());
+
+        // negative values are recorded as 0.
+        histogram = new EchoMetrics.Histogram();
+        histogram.record(-5);
+        snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.getCount());
+        assertEquals(0, snapshot.getP99());
+        assertEquals(0, snapshot.getMax());
+    }
+
+    @Test
+    public void emptySnapshotIsZero() {
+        EchoMetrics.HistogramSnapshot snapshot = new EchoMetrics.Histogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMean());
+        assertEquals(0, snapshot.getP50());
+        assertEquals(0, snapshot.getP99());
+        assertEquals(0, snapshot.getMax());
+    }
+}
@@ -0,0 +1,163 @@
+package com.sonycsl.echo.eoj;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import com.sonycsl.echo.EchoUtils;
+
+public class EPCSetTest {
+
+	// count EPCs from 0x80, every other one, in ascending order.
+	private static byte[] epcs(int count) {
+		byte[] epcs = new byte[count];
+		for(int i = 0; i < count; i++) {
+			epcs[i] = (byte)(0x80 + i * 2);
+		}
+		return epcs;
+	}
+
+	private static byte[] sorted(byte[] epcs) {
+		int[] values = new int[epcs.length];
+		for(int i = 0; i < epcs.length; i++) {
+			values[i] = epcs[i] & 0xFF;
+		}
+		Arrays.sort(values);
+		byte[] ret = new byte[values.length];
+		for(int i = 0; i < values.length; i++) {
+			ret[i] = (byte)values[i];
+		}
+		return ret;
+	}
+
+	@Test
+	public void encodesListBelow16() {
+		byte[] epcs = epcs(15);
+		byte[] map = EPCSet.of(epcs).toPropertyMap();
+
+		assertEquals(16, map.length);
+		assertEquals(15, map[0]);
+		assertArrayEquals(EchoUtils.propertiesToPropertyMap(epcs), map);
+	}
+
+	@Test
+	public void encodesBitmapFrom16() {
+		byte[] epcs = epcs(16);
+		byte[] map = EPCSet.of(epcs).toPropertyMap();
+
+		assertEquals(17, map.length);
+		assertEquals(16, map[0]);
+		assertArrayEquals(EchoUtils.propertiesToPropertyMap(epcs), map);
+	}
+
+	@Test
+	public void encodesAllEpcsFrom0x80() {
+		byte[] epcs = new byte[0x80];
+		for(int i = 0; i < epcs.length; i++) {
+			epcs[i] = (byte)(0x80 + i);
+		}
+		byte[] map = EPCSet.of(epcs).toPropertyMap();
+
+		assertEquals((byte)0x80, map[0]);
+		for(int i = 1; i < map.length; i++) {
+			assertEquals((byte)0xFF, map[i]);
+		}
+		assertArrayEquals(EchoUtils.propertiesToPropertyMap(epcs), map);
+	}
+
+	@Test
+	public void bitmapLeavesOutEpcsBelow0x80() {
+		byte[] epcs = Arrays.copyOf(epcs(16), 17);
+		epcs[16] = 0x10;
+		EPCSet set = EPCSet.of(epcs);
+
+		assertTrue(set.contains((byte)0x10));
+		assertArrayEquals(EchoUtils.propertiesToPropertyMap(epcs), set.toPropertyMap());
+		assertFalse(EPCSet.fromPropertyMap(set.toPropertyMap()).contains((byte)0x10));
+	}
+
+	@Test
+	public void decodesMapsOfEchoUtils() {
+		for(int count : new int[] {0, 1, 15, 16, 40, 64}) {
+			byte[] epcs = epcs(count);
+			EPCSet set = EPCSet.fromPropertyMap(EchoUtils.propertiesToPropertyMap(epcs));
+
+			assertEquals(EPCSet.of(epcs), set);
+			assertEquals(count, set.size());
+			for(byte epc : epcs) {
+				assertTrue(set.contains(epc));
+			}
+		}
+	}
+
+	@Test
+	public void roundTripsThroughEchoUtils() {
+		for(int count : new int[] {0, 1, 15, 16, 40, 64}) {
+			byte[] epcs = epcs(count);
+			EPCSet set = EPCSet.of(epcs);
+			byte[] properties = EchoUtils.propertyMapToProperties(set.toPropertyMap());
+
+			// the bitmap form is decoded by the low nibble first.
+			assertArrayEquals(epcs, sorted(properties));
+			assertArrayEquals(epcs, set.toArray());
+			assertEquals(set, EPCSet.fromPropertyMap(set.toPropertyMap()));
+		}
+	}
+
+	@Test
+	public void rejectsMalformedMaps() {
+		assertNull(EPCSet.fromPropertyMap(null));
+		assertNull(EPCSet.fromPropertyMap(new byte[0]));
+		// 3 EPCs listed, 2 present.
+		assertNull(EPCSet.fromPropertyMap(new byte[] {3, (byte)0x80, (byte)0x81}));
+		// the bitmap of 16 EPCs or more is 16 bytes.
+		assertNull(EPCSet.fromPropertyMap(Arrays.copyOf(new byte[] {16}, 16)));
+	}
+
+	@Test
+	public void toPropertyMapReturnsCopy() {
+		EPCSet set = EPCSet.of(epcs(3));
+		byte[] map = set.toPropertyMap();
+		map[1] = 0x00;
+
+		assertArrayEquals(EchoUtils.propertiesToPropertyMap(epcs(3)), set.toPropertyMap());
+	}
+
+	@Test
+	public void withAndWithoutReturnNewSets() {
+		EPCSet set = EPCSet.of((byte)0x80, (byte)0x81);
+
+		assertSame(set, set.with((byte)0x80));
+		assertSame(set, set.without((byte)0x82));
+
+		EPCSet with = set.with((byte)0x82);
+		assertEquals(3, with.size());
+		assertEquals(2, set.size());
+		assertFalse(set.contains((byte)0x82));
+
+		EPCSet without = with.without((byte)0x82);
+		assertEquals(set, without);
+		assertEquals(set.hashCode(), without.hashCode());
+		assertTrue(EPCSet.EMPTY.isEmpty());
+	}
+
+	@Test
+	public void internSharesEqualSets() {
+		// not seen by the other tests, so this is interned first here.
+		EPCSet first = EPCSet.of((byte)0xF0, (byte)0xF1, (byte)0xF7);
+		EPCSet second = EPCSet.fromPropertyMap(first.toPropertyMap());
+
+		assertNotSame(first, second);
+		assertSame(first, EPCSet.intern(first));
+		assertSame(first, EPCSet.intern(second));
+		assertSame(first, EPCSet.intern(EPCSet.EMPTY.with((byte)0xF0).with((byte)0xF1).with((byte)0xF7)));
+	}
+}